@@ -44,6 +44,36 @@ LOCK TABLES `attribute` WRITE;
 /*!40000 ALTER TABLE `attribute` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `attributestatistics`
+--
+
+DROP TABLE IF EXISTS `attributestatistics`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!40101 SET character_set_client = utf8 */;
+CREATE TABLE `attributestatistics` (
+  `ATT_OID` bigint(20) NOT NULL,
+  `PART_NUM` int(11) NOT NULL,
+  `NULL_CNT` bigint(20) NOT NULL,
+  `DISTINCT_CNT` bigint(20) NOT NULL,
+  `MIN_VALUE` varchar(255) DEFAULT NULL,
+  `MAX_VALUE` varchar(255) DEFAULT NULL,
+  `SKETCH` text NOT NULL,
+  `HISTOGRAM` text,
+  PRIMARY KEY (`ATT_OID`,`PART_NUM`),
+  CONSTRAINT `ATTRIBUTESTATISTICS_ATT_OID_fkey` FOREIGN KEY (`ATT_OID`) REFERENCES `attribute` (`OID`) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `attributestatistics`
+--
+
+LOCK TABLES `attributestatistics` WRITE;
+/*!40000 ALTER TABLE `attributestatistics` DISABLE KEYS */;
+/*!40000 ALTER TABLE `attributestatistics` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `connection`
 --
@@ -234,6 +264,31 @@ LOCK TABLES `table` WRITE;
 /*!40000 ALTER TABLE `table` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `tablestatistics`
+--
+
+DROP TABLE IF EXISTS `tablestatistics`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!40101 SET character_set_client = utf8 */;
+CREATE TABLE `tablestatistics` (
+  `TABLE_OID` bigint(20) NOT NULL,
+  `PART_NUM` int(11) NOT NULL,
+  `ROW_CNT` bigint(20) NOT NULL,
+  PRIMARY KEY (`TABLE_OID`,`PART_NUM`),
+  CONSTRAINT `TABLESTATISTICS_TABLE_OID_fkey` FOREIGN KEY (`TABLE_OID`) REFERENCES `table` (`OID`) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `tablestatistics`
+--
+
+LOCK TABLES `tablestatistics` WRITE;
+/*!40000 ALTER TABLE `tablestatistics` DISABLE KEYS */;
+/*!40000 ALTER TABLE `tablestatistics` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `tabletoconnection`
 --
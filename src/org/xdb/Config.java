@@ -10,6 +10,7 @@ import java.util.logging.Logger;
 
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBLog;
+import org.xdb.tracker.EnumComputeNodeAllocation;
 import org.xdb.tracker.scheduler.EnumResourceScheduler;
 import org.xdb.utils.Identifier;
 
@@ -35,6 +36,16 @@ public class Config implements Serializable {
 	public static boolean MASTERTRACKER_MONITOR_ACTIVATED = false;
 	public static boolean QUERYTRACKER_MONITOR_ACTIVATED = false;
 	public static int QUERYTRACKER_MONITOR_ATTEMPTS = 10;
+	public static int QUERYTRACKER_MONITOR_THREADS = 4;
+	public static int COMPUTE_HEARTBEAT_INTERVAL = 1000; // ms, 0 = no heartbeats
+	public static int QUERYTRACKER_HEARTBEAT_TIMEOUT = 10000; // ms
+	public static double QUERYTRACKER_HEARTBEAT_PHI = 8.0; // see HeartbeatMonitor
+
+	// Speculative execution of straggler operators
+	public static boolean QUERYTRACKER_SPECULATION_ACTIVATED = false;
+	public static double QUERYTRACKER_SPECULATION_FACTOR = 3.0; // x median runtime of siblings
+	public static double QUERYTRACKER_SPECULATION_QUANTILE = 0.5; // finished siblings
+	public static int QUERYTRACKER_SPECULATION_MIN_RUNTIME = 1000; // ms
 
 	// Compute Server
 	public static String COMPUTE_DRIVER_CLASS = "com.mysql.jdbc.Driver";
@@ -50,6 +61,20 @@ public class Config implements Serializable {
 	public static boolean COMPUTE_INTERMEDIATE_KEYS = true;
 	public static int COMPUTE_THINKTIME = 1000;
 	public static String COMPUTE_ENGINE = "MEMORY";
+	public static int COMPUTE_SLOTS = 8;
+	public static int COMPUTE_POOL_CONNS_PER_SLOT = 2;
+	public static int COMPUTE_POOL_BORROW_TIMEOUT = 60000; // in ms
+	public static int COMPUTE_POOL_VALIDATION_INTERVAL = 5000; // in ms
+	public static int COMPUTE_POOL_VALIDATION_TIMEOUT = 2; // in s
+	public static int COMPUTE_POOL_STMT_CACHE_SIZE = 64;
+	public static boolean COMPUTE_EXCHANGE_ACTIVE = false; // ship remote inputs instead of reading FEDERATED tables
+	public static boolean COMPUTE_EXCHANGE_COMPRESS = true;
+	public static int COMPUTE_EXCHANGE_PORT_OFFSET = 1000;
+	public static int COMPUTE_EXCHANGE_THREADS = 8;
+	public static int COMPUTE_EXCHANGE_BATCH_ROWS = 4096;
+	public static int COMPUTE_EXCHANGE_INSERT_ROWS = 256;
+	public static int COMPUTE_PIPELINE_BUFFER_BATCHES = 64;
+	public static int COMPUTE_PIPELINE_SPILL_WAIT = 100; // in ms
 
 	// Compile Server
 	public static String METADATA_DRIVER_CLASS = "com.mysql.jdbc.Driver";
@@ -63,6 +88,7 @@ public class Config implements Serializable {
 	public static int COMPILE_PORT = 55500;
 	public static String COMPILE_URL = "127.0.0.1";
 	public static String COMPILE_DEFAULT_SCHEMA = "PUBLIC";
+	public static int COMPILE_PLAN_CACHE_SIZE = 256; // 0 = no plan cache
 
 	public static boolean COMPILE_FT_ACTIVE = true;
 	public static boolean COMPILE_FT_PRUNING = true;
@@ -84,18 +110,50 @@ public class Config implements Serializable {
 		OPTIMIZER_ACTIVE_RULES_FUNCTION.set(1, true); // combine selections
 		OPTIMIZER_ACTIVE_RULES_SELECT.set(0, false); // push selections
 		OPTIMIZER_ACTIVE_RULES_SELECT.set(1, true); // combine selections
+		OPTIMIZER_ACTIVE_RULES_SELECT.set(2, false); // reorder joins
+		OPTIMIZER_ACTIVE_RULES_SELECT.set(3, false); // push projections
 	}
+	public static int OPTIMIZER_DEFAULT_CARDINALITY = 10000; // rows per partition w/o statistics
+	public static int OPTIMIZER_JOIN_DP_MAX_TABLES = 12; // larger join chains are not reordered
+	public static double OPTIMIZER_JOIN_SHIP_COST = 2.0; // cost per re-partitioned row
+	public static int OPTIMIZER_BROADCAST_MAX_ROWS = 0; // larger join inputs are not broadcast (0 = never)
+	public static int OPTIMIZER_REPARTITION_ROWS = 0; // rows per re-partitioned partition (0 = keep partition count of input)
+	public static int OPTIMIZER_STATISTICS_SAMPLE_ROWS = 10000; // sampled rows per partition (ANALYZE)
+	public static int OPTIMIZER_STATISTICS_HISTOGRAM_BUCKETS = 20; // buckets per histogram (ANALYZE)
+	public static boolean OPTIMIZER_SKEW_SPLIT = false; // spread heavy hitters of join keys over all partitions
+	public static double OPTIMIZER_SKEW_MIN_SHARE = 1.0; // heavy hitter: more rows than this share of one partition
+
+	// Servers
+	public static boolean SERVER_WIRE_CODEC = true; // see WireMessage
+	public static int SERVER_IO_THREADS = 2; // selector threads per server
+	public static int SERVER_WORKER_THREADS = 64; // must exceed concurrent plans
+	public static int SERVER_WORKER_QUEUE = 1024; // requests waiting for workers
+	public static int SERVER_RPC_TIMEOUT = 600000; // ms to wait for a response, 0 = wait forever
 
 	// Master Tracker Server
 	public static int MASTERTRACKER_PORT = 55501;
 	public static String MASTERTRACKER_URL = "127.0.0.1";
+	public static EnumComputeNodeAllocation MASTERTRACKER_ALLOCATION = EnumComputeNodeAllocation.ROUND_ROBIN;
+	public static int MASTERTRACKER_MAX_RUNNING_PLANS = 0; // 0 = unlimited
+	public static int MASTERTRACKER_ADMISSION_TIMEOUT = 0; // ms, 0 = wait forever
+	public static int MASTERTRACKER_ADMISSION_QUEUE = 1024; // more queued plans are rejected, 0 = unbounded
+	public static String MASTERTRACKER_GROUP_WEIGHTS = ""; // e.g. batch:1,dashboard:4
 
 	// Query Tracker Server
 	public static int QUERYTRACKER_PORT = 55600;
 	public static EnumResourceScheduler QUERYTRACKER_SCHEDULER = EnumResourceScheduler.WISHLIST_AWARE;
+	public static double QUERYTRACKER_SCHEDULER_BALANCE = 0.5; // see CostBasedScheduler
+	public static int QUERYTRACKER_PLAN_CACHE_SIZE = 256; // 0 = no plan templates
+	public static double QUERYTRACKER_BLOOM_FILTER_MAX_FILL = 0.5; // fuller filters are not applied
+	public static int QUERYTRACKER_PROFILE_HISTORY = 64; // profiles of executed plans
 
 	// Query Tracker Server: Code generation
 	public static boolean CODEGEN_OPTIMIZE = true;
+	public static boolean CODEGEN_PIPELINE = false;
+	public static boolean CODEGEN_BLOOM_FILTER = false; // filter probe side of selective joins
+	public static double CODEGEN_BLOOM_FILTER_MAX_SELECTIVITY = 0.5; // join rows / probe rows
+	public static int CODEGEN_BLOOM_FILTER_MAX_BITS = 1048576; // size limit of a filter
+	public static int CODEGEN_SKEW_MAX_KEYS = 64; // heavy hitters detected per operator
 
 	// Logging
 	public static Boolean LOGGING_ENABLED = true;
@@ -279,20 +337,45 @@ public class Config implements Serializable {
 	 */
 	private static void loadXDB() {
 		String[] intProperties = { "COMPUTE_MAX_FETCHSIZE", "COMPUTE_PORT",
-				"COMPILE_PORT", "MASTERTRACKER_PORT", "QUERYTRACKER_PORT",
-				"QUERYTRACKER_MONITOR_ATTEMPTS",
+				"COMPILE_PORT", "COMPILE_PLAN_CACHE_SIZE", "MASTERTRACKER_PORT", "QUERYTRACKER_PORT",
+				"QUERYTRACKER_MONITOR_ATTEMPTS", "QUERYTRACKER_MONITOR_THREADS",
 				"QUERYTRACKER_MONITOR_INTERVAL", "TEST_NODE_COUNT",
 				"TEST_FT_NUMBER_OF_FAILURES", "TEST_FT_NUMBER_OF_RUNS",
 				"TEST_PARTS_PER_NODE", "TEST_FT_RECORDS_LIMIT",
 				"COMPILE_FT_BENCHMARK_ROWS_NUMBER",
-				"COMPILE_FT_BENCHMARK_COLUMNS_NUMBER" };
-
-		String[] doubleProperties = { "COMPILE_FT_PIPELINE_CNST", "COMPILE_FT_SUCPROB" };
+				"COMPILE_FT_BENCHMARK_COLUMNS_NUMBER", "COMPUTE_SLOTS",
+				"COMPUTE_POOL_CONNS_PER_SLOT", "COMPUTE_POOL_BORROW_TIMEOUT",
+				"COMPUTE_POOL_VALIDATION_INTERVAL",
+				"COMPUTE_POOL_VALIDATION_TIMEOUT", "COMPUTE_POOL_STMT_CACHE_SIZE",
+				"COMPUTE_EXCHANGE_PORT_OFFSET", "COMPUTE_EXCHANGE_THREADS",
+				"COMPUTE_EXCHANGE_BATCH_ROWS", "COMPUTE_EXCHANGE_INSERT_ROWS",
+				"COMPUTE_PIPELINE_BUFFER_BATCHES", "COMPUTE_PIPELINE_SPILL_WAIT",
+				"SERVER_IO_THREADS", "SERVER_WORKER_THREADS",
+				"SERVER_WORKER_QUEUE", "SERVER_RPC_TIMEOUT",
+				"MASTERTRACKER_MAX_RUNNING_PLANS",
+				"MASTERTRACKER_ADMISSION_TIMEOUT",
+				"MASTERTRACKER_ADMISSION_QUEUE", "COMPUTE_HEARTBEAT_INTERVAL",
+				"QUERYTRACKER_HEARTBEAT_TIMEOUT",
+				"QUERYTRACKER_SPECULATION_MIN_RUNTIME",
+				"QUERYTRACKER_PLAN_CACHE_SIZE", "QUERYTRACKER_PROFILE_HISTORY",
+				"OPTIMIZER_DEFAULT_CARDINALITY",
+				"OPTIMIZER_JOIN_DP_MAX_TABLES", "OPTIMIZER_STATISTICS_SAMPLE_ROWS",
+				"OPTIMIZER_STATISTICS_HISTOGRAM_BUCKETS",
+				"OPTIMIZER_BROADCAST_MAX_ROWS", "OPTIMIZER_REPARTITION_ROWS",
+				"CODEGEN_BLOOM_FILTER_MAX_BITS", "CODEGEN_SKEW_MAX_KEYS" };
+
+		String[] doubleProperties = { "COMPILE_FT_PIPELINE_CNST", "COMPILE_FT_SUCPROB",
+				"QUERYTRACKER_SCHEDULER_BALANCE", "QUERYTRACKER_HEARTBEAT_PHI",
+				"QUERYTRACKER_SPECULATION_FACTOR",
+				"QUERYTRACKER_SPECULATION_QUANTILE", "OPTIMIZER_JOIN_SHIP_COST",
+				"QUERYTRACKER_BLOOM_FILTER_MAX_FILL",
+				"CODEGEN_BLOOM_FILTER_MAX_SELECTIVITY",
+				"OPTIMIZER_SKEW_MIN_SHARE" };
 
 		String[] stringProperties = { "PLATTFORM", "COMPILE_URL",
 				"MASTERTRACKER_URL", "TEST_DB_NAME", "TEST_CLUSTER",
 				"COMPUTE_ENGINE", "SHOOTED_COMPUTE_NODES", "COMPILE_FT_MODE",
-				"DOT_EXE", "NAIVE_STRATEGY_MODE" };
+				"DOT_EXE", "NAIVE_STRATEGY_MODE", "MASTERTRACKER_GROUP_WEIGHTS" };
 
 		String[] boolProperties = { "LOGGING_ENABLED", "COMPUTE_CLEAN_PLAN",
 				"TRACE_PARALLEL_PLAN", "TRACE_COMPILE_PLAN",
@@ -306,8 +389,12 @@ public class Config implements Serializable {
 				"TRACE_EXECUTE_PLAN", "TRACE_CODEGEN_PLAN",
 				"LOG_EXECUTION_TIME", "CODEGEN_OPTIMIZE", "TEST_RUN_LOCAL",
 				"QUERYTRACKER_MONITOR_ACTIVATED",
+				"QUERYTRACKER_SPECULATION_ACTIVATED",
 				"MASTERTRACKER_MONITOR_ACTIVATED", "TEST_FT_CHECKPOINTING",
-				"COMPILE_FT_ACTIVE", "COMPILE_FT_PRUNING", "COMPUTE_INTERMEDIATE_KEYS", "SIMULATION_MODE", "TRACE_FAILURE_SIMULATOR" };
+				"COMPILE_FT_ACTIVE", "COMPILE_FT_PRUNING", "COMPUTE_INTERMEDIATE_KEYS", "SIMULATION_MODE", "TRACE_FAILURE_SIMULATOR",
+				"COMPUTE_EXCHANGE_ACTIVE", "COMPUTE_EXCHANGE_COMPRESS",
+				"CODEGEN_PIPELINE", "CODEGEN_BLOOM_FILTER", "SERVER_WIRE_CODEC",
+				"OPTIMIZER_SKEW_SPLIT" };
 
 		Properties props;
 		props = new Properties();
@@ -384,6 +471,12 @@ public class Config implements Serializable {
 				if (tempQtScheduler != null)
 					QUERYTRACKER_SCHEDULER = tempQtScheduler;
 			}
+			if (props.containsKey("MASTERTRACKER_ALLOCATION")) {
+				String mtAllocation = props.getProperty(
+						"MASTERTRACKER_ALLOCATION").trim();
+				MASTERTRACKER_ALLOCATION = EnumComputeNodeAllocation
+						.valueOf(mtAllocation);
+			}
 
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -0,0 +1,166 @@
+package org.xdb.benchmark.wire;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.exchange.ExchangeInput;
+import org.xdb.execute.operators.MySQLExecuteOperator;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.execute.signals.ReadySignal;
+import org.xdb.tracker.QueryTrackerNodeDesc;
+import org.xdb.utils.Identifier;
+
+/**
+ * Micro benchmark which compares the compact encoding of hot message types
+ * (WireMessage) with default Java serialization: encoded size and time per
+ * encode/decode of one message as it is sent by AbstractClient (i.e., a new
+ * object stream per message).
+ *
+ * Usage: WireCodecBenchmark [iterations]
+ *
+ */
+public class WireCodecBenchmark {
+
+	private static final int WARMUP_ROUNDS = 3;
+
+	private final int iterations;
+
+	// constructors
+	public WireCodecBenchmark(int iterations) {
+		this.iterations = iterations;
+	}
+
+	public static void main(String args[]) throws Exception {
+		int iterations = 20000;
+		if (args.length != 0) {
+			iterations = Integer.parseInt(args[0]);
+		}
+
+		WireCodecBenchmark bench = new WireCodecBenchmark(iterations);
+		bench.run("Identifier", createIdentifier(1));
+		bench.run("ReadySignal", new ReadySignal(createIdentifier(1),
+				createIdentifier(2)));
+		bench.run("OperatorDesc", new OperatorDesc(createIdentifier(1),
+				new ComputeNodeDesc("127.0.0.1", Config.COMPUTE_PORT)));
+		bench.run("MySQLExecuteOperator", createOperator());
+	}
+
+	// methods
+	/**
+	 * Runs benchmark for a message with and without compact encoding
+	 *
+	 * @param name
+	 * @param message
+	 * @throws Exception
+	 */
+	public void run(String name, Object message) throws Exception {
+		boolean active = Config.SERVER_WIRE_CODEC;
+		try {
+			Config.SERVER_WIRE_CODEC = false;
+			Result serialized = this.measure(message);
+			Config.SERVER_WIRE_CODEC = true;
+			Result codec = this.measure(message);
+
+			System.out.println(name + ":");
+			System.out.println("  Java serialization: " + serialized);
+			System.out.println("  Wire codec:         " + codec);
+		} finally {
+			Config.SERVER_WIRE_CODEC = active;
+		}
+	}
+
+	private Result measure(Object message) throws Exception {
+		Result result = new Result();
+		result.bytes = encode(message).length;
+
+		for (int round = 0; round <= WARMUP_ROUNDS; ++round) {
+			long start = System.nanoTime();
+			byte[] bytes = null;
+			for (int i = 0; i < this.iterations; ++i) {
+				bytes = encode(message);
+			}
+			result.encodeNanos = (System.nanoTime() - start) / this.iterations;
+
+			start = System.nanoTime();
+			for (int i = 0; i < this.iterations; ++i) {
+				decode(bytes);
+			}
+			result.decodeNanos = (System.nanoTime() - start) / this.iterations;
+		}
+		return result;
+	}
+
+	private static byte[] encode(Object message) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(message);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static Object decode(byte[] bytes) throws IOException,
+			ClassNotFoundException {
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(
+				bytes));
+		return in.readObject();
+	}
+
+	private static Identifier createIdentifier(int execOp) {
+		return new Identifier(17).append(3).append(execOp);
+	}
+
+	/**
+	 * Creates operator like the code generator of a TPC-H join
+	 *
+	 * @return
+	 */
+	private static MySQLExecuteOperator createOperator() {
+		MySQLExecuteOperator op = new MySQLExecuteOperator(createIdentifier(1));
+		op.setQueryTracker(new QueryTrackerNodeDesc("127.0.0.1"));
+		for (String table : Arrays.asList("LINEITEM_17_1", "ORDERS_17_2")) {
+			op.addOpenSQL("CREATE TABLE " + table
+					+ " (L_ORDERKEY INTEGER, L_EXTENDEDPRICE DECIMAL(65,2), "
+					+ "L_DISCOUNT DECIMAL(65,2), O_ORDERDATE DATE) ENGINE="
+					+ Config.COMPUTE_ENGINE);
+			op.addCloseSQL("DROP TABLE IF EXISTS " + table);
+		}
+		op.addOpenSQL("CREATE TABLE JOIN_17_3 (L_ORDERKEY INTEGER, "
+				+ "REVENUE DECIMAL(65,2), O_ORDERDATE DATE) ENGINE="
+				+ Config.COMPUTE_ENGINE);
+		op.addCloseSQL("DROP TABLE IF EXISTS JOIN_17_3");
+		op.addExecuteSQL("INSERT INTO JOIN_17_3 SELECT L.L_ORDERKEY, "
+				+ "SUM(L.L_EXTENDEDPRICE*(1-L.L_DISCOUNT)), O.O_ORDERDATE "
+				+ "FROM LINEITEM_17_1 AS L, ORDERS_17_2 AS O "
+				+ "WHERE L.L_ORDERKEY=O.O_ORDERKEY GROUP BY L.L_ORDERKEY");
+		op.addExchangeInput(new ExchangeInput(new ComputeNodeDesc("10.0.0.2",
+				Config.COMPUTE_PORT), new Identifier(17).append(1),
+				"LINEITEM_17_1_1", "LINEITEM_17_1"));
+		op.addSource(new OperatorDesc(createIdentifier(1).getParentId(0)
+				.append(1).append(1), null));
+		op.addConsumer(new OperatorDesc(new Identifier(17).append(4)
+				.append(1), null));
+		return op;
+	}
+
+	/**
+	 * Size and times of one message
+	 *
+	 */
+	private static class Result {
+		private int bytes;
+		private long encodeNanos;
+		private long decodeNanos;
+
+		@Override
+		public String toString() {
+			return this.bytes + " bytes, encode " + this.encodeNanos
+					+ " ns, decode " + this.decodeNanos + " ns";
+		}
+	}
+}
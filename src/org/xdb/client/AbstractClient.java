@@ -1,11 +1,13 @@
 package org.xdb.client;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.net.Socket;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.xdb.Config;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.logging.EnumXDBComponents;
@@ -13,7 +15,8 @@ import org.xdb.logging.XDBLog;
 import org.xdb.utils.Tuple;
 
 /**
- * Abstract client implementation to talk to server components via sockets
+ * Abstract client implementation to talk to server components via persistent
+ * channels
  * 
  * @author cbinnig
  * 
@@ -45,6 +48,16 @@ public abstract class AbstractClient {
 		return url;
 	}
 
+	/**
+	 * Returns time to wait for the response to a command
+	 * 
+	 * @param cmd
+	 * @return timeout in ms (0 = no timeout)
+	 */
+	protected long getTimeout(int cmd) {
+		return Config.SERVER_RPC_TIMEOUT;
+	}
+
 	/**
 	 * Create error
 	 * 
@@ -84,23 +97,8 @@ public abstract class AbstractClient {
 		Error err = new Error();
 
 		try {
-			Socket server = new Socket(url, port);
-			final ObjectOutputStream out = new ObjectOutputStream(
-					server.getOutputStream());
-
-			out.writeInt(cmd);
-			out.flush();
-			for (Object arg : args) {
-				out.writeObject(arg);
-				out.flush();
-			}
-
-			final ObjectInputStream in = new ObjectInputStream(
-					server.getInputStream());
+			final ObjectInputStream in = this.call(url, port, cmd, args);
 			err = (Error) in.readObject();
-
-			server.close();
-
 		} catch (final Exception e) {
 			err = createClientError(url, e);
 		}
@@ -135,24 +133,9 @@ public abstract class AbstractClient {
 		Object obj = null;
 
 		try {
-			Socket server = new Socket(url, port);
-			final ObjectOutputStream out = new ObjectOutputStream(
-					server.getOutputStream());
-
-			out.writeInt(cmd);
-			out.flush();
-			for (Object arg : args) {
-				out.writeObject(arg);
-				out.flush();
-			}
-
-			final ObjectInputStream in = new ObjectInputStream(
-					server.getInputStream());
+			final ObjectInputStream in = this.call(url, port, cmd, args);
 			obj = in.readObject();
 			err = (Error) in.readObject();
-
-			server.close();
-
 		} catch (final Exception e) {
 			err = createClientError(url, e);
 		}
@@ -174,27 +157,38 @@ public abstract class AbstractClient {
 		Error err = new Error();
 
 		try {
-			Socket server = new Socket(url, port);
-			final ObjectOutputStream out = new ObjectOutputStream(
-					server.getOutputStream());
-
-			out.writeInt(cmd);
-			out.flush();
-			for (Object arg : args) {
-				out.writeObject(arg);
-				out.flush();
-			}
-
-			final ObjectInputStream in = new ObjectInputStream(
-					server.getInputStream());
+			final ObjectInputStream in = this.call(url, port, cmd, args);
 			err = (Error) in.readObject();
-
-			server.close();
-
 		} catch (final Exception e) {
 			//Ignore communication errors
 		}
 
 		return err;
 	}
+
+	/**
+	 * Sends command with arguments over the persistent channel to the server
+	 * and returns stream to read the response
+	 * 
+	 * @param url
+	 * @param port
+	 * @param cmd
+	 * @param args
+	 * @return
+	 * @throws Exception
+	 */
+	private ObjectInputStream call(final String url, final int port, int cmd,
+			Object[] args) throws Exception {
+		final ByteArrayOutputStream request = new ByteArrayOutputStream();
+		final ObjectOutputStream out = new ObjectOutputStream(request);
+		out.writeInt(cmd);
+		for (Object arg : args) {
+			out.writeObject(arg);
+		}
+		out.flush();
+
+		byte[] response = RpcChannel.get(url, port).call(
+				request.toByteArray(), this.getTimeout(cmd));
+		return new ObjectInputStream(new ByteArrayInputStream(response));
+	}
 }
@@ -25,6 +25,15 @@ public class CompileClient extends AbstractClient {
 				EnumXDBComponents.COMPILE_CLIENT);
 	}
 
+	@Override
+	protected long getTimeout(int cmd) {
+		// statements wait until their plans are executed
+		if (cmd == CompileServer.CMD_EXECUTE_WO_RESULT
+				|| cmd == CompileServer.CMD_EXECUTE_W_RESULT)
+			return 0;
+		return super.getTimeout(cmd);
+	}
+
 	/**
 	 * Execute a given FunSQL statement on compile server
 	 * 
@@ -32,7 +41,19 @@ public class CompileClient extends AbstractClient {
 	 * @return
 	 */
 	public Error executeStmt(String stmt) {
-		ClientStmt clientStmt = new ClientStmt(stmt);
+		return this.executeStmt(stmt, null);
+	}
+
+	/**
+	 * Execute a given FunSQL statement on compile server in a resource group
+	 * of the admission control
+	 * 
+	 * @param stmt
+	 * @param resourceGroup
+	 * @return
+	 */
+	public Error executeStmt(String stmt, String resourceGroup) {
+		ClientStmt clientStmt = new ClientStmt(stmt, resourceGroup);
 		Object[] args = { clientStmt };
 		return this.executeCmd(CompileServer.CMD_EXECUTE_WO_RESULT, args);
 	}
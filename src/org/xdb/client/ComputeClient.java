@@ -1,14 +1,21 @@
 package org.xdb.client;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
 import java.util.logging.Level;
 
 import org.xdb.Config;
 import org.xdb.error.Error;
 import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.ComputeNodeStats;
 import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.operators.BloomFilter;
+import org.xdb.execute.operators.HeavyHitters;
 import org.xdb.execute.operators.EnumOperatorStatus;
 import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.execute.signals.CloseSignal;
+import org.xdb.execute.signals.KillSignal;
 import org.xdb.execute.signals.ReadySignal;
 import org.xdb.execute.signals.RestartSignal;
 import org.xdb.logging.EnumXDBComponents;
@@ -60,6 +67,34 @@ public class ComputeClient extends AbstractClient {
 
 	}
 
+	/**
+	 * Installs a batch of operators on given node (URL) with one request
+	 * 
+	 * @param url
+	 * @param ops
+	 * @return error and status of each operator (in the given order)
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Tuple<Error, EnumOperatorStatus>> openOperators(
+			final ComputeNodeDesc url, final List<AbstractExecuteOperator> ops) {
+		Object[] args = { new Vector<AbstractExecuteOperator>(ops) };
+
+		Tuple<Error, Object> result = this.executeCmdWithResult(url.getUrl(),
+				url.getPort(), ComputeServer.CMD_OPEN_OPS, args);
+
+		Object obj2 = result.getObject2();
+		if (obj2 != null && !result.getObject1().isError())
+			return (List<Tuple<Error, EnumOperatorStatus>>) obj2;
+
+		// batch failed: report error for each operator
+		List<Tuple<Error, EnumOperatorStatus>> results = new ArrayList<Tuple<Error, EnumOperatorStatus>>();
+		for (int i = 0; i < ops.size(); ++i) {
+			results.add(new Tuple<Error, EnumOperatorStatus>(result
+					.getObject1(), EnumOperatorStatus.getRuntimeFailure()));
+		}
+		return results;
+	}
+
 	/**
 	 * Send ready signal to operator on node from source operator
 	 * 
@@ -70,11 +105,47 @@ public class ComputeClient extends AbstractClient {
 	 */
 	public Error executeOperator(final Identifier sourceOpId,
 			final ComputeNodeDesc url, final Identifier destOpId) {
+		return this.executeOperator(sourceOpId, url, destOpId, null);
+	}
+
+	/**
+	 * Send ready signal to operator on node from source operator with the
+	 * filter which the operator applies to its output
+	 * 
+	 * @param sourceOpId
+	 * @param url
+	 * @param destOpId
+	 * @param bloomFilter
+	 * @return
+	 */
+	public Error executeOperator(final Identifier sourceOpId,
+			final ComputeNodeDesc url, final Identifier destOpId,
+			final BloomFilter bloomFilter) {
+		return this.executeOperator(sourceOpId, url, destOpId, bloomFilter,
+				null);
+	}
+
+	/**
+	 * Send ready signal to operator on node from source operator with the
+	 * filter which the operator applies to its output and the heavy hitters
+	 * which the operator replicates
+	 * 
+	 * @param sourceOpId
+	 * @param url
+	 * @param destOpId
+	 * @param bloomFilter
+	 * @param heavyHitters
+	 * @return
+	 */
+	public Error executeOperator(final Identifier sourceOpId,
+			final ComputeNodeDesc url, final Identifier destOpId,
+			final BloomFilter bloomFilter, final HeavyHitters heavyHitters) {
 
 		this.logger.log(Level.INFO, "Signalling " + destOpId + " from "
 				+ sourceOpId);
 
-		final ReadySignal signal = new ReadySignal(sourceOpId, destOpId);
+		final ReadySignal signal = new ReadySignal(sourceOpId, destOpId,
+				bloomFilter, heavyHitters);
 		Object[] args = { signal };
 		return this.executeCmd(url.getUrl(), url.getPort(),
 				ComputeServer.CMD_READY_SIGNAL, args);
@@ -93,6 +164,39 @@ public class ComputeClient extends AbstractClient {
 				dest.getOperatorID());
 	}
 
+	/**
+	 * Send ready signal to operator on node from source operator with the
+	 * filter which the operator applies to its output
+	 * 
+	 * @param sourceOpId
+	 * @param dest
+	 * @param bloomFilter
+	 * @return
+	 */
+	public Error executeOperator(final Identifier sourceOpId,
+			final OperatorDesc dest, final BloomFilter bloomFilter) {
+		return this.executeOperator(sourceOpId, dest.getComputeNode(),
+				dest.getOperatorID(), bloomFilter);
+	}
+
+	/**
+	 * Send ready signal to operator on node from source operator with the
+	 * filter which the operator applies to its output and the heavy hitters
+	 * which the operator replicates
+	 * 
+	 * @param sourceOpId
+	 * @param dest
+	 * @param bloomFilter
+	 * @param heavyHitters
+	 * @return
+	 */
+	public Error executeOperator(final Identifier sourceOpId,
+			final OperatorDesc dest, final BloomFilter bloomFilter,
+			final HeavyHitters heavyHitters) {
+		return this.executeOperator(sourceOpId, dest.getComputeNode(),
+				dest.getOperatorID(), bloomFilter, heavyHitters);
+	}
+
 	/**
 	 * Send ready signal to a leaf operator on node w/o a source operator
 	 * 
@@ -144,6 +248,21 @@ public class ComputeClient extends AbstractClient {
 		return this.closeOperator(dest.getComputeNode(), execOp);
 	}
 
+	/**
+	 * Kills operator on node (i.e., removes it from the executor queue or
+	 * interrupts it if it is running)
+	 * 
+	 * @param dest
+	 * @return
+	 */
+	public Error killOperator(final OperatorDesc dest) {
+		final KillSignal signal = new KillSignal(dest.getOperatorID());
+		Object[] args = { signal };
+		return this.executeCmdIgnoreCommErr(dest.getComputeNode().getUrl(),
+				dest.getComputeNode().getPort(),
+				ComputeServer.CMD_KILL_SIGNAL, args);
+	}
+
 	/**
 	 * Stop compute server
 	 * 
@@ -164,9 +283,23 @@ public class ComputeClient extends AbstractClient {
 	 * @return
 	 */
 	public Error pingComputeServer(final ComputeNodeDesc url) {
+		return this.getComputeServerStats(url).getObject1();
+	}
+
+	/**
+	 * Ping compute server and return usage of executor slots and connection
+	 * pool
+	 * 
+	 * @param url
+	 * @return
+	 */
+	public Tuple<Error, ComputeNodeStats> getComputeServerStats(
+			final ComputeNodeDesc url) {
 		Object[] args = {};
-		return this.executeCmd(url.getUrl(), url.getPort(),
-				ComputeServer.CMD_PING_SERVER, args);
+		Tuple<Error, Object> result = this.executeCmdWithResult(url.getUrl(),
+				url.getPort(), ComputeServer.CMD_PING_SERVER, args);
+		return new Tuple<Error, ComputeNodeStats>(result.getObject1(),
+				(ComputeNodeStats) result.getObject2());
 	}
 	
 	/**
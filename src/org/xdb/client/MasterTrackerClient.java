@@ -10,11 +10,13 @@ import org.xdb.doomdb.DoomDBPlanDesc;
 import org.xdb.doomdb.DoomDBPlanStatus;
 import org.xdb.error.Error;
 import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.ComputeNodeStats;
 import org.xdb.execute.signals.RestartSignal;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.server.MasterTrackerServer;
 import org.xdb.tracker.QueryTrackerNodeDesc;
+import org.xdb.tracker.ResourceGroupStats;
 import org.xdb.tracker.signals.RegisterSignal;
 import org.xdb.utils.Tuple;
 
@@ -27,16 +29,27 @@ public class MasterTrackerClient extends AbstractClient {
 		super(Config.MASTERTRACKER_URL, Config.MASTERTRACKER_PORT, EnumXDBComponents.MASTER_TRACKER_CLIENT);
 	}
 
+	@Override
+	protected long getTimeout(int cmd) {
+		// response is sent when plan is executed
+		if (cmd == MasterTrackerServer.CMD_EXECUTE_PLAN)
+			return 0;
+		return super.getTimeout(cmd);
+	}
+
 	/**
 	 * Register a compute node at the master tracker server
 	 * 
 	 * @param desc
+	 * @param stats
+	 *            current load of compute node
 	 * @return
 	 */
-	public Error registerNode(final ComputeNodeDesc desc) {
+	public Error registerNode(final ComputeNodeDesc desc,
+			final ComputeNodeStats stats) {
 		final RegisterSignal<ComputeNodeDesc> signal = new RegisterSignal<ComputeNodeDesc>(
 				desc);
-		Object[] args = { signal };
+		Object[] args = { signal, stats };
 		return this.executeCmd(MasterTrackerServer.CMD_REGISTER_COMPUTE_NODE,
 				args);
 	}
@@ -196,4 +209,19 @@ public class MasterTrackerClient extends AbstractClient {
 		}
 		return (CompilePlan) obj;
 	}
+
+	/**
+	 * Returns admission metrics (queue time, throughput) per resource group
+	 * 
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public Tuple<Error, Map<String, ResourceGroupStats>> getAdmissionStats() {
+		Object[] args = {};
+		Tuple<Error, Object> result = this.executeCmdWithResult(
+				MasterTrackerServer.CMD_GET_ADMISSION_STATS, args);
+		return new Tuple<Error, Map<String, ResourceGroupStats>>(
+				result.getObject1(),
+				(Map<String, ResourceGroupStats>) result.getObject2());
+	}
 }
@@ -6,9 +6,12 @@ import org.xdb.doomdb.DoomDBPlanDesc;
 import org.xdb.doomdb.DoomDBPlanStatus;
 import org.xdb.error.Error;
 import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.signals.HeartbeatSignal;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.server.QueryTrackerServer;
+import org.xdb.tracker.PlanProfile;
+import org.xdb.utils.Identifier;
 import org.xdb.utils.Tuple;
 
 /**
@@ -23,6 +26,14 @@ public class QueryTrackerClient extends AbstractClient {
 		super(url, Config.QUERYTRACKER_PORT, EnumXDBComponents.QUERY_TRACKER_CLIENT);
 	}
 
+	@Override
+	protected long getTimeout(int cmd) {
+		// response is sent when plan is executed
+		if (cmd == QueryTrackerServer.CMD_EXECUTE_PLAN)
+			return 0;
+		return super.getTimeout(cmd);
+	}
+
 	/**
 	 * Execute query tracker plan on query tracker
 	 * 
@@ -34,6 +45,21 @@ public class QueryTrackerClient extends AbstractClient {
 		return this.executeCmd(QueryTrackerServer.CMD_EXECUTE_PLAN, args);
 	}
 
+	/**
+	 * Returns execution profile of a compile plan which was executed on query
+	 * tracker
+	 * 
+	 * @param planId
+	 * @return
+	 */
+	public Tuple<Error, PlanProfile> getPlanProfile(final Identifier planId) {
+		Object[] args = { planId };
+		Tuple<Error, Object> result = this.executeCmdWithResult(
+				QueryTrackerServer.CMD_GET_PLAN_PROFILE, args);
+		return new Tuple<Error, PlanProfile>(result.getObject1(),
+				(PlanProfile) result.getObject2());
+	}
+
 	/**
 	 * Executes query tracker plan for given DoomDBPlan
 	 * 
@@ -100,6 +126,29 @@ public class QueryTrackerClient extends AbstractClient {
 		return err;
 	}
 
+	/**
+	 * Signal query tracker that a given pipelined operator started to
+	 * produce its output
+	 * 
+	 * @param op
+	 * @return
+	 */
+	public Error operatorStarted(final AbstractExecuteOperator op) {
+		Object[] args = { op };
+		return this.executeCmd(QueryTrackerServer.CMD_OPERATOR_STARTED, args);
+	}
+
+	/**
+	 * Sends heartbeat of a compute node with the status of its operators
+	 * 
+	 * @param heartbeat
+	 * @return
+	 */
+	public Error heartbeat(final HeartbeatSignal heartbeat) {
+		Object[] args = { heartbeat };
+		return this.executeCmd(QueryTrackerServer.CMD_HEARTBEAT, args);
+	}
+
 	/**
 	 * Stop query tracker server
 	 * 
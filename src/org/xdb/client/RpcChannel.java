@@ -0,0 +1,302 @@
+package org.xdb.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.xdb.server.RpcProtocol;
+import org.xdb.server.RpcProtocol.Frame;
+
+/**
+ * Persistent channel to a server which is shared by all clients of a JVM.
+ * Requests of many threads are multiplexed over one connection and can be in
+ * flight at the same time. If the connection is lost, it is re-established by
+ * the next request.
+ *
+ * A request is only sent again on a new connection if it was not written to
+ * the old one. Requests which were (partly) written are failed, since the
+ * server might have executed them already.
+ *
+ */
+public class RpcChannel {
+
+	// channels: url:port -> channel
+	private static final Map<String, RpcChannel> channels = new HashMap<String, RpcChannel>();
+
+	// address of server
+	private final String url;
+	private final int port;
+
+	// current connection (null if not connected)
+	private Connection connection = null;
+
+	// request ids are unique per channel
+	private final AtomicLong lastRequestId = new AtomicLong();
+
+	/**
+	 * Request which waits for its response
+	 *
+	 */
+	public static class Call {
+		private final CountDownLatch done = new CountDownLatch(1);
+		private byte[] response;
+		private IOException failure;
+
+		// pending calls of connection (to remove call after timeout)
+		private final Map<Long, Call> pending;
+		private final long requestId;
+
+		private Call(Map<Long, Call> pending, long requestId) {
+			this.pending = pending;
+			this.requestId = requestId;
+		}
+
+		private void complete(byte[] response) {
+			this.response = response;
+			this.done.countDown();
+		}
+
+		private void fail(IOException failure) {
+			this.failure = failure;
+			this.done.countDown();
+		}
+
+		/**
+		 * Waits for response
+		 *
+		 * @param timeout
+		 *            in ms (0 = wait until response arrives or connection is
+		 *            lost)
+		 * @return
+		 * @throws IOException
+		 * @throws InterruptedException
+		 */
+		public byte[] get(long timeout) throws IOException,
+				InterruptedException {
+			if (timeout <= 0) {
+				this.done.await();
+			} else if (!this.done.await(timeout, TimeUnit.MILLISECONDS)) {
+				// a late response is dropped by the reader thread
+				this.pending.remove(this.requestId);
+				throw new SocketTimeoutException("No response to request "
+						+ this.requestId + " within " + timeout + " ms");
+			}
+
+			if (this.failure != null)
+				throw this.failure;
+			return this.response;
+		}
+	}
+
+	/**
+	 * Signals that a request was not written since the connection was
+	 * already closed (i.e., request can be sent again)
+	 *
+	 */
+	private static class ClosedException extends IOException {
+		private static final long serialVersionUID = -3419251263487530981L;
+
+		private ClosedException(String msg) {
+			super(msg);
+		}
+	}
+
+	/**
+	 * Socket with a reader thread which dispatches responses to their calls
+	 *
+	 */
+	private class Connection extends Thread {
+		private final Socket socket;
+		private final DataOutputStream out;
+		private final DataInputStream in;
+		private final Map<Long, Call> pending = new ConcurrentHashMap<Long, Call>();
+		private volatile boolean closed = false;
+
+		// constructors
+		private Connection() throws IOException {
+			super("RpcChannel-" + url + ":" + port);
+			this.setDaemon(true);
+
+			this.socket = new Socket(url, port);
+			this.socket.setTcpNoDelay(true);
+			this.out = new DataOutputStream(new BufferedOutputStream(
+					this.socket.getOutputStream()));
+			this.in = new DataInputStream(new BufferedInputStream(
+					this.socket.getInputStream()));
+			RpcProtocol.writePreamble(this.out);
+		}
+
+		/**
+		 * Sends request
+		 *
+		 * @param request
+		 * @return
+		 * @throws ClosedException
+		 *             if connection was closed before request was written
+		 * @throws IOException
+		 *             if writing the request failed
+		 */
+		private Call send(byte[] request) throws IOException {
+			long requestId = lastRequestId.incrementAndGet();
+			Call call = new Call(this.pending, requestId);
+			this.pending.put(requestId, call);
+
+			synchronized (this.out) {
+				if (this.closed) {
+					this.pending.remove(requestId);
+					throw new ClosedException("Connection to " + url + ":"
+							+ port + " is closed");
+				}
+
+				try {
+					RpcProtocol.writeFrame(this.out, requestId, request);
+				} catch (IOException e) {
+					this.pending.remove(requestId);
+					this.close(e);
+					throw e;
+				}
+			}
+			return call;
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (!this.closed) {
+					Frame response = RpcProtocol.readFrame(this.in);
+					Call call = this.pending.remove(response.getRequestId());
+					if (call != null)
+						call.complete(response.getPayload());
+				}
+			} catch (IOException e) {
+				this.close(e);
+			}
+		}
+
+		/**
+		 * Closes socket and fails all pending calls
+		 *
+		 * @param cause
+		 */
+		private void close(IOException cause) {
+			this.closed = true;
+			try {
+				this.socket.close();
+			} catch (IOException e) {
+				// ignore
+			}
+
+			List<Long> requestIds = new ArrayList<Long>(this.pending.keySet());
+			for (Long requestId : requestIds) {
+				Call call = this.pending.remove(requestId);
+				if (call != null)
+					call.fail(new IOException("Connection to " + url + ":"
+							+ port + " lost: " + cause.getMessage(), cause));
+			}
+		}
+	}
+
+	// constructors
+	private RpcChannel(String url, int port) {
+		this.url = url;
+		this.port = port;
+	}
+
+	/**
+	 * Returns channel to a server
+	 *
+	 * @param url
+	 * @param port
+	 * @return
+	 */
+	public static synchronized RpcChannel get(String url, int port) {
+		String key = url + ":" + port;
+		RpcChannel channel = channels.get(key);
+		if (channel == null) {
+			channel = new RpcChannel(url, port);
+			channels.put(key, channel);
+		}
+		return channel;
+	}
+
+	// methods
+	/**
+	 * Sends request and waits for response
+	 *
+	 * @param request
+	 * @param timeout
+	 *            in ms (0 = no timeout)
+	 * @return
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public byte[] call(byte[] request, long timeout) throws IOException,
+			InterruptedException {
+		return this.send(request).get(timeout);
+	}
+
+	/**
+	 * Sends request without waiting for the response. A request is sent again
+	 * on a new connection only if the connection was lost before the request
+	 * was written.
+	 *
+	 * @param request
+	 * @return
+	 * @throws IOException
+	 */
+	public Call send(byte[] request) throws IOException {
+		Connection conn = this.connect(null);
+		try {
+			return conn.send(request);
+		} catch (ClosedException e) {
+			// re-connect once if connection was lost before request was
+			// written
+			conn = this.connect(conn);
+			return conn.send(request);
+		}
+	}
+
+	/**
+	 * Returns open connection or opens a new connection
+	 *
+	 * @param broken
+	 *            connection which failed (or null)
+	 * @return
+	 * @throws IOException
+	 */
+	private synchronized Connection connect(Connection broken)
+			throws IOException {
+		if (this.connection != null
+				&& (this.connection == broken || this.connection.closed)) {
+			this.connection = null;
+		}
+
+		if (this.connection == null) {
+			this.connection = new Connection();
+			this.connection.start();
+		}
+		return this.connection;
+	}
+
+	/**
+	 * Closes connection of channel
+	 */
+	public synchronized void close() {
+		if (this.connection != null) {
+			this.connection.close(new IOException("Channel closed"));
+			this.connection = null;
+		}
+	}
+}
@@ -16,12 +16,18 @@ public class ClientStmt implements Serializable {
 	
 	protected String stmt;
 	protected Vector<Object> params;
+	protected String resourceGroup;
 
 	// Constructor
 	public ClientStmt(String stmt) {
 		super();
 		this.stmt = stmt;
 	}
+
+	public ClientStmt(String stmt, String resourceGroup) {
+		this(stmt);
+		this.resourceGroup = resourceGroup;
+	}
 	
 	// getter and setter
 	public void addParameter(int idx, Object param){
@@ -35,4 +41,8 @@ public class ClientStmt implements Serializable {
 	public void setStmt(String stmt) {
 		this.stmt = stmt;
 	}
+
+	public String getResourceGroup() {
+		return resourceGroup;
+	}
 }
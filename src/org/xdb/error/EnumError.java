@@ -12,6 +12,7 @@ public enum EnumError {
 	CLIENT_ERROR,
 	COMPUTE_CMD_INVALID,
 	COMPUTE_OPERATOR_NOT_AVAILABLE,
+	COMPUTE_EXCHANGE_ERROR,
 	CATALOG_NOT_AVAILABLE,
 	CATALOG_OBJECT_ALREADY_EXISTS,
 	CATALOG_OBJECT_NOT_EXISTS,
@@ -65,6 +66,9 @@ public enum EnumError {
 		case COMPUTE_OPERATOR_NOT_AVAILABLE:
 			msg = "Compute operator \"<arg0>\" not available";
 			break;
+		case COMPUTE_EXCHANGE_ERROR:
+			msg = "Exchange error: \"<arg0>\"";
+			break;
 		case COMPILER_UNDEFINED_ERROR:
 			msg =  "Compiler: Undefined error (\"<arg0>\")";
 			break;
@@ -1,17 +1,22 @@
 package org.xdb.execute;
 
 import java.net.InetAddress;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,15 +25,19 @@ import org.xdb.client.MasterTrackerClient;
 import org.xdb.client.QueryTrackerClient;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
+import org.xdb.execute.OperatorExecutorPool.OperatorTask;
 import org.xdb.execute.operators.AbstractExecuteOperator;
 import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.execute.operators.MySQLExecuteOperator;
 import org.xdb.execute.signals.CloseSignal;
+import org.xdb.execute.signals.HeartbeatSignal;
 import org.xdb.execute.signals.KillSignal;
 import org.xdb.execute.signals.ReadySignal;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBExecuteTimeMeasurement;
 import org.xdb.logging.XDBLog;
 import org.xdb.utils.Identifier;
+import org.xdb.utils.Tuple;
 
 /**
  * Responsible to keep track of operators: - installs new operators - executes
@@ -40,25 +49,26 @@ import org.xdb.utils.Identifier;
 public class ComputeNode {
 
 	// Map of operatorId -> operator
-	private final Map<Identifier, AbstractExecuteOperator> operators = Collections
-			.synchronizedMap(new HashMap<Identifier, AbstractExecuteOperator>());;
+	private final Map<Identifier, AbstractExecuteOperator> operators = new ConcurrentHashMap<Identifier, AbstractExecuteOperator>();
 
-	// Map of consumer -> sources which are ready
-	private final Map<Identifier, HashSet<Identifier>> receivedReadySignals = Collections
-			.synchronizedMap(new HashMap<Identifier, HashSet<Identifier>>());;
+	// Map of operatorId -> sources which did not signal yet
+	private final Map<Identifier, ReadySignalCountdown> readySignals = new ConcurrentHashMap<Identifier, ReadySignalCountdown>();
 
-	// Map of operator -> which are ready
-	private final Map<Identifier, Long> executingOperators = Collections
-			.synchronizedMap(new HashMap<Identifier, Long>());;
+	// Map of operator -> executor (queued or running)
+	private final Map<Identifier, OperatorExecutor> executingOperators = new ConcurrentHashMap<Identifier, OperatorExecutor>();
 			
 	// Compute node description (i.e., available threads on node)
 	private final ComputeNodeDesc computeNodeDesc;
 
+	// Bounded pool of executor threads (one thread per slot)
+	private final OperatorExecutorPool executorPool;
+
 	// Clients for communication
 	private final MasterTrackerClient mTrackerClient;
+	private final Map<String, QueryTrackerClient> qTrackerClients = new ConcurrentHashMap<String, QueryTrackerClient>();
 
-	// Lock for signaling 
-	private final Lock readySignalsLock = new ReentrantLock();
+	// Timer which sends heartbeats to query trackers
+	private ScheduledExecutorService heartbeatTimer = null;
 
 	// Helpers
 	private final Logger logger;
@@ -67,7 +77,12 @@ public class ComputeNode {
 	// constructors
 	public ComputeNode(final int port) throws Exception {
 		String url = InetAddress.getLocalHost().getHostAddress();
-		this.computeNodeDesc = new ComputeNodeDesc(url, port);
+		this.computeNodeDesc = new ComputeNodeDesc(url, port,
+				Config.COMPUTE_SLOTS);
+		this.executorPool = new OperatorExecutorPool(
+				this.computeNodeDesc.getSlots());
+		ConnectionPool.getComputePool().registerSlots(
+				this.computeNodeDesc.getSlots());
 
 		this.logger = XDBLog.getLogger(EnumXDBComponents.COMPUTE_SERVER);
 		this.timeMeasure = XDBExecuteTimeMeasurement
@@ -85,6 +100,27 @@ public class ComputeNode {
 	public ComputeNodeDesc getComputeNode() {
 		return this.computeNodeDesc;
 	}
+	
+	/**
+	 * Get executor pool of compute node (e.g., to read queue wait times)
+	 * 
+	 * @return
+	 */
+	public OperatorExecutorPool getExecutorPool() {
+		return this.executorPool;
+	}
+
+	/**
+	 * Get current usage of operators, executor slots, connection pool and
+	 * memory
+	 * 
+	 * @return
+	 */
+	public ComputeNodeStats getStats() {
+		return new ComputeNodeStats(this.operators.size(),
+				this.executingOperators.size(), this.executorPool,
+				ConnectionPool.getComputePool());
+	}
 
 	/**
 	 * Starts up compute node and drops all temporary tables of compute DB by
@@ -94,17 +130,16 @@ public class ComputeNode {
 	 */
 	public synchronized Error startup(boolean doRestart) {
 		// register at master tracker
-		Error err = mTrackerClient.registerNode(computeNodeDesc);
+		Error err = mTrackerClient.registerNode(computeNodeDesc,
+				this.getStats());
 		if (err.isError())
 			return err;
 
 		// test connection to MySQL and
 		// recreate XDB_TMP database on initial start (not on restart)
+		PooledConnection conn = null;
 		try {
-			Class.forName(Config.COMPUTE_DRIVER_CLASS);
-			Connection conn = DriverManager.getConnection(
-					Config.COMPUTE_DB_URL, Config.COMPUTE_DB_USER,
-					Config.COMPUTE_DB_PASSWD);
+			conn = ConnectionPool.getComputeServerPool().borrow();
 
 			if (!doRestart) {
 				Statement stmt = conn.createStatement();
@@ -112,8 +147,10 @@ public class ComputeNode {
 						+ Config.COMPUTE_DB_NAME);
 				stmt.execute("CREATE DATABASE " + Config.COMPUTE_DB_NAME);
 				stmt.close();
+
+				// pooled connections still point to dropped database
+				ConnectionPool.getComputePool().clear();
 			}
-			conn.close();
 
 		} catch (SQLException e) {
 			err = createMySQLError(e);
@@ -121,38 +158,106 @@ public class ComputeNode {
 			err = createMySQLError(e);
 		}
 
+		if (conn != null) {
+			if (err.isError())
+				conn.markBroken();
+			conn.release();
+		}
+
+		if (!err.isError())
+			this.startHeartbeats();
 		return err;
 	}
+
+	/**
+	 * Starts timer which sends a heartbeat every
+	 * Config.COMPUTE_HEARTBEAT_INTERVAL ms to each query tracker with
+	 * operators on this node
+	 */
+	private void startHeartbeats() {
+		if (this.heartbeatTimer != null || Config.COMPUTE_HEARTBEAT_INTERVAL <= 0)
+			return;
+
+		this.heartbeatTimer = Executors
+				.newSingleThreadScheduledExecutor(new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "ComputeNode-Heartbeat-"
+								+ computeNodeDesc.getPort());
+						t.setDaemon(true);
+						return t;
+					}
+				});
+		this.heartbeatTimer.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				sendHeartbeats();
+			}
+		}, 0, Config.COMPUTE_HEARTBEAT_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Sends one heartbeat with the status of all its operators to each query
+	 * tracker
+	 */
+	private void sendHeartbeats() {
+		Map<String, HeartbeatSignal> heartbeats = new HashMap<String, HeartbeatSignal>();
+		for (AbstractExecuteOperator op : this.operators.values()) {
+			if (op.getQueryTracker() == null)
+				continue;
+
+			String trackerUrl = op.getQueryTracker().getUrl();
+			HeartbeatSignal heartbeat = heartbeats.get(trackerUrl);
+			if (heartbeat == null) {
+				heartbeat = new HeartbeatSignal(this.computeNodeDesc);
+				heartbeats.put(trackerUrl, heartbeat);
+			}
+			heartbeat.addOperatorStatus(op.getOperatorId(), op.getStatus());
+		}
+
+		for (Map.Entry<String, HeartbeatSignal> entry : heartbeats.entrySet()) {
+			QueryTrackerClient client = this.qTrackerClients.get(entry
+					.getKey());
+			if (client == null) {
+				client = new QueryTrackerClient(entry.getKey());
+				this.qTrackerClients.put(entry.getKey(), client);
+			}
+
+			try {
+				Error err = client.heartbeat(entry.getValue());
+				if (err.isError())
+					logger.log(Level.WARNING, "Heartbeat to query tracker "
+							+ entry.getKey() + " failed: " + err);
+			} catch (Exception e) {
+				logger.log(Level.WARNING, "Heartbeat to query tracker "
+						+ entry.getKey() + " failed: " + e.getMessage());
+			}
+		}
+	}
 	
 	/**
 	 * Shut down compute node and kill all operators
 	 * @return
 	 */
 	public synchronized void shutdown() {
+		if (this.heartbeatTimer != null) {
+			this.heartbeatTimer.shutdownNow();
+			this.heartbeatTimer = null;
+		}
 		this.killAllOperators();
 		this.operators.clear();
 		this.executingOperators.clear();
-		this.receivedReadySignals.clear();
+		this.readySignals.clear();
 	}
 
 	/**
-	 * Kill all threads running an operator
+	 * Kill all queued operators and interrupt all threads running an operator
 	 * @return
 	 */
 	private void killAllOperators() {
-				Set<Long> runningThreads = new HashSet<Long>(
+		ArrayList<OperatorTask> tasks = new ArrayList<OperatorTask>(
 				this.executingOperators.values());
-		Set<Thread> threadSet = Thread.getAllStackTraces().keySet();
-		for (Thread thread : threadSet) {
-			if (thread != null && runningThreads.contains(thread.getId())) {
-				thread.interrupt();
-				//System.err.println("Killing thread "+thread.getId());
-				while (!thread.isInterrupted()) {
-					// wait
-				}
-				//System.err.println("Killed thread "+thread.getId());
-			}
-		}
+		this.executorPool.killAll(tasks);
 	}
 
 	/**
@@ -164,6 +269,8 @@ public class ComputeNode {
 	public Error openOperator(final AbstractExecuteOperator op) {
 		Error err = new Error();
 
+		this.readySignals.put(op.getOperatorId(), new ReadySignalCountdown(
+				op.getSourceTrackerIds()));
 		this.operators.put(op.getOperatorId(), op);
 
 		// open operator
@@ -173,6 +280,23 @@ public class ComputeNode {
 		return err;
 	}
 
+	/**
+	 * Installs a batch of new operators (in the given order)
+	 * 
+	 * @param ops
+	 * @return error and status of each operator
+	 */
+	public Vector<Tuple<Error, EnumOperatorStatus>> openOperators(
+			final List<AbstractExecuteOperator> ops) {
+		Vector<Tuple<Error, EnumOperatorStatus>> results = new Vector<Tuple<Error, EnumOperatorStatus>>();
+		for (AbstractExecuteOperator op : ops) {
+			Error err = this.openOperator(op);
+			results.add(new Tuple<Error, EnumOperatorStatus>(err, op
+					.getStatus()));
+		}
+		return results;
+	}
+
 	/**
 	 * Receives signals of input operators which are ready and executes
 	 * consuming operator if all inputs are ready
@@ -189,48 +313,47 @@ public class ComputeNode {
 				: srcExecuteOpId.getParentId(1);
 		
 		final Identifier consumerExecuteOpId = signal.getConsumer();
-		final Identifier consumerTrackerOpId = (consumerExecuteOpId
-				.equals(Config.COMPUTE_NOOP_ID)) ? consumerExecuteOpId
-				: consumerExecuteOpId.getParentId(1);
 
 		// Get signaled operator
-		AbstractExecuteOperator op = null;
-		if (!operators.containsKey(consumerExecuteOpId)) {
+		final AbstractExecuteOperator op = operators.get(consumerExecuteOpId);
+		final ReadySignalCountdown countdown = readySignals
+				.get(consumerExecuteOpId);
+		if (op == null || countdown == null) {
 			this.logger.log(Level.SEVERE, "Operator " + consumerExecuteOpId + " not found for execution." );
 			return err;
 		}
 
-		op = operators.get(consumerExecuteOpId);
 		logger.log(Level.INFO, "Received READY_SIGNAL for operator: "
 				+ consumerExecuteOpId + " from source: " + srcExecuteOpId);
 
-		// Add signaling source to list of finished sources
-		boolean execute = false;
-		this.readySignalsLock.lock();
-		HashSet<Identifier> sourceTrackerIds = null;
-		if (!this.receivedReadySignals.containsKey(consumerTrackerOpId)) {
-			sourceTrackerIds = new HashSet<Identifier>();
-			this.receivedReadySignals
-					.put(consumerTrackerOpId, sourceTrackerIds);
-		} else {
-			sourceTrackerIds = this.receivedReadySignals
-					.get(consumerTrackerOpId);
-		}
-		sourceTrackerIds.add(srcTrackerOpId);
-
-		if (sourceTrackerIds.containsAll(op.getSourceTrackerIds())) {
-
+		// probe side of a join: keep filter which is applied to output
+		if (signal.getBloomFilter() != null
+				&& op instanceof MySQLExecuteOperator)
+			((MySQLExecuteOperator) op).setBloomFilter(signal
+					.getBloomFilter());
+
+		// build side of a join: keep heavy hitters which are replicated
+		if (signal.getHeavyHitters() != null
+				&& op instanceof MySQLExecuteOperator)
+			((MySQLExecuteOperator) op).setHeavyHitters(signal
+					.getHeavyHitters());
+
+		// Count down signaling source (only the last signal executes the
+		// operator)
+		boolean execute = countdown.signal(srcTrackerOpId);
+		if (execute) {
 			logger.log(Level.INFO, "All READY_SIGNALs received for operator: "
 					+ op.getOperatorId() + ", " + op.getSourceTrackerIds());
-			execute = true;
 		}
-		readySignalsLock.unlock();
 
-		// execute operator
+		// queue operator for execution
 		if (execute) {
 			OperatorExecutor executor = new OperatorExecutor(op);
-			executingOperators.put(op.getOperatorId(), executor.getId());
-			executor.start();
+			executingOperators.put(op.getOperatorId(), executor);
+			executorPool.submit(executor);
+			logger.log(Level.INFO, "Queued operator " + op.getOperatorId()
+					+ " with priority " + op.getPriority() + " in pool "
+					+ executorPool);
 			return executor.getError();
 		}
 
@@ -258,18 +381,16 @@ public class ComputeNode {
 	}
 
 	/**
-	 * Executes operator and signals consumer
+	 * Executes operator in a slot of the executor pool and signals consumer
 	 * 
 	 * @param op
 	 * @return
 	 */
-	private class OperatorExecutor extends Thread {
-		private AbstractExecuteOperator op;
+	private class OperatorExecutor extends OperatorTask {
 		private Error err = new Error();
 
 		public OperatorExecutor(AbstractExecuteOperator op) {
-			super();
-			this.op = op;
+			super(op);
 		}
 
 		public Error getError() {
@@ -277,6 +398,10 @@ public class ComputeNode {
 		}
 
 		private void executeOperator(final AbstractExecuteOperator op) {
+			logger.log(Level.INFO, "Start operator " + op.getOperatorId()
+					+ " after waiting " + this.getQueueWaitTime()
+					+ "ms for a free slot");
+
 			// start timer
 			timeMeasure.start(op.getOperatorId().toString());
 
@@ -300,7 +425,7 @@ public class ComputeNode {
 		}
 
 		@Override
-		public void run() {
+		protected void execute() {
 			//System.out.println("Start op "+op.getOperatorId());
 			try{
 				this.executeOperator(op);
@@ -328,28 +453,27 @@ public class ComputeNode {
 		Identifier failedExecOpId = killSignal.getFailedExecOpId();
 
 		final AbstractExecuteOperator op = operators.get(failedExecOpId);
+		final OperatorExecutor executor = executingOperators.get(failedExecOpId);
+		if (op == null) {
+			return err;
+		}
 
-		if (!executingOperators.containsKey(failedExecOpId)) {
+		if (executor == null) {
 			logger.log(Level.INFO, "Failed Operator " + failedExecOpId
 					+ " has been removed from the execution plan");
 			this.removeOperator(op);
+		} else if (!executor.isStarted()) {
+			logger.log(Level.INFO, "Failed Operator " + failedExecOpId
+					+ " has been removed from the executor queue");
+			this.executorPool.kill(executor);
+			this.removeOperator(op);
 		} else {
-			Set<Thread> threadSet = Thread.getAllStackTraces().keySet();
-			Long failedOpThreadId = executingOperators.get(failedExecOpId);
-			for (Thread thread : threadSet) {
-				if (thread != null && thread.getId() == failedOpThreadId) {
-					logger.log(Level.INFO, "Failed Operator " + failedExecOpId
-							+ " running on thread " + thread.getId()
-							+ " has been interrupted");
-					thread.interrupt();
-					break;
-
-				}
-			}
-
+			logger.log(Level.INFO, "Failed Operator " + failedExecOpId
+					+ " running in executor pool has been interrupted");
+			this.executorPool.kill(executor);
 		}
 
-		this.receivedReadySignals.remove(op.getOperatorId().getParentId(1));
+		this.readySignals.remove(failedExecOpId);
 		return err;
 	}
 
@@ -358,12 +482,46 @@ public class ComputeNode {
 	 * 
 	 * @param op
 	 */
-	private synchronized void removeOperator(final AbstractExecuteOperator op) {
+	private void removeOperator(final AbstractExecuteOperator op) {
 		this.operators.remove(op.getOperatorId());
-		this.receivedReadySignals.remove(op.getOperatorId());
+		this.readySignals.remove(op.getOperatorId());
 		this.executingOperators.remove(op.getOperatorId());
 	}
 
+	/**
+	 * Sources of a deployed operator which did not signal yet. Each distinct
+	 * source is counted down once (i.e., duplicate signals are ignored) and
+	 * only the last signal releases the operator.
+	 */
+	private static class ReadySignalCountdown {
+		private final Set<Identifier> pendingSources = Collections
+				.newSetFromMap(new ConcurrentHashMap<Identifier, Boolean>());
+		private final AtomicInteger pendingCount;
+		private final AtomicBoolean released = new AtomicBoolean(false);
+
+		// constructors
+		public ReadySignalCountdown(Set<Identifier> sourceTrackerIds) {
+			this.pendingSources.addAll(sourceTrackerIds);
+			this.pendingCount = new AtomicInteger(this.pendingSources.size());
+		}
+
+		// methods
+		/**
+		 * Counts down a signaling source
+		 * 
+		 * @param sourceTrackerId
+		 * @return true if operator is released for execution by this signal
+		 */
+		public boolean signal(Identifier sourceTrackerId) {
+			if (this.pendingSources.remove(sourceTrackerId))
+				this.pendingCount.decrementAndGet();
+
+			if (this.pendingCount.get() > 0)
+				return false;
+			return this.released.compareAndSet(false, true);
+		}
+	}
+
 	/**
 	 * Create MYSQL_ERROR from an exception
 	 * 
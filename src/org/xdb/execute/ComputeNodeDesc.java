@@ -1,9 +1,13 @@
 package org.xdb.execute;
 
+import java.io.ObjectStreamException;
+
+import org.xdb.Config;
 import org.xdb.server.AbstractNodeDesc;
+import org.xdb.server.WireMessage;
 
 /**
- * Describes the properties of a ComputeNode (i.e., URL, port). 
+ * Describes the properties of a ComputeNode (i.e., URL, port, executor slots). 
  * 
  * @author Timo Jacobs
  * 
@@ -12,17 +16,29 @@ public class ComputeNodeDesc extends AbstractNodeDesc {
 	private static final long serialVersionUID = -6943589620125008473L;
 
 	private final int port;
+	
+	// number of operators which can be executed concurrently
+	private final int slots;
 
 	// constructors
 	public ComputeNodeDesc(final String host, final int port) {
+		this(host, port, Config.COMPUTE_SLOTS);
+	}
+	
+	public ComputeNodeDesc(final String host, final int port, final int slots) {
 		super(host);
 		this.port = port;
+		this.slots = slots;
 	}
 
 	// getters and setters
 	public int getPort() {
 		return port;
 	}
+	
+	public int getSlots() {
+		return slots;
+	}
 
 	// methods
 	@Override
@@ -44,4 +60,8 @@ public class ComputeNodeDesc extends AbstractNodeDesc {
 		
 		return true;
 	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return WireMessage.replace(this);
+	}
 }
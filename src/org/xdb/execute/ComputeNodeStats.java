@@ -0,0 +1,166 @@
+package org.xdb.execute;
+
+import java.io.Serializable;
+
+/**
+ * Snapshot of the resource usage of a compute node (operators, executor slots,
+ * connection pool and memory) which is returned when the compute server is
+ * pinged or registers at the master tracker
+ *
+ */
+public class ComputeNodeStats implements Serializable {
+
+	private static final long serialVersionUID = 2968317541046224735L;
+
+	// operators
+	private int deployedOperators;
+	private int runningOperators;
+
+	// executor pool
+	private int slots;
+	private int activeSlots;
+	private int queuedOperators;
+	private double avgQueueWaitTime;
+	private long maxQueueWaitTime;
+
+	// connection pool
+	private int poolMaxSize;
+	private int poolActiveConns;
+	private int poolIdleConns;
+	private long poolBorrowCount;
+	private double poolAvgBorrowWaitTime;
+	private long poolMaxBorrowWaitTime;
+	private long poolReusedStmts;
+
+	// memory
+	private long usedMemory;
+	private long maxMemory;
+
+	// constructors
+	public ComputeNodeStats(int deployedOperators, int runningOperators,
+			OperatorExecutorPool executorPool, ConnectionPool connPool) {
+		this.deployedOperators = deployedOperators;
+		this.runningOperators = runningOperators;
+
+		this.slots = executorPool.getSlots();
+		this.activeSlots = executorPool.getActiveSlots();
+		this.queuedOperators = executorPool.getQueueLength();
+		this.avgQueueWaitTime = executorPool.getAvgQueueWaitTime();
+		this.maxQueueWaitTime = executorPool.getMaxQueueWaitTime();
+
+		this.poolMaxSize = connPool.getMaxSize();
+		this.poolActiveConns = connPool.getActiveConnections();
+		this.poolIdleConns = connPool.getIdleConnections();
+		this.poolBorrowCount = connPool.getBorrowCount();
+		this.poolAvgBorrowWaitTime = connPool.getAvgBorrowWaitTime();
+		this.poolMaxBorrowWaitTime = connPool.getMaxBorrowWaitTime();
+		this.poolReusedStmts = connPool.getReusedStatements();
+
+		Runtime runtime = Runtime.getRuntime();
+		this.usedMemory = runtime.totalMemory() - runtime.freeMemory();
+		this.maxMemory = runtime.maxMemory();
+	}
+
+	// getters and setters
+	public int getDeployedOperators() {
+		return deployedOperators;
+	}
+
+	public int getRunningOperators() {
+		return runningOperators;
+	}
+
+	public int getSlots() {
+		return slots;
+	}
+
+	public int getActiveSlots() {
+		return activeSlots;
+	}
+
+	public int getFreeSlots() {
+		return Math.max(0, slots - activeSlots);
+	}
+
+	public int getQueuedOperators() {
+		return queuedOperators;
+	}
+
+	public double getAvgQueueWaitTime() {
+		return avgQueueWaitTime;
+	}
+
+	public long getMaxQueueWaitTime() {
+		return maxQueueWaitTime;
+	}
+
+	public int getPoolMaxSize() {
+		return poolMaxSize;
+	}
+
+	public int getPoolActiveConnections() {
+		return poolActiveConns;
+	}
+
+	public int getPoolIdleConnections() {
+		return poolIdleConns;
+	}
+
+	public long getPoolBorrowCount() {
+		return poolBorrowCount;
+	}
+
+	public double getPoolAvgBorrowWaitTime() {
+		return poolAvgBorrowWaitTime;
+	}
+
+	public long getPoolMaxBorrowWaitTime() {
+		return poolMaxBorrowWaitTime;
+	}
+
+	public long getPoolReusedStatements() {
+		return poolReusedStmts;
+	}
+
+	public long getUsedMemory() {
+		return usedMemory;
+	}
+
+	public long getMaxMemory() {
+		return maxMemory;
+	}
+
+	// methods
+	/**
+	 * Returns load of compute node: executing and queued operators per
+	 * executor slot. Deployed operators which still wait for their sources,
+	 * busy MySQL connections and memory usage add a smaller share since they
+	 * only indicate future work.
+	 * 
+	 * @return load (0 = idle, 1 = all slots busy)
+	 */
+	public double getLoad() {
+		double slots = Math.max(1, this.slots);
+		int waitingOperators = Math.max(0, this.deployedOperators
+				- this.runningOperators);
+
+		double load = (this.activeSlots + this.queuedOperators) / slots;
+		load += 0.25 * waitingOperators / slots;
+		if (this.poolMaxSize > 0)
+			load += 0.25 * this.poolActiveConns / this.poolMaxSize;
+		if (this.maxMemory > 0 && this.maxMemory != Long.MAX_VALUE)
+			load += 0.25 * this.usedMemory / this.maxMemory;
+		return load;
+	}
+
+	@Override
+	public String toString() {
+		return "(operators=" + deployedOperators + "/" + runningOperators
+				+ ", slots=" + slots + ", active=" + activeSlots + ", queued="
+				+ queuedOperators + ", avgQueueWait=" + avgQueueWaitTime
+				+ "ms, pool=" + poolActiveConns + "/" + poolIdleConns + "/"
+				+ poolMaxSize + ", avgBorrowWait=" + poolAvgBorrowWaitTime
+				+ "ms, memory=" + (usedMemory >> 20) + "/" + (maxMemory >> 20)
+				+ "MB)";
+	}
+}
@@ -0,0 +1,409 @@
+package org.xdb.execute;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+
+/**
+ * Node-local pool of JDBC connections to the compute DB. Execute operators
+ * borrow connections for open, execute and close instead of opening a new
+ * connection for each phase. The maximal size of the pool is tied to the
+ * executor slots of the compute nodes which use the pool.
+ *
+ * One pool exists per JDBC URL and user (i.e., compute servers which run in
+ * the same JVM share the pool of their local MySQL instance).
+ *
+ */
+public class ConnectionPool {
+
+	// pools: URL + user -> pool
+	private static final Map<String, ConnectionPool> pools = new HashMap<String, ConnectionPool>();
+
+	// connection parameters
+	private final String url;
+	private final String user;
+	private final String passwd;
+
+	// pool state
+	private final LinkedList<PooledConnection> idleConns = new LinkedList<PooledConnection>();
+	private int openConns = 0;
+	private int maxSize;
+	private int registeredSlots = 0;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition connReleased = lock.newCondition();
+
+	// statistics
+	private final AtomicLong borrowCount = new AtomicLong();
+	private final AtomicLong totalBorrowWaitTime = new AtomicLong();
+	private final AtomicLong maxBorrowWaitTime = new AtomicLong();
+	private final AtomicLong createdConns = new AtomicLong();
+	private final AtomicLong discardedConns = new AtomicLong();
+	private final AtomicLong reusedStmts = new AtomicLong();
+
+	// helper
+	private final Logger logger;
+
+	// constructors
+	private ConnectionPool(String url, String user, String passwd) {
+		this.url = url;
+		this.user = user;
+		this.passwd = passwd;
+		this.maxSize = Config.COMPUTE_SLOTS
+				* Config.COMPUTE_POOL_CONNS_PER_SLOT;
+		this.logger = XDBLog.getLogger(EnumXDBComponents.COMPUTE_SERVER);
+	}
+
+	/**
+	 * Returns pool for given URL and user
+	 *
+	 * @param url
+	 * @param user
+	 * @param passwd
+	 * @return
+	 */
+	public static synchronized ConnectionPool getPool(String url, String user,
+			String passwd) {
+		String key = user + "@" + url;
+		ConnectionPool pool = pools.get(key);
+		if (pool == null) {
+			pool = new ConnectionPool(url, user, passwd);
+			pools.put(key, pool);
+		}
+		return pool;
+	}
+
+	/**
+	 * Returns pool for the compute DB (i.e., database with intermediate
+	 * results)
+	 *
+	 * @return
+	 */
+	public static ConnectionPool getComputePool() {
+		return getPool(Config.COMPUTE_DB_URL + Config.COMPUTE_DB_NAME,
+				Config.COMPUTE_DB_USER, Config.COMPUTE_DB_PASSWD);
+	}
+
+	/**
+	 * Returns pool for the compute MySQL instance without a default database
+	 * (e.g., for administrative commands)
+	 *
+	 * @return
+	 */
+	public static ConnectionPool getComputeServerPool() {
+		return getPool(Config.COMPUTE_DB_URL, Config.COMPUTE_DB_USER,
+				Config.COMPUTE_DB_PASSWD);
+	}
+
+	/**
+	 * Closes all idle connections of all pools (e.g., after the compute DB was
+	 * recreated or its processes were killed)
+	 */
+	public static synchronized void clearAll() {
+		for (ConnectionPool pool : pools.values()) {
+			pool.clear();
+		}
+	}
+
+	// getters and setters
+	public String getUrl() {
+		return this.url;
+	}
+
+	public int getMaxSize() {
+		this.lock.lock();
+		try {
+			return this.maxSize;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	public int getActiveConnections() {
+		this.lock.lock();
+		try {
+			return this.openConns - this.idleConns.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	public int getIdleConnections() {
+		this.lock.lock();
+		try {
+			return this.idleConns.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	public long getBorrowCount() {
+		return this.borrowCount.get();
+	}
+
+	public long getMaxBorrowWaitTime() {
+		return this.maxBorrowWaitTime.get();
+	}
+
+	public double getAvgBorrowWaitTime() {
+		long borrowed = this.borrowCount.get();
+		if (borrowed == 0)
+			return 0.0;
+		return ((double) this.totalBorrowWaitTime.get()) / borrowed;
+	}
+
+	public long getCreatedConnections() {
+		return this.createdConns.get();
+	}
+
+	public long getDiscardedConnections() {
+		return this.discardedConns.get();
+	}
+
+	public long getReusedStatements() {
+		return this.reusedStmts.get();
+	}
+
+	void recordStatementReuse() {
+		this.reusedStmts.incrementAndGet();
+	}
+
+	// methods
+	/**
+	 * Increases maximal pool size for the executor slots of a compute node
+	 * which uses this pool
+	 *
+	 * @param slots
+	 */
+	public void registerSlots(int slots) {
+		this.lock.lock();
+		try {
+			this.registeredSlots += slots;
+			this.maxSize = Math.max(this.maxSize, this.registeredSlots
+					* Config.COMPUTE_POOL_CONNS_PER_SLOT);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Borrows a connection from the pool. Waits if all connections are in use
+	 * until a connection is returned or the borrow timeout is reached.
+	 *
+	 * @return
+	 * @throws SQLException
+	 */
+	public PooledConnection borrow() throws SQLException {
+		long startTime = System.currentTimeMillis();
+		PooledConnection pooledConn = null;
+
+		while (pooledConn == null) {
+			boolean create = false;
+
+			this.lock.lock();
+			try {
+				long timeout = TimeUnit.MILLISECONDS
+						.toNanos(Config.COMPUTE_POOL_BORROW_TIMEOUT);
+				while (this.idleConns.isEmpty() && this.openConns >= this.maxSize) {
+					if (timeout <= 0) {
+						throw new SQLException("Connection pool for "
+								+ this.url + " exhausted (max. size "
+								+ this.maxSize + ")");
+					}
+					timeout = this.connReleased.awaitNanos(timeout);
+				}
+
+				if (!this.idleConns.isEmpty()) {
+					pooledConn = this.idleConns.removeFirst();
+				} else {
+					this.openConns++;
+					create = true;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SQLException("Interrupted while waiting for connection", e);
+			} finally {
+				this.lock.unlock();
+			}
+
+			// create or validate connection outside of lock
+			if (create) {
+				pooledConn = this.createConnection();
+			} else if (!this.isValid(pooledConn)) {
+				this.discard(pooledConn);
+				pooledConn = null;
+			}
+		}
+
+		this.recordBorrowWaitTime(System.currentTimeMillis() - startTime);
+		return pooledConn;
+	}
+
+	/**
+	 * Returns connection to the pool. Session state of the connection is
+	 * reset so that it is not visible to the next borrower.
+	 *
+	 * @param pooledConn
+	 */
+	public void release(PooledConnection pooledConn) {
+		if (pooledConn == null)
+			return;
+
+		// broken connections are only kept if they are still valid
+		if (pooledConn.isBroken()) {
+			if (!this.isAlive(pooledConn)) {
+				this.discard(pooledConn);
+				return;
+			}
+			pooledConn.resetBroken();
+		}
+
+		if (!pooledConn.resetSession()) {
+			this.discard(pooledConn);
+			return;
+		}
+
+		pooledConn.setLastUsed(System.currentTimeMillis());
+		this.lock.lock();
+		try {
+			this.idleConns.addFirst(pooledConn);
+			this.connReleased.signal();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Closes all idle connections
+	 */
+	public void clear() {
+		List<PooledConnection> closedConns = new ArrayList<PooledConnection>();
+		this.lock.lock();
+		try {
+			closedConns.addAll(this.idleConns);
+			this.idleConns.clear();
+			this.openConns -= closedConns.size();
+			this.connReleased.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+
+		for (PooledConnection pooledConn : closedConns) {
+			pooledConn.close();
+		}
+	}
+
+	/**
+	 * Creates a new physical connection. The slot of the connection was
+	 * already reserved by the caller.
+	 *
+	 * @return
+	 * @throws SQLException
+	 */
+	private PooledConnection createConnection() throws SQLException {
+		try {
+			Class.forName(Config.COMPUTE_DRIVER_CLASS);
+			Connection conn = DriverManager.getConnection(this.url, this.user,
+					this.passwd);
+			this.createdConns.incrementAndGet();
+			return new PooledConnection(this, conn);
+		} catch (Exception e) {
+			this.lock.lock();
+			try {
+				this.openConns--;
+				this.connReleased.signal();
+			} finally {
+				this.lock.unlock();
+			}
+
+			if (e instanceof SQLException)
+				throw (SQLException) e;
+			throw new SQLException(e);
+		}
+	}
+
+	/**
+	 * Health check for idle connections before they are handed out
+	 *
+	 * @param pooledConn
+	 * @return
+	 */
+	private boolean isValid(PooledConnection pooledConn) {
+		long idleTime = System.currentTimeMillis() - pooledConn.getLastUsed();
+		if (idleTime < Config.COMPUTE_POOL_VALIDATION_INTERVAL) {
+			try {
+				return !pooledConn.getConnection().isClosed();
+			} catch (SQLException e) {
+				return false;
+			}
+		}
+		return this.isAlive(pooledConn);
+	}
+
+	/**
+	 * Checks connection with a round trip to the database
+	 *
+	 * @param pooledConn
+	 * @return
+	 */
+	private boolean isAlive(PooledConnection pooledConn) {
+		try {
+			return pooledConn.getConnection().isValid(
+					Config.COMPUTE_POOL_VALIDATION_TIMEOUT);
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Closes connection and frees its slot in the pool
+	 *
+	 * @param pooledConn
+	 */
+	private void discard(PooledConnection pooledConn) {
+		this.logger.log(Level.INFO, "Discard invalid connection to " + this.url);
+		pooledConn.close();
+		this.discardedConns.incrementAndGet();
+
+		this.lock.lock();
+		try {
+			this.openConns--;
+			this.connReleased.signal();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void recordBorrowWaitTime(long waitTime) {
+		this.borrowCount.incrementAndGet();
+		this.totalBorrowWaitTime.addAndGet(waitTime);
+
+		long max = this.maxBorrowWaitTime.get();
+		while (waitTime > max
+				&& !this.maxBorrowWaitTime.compareAndSet(max, waitTime)) {
+			max = this.maxBorrowWaitTime.get();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "(url=" + this.url + ", max=" + this.getMaxSize() + ", active="
+				+ this.getActiveConnections() + ", idle="
+				+ this.getIdleConnections() + ", avgBorrowWait="
+				+ this.getAvgBorrowWaitTime() + "ms)";
+	}
+}
@@ -0,0 +1,242 @@
+package org.xdb.execute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.xdb.execute.operators.AbstractExecuteOperator;
+
+/**
+ * Bounded pool of executor threads on a compute node. Operators which are
+ * ready for execution are queued by their priority (i.e., critical-path depth
+ * in the query tracker plan) and executed as soon as a slot becomes free.
+ *
+ */
+public class OperatorExecutorPool {
+
+	/**
+	 * Task which executes one operator in a slot of the pool
+	 *
+	 */
+	public static abstract class OperatorTask implements Runnable,
+			Comparable<OperatorTask> {
+		protected final AbstractExecuteOperator op;
+
+		// FIFO order for operators with same priority
+		private final long seqNo = lastSeqNo.getAndIncrement();
+
+		// time when task was queued and started
+		private final long queuedAt = System.currentTimeMillis();
+		private long startedAt = -1;
+
+		// thread which currently executes the task
+		private Thread runner = null;
+		private boolean killed = false;
+
+		// pool which executes task
+		private OperatorExecutorPool pool;
+
+		// constructors
+		public OperatorTask(AbstractExecuteOperator op) {
+			this.op = op;
+		}
+
+		// getters and setters
+		public AbstractExecuteOperator getOperator() {
+			return this.op;
+		}
+
+		/**
+		 * Returns the time the task waited for a free slot
+		 *
+		 * @return wait time in ms (or time waiting so far if not started)
+		 */
+		public synchronized long getQueueWaitTime() {
+			if (this.startedAt < 0)
+				return System.currentTimeMillis() - this.queuedAt;
+			return this.startedAt - this.queuedAt;
+		}
+
+		public synchronized boolean isStarted() {
+			return this.startedAt >= 0;
+		}
+
+		// methods
+		/**
+		 * Interrupts task if running, otherwise the task will be skipped when
+		 * it is dequeued
+		 */
+		public synchronized void kill() {
+			this.killed = true;
+			if (this.runner != null) {
+				this.runner.interrupt();
+			}
+		}
+
+		@Override
+		public int compareTo(OperatorTask o) {
+			int diff = o.op.getPriority() - this.op.getPriority();
+			if (diff != 0)
+				return diff;
+			return (this.seqNo < o.seqNo) ? -1 : ((this.seqNo == o.seqNo) ? 0
+					: 1);
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				if (this.killed)
+					return;
+				this.startedAt = System.currentTimeMillis();
+				this.runner = Thread.currentThread();
+			}
+			this.pool.recordQueueWaitTime(this.getQueueWaitTime());
+
+			try {
+				this.execute();
+			} finally {
+				synchronized (this) {
+					this.runner = null;
+					// do not leak interrupt into next task of this thread
+					Thread.interrupted();
+				}
+			}
+		}
+
+		/**
+		 * Operator specific execution
+		 */
+		protected abstract void execute();
+	}
+
+	// sequence number for FIFO order
+	private static final AtomicLong lastSeqNo = new AtomicLong();
+
+	// executor with priority queue
+	private final ThreadPoolExecutor executor;
+	private final int slots;
+
+	// statistics about queue waiting
+	private final AtomicLong totalQueueWaitTime = new AtomicLong();
+	private final AtomicLong maxQueueWaitTime = new AtomicLong();
+	private final AtomicLong startedTasks = new AtomicLong();
+
+	// constructors
+	public OperatorExecutorPool(final int slots) {
+		this.slots = slots;
+		this.executor = new ThreadPoolExecutor(slots, slots, 0L,
+				TimeUnit.MILLISECONDS, new PriorityBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+					private final AtomicInteger lastThreadNo = new AtomicInteger();
+
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "OperatorExecutor-"
+								+ lastThreadNo.incrementAndGet());
+						t.setDaemon(true);
+						return t;
+					}
+				});
+
+		// all slots must exist to have queued tasks ordered by priority
+		this.executor.prestartAllCoreThreads();
+	}
+
+	// getters and setters
+	public int getSlots() {
+		return this.slots;
+	}
+
+	public int getActiveSlots() {
+		return this.executor.getActiveCount();
+	}
+
+	public int getFreeSlots() {
+		return Math.max(0, this.slots - this.executor.getActiveCount());
+	}
+
+	public int getQueueLength() {
+		return this.executor.getQueue().size();
+	}
+
+	public long getMaxQueueWaitTime() {
+		return this.maxQueueWaitTime.get();
+	}
+
+	public long getTotalQueueWaitTime() {
+		return this.totalQueueWaitTime.get();
+	}
+
+	public double getAvgQueueWaitTime() {
+		long started = this.startedTasks.get();
+		if (started == 0)
+			return 0.0;
+		return ((double) this.totalQueueWaitTime.get()) / started;
+	}
+
+	// methods
+	/**
+	 * Queues task for execution
+	 *
+	 * @param task
+	 */
+	public void submit(final OperatorTask task) {
+		task.pool = this;
+		this.executor.execute(task);
+	}
+
+	/**
+	 * Kills task: removes it from queue if waiting, otherwise interrupts its
+	 * thread
+	 *
+	 * @param task
+	 */
+	public void kill(final OperatorTask task) {
+		task.kill();
+		this.executor.remove(task);
+	}
+
+	/**
+	 * Kills all queued and running tasks. The pool stays usable.
+	 *
+	 * @param tasks
+	 *            tasks which are currently queued or running
+	 */
+	public void killAll(final List<OperatorTask> tasks) {
+		List<Runnable> queuedTasks = new ArrayList<Runnable>();
+		this.executor.getQueue().drainTo(queuedTasks);
+		for (OperatorTask task : tasks) {
+			task.kill();
+		}
+	}
+
+	/**
+	 * Stops all threads of the pool
+	 */
+	public void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+	private void recordQueueWaitTime(long waitTime) {
+		this.startedTasks.incrementAndGet();
+		this.totalQueueWaitTime.addAndGet(waitTime);
+
+		long max = this.maxQueueWaitTime.get();
+		while (waitTime > max
+				&& !this.maxQueueWaitTime.compareAndSet(max, waitTime)) {
+			max = this.maxQueueWaitTime.get();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "(slots=" + this.slots + ", active=" + this.getActiveSlots()
+				+ ", queued=" + this.getQueueLength() + ", avgWait="
+				+ this.getAvgQueueWaitTime() + "ms)";
+	}
+}
@@ -0,0 +1,213 @@
+package org.xdb.execute;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.xdb.Config;
+
+/**
+ * JDBC connection which is handed out by a connection pool. Keeps a cache of
+ * prepared statements so that repeated statements on the same connection are
+ * only prepared once. User variables which are set in the session of the
+ * connection are reset before the connection is handed out again.
+ *
+ */
+public class PooledConnection {
+
+	// LRU cache: SQL -> prepared statement
+	private class StatementCache extends
+			LinkedHashMap<String, PreparedStatement> {
+		private static final long serialVersionUID = 5474187924512386717L;
+
+		public StatementCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(
+				Map.Entry<String, PreparedStatement> eldest) {
+			if (this.size() > Config.COMPUTE_POOL_STMT_CACHE_SIZE) {
+				closeStatement(eldest.getValue());
+				return true;
+			}
+			return false;
+		}
+	}
+
+	// physical connection
+	private final Connection conn;
+
+	// pool which owns connection
+	private final ConnectionPool pool;
+
+	// cache of prepared statements
+	private final StatementCache stmtCache = new StatementCache();
+
+	// user variables set in the session of the connection
+	private final Set<String> sessionVariables = new HashSet<String>();
+
+	// time when connection was returned to pool
+	private long lastUsed = System.currentTimeMillis();
+
+	// connection must not be reused
+	private boolean broken = false;
+
+	// constructors
+	PooledConnection(ConnectionPool pool, Connection conn) {
+		this.pool = pool;
+		this.conn = conn;
+	}
+
+	// getters and setters
+	public Connection getConnection() {
+		return this.conn;
+	}
+
+	public ConnectionPool getPool() {
+		return this.pool;
+	}
+
+	long getLastUsed() {
+		return this.lastUsed;
+	}
+
+	void setLastUsed(long lastUsed) {
+		this.lastUsed = lastUsed;
+	}
+
+	/**
+	 * Marks connection as broken (e.g., after an SQL error) so that it is
+	 * validated before it is reused
+	 */
+	public void markBroken() {
+		this.broken = true;
+	}
+
+	boolean isBroken() {
+		return this.broken;
+	}
+
+	void resetBroken() {
+		this.broken = false;
+	}
+
+	// methods
+	/**
+	 * Returns a prepared statement for given SQL from the cache or prepares a
+	 * new one
+	 *
+	 * @param sql
+	 * @return
+	 * @throws SQLException
+	 */
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		PreparedStatement stmt = this.stmtCache.get(sql);
+		if (stmt == null) {
+			stmt = this.conn.prepareStatement(sql);
+			this.stmtCache.put(sql, stmt);
+		} else {
+			stmt.clearParameters();
+			this.pool.recordStatementReuse();
+		}
+		return stmt;
+	}
+
+	/**
+	 * Executes a statement which is not cached (e.g., DDL statements)
+	 *
+	 * @param sql
+	 * @throws SQLException
+	 */
+	public void execute(String sql) throws SQLException {
+		Statement stmt = this.conn.createStatement();
+		try {
+			stmt.execute(sql);
+		} finally {
+			stmt.close();
+		}
+	}
+
+	/**
+	 * Registers a user variable (e.g., @var) which is set in the session of
+	 * the connection. Registered variables are reset when the connection is
+	 * returned to its pool.
+	 *
+	 * @param variable
+	 */
+	public void addSessionVariable(String variable) {
+		this.sessionVariables.add(variable);
+	}
+
+	/**
+	 * Resets registered user variables of the session
+	 *
+	 * @return false if the session could not be reset
+	 */
+	boolean resetSession() {
+		if (this.sessionVariables.isEmpty())
+			return true;
+
+		StringBuilder sql = new StringBuilder("SET ");
+		for (String variable : this.sessionVariables) {
+			if (sql.length() > 4)
+				sql.append(", ");
+			sql.append(variable);
+			sql.append(" = NULL");
+		}
+		this.sessionVariables.clear();
+
+		try {
+			this.execute(sql.toString());
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Creates a new (non-cached) statement
+	 *
+	 * @return
+	 * @throws SQLException
+	 */
+	public Statement createStatement() throws SQLException {
+		return this.conn.createStatement();
+	}
+
+	/**
+	 * Returns connection to its pool
+	 */
+	public void release() {
+		this.pool.release(this);
+	}
+
+	/**
+	 * Closes all cached statements and the physical connection
+	 */
+	void close() {
+		for (PreparedStatement stmt : this.stmtCache.values()) {
+			closeStatement(stmt);
+		}
+		this.stmtCache.clear();
+
+		try {
+			this.conn.close();
+		} catch (SQLException e) {
+			// ignore
+		}
+	}
+
+	private void closeStatement(PreparedStatement stmt) {
+		try {
+			stmt.close();
+		} catch (SQLException e) {
+			// ignore
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package org.xdb.execute.exchange;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.xdb.execute.PooledConnection;
+import org.xdb.execute.exchange.ExchangeProtocol.Frame;
+
+/**
+ * Client which ships a remote input from the exchange server of its producer
+ * and bulk loads it into a local table using multi-row inserts
+ *
+ */
+public class ExchangeClient {
+
+	// connection to local compute DB
+	private final PooledConnection pooledConn;
+
+	// constructors
+	public ExchangeClient(PooledConnection pooledConn) {
+		this.pooledConn = pooledConn;
+	}
+
+	// methods
+	/**
+	 * Ships remote input into its local table
+	 *
+	 * @param input
+	 * @return statistics of the exchange edge
+	 * @throws IOException
+	 * @throws SQLException
+	 */
+	public ExchangeStats receive(ExchangeInput input) throws IOException,
+			SQLException {
+		ExchangeStats stats = new ExchangeStats(input);
+		long startTime = System.currentTimeMillis();
+
+		InetSocketAddress address = new InetSocketAddress(input
+				.getSourceNode().getUrl(), ExchangeServer.getPort(input
+				.getSourceNode().getPort()));
+		SocketChannel channel = SocketChannel.open();
+		Connection conn = this.pooledConn.getConnection();
+		boolean autoCommit = conn.getAutoCommit();
+		boolean loading = false;
+		boolean committed = false;
+
+		try {
+			channel.socket().setTcpNoDelay(true);
+			channel.socket().setReceiveBufferSize(1024 * 1024);
+			channel.connect(address);
+			stats.addWireBytes(ExchangeProtocol.writeRequest(channel,
+					input.getSourceTableName()));
+
+			// schema of input
+			Frame frame = this.readFrame(channel, stats);
+			if (frame.getType() != ExchangeProtocol.FRAME_SCHEMA)
+				throw new IOException("Expected schema frame but received type "
+						+ frame.getType());
+			TableLoader loader = new TableLoader(this.pooledConn,
+					ExchangeProtocol.decodeSchema(frame));
+
+			// load all batches in one transaction
+			conn.setAutoCommit(false);
+			loading = true;
+			long rows = 0;
+			frame = this.readFrame(channel, stats);
+			while (frame.getType() == ExchangeProtocol.FRAME_DATA) {
+				rows += loader.load(input.getTargetTableName(),
+						frame.getPayload());
+				frame = this.readFrame(channel, stats);
+			}
+
+			if (frame.getType() != ExchangeProtocol.FRAME_END)
+				throw new IOException("Expected end frame but received type "
+						+ frame.getType());
+			long sentRows = frame.getInput().readLong();
+			if (sentRows != rows)
+				throw new IOException("Received " + rows + " rows but "
+						+ sentRows + " rows were sent");
+
+			conn.commit();
+			committed = true;
+			stats.addRows(rows);
+		} finally {
+			// do not leave partially loaded input behind (rollback has no
+			// effect on non-transactional engines such as MEMORY)
+			if (!committed && !conn.getAutoCommit())
+				conn.rollback();
+			conn.setAutoCommit(autoCommit);
+			if (!committed && loading)
+				this.clear(conn, input.getTargetTableName());
+			channel.close();
+		}
+
+		stats.setTime(System.currentTimeMillis() - startTime);
+		return stats;
+	}
+
+	/**
+	 * Removes all rows of a partially loaded table
+	 * 
+	 * @param conn
+	 * @param tableName
+	 */
+	private void clear(Connection conn, String tableName) {
+		try {
+			Statement stmt = conn.createStatement();
+			try {
+				stmt.execute("TRUNCATE TABLE " + tableName);
+			} finally {
+				stmt.close();
+			}
+		} catch (SQLException e) {
+			// keep original failure of exchange
+			this.pooledConn.markBroken();
+		}
+	}
+
+	/**
+	 * Reads next frame and converts error frames into exceptions
+	 *
+	 * @param channel
+	 * @param stats
+	 * @return
+	 * @throws IOException
+	 */
+	private Frame readFrame(SocketChannel channel, ExchangeStats stats)
+			throws IOException {
+		Frame frame = ExchangeProtocol.readFrame(channel);
+		stats.addWireBytes(frame.getWireLength());
+		stats.addRawBytes(frame.getRawLength());
+
+		if (frame.getType() == ExchangeProtocol.FRAME_ERROR) {
+			throw new IOException("Sender failed: "
+					+ new String(frame.getPayload(), ExchangeProtocol.CHARSET));
+		}
+		return frame;
+	}
+}
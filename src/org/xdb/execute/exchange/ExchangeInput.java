@@ -0,0 +1,60 @@
+package org.xdb.execute.exchange;
+
+import java.io.Serializable;
+
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.utils.Identifier;
+
+/**
+ * Remote input of an execute operator which is shipped from the compute node
+ * of its producer into a local table before the operator is executed
+ *
+ */
+public class ExchangeInput implements Serializable {
+
+	private static final long serialVersionUID = -2873146580519326744L;
+
+	// compute node and tracker operator which produce the input
+	private final ComputeNodeDesc sourceNode;
+	private final Identifier sourceTrackerOpId;
+
+	// deployed table on source compute node
+	private final String sourceTableName;
+
+	// local table which is loaded
+	private final String targetTableName;
+
+	// constructors
+	public ExchangeInput(ComputeNodeDesc sourceNode,
+			Identifier sourceTrackerOpId, String sourceTableName,
+			String targetTableName) {
+		this.sourceNode = sourceNode;
+		this.sourceTrackerOpId = sourceTrackerOpId;
+		this.sourceTableName = sourceTableName;
+		this.targetTableName = targetTableName;
+	}
+
+	// getters and setters
+	public ComputeNodeDesc getSourceNode() {
+		return this.sourceNode;
+	}
+
+	public Identifier getSourceTrackerOpId() {
+		return this.sourceTrackerOpId;
+	}
+
+	public String getSourceTableName() {
+		return this.sourceTableName;
+	}
+
+	public String getTargetTableName() {
+		return this.targetTableName;
+	}
+
+	// methods
+	@Override
+	public String toString() {
+		return this.sourceNode + "/" + this.sourceTableName + " -> "
+				+ this.targetTableName;
+	}
+}
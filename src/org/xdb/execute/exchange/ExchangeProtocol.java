@@ -0,0 +1,434 @@
+package org.xdb.execute.exchange;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Wire format of the data exchange between compute servers.
+ *
+ * Request: [version:byte][length:int][table name:UTF-8]
+ *
+ * Response: sequence of frames [type:byte][flags:byte][raw length:int][length:int][payload]
+ * - SCHEMA: column count and JDBC types of the columns
+ * - DATA: row count and a batch of rows (optionally deflated)
+ * - END: total number of rows
+ * - ERROR: error message of the sender
+ *
+ */
+public class ExchangeProtocol {
+
+	// constants
+	public static final byte VERSION = 1;
+
+	public static final byte FRAME_SCHEMA = 1;
+	public static final byte FRAME_DATA = 2;
+	public static final byte FRAME_END = 3;
+	public static final byte FRAME_ERROR = 4;
+
+	public static final byte FLAG_NONE = 0;
+	public static final byte FLAG_COMPRESSED = 1;
+
+	public static final int HEADER_SIZE = 10;
+	public static final int MAX_FRAME_SIZE = 256 * 1024 * 1024;
+
+	// encoding of values
+	public static final byte KIND_LONG = 1;
+	public static final byte KIND_DOUBLE = 2;
+	public static final byte KIND_STRING = 3;
+	public static final byte KIND_BYTES = 4;
+
+	public static final Charset CHARSET = Charset.forName("UTF-8");
+
+	/**
+	 * Frame received from a channel
+	 *
+	 */
+	public static class Frame {
+		private final byte type;
+		private final byte[] payload;
+		private final int wireLength;
+
+		// constructors
+		public Frame(byte type, byte[] payload, int wireLength) {
+			this.type = type;
+			this.payload = payload;
+			this.wireLength = wireLength;
+		}
+
+		// getters and setters
+		public byte getType() {
+			return this.type;
+		}
+
+		public byte[] getPayload() {
+			return this.payload;
+		}
+
+		public int getRawLength() {
+			return this.payload.length;
+		}
+
+		public int getWireLength() {
+			return this.wireLength;
+		}
+
+		public DataInputStream getInput() {
+			return new DataInputStream(new ByteArrayInputStream(this.payload));
+		}
+	}
+
+	// methods
+	/**
+	 * Writes request for a table
+	 *
+	 * @param channel
+	 * @param tableName
+	 * @return number of bytes written
+	 * @throws IOException
+	 */
+	public static int writeRequest(SocketChannel channel, String tableName)
+			throws IOException {
+		byte[] name = tableName.getBytes(CHARSET);
+		ByteBuffer buffer = ByteBuffer.allocate(5 + name.length);
+		buffer.put(VERSION);
+		buffer.putInt(name.length);
+		buffer.put(name);
+		buffer.flip();
+		writeFully(channel, buffer);
+		return 5 + name.length;
+	}
+
+	/**
+	 * Reads request for a table
+	 *
+	 * @param channel
+	 * @return table name
+	 * @throws IOException
+	 */
+	public static String readRequest(SocketChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(5);
+		readFully(channel, header);
+		header.flip();
+
+		byte version = header.get();
+		if (version != VERSION)
+			throw new IOException("Unsupported exchange version " + version);
+
+		int length = header.getInt();
+		if (length <= 0 || length > 1024)
+			throw new IOException("Invalid table name length " + length);
+
+		ByteBuffer name = ByteBuffer.allocate(length);
+		readFully(channel, name);
+		return new String(name.array(), CHARSET);
+	}
+
+	/**
+	 * Writes a frame and compresses payload if requested
+	 *
+	 * @param channel
+	 * @param type
+	 * @param raw
+	 * @param compress
+	 * @return number of bytes written
+	 * @throws IOException
+	 */
+	public static int writeFrame(SocketChannel channel, byte type, byte[] raw,
+			boolean compress) throws IOException {
+		byte flags = FLAG_NONE;
+		byte[] payload = raw;
+		int length = raw.length;
+
+		if (compress && raw.length > 0) {
+			Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+			deflater.setInput(raw);
+			deflater.finish();
+			byte[] compressed = new byte[raw.length + 64];
+			int compressedLength = 0;
+			while (!deflater.finished() && compressedLength < compressed.length) {
+				compressedLength += deflater.deflate(compressed,
+						compressedLength, compressed.length - compressedLength);
+			}
+			boolean smaller = deflater.finished()
+					&& compressedLength < raw.length;
+			deflater.end();
+
+			// only send compressed payload if it is smaller
+			if (smaller) {
+				flags = FLAG_COMPRESSED;
+				payload = compressed;
+				length = compressedLength;
+			}
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.put(type);
+		header.put(flags);
+		header.putInt(raw.length);
+		header.putInt(length);
+		header.flip();
+
+		writeFully(channel, new ByteBuffer[] { header,
+				ByteBuffer.wrap(payload, 0, length) });
+		return HEADER_SIZE + length;
+	}
+
+	/**
+	 * Reads next frame and decompresses its payload
+	 *
+	 * @param channel
+	 * @return
+	 * @throws IOException
+	 */
+	public static Frame readFrame(SocketChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		readFully(channel, header);
+		header.flip();
+
+		byte type = header.get();
+		byte flags = header.get();
+		int rawLength = header.getInt();
+		int length = header.getInt();
+		if (rawLength < 0 || length < 0 || rawLength > MAX_FRAME_SIZE
+				|| length > MAX_FRAME_SIZE)
+			throw new IOException("Invalid exchange frame length " + length);
+
+		ByteBuffer payload = ByteBuffer.allocate(length);
+		readFully(channel, payload);
+
+		byte[] raw = payload.array();
+		if ((flags & FLAG_COMPRESSED) != 0) {
+			Inflater inflater = new Inflater();
+			inflater.setInput(raw);
+			raw = new byte[rawLength];
+			try {
+				int rawRead = 0;
+				while (rawRead < rawLength && !inflater.finished()) {
+					rawRead += inflater.inflate(raw, rawRead, rawLength - rawRead);
+				}
+			} catch (DataFormatException e) {
+				throw new IOException(e);
+			} finally {
+				inflater.end();
+			}
+		}
+		return new Frame(type, raw, HEADER_SIZE + length);
+	}
+
+	/**
+	 * Encodes schema of a result
+	 *
+	 * @param sqlTypes
+	 * @return
+	 * @throws IOException
+	 */
+	public static byte[] encodeSchema(int[] sqlTypes) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(sqlTypes.length);
+		for (int sqlType : sqlTypes) {
+			out.writeInt(sqlType);
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes schema of a result
+	 *
+	 * @param frame
+	 * @return JDBC types of columns
+	 * @throws IOException
+	 */
+	public static int[] decodeSchema(Frame frame) throws IOException {
+		DataInputStream in = frame.getInput();
+		int[] sqlTypes = new int[in.readInt()];
+		for (int i = 0; i < sqlTypes.length; ++i) {
+			sqlTypes[i] = in.readInt();
+		}
+		return sqlTypes;
+	}
+
+	/**
+	 * Encodes a batch of rows as payload of a data frame and resets the batch
+	 *
+	 * @param batch
+	 *            encoded rows
+	 * @param batchRows
+	 *            number of rows in batch
+	 * @return
+	 * @throws IOException
+	 */
+	public static byte[] encodeBatch(ByteArrayOutputStream batch, int batchRows)
+			throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+				batch.size() + 4);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(batchRows);
+		batch.writeTo(out);
+		out.flush();
+		batch.reset();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Returns encoding of values for a JDBC type
+	 *
+	 * @param sqlType
+	 * @return
+	 */
+	public static byte getKind(int sqlType) {
+		switch (sqlType) {
+		case Types.BIT:
+		case Types.BOOLEAN:
+		case Types.TINYINT:
+		case Types.SMALLINT:
+		case Types.INTEGER:
+		case Types.BIGINT:
+			return KIND_LONG;
+		case Types.FLOAT:
+		case Types.REAL:
+		case Types.DOUBLE:
+			return KIND_DOUBLE;
+		case Types.BINARY:
+		case Types.VARBINARY:
+		case Types.LONGVARBINARY:
+		case Types.BLOB:
+			return KIND_BYTES;
+		default:
+			// decimals and dates are shipped in their string representation
+			return KIND_STRING;
+		}
+	}
+
+	/**
+	 * Encodes a value of the current row of a result set
+	 *
+	 * @param out
+	 * @param rs
+	 * @param col
+	 * @param kind
+	 * @throws IOException
+	 * @throws SQLException
+	 */
+	public static void writeValue(DataOutputStream out, ResultSet rs, int col,
+			byte kind) throws IOException, SQLException {
+		switch (kind) {
+		case KIND_LONG:
+			long longValue = rs.getLong(col);
+			if (rs.wasNull()) {
+				out.writeBoolean(false);
+			} else {
+				out.writeBoolean(true);
+				out.writeLong(longValue);
+			}
+			break;
+		case KIND_DOUBLE:
+			double doubleValue = rs.getDouble(col);
+			if (rs.wasNull()) {
+				out.writeBoolean(false);
+			} else {
+				out.writeBoolean(true);
+				out.writeDouble(doubleValue);
+			}
+			break;
+		case KIND_BYTES:
+			writeBytes(out, rs.getBytes(col));
+			break;
+		default:
+			String stringValue = rs.getString(col);
+			writeBytes(out, (stringValue == null) ? null : stringValue
+					.getBytes(CHARSET));
+			break;
+		}
+	}
+
+	/**
+	 * Decodes a value and binds it to a parameter of a statement
+	 *
+	 * @param in
+	 * @param stmt
+	 * @param param
+	 * @param kind
+	 * @param sqlType
+	 * @throws IOException
+	 * @throws SQLException
+	 */
+	public static void readValue(DataInputStream in, PreparedStatement stmt,
+			int param, byte kind, int sqlType) throws IOException,
+			SQLException {
+		if (!in.readBoolean()) {
+			stmt.setNull(param, sqlType);
+			return;
+		}
+
+		switch (kind) {
+		case KIND_LONG:
+			stmt.setLong(param, in.readLong());
+			break;
+		case KIND_DOUBLE:
+			stmt.setDouble(param, in.readDouble());
+			break;
+		case KIND_BYTES:
+			stmt.setBytes(param, readBytes(in));
+			break;
+		default:
+			stmt.setString(param, new String(readBytes(in), CHARSET));
+			break;
+		}
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] value)
+			throws IOException {
+		if (value == null) {
+			out.writeBoolean(false);
+		} else {
+			out.writeBoolean(true);
+			out.writeInt(value.length);
+			out.write(value);
+		}
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		byte[] value = new byte[in.readInt()];
+		in.readFully(value);
+		return value;
+	}
+
+	private static void writeFully(SocketChannel channel, ByteBuffer buffer)
+			throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private static void writeFully(SocketChannel channel, ByteBuffer[] buffers)
+			throws IOException {
+		ByteBuffer last = buffers[buffers.length - 1];
+		while (last.hasRemaining()) {
+			channel.write(buffers);
+		}
+	}
+
+	private static void readFully(SocketChannel channel, ByteBuffer buffer)
+			throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0)
+				throw new EOFException("Exchange channel closed by peer");
+		}
+	}
+}
@@ -0,0 +1,347 @@
+package org.xdb.execute.exchange;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import org.xdb.Config;
+import org.xdb.error.EnumError;
+import org.xdb.error.Error;
+import org.xdb.execute.ConnectionPool;
+import org.xdb.execute.PooledConnection;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+
+/**
+ * Server of a compute node which streams deployed tables (i.e., intermediate
+ * results of operators) to the compute nodes of their consumers. Rows are read
+ * with a streaming result set from the local compute DB and sent as batched
+ * binary frames.
+ *
+ */
+public class ExchangeServer extends Thread {
+
+	// only deployed table names are allowed in requests
+	private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+	// port and channel
+	private final int port;
+	private ServerSocketChannel serverChannel;
+
+	// senders
+	private final ExecutorService senders;
+
+	// statistics
+	private final AtomicLong sentTables = new AtomicLong();
+	private final AtomicLong sentRows = new AtomicLong();
+	private final AtomicLong sentBytes = new AtomicLong();
+
+	// rows and bytes sent for one request
+	private static class Transfer {
+		long rows = 0;
+		long bytes = 0;
+	}
+
+	// helper
+	private final Logger logger;
+	private Error err = new Error();
+
+	// constructors
+	public ExchangeServer(int computePort) {
+		super("ExchangeServer-" + computePort);
+		this.setDaemon(true);
+
+		this.port = getPort(computePort);
+		this.logger = XDBLog.getLogger(EnumXDBComponents.COMPUTE_SERVER);
+		this.senders = Executors.newFixedThreadPool(
+				Config.COMPUTE_EXCHANGE_THREADS, new ThreadFactory() {
+					private final AtomicInteger lastThreadNo = new AtomicInteger();
+
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "ExchangeSender-"
+								+ lastThreadNo.incrementAndGet());
+						t.setDaemon(true);
+						return t;
+					}
+				});
+	}
+
+	/**
+	 * Returns port of the exchange server which belongs to a compute server
+	 *
+	 * @param computePort
+	 * @return
+	 */
+	public static int getPort(int computePort) {
+		return computePort + Config.COMPUTE_EXCHANGE_PORT_OFFSET;
+	}
+
+	// getters and setters
+	public int getPort() {
+		return this.port;
+	}
+
+	public Error getError() {
+		return this.err;
+	}
+
+	public long getSentTables() {
+		return this.sentTables.get();
+	}
+
+	public long getSentRows() {
+		return this.sentRows.get();
+	}
+
+	public long getSentBytes() {
+		return this.sentBytes.get();
+	}
+
+	// methods
+	/**
+	 * Binds server channel and starts accepting requests
+	 *
+	 * @return
+	 */
+	public Error startServer() {
+		try {
+			this.serverChannel = ServerSocketChannel.open();
+			this.serverChannel.socket().setReuseAddress(true);
+			this.serverChannel.socket().bind(new InetSocketAddress(this.port));
+		} catch (IOException e) {
+			String[] args = { e.toString() };
+			this.err = new Error(EnumError.SERVER_ERROR, args);
+			return this.err;
+		}
+
+		this.start();
+		this.logger.log(Level.INFO, "Exchange server started on port "
+				+ this.port);
+		return this.err;
+	}
+
+	/**
+	 * Closes server channel and stops all senders
+	 */
+	public void stopServer() {
+		try {
+			if (this.serverChannel != null)
+				this.serverChannel.close();
+		} catch (IOException e) {
+			// ignore
+		}
+		this.senders.shutdownNow();
+	}
+
+	@Override
+	public void run() {
+		while (this.serverChannel.isOpen()) {
+			try {
+				final SocketChannel channel = this.serverChannel.accept();
+				this.senders.execute(new Runnable() {
+					@Override
+					public void run() {
+						send(channel);
+					}
+				});
+			} catch (ClosedChannelException e) {
+				break;
+			} catch (Exception e) {
+				this.logger.log(Level.WARNING, "Exchange server error: "
+						+ e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Streams requested table over channel. If the table is the output of a
+	 * pipelined operator, rows are taken from its pipe while the operator is
+	 * still running.
+	 *
+	 * @param channel
+	 */
+	private void send(SocketChannel channel) {
+		String tableName = null;
+		Transfer transfer = new Transfer();
+
+		try {
+			channel.socket().setTcpNoDelay(true);
+			tableName = ExchangeProtocol.readRequest(channel);
+			if (!TABLE_NAME.matcher(tableName).matches())
+				throw new IOException("Invalid table name " + tableName);
+
+			Pipe pipe = Pipe.get(tableName);
+			if (pipe != null) {
+				this.sendPipe(channel, pipe, transfer);
+			} else {
+				this.sendTable(channel, tableName, null, transfer);
+			}
+
+			// send end of stream
+			ByteArrayOutputStream end = new ByteArrayOutputStream();
+			new DataOutputStream(end).writeLong(transfer.rows);
+			transfer.bytes += ExchangeProtocol.writeFrame(channel,
+					ExchangeProtocol.FRAME_END, end.toByteArray(), false);
+
+			this.sentTables.incrementAndGet();
+			this.sentRows.addAndGet(transfer.rows);
+			this.sentBytes.addAndGet(transfer.bytes);
+			this.logger.log(Level.INFO, "Exchange sent table " + tableName
+					+ " (rows=" + transfer.rows + ", bytes=" + transfer.bytes
+					+ ", pipelined=" + (pipe != null) + ")");
+		} catch (Exception e) {
+			this.logger.log(Level.WARNING, "Exchange of table " + tableName
+					+ " failed: " + e.getMessage());
+
+			// try to inform receiver
+			try {
+				String msg = String.valueOf(e.getMessage());
+				ExchangeProtocol.writeFrame(channel,
+						ExchangeProtocol.FRAME_ERROR,
+						msg.getBytes(ExchangeProtocol.CHARSET), false);
+			} catch (IOException e1) {
+				// ignore
+			}
+		} finally {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * Streams batches of a pipe until its producer finished and afterwards the
+	 * rows which the producer spilled into the table
+	 *
+	 * @param channel
+	 * @param pipe
+	 * @param transfer
+	 * @throws Exception
+	 */
+	private void sendPipe(SocketChannel channel, Pipe pipe, Transfer transfer)
+			throws Exception {
+		int[] sqlTypes = pipe.awaitSchema();
+		transfer.bytes += ExchangeProtocol.writeFrame(channel,
+				ExchangeProtocol.FRAME_SCHEMA,
+				ExchangeProtocol.encodeSchema(sqlTypes), false);
+
+		byte[] batch = pipe.take();
+		while (batch != null) {
+			transfer.rows += ByteBuffer.wrap(batch).getInt();
+			transfer.bytes += ExchangeProtocol.writeFrame(channel,
+					ExchangeProtocol.FRAME_DATA, batch,
+					Config.COMPUTE_EXCHANGE_COMPRESS);
+			batch = pipe.take();
+		}
+
+		if (pipe.isSpilled())
+			this.sendTable(channel, pipe.getName(), sqlTypes, transfer);
+	}
+
+	/**
+	 * Streams rows of a table from the compute DB
+	 *
+	 * @param channel
+	 * @param tableName
+	 * @param sqlTypes
+	 *            schema which was already sent (or null)
+	 * @param transfer
+	 * @throws Exception
+	 */
+	private void sendTable(SocketChannel channel, String tableName,
+			int[] sqlTypes, Transfer transfer) throws Exception {
+		PooledConnection pooledConn = ConnectionPool.getComputePool().borrow();
+		Statement stmt = null;
+
+		try {
+			// stream result row by row
+			stmt = pooledConn.getConnection().createStatement(
+					ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			stmt.setFetchSize(Integer.MIN_VALUE);
+			ResultSet rs = stmt.executeQuery("SELECT * FROM " + tableName);
+
+			// send schema
+			if (sqlTypes == null) {
+				ResultSetMetaData metaData = rs.getMetaData();
+				sqlTypes = new int[metaData.getColumnCount()];
+				for (int i = 0; i < sqlTypes.length; ++i) {
+					sqlTypes[i] = metaData.getColumnType(i + 1);
+				}
+				transfer.bytes += ExchangeProtocol.writeFrame(channel,
+						ExchangeProtocol.FRAME_SCHEMA,
+						ExchangeProtocol.encodeSchema(sqlTypes), false);
+			}
+			byte[] kinds = new byte[sqlTypes.length];
+			for (int i = 0; i < sqlTypes.length; ++i) {
+				kinds[i] = ExchangeProtocol.getKind(sqlTypes[i]);
+			}
+
+			// send rows in batches
+			ByteArrayOutputStream batch = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(batch);
+			int batchRows = 0;
+			while (rs.next()) {
+				for (int i = 0; i < kinds.length; ++i) {
+					ExchangeProtocol.writeValue(out, rs, i + 1, kinds[i]);
+				}
+				batchRows++;
+				transfer.rows++;
+
+				if (batchRows == Config.COMPUTE_EXCHANGE_BATCH_ROWS) {
+					transfer.bytes += this.sendBatch(channel, batch, batchRows);
+					batchRows = 0;
+				}
+			}
+			if (batchRows > 0)
+				transfer.bytes += this.sendBatch(channel, batch, batchRows);
+			rs.close();
+		} catch (Exception e) {
+			pooledConn.markBroken();
+			throw e;
+		} finally {
+			try {
+				if (stmt != null)
+					stmt.close();
+			} catch (Exception e) {
+				// ignore
+			}
+			pooledConn.release();
+		}
+	}
+
+	/**
+	 * Sends a batch of rows as data frame and resets batch
+	 *
+	 * @param channel
+	 * @param batch
+	 * @param batchRows
+	 * @return number of bytes written
+	 * @throws IOException
+	 */
+	private int sendBatch(SocketChannel channel, ByteArrayOutputStream batch,
+			int batchRows) throws IOException {
+		byte[] frame = ExchangeProtocol.encodeBatch(batch, batchRows);
+		return ExchangeProtocol.writeFrame(channel,
+				ExchangeProtocol.FRAME_DATA, frame,
+				Config.COMPUTE_EXCHANGE_COMPRESS);
+	}
+}
@@ -0,0 +1,110 @@
+package org.xdb.execute.exchange;
+
+import java.io.Serializable;
+
+import org.xdb.utils.Identifier;
+
+/**
+ * Statistics about one exchange edge (i.e., an input which was shipped from
+ * a producer to a consumer)
+ *
+ */
+public class ExchangeStats implements Serializable {
+
+	private static final long serialVersionUID = 6305932843306478118L;
+
+	// edge
+	private final Identifier sourceTrackerOpId;
+	private final String sourceTableName;
+	private final String targetTableName;
+
+	// shipped data
+	private long rows = 0;
+	private long wireBytes = 0;
+	private long rawBytes = 0;
+	private long time = 0;
+
+	// constructors
+	public ExchangeStats(ExchangeInput input) {
+		this.sourceTrackerOpId = input.getSourceTrackerOpId();
+		this.sourceTableName = input.getSourceTableName();
+		this.targetTableName = input.getTargetTableName();
+	}
+
+	public ExchangeStats(Identifier sourceTrackerOpId, String sourceTableName,
+			String targetTableName, long rows, long wireBytes, long rawBytes,
+			long time) {
+		this.sourceTrackerOpId = sourceTrackerOpId;
+		this.sourceTableName = sourceTableName;
+		this.targetTableName = targetTableName;
+		this.rows = rows;
+		this.wireBytes = wireBytes;
+		this.rawBytes = rawBytes;
+		this.time = time;
+	}
+
+	// getters and setters
+	public Identifier getSourceTrackerOpId() {
+		return this.sourceTrackerOpId;
+	}
+
+	public String getSourceTableName() {
+		return this.sourceTableName;
+	}
+
+	public String getTargetTableName() {
+		return this.targetTableName;
+	}
+
+	public long getRows() {
+		return this.rows;
+	}
+
+	public long getWireBytes() {
+		return this.wireBytes;
+	}
+
+	public long getRawBytes() {
+		return this.rawBytes;
+	}
+
+	public long getTime() {
+		return this.time;
+	}
+
+	void setTime(long time) {
+		this.time = time;
+	}
+
+	void addRows(long rows) {
+		this.rows += rows;
+	}
+
+	void addWireBytes(long bytes) {
+		this.wireBytes += bytes;
+	}
+
+	void addRawBytes(long bytes) {
+		this.rawBytes += bytes;
+	}
+
+	/**
+	 * Returns throughput of the edge
+	 * 
+	 * @return throughput in bytes per second (on the wire)
+	 */
+	public double getThroughput() {
+		if (this.time <= 0)
+			return 0.0;
+		return this.wireBytes * 1000.0 / this.time;
+	}
+
+	// methods
+	@Override
+	public String toString() {
+		return this.sourceTableName + " -> " + this.targetTableName + " (rows="
+				+ this.rows + ", bytes=" + this.wireBytes + ", raw="
+				+ this.rawBytes + ", time=" + this.time + "ms, throughput="
+				+ (long) this.getThroughput() + "B/s)";
+	}
+}
@@ -0,0 +1,242 @@
+package org.xdb.execute.exchange;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.xdb.Config;
+
+/**
+ * In-memory channel between a pipelined producer and the exchange server
+ * which streams its output to the consumer. The producer offers batches of
+ * rows while it is still executing. If the consumer does not keep up, the
+ * producer spills batches into its output table instead of blocking, and the
+ * consumer reads the spilled rows after the pipe was drained.
+ *
+ * One pipe exists per deployed output table or view and it has exactly one
+ * consumer.
+ *
+ */
+public class Pipe {
+
+	// pipes: deployed table name -> pipe
+	private static final Map<String, Pipe> pipes = new HashMap<String, Pipe>();
+
+	// name of deployed table or view
+	private final String name;
+
+	// pipe state
+	private final LinkedList<byte[]> batches = new LinkedList<byte[]>();
+	private int[] sqlTypes = null;
+	private boolean finished = false;
+	private boolean spilled = false;
+	private String failure = null;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+
+	// constructors
+	private Pipe(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Registers a new pipe for a deployed table or view
+	 *
+	 * @param name
+	 * @return
+	 */
+	public static synchronized Pipe register(String name) {
+		Pipe pipe = new Pipe(name);
+		pipes.put(name, pipe);
+		return pipe;
+	}
+
+	/**
+	 * Returns pipe for a deployed table or view (or null if the table is not
+	 * pipelined)
+	 *
+	 * @param name
+	 * @return
+	 */
+	public static synchronized Pipe get(String name) {
+		return pipes.get(name);
+	}
+
+	/**
+	 * Removes pipe and frees all batches which were not consumed
+	 *
+	 * @param name
+	 */
+	public static synchronized void unregister(String name) {
+		Pipe pipe = pipes.remove(name);
+		if (pipe != null)
+			pipe.fail("Pipe " + name + " closed");
+	}
+
+	// getters and setters
+	public String getName() {
+		return this.name;
+	}
+
+	// methods for producer
+	/**
+	 * Publishes schema of the rows in the pipe
+	 *
+	 * @param sqlTypes
+	 */
+	public void open(int[] sqlTypes) {
+		this.lock.lock();
+		try {
+			this.sqlTypes = sqlTypes;
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Offers a batch of rows. Waits if the pipe is full but at most the given
+	 * time.
+	 *
+	 * @param batch
+	 * @param waitTime
+	 *            in ms
+	 * @return false if batch was not accepted and must be spilled
+	 * @throws InterruptedException
+	 */
+	public boolean offer(byte[] batch, long waitTime)
+			throws InterruptedException {
+		this.lock.lock();
+		try {
+			long timeout = TimeUnit.MILLISECONDS.toNanos(waitTime);
+			while (this.batches.size() >= Config.COMPUTE_PIPELINE_BUFFER_BATCHES
+					&& this.failure == null) {
+				if (timeout <= 0)
+					return false;
+				timeout = this.changed.awaitNanos(timeout);
+			}
+
+			// consumer is gone: drop batch
+			if (this.failure != null)
+				return true;
+
+			this.batches.addLast(batch);
+			this.changed.signalAll();
+			return true;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Marks end of the output
+	 *
+	 * @param spilled
+	 *            true if rows were spilled into the output table
+	 */
+	public void finish(boolean spilled) {
+		this.lock.lock();
+		try {
+			this.finished = true;
+			this.spilled = spilled;
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Aborts pipe (e.g., if producer failed)
+	 *
+	 * @param failure
+	 */
+	public void fail(String failure) {
+		this.lock.lock();
+		try {
+			if (this.failure == null)
+				this.failure = failure;
+			this.batches.clear();
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	// methods for consumer
+	/**
+	 * Waits until the producer published the schema
+	 *
+	 * @return JDBC types of columns
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public int[] awaitSchema() throws IOException, InterruptedException {
+		this.lock.lock();
+		try {
+			while (this.sqlTypes == null && this.failure == null) {
+				this.changed.await();
+			}
+			this.checkFailure();
+			return this.sqlTypes;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes next batch of rows and waits if the pipe is empty
+	 *
+	 * @return batch or null if producer finished and pipe is drained
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public byte[] take() throws IOException, InterruptedException {
+		this.lock.lock();
+		try {
+			while (this.batches.isEmpty() && !this.finished
+					&& this.failure == null) {
+				this.changed.await();
+			}
+			this.checkFailure();
+
+			if (this.batches.isEmpty())
+				return null;
+
+			byte[] batch = this.batches.removeFirst();
+			this.changed.signalAll();
+			return batch;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns true if rows were spilled into the output table (only valid
+	 * after pipe is drained)
+	 *
+	 * @return
+	 */
+	public boolean isSpilled() {
+		this.lock.lock();
+		try {
+			return this.spilled;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void checkFailure() throws IOException {
+		if (this.failure != null)
+			throw new IOException(this.failure);
+	}
+
+	@Override
+	public String toString() {
+		return this.name;
+	}
+}
@@ -0,0 +1,90 @@
+package org.xdb.execute.exchange;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Vector;
+
+/**
+ * Output of a pipelined execute operator: the result of the query is streamed
+ * into one pipe per consumer instead of being materialized in the output
+ * table. If the output is re-partitioned, rows are routed to the pipe of
+ * their partition (i.e., one pipe per output view).
+ *
+ */
+public class PipelineOutput implements Serializable {
+
+	private static final long serialVersionUID = -7608542015960416377L;
+
+	// query which produces the output
+	private final String selectSQL;
+
+	// deployed output table (used for spilled rows)
+	private final String tableName;
+
+	// deployed tables or views which are streamed (one per consumer)
+	private final Vector<String> pipeNames = new Vector<String>();
+
+	// column and number of partitions for re-partitioned output
+	private final int partColumn;
+	private final int partCount;
+
+	// constructors
+	public PipelineOutput(String selectSQL, String tableName,
+			List<String> pipeNames, int partColumn, int partCount) {
+		this.selectSQL = selectSQL;
+		this.tableName = tableName;
+		this.pipeNames.addAll(pipeNames);
+		this.partColumn = partColumn;
+		this.partCount = partCount;
+	}
+
+	// getters and setters
+	public String getSelectSQL() {
+		return this.selectSQL;
+	}
+
+	public String getTableName() {
+		return this.tableName;
+	}
+
+	public List<String> getPipeNames() {
+		return this.pipeNames;
+	}
+
+	public boolean isRepartitioned() {
+		return this.pipeNames.size() > 1;
+	}
+
+	/**
+	 * Returns index of partition column in result (0-based) or -1 if rows can
+	 * not be routed
+	 * 
+	 * @return
+	 */
+	public int getPartColumn() {
+		return this.partColumn;
+	}
+
+	public int getPartCount() {
+		return this.partCount;
+	}
+
+	// methods
+	/**
+	 * Returns partition of a value of the partition column (same as
+	 * PARTITION BY HASH of MySQL) or -1 if the row must be routed by MySQL
+	 * 
+	 * @param value
+	 * @return
+	 */
+	public int getPartition(long value) {
+		if (value < 0)
+			return -1;
+		return (int) (value % this.partCount);
+	}
+
+	@Override
+	public String toString() {
+		return this.tableName + " -> " + this.pipeNames;
+	}
+}
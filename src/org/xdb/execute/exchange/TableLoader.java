@@ -0,0 +1,98 @@
+package org.xdb.execute.exchange;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.xdb.Config;
+import org.xdb.execute.PooledConnection;
+
+/**
+ * Loads batches of rows (encoded by the exchange protocol) into a table using
+ * multi-row inserts. Insert statements are cached by the pooled connection.
+ *
+ */
+public class TableLoader {
+
+	// connection to local compute DB
+	private final PooledConnection pooledConn;
+
+	// schema of rows
+	private final int[] sqlTypes;
+	private final byte[] kinds;
+
+	// constructors
+	public TableLoader(PooledConnection pooledConn, int[] sqlTypes) {
+		this.pooledConn = pooledConn;
+		this.sqlTypes = sqlTypes;
+		this.kinds = new byte[sqlTypes.length];
+		for (int i = 0; i < sqlTypes.length; ++i) {
+			this.kinds[i] = ExchangeProtocol.getKind(sqlTypes[i]);
+		}
+	}
+
+	// methods
+	/**
+	 * Inserts a batch of rows ([row count:int][rows]) into table
+	 *
+	 * @param tableName
+	 * @param batch
+	 * @return number of loaded rows
+	 * @throws IOException
+	 * @throws SQLException
+	 */
+	public int load(String tableName, byte[] batch) throws IOException,
+			SQLException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+				batch));
+		int rows = in.readInt();
+		int insertRows = Config.COMPUTE_EXCHANGE_INSERT_ROWS;
+
+		int loadedRows = 0;
+		while (loadedRows < rows) {
+			int stmtRows = Math.min(insertRows, rows - loadedRows);
+			PreparedStatement stmt = this.pooledConn.prepareStatement(this
+					.genInsertDML(tableName, stmtRows));
+
+			int param = 1;
+			for (int row = 0; row < stmtRows; ++row) {
+				for (int i = 0; i < this.kinds.length; ++i) {
+					ExchangeProtocol.readValue(in, stmt, param++,
+							this.kinds[i], this.sqlTypes[i]);
+				}
+			}
+			stmt.executeUpdate();
+			loadedRows += stmtRows;
+		}
+		return loadedRows;
+	}
+
+	/**
+	 * Generates multi-row insert statement
+	 *
+	 * @param tableName
+	 * @param rows
+	 * @return
+	 */
+	private String genInsertDML(String tableName, int rows) {
+		StringBuffer row = new StringBuffer("(");
+		for (int i = 0; i < this.sqlTypes.length; ++i) {
+			if (i > 0)
+				row.append(",");
+			row.append("?");
+		}
+		row.append(")");
+
+		StringBuffer dml = new StringBuffer("INSERT INTO ");
+		dml.append(tableName);
+		dml.append(" VALUES ");
+		for (int i = 0; i < rows; ++i) {
+			if (i > 0)
+				dml.append(",");
+			dml.append(row);
+		}
+		return dml.toString();
+	}
+}
@@ -1,9 +1,11 @@
 package org.xdb.execute.operators;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.Statement;
+import java.sql.SQLException;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Vector;
@@ -12,7 +14,13 @@ import org.xdb.Config;
 import org.xdb.client.QueryTrackerClient;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
+import org.xdb.execute.ConnectionPool;
+import org.xdb.execute.PooledConnection;
+import org.xdb.execute.exchange.ExchangeClient;
+import org.xdb.execute.exchange.ExchangeInput;
+import org.xdb.execute.exchange.ExchangeStats;
 import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.server.WireCodec;
 import org.xdb.tracker.QueryTrackerNodeDesc;
 import org.xdb.utils.Identifier;
 
@@ -27,8 +35,9 @@ public abstract class AbstractExecuteOperator implements Serializable {
 	
 	private static final long serialVersionUID = -3896677758698111894L;
 
-	// connection to compute DB
+	// connection to compute DB (borrowed from pool)
 	protected transient Connection conn;
+	protected transient PooledConnection pooledConn;
 
 	// query tracker 
 	protected QueryTrackerNodeDesc queryTracker;
@@ -55,9 +64,18 @@ public abstract class AbstractExecuteOperator implements Serializable {
 	// DDL statements to drop input and output tables
 	protected Vector<String> closeSQLs = new Vector<String>();
 
+	// remote inputs which are shipped into local tables before execution
+	protected Vector<ExchangeInput> exchangeInputs = new Vector<ExchangeInput>();
+
+	// statistics of shipped inputs (sent back to query tracker)
+	protected Vector<ExchangeStats> exchangeStats = new Vector<ExchangeStats>();
+
 	// status
 	protected EnumOperatorStatus status = EnumOperatorStatus.INIT;
 
+	// scheduling priority on compute node (i.e., critical-path depth)
+	protected int priority = 0;
+
 	// helper
 	protected Error err = new Error(); 
 	
@@ -80,6 +98,14 @@ public abstract class AbstractExecuteOperator implements Serializable {
 		return this.status;
 	}
 	
+	public void setPriority(int priority){
+		this.priority = priority;
+	}
+	
+	public int getPriority(){
+		return this.priority;
+	}
+	
 	
 	public Error getLastError() {
 		return this.err;
@@ -89,6 +115,10 @@ public abstract class AbstractExecuteOperator implements Serializable {
 		this.queryTracker = queryTracker;
 	}
 
+	public QueryTrackerNodeDesc getQueryTracker() {
+		return this.queryTracker;
+	}
+
 	public QueryTrackerClient getQueryTrackerClient() {
 		return this.queryTrackerClient;
 	}
@@ -115,6 +145,18 @@ public abstract class AbstractExecuteOperator implements Serializable {
 		this.closeSQLs.add(ddl);
 	}
 
+	public void addExchangeInput(ExchangeInput input) {
+		this.exchangeInputs.add(input);
+	}
+
+	public Vector<ExchangeInput> getExchangeInputs() {
+		return this.exchangeInputs;
+	}
+
+	public Vector<ExchangeStats> getExchangeStats() {
+		return this.exchangeStats;
+	}
+
 	public Set<Identifier> getSourceTrackerIds() {
 		return this.sourceTrackerIds;
 	}
@@ -134,27 +176,28 @@ public abstract class AbstractExecuteOperator implements Serializable {
 					this.queryTracker.getUrl());
 		}
 
-		// open connection and execute open statements
+		// borrow connection and execute open statements
 		try {
-			Class.forName(Config.COMPUTE_DRIVER_CLASS);
-			this.conn = DriverManager.getConnection(this.dburl + this.dbname,
-					this.dbuser, this.dbpasswd);
+			this.borrowConnection();
 
-			// compile open and close statements
-			Statement openStmt = conn.createStatement();
 			for (String ddl : this.openSQLs) {
 				//System.out.println(this.getOperatorId()+">"+ddl+";");
-				openStmt.execute(ddl);
+				this.pooledConn.execute(ddl);
 			}
 
 		} catch (final Exception e) {
 			this.err = createMySQLError(e);
 			this.status = EnumOperatorStatus.getRuntimeFailure();
+			this.releaseConnection();
 			return this.err;
 		}
 
 		// call operator specific open method
 		this.err = openOperator();
+
+		// give connection back while waiting for inputs
+		this.releaseConnection();
+
 		if (this.err.isError())
 			return this.err;
 
@@ -194,18 +237,51 @@ public abstract class AbstractExecuteOperator implements Serializable {
 	public Error execute() {
 		this.status = EnumOperatorStatus.RUNNING;
 		
-		// execute operator 
-		this.err = executeOperator();
-		if (!err.isError())
-			this.status = EnumOperatorStatus.FINISHED;
-
-		// close connection
+		// borrow connection (if not kept since open) 
 		try {
-			this.conn.close();
+			this.borrowConnection();
 		} catch (Exception e) {
 			this.err = createMySQLError(e);
+			this.status = EnumOperatorStatus.getRuntimeFailure();
+			return this.err;
 		}
 
+		// ship remote inputs and execute operator 
+		this.err = receiveInputs();
+		if (!err.isError())
+			this.err = executeOperator();
+		if (!err.isError())
+			this.status = EnumOperatorStatus.FINISHED;
+
+		// give connection back to pool
+		this.releaseConnection();
+
+		return this.err;
+	}
+
+	/**
+	 * Ships remote inputs from the compute nodes of their producers into
+	 * local tables
+	 * 
+	 * @return
+	 */
+	protected Error receiveInputs() {
+		if (Config.SIMULATION_MODE)
+			return this.err;
+
+		ExchangeClient exchangeClient = new ExchangeClient(this.pooledConn);
+		this.exchangeStats.clear();
+		for (ExchangeInput input : this.exchangeInputs) {
+			try {
+				this.exchangeStats.add(exchangeClient.receive(input));
+			} catch (Exception e) {
+				String[] args = { this.getOperatorId() + " > " + input + " > "
+						+ e.toString() };
+				this.err = new Error(EnumError.COMPUTE_EXCHANGE_ERROR, args);
+				this.status = EnumOperatorStatus.getRuntimeFailure();
+				return this.err;
+			}
+		}
 		return this.err;
 	}
 
@@ -225,16 +301,13 @@ public abstract class AbstractExecuteOperator implements Serializable {
 	 * Close connection and remove prepared statements
 	 */
 	public Error close() {
-		// open connection and execute close statements
+		// borrow connection and execute close statements
 		try {
-			Class.forName(Config.COMPUTE_DRIVER_CLASS);
-			this.conn = DriverManager.getConnection(this.dburl + this.dbname,
-					this.dbuser, this.dbpasswd);
+			this.borrowConnection();
 
-			Statement closeStmt = this.conn.createStatement();
 			for (String ddl : this.closeSQLs) {
 				//System.err.println(this.operatorId+">"+ddl);
-				closeStmt.execute(ddl);
+				this.pooledConn.execute(ddl);
 			}
 
 		} catch (final Exception e) {
@@ -244,12 +317,8 @@ public abstract class AbstractExecuteOperator implements Serializable {
 		// call operator specific close method
 		this.closeOperator();
 
-		// close connection
-		try {
-			this.conn.close();
-		} catch (Exception e) {
-			this.err = createMySQLError(e);
-		}
+		// give connection back to pool
+		this.releaseConnection();
 
 		return this.err;
 	}
@@ -261,6 +330,116 @@ public abstract class AbstractExecuteOperator implements Serializable {
 	 */
 	protected abstract Error closeOperator();
 
+	/**
+	 * Borrows connection to compute DB from pool if operator does not hold a
+	 * connection yet
+	 * 
+	 * @throws SQLException
+	 */
+	protected void borrowConnection() throws SQLException {
+		if (this.pooledConn != null)
+			return;
+
+		this.pooledConn = ConnectionPool.getPool(this.dburl + this.dbname,
+				this.dbuser, this.dbpasswd).borrow();
+		this.conn = this.pooledConn.getConnection();
+	}
+
+	/**
+	 * Returns connection to pool. Connection is validated by pool if an error
+	 * occurred.
+	 */
+	protected void releaseConnection() {
+		if (this.pooledConn == null)
+			return;
+
+		if (this.err.isError())
+			this.pooledConn.markBroken();
+		this.pooledConn.release();
+		this.pooledConn = null;
+		this.conn = null;
+	}
+
+	/**
+	 * Writes fields of operator in compact encoding of WireMessage
+	 * (subclasses with own fields must extend this method)
+	 * 
+	 * @param out
+	 * @throws IOException
+	 */
+	public void writeWire(ObjectOutput out) throws IOException {
+		out.writeBoolean(this.queryTracker != null);
+		if (this.queryTracker != null)
+			WireCodec.writeString(out, this.queryTracker.getUrl());
+		WireCodec.writeString(out, this.dburl);
+		WireCodec.writeString(out, this.dbname);
+		WireCodec.writeString(out, this.dbuser);
+		WireCodec.writeString(out, this.dbpasswd);
+
+		WireCodec.writeIdentifier(out, this.operatorId);
+		WireCodec.writeIdentifiers(out, this.sourceTrackerIds);
+		WireCodec.writeIdentifiers(out, this.consumersTrackerIds);
+		WireCodec.writeStrings(out, this.openSQLs);
+		WireCodec.writeStrings(out, this.closeSQLs);
+
+		WireCodec.writeVarInt(out, this.exchangeInputs.size());
+		for (ExchangeInput input : this.exchangeInputs) {
+			WireCodec.writeExchangeInput(out, input);
+		}
+		WireCodec.writeVarInt(out, this.exchangeStats.size());
+		for (ExchangeStats stats : this.exchangeStats) {
+			WireCodec.writeExchangeStats(out, stats);
+		}
+
+		WireCodec.writeStatus(out, this.status);
+		out.writeInt(this.priority);
+		WireCodec.writeError(out, this.err);
+		out.writeDouble(this.runtime);
+		out.writeDouble(this.mattime);
+	}
+
+	/**
+	 * Reads fields of operator written by writeWire() (subclasses read their
+	 * fields depending on the version of the writer)
+	 * 
+	 * @param in
+	 * @param version
+	 *            wire version of writer
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	public void readWire(ObjectInput in, byte version) throws IOException,
+			ClassNotFoundException {
+		if (in.readBoolean())
+			this.queryTracker = new QueryTrackerNodeDesc(
+					WireCodec.readString(in));
+		this.dburl = WireCodec.readString(in);
+		this.dbname = WireCodec.readString(in);
+		this.dbuser = WireCodec.readString(in);
+		this.dbpasswd = WireCodec.readString(in);
+
+		this.operatorId = WireCodec.readIdentifier(in);
+		WireCodec.readIdentifiers(in, this.sourceTrackerIds);
+		WireCodec.readIdentifiers(in, this.consumersTrackerIds);
+		WireCodec.readStrings(in, this.openSQLs);
+		WireCodec.readStrings(in, this.closeSQLs);
+
+		int inputs = WireCodec.readVarInt(in);
+		for (int i = 0; i < inputs; ++i) {
+			this.exchangeInputs.add(WireCodec.readExchangeInput(in));
+		}
+		int stats = WireCodec.readVarInt(in);
+		for (int i = 0; i < stats; ++i) {
+			this.exchangeStats.add(WireCodec.readExchangeStats(in));
+		}
+
+		this.status = WireCodec.readStatus(in);
+		this.priority = in.readInt();
+		this.err = WireCodec.readError(in);
+		this.runtime = in.readDouble();
+		this.mattime = in.readDouble();
+	}
+
 	/**
 	 * Create MYSQL_ERROR from an exception
 	 * 
@@ -0,0 +1,226 @@
+package org.xdb.execute.operators;
+
+import java.io.Serializable;
+
+import org.xdb.funsql.compile.tokens.AbstractToken;
+
+/**
+ * Bloom filter over the join keys of the build side of a join. The hash
+ * values of the keys are computed by MySQL (CRC32) on both sides of the join:
+ * build operators read the hash values of their keys and the filter is
+ * evaluated on the probe side by a SQL predicate which looks up the bits in
+ * a session variable (the bits are sent once per statement).
+ *
+ */
+public class BloomFilter implements Serializable {
+
+	private static final long serialVersionUID = 2871305960427018339L;
+
+	// constants
+	public static final int NUM_HASHES = 2;
+	public static final int BITS_PER_KEY = 10;
+	public static final int MIN_BITS = 1024;
+
+	// alias of the query which is filtered on the probe side
+	public static final String PROBE_ALIAS = "XDB_BF";
+
+	// placeholder for filter predicate in execute statements of probe side
+	public static final String PREDICATE_PLACEHOLDER = "/*BLOOM_FILTER*/";
+
+	// session variable which holds the bits on the probe side
+	public static final String BITS_VARIABLE = "@xdb_bf";
+
+	// bits of filter
+	private final int numBits;
+	private final long[] words;
+
+	// constructors
+	public BloomFilter(int numBits) {
+		this(numBits, new long[(numBits + 63) / 64]);
+	}
+
+	public BloomFilter(int numBits, long[] words) {
+		this.numBits = numBits;
+		this.words = words;
+	}
+
+	// getters and setters
+	public int getNumBits() {
+		return this.numBits;
+	}
+
+	public long[] getWords() {
+		return this.words;
+	}
+
+	/**
+	 * Returns fraction of bits which are set
+	 *
+	 * @return
+	 */
+	public double getFillRatio() {
+		long setBits = 0;
+		for (long word : this.words) {
+			setBits += Long.bitCount(word);
+		}
+		return (double) setBits / this.numBits;
+	}
+
+	// methods
+	/**
+	 * Returns number of bits for the expected number of keys (power of two
+	 * between MIN_BITS and maxBits)
+	 *
+	 * @param keys
+	 * @param maxBits
+	 * @return
+	 */
+	public static int getNumBits(double keys, int maxBits) {
+		int numBits = MIN_BITS;
+		while (numBits < keys * BITS_PER_KEY && numBits < maxBits) {
+			numBits <<= 1;
+		}
+		return numBits;
+	}
+
+	/**
+	 * Generates SQL expression of the i-th hash function
+	 *
+	 * @param key
+	 * @param i
+	 * @return
+	 */
+	public static String genHashSQL(String key, int i) {
+		if (i == 0)
+			return "CRC32(" + key + ")";
+		return "CRC32(CONCAT(" + key + ", '#" + i + "'))";
+	}
+
+	/**
+	 * Generates query which returns the hash values of all join keys of the
+	 * build side
+	 *
+	 * @param buildSQL
+	 *            query of build side
+	 * @param keyAtt
+	 *            join attribute of build side
+	 * @return
+	 */
+	public static String genBuildSQL(String buildSQL, String keyAtt) {
+		String key = PROBE_ALIAS + AbstractToken.DOT + keyAtt;
+		StringBuilder sql = new StringBuilder("SELECT ");
+		for (int i = 0; i < NUM_HASHES; ++i) {
+			if (i > 0)
+				sql.append(", ");
+			sql.append(genHashSQL(key, i));
+		}
+		sql.append(" FROM (");
+		sql.append(buildSQL);
+		sql.append(") AS ");
+		sql.append(PROBE_ALIAS);
+		sql.append(" WHERE ");
+		sql.append(key);
+		sql.append(" IS NOT NULL");
+		return sql.toString();
+	}
+
+	/**
+	 * Generates query of probe side which keeps all rows that satisfy the
+	 * filter predicate (the predicate is inserted when the query is executed)
+	 *
+	 * @param probeSQL
+	 * @return
+	 */
+	public static String genProbeSQL(String probeSQL) {
+		return "SELECT * FROM (" + probeSQL + ") AS " + PROBE_ALIAS
+				+ " WHERE " + PREDICATE_PLACEHOLDER;
+	}
+
+	/**
+	 * Generates key expression of probe side for a given join attribute
+	 *
+	 * @param keyAtt
+	 * @return
+	 */
+	public static String genProbeKey(String keyAtt) {
+		return PROBE_ALIAS + AbstractToken.DOT + keyAtt;
+	}
+
+	/**
+	 * Adds a key given by its hash values
+	 *
+	 * @param hashes
+	 */
+	public void add(long[] hashes) {
+		for (long hash : hashes) {
+			int bit = (int) (hash % this.numBits);
+			this.words[bit >>> 6] |= 1L << (bit & 63);
+		}
+	}
+
+	/**
+	 * Checks if a key given by its hash values might be in filter
+	 *
+	 * @param hashes
+	 * @return
+	 */
+	public boolean mightContain(long[] hashes) {
+		for (long hash : hashes) {
+			int bit = (int) (hash % this.numBits);
+			if ((this.words[bit >>> 6] & (1L << (bit & 63))) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Merges other filter of same size into this filter
+	 *
+	 * @param other
+	 */
+	public void or(BloomFilter other) {
+		for (int i = 0; i < this.words.length; ++i) {
+			this.words[i] |= other.words[i];
+		}
+	}
+
+	/**
+	 * Generates statement which stores the bits in BITS_VARIABLE as binary
+	 * literal: bit b is stored in byte b DIV 8 at position b % 8.
+	 *
+	 * @return
+	 */
+	public String genBitsSQL() {
+		StringBuilder bits = new StringBuilder(this.numBits / 4 + 32);
+		bits.append("SET " + BITS_VARIABLE + " = X'");
+		for (int i = 0; i < this.numBits / 8; ++i) {
+			int b = (int) (this.words[i >>> 3] >>> ((i & 7) * 8)) & 0xFF;
+			bits.append(Character.forDigit(b >>> 4, 16));
+			bits.append(Character.forDigit(b & 15, 16));
+		}
+		bits.append("'");
+		return bits.toString();
+	}
+
+	/**
+	 * Generates SQL predicate which is true for all keys that might be in
+	 * filter. The bits are read from BITS_VARIABLE (see genBitsSQL()).
+	 *
+	 * @param key
+	 *            key expression of probe side
+	 * @return
+	 */
+	public String toSqlString(String key) {
+		StringBuilder predicate = new StringBuilder("(");
+		for (int i = 0; i < NUM_HASHES; ++i) {
+			String bit = "(" + genHashSQL(key, i) + " % " + this.numBits + ")";
+			if (i > 0)
+				predicate.append(" AND ");
+			predicate.append("(ASCII(SUBSTRING(" + BITS_VARIABLE + ", ");
+			predicate.append(bit + " DIV 8 + 1, 1)) & (1 << (" + bit
+					+ " % 8))) <> 0");
+		}
+		predicate.append(")");
+		return predicate.toString();
+	}
+}
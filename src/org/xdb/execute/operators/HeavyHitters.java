@@ -0,0 +1,164 @@
+package org.xdb.execute.operators;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Heavy hitters of a re-partitioned join input, i.e., integer join keys with
+ * more rows than one partition should hold. The probe side detects its heavy
+ * hitters when it is finished and spreads their rows over all partitions.
+ * The build side replicates its rows with these keys (merged by the query
+ * tracker) to all partitions. Both sides redefine the views of their
+ * partitions after execution.
+ *
+ */
+public class HeavyHitters implements Serializable {
+
+	private static final long serialVersionUID = 5342316487410325377L;
+
+	// placeholder for list of keys in view definitions
+	public static final String KEYS_PLACEHOLDER = "/*HEAVY_HITTERS*/";
+
+	// keys (sorted to generate same views for same keys)
+	private final Set<Long> keys = new TreeSet<Long>();
+
+	// constructors
+	public HeavyHitters() {
+		super();
+	}
+
+	public HeavyHitters(long[] keys) {
+		for (long key : keys) {
+			this.keys.add(key);
+		}
+	}
+
+	// getters and setters
+	public long[] getKeys() {
+		long[] keys = new long[this.keys.size()];
+		int i = 0;
+		for (Long key : this.keys) {
+			keys[i++] = key;
+		}
+		return keys;
+	}
+
+	public int size() {
+		return this.keys.size();
+	}
+
+	public boolean isEmpty() {
+		return this.keys.isEmpty();
+	}
+
+	// methods
+	/**
+	 * Generates query which returns the heavy hitters of a partitioned table:
+	 * keys with more than the given fraction of all rows (most frequent keys
+	 * first)
+	 *
+	 * @param table
+	 * @param key
+	 * @param minFraction
+	 * @param maxKeys
+	 * @return
+	 */
+	public static String genDetectSQL(String table, String key,
+			double minFraction, int maxKeys) {
+		return "SELECT " + key + ", COUNT(*) FROM " + table + " WHERE " + key
+				+ " IS NOT NULL GROUP BY " + key
+				+ " HAVING COUNT(*) > (SELECT COUNT(*) FROM " + table + ") * "
+				+ minFraction + " ORDER BY COUNT(*) DESC, " + key + " LIMIT "
+				+ maxKeys;
+	}
+
+	/**
+	 * Generates view of a partition of the probe side: rows of heavy hitters
+	 * are spread over all partitions by a hash value of the whole row
+	 *
+	 * @param view
+	 * @param table
+	 * @param key
+	 * @param columns
+	 * @param partNum
+	 * @param partCnt
+	 * @return
+	 */
+	public static String genSplitViewSQL(String view, String table,
+			String key, List<String> columns, int partNum, int partCnt) {
+		StringBuilder rowHash = new StringBuilder("CRC32(CONCAT_WS('#'");
+		for (String column : columns) {
+			rowHash.append(", ");
+			rowHash.append(column);
+		}
+		rowHash.append("))");
+
+		return genPartitionSQL(view, table, key, partNum) + " AND MOD("
+				+ rowHash + ", " + partCnt + ") = " + partNum;
+	}
+
+	/**
+	 * Generates view of a partition of the build side: rows of heavy hitters
+	 * are replicated to all partitions
+	 *
+	 * @param view
+	 * @param table
+	 * @param key
+	 * @param partNum
+	 * @return
+	 */
+	public static String genReplicateViewSQL(String view, String table,
+			String key, int partNum) {
+		return genPartitionSQL(view, table, key, partNum);
+	}
+
+	private static String genPartitionSQL(String view, String table,
+			String key, int partNum) {
+		return "CREATE OR REPLACE VIEW " + view + " AS SELECT * FROM "
+				+ table + " PARTITION(P" + partNum + ") WHERE IFNULL(" + key
+				+ " NOT IN (" + KEYS_PLACEHOLDER + "), TRUE) UNION ALL"
+				+ " SELECT * FROM " + table + " WHERE " + key + " IN ("
+				+ KEYS_PLACEHOLDER + ")";
+	}
+
+	/**
+	 * Adds a key
+	 *
+	 * @param key
+	 */
+	public void add(long key) {
+		this.keys.add(key);
+	}
+
+	/**
+	 * Merges heavy hitters of other operator into this heavy hitters
+	 *
+	 * @param other
+	 */
+	public void addAll(HeavyHitters other) {
+		this.keys.addAll(other.keys);
+	}
+
+	/**
+	 * Generates list of keys which replaces the placeholder in view
+	 * definitions
+	 *
+	 * @return
+	 */
+	public String toSqlString() {
+		StringBuilder list = new StringBuilder();
+		for (Long key : this.keys) {
+			if (list.length() > 0)
+				list.append(", ");
+			list.append(key);
+		}
+		return list.toString();
+	}
+
+	@Override
+	public String toString() {
+		return this.keys.toString();
+	}
+}
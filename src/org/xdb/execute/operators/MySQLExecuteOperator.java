@@ -1,11 +1,29 @@
 package org.xdb.execute.operators;
 
-import java.sql.PreparedStatement;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
 import java.util.Vector;
 
 import org.xdb.Config;
 import org.xdb.error.Error;
+import org.xdb.execute.ConnectionPool;
+import org.xdb.execute.PooledConnection;
+import org.xdb.execute.exchange.ExchangeProtocol;
+import org.xdb.execute.exchange.Pipe;
+import org.xdb.execute.exchange.PipelineOutput;
+import org.xdb.execute.exchange.TableLoader;
 import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.server.WireCodec;
+import org.xdb.server.WireMessage;
 import org.xdb.utils.Identifier;
 
 
@@ -20,9 +38,37 @@ public class MySQLExecuteOperator extends AbstractExecuteOperator {
 	
 	private static final long serialVersionUID = -3032433813365119895L;
 	
+	// session variable which counts rows of probe side
+	private static final String ROW_COUNTER = "@xdb_bf_rows";
+
 	// DML statements for execution
 	protected Vector<String> executeSQLs = new Vector<String>();
-	private transient Vector<PreparedStatement> executeStmts;
+
+	// output which is streamed to consumers (only for pipelined operators)
+	protected PipelineOutput pipelineOutput = null;
+	private transient PooledConnection spillConn;
+	private transient TableLoader spillLoader;
+
+	// build side of a join: query which returns hash values of join keys
+	// (filter is sent back to query tracker)
+	protected String bloomFilterBuildSQL = null;
+	protected int bloomFilterBits = 0;
+
+	// probe side of a join: key which is looked up in filter (filter is set
+	// by ready signal of query tracker)
+	protected String bloomFilterKey = null;
+	protected BloomFilter bloomFilter = null;
+
+	// rows of probe side before and after filter
+	protected long bloomFilterRowsIn = -1;
+	protected long bloomFilterRowsOut = -1;
+
+	// re-partitioned input of a join: heavy hitters are detected after
+	// execution (probe side) or set by ready signal of query tracker (build
+	// side) and the views of the partitions are redefined
+	protected String heavyHitterSQL = null;
+	protected Vector<String> heavyHitterViewSQLs = new Vector<String>();
+	protected HeavyHitters heavyHitters = null;
 
 	// constructor
 	public MySQLExecuteOperator(final Identifier operatorId) {
@@ -34,27 +80,68 @@ public class MySQLExecuteOperator extends AbstractExecuteOperator {
 		executeSQLs.add(dml);
 	}
 
+	public void setPipelineOutput(final PipelineOutput pipelineOutput) {
+		this.pipelineOutput = pipelineOutput;
+	}
+
+	public PipelineOutput getPipelineOutput() {
+		return this.pipelineOutput;
+	}
+
+	public void setBloomFilterBuild(String buildSQL, int numBits) {
+		this.bloomFilterBuildSQL = buildSQL;
+		this.bloomFilterBits = numBits;
+	}
+
+	public void setBloomFilterKey(String key) {
+		this.bloomFilterKey = key;
+	}
+
+	public void setBloomFilter(BloomFilter bloomFilter) {
+		this.bloomFilter = bloomFilter;
+	}
+
+	public BloomFilter getBloomFilter() {
+		return this.bloomFilter;
+	}
+
+	public long getBloomFilterRowsIn() {
+		return this.bloomFilterRowsIn;
+	}
+
+	public long getBloomFilterRowsOut() {
+		return this.bloomFilterRowsOut;
+	}
+
+	public void setHeavyHitterSQL(String detectSQL) {
+		this.heavyHitterSQL = detectSQL;
+	}
+
+	public void addHeavyHitterViewSQL(String viewSQL) {
+		this.heavyHitterViewSQLs.add(viewSQL);
+	}
+
+	public void setHeavyHitters(HeavyHitters heavyHitters) {
+		this.heavyHitters = heavyHitters;
+	}
+
+	public HeavyHitters getHeavyHitters() {
+		return this.heavyHitters;
+	}
+
 	// methods
 	@Override
 	/**
-	 * Prepare statements for execution
+	 * Statements are prepared on the pooled connection which executes them.
+	 * Pipes of a pipelined operator are registered before consumers request
+	 * them.
 	 */
 	protected Error openOperator() {
-
-		this.executeStmts = new Vector<PreparedStatement>();
-
-		// compile statements
-		try {
-			for (final String dml : executeSQLs) {
-				// System.err.println(this.getOperatorId()+">"+ dml+";");
-				this.executeStmts.add(conn.prepareStatement(dml));
+		if (this.pipelineOutput != null && !Config.SIMULATION_MODE) {
+			for (String pipeName : this.pipelineOutput.getPipeNames()) {
+				Pipe.register(pipeName);
 			}
-		} 
-		catch (final Exception e) {
-			this.err = createMySQLError(e);
-			this.status = EnumOperatorStatus.getRuntimeFailure();
 		}
-		
 		return this.err;
 	}
 
@@ -72,11 +159,24 @@ public class MySQLExecuteOperator extends AbstractExecuteOperator {
 				this.err = createMySQLError(e1);
 				this.status = EnumOperatorStatus.getRuntimeFailure();
 			} 
+		} else if (this.pipelineOutput != null) {
+			this.executePipelined();
 		} else { 
 			try {
-				for (final PreparedStatement stmt : executeStmts) {
-					stmt.execute();
+				for (final String dml : executeSQLs) {
+					// System.err.println(this.getOperatorId()+">"+ dml+";");
+					if (this.bloomFilterKey != null
+							&& dml.contains(BloomFilter.PREDICATE_PLACEHOLDER))
+						this.executeFiltered(dml);
+					else
+						this.pooledConn.prepareStatement(dml).execute();
 				}
+				if (this.bloomFilterBuildSQL != null)
+					this.buildBloomFilter();
+				if (this.heavyHitterSQL != null)
+					this.detectHeavyHitters();
+				if (this.heavyHitters != null)
+					this.redefineViews();
 			} 
 			catch (final Exception e) {
 				this.err = createMySQLError(e);
@@ -86,15 +186,330 @@ public class MySQLExecuteOperator extends AbstractExecuteOperator {
 		return err;
 	}
 
+	/**
+	 * Streams result of query into the pipes of the consumers. Batches which
+	 * are not accepted by a pipe in time (or rows which can not be routed to
+	 * a partition) are spilled into the output table and read by the
+	 * consumers after the pipes are drained.
+	 */
+	private void executePipelined() {
+		List<String> pipeNames = this.pipelineOutput.getPipeNames();
+		Pipe[] pipes = new Pipe[pipeNames.size()];
+		for (int i = 0; i < pipes.length; ++i) {
+			pipes[i] = Pipe.get(pipeNames.get(i));
+		}
+
+		Statement stmt = null;
+		boolean spilled = false;
+
+		try {
+			// consumers can connect while query is executed
+			if (this.getQueryTrackerClient() != null)
+				this.getQueryTrackerClient().operatorStarted(this);
+
+			// stream result row by row
+			stmt = this.conn.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			stmt.setFetchSize(Integer.MIN_VALUE);
+			ResultSet rs = stmt.executeQuery(this.pipelineOutput
+					.getSelectSQL());
+
+			ResultSetMetaData metaData = rs.getMetaData();
+			int[] sqlTypes = new int[metaData.getColumnCount()];
+			byte[] kinds = new byte[sqlTypes.length];
+			for (int i = 0; i < sqlTypes.length; ++i) {
+				sqlTypes[i] = metaData.getColumnType(i + 1);
+				kinds[i] = ExchangeProtocol.getKind(sqlTypes[i]);
+			}
+			for (Pipe pipe : pipes) {
+				pipe.open(sqlTypes);
+			}
+
+			// rows are only routed by a single integer partition column
+			int partColumn = this.pipelineOutput.getPartColumn();
+			boolean repartitioned = this.pipelineOutput.isRepartitioned();
+			boolean routable = partColumn >= 0
+					&& partColumn < kinds.length
+					&& kinds[partColumn] == ExchangeProtocol.KIND_LONG;
+
+			// one batch per pipe and one batch for spilled rows
+			int spillBatch = pipes.length;
+			ByteArrayOutputStream[] batches = new ByteArrayOutputStream[pipes.length + 1];
+			DataOutputStream[] outs = new DataOutputStream[pipes.length + 1];
+			int[] batchRows = new int[pipes.length + 1];
+			for (int i = 0; i < batches.length; ++i) {
+				batches[i] = new ByteArrayOutputStream();
+				outs[i] = new DataOutputStream(batches[i]);
+			}
+
+			while (rs.next()) {
+				int batch = 0;
+				if (repartitioned) {
+					batch = spillBatch;
+					if (routable) {
+						long value = rs.getLong(partColumn + 1);
+						if (!rs.wasNull()) {
+							int part = this.pipelineOutput.getPartition(value);
+							if (part >= 0 && part < pipes.length)
+								batch = part;
+						}
+					}
+				}
+
+				for (int i = 0; i < kinds.length; ++i) {
+					ExchangeProtocol.writeValue(outs[batch], rs, i + 1,
+							kinds[i]);
+				}
+				batchRows[batch]++;
+
+				if (batchRows[batch] < Config.COMPUTE_EXCHANGE_BATCH_ROWS)
+					continue;
+
+				// flush full batch into pipe or spill it
+				byte[] payload = ExchangeProtocol.encodeBatch(batches[batch],
+						batchRows[batch]);
+				batchRows[batch] = 0;
+				Pipe pipe = (batch == spillBatch) ? null : pipes[batch];
+				spilled |= this.publish(pipe, payload, sqlTypes);
+			}
+			rs.close();
+
+			// flush remaining rows
+			for (int batch = 0; batch < batches.length; ++batch) {
+				if (batchRows[batch] == 0)
+					continue;
+
+				byte[] payload = ExchangeProtocol.encodeBatch(batches[batch],
+						batchRows[batch]);
+				Pipe pipe = (batch == spillBatch) ? null : pipes[batch];
+				spilled |= this.publish(pipe, payload, sqlTypes);
+			}
+
+			// spilled rows might be routed to any partition
+			for (Pipe pipe : pipes) {
+				pipe.finish(spilled);
+			}
+		} catch (final Exception e) {
+			this.err = createMySQLError(e);
+			this.status = EnumOperatorStatus.getRuntimeFailure();
+			for (Pipe pipe : pipes) {
+				if (pipe != null)
+					pipe.fail(this.err.toString());
+			}
+			if (this.spillConn != null)
+				this.spillConn.markBroken();
+		} finally {
+			try {
+				if (stmt != null)
+					stmt.close();
+			} catch (Exception e) {
+				// ignore
+			}
+			if (this.spillConn != null)
+				this.spillConn.release();
+			this.spillConn = null;
+			this.spillLoader = null;
+		}
+	}
+
+	/**
+	 * Executes statement of probe side of a join with the filter predicate
+	 * (or without filter if query tracker did not send a filter). The bits
+	 * of the filter are sent once in a session variable. Rows are counted by
+	 * a session variable before the filter is applied.
+	 * 
+	 * @param dml
+	 * @throws SQLException
+	 */
+	private void executeFiltered(String dml) throws SQLException {
+		String predicate = "(" + ROW_COUNTER + " := " + ROW_COUNTER
+				+ " + 1) > 0";
+		if (this.bloomFilter != null)
+			predicate += " AND "
+					+ this.bloomFilter.toSqlString(this.bloomFilterKey);
+
+		// variables are reset when connection is returned to pool
+		this.pooledConn.addSessionVariable(ROW_COUNTER);
+		if (this.bloomFilter != null)
+			this.pooledConn.addSessionVariable(BloomFilter.BITS_VARIABLE);
+
+		Statement stmt = this.conn.createStatement();
+		try {
+			stmt.execute("SET " + ROW_COUNTER + " = 0");
+			if (this.bloomFilter != null)
+				stmt.execute(this.bloomFilter.genBitsSQL());
+			this.bloomFilterRowsOut = stmt.executeUpdate(dml.replace(
+					BloomFilter.PREDICATE_PLACEHOLDER, predicate));
+			ResultSet rs = stmt.executeQuery("SELECT " + ROW_COUNTER);
+			if (rs.next())
+				this.bloomFilterRowsIn = rs.getLong(1);
+			rs.close();
+		} finally {
+			// free bits of pooled connection (also if statement failed)
+			try {
+				if (this.bloomFilter != null)
+					stmt.execute("SET " + BloomFilter.BITS_VARIABLE + " = NULL");
+			} finally {
+				stmt.close();
+			}
+		}
+	}
+
+	/**
+	 * Builds filter of build side of a join from the hash values of its
+	 * join keys
+	 * 
+	 * @throws SQLException
+	 */
+	private void buildBloomFilter() throws SQLException {
+		BloomFilter filter = new BloomFilter(this.bloomFilterBits);
+		long[] hashes = new long[BloomFilter.NUM_HASHES];
+
+		Statement stmt = this.conn.createStatement(
+				ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		stmt.setFetchSize(Integer.MIN_VALUE);
+		try {
+			ResultSet rs = stmt.executeQuery(this.bloomFilterBuildSQL);
+			while (rs.next()) {
+				for (int i = 0; i < hashes.length; ++i) {
+					hashes[i] = rs.getLong(i + 1);
+				}
+				filter.add(hashes);
+			}
+			rs.close();
+		} finally {
+			stmt.close();
+		}
+		this.bloomFilter = filter;
+	}
+
+	/**
+	 * Detects heavy hitters of probe side of a join: all rows of the output
+	 * are counted (no sample) such that a re-executed operator finds the
+	 * same heavy hitters
+	 * 
+	 * @throws SQLException
+	 */
+	private void detectHeavyHitters() throws SQLException {
+		HeavyHitters heavyHitters = new HeavyHitters();
+		Statement stmt = this.conn.createStatement();
+		try {
+			ResultSet rs = stmt.executeQuery(this.heavyHitterSQL);
+			while (rs.next()) {
+				heavyHitters.add(rs.getLong(1));
+			}
+			rs.close();
+		} finally {
+			stmt.close();
+		}
+		this.heavyHitters = heavyHitters;
+	}
+
+	/**
+	 * Redefines views of partitions such that rows of heavy hitters are
+	 * spread over (probe side) or replicated to (build side) all partitions
+	 * 
+	 * @throws SQLException
+	 */
+	private void redefineViews() throws SQLException {
+		if (this.heavyHitters.isEmpty())
+			return;
+
+		String keys = this.heavyHitters.toSqlString();
+		Statement stmt = this.conn.createStatement();
+		try {
+			for (String viewSQL : this.heavyHitterViewSQLs) {
+				stmt.execute(viewSQL.replace(HeavyHitters.KEYS_PLACEHOLDER,
+						keys));
+			}
+		} finally {
+			stmt.close();
+		}
+	}
+
+	/**
+	 * Offers a batch to a pipe or spills it into the output table if the pipe
+	 * does not accept it in time
+	 * 
+	 * @param pipe
+	 *            pipe or null if batch must be spilled
+	 * @param payload
+	 * @param sqlTypes
+	 * @return true if batch was spilled
+	 * @throws Exception
+	 */
+	private boolean publish(Pipe pipe, byte[] payload, int[] sqlTypes)
+			throws Exception {
+		if (pipe != null
+				&& pipe.offer(payload, Config.COMPUTE_PIPELINE_SPILL_WAIT))
+			return false;
+
+		// spilled rows are inserted on a second connection since the
+		// connection of the operator is streaming its result
+		if (this.spillLoader == null) {
+			this.spillConn = ConnectionPool.getComputePool().borrow();
+			this.spillLoader = new TableLoader(this.spillConn, sqlTypes);
+		}
+		this.spillLoader.load(this.pipelineOutput.getTableName(), payload);
+		return true;
+	}
+
 	@Override
 	/**
-	 * Clear prepared statements 
+	 * Prepared statements are closed by the connection pool
 	 */
 	protected Error closeOperator() {
-		this.executeStmts = null;
+		if (this.pipelineOutput != null) {
+			for (String pipeName : this.pipelineOutput.getPipeNames()) {
+				Pipe.unregister(pipeName);
+			}
+		}
 		return this.err;
 	}
 
+	@Override
+	public void writeWire(ObjectOutput out) throws IOException {
+		super.writeWire(out);
+		WireCodec.writeStrings(out, this.executeSQLs);
+		WireCodec.writePipelineOutput(out, this.pipelineOutput);
+		WireCodec.writeString(out, this.bloomFilterBuildSQL);
+		out.writeInt(this.bloomFilterBits);
+		WireCodec.writeString(out, this.bloomFilterKey);
+		WireCodec.writeBloomFilter(out, this.bloomFilter);
+		out.writeLong(this.bloomFilterRowsIn);
+		out.writeLong(this.bloomFilterRowsOut);
+		WireCodec.writeString(out, this.heavyHitterSQL);
+		WireCodec.writeStrings(out, this.heavyHitterViewSQLs);
+		WireCodec.writeHeavyHitters(out, this.heavyHitters);
+	}
+
+	@Override
+	public void readWire(ObjectInput in, byte version) throws IOException,
+			ClassNotFoundException {
+		super.readWire(in, version);
+		WireCodec.readStrings(in, this.executeSQLs);
+		this.pipelineOutput = WireCodec.readPipelineOutput(in);
+		if (version < WireMessage.VERSION_BLOOM_FILTER)
+			return;
+
+		this.bloomFilterBuildSQL = WireCodec.readString(in);
+		this.bloomFilterBits = in.readInt();
+		this.bloomFilterKey = WireCodec.readString(in);
+		this.bloomFilter = WireCodec.readBloomFilter(in);
+		this.bloomFilterRowsIn = in.readLong();
+		this.bloomFilterRowsOut = in.readLong();
+		if (version < WireMessage.VERSION_HEAVY_HITTERS)
+			return;
+
+		this.heavyHitterSQL = WireCodec.readString(in);
+		WireCodec.readStrings(in, this.heavyHitterViewSQLs);
+		this.heavyHitters = WireCodec.readHeavyHitters(in);
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return WireMessage.replace(this);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder(); 
@@ -1,8 +1,10 @@
 package org.xdb.execute.operators;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 
 import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.server.WireMessage;
 import org.xdb.utils.Identifier;
 
 /**
@@ -68,4 +70,8 @@ public class OperatorDesc implements Serializable {
 	public String toString() {
 		return "(" + this.computeNode + "," + this.execOpId + "," + this.operatorStatus + ")";
 	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return WireMessage.replace(this);
+	}
 }
@@ -0,0 +1,44 @@
+package org.xdb.execute.signals;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.utils.Identifier;
+
+/**
+ * Signal which is sent periodically by a compute node to each query tracker
+ * with operators on that node. It carries the status of all these operators
+ * (i.e., one message per node instead of one ping per operator).
+ * 
+ */
+public class HeartbeatSignal implements Serializable {
+
+	private static final long serialVersionUID = -1815226094717381502L;
+
+	// sending compute node
+	private final ComputeNodeDesc computeNode;
+
+	// status of operators: execute operator ID -> status
+	private final HashMap<Identifier, EnumOperatorStatus> operatorStatus = new HashMap<Identifier, EnumOperatorStatus>();
+
+	// constructors
+	public HeartbeatSignal(ComputeNodeDesc computeNode) {
+		this.computeNode = computeNode;
+	}
+
+	// getters and setters
+	public ComputeNodeDesc getComputeNode() {
+		return computeNode;
+	}
+
+	public Map<Identifier, EnumOperatorStatus> getOperatorStatus() {
+		return operatorStatus;
+	}
+
+	public void addOperatorStatus(Identifier execOpId, EnumOperatorStatus status) {
+		this.operatorStatus.put(execOpId, status);
+	}
+}
@@ -1,7 +1,11 @@
 package org.xdb.execute.signals;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 
+import org.xdb.execute.operators.BloomFilter;
+import org.xdb.execute.operators.HeavyHitters;
+import org.xdb.server.WireMessage;
 import org.xdb.utils.Identifier;
 
 /**
@@ -21,10 +25,28 @@ public class ReadySignal implements Serializable {
 	// consumer: operator id
 	private Identifier consumer;
 
+	// filter of join if consumer is the probe side (or null)
+	private BloomFilter bloomFilter;
+
+	// heavy hitters of join if consumer is the build side (or null)
+	private HeavyHitters heavyHitters;
+
 	// constructors
 	public ReadySignal(Identifier source, Identifier consumer) {
+		this(source, consumer, null);
+	}
+
+	public ReadySignal(Identifier source, Identifier consumer,
+			BloomFilter bloomFilter) {
+		this(source, consumer, bloomFilter, null);
+	}
+
+	public ReadySignal(Identifier source, Identifier consumer,
+			BloomFilter bloomFilter, HeavyHitters heavyHitters) {
 		this.source = source;
 		this.consumer = consumer;
+		this.bloomFilter = bloomFilter;
+		this.heavyHitters = heavyHitters;
 	}
 
 	// getter and setters
@@ -35,4 +57,17 @@ public class ReadySignal implements Serializable {
 	public Identifier getConsumer() {
 		return consumer;
 	}
+
+	public BloomFilter getBloomFilter() {
+		return bloomFilter;
+	}
+
+	public HeavyHitters getHeavyHitters() {
+		return heavyHitters;
+	}
+
+	// methods
+	private Object writeReplace() throws ObjectStreamException {
+		return WireMessage.replace(this);
+	}
 }
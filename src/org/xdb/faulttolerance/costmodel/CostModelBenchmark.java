@@ -1,15 +1,18 @@
 package org.xdb.faulttolerance.costmodel;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
 import org.xdb.Config;
+import org.xdb.execute.ConnectionPool;
+import org.xdb.execute.PooledConnection;
 
 public class CostModelBenchmark { 
 
+	private PooledConnection pooledConn; 
+	
 	private Connection conn; 
 	
 	private long insertTime;
@@ -17,10 +20,8 @@ public class CostModelBenchmark {
 	public CostModelBenchmark(){
 
 		try {
-			Class.forName(Config.COMPUTE_DRIVER_CLASS); 
-			conn = DriverManager.getConnection(
-					Config.COMPUTE_DB_URL, Config.COMPUTE_DB_USER,
-					Config.COMPUTE_DB_PASSWD);
+			pooledConn = ConnectionPool.getComputePool().borrow();
+			conn = pooledConn.getConnection();
 
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -139,12 +140,25 @@ public class CostModelBenchmark {
 		return dataLength;
 	}
 
+	/**
+	 * Gives connection back to pool
+	 */
+	public void close(){
+		if(pooledConn==null)
+			return;
+		
+		pooledConn.release();
+		pooledConn = null;
+		conn = null;
+	}
+
 	public static void main(String[] args) {
 		CostModelBenchmark benchmark = new CostModelBenchmark(); 
 		benchmark.createSourceAndDestinationTableTable(); 
 		benchmark.insertDataIntoSourceTable(); 
 		benchmark.insertDataIntoDestinationTable(); 
 		System.out.println(benchmark.calculateMysqlInsertIntoTableSpeed() +"Bytes/S"); 
+		benchmark.close();
 	}
 
 }
@@ -13,12 +13,22 @@ import java.util.Vector;
 import org.xdb.Config;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
+import org.xdb.execute.operators.BloomFilter;
+import org.xdb.execute.operators.HeavyHitters;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.funsql.compile.analyze.operator.ConnectionAnnotationVisitor;
 import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.AbstractJoinOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.PartitionDesc;
 import org.xdb.funsql.compile.operator.ResultDesc;
 import org.xdb.funsql.compile.operator.TableOperator;
 import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.optimize.CardinalityEstimator;
+import org.xdb.funsql.types.EnumSimpleType;
+import org.xdb.metadata.Catalog;
 import org.xdb.metadata.Connection;
 import org.xdb.tracker.QueryTrackerPlan;
 import org.xdb.tracker.operator.AbstractTrackerOperator;
@@ -26,6 +36,7 @@ import org.xdb.tracker.operator.MySQLTrackerOperator;
 import org.xdb.tracker.operator.TableDesc;
 import org.xdb.utils.Identifier;
 import org.xdb.utils.StringTemplate;
+import org.xdb.utils.TokenPair;
 
 /**
  * Generates a query tracker plan form a given compile plan
@@ -59,6 +70,27 @@ public class CodeGenerator {
 	// roots of sub-plans: each sub-plan results in one tracker operator
 	private List<Identifier> splitOpIds;
 
+	// copies of broadcast results: compile operator ID + host -> tracker
+	// operator ID
+	private Map<String, Identifier> broadcastCopies = new HashMap<String, Identifier>();
+
+	// joins which filter their probe side: left input -> join, bits of
+	// filter and join keys
+	private Map<Identifier, AbstractCompileOperator> bloomFilterJoins = new HashMap<Identifier, AbstractCompileOperator>();
+	private Map<Identifier, Integer> bloomFilterBits = new HashMap<Identifier, Integer>();
+	private Map<Identifier, TokenPair> bloomFilterKeys = new HashMap<Identifier, TokenPair>();
+
+	// right inputs of joins which filter their probe side: right input ->
+	// left input
+	private Map<Identifier, Identifier> bloomFilterBuilds = new HashMap<Identifier, Identifier>();
+
+	// joins which spread heavy hitters of their probe side: left input ->
+	// right input
+	private Map<Identifier, Identifier> heavyHitterJoins = new HashMap<Identifier, Identifier>();
+
+	// estimated rows of output per row of input: sub-plan root -> ratio
+	private Map<Identifier, Double> outputRatios = new HashMap<Identifier, Double>();
+
 	// templates for SQL code generation
 	private final StringTemplate sqlInsertSelectTemplate = new StringTemplate(
 			"INSERT INTO <<" + TAB1 + ">> (<" + SQL1 + ">)");
@@ -75,6 +107,9 @@ public class CodeGenerator {
 
 	private final StringTemplate sqlViewTemplate = new StringTemplate("<<"
 			+ VIEW1 + ">> AS <" + SQL1 + ">");
+
+	private final StringTemplate sqlCopyTemplate = new StringTemplate(
+			"SELECT * FROM <<" + TAB1 + ">>");
    
 	private double trackerOpRuntime;
 	// constructor
@@ -109,9 +144,23 @@ public class CodeGenerator {
 	 */
 	public Error generate() {
 		Error err = new Error();
+		this.qtPlan.setCatalogVersion(Catalog.getVersion());
 	
 		// split compile plan into sub-plans
 		this.splitOpIds = extractSplitOps();
+
+		// choose joins which filter their probe side (before joins are
+		// combined)
+		if (Config.CODEGEN_BLOOM_FILTER && !Config.SIMULATION_MODE)
+			this.chooseBloomFilterJoins();
+
+		// keep joins which spread heavy hitters (before joins are combined)
+		if (!Config.SIMULATION_MODE)
+			this.chooseHeavyHitterJoins();
+
+		// estimate output of sub-plans for the resource scheduler (before
+		// operators are combined)
+		this.estimateOutputRatios();
 		
 		if(!Config.SIMULATION_MODE){
 			// optimize plan for code generation
@@ -126,6 +175,9 @@ public class CodeGenerator {
 		if (err.isError())
 			return err;
 
+		// keep joins which were not combined with other joins
+		this.extractBloomFilterJoins();
+
 		// rename attributes to original names
 		err = this.rename();
 		if (err.isError())
@@ -298,6 +350,32 @@ public class CodeGenerator {
 			}
 		}
 
+		// probe sides of joins wait for the filters of all build sides
+		for (Map.Entry<Identifier, Identifier> entry : this.bloomFilterBuilds
+				.entrySet()) {
+			for (Identifier probeTrackerOpId : this.compileOp2trackerOp
+					.get(entry.getValue())) {
+				for (Identifier buildTrackerOpId : this.compileOp2trackerOp
+						.get(entry.getKey())) {
+					this.addTrackerDependency(buildTrackerOpId,
+							probeTrackerOpId);
+				}
+			}
+		}
+
+		// build sides of joins with heavy hitters wait for all probe sides
+		for (Map.Entry<Identifier, Identifier> entry : this.heavyHitterJoins
+				.entrySet()) {
+			for (Identifier probeTrackerOpId : this.compileOp2trackerOp
+					.get(entry.getKey())) {
+				for (Identifier buildTrackerOpId : this.compileOp2trackerOp
+						.get(entry.getValue())) {
+					this.addTrackerDependency(probeTrackerOpId,
+							buildTrackerOpId);
+				}
+			}
+		}
+
 		// connect tracker operator in QueryTrackerPlan
 		for (Map.Entry<Identifier, Set<Identifier>> entry : this.sources
 				.entrySet()) {
@@ -309,9 +387,56 @@ public class CodeGenerator {
 			this.qtPlan.setConsumers(entry.getKey(), entry.getValue());
 		}
 
+		// stream results which are not materialized for fault-tolerance
+		if (Config.CODEGEN_PIPELINE && Config.COMPUTE_EXCHANGE_ACTIVE
+				&& !Config.SIMULATION_MODE)
+			this.markPipelinedOps();
+
 		return err;
 	}
 
+	/**
+	 * Marks tracker operators as pipelined if their output is not
+	 * materialized by the fault-tolerance cost model and if each output table
+	 * or view has exactly one consumer
+	 */
+	private void markPipelinedOps() {
+		List<Identifier> matOpIds = this.compilePlan.getMatOps();
+		for (Identifier splitOpId : this.splitOpIds) {
+			AbstractCompileOperator splitCompileOp = this.compilePlan
+					.getOperator(splitOpId);
+			if (splitCompileOp.isRoot()
+					|| splitCompileOp.getParents().size() != 1
+					|| matOpIds.contains(splitOpId.getChildId())
+					|| this.bloomFilterJoins.containsKey(splitOpId)
+					|| this.bloomFilterBuilds.containsKey(splitOpId)
+					|| this.heavyHitterJoins.containsKey(splitOpId)
+					|| this.heavyHitterJoins.containsValue(splitOpId))
+				continue;
+
+			ResultDesc splitResult = splitCompileOp.getResult();
+			int outputs = 1;
+			if (splitResult.repartition())
+				outputs = splitResult.getRePartitionCount();
+
+			for (Identifier trackerOpId : this.compileOp2trackerOp
+					.get(splitOpId)) {
+				MySQLTrackerOperator trackerOp = (MySQLTrackerOperator) this.qtPlan
+						.getTrackerOperator(trackerOpId);
+				Set<Identifier> consumerIds = this.consumers.get(trackerOpId);
+				if (consumerIds == null || consumerIds.size() != outputs
+						|| trackerOp.getPipelineOutputs().size() != outputs)
+					continue;
+
+				trackerOp.setPipelined(true);
+				for (Identifier consumerId : consumerIds) {
+					this.qtPlan.getTrackerOperator(consumerId)
+							.setPipelinedInput(trackerOpId);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Adds execute statements to new tracker operator
 	 * 
@@ -325,6 +450,20 @@ public class CodeGenerator {
 		String outTableName = outTableId.toString();
 		String executeDML = genExecuteDML(compileOp);
 		Map<String, String> args = new HashMap<String, String>();
+		trackerOp.setPipelineSQL(new StringTemplate(executeDML));
+
+		// probe side of a join: filter output before it is shipped
+		AbstractCompileOperator bloomFilterJoin = this.bloomFilterJoins
+				.get(compileOp.getOperatorId());
+		if (bloomFilterJoin != null) {
+			TokenPair keys = this.bloomFilterKeys.get(compileOp
+					.getOperatorId());
+			executeDML = BloomFilter.genProbeSQL(executeDML);
+			trackerOp.setBloomFilterProbe(bloomFilterJoin.getOperatorId()
+					.toString(), BloomFilter.genProbeKey(keys
+					.getLeftTokenAttribute().getName().toSqlString()));
+		}
+
 		args.put(SQL1, executeDML);
 		args.put(TAB1, outTableName);
 		executeDML = this.sqlInsertSelectTemplate.toString(args);
@@ -355,9 +494,10 @@ public class CodeGenerator {
 				&& outputResult.getRePartitionCount() > 1) {
 			String repartitionDDL = outputResult.getRepartDDL();
 			trackerOp.addOutTable(outTableName, outAttsDDL, repartitionDDL);
+			List<String> outputViewNames = new ArrayList<String>();
 
 			// add one output view for each partition
-			for (Integer i = 0; i < outputResult.getPartitionCount(); ++i) {
+			for (Integer i = 0; i < outputResult.getRePartitionCount(); ++i) {
 				Identifier outViewId = this.genOutputTableName(compileOp,
 						partNum);
 				outViewId.append(i);
@@ -370,12 +510,111 @@ public class CodeGenerator {
 				String selectPartDML = sqlViewSelectPartTemplate.toString(args);
 
 				trackerOp.addOutView(outputViewName, selectPartDML);
+				outputViewNames.add(outputViewName);
 			}
+
+			this.addTrackerHeavyHitterDDL(trackerOp, compileOp, outTableName,
+					outputViewNames);
+
+			trackerOp.setPipelineOutputs(outTableName, outputViewNames,
+					this.getPartColumn(outputResult),
+					outputResult.getRePartitionCount());
 		}
 		// add output table w/o repartition specification
 		else {
 			trackerOp.addOutTable(outTableName, outAttsDDL);
+
+			List<String> outputNames = new ArrayList<String>();
+			outputNames.add(outTableName);
+			trackerOp.setPipelineOutputs(outTableName, outputNames, -1, 1);
+		}
+	}
+
+	/**
+	 * Adds views of partitions which spread (probe side) or replicate (build
+	 * side) heavy hitters of a join to new tracker operator. The views
+	 * replace the output views after execution.
+	 * 
+	 * @param trackerOp
+	 * @param compileOp
+	 * @param outTableName
+	 * @param outputViewNames
+	 */
+	private void addTrackerHeavyHitterDDL(MySQLTrackerOperator trackerOp,
+			AbstractCompileOperator compileOp, String outTableName,
+			List<String> outputViewNames) {
+		Identifier opId = compileOp.getOperatorId();
+		boolean isProbe = this.heavyHitterJoins.containsKey(opId);
+		if (!isProbe && !this.heavyHitterJoins.containsValue(opId))
+			return;
+
+		ResultDesc outputResult = compileOp.getResult();
+		int partColumn = this.getPartColumn(outputResult);
+		String key = outputResult.getAttribute(partColumn).getName()
+				.toSqlString();
+		List<String> columns = new ArrayList<String>();
+		for (TokenAttribute att : outputResult.getAttributes()) {
+			columns.add(att.getName().toSqlString());
 		}
+
+		Map<String, String> args = new HashMap<String, String>();
+		args.put(TAB1, outTableName);
+		String table = this.sqlSelectAllTemplate.toString(args);
+		int partCnt = outputViewNames.size();
+
+		// probe side: heavy hitters of the join are identified by probe side
+		String joinId;
+		if (isProbe) {
+			joinId = opId.toString();
+			double minFraction = Config.OPTIMIZER_SKEW_MIN_SHARE / partCnt;
+			trackerOp.setHeavyHitterProbe(joinId, new StringTemplate(
+					HeavyHitters.genDetectSQL(table, key, minFraction,
+							Config.CODEGEN_SKEW_MAX_KEYS)));
+		} else {
+			joinId = this.getHeavyHitterProbe(opId).toString();
+			trackerOp.setHeavyHitterBuild(joinId);
+		}
+
+		for (int i = 0; i < partCnt; ++i) {
+			args.put(TAB1, outputViewNames.get(i));
+			String view = this.sqlSelectAllTemplate.toString(args);
+			String viewSQL = isProbe ? HeavyHitters.genSplitViewSQL(view,
+					table, key, columns, i, partCnt) : HeavyHitters
+					.genReplicateViewSQL(view, table, key, i);
+			trackerOp.addHeavyHitterView(new StringTemplate(viewSQL));
+		}
+	}
+
+	private Identifier getHeavyHitterProbe(Identifier buildOpId) {
+		for (Map.Entry<Identifier, Identifier> entry : this.heavyHitterJoins
+				.entrySet()) {
+			if (entry.getValue().equals(buildOpId))
+				return entry.getKey();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns index of the attribute which is used for hash repartitioning
+	 * (or -1 if the output is not repartitioned by a single hash attribute)
+	 * 
+	 * @param outputResult
+	 * @return
+	 */
+	private int getPartColumn(ResultDesc outputResult) {
+		PartitionDesc rePartDesc = outputResult.getRePartitionDesc();
+		if (rePartDesc == null || !rePartDesc.getPartitionType().isHash()
+				|| rePartDesc.getPartAttributes().size() != 1)
+			return -1;
+
+		String partAttName = rePartDesc.getPartAttributes().get(0).getName()
+				.toSqlString();
+		for (int i = 0; i < outputResult.getNumAttributes(); ++i) {
+			if (outputResult.getAttribute(i).getName().toSqlString()
+					.equals(partAttName))
+				return i;
+		}
+		return -1;
 	}
 
 	/**
@@ -387,7 +626,6 @@ public class CodeGenerator {
 	 */
 	private void addTrackerInputDDL(MySQLTrackerOperator trackerOp,
 			AbstractCompileOperator compileOp, int partNum) {
-		Map<String, String> args = new HashMap<String, String>();
 		Set<AbstractCompileOperator> inputCompileOps = this
 				.getInputOps(compileOp); 
 	     
@@ -395,134 +633,236 @@ public class CodeGenerator {
 		trackerOp.setMattime(compileOp.getMattime());
 		// for each input operator create input DDL
 		for (AbstractCompileOperator inputCompileOp : inputCompileOps) { 
-			// generate input DDL
-			ResultDesc inputResult = inputCompileOp.getResult();
-			/** Create input table DDL **/
-			Identifier inTableId = this.genInputTableName(inputCompileOp);
-			String inTableName = inTableId.toString();
-			String inAttsDDL = inputResult.getAttsDDL(false);
-			args.put(SQL1, inAttsDDL);
-
-			// if input is a table -> use a different name
-			//if (inputCompileOp.isTable()) {
-			//	inTableName = TABLE_PREFIX + inTableName;
-			//}
+			// broadcast input: read copy on same node
+			if (inputCompileOp.getResult().broadcast()) {
+				this.addTrackerBroadcastInputDDL(trackerOp, inputCompileOp,
+						compileOp.getWishedConnections(partNum));
+				continue;
+			}
+			this.addTrackerInputTableDDL(trackerOp, inputCompileOp, partNum);
+		}
+	}
 
-			// if input is has more than one partition
-			if (inputResult.repartition()) {
-				StringBuffer sqlUnionDML = new StringBuffer();
-				for (int i = 0; i < inputResult.getPartitionCount(); ++i) {
-					// input table name
-					Identifier inPartId = this
-							.genInputTableName(inputCompileOp);
-					inPartId.append(i);
-					String inPartName = inPartId.toString();
-					args.put(TAB1, inPartName);
-
-					// input table DDL
-					inAttsDDL = this.sqlInOutDDLTemplate.toString(args);
-					trackerOp.addInTable(inPartName, new StringTemplate(
-							inAttsDDL));
-
-					// input view DDL
-					if (i > 0) {
-						sqlUnionDML.append(AbstractToken.BLANK);
-						sqlUnionDML.append(AbstractToken.UNION);
-						sqlUnionDML.append(AbstractToken.BLANK);
-					}
-					sqlUnionDML.append(AbstractToken.LBRACE);
-					sqlUnionDML
-							.append(this.sqlSelectAllTemplate.toString(args));
-					sqlUnionDML.append(AbstractToken.RBRACE);
-				}
+	/**
+	 * Adds DDL statements for a broadcast input to new tracker operator: the
+	 * input is read from the copy of the broadcast result on the node of the
+	 * tracker operator
+	 * 
+	 * @param trackerOp
+	 * @param inputCompileOp
+	 * @param connections
+	 *            wished connections of tracker operator
+	 */
+	private void addTrackerBroadcastInputDDL(MySQLTrackerOperator trackerOp,
+			AbstractCompileOperator inputCompileOp, List<Connection> connections) {
+		Map<String, String> args = new HashMap<String, String>();
+		Identifier copyOpId = this.getBroadcastCopy(inputCompileOp,
+				connections);
+
+		String inTableName = this.genInputTableName(inputCompileOp)
+				.toString();
+		args.put(TAB1, inTableName);
+		args.put(SQL1, inputCompileOp.getResult().getAttsDDL(false));
+		String inAttsDDL = this.sqlInOutDDLTemplate.toString(args);
+		trackerOp.addInTable(inTableName, new StringTemplate(inAttsDDL));
+
+		TableDesc tableDesc = new TableDesc(this.genOutputTableName(
+				inputCompileOp).toString(), copyOpId);
+		trackerOp.addInTableFederated(inTableName, tableDesc);
+		this.addTrackerDependency(copyOpId, trackerOp.getOperatorId());
+	}
 
-				args.put(VIEW1, inTableName);
-				args.put(SQL1, sqlUnionDML.toString());
-				trackerOp.addInView(inTableName,
-						this.sqlViewTemplate.toString(args));
+	/**
+	 * Returns tracker operator which copies all partitions of a broadcast
+	 * result to the node of the given connections. The copy is generated
+	 * once per node and shared by all consumers on this node.
+	 * 
+	 * @param inputCompileOp
+	 * @param connections
+	 * @return
+	 */
+	private Identifier getBroadcastCopy(AbstractCompileOperator inputCompileOp,
+			List<Connection> connections) {
+		String host = "";
+		if (connections != null && !connections.isEmpty())
+			host = connections.get(0).getURI().getHost();
+		String copyKey = inputCompileOp.getOperatorId().toString()
+				+ AbstractToken.BLANK + host;
+		if (this.broadcastCopies.containsKey(copyKey))
+			return this.broadcastCopies.get(copyKey);
+
+		MySQLTrackerOperator copyOp = new MySQLTrackerOperator();
+		this.qtPlan.addOperator(copyOp);
 
-			} else {
+		// add DML statement for execution
+		Map<String, String> args = new HashMap<String, String>();
+		String outTableName = this.genOutputTableName(inputCompileOp)
+				.toString();
+		args.put(TAB1, this.genInputTableName(inputCompileOp).toString());
+		String copyDML = this.sqlCopyTemplate.toString(args);
+		args.put(TAB1, outTableName);
+		args.put(SQL1, copyDML);
+		copyOp.setPipelineSQL(new StringTemplate(copyDML));
+		copyOp.addExecuteSQL(new StringTemplate(this.sqlInsertSelectTemplate
+				.toString(args)));
+
+		// add DDL statement for output table
+		args.put(SQL1, inputCompileOp.getResult().getAttsDDL(
+				Config.COMPUTE_INTERMEDIATE_KEYS));
+		copyOp.addOutTable(outTableName,
+				this.sqlInOutDDLTemplate.toString(args));
+		List<String> outputNames = new ArrayList<String>();
+		outputNames.add(outTableName);
+		copyOp.setPipelineOutputs(outTableName, outputNames, -1, 1);
+
+		// add DDL statements for all partitions of broadcast result
+		this.addTrackerInputTableDDL(copyOp, inputCompileOp, 0);
+
+		if (connections != null)
+			copyOp.setTrackerOpConnections(connections);
+
+		this.broadcastCopies.put(copyKey, copyOp.getOperatorId());
+		return copyOp.getOperatorId();
+	}
 
-				args.put(TAB1, inTableName);
+	/**
+	 * Adds DDL statements for a single input table/view to new tracker
+	 * operator
+	 * 
+	 * @param trackerOp
+	 * @param inputCompileOp
+	 * @param partNum
+	 */
+	private void addTrackerInputTableDDL(MySQLTrackerOperator trackerOp,
+			AbstractCompileOperator inputCompileOp, int partNum) {
+		Map<String, String> args = new HashMap<String, String>();
+
+		// generate input DDL
+		ResultDesc inputResult = inputCompileOp.getResult();
+		/** Create input table DDL **/
+		Identifier inTableId = this.genInputTableName(inputCompileOp);
+		String inTableName = inTableId.toString();
+		String inAttsDDL = inputResult.getAttsDDL(false);
+		args.put(SQL1, inAttsDDL);
+
+		// if input is a table -> use a different name
+		//if (inputCompileOp.isTable()) {
+		//	inTableName = TABLE_PREFIX + inTableName;
+		//}
+
+		// if input is has more than one partition
+		if (inputResult.repartition()) {
+			StringBuffer sqlUnionDML = new StringBuffer();
+			for (int i = 0; i < inputResult.getPartitionCount(); ++i) {
+				// input table name
+				Identifier inPartId = this
+						.genInputTableName(inputCompileOp);
+				inPartId.append(i);
+				String inPartName = inPartId.toString();
+				args.put(TAB1, inPartName);
+
+				// input table DDL
 				inAttsDDL = this.sqlInOutDDLTemplate.toString(args);
-				trackerOp
-						.addInTable(inTableName, new StringTemplate(inAttsDDL));
+				trackerOp.addInTable(inPartName, new StringTemplate(
+						inAttsDDL));
+
+				// input view DDL
+				if (i > 0) {
+					sqlUnionDML.append(AbstractToken.BLANK);
+					sqlUnionDML.append(AbstractToken.UNION);
+					sqlUnionDML.append(AbstractToken.BLANK);
+				}
+				sqlUnionDML.append(AbstractToken.LBRACE);
+				sqlUnionDML
+						.append(this.sqlSelectAllTemplate.toString(args));
+				sqlUnionDML.append(AbstractToken.RBRACE);
 			}
 
-			/** Create input table description and dependencies **/
-			// if input is a table: add catalog info to tracker operator
-			if (inputCompileOp.isTable()) { // table
-				TableOperator inputTableOp = (TableOperator) inputCompileOp;
+			args.put(VIEW1, inTableName);
+			args.put(SQL1, sqlUnionDML.toString());
+			trackerOp.addInView(inTableName,
+					this.sqlViewTemplate.toString(args));
 
-				if (inputTableOp.isPartitioned()) {
-					TableDesc tableDesc = new TableDesc(
-							inputTableOp.getTableName(partNum),
-							inputTableOp.getURIs(partNum));
-					trackerOp.addInTableFederated(inTableName, tableDesc);
-				} else {
-					TableDesc tableDesc = new TableDesc(
-							inputTableOp.getTableName(), inputTableOp.getURIs(partNum));
-					trackerOp.addInTableFederated(inTableName, tableDesc);
-				}
+		} else {
+
+			args.put(TAB1, inTableName);
+			inAttsDDL = this.sqlInOutDDLTemplate.toString(args);
+			trackerOp
+					.addInTable(inTableName, new StringTemplate(inAttsDDL));
+		}
+
+		/** Create input table description and dependencies **/
+		// if input is a table: add catalog info to tracker operator
+		if (inputCompileOp.isTable()) { // table
+			TableOperator inputTableOp = (TableOperator) inputCompileOp;
+
+			if (inputTableOp.isPartitioned()) {
+				TableDesc tableDesc = new TableDesc(
+						inputTableOp.getTableName(partNum),
+						inputTableOp.getURIs(partNum));
+				trackerOp.addInTableFederated(inTableName, tableDesc);
+			} else {
+				TableDesc tableDesc = new TableDesc(
+						inputTableOp.getTableName(), inputTableOp.getURIs(partNum));
+				trackerOp.addInTableFederated(inTableName, tableDesc);
 			}
-			// else: use intermediate result as table (with _OUT suffix)
-			else {
-				// if input is has more than one partition
-				if (inputResult.repartition()) {
-					// create one input per partition
-					int remotePartNum = 0;
-					for (Identifier inTrackerOpId : this.compileOp2trackerOp
-							.get(inputCompileOp.getOperatorId())) {
-
-						// remote table name
-						Identifier inPartRemoteId = null;
-						if (inputCompileOp.getResult().getRePartitionCount() > 1) {
-							inPartRemoteId = this.genOutputTableName(
-									inputCompileOp, remotePartNum);
-							inPartRemoteId.append(partNum);
-						} else {
-							inPartRemoteId = this
-									.genOutputTableName(inputCompileOp);
-						}
-
-						// local table name
-						Identifier inPartId = this
-								.genInputTableName(inputCompileOp);
-						inPartId.append(remotePartNum);
-						String inPartName = inPartId.toString();
-
-						// table description
-						TableDesc tableDesc = new TableDesc(
-								inPartRemoteId.toString(), inTrackerOpId);
-						trackerOp.addInTableFederated(inPartName, tableDesc);
-						this.addTrackerDependency(inTrackerOpId,
-								trackerOp.getOperatorId());
-						remotePartNum++;
-					}
-				} else {
-					// create one input table
-					Identifier inTableRemoteId = this
-							.genOutputTableName(inputCompileOp);
-					
-					Identifier inTrackerOpId = null;
-					if (inputCompileOp.getResult().getPartitionCount() > 1) {
-						inTrackerOpId = this.compileOp2trackerOp.get(
-							inputCompileOp.getOperatorId()).get(partNum);
-					}
-					else{
-						inTrackerOpId = this.compileOp2trackerOp.get(
-								inputCompileOp.getOperatorId()).get(0);
+		}
+		// else: use intermediate result as table (with _OUT suffix)
+		else {
+			// if input is has more than one partition
+			if (inputResult.repartition()) {
+				// create one input per partition
+				int remotePartNum = 0;
+				for (Identifier inTrackerOpId : this.compileOp2trackerOp
+						.get(inputCompileOp.getOperatorId())) {
+
+					// remote table name
+					Identifier inPartRemoteId = null;
+					if (inputCompileOp.getResult().getRePartitionCount() > 1) {
+						inPartRemoteId = this.genOutputTableName(
+								inputCompileOp, remotePartNum);
+						inPartRemoteId.append(partNum);
+					} else {
+						inPartRemoteId = this
+								.genOutputTableName(inputCompileOp);
 					}
-					
+
+					// local table name
+					Identifier inPartId = this
+							.genInputTableName(inputCompileOp);
+					inPartId.append(remotePartNum);
+					String inPartName = inPartId.toString();
+
+					// table description
 					TableDesc tableDesc = new TableDesc(
-							inTableRemoteId.toString(), inTrackerOpId);
-					trackerOp.addInTableFederated(inTableName, tableDesc);
+							inPartRemoteId.toString(), inTrackerOpId);
+					trackerOp.addInTableFederated(inPartName, tableDesc);
 					this.addTrackerDependency(inTrackerOpId,
 							trackerOp.getOperatorId());
+					remotePartNum++;
+				}
+			} else {
+				// create one input table
+				Identifier inTableRemoteId = this
+						.genOutputTableName(inputCompileOp);
+				
+				Identifier inTrackerOpId = null;
+				if (inputCompileOp.getResult().getPartitionCount() > 1) {
+					inTrackerOpId = this.compileOp2trackerOp.get(
+						inputCompileOp.getOperatorId()).get(partNum);
+				}
+				else{
+					inTrackerOpId = this.compileOp2trackerOp.get(
+							inputCompileOp.getOperatorId()).get(0);
 				}
+				
+				TableDesc tableDesc = new TableDesc(
+						inTableRemoteId.toString(), inTrackerOpId);
+				trackerOp.addInTableFederated(inTableName, tableDesc);
+				this.addTrackerDependency(inTrackerOpId,
+						trackerOp.getOperatorId());
 			}
-		} 
-
+		}
 	}
 
 	/**
@@ -539,6 +879,10 @@ public class CodeGenerator {
 	    
 		// generate a new MySQL operator
 		MySQLTrackerOperator trackerOp = new MySQLTrackerOperator();
+		trackerOp.setCompileOperatorId(compileOp.getOperatorId());
+		if (this.outputRatios.containsKey(compileOp.getOperatorId()))
+			trackerOp.setOutputRatio(this.outputRatios.get(compileOp
+					.getOperatorId()));
 		this.qtPlan.addOperator(trackerOp);
 
 		// add DML statement for execution
@@ -549,6 +893,9 @@ public class CodeGenerator {
 
 		// add DDL statements for input tables
 		this.addTrackerInputDDL(trackerOp, compileOp, partNum); 
+
+		// build side of a join: hash join keys of output
+		this.addTrackerBloomFilterBuild(trackerOp, compileOp);
 		
 		// add connections to tracker operator
 		List<Connection> trackerOpConnections = compileOp
@@ -558,6 +905,240 @@ public class CodeGenerator {
 		return trackerOp;
 	}
 
+	/**
+	 * Chooses selective joins whose inputs are materialized by separate
+	 * tracker operators. The left input (probe side) only keeps rows whose
+	 * join key might be in the Bloom filter of the right input (build side)
+	 * before its output is repartitioned and shipped.
+	 */
+	private void chooseBloomFilterJoins() {
+		CardinalityEstimator estimator = new CardinalityEstimator();
+		for (AbstractCompileOperator compileOp : this.compilePlan
+				.getOperators()) {
+			if (!compileOp.getType().equals(EnumOperator.EQUI_JOIN))
+				continue;
+
+			EquiJoin ej = (EquiJoin) compileOp;
+			if (!this.canBloomFilter(ej))
+				continue;
+
+			// fraction of probe rows which find a join partner: without
+			// statistics a key/foreign-key join is assumed where the
+			// selections of the build side remove the same fraction of
+			// probe rows
+			AbstractCompileOperator right = ej.getRightChild();
+			double selectivity = Math.min(estimator.getCardinality(ej)
+					/ estimator.getCardinality(ej.getLeftChild()),
+					estimator.getCardinality(right)
+							/ getUnfilteredCardinality(estimator, right));
+			if (selectivity > Config.CODEGEN_BLOOM_FILTER_MAX_SELECTIVITY)
+				continue;
+
+			this.bloomFilterBits.put(ej.getLeftChild().getOperatorId(), BloomFilter
+					.getNumBits(estimator.getCardinality(ej.getRightChild()),
+							Config.CODEGEN_BLOOM_FILTER_MAX_BITS));
+		}
+	}
+
+	/**
+	 * Chooses joins whose left input (probe side) spreads its heavy hitters
+	 * over all partitions and whose right input (build side) replicates its
+	 * rows with these keys (see CreatePartitionDescVisitor). Both inputs
+	 * must be materialized by separate tracker operators with the same
+	 * number of partitions.
+	 */
+	private void chooseHeavyHitterJoins() {
+		for (AbstractCompileOperator compileOp : this.compilePlan
+				.getOperators()) {
+			if (!compileOp.getType().equals(EnumOperator.EQUI_JOIN))
+				continue;
+
+			EquiJoin ej = (EquiJoin) compileOp;
+			AbstractCompileOperator left = ej.getLeftChild();
+			AbstractCompileOperator right = ej.getRightChild();
+			ResultDesc leftResult = left.getResult();
+			ResultDesc rightResult = right.getResult();
+			if (!leftResult.splitHeavyHitters()
+					|| !rightResult.replicateHeavyHitters()
+					|| !this.splitOpIds.contains(left.getOperatorId())
+					|| !this.splitOpIds.contains(right.getOperatorId())
+					|| leftResult.getRePartitionCount() <= 1
+					|| leftResult.getRePartitionCount() != rightResult
+							.getRePartitionCount()
+					|| this.getPartColumn(leftResult) < 0
+					|| this.getPartColumn(rightResult) < 0)
+				continue;
+
+			// probe and build side must not depend on each other
+			if (this.dependsOn(left, right) || this.dependsOn(right, left))
+				continue;
+
+			this.heavyHitterJoins.put(left.getOperatorId(),
+					right.getOperatorId());
+		}
+	}
+
+	/**
+	 * Estimates for each sub-plan the ratio of its output rows to the rows
+	 * of its inputs (i.e., tables and results of other sub-plans)
+	 */
+	private void estimateOutputRatios() {
+		CardinalityEstimator estimator = new CardinalityEstimator();
+		for (Identifier splitOpId : this.splitOpIds) {
+			AbstractCompileOperator splitOp = this.compilePlan
+					.getOperator(splitOpId);
+			double inputCard = 0.0;
+			for (AbstractCompileOperator child : splitOp.getChildren()) {
+				inputCard += this.getInputCardinality(estimator, child);
+			}
+			if (inputCard > 0.0)
+				this.outputRatios.put(splitOpId,
+						estimator.getCardinality(splitOp) / inputCard);
+		}
+	}
+
+	private double getInputCardinality(CardinalityEstimator estimator,
+			AbstractCompileOperator op) {
+		if (op.getChildren().isEmpty()
+				|| this.splitOpIds.contains(op.getOperatorId()))
+			return estimator.getCardinality(op);
+
+		double inputCard = 0.0;
+		for (AbstractCompileOperator child : op.getChildren()) {
+			inputCard += this.getInputCardinality(estimator, child);
+		}
+		return inputCard;
+	}
+
+	private static double getUnfilteredCardinality(
+			CardinalityEstimator estimator, AbstractCompileOperator op) {
+		while (op.getType().equals(EnumOperator.GENERIC_SELECTION)
+				|| op.getType().equals(EnumOperator.GENERIC_PROJECTION)) {
+			op = op.getChildren().get(0);
+		}
+		return estimator.getCardinality(op);
+	}
+
+	/**
+	 * Checks if the probe side of a join can be filtered
+	 * 
+	 * @param ej
+	 * @return
+	 */
+	private boolean canBloomFilter(EquiJoin ej) {
+		AbstractCompileOperator left = ej.getLeftChild();
+		AbstractCompileOperator right = ej.getRightChild();
+
+		// probe side is only shipped to the join (and does not wait for
+		// build side to spread its heavy hitters); build side is
+		// materialized by separate tracker operators which hash its keys
+		if (!this.splitOpIds.contains(left.getOperatorId()) || left.isTable()
+				|| left.getParents().size() != 1
+				|| !this.splitOpIds.contains(right.getOperatorId())
+				|| right.getParents().size() != 1
+				|| left.getResult().broadcast()
+				|| right.getResult().broadcast()
+				|| left.getResult().splitHeavyHitters())
+			return false;
+
+		// hash values of equal keys are only equal for integers
+		if (!isIntegerAtt(left.getResult(), ej.getLeftTokenAttribute())
+				|| !isIntegerAtt(right.getResult(),
+						ej.getRightTokenAttribute()))
+			return false;
+
+		// build side must not wait for probe side
+		return !this.dependsOn(right, left);
+	}
+
+	/**
+	 * Extracts chosen joins from optimized plan (i.e., the parent of each
+	 * probe side): joins which were combined with other joins are not
+	 * filtered
+	 */
+	private void extractBloomFilterJoins() {
+		for (Identifier probeOpId : this.bloomFilterBits.keySet()) {
+			AbstractCompileOperator probeOp = this.compilePlan
+					.getOperator(probeOpId);
+			if (probeOp == null || probeOp.getParents().size() != 1)
+				continue;
+
+			AbstractCompileOperator joinOp = probeOp.getParents().get(0);
+			if (joinOp.getChildren().size() != 2
+					|| joinOp.getChildren().get(0) != probeOp)
+				continue;
+
+			AbstractCompileOperator buildOp = joinOp.getChildren().get(1);
+			if (!this.splitOpIds.contains(buildOp.getOperatorId()))
+				continue;
+
+			TokenPair keys;
+			if (joinOp.getType().equals(EnumOperator.EQUI_JOIN)) {
+				EquiJoin ej = (EquiJoin) joinOp;
+				keys = new TokenPair(ej.getLeftTokenAttribute(),
+						ej.getRightTokenAttribute());
+			} else if ((joinOp.getType().equals(EnumOperator.SQL_JOIN) || joinOp
+					.getType().equals(EnumOperator.SQL_COMBINED))
+					&& ((AbstractJoinOperator) joinOp).getJointokens().size() == 1) {
+				keys = ((AbstractJoinOperator) joinOp).getJointokens().get(0);
+			} else {
+				continue;
+			}
+
+			this.bloomFilterJoins.put(probeOpId, joinOp);
+			this.bloomFilterKeys.put(probeOpId, keys);
+			this.bloomFilterBuilds.put(buildOp.getOperatorId(), probeOpId);
+		}
+	}
+
+	private static boolean isIntegerAtt(ResultDesc rDesc, TokenAttribute att) {
+		String attName = att.getName().getValue();
+		for (int i = 0; i < rDesc.getNumAttributes(); ++i) {
+			if (rDesc.getAttribute(i).getName().getValue().equals(attName))
+				return rDesc.getType(i).equals(EnumSimpleType.SQL_INTEGER);
+		}
+		return false;
+	}
+
+	private boolean dependsOn(AbstractCompileOperator op,
+			AbstractCompileOperator otherOp) {
+		if (op.getOperatorId().equals(otherOp.getOperatorId()))
+			return true;
+
+		for (AbstractCompileOperator childOp : op.getChildren()) {
+			if (this.dependsOn(childOp, otherOp))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds query to new tracker operator of the right input of a join (build
+	 * side) which hashes the join keys of its output after execution. The
+	 * query tracker merges the filters of all partitions.
+	 * 
+	 * @param trackerOp
+	 * @param compileOp
+	 */
+	private void addTrackerBloomFilterBuild(MySQLTrackerOperator trackerOp,
+			AbstractCompileOperator compileOp) {
+		Identifier probeOpId = this.bloomFilterBuilds.get(compileOp
+				.getOperatorId());
+		if (probeOpId == null)
+			return;
+
+		AbstractCompileOperator joinOp = this.bloomFilterJoins.get(probeOpId);
+		String rightKey = this.bloomFilterKeys.get(probeOpId)
+				.getRightTokenAttribute().getName().toSqlString();
+
+		Map<String, String> args = new HashMap<String, String>();
+		args.put(TAB1, this.genOutputTableName(compileOp).toString());
+		String buildSQL = this.sqlCopyTemplate.toString(args);
+		trackerOp.setBloomFilterBuild(joinOp.getOperatorId().toString(),
+				new StringTemplate(BloomFilter.genBuildSQL(buildSQL, rightKey)),
+				this.bloomFilterBits.get(probeOpId));
+	}
+
 	/**
 	 * Register dependency
 	 * 
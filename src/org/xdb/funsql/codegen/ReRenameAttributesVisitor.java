@@ -12,11 +12,13 @@ import org.xdb.funsql.compile.operator.GenericAggregation;
 import org.xdb.funsql.compile.operator.GenericProjection;
 import org.xdb.funsql.compile.operator.GenericSelection;
 import org.xdb.funsql.compile.operator.Rename;
+import org.xdb.funsql.compile.operator.ResultDesc;
 import org.xdb.funsql.compile.operator.SQLCombined;
 import org.xdb.funsql.compile.operator.SQLJoin;
 import org.xdb.funsql.compile.operator.SQLUnary;
 import org.xdb.funsql.compile.operator.TableOperator;
 import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.compile.tokens.TokenIdentifier;
 
 /**
  * @author a.c.mueller
@@ -89,6 +91,17 @@ public class ReRenameAttributesVisitor extends AbstractBottomUpTreeVisitor {
 				return e;
 		}
 
+		//pass-through projections (e.g., pruned attributes) keep renamed names
+		if(!gp.isRoot()){
+			Vector<TokenIdentifier> aliases = gp.getAliases();
+			for(int i=0; i<aliases.size(); ++i){
+				String alias = aliases.get(i).getValue();
+				if(renamedAttributes.containsKey(alias))
+					aliases.set(i, new TokenIdentifier(renamedAttributes.get(alias)));
+			}
+			renameResultSet(gp);
+		}
+
 		return e;
 	}
 
@@ -150,6 +163,11 @@ public class ReRenameAttributesVisitor extends AbstractBottomUpTreeVisitor {
 			renamedAttributes.put(tA.getName().getValue(), newName);
 			tA.setName(newName);
 		}
+
+		// re-partitioned table (e.g., probe side of a join with heavy hitters)
+		ResultDesc result = tableOp.getResult();
+		if (result.repartition() && result.getRePartitionDesc() != null)
+			result.getRePartitionDesc().renameAttributes(renamedAttributes);
 	}
 
 	/**
@@ -57,6 +57,12 @@ public class CompilePlan implements Serializable {
 	// last error
 	private Error err = new Error();
 
+	// resource group of admission control (see AdmissionController)
+	private String resourceGroup = null;
+
+	// plan depends on values of literals (e.g., pruned partitions)
+	private boolean literalDependent = false;
+
 	// constructor
 	public CompilePlan() {
 		this.planId = new Identifier(lastPlanId++);
@@ -80,6 +86,30 @@ public class CompilePlan implements Serializable {
 		return this.planId;
 	}
 
+	/**
+	 * Assigns a new unique plan id (e.g., to a copy of a cached plan). Ids of
+	 * operators are not changed.
+	 */
+	public void renewPlanId() {
+		this.planId = new Identifier(lastPlanId++);
+	}
+
+	public String getResourceGroup() {
+		return this.resourceGroup;
+	}
+
+	public void setResourceGroup(String resourceGroup) {
+		this.resourceGroup = resourceGroup;
+	}
+
+	public boolean isLiteralDependent() {
+		return this.literalDependent;
+	}
+
+	public void setLiteralDependent(boolean literalDependent) {
+		this.literalDependent = literalDependent;
+	}
+
 	public Collection<AbstractCompileOperator> getOperators() {
 		return operators.values();
 	}
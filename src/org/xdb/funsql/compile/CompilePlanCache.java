@@ -0,0 +1,229 @@
+package org.xdb.funsql.compile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.tokens.TokenLiteral;
+import org.xdb.metadata.Catalog;
+import org.xdb.utils.Tuple;
+
+/**
+ * Cache of optimized and parallelized compile plans of SELECT statements
+ * keyed by the normalized statement (see ParameterizedStmt). The cache is
+ * cleared whenever the catalog changes.
+ *
+ * Plans are stored in serialized form; each hit returns a new copy of the
+ * plan with its own plan id where the literals are bound to the values of
+ * the statement. Plans
+ * which depend on the values of literals (e.g., pruned partitions) and
+ * templates which can not be compiled with placeholders are not cached;
+ * their statements are only marked such that they are compiled directly.
+ */
+public final class CompilePlanCache {
+	// Singleton
+	private static CompilePlanCache cache;
+
+	// normalized statement -> serialized plan (in LRU order)
+	private final Map<String, byte[]> plans;
+
+	// marker for statements whose plans depend on literals (or whose
+	// templates fail to compile)
+	private static final byte[] LITERAL_DEPENDENT = new byte[0];
+
+	// catalog version of cached plans
+	private long catalogVersion;
+
+	// statistics
+	private long hits = 0;
+	private long misses = 0;
+
+	public synchronized static CompilePlanCache getCache() {
+		if (cache == null) {
+			cache = new CompilePlanCache();
+		}
+		return cache;
+	}
+
+	// constructor
+	private CompilePlanCache() {
+		this.plans = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 4127346123620398175L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+				return size() > Config.COMPILE_PLAN_CACHE_SIZE;
+			}
+		};
+		this.catalogVersion = Catalog.getVersion();
+	}
+
+	// getters and setters
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	public synchronized int size() {
+		return this.plans.size();
+	}
+
+	// methods
+	/**
+	 * Returns a copy of the cached plan bound to the literals of the
+	 * statement (or null if no plan is cached for the statement)
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	public Tuple<Error, CompilePlan> getPlan(ParameterizedStmt stmt) {
+		byte[] plan;
+		synchronized (this) {
+			this.checkCatalog();
+			plan = this.plans.get(stmt.getKey());
+			if (plan == null || plan == LITERAL_DEPENDENT) {
+				this.misses++;
+				return new Tuple<Error, CompilePlan>(new Error(), null);
+			}
+			this.hits++;
+		}
+		return bind(plan, stmt);
+	}
+
+	/**
+	 * Adds the plan compiled from the template of the statement to the cache
+	 * and returns a copy bound to the literals of the statement
+	 *
+	 * @param stmt
+	 * @param templatePlan
+	 * @param catalogVersion
+	 *            catalog version before compiling the template
+	 * @return
+	 */
+	public Tuple<Error, CompilePlan> addPlan(ParameterizedStmt stmt,
+			CompilePlan templatePlan, long catalogVersion) {
+		byte[] plan;
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream(bytes);
+			out.writeObject(templatePlan);
+			out.close();
+			plan = bytes.toByteArray();
+		} catch (IOException e) {
+			return new Tuple<Error, CompilePlan>(
+					FunSQLCompiler.createGenericCompileErr(e.toString()), null);
+		}
+
+		synchronized (this) {
+			this.checkCatalog();
+			// do not cache plans compiled against an outdated catalog
+			if (catalogVersion == this.catalogVersion)
+				this.plans.put(stmt.getKey(), plan);
+		}
+		return bind(plan, stmt);
+	}
+
+	/**
+	 * Checks if plans of the statement depend on its literals (i.e., the
+	 * statement must be compiled without the cache)
+	 *
+	 * @param stmt
+	 * @return
+	 */
+	public synchronized boolean isLiteralDependent(ParameterizedStmt stmt) {
+		this.checkCatalog();
+		return this.plans.get(stmt.getKey()) == LITERAL_DEPENDENT;
+	}
+
+	/**
+	 * Marks statement as compiled to plans which depend on its literals (or
+	 * whose template failed to compile)
+	 *
+	 * @param stmt
+	 * @param catalogVersion
+	 *            catalog version before compiling the template
+	 */
+	public synchronized void addLiteralDependent(ParameterizedStmt stmt,
+			long catalogVersion) {
+		this.checkCatalog();
+		if (catalogVersion == this.catalogVersion)
+			this.plans.put(stmt.getKey(), LITERAL_DEPENDENT);
+	}
+
+	/**
+	 * Clear Cache
+	 */
+	public synchronized void clear() {
+		this.plans.clear();
+	}
+
+	/**
+	 * Clears cache if catalog changed since plans were cached
+	 */
+	private void checkCatalog() {
+		long version = Catalog.getVersion();
+		if (version != this.catalogVersion) {
+			this.plans.clear();
+			this.catalogVersion = version;
+		}
+	}
+
+	/**
+	 * Deserializes plan and replaces placeholders of the template by the
+	 * literals of the statement
+	 *
+	 * @param plan
+	 * @param stmt
+	 * @return
+	 */
+	private static Tuple<Error, CompilePlan> bind(byte[] plan,
+			ParameterizedStmt stmt) {
+		try {
+			ObjectInputStream in = new BindingInputStream(
+					new ByteArrayInputStream(plan), stmt);
+			CompilePlan boundPlan = (CompilePlan) in.readObject();
+			in.close();
+			boundPlan.init();
+			// copies are executed as separate plans
+			boundPlan.renewPlanId();
+			return new Tuple<Error, CompilePlan>(new Error(), boundPlan);
+		} catch (Exception e) {
+			return new Tuple<Error, CompilePlan>(
+					FunSQLCompiler.createGenericCompileErr(e.toString()), null);
+		}
+	}
+
+	/**
+	 * Input stream which binds literals while deserializing a plan
+	 */
+	private static class BindingInputStream extends ObjectInputStream {
+		private final ParameterizedStmt stmt;
+
+		public BindingInputStream(InputStream in, ParameterizedStmt stmt)
+				throws IOException {
+			super(in);
+			this.stmt = stmt;
+			this.enableResolveObject(true);
+		}
+
+		@Override
+		protected Object resolveObject(Object obj) throws IOException {
+			if (obj instanceof TokenLiteral) {
+				TokenLiteral literal = this.stmt.bind((TokenLiteral) obj);
+				if (literal != null)
+					return literal;
+			}
+			return obj;
+		}
+	}
+}
@@ -22,13 +22,14 @@ public class CompileServerNode {
 	public Error compileAndExecuteStmt(final ClientStmt clientStmt) {
 		Error err = new Error();
 		final FunSQLCompiler compiler = new FunSQLCompiler();
-		final AbstractServerStmt serverStmt = compiler.compile(clientStmt
+		final AbstractServerStmt serverStmt = compiler.compileCached(clientStmt
 				.getStmt());
 		err = compiler.getLastError();
 		if (err.isError()) {
 			return err;
 		}
 
+		serverStmt.setResourceGroup(clientStmt.getResourceGroup());
 		err = serverStmt.execute();
 
 		return err;
@@ -10,6 +10,10 @@ import org.xdb.error.Error;
 import org.xdb.funsql.compile.antlr.FunSQLLexer;
 import org.xdb.funsql.compile.antlr.FunSQLParser;
 import org.xdb.funsql.statement.AbstractServerStmt;
+import org.xdb.funsql.statement.EnumStatement;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.metadata.Catalog;
+import org.xdb.utils.Tuple;
 
 public class FunSQLCompiler {
 	private Error lastError;
@@ -98,6 +102,68 @@ public class FunSQLCompiler {
 		return null;
 	}
 
+	/**
+	 * Compiles statement using the plan cache: SELECT statements which only
+	 * differ in their literals share one compiled plan
+	 * 
+	 * @param sql
+	 * @return
+	 */
+	public AbstractServerStmt compileCached(String sql) {
+		// plans depend on compiler settings and query statistics
+		if (Config.COMPILE_PLAN_CACHE_SIZE <= 0 || !this.doOptimize
+				|| !this.doParallelize || !this.doSemanticAnalysis
+				|| this.queryStats != null)
+			return this.compile(sql);
+
+		ParameterizedStmt paramStmt = new ParameterizedStmt(sql);
+		if (!paramStmt.isCacheable())
+			return this.compile(sql);
+
+		CompilePlanCache cache = CompilePlanCache.getCache();
+		if (cache.isLiteralDependent(paramStmt))
+			return this.compile(sql);
+
+		Tuple<Error, CompilePlan> result = cache.getPlan(paramStmt);
+		if (result.getObject1().isError()) {
+			this.lastError = result.getObject1();
+			return null;
+		}
+
+		// cache miss: compile template
+		if (result.getObject2() == null) {
+			long catalogVersion = Catalog.getVersion();
+			AbstractServerStmt template = this.compile(paramStmt.getTemplate());
+			// template can not be compiled with placeholders (e.g., literals
+			// in GROUP BY expressions): report errors for original statement
+			// and do not try the template again
+			if (template == null
+					|| template.getType() != EnumStatement.SELECT) {
+				cache.addLiteralDependent(paramStmt, catalogVersion);
+				return this.compile(sql);
+			}
+
+			// plan of template can not be bound to other literals
+			if (((SelectStmt) template).getPlan().isLiteralDependent()) {
+				cache.addLiteralDependent(paramStmt, catalogVersion);
+				return this.compile(sql);
+			}
+
+			result = cache.addPlan(paramStmt,
+					((SelectStmt) template).getPlan(), catalogVersion);
+			if (result.getObject1().isError()) {
+				this.lastError = result.getObject1();
+				return null;
+			}
+		}
+
+		SelectStmt statement = new SelectStmt();
+		statement.setStmtString(sql);
+		statement.setPlan(result.getObject2());
+		this.lastError = new Error();
+		return statement;
+	}
+
 	/**
 	 * Create generic compiler error
 	 * 
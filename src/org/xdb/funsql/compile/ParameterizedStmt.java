@@ -0,0 +1,196 @@
+package org.xdb.funsql.compile;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.Token;
+import org.xdb.funsql.compile.antlr.FunSQLLexer;
+import org.xdb.funsql.compile.tokens.TokenDateLiteral;
+import org.xdb.funsql.compile.tokens.TokenDecimalLiteral;
+import org.xdb.funsql.compile.tokens.TokenIntegerLiteral;
+import org.xdb.funsql.compile.tokens.TokenLiteral;
+import org.xdb.funsql.compile.tokens.TokenStringLiteral;
+
+/**
+ * SELECT statement whose literals are extracted as parameters: statements
+ * which only differ in their literals have the same key and share one
+ * compiled plan.
+ *
+ * The shared plan is compiled from a template where each literal is replaced
+ * by a unique placeholder value of the same type. Thus, literals of the
+ * compiled plan can be bound to the values of another statement by
+ * replacing the placeholders (see CompilePlanCache).
+ *
+ */
+public class ParameterizedStmt {
+	// placeholder values of parameters
+	private static final int PLACEHOLDER_NUMBER = 2000000000;
+	private static final String PLACEHOLDER_STRING = "XDB_PARAM_";
+
+	private static final String PARAM_MARKER = "?";
+
+	// normalized statement: literals are replaced by parameter markers
+	private final String key;
+
+	// statement with placeholders instead of literals
+	private final String template;
+
+	// parameters (in the order of the statement): type and literal text
+	private final Vector<Integer> paramTypes = new Vector<Integer>();
+	private final Vector<String> paramValues = new Vector<String>();
+
+	// placeholder (class and value) -> parameter index
+	private final Map<String, Integer> placeholders = new HashMap<String, Integer>();
+
+	private boolean cacheable = true;
+
+	// constructors
+	public ParameterizedStmt(String sql) {
+		StringBuilder key = new StringBuilder();
+		StringBuilder template = new StringBuilder();
+
+		FunSQLLexer lex = new FunSQLLexer(new ANTLRStringStream(sql));
+		int lastType = Token.INVALID_TOKEN_TYPE;
+		Token token;
+		while ((token = lex.nextToken()).getType() != Token.EOF) {
+			if (token.getChannel() == Token.HIDDEN_CHANNEL)
+				continue;
+
+			int type = token.getType();
+			if (type == Token.INVALID_TOKEN_TYPE
+					|| lex.getNumberOfSyntaxErrors() > 0) {
+				this.cacheable = false;
+				break;
+			}
+
+			// only select statements are cached
+			if (lastType == Token.INVALID_TOKEN_TYPE
+					&& type != FunSQLLexer.KEYWORD_SELECT) {
+				this.cacheable = false;
+				break;
+			}
+
+			String text = token.getText();
+			if (isLiteral(type)) {
+				if (lastType == FunSQLLexer.TYPE_DATE)
+					type = FunSQLLexer.TYPE_DATE;
+
+				int param = this.paramValues.size();
+				this.paramTypes.add(type);
+				this.paramValues.add(text);
+
+				TokenLiteral placeholder = createLiteral(type,
+						getPlaceholderText(type, param));
+				this.placeholders.put(getPlaceholderKey(placeholder), param);
+
+				key.append(PARAM_MARKER).append(type);
+				text = getPlaceholderText(type, param);
+			} else if (type == FunSQLLexer.IDENTIFIER) {
+				key.append(text);
+			} else {
+				// keywords are case insensitive
+				key.append(text.toUpperCase());
+			}
+			key.append(' ');
+			template.append(text).append(' ');
+			lastType = type;
+		}
+
+		if (lastType == Token.INVALID_TOKEN_TYPE)
+			this.cacheable = false;
+
+		// values which equal a placeholder can not be bound
+		for (int i = 0; i < this.paramValues.size() && this.cacheable; ++i) {
+			TokenLiteral literal = createLiteral(this.paramTypes.get(i),
+					this.paramValues.get(i));
+			if (this.placeholders.containsKey(getPlaceholderKey(literal)))
+				this.cacheable = false;
+		}
+
+		this.key = key.toString();
+		this.template = template.toString();
+	}
+
+	// getters and setters
+	public String getKey() {
+		return this.key;
+	}
+
+	public String getTemplate() {
+		return this.template;
+	}
+
+	public int getParamCount() {
+		return this.paramValues.size();
+	}
+
+	/**
+	 * Checks if statement can be compiled using the plan cache (i.e., it is a
+	 * SELECT statement which can be lexed)
+	 *
+	 * @return
+	 */
+	public boolean isCacheable() {
+		return this.cacheable;
+	}
+
+	// methods
+	/**
+	 * Returns literal of this statement for a placeholder of the template
+	 * (or null if literal is no placeholder)
+	 *
+	 * @param literal
+	 * @return
+	 */
+	public TokenLiteral bind(TokenLiteral literal) {
+		Integer param = this.placeholders.get(getPlaceholderKey(literal));
+		if (param == null)
+			return null;
+
+		return createLiteral(this.paramTypes.get(param),
+				this.paramValues.get(param));
+	}
+
+	private static boolean isLiteral(int type) {
+		return type == FunSQLLexer.LITERAL_INTEGER
+				|| type == FunSQLLexer.LITERAL_DECIMAL
+				|| type == FunSQLLexer.LITERAL_STRING;
+	}
+
+	/**
+	 * Creates literal as the parser does for a given lexer token
+	 *
+	 * @param type
+	 * @param text
+	 * @return
+	 */
+	private static TokenLiteral createLiteral(int type, String text) {
+		switch (type) {
+		case FunSQLLexer.LITERAL_INTEGER:
+			return new TokenIntegerLiteral(text);
+		case FunSQLLexer.LITERAL_DECIMAL:
+			return new TokenDecimalLiteral(text);
+		case FunSQLLexer.TYPE_DATE:
+			return new TokenDateLiteral(text);
+		default:
+			return new TokenStringLiteral(text.substring(1, text.length() - 1));
+		}
+	}
+
+	private static String getPlaceholderText(int type, int param) {
+		switch (type) {
+		case FunSQLLexer.LITERAL_INTEGER:
+			return Integer.toString(PLACEHOLDER_NUMBER + param);
+		case FunSQLLexer.LITERAL_DECIMAL:
+			return (PLACEHOLDER_NUMBER + param) + ".5";
+		default:
+			return "'" + PLACEHOLDER_STRING + param + "'";
+		}
+	}
+
+	private static String getPlaceholderKey(TokenLiteral literal) {
+		return literal.getClass().getSimpleName() + ":" + literal.toString();
+	}
+}
@@ -26,6 +26,7 @@ public final class FunctionCache {
 	//constructor
 	private FunctionCache(){
 		this.plans = Collections.synchronizedMap(new HashMap<String, CompilePlan>());
+		this.inVars = Collections.synchronizedMap(new HashMap<String, Vector<TokenVariable>>());
 	}
 		
 	//methods	
@@ -67,5 +68,6 @@ public final class FunctionCache {
 	 */
 	public void clear(){
 		this.plans.clear();
+		this.inVars.clear();
 	}
 }
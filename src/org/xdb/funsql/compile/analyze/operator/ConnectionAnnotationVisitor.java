@@ -1,5 +1,7 @@
 package org.xdb.funsql.compile.analyze.operator;
 
+import java.util.List;
+
 import org.xdb.error.Error;
 import org.xdb.funsql.compile.operator.AbstractCompileOperator;
 import org.xdb.funsql.compile.operator.AbstractJoinOperator;
@@ -14,6 +16,7 @@ import org.xdb.funsql.compile.operator.SQLCombined;
 import org.xdb.funsql.compile.operator.SQLJoin;
 import org.xdb.funsql.compile.operator.SQLUnary;
 import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.metadata.Connection;
 
 /**
  * Annotates each operator in compile plan with possible connections where
@@ -40,12 +43,14 @@ public class ConnectionAnnotationVisitor extends AbstractBottomUpTreeVisitor {
 		ResultDesc result = equiJoin.getResult();
 		int partCnt = result.getPartitionCount();
 		int childIdx = 0;
-		if(equiJoin.getChild(childIdx).getResult().getPartitionCount()!=partCnt){
+		// broadcast inputs are read by all partitions
+		if(equiJoin.getChild(childIdx).getResult().getPartitionCount()!=partCnt
+				|| equiJoin.getChild(childIdx).getResult().broadcast()){
 			childIdx = 1;
 		}
 			
 		for(int i=0; i<result.getPartitionCount(); ++i){
-			equiJoin.addWishedConnections(i, equiJoin.getChild(childIdx).getWishedConnections(i));
+			equiJoin.addWishedConnections(i, getWishedConnections(equiJoin.getChild(childIdx), i));
 		}
 		return new Error();
 		
@@ -65,7 +70,7 @@ public class ConnectionAnnotationVisitor extends AbstractBottomUpTreeVisitor {
 	public Error visitGenericSelection(GenericSelection selOp) {
 		ResultDesc result = selOp.getResult();
 		for(int i=0; i<result.getPartitionCount(); ++i){
-			selOp.addWishedConnections(i ,selOp.getChild().getWishedConnections(i));
+			selOp.addWishedConnections(i ,getWishedConnections(selOp.getChild(), i));
 		}
 		return new Error();
 	}
@@ -107,11 +112,25 @@ public class ConnectionAnnotationVisitor extends AbstractBottomUpTreeVisitor {
 	private Error visitUnaryOp(AbstractUnaryOperator op){
 		ResultDesc result = op.getResult();
 		for(int i=0; i<result.getPartitionCount(); ++i){
-			op.addWishedConnections(i, op.getChild().getWishedConnections(i));
+			op.addWishedConnections(i, getWishedConnections(op.getChild(), i));
 		}
 		return new Error();
 	}
 	
+	/**
+	 * Returns connections of an input partition: re-partitioned results can
+	 * have more partitions than their inputs which are then assigned round
+	 * robin
+	 * @param childOp
+	 * @param partNum
+	 * @return
+	 */
+	private static List<Connection> getWishedConnections(
+			AbstractCompileOperator childOp, int partNum) {
+		int childPartCnt = childOp.getResult().getPartitionCount();
+		return childOp.getWishedConnections(partNum % childPartCnt);
+	}
+	
 	/**
 	 * Visit join operators
 	 * @param op
@@ -126,8 +145,11 @@ public class ConnectionAnnotationVisitor extends AbstractBottomUpTreeVisitor {
 				break;
 			childIdx++;
 		}
+		// all inputs are re-partitioned
+		if(childIdx==op.getChildren().size())
+			childIdx = 0;
 		for(int i=0; i<partCnt; ++i){
-			op.addWishedConnections(i, op.getChild(childIdx).getWishedConnections(i));
+			op.addWishedConnections(i, getWishedConnections(op.getChild(childIdx), i));
 		}
 		return new Error();
 	}
@@ -135,6 +135,12 @@ statement returns [AbstractServerStmt stmt]
                 	$stmt.setStmtString($dropTableStatement.text);
                 }
                 |
+                analyzeTableStatement 
+                {
+                	$stmt = $analyzeTableStatement.stmt;
+                	$stmt.setStmtString($analyzeTableStatement.text);
+                }
+                |
                 createFunctionStatement 
                 {
                 	$stmt = $createFunctionStatement.stmt;
@@ -411,6 +417,20 @@ dropTableStatement returns [DropTableStmt stmt]
 	)
 	;
 	
+analyzeTableStatement returns [AnalyzeTableStmt stmt]
+        @init{
+        	$stmt = new AnalyzeTableStmt();
+        }
+        :
+        (
+                KEYWORD_ANALYZE
+                KEYWORD_TABLE
+                table1=tokenTable {
+                	$stmt.setTable($table1.table);
+                }
+	)
+	;
+	
 createFunctionStatement returns [CreateFunctionStmt stmt]
         @init{
         	$stmt = new CreateFunctionStmt();
@@ -1272,6 +1292,7 @@ KEYWORD_LOAD:	L O A D;
 KEYWORD_CALL: C A L L;
 KEYWORD_CREATE: C R E A T E;
 KEYWORD_DROP: D R O P;	 
+KEYWORD_ANALYZE: A N A L Y Z E;
 KEYWORD_SELECT: S E L E C T;
 KEYWORD_FROM: F R O M;
 KEYWORD_WHERE: W H E R E;
@@ -44,94 +44,95 @@ public class FunSQLLexer extends Lexer {
 	public static final int IGNORE_CHAR=34;
 	public static final int J=35;
 	public static final int K=36;
-	public static final int KEYWORD_AND=37;
-	public static final int KEYWORD_AS=38;
-	public static final int KEYWORD_AVG=39;
-	public static final int KEYWORD_BEGIN=40;
-	public static final int KEYWORD_BY=41;
-	public static final int KEYWORD_CALL=42;
-	public static final int KEYWORD_CONNECTION=43;
-	public static final int KEYWORD_COUNT=44;
-	public static final int KEYWORD_CREATE=45;
-	public static final int KEYWORD_DATA=46;
-	public static final int KEYWORD_DISTINCT=47;
-	public static final int KEYWORD_DROP=48;
-	public static final int KEYWORD_END=49;
-	public static final int KEYWORD_FROM=50;
-	public static final int KEYWORD_FUNCTION=51;
-	public static final int KEYWORD_GROUP=52;
-	public static final int KEYWORD_HAVING=53;
-	public static final int KEYWORD_IN=54;
-	public static final int KEYWORD_INFILE=55;
-	public static final int KEYWORD_INTO=56;
-	public static final int KEYWORD_LIKE=57;
-	public static final int KEYWORD_LOAD=58;
-	public static final int KEYWORD_MAX=59;
-	public static final int KEYWORD_MIN=60;
-	public static final int KEYWORD_NOT=61;
-	public static final int KEYWORD_OR=62;
-	public static final int KEYWORD_OUT=63;
-	public static final int KEYWORD_PARTITION=64;
-	public static final int KEYWORD_PARTITIONED=65;
-	public static final int KEYWORD_PASSWD=66;
-	public static final int KEYWORD_REFERENCES=67;
-	public static final int KEYWORD_REPLICATED=68;
-	public static final int KEYWORD_SCHEMA=69;
-	public static final int KEYWORD_SELECT=70;
-	public static final int KEYWORD_STORE=71;
-	public static final int KEYWORD_SUM=72;
-	public static final int KEYWORD_TABLE=73;
-	public static final int KEYWORD_URL=74;
-	public static final int KEYWORD_USER=75;
-	public static final int KEYWORD_VAR=76;
-	public static final int KEYWORD_WHERE=77;
-	public static final int L=78;
-	public static final int LBRACKET=79;
-	public static final int LESS_EQUAL1=80;
-	public static final int LESS_EQUAL2=81;
-	public static final int LESS_THAN=82;
-	public static final int LITERAL_DECIMAL=83;
-	public static final int LITERAL_INTEGER=84;
-	public static final int LITERAL_STRING=85;
-	public static final int LPAREN=86;
-	public static final int M=87;
-	public static final int MINUS=88;
-	public static final int MOD=89;
-	public static final int MULT=90;
-	public static final int N=91;
-	public static final int NOT_EQUAL1=92;
-	public static final int NOT_EQUAL2=93;
-	public static final int O=94;
-	public static final int P=95;
-	public static final int PIPE=96;
-	public static final int PLUS=97;
-	public static final int Q=98;
-	public static final int QUESTION=99;
-	public static final int QUOTED_STRING=100;
-	public static final int QUOTE_DOUBLE=101;
-	public static final int QUOTE_SINGLE=102;
-	public static final int QUOTE_TRIPLE=103;
-	public static final int R=104;
-	public static final int RBRACKET=105;
-	public static final int RPAREN=106;
-	public static final int S=107;
-	public static final int SEMI=108;
-	public static final int SHIFT_LEFT=109;
-	public static final int SHIFT_RIGHT=110;
-	public static final int T=111;
-	public static final int TILDE=112;
-	public static final int TYPE_DATE=113;
-	public static final int TYPE_DECIMAL=114;
-	public static final int TYPE_INTEGER=115;
-	public static final int TYPE_VARCHAR=116;
-	public static final int U=117;
-	public static final int UNDERSCORE=118;
-	public static final int V=119;
-	public static final int W=120;
-	public static final int WS=121;
-	public static final int X=122;
-	public static final int Y=123;
-	public static final int Z=124;
+	public static final int KEYWORD_ANALYZE=37;
+	public static final int KEYWORD_AND=38;
+	public static final int KEYWORD_AS=39;
+	public static final int KEYWORD_AVG=40;
+	public static final int KEYWORD_BEGIN=41;
+	public static final int KEYWORD_BY=42;
+	public static final int KEYWORD_CALL=43;
+	public static final int KEYWORD_CONNECTION=44;
+	public static final int KEYWORD_COUNT=45;
+	public static final int KEYWORD_CREATE=46;
+	public static final int KEYWORD_DATA=47;
+	public static final int KEYWORD_DISTINCT=48;
+	public static final int KEYWORD_DROP=49;
+	public static final int KEYWORD_END=50;
+	public static final int KEYWORD_FROM=51;
+	public static final int KEYWORD_FUNCTION=52;
+	public static final int KEYWORD_GROUP=53;
+	public static final int KEYWORD_HAVING=54;
+	public static final int KEYWORD_IN=55;
+	public static final int KEYWORD_INFILE=56;
+	public static final int KEYWORD_INTO=57;
+	public static final int KEYWORD_LIKE=58;
+	public static final int KEYWORD_LOAD=59;
+	public static final int KEYWORD_MAX=60;
+	public static final int KEYWORD_MIN=61;
+	public static final int KEYWORD_NOT=62;
+	public static final int KEYWORD_OR=63;
+	public static final int KEYWORD_OUT=64;
+	public static final int KEYWORD_PARTITION=65;
+	public static final int KEYWORD_PARTITIONED=66;
+	public static final int KEYWORD_PASSWD=67;
+	public static final int KEYWORD_REFERENCES=68;
+	public static final int KEYWORD_REPLICATED=69;
+	public static final int KEYWORD_SCHEMA=70;
+	public static final int KEYWORD_SELECT=71;
+	public static final int KEYWORD_STORE=72;
+	public static final int KEYWORD_SUM=73;
+	public static final int KEYWORD_TABLE=74;
+	public static final int KEYWORD_URL=75;
+	public static final int KEYWORD_USER=76;
+	public static final int KEYWORD_VAR=77;
+	public static final int KEYWORD_WHERE=78;
+	public static final int L=79;
+	public static final int LBRACKET=80;
+	public static final int LESS_EQUAL1=81;
+	public static final int LESS_EQUAL2=82;
+	public static final int LESS_THAN=83;
+	public static final int LITERAL_DECIMAL=84;
+	public static final int LITERAL_INTEGER=85;
+	public static final int LITERAL_STRING=86;
+	public static final int LPAREN=87;
+	public static final int M=88;
+	public static final int MINUS=89;
+	public static final int MOD=90;
+	public static final int MULT=91;
+	public static final int N=92;
+	public static final int NOT_EQUAL1=93;
+	public static final int NOT_EQUAL2=94;
+	public static final int O=95;
+	public static final int P=96;
+	public static final int PIPE=97;
+	public static final int PLUS=98;
+	public static final int Q=99;
+	public static final int QUESTION=100;
+	public static final int QUOTED_STRING=101;
+	public static final int QUOTE_DOUBLE=102;
+	public static final int QUOTE_SINGLE=103;
+	public static final int QUOTE_TRIPLE=104;
+	public static final int R=105;
+	public static final int RBRACKET=106;
+	public static final int RPAREN=107;
+	public static final int S=108;
+	public static final int SEMI=109;
+	public static final int SHIFT_LEFT=110;
+	public static final int SHIFT_RIGHT=111;
+	public static final int T=112;
+	public static final int TILDE=113;
+	public static final int TYPE_DATE=114;
+	public static final int TYPE_DECIMAL=115;
+	public static final int TYPE_INTEGER=116;
+	public static final int TYPE_VARCHAR=117;
+	public static final int U=118;
+	public static final int UNDERSCORE=119;
+	public static final int V=120;
+	public static final int W=121;
+	public static final int WS=122;
+	public static final int X=123;
+	public static final int Y=124;
+	public static final int Z=125;
 
 	    @Override
 	    public void reportError(RecognitionException e) {
@@ -950,10 +951,10 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = FUNCTION_AGGREGATION;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1262:2: ( ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:2: ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1282:2: ( ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:2: ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:2: ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:2: ( KEYWORD_SUM | KEYWORD_MIN | KEYWORD_MAX | KEYWORD_AVG | KEYWORD_COUNT )
 			int alt1=5;
 			switch ( input.LA(1) ) {
 			case 'S':
@@ -1006,35 +1007,35 @@ public class FunSQLLexer extends Lexer {
 			}
 			switch (alt1) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:3: KEYWORD_SUM
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:3: KEYWORD_SUM
 					{
 					mKEYWORD_SUM(); 
 
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:15: KEYWORD_MIN
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:15: KEYWORD_MIN
 					{
 					mKEYWORD_MIN(); 
 
 					}
 					break;
 				case 3 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:27: KEYWORD_MAX
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:27: KEYWORD_MAX
 					{
 					mKEYWORD_MAX(); 
 
 					}
 					break;
 				case 4 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:39: KEYWORD_AVG
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:39: KEYWORD_AVG
 					{
 					mKEYWORD_AVG(); 
 
 					}
 					break;
 				case 5 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:51: KEYWORD_COUNT
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:51: KEYWORD_COUNT
 					{
 					mKEYWORD_COUNT(); 
 
@@ -1059,8 +1060,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_PARTITION;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1266:18: ( P A R T I T I O N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1266:20: P A R T I T I O N
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1286:18: ( P A R T I T I O N )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1286:20: P A R T I T I O N
 			{
 			mP(); 
 
@@ -1096,8 +1097,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_REFERENCES;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1267:19: ( R E F E R E N C E S )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1267:21: R E F E R E N C E S
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1287:19: ( R E F E R E N C E S )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1287:21: R E F E R E N C E S
 			{
 			mR(); 
 
@@ -1135,8 +1136,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_INTO;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1268:13: ( I N T O )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1268:15: I N T O
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1288:13: ( I N T O )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1288:15: I N T O
 			{
 			mI(); 
 
@@ -1162,8 +1163,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_INFILE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1269:15: ( I N F I L E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1269:17: I N F I L E
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1289:15: ( I N F I L E )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1289:17: I N F I L E
 			{
 			mI(); 
 
@@ -1193,8 +1194,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_DATA;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1270:13: ( D A T A )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1270:15: D A T A
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1290:13: ( D A T A )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1290:15: D A T A
 			{
 			mD(); 
 
@@ -1220,8 +1221,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_LOAD;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1271:13: ( L O A D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1271:15: L O A D
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1291:13: ( L O A D )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1291:15: L O A D
 			{
 			mL(); 
 
@@ -1247,8 +1248,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_CALL;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1272:13: ( C A L L )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1272:15: C A L L
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1292:13: ( C A L L )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1292:15: C A L L
 			{
 			mC(); 
 
@@ -1274,8 +1275,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_CREATE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1273:15: ( C R E A T E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1273:17: C R E A T E
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1293:15: ( C R E A T E )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1293:17: C R E A T E
 			{
 			mC(); 
 
@@ -1305,8 +1306,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_DROP;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1274:13: ( D R O P )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1274:15: D R O P
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1294:13: ( D R O P )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1294:15: D R O P
 			{
 			mD(); 
 
@@ -1327,13 +1328,46 @@ public class FunSQLLexer extends Lexer {
 	}
 	// $ANTLR end "KEYWORD_DROP"
 
+	// $ANTLR start "KEYWORD_ANALYZE"
+	public final void mKEYWORD_ANALYZE() throws RecognitionException {
+		try {
+			int _type = KEYWORD_ANALYZE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1295:16: ( A N A L Y Z E )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1295:18: A N A L Y Z E
+			{
+			mA(); 
+
+			mN(); 
+
+			mA(); 
+
+			mL(); 
+
+			mY(); 
+
+			mZ(); 
+
+			mE(); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "KEYWORD_ANALYZE"
+
 	// $ANTLR start "KEYWORD_SELECT"
 	public final void mKEYWORD_SELECT() throws RecognitionException {
 		try {
 			int _type = KEYWORD_SELECT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1275:15: ( S E L E C T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1275:17: S E L E C T
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1296:15: ( S E L E C T )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1296:17: S E L E C T
 			{
 			mS(); 
 
@@ -1363,8 +1397,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_FROM;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1276:13: ( F R O M )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1276:15: F R O M
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1297:13: ( F R O M )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1297:15: F R O M
 			{
 			mF(); 
 
@@ -1390,8 +1424,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_WHERE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1277:14: ( W H E R E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1277:16: W H E R E
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1298:14: ( W H E R E )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1298:16: W H E R E
 			{
 			mW(); 
 
@@ -1419,8 +1453,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_HAVING;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1278:15: ( H A V I N G )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1278:17: H A V I N G
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1299:15: ( H A V I N G )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1299:17: H A V I N G
 			{
 			mH(); 
 
@@ -1450,8 +1484,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_GROUP;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1279:14: ( G R O U P )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1279:16: G R O U P
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1300:14: ( G R O U P )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1300:16: G R O U P
 			{
 			mG(); 
 
@@ -1479,8 +1513,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_BY;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1280:11: ( B Y )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1280:13: B Y
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1301:11: ( B Y )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1301:13: B Y
 			{
 			mB(); 
 
@@ -1502,8 +1536,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_IN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1281:11: ( I N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1281:13: I N
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1302:11: ( I N )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1302:13: I N
 			{
 			mI(); 
 
@@ -1525,8 +1559,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_OUT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1282:12: ( O U T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1282:14: O U T
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1303:12: ( O U T )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1303:14: O U T
 			{
 			mO(); 
 
@@ -1550,8 +1584,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_AND;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:12: ( A N D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1283:14: A N D
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1304:12: ( A N D )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1304:14: A N D
 			{
 			mA(); 
 
@@ -1575,8 +1609,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_OR;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1284:11: ( O R )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1284:13: O R
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1305:11: ( O R )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1305:13: O R
 			{
 			mO(); 
 
@@ -1598,8 +1632,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_NOT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1285:12: ( N O T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1285:14: N O T
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1306:12: ( N O T )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1306:14: N O T
 			{
 			mN(); 
 
@@ -1623,8 +1657,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_AS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1286:11: ( A S )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1286:13: A S
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1307:11: ( A S )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1307:13: A S
 			{
 			mA(); 
 
@@ -1646,8 +1680,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_LIKE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1287:13: ( L I K E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1287:15: L I K E
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1308:13: ( L I K E )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1308:15: L I K E
 			{
 			mL(); 
 
@@ -1671,8 +1705,8 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "KEYWORD_SUM"
 	public final void mKEYWORD_SUM() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1288:21: ( S U M )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1288:23: S U M
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1309:21: ( S U M )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1309:23: S U M
 			{
 			mS(); 
 
@@ -1692,8 +1726,8 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "KEYWORD_MIN"
 	public final void mKEYWORD_MIN() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1289:21: ( M I N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1289:23: M I N
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1310:21: ( M I N )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1310:23: M I N
 			{
 			mM(); 
 
@@ -1713,8 +1747,8 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "KEYWORD_MAX"
 	public final void mKEYWORD_MAX() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1290:21: ( M A X )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1290:23: M A X
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:21: ( M A X )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:23: M A X
 			{
 			mM(); 
 
@@ -1734,8 +1768,8 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "KEYWORD_AVG"
 	public final void mKEYWORD_AVG() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1291:21: ( A V G )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1291:23: A V G
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1312:21: ( A V G )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1312:23: A V G
 			{
 			mA(); 
 
@@ -1755,8 +1789,8 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "KEYWORD_COUNT"
 	public final void mKEYWORD_COUNT() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1292:23: ( C O U N T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1292:25: C O U N T
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1313:23: ( C O U N T )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1313:25: C O U N T
 			{
 			mC(); 
 
@@ -1782,8 +1816,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_DISTINCT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1293:17: ( D I S T I N C T )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1293:19: D I S T I N C T
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1314:17: ( D I S T I N C T )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1314:19: D I S T I N C T
 			{
 			mD(); 
 
@@ -1817,8 +1851,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_CONNECTION;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1295:19: ( C O N N E C T I O N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1295:21: C O N N E C T I O N
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1316:19: ( C O N N E C T I O N )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1316:21: C O N N E C T I O N
 			{
 			mC(); 
 
@@ -1856,8 +1890,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_PARTITIONED;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1296:20: ( P A R T I O N E D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1296:22: P A R T I O N E D
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1317:20: ( P A R T I O N E D )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1317:22: P A R T I O N E D
 			{
 			mP(); 
 
@@ -1893,8 +1927,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_REPLICATED;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1297:19: ( R E P L I C A T E D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1297:21: R E P L I C A T E D
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1318:19: ( R E P L I C A T E D )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1318:21: R E P L I C A T E D
 			{
 			mR(); 
 
@@ -1932,8 +1966,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_SCHEMA;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1298:15: ( S C H E M A )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1298:17: S C H E M A
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1319:15: ( S C H E M A )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1319:17: S C H E M A
 			{
 			mS(); 
 
@@ -1963,8 +1997,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_TABLE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1299:14: ( T A B L E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1299:16: T A B L E
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1320:14: ( T A B L E )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1320:16: T A B L E
 			{
 			mT(); 
 
@@ -1992,8 +2026,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_FUNCTION;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1300:17: ( F U N C T I O N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1300:19: F U N C T I O N
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1321:17: ( F U N C T I O N )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1321:19: F U N C T I O N
 			{
 			mF(); 
 
@@ -2027,8 +2061,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_BEGIN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1301:14: ( B E G I N )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1301:16: B E G I N
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1322:14: ( B E G I N )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1322:16: B E G I N
 			{
 			mB(); 
 
@@ -2056,8 +2090,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_END;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1302:12: ( E N D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1302:14: E N D
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1323:12: ( E N D )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1323:14: E N D
 			{
 			mE(); 
 
@@ -2081,8 +2115,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_VAR;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1303:12: ( V A R )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1303:14: V A R
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1324:12: ( V A R )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1324:14: V A R
 			{
 			mV(); 
 
@@ -2106,8 +2140,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_URL;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1305:12: ( U R L )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1305:14: U R L
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1326:12: ( U R L )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1326:14: U R L
 			{
 			mU(); 
 
@@ -2131,8 +2165,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_USER;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1306:13: ( U S E R )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1306:15: U S E R
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1327:13: ( U S E R )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1327:15: U S E R
 			{
 			mU(); 
 
@@ -2158,8 +2192,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_PASSWD;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1307:15: ( P A S S W O R D )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1307:17: P A S S W O R D
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1328:15: ( P A S S W O R D )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1328:17: P A S S W O R D
 			{
 			mP(); 
 
@@ -2193,8 +2227,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = KEYWORD_STORE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1308:14: ( S T O R E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1308:16: S T O R E
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1329:14: ( S T O R E )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1329:16: S T O R E
 			{
 			mS(); 
 
@@ -2222,8 +2256,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = TYPE_VARCHAR;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1310:13: ( V A R C H A R )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1310:15: V A R C H A R
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1331:13: ( V A R C H A R )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1331:15: V A R C H A R
 			{
 			mV(); 
 
@@ -2255,10 +2289,10 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = TYPE_INTEGER;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:13: ( ( I N T | I N T E G E R ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:15: ( I N T | I N T E G E R )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:13: ( ( I N T | I N T E G E R ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:15: ( I N T | I N T E G E R )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:15: ( I N T | I N T E G E R )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:15: ( I N T | I N T E G E R )
 			int alt2=2;
 			int LA2_0 = input.LA(1);
 			if ( (LA2_0=='I'||LA2_0=='i') ) {
@@ -2315,7 +2349,7 @@ public class FunSQLLexer extends Lexer {
 
 			switch (alt2) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:16: I N T
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:16: I N T
 					{
 					mI(); 
 
@@ -2326,7 +2360,7 @@ public class FunSQLLexer extends Lexer {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1311:24: I N T E G E R
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:24: I N T E G E R
 					{
 					mI(); 
 
@@ -2363,8 +2397,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = TYPE_DECIMAL;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1312:13: ( D E C I M A L )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1312:15: D E C I M A L
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1333:13: ( D E C I M A L )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1333:15: D E C I M A L
 			{
 			mD(); 
 
@@ -2396,8 +2430,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = TYPE_DATE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1313:10: ( D A T E )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1313:12: D A T E
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1334:10: ( D A T E )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1334:12: D A T E
 			{
 			mD(); 
 
@@ -2423,11 +2457,11 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = LITERAL_STRING;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1316:5: ( ( QUOTED_STRING ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1317:5: ( QUOTED_STRING )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1337:5: ( ( QUOTED_STRING ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1338:5: ( QUOTED_STRING )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1317:5: ( QUOTED_STRING )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1317:6: QUOTED_STRING
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1338:5: ( QUOTED_STRING )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1338:6: QUOTED_STRING
 			{
 			mQUOTED_STRING(); 
 
@@ -2449,10 +2483,10 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = LITERAL_DECIMAL;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1321:5: ( ( DIGIT )+ DOT ( DIGIT )* )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1322:5: ( DIGIT )+ DOT ( DIGIT )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1342:5: ( ( DIGIT )+ DOT ( DIGIT )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1343:5: ( DIGIT )+ DOT ( DIGIT )*
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1322:5: ( DIGIT )+
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1343:5: ( DIGIT )+
 			int cnt3=0;
 			loop3:
 			while (true) {
@@ -2487,7 +2521,7 @@ public class FunSQLLexer extends Lexer {
 
 			mDOT(); 
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1322:18: ( DIGIT )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1343:18: ( DIGIT )*
 			loop4:
 			while (true) {
 				int alt4=2;
@@ -2532,10 +2566,10 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = LITERAL_INTEGER;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1326:5: ( ( DIGIT )+ )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1327:5: ( DIGIT )+
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1347:5: ( ( DIGIT )+ )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1348:5: ( DIGIT )+
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1327:5: ( DIGIT )+
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1348:5: ( DIGIT )+
 			int cnt5=0;
 			loop5:
 			while (true) {
@@ -2584,15 +2618,15 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = IDENTIFIER;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1331:5: ( ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:5: ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1352:5: ( ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1353:5: ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:5: ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:7: CHAR ( CHAR | DIGIT | '_' | '$' | '#' )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1353:5: ( CHAR ( CHAR | DIGIT | '_' | '$' | '#' )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1353:7: CHAR ( CHAR | DIGIT | '_' | '$' | '#' )*
 			{
 			mCHAR(); 
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1332:12: ( CHAR | DIGIT | '_' | '$' | '#' )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1353:12: ( CHAR | DIGIT | '_' | '$' | '#' )*
 			loop6:
 			while (true) {
 				int alt6=2;
@@ -2639,8 +2673,8 @@ public class FunSQLLexer extends Lexer {
 		try {
 			int _type = IGNORE_CHAR;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1336:12: ( ( WS | CONTROL_CHAR ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1336:14: ( WS | CONTROL_CHAR )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1357:12: ( ( WS | CONTROL_CHAR ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1357:14: ( WS | CONTROL_CHAR )
 			{
 			if ( (input.LA(1) >= '\t' && input.LA(1) <= '\r')||input.LA(1)==' ' ) {
 				input.consume();
@@ -2665,8 +2699,8 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "WS"
 	public final void mWS() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1338:12: ( ( ' ' ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1338:14: ( ' ' )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1359:12: ( ( ' ' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1359:14: ( ' ' )
 			{
 			if ( input.LA(1)==' ' ) {
 				input.consume();
@@ -2688,7 +2722,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "CONTROL_CHAR"
 	public final void mCONTROL_CHAR() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1339:22: ( ( '\\r' | '\\t' | '\\u000B' | '\\f' | '\\n' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1360:22: ( ( '\\r' | '\\t' | '\\u000B' | '\\f' | '\\n' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( (input.LA(1) >= '\t' && input.LA(1) <= '\r') ) {
@@ -2711,12 +2745,12 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "QUOTED_STRING"
 	public final void mQUOTED_STRING() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1340:23: ( QUOTE_SINGLE (~ QUOTE_SINGLE )* QUOTE_SINGLE )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1340:25: QUOTE_SINGLE (~ QUOTE_SINGLE )* QUOTE_SINGLE
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1361:23: ( QUOTE_SINGLE (~ QUOTE_SINGLE )* QUOTE_SINGLE )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1361:25: QUOTE_SINGLE (~ QUOTE_SINGLE )* QUOTE_SINGLE
 			{
 			mQUOTE_SINGLE(); 
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1340:38: (~ QUOTE_SINGLE )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1361:38: (~ QUOTE_SINGLE )*
 			loop7:
 			while (true) {
 				int alt7=2;
@@ -2759,7 +2793,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "DIGIT"
 	public final void mDIGIT() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1341:17: ( '0' .. '9' )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1362:17: ( '0' .. '9' )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
@@ -2782,7 +2816,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "CHAR"
 	public final void mCHAR() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1342:15: ( ( 'A' .. 'Z' | 'a' .. 'z' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1363:15: ( ( 'A' .. 'Z' | 'a' .. 'z' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
@@ -2805,7 +2839,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "A"
 	public final void mA() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1344:11: ( ( 'a' | 'A' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1365:11: ( ( 'a' | 'A' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='A'||input.LA(1)=='a' ) {
@@ -2828,7 +2862,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "B"
 	public final void mB() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1345:11: ( ( 'b' | 'B' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1366:11: ( ( 'b' | 'B' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='B'||input.LA(1)=='b' ) {
@@ -2851,7 +2885,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "C"
 	public final void mC() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1346:11: ( ( 'c' | 'C' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1367:11: ( ( 'c' | 'C' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='C'||input.LA(1)=='c' ) {
@@ -2874,7 +2908,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "D"
 	public final void mD() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1347:11: ( ( 'd' | 'D' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1368:11: ( ( 'd' | 'D' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='D'||input.LA(1)=='d' ) {
@@ -2897,7 +2931,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "E"
 	public final void mE() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1348:11: ( ( 'e' | 'E' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1369:11: ( ( 'e' | 'E' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
@@ -2920,7 +2954,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "F"
 	public final void mF() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1349:11: ( ( 'f' | 'F' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1370:11: ( ( 'f' | 'F' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='F'||input.LA(1)=='f' ) {
@@ -2943,7 +2977,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "G"
 	public final void mG() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1350:11: ( ( 'g' | 'G' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1371:11: ( ( 'g' | 'G' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='G'||input.LA(1)=='g' ) {
@@ -2966,7 +3000,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "H"
 	public final void mH() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1351:11: ( ( 'h' | 'H' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1372:11: ( ( 'h' | 'H' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='H'||input.LA(1)=='h' ) {
@@ -2989,7 +3023,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "I"
 	public final void mI() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1352:11: ( ( 'i' | 'I' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1373:11: ( ( 'i' | 'I' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='I'||input.LA(1)=='i' ) {
@@ -3012,7 +3046,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "J"
 	public final void mJ() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1353:11: ( ( 'j' | 'J' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1374:11: ( ( 'j' | 'J' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='J'||input.LA(1)=='j' ) {
@@ -3035,7 +3069,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "K"
 	public final void mK() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1354:11: ( ( 'k' | 'K' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1375:11: ( ( 'k' | 'K' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='K'||input.LA(1)=='k' ) {
@@ -3058,7 +3092,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "L"
 	public final void mL() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1355:11: ( ( 'l' | 'L' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1376:11: ( ( 'l' | 'L' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='L'||input.LA(1)=='l' ) {
@@ -3081,7 +3115,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "M"
 	public final void mM() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1356:11: ( ( 'm' | 'M' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1377:11: ( ( 'm' | 'M' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='M'||input.LA(1)=='m' ) {
@@ -3104,7 +3138,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "N"
 	public final void mN() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1357:11: ( ( 'n' | 'N' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1378:11: ( ( 'n' | 'N' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='N'||input.LA(1)=='n' ) {
@@ -3127,7 +3161,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "O"
 	public final void mO() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1358:11: ( ( 'o' | 'O' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1379:11: ( ( 'o' | 'O' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='O'||input.LA(1)=='o' ) {
@@ -3150,7 +3184,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "P"
 	public final void mP() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1359:11: ( ( 'p' | 'P' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1380:11: ( ( 'p' | 'P' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='P'||input.LA(1)=='p' ) {
@@ -3173,7 +3207,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "Q"
 	public final void mQ() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1360:11: ( ( 'q' | 'Q' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1381:11: ( ( 'q' | 'Q' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='Q'||input.LA(1)=='q' ) {
@@ -3196,7 +3230,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "R"
 	public final void mR() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1361:11: ( ( 'r' | 'R' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1382:11: ( ( 'r' | 'R' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='R'||input.LA(1)=='r' ) {
@@ -3219,7 +3253,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "S"
 	public final void mS() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1362:11: ( ( 's' | 'S' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1383:11: ( ( 's' | 'S' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='S'||input.LA(1)=='s' ) {
@@ -3242,7 +3276,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "T"
 	public final void mT() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1363:11: ( ( 't' | 'T' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1384:11: ( ( 't' | 'T' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='T'||input.LA(1)=='t' ) {
@@ -3265,7 +3299,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "U"
 	public final void mU() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1364:11: ( ( 'u' | 'U' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1385:11: ( ( 'u' | 'U' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='U'||input.LA(1)=='u' ) {
@@ -3288,7 +3322,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "V"
 	public final void mV() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1365:11: ( ( 'v' | 'V' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1386:11: ( ( 'v' | 'V' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='V'||input.LA(1)=='v' ) {
@@ -3311,7 +3345,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "W"
 	public final void mW() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1366:11: ( ( 'w' | 'W' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1387:11: ( ( 'w' | 'W' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='W'||input.LA(1)=='w' ) {
@@ -3334,7 +3368,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "X"
 	public final void mX() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1367:11: ( ( 'x' | 'X' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1388:11: ( ( 'x' | 'X' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='X'||input.LA(1)=='x' ) {
@@ -3357,7 +3391,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "Y"
 	public final void mY() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1368:11: ( ( 'y' | 'Y' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1389:11: ( ( 'y' | 'Y' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='Y'||input.LA(1)=='y' ) {
@@ -3380,7 +3414,7 @@ public class FunSQLLexer extends Lexer {
 	// $ANTLR start "Z"
 	public final void mZ() throws RecognitionException {
 		try {
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1369:11: ( ( 'z' | 'Z' ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1390:11: ( ( 'z' | 'Z' ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)=='Z'||input.LA(1)=='z' ) {
@@ -3402,8 +3436,8 @@ public class FunSQLLexer extends Lexer {
 
 	@Override
 	public void mTokens() throws RecognitionException {
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:8: ( AMPERSAND | APOSTROPHE | AT | BACKSLASH | COLON | COMMA | DIV | DOLLAR | DOT | DOUBLE_PIPE | EQUAL1 | EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | HAT | LBRACKET | LESS_EQUAL1 | LESS_EQUAL2 | LESS_THAN | LPAREN | MINUS | MOD | MULT | NOT_EQUAL1 | NOT_EQUAL2 | PIPE | PLUS | QUESTION | QUOTE_DOUBLE | QUOTE_SINGLE | QUOTE_TRIPLE | RBRACKET | RPAREN | SEMI | SHIFT_LEFT | SHIFT_RIGHT | TILDE | UNDERSCORE | FUNCTION_AGGREGATION | KEYWORD_PARTITION | KEYWORD_REFERENCES | KEYWORD_INTO | KEYWORD_INFILE | KEYWORD_DATA | KEYWORD_LOAD | KEYWORD_CALL | KEYWORD_CREATE | KEYWORD_DROP | KEYWORD_SELECT | KEYWORD_FROM | KEYWORD_WHERE | KEYWORD_HAVING | KEYWORD_GROUP | KEYWORD_BY | KEYWORD_IN | KEYWORD_OUT | KEYWORD_AND | KEYWORD_OR | KEYWORD_NOT | KEYWORD_AS | KEYWORD_LIKE | KEYWORD_DISTINCT | KEYWORD_CONNECTION | KEYWORD_PARTITIONED | KEYWORD_REPLICATED | KEYWORD_SCHEMA | KEYWORD_TABLE | KEYWORD_FUNCTION | KEYWORD_BEGIN | KEYWORD_END | KEYWORD_VAR | KEYWORD_URL | KEYWORD_USER | KEYWORD_PASSWD | KEYWORD_STORE | TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE | LITERAL_STRING | LITERAL_DECIMAL | LITERAL_INTEGER | IDENTIFIER | IGNORE_CHAR )
-		int alt8=85;
+		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:8: ( AMPERSAND | APOSTROPHE | AT | BACKSLASH | COLON | COMMA | DIV | DOLLAR | DOT | DOUBLE_PIPE | EQUAL1 | EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | HAT | LBRACKET | LESS_EQUAL1 | LESS_EQUAL2 | LESS_THAN | LPAREN | MINUS | MOD | MULT | NOT_EQUAL1 | NOT_EQUAL2 | PIPE | PLUS | QUESTION | QUOTE_DOUBLE | QUOTE_SINGLE | QUOTE_TRIPLE | RBRACKET | RPAREN | SEMI | SHIFT_LEFT | SHIFT_RIGHT | TILDE | UNDERSCORE | FUNCTION_AGGREGATION | KEYWORD_PARTITION | KEYWORD_REFERENCES | KEYWORD_INTO | KEYWORD_INFILE | KEYWORD_DATA | KEYWORD_LOAD | KEYWORD_CALL | KEYWORD_CREATE | KEYWORD_DROP | KEYWORD_ANALYZE | KEYWORD_SELECT | KEYWORD_FROM | KEYWORD_WHERE | KEYWORD_HAVING | KEYWORD_GROUP | KEYWORD_BY | KEYWORD_IN | KEYWORD_OUT | KEYWORD_AND | KEYWORD_OR | KEYWORD_NOT | KEYWORD_AS | KEYWORD_LIKE | KEYWORD_DISTINCT | KEYWORD_CONNECTION | KEYWORD_PARTITIONED | KEYWORD_REPLICATED | KEYWORD_SCHEMA | KEYWORD_TABLE | KEYWORD_FUNCTION | KEYWORD_BEGIN | KEYWORD_END | KEYWORD_VAR | KEYWORD_URL | KEYWORD_USER | KEYWORD_PASSWD | KEYWORD_STORE | TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE | LITERAL_STRING | LITERAL_DECIMAL | LITERAL_INTEGER | IDENTIFIER | IGNORE_CHAR )
+		int alt8=86;
 		alt8 = dfa8.predict(input);
 		switch (alt8) {
 			case 1 :
@@ -3750,252 +3784,259 @@ public class FunSQLLexer extends Lexer {
 				}
 				break;
 			case 50 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:503: KEYWORD_SELECT
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:503: KEYWORD_ANALYZE
 				{
-				mKEYWORD_SELECT(); 
+				mKEYWORD_ANALYZE(); 
 
 				}
 				break;
 			case 51 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:518: KEYWORD_FROM
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:519: KEYWORD_SELECT
 				{
-				mKEYWORD_FROM(); 
+				mKEYWORD_SELECT(); 
 
 				}
 				break;
 			case 52 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:531: KEYWORD_WHERE
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:534: KEYWORD_FROM
 				{
-				mKEYWORD_WHERE(); 
+				mKEYWORD_FROM(); 
 
 				}
 				break;
 			case 53 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:545: KEYWORD_HAVING
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:547: KEYWORD_WHERE
 				{
-				mKEYWORD_HAVING(); 
+				mKEYWORD_WHERE(); 
 
 				}
 				break;
 			case 54 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:560: KEYWORD_GROUP
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:561: KEYWORD_HAVING
 				{
-				mKEYWORD_GROUP(); 
+				mKEYWORD_HAVING(); 
 
 				}
 				break;
 			case 55 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:574: KEYWORD_BY
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:576: KEYWORD_GROUP
 				{
-				mKEYWORD_BY(); 
+				mKEYWORD_GROUP(); 
 
 				}
 				break;
 			case 56 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:585: KEYWORD_IN
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:590: KEYWORD_BY
 				{
-				mKEYWORD_IN(); 
+				mKEYWORD_BY(); 
 
 				}
 				break;
 			case 57 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:596: KEYWORD_OUT
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:601: KEYWORD_IN
 				{
-				mKEYWORD_OUT(); 
+				mKEYWORD_IN(); 
 
 				}
 				break;
 			case 58 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:608: KEYWORD_AND
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:612: KEYWORD_OUT
 				{
-				mKEYWORD_AND(); 
+				mKEYWORD_OUT(); 
 
 				}
 				break;
 			case 59 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:620: KEYWORD_OR
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:624: KEYWORD_AND
 				{
-				mKEYWORD_OR(); 
+				mKEYWORD_AND(); 
 
 				}
 				break;
 			case 60 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:631: KEYWORD_NOT
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:636: KEYWORD_OR
 				{
-				mKEYWORD_NOT(); 
+				mKEYWORD_OR(); 
 
 				}
 				break;
 			case 61 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:643: KEYWORD_AS
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:647: KEYWORD_NOT
 				{
-				mKEYWORD_AS(); 
+				mKEYWORD_NOT(); 
 
 				}
 				break;
 			case 62 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:654: KEYWORD_LIKE
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:659: KEYWORD_AS
 				{
-				mKEYWORD_LIKE(); 
+				mKEYWORD_AS(); 
 
 				}
 				break;
 			case 63 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:667: KEYWORD_DISTINCT
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:670: KEYWORD_LIKE
 				{
-				mKEYWORD_DISTINCT(); 
+				mKEYWORD_LIKE(); 
 
 				}
 				break;
 			case 64 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:684: KEYWORD_CONNECTION
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:683: KEYWORD_DISTINCT
 				{
-				mKEYWORD_CONNECTION(); 
+				mKEYWORD_DISTINCT(); 
 
 				}
 				break;
 			case 65 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:703: KEYWORD_PARTITIONED
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:700: KEYWORD_CONNECTION
 				{
-				mKEYWORD_PARTITIONED(); 
+				mKEYWORD_CONNECTION(); 
 
 				}
 				break;
 			case 66 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:723: KEYWORD_REPLICATED
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:719: KEYWORD_PARTITIONED
 				{
-				mKEYWORD_REPLICATED(); 
+				mKEYWORD_PARTITIONED(); 
 
 				}
 				break;
 			case 67 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:742: KEYWORD_SCHEMA
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:739: KEYWORD_REPLICATED
 				{
-				mKEYWORD_SCHEMA(); 
+				mKEYWORD_REPLICATED(); 
 
 				}
 				break;
 			case 68 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:757: KEYWORD_TABLE
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:758: KEYWORD_SCHEMA
 				{
-				mKEYWORD_TABLE(); 
+				mKEYWORD_SCHEMA(); 
 
 				}
 				break;
 			case 69 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:771: KEYWORD_FUNCTION
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:773: KEYWORD_TABLE
 				{
-				mKEYWORD_FUNCTION(); 
+				mKEYWORD_TABLE(); 
 
 				}
 				break;
 			case 70 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:788: KEYWORD_BEGIN
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:787: KEYWORD_FUNCTION
 				{
-				mKEYWORD_BEGIN(); 
+				mKEYWORD_FUNCTION(); 
 
 				}
 				break;
 			case 71 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:802: KEYWORD_END
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:804: KEYWORD_BEGIN
 				{
-				mKEYWORD_END(); 
+				mKEYWORD_BEGIN(); 
 
 				}
 				break;
 			case 72 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:814: KEYWORD_VAR
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:818: KEYWORD_END
 				{
-				mKEYWORD_VAR(); 
+				mKEYWORD_END(); 
 
 				}
 				break;
 			case 73 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:826: KEYWORD_URL
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:830: KEYWORD_VAR
 				{
-				mKEYWORD_URL(); 
+				mKEYWORD_VAR(); 
 
 				}
 				break;
 			case 74 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:838: KEYWORD_USER
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:842: KEYWORD_URL
 				{
-				mKEYWORD_USER(); 
+				mKEYWORD_URL(); 
 
 				}
 				break;
 			case 75 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:851: KEYWORD_PASSWD
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:854: KEYWORD_USER
 				{
-				mKEYWORD_PASSWD(); 
+				mKEYWORD_USER(); 
 
 				}
 				break;
 			case 76 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:866: KEYWORD_STORE
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:867: KEYWORD_PASSWD
 				{
-				mKEYWORD_STORE(); 
+				mKEYWORD_PASSWD(); 
 
 				}
 				break;
 			case 77 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:880: TYPE_VARCHAR
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:882: KEYWORD_STORE
 				{
-				mTYPE_VARCHAR(); 
+				mKEYWORD_STORE(); 
 
 				}
 				break;
 			case 78 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:893: TYPE_INTEGER
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:896: TYPE_VARCHAR
 				{
-				mTYPE_INTEGER(); 
+				mTYPE_VARCHAR(); 
 
 				}
 				break;
 			case 79 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:906: TYPE_DECIMAL
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:909: TYPE_INTEGER
 				{
-				mTYPE_DECIMAL(); 
+				mTYPE_INTEGER(); 
 
 				}
 				break;
 			case 80 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:919: TYPE_DATE
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:922: TYPE_DECIMAL
 				{
-				mTYPE_DATE(); 
+				mTYPE_DECIMAL(); 
 
 				}
 				break;
 			case 81 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:929: LITERAL_STRING
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:935: TYPE_DATE
 				{
-				mLITERAL_STRING(); 
+				mTYPE_DATE(); 
 
 				}
 				break;
 			case 82 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:944: LITERAL_DECIMAL
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:945: LITERAL_STRING
 				{
-				mLITERAL_DECIMAL(); 
+				mLITERAL_STRING(); 
 
 				}
 				break;
 			case 83 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:960: LITERAL_INTEGER
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:960: LITERAL_DECIMAL
 				{
-				mLITERAL_INTEGER(); 
+				mLITERAL_DECIMAL(); 
 
 				}
 				break;
 			case 84 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:976: IDENTIFIER
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:976: LITERAL_INTEGER
 				{
-				mIDENTIFIER(); 
+				mLITERAL_INTEGER(); 
 
 				}
 				break;
 			case 85 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:987: IGNORE_CHAR
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:992: IDENTIFIER
+				{
+				mIDENTIFIER(); 
+
+				}
+				break;
+			case 86 :
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1:1003: IGNORE_CHAR
 				{
 				mIGNORE_CHAR(); 
 
@@ -4009,40 +4050,40 @@ public class FunSQLLexer extends Lexer {
 	protected DFA8 dfa8 = new DFA8(this);
 	static final String DFA8_eotS =
 		"\12\uffff\1\66\1\70\1\73\3\uffff\1\102\7\uffff\1\104\5\uffff\24\63\1\153"+
-		"\20\uffff\1\105\2\uffff\10\63\1\165\5\63\1\176\13\63\1\u008c\2\63\1\u008f"+
-		"\6\63\3\uffff\1\u0096\3\63\3\u0096\1\u009a\1\uffff\10\63\1\uffff\1\u00a3"+
-		"\14\63\1\uffff\1\63\1\u00b4\1\uffff\1\u00b5\1\63\1\u00b7\1\u00b8\1\u00ba"+
-		"\1\63\1\uffff\3\63\1\uffff\2\63\1\u00c1\5\63\1\uffff\1\u00c7\2\63\1\u00ca"+
-		"\1\u00cb\1\u00cc\2\63\1\u00cf\1\u00d0\1\u00d1\5\63\2\uffff\1\63\2\uffff"+
-		"\1\63\1\uffff\1\u00d9\2\63\1\u00dc\1\u0096\1\63\1\uffff\5\63\1\uffff\2"+
-		"\63\3\uffff\2\63\3\uffff\1\63\1\u00e9\1\63\1\u00eb\1\u00ec\1\u00ed\1\63"+
-		"\1\uffff\1\u00ef\1\u00f0\1\uffff\1\63\1\u00f2\6\63\1\u00f9\3\63\1\uffff"+
-		"\1\u00fd\3\uffff\1\63\2\uffff\1\63\1\uffff\5\63\1\u00a3\1\uffff\1\63\1"+
-		"\u0106\1\63\1\uffff\1\u0108\3\63\1\u010c\2\63\1\u010f\1\uffff\1\u0110"+
-		"\1\uffff\1\63\1\u0112\1\u0113\1\uffff\2\63\2\uffff\1\u0116\2\uffff\1\u0117"+
-		"\1\u0118\3\uffff";
+		"\20\uffff\1\105\2\uffff\10\63\1\166\5\63\1\177\13\63\1\u008d\2\63\1\u0090"+
+		"\6\63\3\uffff\1\u0097\3\63\3\u0097\1\63\1\u009c\1\uffff\10\63\1\uffff"+
+		"\1\u00a5\14\63\1\uffff\1\63\1\u00b6\1\uffff\1\u00b7\1\63\1\u00b9\1\u00ba"+
+		"\1\u00bc\1\63\1\uffff\4\63\1\uffff\2\63\1\u00c4\5\63\1\uffff\1\u00ca\2"+
+		"\63\1\u00cd\1\u00ce\1\u00cf\2\63\1\u00d2\1\u00d3\1\u00d4\5\63\2\uffff"+
+		"\1\63\2\uffff\1\63\1\uffff\1\u00dc\2\63\1\u00df\1\63\1\u0097\1\63\1\uffff"+
+		"\5\63\1\uffff\2\63\3\uffff\2\63\3\uffff\1\63\1\u00ed\1\63\1\u00ef\1\u00f0"+
+		"\1\u00f1\1\63\1\uffff\1\u00f3\1\u00f4\1\uffff\2\63\1\u00f7\6\63\1\u00fe"+
+		"\3\63\1\uffff\1\u0102\3\uffff\1\63\2\uffff\1\u0104\1\63\1\uffff\5\63\1"+
+		"\u00a5\1\uffff\1\63\1\u010c\1\63\1\uffff\1\u010e\1\uffff\3\63\1\u0112"+
+		"\2\63\1\u0115\1\uffff\1\u0116\1\uffff\1\63\1\u0118\1\u0119\1\uffff\2\63"+
+		"\2\uffff\1\u011c\2\uffff\1\u011d\1\u011e\3\uffff";
 	static final String DFA8_eofS =
-		"\u0119\uffff";
+		"\u011f\uffff";
 	static final String DFA8_minS =
 		"\1\11\11\uffff\1\174\2\75\1\74\2\uffff\1\74\7\uffff\1\0\5\uffff\1\103"+
 		"\1\101\1\116\2\101\1\105\1\116\1\101\1\111\1\122\1\110\1\101\1\122\1\105"+
 		"\1\122\1\117\1\101\1\116\1\101\1\122\1\56\20\uffff\1\47\2\uffff\1\115"+
-		"\1\114\1\110\1\117\1\116\1\130\1\107\1\104\1\43\1\116\1\114\1\105\1\122"+
+		"\1\114\1\110\1\117\1\116\1\130\1\107\1\101\1\43\1\116\1\114\1\105\1\122"+
 		"\1\106\1\43\1\124\1\117\1\123\1\103\1\101\1\113\1\117\1\116\1\105\1\126"+
 		"\1\117\1\43\1\107\1\124\1\43\1\124\1\102\1\104\1\122\1\114\1\105\3\uffff"+
-		"\1\43\2\105\1\122\4\43\1\uffff\2\116\1\114\1\101\1\124\1\123\1\105\1\114"+
-		"\1\uffff\1\43\1\111\1\101\1\120\1\124\1\111\1\104\1\105\1\115\1\103\1"+
-		"\122\1\111\1\125\1\uffff\1\111\1\43\1\uffff\1\43\1\114\3\43\1\122\1\uffff"+
-		"\1\103\1\115\1\105\1\uffff\1\124\1\105\1\43\1\124\1\111\1\127\1\122\1"+
-		"\111\1\uffff\1\43\1\107\1\114\3\43\1\111\1\115\3\43\1\124\1\105\1\116"+
-		"\1\120\1\116\2\uffff\1\105\2\uffff\1\110\1\uffff\1\43\1\124\1\101\2\43"+
-		"\1\103\1\uffff\1\105\2\117\1\105\1\103\1\uffff\2\105\3\uffff\1\116\1\101"+
-		"\3\uffff\1\111\1\43\1\107\3\43\1\101\1\uffff\2\43\1\uffff\1\124\1\43\1"+
-		"\111\1\116\1\122\1\116\1\101\1\122\1\43\1\103\1\114\1\117\1\uffff\1\43"+
-		"\3\uffff\1\122\2\uffff\1\111\1\uffff\1\117\1\105\1\104\1\103\1\124\1\43"+
-		"\1\uffff\1\124\1\43\1\116\1\uffff\1\43\1\117\1\116\1\104\1\43\2\105\1"+
-		"\43\1\uffff\1\43\1\uffff\1\116\2\43\1\uffff\1\123\1\104\2\uffff\1\43\2"+
-		"\uffff\2\43\3\uffff";
+		"\1\43\2\105\1\122\3\43\1\114\1\43\1\uffff\2\116\1\114\1\101\1\124\1\123"+
+		"\1\105\1\114\1\uffff\1\43\1\111\1\101\1\120\1\124\1\111\1\104\1\105\1"+
+		"\115\1\103\1\122\1\111\1\125\1\uffff\1\111\1\43\1\uffff\1\43\1\114\3\43"+
+		"\1\122\1\uffff\1\103\1\115\1\105\1\131\1\uffff\1\124\1\105\1\43\1\124"+
+		"\1\111\1\127\1\122\1\111\1\uffff\1\43\1\107\1\114\3\43\1\111\1\115\3\43"+
+		"\1\124\1\105\1\116\1\120\1\116\2\uffff\1\105\2\uffff\1\110\1\uffff\1\43"+
+		"\1\124\1\101\1\43\1\132\1\43\1\103\1\uffff\1\105\2\117\1\105\1\103\1\uffff"+
+		"\2\105\3\uffff\1\116\1\101\3\uffff\1\111\1\43\1\107\3\43\1\101\1\uffff"+
+		"\2\43\1\uffff\1\105\1\124\1\43\1\111\1\116\1\122\1\116\1\101\1\122\1\43"+
+		"\1\103\1\114\1\117\1\uffff\1\43\3\uffff\1\122\2\uffff\1\43\1\111\1\uffff"+
+		"\1\117\1\105\1\104\1\103\1\124\1\43\1\uffff\1\124\1\43\1\116\1\uffff\1"+
+		"\43\1\uffff\1\117\1\116\1\104\1\43\2\105\1\43\1\uffff\1\43\1\uffff\1\116"+
+		"\2\43\1\uffff\1\123\1\104\2\uffff\1\43\2\uffff\2\43\3\uffff";
 	static final String DFA8_maxS =
 		"\1\176\11\uffff\1\174\1\75\2\76\2\uffff\1\76\7\uffff\1\uffff\5\uffff\1"+
 		"\165\1\151\1\166\1\162\1\141\1\145\1\156\1\162\1\157\1\165\1\150\1\141"+
@@ -4050,33 +4091,34 @@ public class FunSQLLexer extends Lexer {
 		"\uffff\1\155\1\154\1\150\1\157\1\156\1\170\1\147\1\144\1\172\1\165\1\154"+
 		"\1\145\1\163\1\160\1\172\1\164\1\157\1\163\1\143\1\141\1\153\1\157\1\156"+
 		"\1\145\1\166\1\157\1\172\1\147\1\164\1\172\1\164\1\142\1\144\1\162\1\154"+
-		"\1\145\3\uffff\1\172\2\145\1\162\4\172\1\uffff\2\156\1\154\1\141\1\164"+
-		"\1\163\1\145\1\154\1\uffff\1\172\1\151\1\145\1\160\1\164\1\151\1\144\1"+
-		"\145\1\155\1\143\1\162\1\151\1\165\1\uffff\1\151\1\172\1\uffff\1\172\1"+
-		"\154\3\172\1\162\1\uffff\1\143\1\155\1\145\1\uffff\1\164\1\145\1\172\1"+
-		"\164\1\151\1\167\1\162\1\151\1\uffff\1\172\1\147\1\154\3\172\1\151\1\155"+
-		"\3\172\1\164\1\145\1\156\1\160\1\156\2\uffff\1\145\2\uffff\1\150\1\uffff"+
-		"\1\172\1\164\1\141\2\172\1\143\1\uffff\1\145\1\164\1\157\1\145\1\143\1"+
-		"\uffff\2\145\3\uffff\1\156\1\141\3\uffff\1\151\1\172\1\147\3\172\1\141"+
-		"\1\uffff\2\172\1\uffff\1\164\1\172\1\151\1\156\1\162\1\156\1\141\1\162"+
-		"\1\172\1\143\1\154\1\157\1\uffff\1\172\3\uffff\1\162\2\uffff\1\151\1\uffff"+
-		"\1\157\1\145\1\144\1\143\1\164\1\172\1\uffff\1\164\1\172\1\156\1\uffff"+
-		"\1\172\1\157\1\156\1\144\1\172\2\145\1\172\1\uffff\1\172\1\uffff\1\156"+
-		"\2\172\1\uffff\1\163\1\144\2\uffff\1\172\2\uffff\2\172\3\uffff";
+		"\1\145\3\uffff\1\172\2\145\1\162\3\172\1\154\1\172\1\uffff\2\156\1\154"+
+		"\1\141\1\164\1\163\1\145\1\154\1\uffff\1\172\1\151\1\145\1\160\1\164\1"+
+		"\151\1\144\1\145\1\155\1\143\1\162\1\151\1\165\1\uffff\1\151\1\172\1\uffff"+
+		"\1\172\1\154\3\172\1\162\1\uffff\1\143\1\155\1\145\1\171\1\uffff\1\164"+
+		"\1\145\1\172\1\164\1\151\1\167\1\162\1\151\1\uffff\1\172\1\147\1\154\3"+
+		"\172\1\151\1\155\3\172\1\164\1\145\1\156\1\160\1\156\2\uffff\1\145\2\uffff"+
+		"\1\150\1\uffff\1\172\1\164\1\141\3\172\1\143\1\uffff\1\145\1\164\1\157"+
+		"\1\145\1\143\1\uffff\2\145\3\uffff\1\156\1\141\3\uffff\1\151\1\172\1\147"+
+		"\3\172\1\141\1\uffff\2\172\1\uffff\1\145\1\164\1\172\1\151\1\156\1\162"+
+		"\1\156\1\141\1\162\1\172\1\143\1\154\1\157\1\uffff\1\172\3\uffff\1\162"+
+		"\2\uffff\1\172\1\151\1\uffff\1\157\1\145\1\144\1\143\1\164\1\172\1\uffff"+
+		"\1\164\1\172\1\156\1\uffff\1\172\1\uffff\1\157\1\156\1\144\1\172\2\145"+
+		"\1\172\1\uffff\1\172\1\uffff\1\156\2\172\1\uffff\1\163\1\144\2\uffff\1"+
+		"\172\2\uffff\2\172\3\uffff";
 	static final String DFA8_acceptS =
 		"\1\uffff\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\10\1\11\4\uffff\1\20\1\21\1\uffff"+
 		"\1\25\1\26\1\27\1\30\1\34\1\35\1\36\1\uffff\1\41\1\42\1\43\1\46\1\47\25"+
-		"\uffff\1\124\1\125\1\12\1\33\1\14\1\13\1\15\1\45\1\17\1\16\1\23\1\31\1"+
-		"\22\1\32\1\44\1\24\1\uffff\1\37\1\121\44\uffff\1\122\1\123\1\40\10\uffff"+
-		"\1\75\10\uffff\1\70\15\uffff\1\67\2\uffff\1\73\6\uffff\1\50\3\uffff\1"+
-		"\72\10\uffff\1\116\20\uffff\1\71\1\74\1\uffff\1\107\1\110\1\uffff\1\111"+
-		"\6\uffff\1\57\5\uffff\1\53\2\uffff\1\55\1\120\1\61\2\uffff\1\56\1\76\1"+
-		"\63\7\uffff\1\112\2\uffff\1\114\14\uffff\1\64\1\uffff\1\66\1\106\1\104"+
-		"\1\uffff\1\62\1\103\1\uffff\1\60\6\uffff\1\54\3\uffff\1\65\10\uffff\1"+
-		"\117\1\uffff\1\115\3\uffff\1\113\2\uffff\1\77\1\105\1\uffff\1\51\1\101"+
-		"\2\uffff\1\100\1\52\1\102";
+		"\uffff\1\125\1\126\1\12\1\33\1\14\1\13\1\15\1\45\1\17\1\16\1\23\1\31\1"+
+		"\22\1\32\1\44\1\24\1\uffff\1\37\1\122\44\uffff\1\123\1\124\1\40\11\uffff"+
+		"\1\76\10\uffff\1\71\15\uffff\1\70\2\uffff\1\74\6\uffff\1\50\4\uffff\1"+
+		"\73\10\uffff\1\117\20\uffff\1\72\1\75\1\uffff\1\110\1\111\1\uffff\1\112"+
+		"\7\uffff\1\57\5\uffff\1\53\2\uffff\1\55\1\121\1\61\2\uffff\1\56\1\77\1"+
+		"\64\7\uffff\1\113\2\uffff\1\115\15\uffff\1\65\1\uffff\1\67\1\107\1\105"+
+		"\1\uffff\1\63\1\104\2\uffff\1\60\6\uffff\1\54\3\uffff\1\66\1\uffff\1\62"+
+		"\7\uffff\1\120\1\uffff\1\116\3\uffff\1\114\2\uffff\1\100\1\106\1\uffff"+
+		"\1\51\1\102\2\uffff\1\101\1\52\1\103";
 	static final String DFA8_specialS =
-		"\30\uffff\1\0\u0100\uffff}>";
+		"\30\uffff\1\0\u0106\uffff}>";
 	static final String[] DFA8_transitionS = {
 			"\5\64\22\uffff\1\64\1\15\1\27\1\uffff\1\10\1\23\1\1\1\30\1\21\1\32\1"+
 			"\24\1\25\1\6\1\22\1\11\1\7\12\62\1\5\1\33\1\20\1\13\1\14\1\26\1\3\1\40"+
@@ -4165,16 +4207,15 @@ public class FunSQLLexer extends Lexer {
 			"\1\161\37\uffff\1\161",
 			"\1\162\37\uffff\1\162",
 			"\1\163\37\uffff\1\163",
-			"\1\164\37\uffff\1\164",
+			"\1\164\2\uffff\1\165\34\uffff\1\164\2\uffff\1\165",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\167\6\uffff\1\166\30\uffff\1\167\6\uffff\1\166",
-			"\1\170\37\uffff\1\170",
+			"\1\170\6\uffff\1\167\30\uffff\1\170\6\uffff\1\167",
 			"\1\171\37\uffff\1\171",
-			"\1\172\1\173\36\uffff\1\172\1\173",
-			"\1\174\11\uffff\1\175\25\uffff\1\174\11\uffff\1\175",
-			"\2\63\13\uffff\12\63\7\uffff\5\63\1\u0080\15\63\1\177\6\63\4\uffff\1"+
-			"\63\1\uffff\5\63\1\u0080\15\63\1\177\6\63",
-			"\1\u0081\37\uffff\1\u0081",
+			"\1\172\37\uffff\1\172",
+			"\1\173\1\174\36\uffff\1\173\1\174",
+			"\1\175\11\uffff\1\176\25\uffff\1\175\11\uffff\1\176",
+			"\2\63\13\uffff\12\63\7\uffff\5\63\1\u0081\15\63\1\u0080\6\63\4\uffff"+
+			"\1\63\1\uffff\5\63\1\u0081\15\63\1\u0080\6\63",
 			"\1\u0082\37\uffff\1\u0082",
 			"\1\u0083\37\uffff\1\u0083",
 			"\1\u0084\37\uffff\1\u0084",
@@ -4185,43 +4226,43 @@ public class FunSQLLexer extends Lexer {
 			"\1\u0089\37\uffff\1\u0089",
 			"\1\u008a\37\uffff\1\u008a",
 			"\1\u008b\37\uffff\1\u008b",
+			"\1\u008c\37\uffff\1\u008c",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u008d\37\uffff\1\u008d",
 			"\1\u008e\37\uffff\1\u008e",
+			"\1\u008f\37\uffff\1\u008f",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0090\37\uffff\1\u0090",
 			"\1\u0091\37\uffff\1\u0091",
 			"\1\u0092\37\uffff\1\u0092",
 			"\1\u0093\37\uffff\1\u0093",
 			"\1\u0094\37\uffff\1\u0094",
 			"\1\u0095\37\uffff\1\u0095",
+			"\1\u0096\37\uffff\1\u0096",
 			"",
 			"",
 			"",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0097\37\uffff\1\u0097",
 			"\1\u0098\37\uffff\1\u0098",
 			"\1\u0099\37\uffff\1\u0099",
+			"\1\u009a\37\uffff\1\u009a",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u009b\37\uffff\1\u009b",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
-			"\1\u009b\37\uffff\1\u009b",
-			"\1\u009c\37\uffff\1\u009c",
 			"\1\u009d\37\uffff\1\u009d",
 			"\1\u009e\37\uffff\1\u009e",
 			"\1\u009f\37\uffff\1\u009f",
 			"\1\u00a0\37\uffff\1\u00a0",
 			"\1\u00a1\37\uffff\1\u00a1",
 			"\1\u00a2\37\uffff\1\u00a2",
+			"\1\u00a3\37\uffff\1\u00a3",
+			"\1\u00a4\37\uffff\1\u00a4",
 			"",
-			"\2\63\13\uffff\12\63\7\uffff\4\63\1\u00a5\11\63\1\u00a4\13\63\4\uffff"+
-			"\1\63\1\uffff\4\63\1\u00a5\11\63\1\u00a4\13\63",
-			"\1\u00a6\37\uffff\1\u00a6",
-			"\1\u00a7\3\uffff\1\u00a8\33\uffff\1\u00a7\3\uffff\1\u00a8",
-			"\1\u00a9\37\uffff\1\u00a9",
-			"\1\u00aa\37\uffff\1\u00aa",
+			"\2\63\13\uffff\12\63\7\uffff\4\63\1\u00a7\11\63\1\u00a6\13\63\4\uffff"+
+			"\1\63\1\uffff\4\63\1\u00a7\11\63\1\u00a6\13\63",
+			"\1\u00a8\37\uffff\1\u00a8",
+			"\1\u00a9\3\uffff\1\u00aa\33\uffff\1\u00a9\3\uffff\1\u00aa",
 			"\1\u00ab\37\uffff\1\u00ab",
 			"\1\u00ac\37\uffff\1\u00ac",
 			"\1\u00ad\37\uffff\1\u00ad",
@@ -4230,138 +4271,145 @@ public class FunSQLLexer extends Lexer {
 			"\1\u00b0\37\uffff\1\u00b0",
 			"\1\u00b1\37\uffff\1\u00b1",
 			"\1\u00b2\37\uffff\1\u00b2",
-			"",
 			"\1\u00b3\37\uffff\1\u00b3",
+			"\1\u00b4\37\uffff\1\u00b4",
+			"",
+			"\1\u00b5\37\uffff\1\u00b5",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00b6\37\uffff\1\u00b6",
+			"\1\u00b8\37\uffff\1\u00b8",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\2\63\13\uffff\12\63\7\uffff\2\63\1\u00b9\27\63\4\uffff\1\63\1\uffff"+
-			"\2\63\1\u00b9\27\63",
+			"\2\63\13\uffff\12\63\7\uffff\2\63\1\u00bb\27\63\4\uffff\1\63\1\uffff"+
+			"\2\63\1\u00bb\27\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00bb\37\uffff\1\u00bb",
-			"",
-			"\1\u00bc\37\uffff\1\u00bc",
 			"\1\u00bd\37\uffff\1\u00bd",
-			"\1\u00be\37\uffff\1\u00be",
 			"",
+			"\1\u00be\37\uffff\1\u00be",
 			"\1\u00bf\37\uffff\1\u00bf",
 			"\1\u00c0\37\uffff\1\u00c0",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00c1\37\uffff\1\u00c1",
+			"",
 			"\1\u00c2\37\uffff\1\u00c2",
 			"\1\u00c3\37\uffff\1\u00c3",
-			"\1\u00c4\37\uffff\1\u00c4",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00c5\37\uffff\1\u00c5",
 			"\1\u00c6\37\uffff\1\u00c6",
-			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00c7\37\uffff\1\u00c7",
 			"\1\u00c8\37\uffff\1\u00c8",
 			"\1\u00c9\37\uffff\1\u00c9",
+			"",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00cb\37\uffff\1\u00cb",
+			"\1\u00cc\37\uffff\1\u00cc",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00cd\37\uffff\1\u00cd",
-			"\1\u00ce\37\uffff\1\u00ce",
+			"\1\u00d0\37\uffff\1\u00d0",
+			"\1\u00d1\37\uffff\1\u00d1",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00d2\37\uffff\1\u00d2",
-			"\1\u00d3\37\uffff\1\u00d3",
-			"\1\u00d4\37\uffff\1\u00d4",
 			"\1\u00d5\37\uffff\1\u00d5",
 			"\1\u00d6\37\uffff\1\u00d6",
-			"",
-			"",
 			"\1\u00d7\37\uffff\1\u00d7",
-			"",
-			"",
 			"\1\u00d8\37\uffff\1\u00d8",
+			"\1\u00d9\37\uffff\1\u00d9",
+			"",
 			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00da\37\uffff\1\u00da",
+			"",
+			"",
 			"\1\u00db\37\uffff\1\u00db",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00dd\37\uffff\1\u00dd",
-			"",
 			"\1\u00de\37\uffff\1\u00de",
-			"\1\u00e0\4\uffff\1\u00df\32\uffff\1\u00e0\4\uffff\1\u00df",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00e0\37\uffff\1\u00e0",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00e1\37\uffff\1\u00e1",
-			"\1\u00e2\37\uffff\1\u00e2",
-			"\1\u00e3\37\uffff\1\u00e3",
 			"",
-			"\1\u00e4\37\uffff\1\u00e4",
+			"\1\u00e2\37\uffff\1\u00e2",
+			"\1\u00e4\4\uffff\1\u00e3\32\uffff\1\u00e4\4\uffff\1\u00e3",
 			"\1\u00e5\37\uffff\1\u00e5",
+			"\1\u00e6\37\uffff\1\u00e6",
+			"\1\u00e7\37\uffff\1\u00e7",
 			"",
+			"\1\u00e8\37\uffff\1\u00e8",
+			"\1\u00e9\37\uffff\1\u00e9",
 			"",
 			"",
-			"\1\u00e6\37\uffff\1\u00e6",
-			"\1\u00e7\37\uffff\1\u00e7",
 			"",
+			"\1\u00ea\37\uffff\1\u00ea",
+			"\1\u00eb\37\uffff\1\u00eb",
 			"",
 			"",
-			"\1\u00e8\37\uffff\1\u00e8",
+			"",
+			"\1\u00ec\37\uffff\1\u00ec",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00ea\37\uffff\1\u00ea",
+			"\1\u00ee\37\uffff\1\u00ee",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00ee\37\uffff\1\u00ee",
+			"\1\u00f2\37\uffff\1\u00f2",
 			"",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
-			"\1\u00f1\37\uffff\1\u00f1",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00f3\37\uffff\1\u00f3",
-			"\1\u00f4\37\uffff\1\u00f4",
 			"\1\u00f5\37\uffff\1\u00f5",
 			"\1\u00f6\37\uffff\1\u00f6",
-			"\1\u00f7\37\uffff\1\u00f7",
-			"\1\u00f8\37\uffff\1\u00f8",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00f8\37\uffff\1\u00f8",
+			"\1\u00f9\37\uffff\1\u00f9",
 			"\1\u00fa\37\uffff\1\u00fa",
 			"\1\u00fb\37\uffff\1\u00fb",
 			"\1\u00fc\37\uffff\1\u00fc",
-			"",
+			"\1\u00fd\37\uffff\1\u00fd",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00ff\37\uffff\1\u00ff",
+			"\1\u0100\37\uffff\1\u0100",
+			"\1\u0101\37\uffff\1\u0101",
 			"",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
 			"",
-			"\1\u00fe\37\uffff\1\u00fe",
 			"",
+			"\1\u0103\37\uffff\1\u0103",
 			"",
-			"\1\u00ff\37\uffff\1\u00ff",
 			"",
-			"\1\u0100\37\uffff\1\u0100",
-			"\1\u0101\37\uffff\1\u0101",
-			"\1\u0102\37\uffff\1\u0102",
-			"\1\u0103\37\uffff\1\u0103",
-			"\1\u0104\37\uffff\1\u0104",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
 			"\1\u0105\37\uffff\1\u0105",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u0107\37\uffff\1\u0107",
 			"",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0106\37\uffff\1\u0106",
+			"\1\u0107\37\uffff\1\u0107",
+			"\1\u0108\37\uffff\1\u0108",
 			"\1\u0109\37\uffff\1\u0109",
 			"\1\u010a\37\uffff\1\u010a",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
 			"\1\u010b\37\uffff\1\u010b",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u010d\37\uffff\1\u010d",
-			"\1\u010e\37\uffff\1\u010e",
-			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
+			"\1\u010f\37\uffff\1\u010f",
+			"\1\u0110\37\uffff\1\u0110",
 			"\1\u0111\37\uffff\1\u0111",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0113\37\uffff\1\u0113",
+			"\1\u0114\37\uffff\1\u0114",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
-			"\1\u0114\37\uffff\1\u0114",
-			"\1\u0115\37\uffff\1\u0115",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
+			"\1\u0117\37\uffff\1\u0117",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
+			"\1\u011a\37\uffff\1\u011a",
+			"\1\u011b\37\uffff\1\u011b",
 			"",
 			"",
 			"\2\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
@@ -4405,7 +4453,7 @@ public class FunSQLLexer extends Lexer {
 		}
 		@Override
 		public String getDescription() {
-			return "1:1: Tokens : ( AMPERSAND | APOSTROPHE | AT | BACKSLASH | COLON | COMMA | DIV | DOLLAR | DOT | DOUBLE_PIPE | EQUAL1 | EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | HAT | LBRACKET | LESS_EQUAL1 | LESS_EQUAL2 | LESS_THAN | LPAREN | MINUS | MOD | MULT | NOT_EQUAL1 | NOT_EQUAL2 | PIPE | PLUS | QUESTION | QUOTE_DOUBLE | QUOTE_SINGLE | QUOTE_TRIPLE | RBRACKET | RPAREN | SEMI | SHIFT_LEFT | SHIFT_RIGHT | TILDE | UNDERSCORE | FUNCTION_AGGREGATION | KEYWORD_PARTITION | KEYWORD_REFERENCES | KEYWORD_INTO | KEYWORD_INFILE | KEYWORD_DATA | KEYWORD_LOAD | KEYWORD_CALL | KEYWORD_CREATE | KEYWORD_DROP | KEYWORD_SELECT | KEYWORD_FROM | KEYWORD_WHERE | KEYWORD_HAVING | KEYWORD_GROUP | KEYWORD_BY | KEYWORD_IN | KEYWORD_OUT | KEYWORD_AND | KEYWORD_OR | KEYWORD_NOT | KEYWORD_AS | KEYWORD_LIKE | KEYWORD_DISTINCT | KEYWORD_CONNECTION | KEYWORD_PARTITIONED | KEYWORD_REPLICATED | KEYWORD_SCHEMA | KEYWORD_TABLE | KEYWORD_FUNCTION | KEYWORD_BEGIN | KEYWORD_END | KEYWORD_VAR | KEYWORD_URL | KEYWORD_USER | KEYWORD_PASSWD | KEYWORD_STORE | TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE | LITERAL_STRING | LITERAL_DECIMAL | LITERAL_INTEGER | IDENTIFIER | IGNORE_CHAR );";
+			return "1:1: Tokens : ( AMPERSAND | APOSTROPHE | AT | BACKSLASH | COLON | COMMA | DIV | DOLLAR | DOT | DOUBLE_PIPE | EQUAL1 | EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | HAT | LBRACKET | LESS_EQUAL1 | LESS_EQUAL2 | LESS_THAN | LPAREN | MINUS | MOD | MULT | NOT_EQUAL1 | NOT_EQUAL2 | PIPE | PLUS | QUESTION | QUOTE_DOUBLE | QUOTE_SINGLE | QUOTE_TRIPLE | RBRACKET | RPAREN | SEMI | SHIFT_LEFT | SHIFT_RIGHT | TILDE | UNDERSCORE | FUNCTION_AGGREGATION | KEYWORD_PARTITION | KEYWORD_REFERENCES | KEYWORD_INTO | KEYWORD_INFILE | KEYWORD_DATA | KEYWORD_LOAD | KEYWORD_CALL | KEYWORD_CREATE | KEYWORD_DROP | KEYWORD_ANALYZE | KEYWORD_SELECT | KEYWORD_FROM | KEYWORD_WHERE | KEYWORD_HAVING | KEYWORD_GROUP | KEYWORD_BY | KEYWORD_IN | KEYWORD_OUT | KEYWORD_AND | KEYWORD_OR | KEYWORD_NOT | KEYWORD_AS | KEYWORD_LIKE | KEYWORD_DISTINCT | KEYWORD_CONNECTION | KEYWORD_PARTITIONED | KEYWORD_REPLICATED | KEYWORD_SCHEMA | KEYWORD_TABLE | KEYWORD_FUNCTION | KEYWORD_BEGIN | KEYWORD_END | KEYWORD_VAR | KEYWORD_URL | KEYWORD_USER | KEYWORD_PASSWD | KEYWORD_STORE | TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE | LITERAL_STRING | LITERAL_DECIMAL | LITERAL_INTEGER | IDENTIFIER | IGNORE_CHAR );";
 		}
 		@Override
 		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
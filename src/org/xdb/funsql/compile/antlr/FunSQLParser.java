@@ -23,8 +23,8 @@ public class FunSQLParser extends Parser {
 		"D", "DIGIT", "DIV", "DOLLAR", "DOT", "DOUBLE_PIPE", "E", "EQUAL1", "EQUAL2", 
 		"F", "FUNCTION_AGGREGATION", "G", "GREATER_EQUAL1", "GREATER_EQUAL2", 
 		"GREATER_THAN", "H", "HAT", "I", "IDENTIFIER", "IGNORE_CHAR", "J", "K", 
-		"KEYWORD_AND", "KEYWORD_AS", "KEYWORD_AVG", "KEYWORD_BEGIN", "KEYWORD_BY", 
-		"KEYWORD_CALL", "KEYWORD_CONNECTION", "KEYWORD_COUNT", "KEYWORD_CREATE", 
+		"KEYWORD_ANALYZE", "KEYWORD_AND", "KEYWORD_AS", "KEYWORD_AVG", "KEYWORD_BEGIN", 
+		"KEYWORD_BY", "KEYWORD_CALL", "KEYWORD_CONNECTION", "KEYWORD_COUNT", "KEYWORD_CREATE", 
 		"KEYWORD_DATA", "KEYWORD_DISTINCT", "KEYWORD_DROP", "KEYWORD_END", "KEYWORD_FROM", 
 		"KEYWORD_FUNCTION", "KEYWORD_GROUP", "KEYWORD_HAVING", "KEYWORD_IN", "KEYWORD_INFILE", 
 		"KEYWORD_INTO", "KEYWORD_LIKE", "KEYWORD_LOAD", "KEYWORD_MAX", "KEYWORD_MIN", 
@@ -74,94 +74,95 @@ public class FunSQLParser extends Parser {
 	public static final int IGNORE_CHAR=34;
 	public static final int J=35;
 	public static final int K=36;
-	public static final int KEYWORD_AND=37;
-	public static final int KEYWORD_AS=38;
-	public static final int KEYWORD_AVG=39;
-	public static final int KEYWORD_BEGIN=40;
-	public static final int KEYWORD_BY=41;
-	public static final int KEYWORD_CALL=42;
-	public static final int KEYWORD_CONNECTION=43;
-	public static final int KEYWORD_COUNT=44;
-	public static final int KEYWORD_CREATE=45;
-	public static final int KEYWORD_DATA=46;
-	public static final int KEYWORD_DISTINCT=47;
-	public static final int KEYWORD_DROP=48;
-	public static final int KEYWORD_END=49;
-	public static final int KEYWORD_FROM=50;
-	public static final int KEYWORD_FUNCTION=51;
-	public static final int KEYWORD_GROUP=52;
-	public static final int KEYWORD_HAVING=53;
-	public static final int KEYWORD_IN=54;
-	public static final int KEYWORD_INFILE=55;
-	public static final int KEYWORD_INTO=56;
-	public static final int KEYWORD_LIKE=57;
-	public static final int KEYWORD_LOAD=58;
-	public static final int KEYWORD_MAX=59;
-	public static final int KEYWORD_MIN=60;
-	public static final int KEYWORD_NOT=61;
-	public static final int KEYWORD_OR=62;
-	public static final int KEYWORD_OUT=63;
-	public static final int KEYWORD_PARTITION=64;
-	public static final int KEYWORD_PARTITIONED=65;
-	public static final int KEYWORD_PASSWD=66;
-	public static final int KEYWORD_REFERENCES=67;
-	public static final int KEYWORD_REPLICATED=68;
-	public static final int KEYWORD_SCHEMA=69;
-	public static final int KEYWORD_SELECT=70;
-	public static final int KEYWORD_STORE=71;
-	public static final int KEYWORD_SUM=72;
-	public static final int KEYWORD_TABLE=73;
-	public static final int KEYWORD_URL=74;
-	public static final int KEYWORD_USER=75;
-	public static final int KEYWORD_VAR=76;
-	public static final int KEYWORD_WHERE=77;
-	public static final int L=78;
-	public static final int LBRACKET=79;
-	public static final int LESS_EQUAL1=80;
-	public static final int LESS_EQUAL2=81;
-	public static final int LESS_THAN=82;
-	public static final int LITERAL_DECIMAL=83;
-	public static final int LITERAL_INTEGER=84;
-	public static final int LITERAL_STRING=85;
-	public static final int LPAREN=86;
-	public static final int M=87;
-	public static final int MINUS=88;
-	public static final int MOD=89;
-	public static final int MULT=90;
-	public static final int N=91;
-	public static final int NOT_EQUAL1=92;
-	public static final int NOT_EQUAL2=93;
-	public static final int O=94;
-	public static final int P=95;
-	public static final int PIPE=96;
-	public static final int PLUS=97;
-	public static final int Q=98;
-	public static final int QUESTION=99;
-	public static final int QUOTED_STRING=100;
-	public static final int QUOTE_DOUBLE=101;
-	public static final int QUOTE_SINGLE=102;
-	public static final int QUOTE_TRIPLE=103;
-	public static final int R=104;
-	public static final int RBRACKET=105;
-	public static final int RPAREN=106;
-	public static final int S=107;
-	public static final int SEMI=108;
-	public static final int SHIFT_LEFT=109;
-	public static final int SHIFT_RIGHT=110;
-	public static final int T=111;
-	public static final int TILDE=112;
-	public static final int TYPE_DATE=113;
-	public static final int TYPE_DECIMAL=114;
-	public static final int TYPE_INTEGER=115;
-	public static final int TYPE_VARCHAR=116;
-	public static final int U=117;
-	public static final int UNDERSCORE=118;
-	public static final int V=119;
-	public static final int W=120;
-	public static final int WS=121;
-	public static final int X=122;
-	public static final int Y=123;
-	public static final int Z=124;
+	public static final int KEYWORD_ANALYZE=37;
+	public static final int KEYWORD_AND=38;
+	public static final int KEYWORD_AS=39;
+	public static final int KEYWORD_AVG=40;
+	public static final int KEYWORD_BEGIN=41;
+	public static final int KEYWORD_BY=42;
+	public static final int KEYWORD_CALL=43;
+	public static final int KEYWORD_CONNECTION=44;
+	public static final int KEYWORD_COUNT=45;
+	public static final int KEYWORD_CREATE=46;
+	public static final int KEYWORD_DATA=47;
+	public static final int KEYWORD_DISTINCT=48;
+	public static final int KEYWORD_DROP=49;
+	public static final int KEYWORD_END=50;
+	public static final int KEYWORD_FROM=51;
+	public static final int KEYWORD_FUNCTION=52;
+	public static final int KEYWORD_GROUP=53;
+	public static final int KEYWORD_HAVING=54;
+	public static final int KEYWORD_IN=55;
+	public static final int KEYWORD_INFILE=56;
+	public static final int KEYWORD_INTO=57;
+	public static final int KEYWORD_LIKE=58;
+	public static final int KEYWORD_LOAD=59;
+	public static final int KEYWORD_MAX=60;
+	public static final int KEYWORD_MIN=61;
+	public static final int KEYWORD_NOT=62;
+	public static final int KEYWORD_OR=63;
+	public static final int KEYWORD_OUT=64;
+	public static final int KEYWORD_PARTITION=65;
+	public static final int KEYWORD_PARTITIONED=66;
+	public static final int KEYWORD_PASSWD=67;
+	public static final int KEYWORD_REFERENCES=68;
+	public static final int KEYWORD_REPLICATED=69;
+	public static final int KEYWORD_SCHEMA=70;
+	public static final int KEYWORD_SELECT=71;
+	public static final int KEYWORD_STORE=72;
+	public static final int KEYWORD_SUM=73;
+	public static final int KEYWORD_TABLE=74;
+	public static final int KEYWORD_URL=75;
+	public static final int KEYWORD_USER=76;
+	public static final int KEYWORD_VAR=77;
+	public static final int KEYWORD_WHERE=78;
+	public static final int L=79;
+	public static final int LBRACKET=80;
+	public static final int LESS_EQUAL1=81;
+	public static final int LESS_EQUAL2=82;
+	public static final int LESS_THAN=83;
+	public static final int LITERAL_DECIMAL=84;
+	public static final int LITERAL_INTEGER=85;
+	public static final int LITERAL_STRING=86;
+	public static final int LPAREN=87;
+	public static final int M=88;
+	public static final int MINUS=89;
+	public static final int MOD=90;
+	public static final int MULT=91;
+	public static final int N=92;
+	public static final int NOT_EQUAL1=93;
+	public static final int NOT_EQUAL2=94;
+	public static final int O=95;
+	public static final int P=96;
+	public static final int PIPE=97;
+	public static final int PLUS=98;
+	public static final int Q=99;
+	public static final int QUESTION=100;
+	public static final int QUOTED_STRING=101;
+	public static final int QUOTE_DOUBLE=102;
+	public static final int QUOTE_SINGLE=103;
+	public static final int QUOTE_TRIPLE=104;
+	public static final int R=105;
+	public static final int RBRACKET=106;
+	public static final int RPAREN=107;
+	public static final int S=108;
+	public static final int SEMI=109;
+	public static final int SHIFT_LEFT=110;
+	public static final int SHIFT_RIGHT=111;
+	public static final int T=112;
+	public static final int TILDE=113;
+	public static final int TYPE_DATE=114;
+	public static final int TYPE_DECIMAL=115;
+	public static final int TYPE_INTEGER=116;
+	public static final int TYPE_VARCHAR=117;
+	public static final int U=118;
+	public static final int UNDERSCORE=119;
+	public static final int V=120;
+	public static final int W=121;
+	public static final int WS=122;
+	public static final int X=123;
+	public static final int Y=124;
+	public static final int Z=125;
 
 	// delegates
 	public Parser[] getDelegates() {
@@ -176,7 +177,7 @@ public class FunSQLParser extends Parser {
 	}
 	public FunSQLParser(TokenStream input, RecognizerSharedState state) {
 		super(input, state);
-		this.state.ruleMemo = new HashMap[128+1];
+		this.state.ruleMemo = new HashMap[130+1];
 
 
 	}
@@ -198,7 +199,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "statement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:95:1: statement returns [AbstractServerStmt stmt] : ( ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )? ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:95:1: statement returns [AbstractServerStmt stmt] : ( ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | analyzeTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )? ) ;
 	public final AbstractServerStmt statement() throws RecognitionException {
 		AbstractServerStmt stmt = null;
 
@@ -210,11 +211,12 @@ public class FunSQLParser extends Parser {
 		ParserRuleReturnScope dropConnectionStatement4 =null;
 		ParserRuleReturnScope createTableStatement5 =null;
 		ParserRuleReturnScope dropTableStatement6 =null;
-		ParserRuleReturnScope createFunctionStatement7 =null;
-		ParserRuleReturnScope dropFunctionStatement8 =null;
-		ParserRuleReturnScope callFunctionStatement9 =null;
-		ParserRuleReturnScope selectStatement10 =null;
-		ParserRuleReturnScope loadDataInfileStatement11 =null;
+		ParserRuleReturnScope analyzeTableStatement7 =null;
+		ParserRuleReturnScope createFunctionStatement8 =null;
+		ParserRuleReturnScope dropFunctionStatement9 =null;
+		ParserRuleReturnScope callFunctionStatement10 =null;
+		ParserRuleReturnScope selectStatement11 =null;
+		ParserRuleReturnScope loadDataInfileStatement12 =null;
 
 
 		        	stmt = null;
@@ -222,14 +224,14 @@ public class FunSQLParser extends Parser {
 		try {
 			if ( state.backtracking>0 && alreadyParsedRule(input, 1) ) { return stmt; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:99:9: ( ( ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )? ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:100:9: ( ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )? )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:99:9: ( ( ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | analyzeTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )? ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:100:9: ( ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | analyzeTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )? )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:100:9: ( ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )? )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:101:10: ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:100:9: ( ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | analyzeTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )? )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:101:10: ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | analyzeTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement ) ( SEMI )?
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:101:10: ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement )
-			int alt1=11;
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:101:10: ( createSchemaStatement | dropSchemaStatement | createConnectionStatement | dropConnectionStatement | createTableStatement | dropTableStatement | analyzeTableStatement | createFunctionStatement | dropFunctionStatement | callFunctionStatement | selectStatement | loadDataInfileStatement )
+			int alt1=12;
 			switch ( input.LA(1) ) {
 			case KEYWORD_CREATE:
 				{
@@ -251,7 +253,7 @@ public class FunSQLParser extends Parser {
 					break;
 				case KEYWORD_FUNCTION:
 					{
-					alt1=7;
+					alt1=8;
 					}
 					break;
 				default:
@@ -288,7 +290,7 @@ public class FunSQLParser extends Parser {
 					break;
 				case KEYWORD_FUNCTION:
 					{
-					alt1=8;
+					alt1=9;
 					}
 					break;
 				default:
@@ -305,19 +307,24 @@ public class FunSQLParser extends Parser {
 				}
 				}
 				break;
+			case KEYWORD_ANALYZE:
+				{
+				alt1=7;
+				}
+				break;
 			case KEYWORD_CALL:
 				{
-				alt1=9;
+				alt1=10;
 				}
 				break;
 			case KEYWORD_SELECT:
 				{
-				alt1=10;
+				alt1=11;
 				}
 				break;
 			case KEYWORD_LOAD:
 				{
-				alt1=11;
+				alt1=12;
 				}
 				break;
 			default:
@@ -406,74 +413,87 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 7 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:138:17: createFunctionStatement
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:138:17: analyzeTableStatement
 					{
-					pushFollow(FOLLOW_createFunctionStatement_in_statement1436);
-					createFunctionStatement7=createFunctionStatement();
+					pushFollow(FOLLOW_analyzeTableStatement_in_statement1436);
+					analyzeTableStatement7=analyzeTableStatement();
 					state._fsp--;
 					if (state.failed) return stmt;
 					if ( state.backtracking==0 ) {
-					                	stmt = (createFunctionStatement7!=null?((FunSQLParser.createFunctionStatement_return)createFunctionStatement7).stmt:null);
-					                	stmt.setStmtString((createFunctionStatement7!=null?input.toString(createFunctionStatement7.start,createFunctionStatement7.stop):null));
+					                	stmt = (analyzeTableStatement7!=null?((FunSQLParser.analyzeTableStatement_return)analyzeTableStatement7).stmt:null);
+					                	stmt.setStmtString((analyzeTableStatement7!=null?input.toString(analyzeTableStatement7.start,analyzeTableStatement7.stop):null));
 					                }
 					}
 					break;
 				case 8 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:144:17: dropFunctionStatement
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:144:17: createFunctionStatement
 					{
-					pushFollow(FOLLOW_dropFunctionStatement_in_statement1491);
-					dropFunctionStatement8=dropFunctionStatement();
+					pushFollow(FOLLOW_createFunctionStatement_in_statement1491);
+					createFunctionStatement8=createFunctionStatement();
 					state._fsp--;
 					if (state.failed) return stmt;
 					if ( state.backtracking==0 ) {
-					                	stmt = (dropFunctionStatement8!=null?((FunSQLParser.dropFunctionStatement_return)dropFunctionStatement8).stmt:null);
-					                	stmt.setStmtString((dropFunctionStatement8!=null?input.toString(dropFunctionStatement8.start,dropFunctionStatement8.stop):null));
+					                	stmt = (createFunctionStatement8!=null?((FunSQLParser.createFunctionStatement_return)createFunctionStatement8).stmt:null);
+					                	stmt.setStmtString((createFunctionStatement8!=null?input.toString(createFunctionStatement8.start,createFunctionStatement8.stop):null));
 					                }
 					}
 					break;
 				case 9 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:150:17: callFunctionStatement
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:150:17: dropFunctionStatement
 					{
-					pushFollow(FOLLOW_callFunctionStatement_in_statement1546);
-					callFunctionStatement9=callFunctionStatement();
+					pushFollow(FOLLOW_dropFunctionStatement_in_statement1546);
+					dropFunctionStatement9=dropFunctionStatement();
 					state._fsp--;
 					if (state.failed) return stmt;
 					if ( state.backtracking==0 ) {
-					                	stmt = (callFunctionStatement9!=null?((FunSQLParser.callFunctionStatement_return)callFunctionStatement9).stmt:null);
-					                	stmt.setStmtString((callFunctionStatement9!=null?input.toString(callFunctionStatement9.start,callFunctionStatement9.stop):null));
+					                	stmt = (dropFunctionStatement9!=null?((FunSQLParser.dropFunctionStatement_return)dropFunctionStatement9).stmt:null);
+					                	stmt.setStmtString((dropFunctionStatement9!=null?input.toString(dropFunctionStatement9.start,dropFunctionStatement9.stop):null));
 					                }
 					}
 					break;
 				case 10 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:156:17: selectStatement
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:156:17: callFunctionStatement
 					{
-					pushFollow(FOLLOW_selectStatement_in_statement1601);
-					selectStatement10=selectStatement();
+					pushFollow(FOLLOW_callFunctionStatement_in_statement1601);
+					callFunctionStatement10=callFunctionStatement();
 					state._fsp--;
 					if (state.failed) return stmt;
 					if ( state.backtracking==0 ) {
-					                	stmt = (selectStatement10!=null?((FunSQLParser.selectStatement_return)selectStatement10).stmt:null);
-					                	stmt.setStmtString((selectStatement10!=null?input.toString(selectStatement10.start,selectStatement10.stop):null));
+					                	stmt = (callFunctionStatement10!=null?((FunSQLParser.callFunctionStatement_return)callFunctionStatement10).stmt:null);
+					                	stmt.setStmtString((callFunctionStatement10!=null?input.toString(callFunctionStatement10.start,callFunctionStatement10.stop):null));
 					                }
 					}
 					break;
 				case 11 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:162:17: loadDataInfileStatement
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:162:17: selectStatement
 					{
-					pushFollow(FOLLOW_loadDataInfileStatement_in_statement1655);
-					loadDataInfileStatement11=loadDataInfileStatement();
+					pushFollow(FOLLOW_selectStatement_in_statement1656);
+					selectStatement11=selectStatement();
 					state._fsp--;
 					if (state.failed) return stmt;
 					if ( state.backtracking==0 ) {
-					                	stmt = (loadDataInfileStatement11!=null?((FunSQLParser.loadDataInfileStatement_return)loadDataInfileStatement11).stmt:null);
-					                	stmt.setStmtString((loadDataInfileStatement11!=null?input.toString(loadDataInfileStatement11.start,loadDataInfileStatement11.stop):null));
+					                	stmt = (selectStatement11!=null?((FunSQLParser.selectStatement_return)selectStatement11).stmt:null);
+					                	stmt.setStmtString((selectStatement11!=null?input.toString(selectStatement11.start,selectStatement11.stop):null));
+					                }
+					}
+					break;
+				case 12 :
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:168:17: loadDataInfileStatement
+					{
+					pushFollow(FOLLOW_loadDataInfileStatement_in_statement1710);
+					loadDataInfileStatement12=loadDataInfileStatement();
+					state._fsp--;
+					if (state.failed) return stmt;
+					if ( state.backtracking==0 ) {
+					                	stmt = (loadDataInfileStatement12!=null?((FunSQLParser.loadDataInfileStatement_return)loadDataInfileStatement12).stmt:null);
+					                	stmt.setStmtString((loadDataInfileStatement12!=null?input.toString(loadDataInfileStatement12.start,loadDataInfileStatement12.stop):null));
 					                }
 					}
 					break;
 
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:168:17: ( SEMI )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:174:17: ( SEMI )?
 			int alt2=2;
 			int LA2_0 = input.LA(1);
 			if ( (LA2_0==SEMI) ) {
@@ -481,9 +501,9 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt2) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:168:17: SEMI
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:174:17: SEMI
 					{
-					match(input,SEMI,FOLLOW_SEMI_in_statement1709); if (state.failed) return stmt;
+					match(input,SEMI,FOLLOW_SEMI_in_statement1764); if (state.failed) return stmt;
 					}
 					break;
 
@@ -516,13 +536,13 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "createSchemaStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:172:1: createSchemaStatement returns [CreateSchemaStmt stmt] : ( KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:178:1: createSchemaStatement returns [CreateSchemaStmt stmt] : ( KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema ) ;
 	public final FunSQLParser.createSchemaStatement_return createSchemaStatement() throws RecognitionException {
 		FunSQLParser.createSchemaStatement_return retval = new FunSQLParser.createSchemaStatement_return();
 		retval.start = input.LT(1);
 		int createSchemaStatement_StartIndex = input.index();
 
-		TokenSchema tokenSchema12 =null;
+		TokenSchema tokenSchema13 =null;
 
 
 		        	retval.stmt = new CreateSchemaStmt();
@@ -530,20 +550,20 @@ public class FunSQLParser extends Parser {
 		try {
 			if ( state.backtracking>0 && alreadyParsedRule(input, 2) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:176:9: ( ( KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:177:9: ( KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:182:9: ( ( KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:183:9: ( KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:177:9: ( KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:178:17: KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:183:9: ( KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:184:17: KEYWORD_CREATE KEYWORD_SCHEMA tokenSchema
 			{
-			match(input,KEYWORD_CREATE,FOLLOW_KEYWORD_CREATE_in_createSchemaStatement1787); if (state.failed) return retval;
-			match(input,KEYWORD_SCHEMA,FOLLOW_KEYWORD_SCHEMA_in_createSchemaStatement1805); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenSchema_in_createSchemaStatement1823);
-			tokenSchema12=tokenSchema();
+			match(input,KEYWORD_CREATE,FOLLOW_KEYWORD_CREATE_in_createSchemaStatement1842); if (state.failed) return retval;
+			match(input,KEYWORD_SCHEMA,FOLLOW_KEYWORD_SCHEMA_in_createSchemaStatement1860); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenSchema_in_createSchemaStatement1878);
+			tokenSchema13=tokenSchema();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
-			                	retval.stmt.setSchema(tokenSchema12);
+			                	retval.stmt.setSchema(tokenSchema13);
 			                }
 			}
 
@@ -574,13 +594,13 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "dropSchemaStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:186:1: dropSchemaStatement returns [DropSchemaStmt stmt] : ( KEYWORD_DROP KEYWORD_SCHEMA tokenSchema ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:192:1: dropSchemaStatement returns [DropSchemaStmt stmt] : ( KEYWORD_DROP KEYWORD_SCHEMA tokenSchema ) ;
 	public final FunSQLParser.dropSchemaStatement_return dropSchemaStatement() throws RecognitionException {
 		FunSQLParser.dropSchemaStatement_return retval = new FunSQLParser.dropSchemaStatement_return();
 		retval.start = input.LT(1);
 		int dropSchemaStatement_StartIndex = input.index();
 
-		TokenSchema tokenSchema13 =null;
+		TokenSchema tokenSchema14 =null;
 
 
 		        	retval.stmt = new DropSchemaStmt();
@@ -588,20 +608,20 @@ public class FunSQLParser extends Parser {
 		try {
 			if ( state.backtracking>0 && alreadyParsedRule(input, 3) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:190:9: ( ( KEYWORD_DROP KEYWORD_SCHEMA tokenSchema ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:191:9: ( KEYWORD_DROP KEYWORD_SCHEMA tokenSchema )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:196:9: ( ( KEYWORD_DROP KEYWORD_SCHEMA tokenSchema ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:197:9: ( KEYWORD_DROP KEYWORD_SCHEMA tokenSchema )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:191:9: ( KEYWORD_DROP KEYWORD_SCHEMA tokenSchema )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:192:17: KEYWORD_DROP KEYWORD_SCHEMA tokenSchema
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:197:9: ( KEYWORD_DROP KEYWORD_SCHEMA tokenSchema )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:198:17: KEYWORD_DROP KEYWORD_SCHEMA tokenSchema
 			{
-			match(input,KEYWORD_DROP,FOLLOW_KEYWORD_DROP_in_dropSchemaStatement1902); if (state.failed) return retval;
-			match(input,KEYWORD_SCHEMA,FOLLOW_KEYWORD_SCHEMA_in_dropSchemaStatement1920); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenSchema_in_dropSchemaStatement1938);
-			tokenSchema13=tokenSchema();
+			match(input,KEYWORD_DROP,FOLLOW_KEYWORD_DROP_in_dropSchemaStatement1957); if (state.failed) return retval;
+			match(input,KEYWORD_SCHEMA,FOLLOW_KEYWORD_SCHEMA_in_dropSchemaStatement1975); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenSchema_in_dropSchemaStatement1993);
+			tokenSchema14=tokenSchema();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
-			                	retval.stmt.setSchema(tokenSchema13);
+			                	retval.stmt.setSchema(tokenSchema14);
 			                }
 			}
 
@@ -632,7 +652,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "createConnectionStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:200:1: createConnectionStatement returns [CreateConnectionStmt stmt] : ( KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:206:1: createConnectionStatement returns [CreateConnectionStmt stmt] : ( KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral ) ;
 	public final FunSQLParser.createConnectionStatement_return createConnectionStatement() throws RecognitionException {
 		FunSQLParser.createConnectionStatement_return retval = new FunSQLParser.createConnectionStatement_return();
 		retval.start = input.LT(1);
@@ -642,7 +662,7 @@ public class FunSQLParser extends Parser {
 		TokenStringLiteral litUser =null;
 		TokenStringLiteral litPasswd =null;
 		TokenStringLiteral litStore =null;
-		TokenIdentifier tokenIdentifier14 =null;
+		TokenIdentifier tokenIdentifier15 =null;
 
 
 		        	retval.stmt = new CreateConnectionStmt();
@@ -650,47 +670,47 @@ public class FunSQLParser extends Parser {
 		try {
 			if ( state.backtracking>0 && alreadyParsedRule(input, 4) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:204:9: ( ( KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:205:9: ( KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:210:9: ( ( KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:211:9: ( KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:205:9: ( KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:206:17: KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:211:9: ( KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:212:17: KEYWORD_CREATE KEYWORD_CONNECTION tokenIdentifier KEYWORD_URL litURL= tokenStringLiteral KEYWORD_USER litUser= tokenStringLiteral KEYWORD_PASSWD litPasswd= tokenStringLiteral KEYWORD_STORE litStore= tokenStringLiteral
 			{
-			match(input,KEYWORD_CREATE,FOLLOW_KEYWORD_CREATE_in_createConnectionStatement2017); if (state.failed) return retval;
-			match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createConnectionStatement2035); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenIdentifier_in_createConnectionStatement2053);
-			tokenIdentifier14=tokenIdentifier();
+			match(input,KEYWORD_CREATE,FOLLOW_KEYWORD_CREATE_in_createConnectionStatement2072); if (state.failed) return retval;
+			match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createConnectionStatement2090); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenIdentifier_in_createConnectionStatement2108);
+			tokenIdentifier15=tokenIdentifier();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
-			                	retval.stmt.setConnection(tokenIdentifier14);
+			                	retval.stmt.setConnection(tokenIdentifier15);
 			                }
-			match(input,KEYWORD_URL,FOLLOW_KEYWORD_URL_in_createConnectionStatement2073); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenStringLiteral_in_createConnectionStatement2093);
+			match(input,KEYWORD_URL,FOLLOW_KEYWORD_URL_in_createConnectionStatement2128); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenStringLiteral_in_createConnectionStatement2148);
 			litURL=tokenStringLiteral();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.setURL(litURL);
 			                }
-			match(input,KEYWORD_USER,FOLLOW_KEYWORD_USER_in_createConnectionStatement2113); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenStringLiteral_in_createConnectionStatement2133);
+			match(input,KEYWORD_USER,FOLLOW_KEYWORD_USER_in_createConnectionStatement2168); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenStringLiteral_in_createConnectionStatement2188);
 			litUser=tokenStringLiteral();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.setUser(litUser);
 			                }
-			match(input,KEYWORD_PASSWD,FOLLOW_KEYWORD_PASSWD_in_createConnectionStatement2153); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenStringLiteral_in_createConnectionStatement2173);
+			match(input,KEYWORD_PASSWD,FOLLOW_KEYWORD_PASSWD_in_createConnectionStatement2208); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenStringLiteral_in_createConnectionStatement2228);
 			litPasswd=tokenStringLiteral();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.setPasswd(litPasswd);
 			                }
-			match(input,KEYWORD_STORE,FOLLOW_KEYWORD_STORE_in_createConnectionStatement2193); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenStringLiteral_in_createConnectionStatement2213);
+			match(input,KEYWORD_STORE,FOLLOW_KEYWORD_STORE_in_createConnectionStatement2248); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenStringLiteral_in_createConnectionStatement2268);
 			litStore=tokenStringLiteral();
 			state._fsp--;
 			if (state.failed) return retval;
@@ -726,13 +746,13 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "dropConnectionStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:230:1: dropConnectionStatement returns [DropConnectionStmt stmt] : ( KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:236:1: dropConnectionStatement returns [DropConnectionStmt stmt] : ( KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier ) ;
 	public final FunSQLParser.dropConnectionStatement_return dropConnectionStatement() throws RecognitionException {
 		FunSQLParser.dropConnectionStatement_return retval = new FunSQLParser.dropConnectionStatement_return();
 		retval.start = input.LT(1);
 		int dropConnectionStatement_StartIndex = input.index();
 
-		TokenIdentifier tokenIdentifier15 =null;
+		TokenIdentifier tokenIdentifier16 =null;
 
 
 		        	retval.stmt = new DropConnectionStmt();
@@ -740,20 +760,20 @@ public class FunSQLParser extends Parser {
 		try {
 			if ( state.backtracking>0 && alreadyParsedRule(input, 5) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:234:9: ( ( KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:235:9: ( KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:240:9: ( ( KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:241:9: ( KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:235:9: ( KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:236:17: KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:241:9: ( KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:242:17: KEYWORD_DROP KEYWORD_CONNECTION tokenIdentifier
 			{
-			match(input,KEYWORD_DROP,FOLLOW_KEYWORD_DROP_in_dropConnectionStatement2300); if (state.failed) return retval;
-			match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_dropConnectionStatement2318); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenIdentifier_in_dropConnectionStatement2336);
-			tokenIdentifier15=tokenIdentifier();
+			match(input,KEYWORD_DROP,FOLLOW_KEYWORD_DROP_in_dropConnectionStatement2355); if (state.failed) return retval;
+			match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_dropConnectionStatement2373); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenIdentifier_in_dropConnectionStatement2391);
+			tokenIdentifier16=tokenIdentifier();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
-			                	retval.stmt.setConnection(tokenIdentifier15);
+			                	retval.stmt.setConnection(tokenIdentifier16);
 			                }
 			}
 
@@ -784,7 +804,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "createTableStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:245:1: createTableStatement returns [CreateTableStmt stmt] : ( KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )? ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:251:1: createTableStatement returns [CreateTableStmt stmt] : ( KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )? ) ;
 	public final FunSQLParser.createTableStatement_return createTableStatement() throws RecognitionException {
 		FunSQLParser.createTableStatement_return retval = new FunSQLParser.createTableStatement_return();
 		retval.start = input.LT(1);
@@ -815,37 +835,37 @@ public class FunSQLParser extends Parser {
 		try {
 			if ( state.backtracking>0 && alreadyParsedRule(input, 6) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:249:9: ( ( KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )? ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:250:9: ( KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )? )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:255:9: ( ( KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )? ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:256:9: ( KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )? )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:250:9: ( KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )? )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:251:17: KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:256:9: ( KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )? )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:257:17: KEYWORD_CREATE KEYWORD_TABLE table1= tokenTable LPAREN att1= identifierText dataType1= tokenDataType ( COMMA att2= identifierText dataType2= tokenDataType )* RPAREN ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )? ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )?
 			{
-			match(input,KEYWORD_CREATE,FOLLOW_KEYWORD_CREATE_in_createTableStatement2416); if (state.failed) return retval;
-			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_createTableStatement2434); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenTable_in_createTableStatement2454);
+			match(input,KEYWORD_CREATE,FOLLOW_KEYWORD_CREATE_in_createTableStatement2471); if (state.failed) return retval;
+			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_createTableStatement2489); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenTable_in_createTableStatement2509);
 			table1=tokenTable();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.setTable(table1);
 			                }
-			match(input,LPAREN,FOLLOW_LPAREN_in_createTableStatement2474); if (state.failed) return retval;
-			pushFollow(FOLLOW_identifierText_in_createTableStatement2494);
+			match(input,LPAREN,FOLLOW_LPAREN_in_createTableStatement2529); if (state.failed) return retval;
+			pushFollow(FOLLOW_identifierText_in_createTableStatement2549);
 			att1=identifierText();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.addAttribute(att1);
 			                }
-			pushFollow(FOLLOW_tokenDataType_in_createTableStatement2532);
+			pushFollow(FOLLOW_tokenDataType_in_createTableStatement2587);
 			dataType1=tokenDataType();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.addType(dataType1);
 			                }
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:265:17: ( COMMA att2= identifierText dataType2= tokenDataType )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:271:17: ( COMMA att2= identifierText dataType2= tokenDataType )*
 			loop3:
 			while (true) {
 				int alt3=2;
@@ -856,17 +876,17 @@ public class FunSQLParser extends Parser {
 
 				switch (alt3) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:266:17: COMMA att2= identifierText dataType2= tokenDataType
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:272:17: COMMA att2= identifierText dataType2= tokenDataType
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_createTableStatement2586); if (state.failed) return retval;
-					pushFollow(FOLLOW_identifierText_in_createTableStatement2606);
+					match(input,COMMA,FOLLOW_COMMA_in_createTableStatement2641); if (state.failed) return retval;
+					pushFollow(FOLLOW_identifierText_in_createTableStatement2661);
 					att2=identifierText();
 					state._fsp--;
 					if (state.failed) return retval;
 					if ( state.backtracking==0 ) {
 					                	retval.stmt.addAttribute(att2);
 					                }
-					pushFollow(FOLLOW_tokenDataType_in_createTableStatement2644);
+					pushFollow(FOLLOW_tokenDataType_in_createTableStatement2699);
 					dataType2=tokenDataType();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -881,8 +901,8 @@ public class FunSQLParser extends Parser {
 				}
 			}
 
-			match(input,RPAREN,FOLLOW_RPAREN_in_createTableStatement2699); if (state.failed) return retval;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:278:17: ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )?
+			match(input,RPAREN,FOLLOW_RPAREN_in_createTableStatement2754); if (state.failed) return retval;
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:284:17: ( ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* ) )?
 			int alt5=3;
 			int LA5_0 = input.LA(1);
 			if ( (LA5_0==KEYWORD_IN) ) {
@@ -893,14 +913,14 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt5) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:279:19: ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:285:19: ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:279:19: ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:280:21: KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:285:19: ( KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:286:21: KEYWORD_IN KEYWORD_CONNECTION connection1= tokenIdentifier
 					{
-					match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement2776); if (state.failed) return retval;
-					match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement2778); if (state.failed) return retval;
-					pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement2802);
+					match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement2831); if (state.failed) return retval;
+					match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement2833); if (state.failed) return retval;
+					pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement2857);
 					connection1=tokenIdentifier();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -912,22 +932,22 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:286:19: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:292:19: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:286:19: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:287:21: KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )*
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:292:19: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )* )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:293:21: KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION connectionR1= tokenIdentifier ( COMMA connectionR2= tokenIdentifier )*
 					{
-					match(input,KEYWORD_REPLICATED,FOLLOW_KEYWORD_REPLICATED_in_createTableStatement2887); if (state.failed) return retval;
-					match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement2889); if (state.failed) return retval;
-					match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement2891); if (state.failed) return retval;
-					pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement2916);
+					match(input,KEYWORD_REPLICATED,FOLLOW_KEYWORD_REPLICATED_in_createTableStatement2942); if (state.failed) return retval;
+					match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement2944); if (state.failed) return retval;
+					match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement2946); if (state.failed) return retval;
+					pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement2971);
 					connectionR1=tokenIdentifier();
 					state._fsp--;
 					if (state.failed) return retval;
 					if ( state.backtracking==0 ) {
 					                      retval.stmt.addConnection(connectionR1);
 					                    }
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:291:21: ( COMMA connectionR2= tokenIdentifier )*
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:297:21: ( COMMA connectionR2= tokenIdentifier )*
 					loop4:
 					while (true) {
 						int alt4=2;
@@ -938,10 +958,10 @@ public class FunSQLParser extends Parser {
 
 						switch (alt4) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:292:23: COMMA connectionR2= tokenIdentifier
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:298:23: COMMA connectionR2= tokenIdentifier
 							{
-							match(input,COMMA,FOLLOW_COMMA_in_createTableStatement2965); if (state.failed) return retval;
-							pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement2992);
+							match(input,COMMA,FOLLOW_COMMA_in_createTableStatement3020); if (state.failed) return retval;
+							pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement3047);
 							connectionR2=tokenIdentifier();
 							state._fsp--;
 							if (state.failed) return retval;
@@ -963,7 +983,7 @@ public class FunSQLParser extends Parser {
 
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:302:17: ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:308:17: ( KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )? )?
 			int alt15=2;
 			int LA15_0 = input.LA(1);
 			if ( (LA15_0==KEYWORD_PARTITIONED) ) {
@@ -971,26 +991,26 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt15) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:303:17: KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )?
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:309:17: KEYWORD_PARTITIONED KEYWORD_BY method= identifierText LPAREN patt1= tokenAttribute ( KEYWORD_REFERENCES ratt1= tokenAttribute )? ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )* RPAREN ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )?
 					{
-					match(input,KEYWORD_PARTITIONED,FOLLOW_KEYWORD_PARTITIONED_in_createTableStatement3143); if (state.failed) return retval;
-					match(input,KEYWORD_BY,FOLLOW_KEYWORD_BY_in_createTableStatement3145); if (state.failed) return retval;
-					pushFollow(FOLLOW_identifierText_in_createTableStatement3166);
+					match(input,KEYWORD_PARTITIONED,FOLLOW_KEYWORD_PARTITIONED_in_createTableStatement3198); if (state.failed) return retval;
+					match(input,KEYWORD_BY,FOLLOW_KEYWORD_BY_in_createTableStatement3200); if (state.failed) return retval;
+					pushFollow(FOLLOW_identifierText_in_createTableStatement3221);
 					method=identifierText();
 					state._fsp--;
 					if (state.failed) return retval;
 					if ( state.backtracking==0 ) {
 					                	retval.stmt.setPartitionType(method);
 					                }
-					match(input,LPAREN,FOLLOW_LPAREN_in_createTableStatement3236); if (state.failed) return retval;
-					pushFollow(FOLLOW_tokenAttribute_in_createTableStatement3256);
+					match(input,LPAREN,FOLLOW_LPAREN_in_createTableStatement3291); if (state.failed) return retval;
+					pushFollow(FOLLOW_tokenAttribute_in_createTableStatement3311);
 					patt1=tokenAttribute();
 					state._fsp--;
 					if (state.failed) return retval;
 					if ( state.backtracking==0 ) {
 					                  retval.stmt.addPartitionAttribute(patt1);
 					                }
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:314:17: ( KEYWORD_REFERENCES ratt1= tokenAttribute )?
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:320:17: ( KEYWORD_REFERENCES ratt1= tokenAttribute )?
 					int alt6=2;
 					int LA6_0 = input.LA(1);
 					if ( (LA6_0==KEYWORD_REFERENCES) ) {
@@ -998,10 +1018,10 @@ public class FunSQLParser extends Parser {
 					}
 					switch (alt6) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:315:19: KEYWORD_REFERENCES ratt1= tokenAttribute
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:321:19: KEYWORD_REFERENCES ratt1= tokenAttribute
 							{
-							match(input,KEYWORD_REFERENCES,FOLLOW_KEYWORD_REFERENCES_in_createTableStatement3295); if (state.failed) return retval;
-							pushFollow(FOLLOW_tokenAttribute_in_createTableStatement3299);
+							match(input,KEYWORD_REFERENCES,FOLLOW_KEYWORD_REFERENCES_in_createTableStatement3350); if (state.failed) return retval;
+							pushFollow(FOLLOW_tokenAttribute_in_createTableStatement3354);
 							ratt1=tokenAttribute();
 							state._fsp--;
 							if (state.failed) return retval;
@@ -1013,7 +1033,7 @@ public class FunSQLParser extends Parser {
 
 					}
 
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:319:17: ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )*
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:325:17: ( COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )? )*
 					loop8:
 					while (true) {
 						int alt8=2;
@@ -1024,17 +1044,17 @@ public class FunSQLParser extends Parser {
 
 						switch (alt8) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:320:19: COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )?
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:326:19: COMMA patt2= tokenAttribute ( KEYWORD_REFERENCES ratt2= tokenAttribute )?
 							{
-							match(input,COMMA,FOLLOW_COMMA_in_createTableStatement3357); if (state.failed) return retval;
-							pushFollow(FOLLOW_tokenAttribute_in_createTableStatement3379);
+							match(input,COMMA,FOLLOW_COMMA_in_createTableStatement3412); if (state.failed) return retval;
+							pushFollow(FOLLOW_tokenAttribute_in_createTableStatement3434);
 							patt2=tokenAttribute();
 							state._fsp--;
 							if (state.failed) return retval;
 							if ( state.backtracking==0 ) {
 							                    retval.stmt.addPartitionAttribute(patt2);
 							                  }
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:324:19: ( KEYWORD_REFERENCES ratt2= tokenAttribute )?
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:330:19: ( KEYWORD_REFERENCES ratt2= tokenAttribute )?
 							int alt7=2;
 							int LA7_0 = input.LA(1);
 							if ( (LA7_0==KEYWORD_REFERENCES) ) {
@@ -1042,10 +1062,10 @@ public class FunSQLParser extends Parser {
 							}
 							switch (alt7) {
 								case 1 :
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:325:21: KEYWORD_REFERENCES ratt2= tokenAttribute
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:331:21: KEYWORD_REFERENCES ratt2= tokenAttribute
 									{
-									match(input,KEYWORD_REFERENCES,FOLLOW_KEYWORD_REFERENCES_in_createTableStatement3422); if (state.failed) return retval;
-									pushFollow(FOLLOW_tokenAttribute_in_createTableStatement3426);
+									match(input,KEYWORD_REFERENCES,FOLLOW_KEYWORD_REFERENCES_in_createTableStatement3477); if (state.failed) return retval;
+									pushFollow(FOLLOW_tokenAttribute_in_createTableStatement3481);
 									ratt2=tokenAttribute();
 									state._fsp--;
 									if (state.failed) return retval;
@@ -1065,8 +1085,8 @@ public class FunSQLParser extends Parser {
 						}
 					}
 
-					match(input,RPAREN,FOLLOW_RPAREN_in_createTableStatement3485); if (state.failed) return retval;
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:334:17: ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )?
+					match(input,RPAREN,FOLLOW_RPAREN_in_createTableStatement3540); if (state.failed) return retval;
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:340:17: ( LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN )?
 					int alt14=2;
 					int LA14_0 = input.LA(1);
 					if ( (LA14_0==LPAREN) ) {
@@ -1074,17 +1094,17 @@ public class FunSQLParser extends Parser {
 					}
 					switch (alt14) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:335:19: LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:341:19: LPAREN p1= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )* RPAREN
 							{
-							match(input,LPAREN,FOLLOW_LPAREN_in_createTableStatement3577); if (state.failed) return retval;
-							pushFollow(FOLLOW_identifierText_in_createTableStatement3599);
+							match(input,LPAREN,FOLLOW_LPAREN_in_createTableStatement3632); if (state.failed) return retval;
+							pushFollow(FOLLOW_identifierText_in_createTableStatement3654);
 							p1=identifierText();
 							state._fsp--;
 							if (state.failed) return retval;
 							if ( state.backtracking==0 ) {
 							                    retval.stmt.addPartition(p1);
 							                  }
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:339:19: ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) )
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:345:19: ( ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) )
 							int alt10=2;
 							int LA10_0 = input.LA(1);
 							if ( (LA10_0==KEYWORD_IN) ) {
@@ -1103,14 +1123,14 @@ public class FunSQLParser extends Parser {
 
 							switch (alt10) {
 								case 1 :
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:341:21: ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier )
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:347:21: ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier )
 									{
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:341:21: ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier )
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:342:23: KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:347:21: ( KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier )
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:348:23: KEYWORD_IN KEYWORD_CONNECTION c1= tokenIdentifier
 									{
-									match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement3688); if (state.failed) return retval;
-									match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement3690); if (state.failed) return retval;
-									pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement3716);
+									match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement3743); if (state.failed) return retval;
+									match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement3745); if (state.failed) return retval;
+									pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement3771);
 									c1=tokenIdentifier();
 									state._fsp--;
 									if (state.failed) return retval;
@@ -1122,32 +1142,32 @@ public class FunSQLParser extends Parser {
 									}
 									break;
 								case 2 :
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:348:21: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* )
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:354:21: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* )
 									{
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:348:21: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* )
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:349:23: KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )*
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:354:21: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* )
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:355:23: KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )*
 									{
-									match(input,KEYWORD_REPLICATED,FOLLOW_KEYWORD_REPLICATED_in_createTableStatement3808); if (state.failed) return retval;
-									match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement3810); if (state.failed) return retval;
-									match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement3812); if (state.failed) return retval;
-									pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement3838);
+									match(input,KEYWORD_REPLICATED,FOLLOW_KEYWORD_REPLICATED_in_createTableStatement3863); if (state.failed) return retval;
+									match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement3865); if (state.failed) return retval;
+									match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement3867); if (state.failed) return retval;
+									pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement3893);
 									c2=tokenIdentifier();
 									state._fsp--;
 									if (state.failed) return retval;
 									if ( state.backtracking==0 ) {
 									                	retval.stmt.addPConnection(p1,c2);
 									                      }
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:353:23: ( COMMA c3= tokenIdentifier )*
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:359:23: ( COMMA c3= tokenIdentifier )*
 									loop9:
 									while (true) {
 										int alt9=2;
 										alt9 = dfa9.predict(input);
 										switch (alt9) {
 										case 1 :
-											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:354:25: COMMA c3= tokenIdentifier
+											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:360:25: COMMA c3= tokenIdentifier
 											{
-											match(input,COMMA,FOLLOW_COMMA_in_createTableStatement3890); if (state.failed) return retval;
-											pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement3919);
+											match(input,COMMA,FOLLOW_COMMA_in_createTableStatement3945); if (state.failed) return retval;
+											pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement3974);
 											c3=tokenIdentifier();
 											state._fsp--;
 											if (state.failed) return retval;
@@ -1169,7 +1189,7 @@ public class FunSQLParser extends Parser {
 
 							}
 
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:362:19: ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )*
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:368:19: ( COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) ) )*
 							loop13:
 							while (true) {
 								int alt13=2;
@@ -1180,17 +1200,17 @@ public class FunSQLParser extends Parser {
 
 								switch (alt13) {
 								case 1 :
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:363:21: COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) )
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:369:21: COMMA p2= identifierText ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) )
 									{
-									match(input,COMMA,FOLLOW_COMMA_in_createTableStatement4051); if (state.failed) return retval;
-									pushFollow(FOLLOW_identifierText_in_createTableStatement4075);
+									match(input,COMMA,FOLLOW_COMMA_in_createTableStatement4106); if (state.failed) return retval;
+									pushFollow(FOLLOW_identifierText_in_createTableStatement4130);
 									p2=identifierText();
 									state._fsp--;
 									if (state.failed) return retval;
 									if ( state.backtracking==0 ) {
 									                	retval.stmt.addPartition(p2);
 									                    }
-									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:367:21: ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) )
+									// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:373:21: ( ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ) | ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* ) )
 									int alt12=2;
 									int LA12_0 = input.LA(1);
 									if ( (LA12_0==KEYWORD_IN) ) {
@@ -1209,14 +1229,14 @@ public class FunSQLParser extends Parser {
 
 									switch (alt12) {
 										case 1 :
-											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:369:23: ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier )
+											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:375:23: ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier )
 											{
-											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:369:23: ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier )
-											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:370:25: KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier
+											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:375:23: ( KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier )
+											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:376:25: KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier
 											{
-											match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement4173); if (state.failed) return retval;
-											match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement4175); if (state.failed) return retval;
-											pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement4203);
+											match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement4228); if (state.failed) return retval;
+											match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement4230); if (state.failed) return retval;
+											pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement4258);
 											c2=tokenIdentifier();
 											state._fsp--;
 											if (state.failed) return retval;
@@ -1228,32 +1248,32 @@ public class FunSQLParser extends Parser {
 											}
 											break;
 										case 2 :
-											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:376:23: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* )
+											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:382:23: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* )
 											{
-											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:376:23: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* )
-											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:377:25: KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )*
+											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:382:23: ( KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )* )
+											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:383:25: KEYWORD_REPLICATED KEYWORD_IN KEYWORD_CONNECTION c2= tokenIdentifier ( COMMA c3= tokenIdentifier )*
 											{
-											match(input,KEYWORD_REPLICATED,FOLLOW_KEYWORD_REPLICATED_in_createTableStatement4303); if (state.failed) return retval;
-											match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement4305); if (state.failed) return retval;
-											match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement4307); if (state.failed) return retval;
-											pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement4335);
+											match(input,KEYWORD_REPLICATED,FOLLOW_KEYWORD_REPLICATED_in_createTableStatement4358); if (state.failed) return retval;
+											match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createTableStatement4360); if (state.failed) return retval;
+											match(input,KEYWORD_CONNECTION,FOLLOW_KEYWORD_CONNECTION_in_createTableStatement4362); if (state.failed) return retval;
+											pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement4390);
 											c2=tokenIdentifier();
 											state._fsp--;
 											if (state.failed) return retval;
 											if ( state.backtracking==0 ) {
 											                	  retval.stmt.addPConnection(p2,c2);
 											                        }
-											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:381:25: ( COMMA c3= tokenIdentifier )*
+											// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:387:25: ( COMMA c3= tokenIdentifier )*
 											loop11:
 											while (true) {
 												int alt11=2;
 												alt11 = dfa11.predict(input);
 												switch (alt11) {
 												case 1 :
-													// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:382:27: COMMA c3= tokenIdentifier
+													// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:388:27: COMMA c3= tokenIdentifier
 													{
-													match(input,COMMA,FOLLOW_COMMA_in_createTableStatement4391); if (state.failed) return retval;
-													pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement4423);
+													match(input,COMMA,FOLLOW_COMMA_in_createTableStatement4446); if (state.failed) return retval;
+													pushFollow(FOLLOW_tokenIdentifier_in_createTableStatement4478);
 													c3=tokenIdentifier();
 													state._fsp--;
 													if (state.failed) return retval;
@@ -1283,7 +1303,7 @@ public class FunSQLParser extends Parser {
 								}
 							}
 
-							match(input,RPAREN,FOLLOW_RPAREN_in_createTableStatement4562); if (state.failed) return retval;
+							match(input,RPAREN,FOLLOW_RPAREN_in_createTableStatement4617); if (state.failed) return retval;
 							}
 							break;
 
@@ -1323,7 +1343,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "dropTableStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:400:1: dropTableStatement returns [DropTableStmt stmt] : ( KEYWORD_DROP KEYWORD_TABLE table1= tokenTable ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:406:1: dropTableStatement returns [DropTableStmt stmt] : ( KEYWORD_DROP KEYWORD_TABLE table1= tokenTable ) ;
 	public final FunSQLParser.dropTableStatement_return dropTableStatement() throws RecognitionException {
 		FunSQLParser.dropTableStatement_return retval = new FunSQLParser.dropTableStatement_return();
 		retval.start = input.LT(1);
@@ -1337,15 +1357,15 @@ public class FunSQLParser extends Parser {
 		try {
 			if ( state.backtracking>0 && alreadyParsedRule(input, 7) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:404:9: ( ( KEYWORD_DROP KEYWORD_TABLE table1= tokenTable ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:405:9: ( KEYWORD_DROP KEYWORD_TABLE table1= tokenTable )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:410:9: ( ( KEYWORD_DROP KEYWORD_TABLE table1= tokenTable ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:411:9: ( KEYWORD_DROP KEYWORD_TABLE table1= tokenTable )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:405:9: ( KEYWORD_DROP KEYWORD_TABLE table1= tokenTable )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:406:17: KEYWORD_DROP KEYWORD_TABLE table1= tokenTable
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:411:9: ( KEYWORD_DROP KEYWORD_TABLE table1= tokenTable )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:412:17: KEYWORD_DROP KEYWORD_TABLE table1= tokenTable
 			{
-			match(input,KEYWORD_DROP,FOLLOW_KEYWORD_DROP_in_dropTableStatement4708); if (state.failed) return retval;
-			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_dropTableStatement4726); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenTable_in_dropTableStatement4746);
+			match(input,KEYWORD_DROP,FOLLOW_KEYWORD_DROP_in_dropTableStatement4763); if (state.failed) return retval;
+			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_dropTableStatement4781); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenTable_in_dropTableStatement4801);
 			table1=tokenTable();
 			state._fsp--;
 			if (state.failed) return retval;
@@ -1375,13 +1395,71 @@ public class FunSQLParser extends Parser {
 	// $ANTLR end "dropTableStatement"
 
 
+	public static class analyzeTableStatement_return extends ParserRuleReturnScope {
+		public AnalyzeTableStmt stmt;
+	};
+
+
+	// $ANTLR start "analyzeTableStatement"
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:420:1: analyzeTableStatement returns [AnalyzeTableStmt stmt] : ( KEYWORD_ANALYZE KEYWORD_TABLE table1= tokenTable ) ;
+	public final FunSQLParser.analyzeTableStatement_return analyzeTableStatement() throws RecognitionException {
+		FunSQLParser.analyzeTableStatement_return retval = new FunSQLParser.analyzeTableStatement_return();
+		retval.start = input.LT(1);
+		int analyzeTableStatement_StartIndex = input.index();
+
+		TokenTable table1 =null;
+
+
+		        	retval.stmt = new AnalyzeTableStmt();
+		        
+		try {
+			if ( state.backtracking>0 && alreadyParsedRule(input, 8) ) { return retval; }
+
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:424:9: ( ( KEYWORD_ANALYZE KEYWORD_TABLE table1= tokenTable ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:425:9: ( KEYWORD_ANALYZE KEYWORD_TABLE table1= tokenTable )
+			{
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:425:9: ( KEYWORD_ANALYZE KEYWORD_TABLE table1= tokenTable )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:426:17: KEYWORD_ANALYZE KEYWORD_TABLE table1= tokenTable
+			{
+			match(input,KEYWORD_ANALYZE,FOLLOW_KEYWORD_ANALYZE_in_analyzeTableStatement4867); if (state.failed) return retval;
+			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_analyzeTableStatement4885); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenTable_in_analyzeTableStatement4905);
+			table1=tokenTable();
+			state._fsp--;
+			if (state.failed) return retval;
+			if ( state.backtracking==0 ) {
+			                	retval.stmt.setTable(table1);
+			                }
+			}
+
+			}
+
+			retval.stop = input.LT(-1);
+
+		}
+
+		    catch (RecognitionException e) {
+		    	reportError(e);
+		        throw e;
+		    }
+
+		finally {
+			// do for sure before leaving
+			if ( state.backtracking>0 ) { memoize(input, 8, analyzeTableStatement_StartIndex); }
+
+		}
+		return retval;
+	}
+	// $ANTLR end "analyzeTableStatement"
+
+
 	public static class createFunctionStatement_return extends ParserRuleReturnScope {
 		public CreateFunctionStmt stmt;
 	};
 
 
 	// $ANTLR start "createFunctionStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:414:1: createFunctionStatement returns [CreateFunctionStmt stmt] : ( KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:434:1: createFunctionStatement returns [CreateFunctionStmt stmt] : ( KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI ) ;
 	public final FunSQLParser.createFunctionStatement_return createFunctionStatement() throws RecognitionException {
 		FunSQLParser.createFunctionStatement_return retval = new FunSQLParser.createFunctionStatement_return();
 		retval.start = input.LT(1);
@@ -1397,25 +1475,25 @@ public class FunSQLParser extends Parser {
 		        	retval.stmt = new CreateFunctionStmt();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 8) ) { return retval; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 9) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:418:9: ( ( KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:419:9: ( KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:438:9: ( ( KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:439:9: ( KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:419:9: ( KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:420:17: KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:439:9: ( KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:440:17: KEYWORD_CREATE KEYWORD_FUNCTION function1= tokenFunction LPAREN ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )* ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE ) ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )* RPAREN KEYWORD_BEGIN ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )* KEYWORD_END SEMI
 			{
-			match(input,KEYWORD_CREATE,FOLLOW_KEYWORD_CREATE_in_createFunctionStatement4812); if (state.failed) return retval;
-			match(input,KEYWORD_FUNCTION,FOLLOW_KEYWORD_FUNCTION_in_createFunctionStatement4830); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenFunction_in_createFunctionStatement4850);
+			match(input,KEYWORD_CREATE,FOLLOW_KEYWORD_CREATE_in_createFunctionStatement4971); if (state.failed) return retval;
+			match(input,KEYWORD_FUNCTION,FOLLOW_KEYWORD_FUNCTION_in_createFunctionStatement4989); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenFunction_in_createFunctionStatement5009);
 			function1=tokenFunction();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.setFunction(function1);
 			                }
-			match(input,LPAREN,FOLLOW_LPAREN_in_createFunctionStatement4866); if (state.failed) return retval;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:426:10: ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )*
+			match(input,LPAREN,FOLLOW_LPAREN_in_createFunctionStatement5025); if (state.failed) return retval;
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:446:10: ( KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA )*
 			loop16:
 			while (true) {
 				int alt16=2;
@@ -1426,18 +1504,18 @@ public class FunSQLParser extends Parser {
 
 				switch (alt16) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:427:17: KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:447:17: KEYWORD_IN var1= tokenVariable KEYWORD_TABLE COMMA
 					{
-					match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createFunctionStatement4895); if (state.failed) return retval;
-					pushFollow(FOLLOW_tokenVariable_in_createFunctionStatement4915);
+					match(input,KEYWORD_IN,FOLLOW_KEYWORD_IN_in_createFunctionStatement5054); if (state.failed) return retval;
+					pushFollow(FOLLOW_tokenVariable_in_createFunctionStatement5074);
 					var1=tokenVariable();
 					state._fsp--;
 					if (state.failed) return retval;
 					if ( state.backtracking==0 ) {
 					               		retval.stmt.addInParam(var1);
 									}
-					match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_createFunctionStatement4922); if (state.failed) return retval;
-					match(input,COMMA,FOLLOW_COMMA_in_createFunctionStatement4928); if (state.failed) return retval;
+					match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_createFunctionStatement5081); if (state.failed) return retval;
+					match(input,COMMA,FOLLOW_COMMA_in_createFunctionStatement5087); if (state.failed) return retval;
 					}
 					break;
 
@@ -1446,21 +1524,21 @@ public class FunSQLParser extends Parser {
 				}
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:434:3: ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:435:17: KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:454:3: ( KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:455:17: KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE
 			{
-			match(input,KEYWORD_OUT,FOLLOW_KEYWORD_OUT_in_createFunctionStatement4966); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenVariable_in_createFunctionStatement4986);
+			match(input,KEYWORD_OUT,FOLLOW_KEYWORD_OUT_in_createFunctionStatement5125); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenVariable_in_createFunctionStatement5145);
 			var2=tokenVariable();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			               		retval.stmt.addOutParam(var2);
 							}
-			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_createFunctionStatement4993); if (state.failed) return retval;
+			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_createFunctionStatement5152); if (state.failed) return retval;
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:441:3: ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:461:3: ( COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE )*
 			loop17:
 			while (true) {
 				int alt17=2;
@@ -1471,18 +1549,18 @@ public class FunSQLParser extends Parser {
 
 				switch (alt17) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:442:4: COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:462:4: COMMA KEYWORD_OUT var2= tokenVariable KEYWORD_TABLE
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_createFunctionStatement5006); if (state.failed) return retval;
-					match(input,KEYWORD_OUT,FOLLOW_KEYWORD_OUT_in_createFunctionStatement5011); if (state.failed) return retval;
-					pushFollow(FOLLOW_tokenVariable_in_createFunctionStatement5025);
+					match(input,COMMA,FOLLOW_COMMA_in_createFunctionStatement5165); if (state.failed) return retval;
+					match(input,KEYWORD_OUT,FOLLOW_KEYWORD_OUT_in_createFunctionStatement5170); if (state.failed) return retval;
+					pushFollow(FOLLOW_tokenVariable_in_createFunctionStatement5184);
 					var2=tokenVariable();
 					state._fsp--;
 					if (state.failed) return retval;
 					if ( state.backtracking==0 ) {
 					           		retval.stmt.addOutParam(var2);
 								}
-					match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_createFunctionStatement5031); if (state.failed) return retval;
+					match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_createFunctionStatement5190); if (state.failed) return retval;
 					}
 					break;
 
@@ -1491,9 +1569,9 @@ public class FunSQLParser extends Parser {
 				}
 			}
 
-			match(input,RPAREN,FOLLOW_RPAREN_in_createFunctionStatement5040); if (state.failed) return retval;
-			match(input,KEYWORD_BEGIN,FOLLOW_KEYWORD_BEGIN_in_createFunctionStatement5044); if (state.failed) return retval;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:451:3: ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )*
+			match(input,RPAREN,FOLLOW_RPAREN_in_createFunctionStatement5199); if (state.failed) return retval;
+			match(input,KEYWORD_BEGIN,FOLLOW_KEYWORD_BEGIN_in_createFunctionStatement5203); if (state.failed) return retval;
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:471:3: ( (ass1= tokenAssignment ) | (call1= tokenFunctionCall ) )*
 			loop18:
 			while (true) {
 				int alt18=3;
@@ -1507,12 +1585,12 @@ public class FunSQLParser extends Parser {
 
 				switch (alt18) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:452:3: (ass1= tokenAssignment )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:472:3: (ass1= tokenAssignment )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:452:3: (ass1= tokenAssignment )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:453:3: ass1= tokenAssignment
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:472:3: (ass1= tokenAssignment )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:473:3: ass1= tokenAssignment
 					{
-					pushFollow(FOLLOW_tokenAssignment_in_createFunctionStatement5058);
+					pushFollow(FOLLOW_tokenAssignment_in_createFunctionStatement5217);
 					ass1=tokenAssignment();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -1525,12 +1603,12 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:459:17: (call1= tokenFunctionCall )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:479:17: (call1= tokenFunctionCall )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:459:17: (call1= tokenFunctionCall )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:460:17: call1= tokenFunctionCall
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:479:17: (call1= tokenFunctionCall )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:480:17: call1= tokenFunctionCall
 					{
-					pushFollow(FOLLOW_tokenFunctionCall_in_createFunctionStatement5137);
+					pushFollow(FOLLOW_tokenFunctionCall_in_createFunctionStatement5296);
 					call1=tokenFunctionCall();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -1547,8 +1625,8 @@ public class FunSQLParser extends Parser {
 				}
 			}
 
-			match(input,KEYWORD_END,FOLLOW_KEYWORD_END_in_createFunctionStatement5179); if (state.failed) return retval;
-			match(input,SEMI,FOLLOW_SEMI_in_createFunctionStatement5186); if (state.failed) return retval;
+			match(input,KEYWORD_END,FOLLOW_KEYWORD_END_in_createFunctionStatement5338); if (state.failed) return retval;
+			match(input,SEMI,FOLLOW_SEMI_in_createFunctionStatement5345); if (state.failed) return retval;
 			}
 
 			}
@@ -1564,7 +1642,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 8, createFunctionStatement_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 9, createFunctionStatement_StartIndex); }
 
 		}
 		return retval;
@@ -1578,7 +1656,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "dropFunctionStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:470:1: dropFunctionStatement returns [DropFunctionStmt stmt] : ( KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:490:1: dropFunctionStatement returns [DropFunctionStmt stmt] : ( KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction ) ;
 	public final FunSQLParser.dropFunctionStatement_return dropFunctionStatement() throws RecognitionException {
 		FunSQLParser.dropFunctionStatement_return retval = new FunSQLParser.dropFunctionStatement_return();
 		retval.start = input.LT(1);
@@ -1590,17 +1668,17 @@ public class FunSQLParser extends Parser {
 		        	retval.stmt = new DropFunctionStmt();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 9) ) { return retval; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 10) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:474:9: ( ( KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:475:9: ( KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:494:9: ( ( KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:495:9: ( KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:475:9: ( KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:476:17: KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:495:9: ( KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:496:17: KEYWORD_DROP KEYWORD_FUNCTION fun1= tokenFunction
 			{
-			match(input,KEYWORD_DROP,FOLLOW_KEYWORD_DROP_in_dropFunctionStatement5263); if (state.failed) return retval;
-			match(input,KEYWORD_FUNCTION,FOLLOW_KEYWORD_FUNCTION_in_dropFunctionStatement5281); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenFunction_in_dropFunctionStatement5301);
+			match(input,KEYWORD_DROP,FOLLOW_KEYWORD_DROP_in_dropFunctionStatement5422); if (state.failed) return retval;
+			match(input,KEYWORD_FUNCTION,FOLLOW_KEYWORD_FUNCTION_in_dropFunctionStatement5440); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenFunction_in_dropFunctionStatement5460);
 			fun1=tokenFunction();
 			state._fsp--;
 			if (state.failed) return retval;
@@ -1622,7 +1700,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 9, dropFunctionStatement_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 10, dropFunctionStatement_StartIndex); }
 
 		}
 		return retval;
@@ -1636,7 +1714,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "callFunctionStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:484:1: callFunctionStatement returns [CallFunctionStmt stmt] : ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:504:1: callFunctionStatement returns [CallFunctionStmt stmt] : ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction ) ;
 	public final FunSQLParser.callFunctionStatement_return callFunctionStatement() throws RecognitionException {
 		FunSQLParser.callFunctionStatement_return retval = new FunSQLParser.callFunctionStatement_return();
 		retval.start = input.LT(1);
@@ -1648,17 +1726,17 @@ public class FunSQLParser extends Parser {
 		        	retval.stmt = new CallFunctionStmt();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 10) ) { return retval; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 11) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:488:9: ( ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:489:9: ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:508:9: ( ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:509:9: ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:489:9: ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:490:17: KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:509:9: ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:510:17: KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction
 			{
-			match(input,KEYWORD_CALL,FOLLOW_KEYWORD_CALL_in_callFunctionStatement5367); if (state.failed) return retval;
-			match(input,KEYWORD_FUNCTION,FOLLOW_KEYWORD_FUNCTION_in_callFunctionStatement5385); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenFunction_in_callFunctionStatement5405);
+			match(input,KEYWORD_CALL,FOLLOW_KEYWORD_CALL_in_callFunctionStatement5526); if (state.failed) return retval;
+			match(input,KEYWORD_FUNCTION,FOLLOW_KEYWORD_FUNCTION_in_callFunctionStatement5544); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenFunction_in_callFunctionStatement5564);
 			fun1=tokenFunction();
 			state._fsp--;
 			if (state.failed) return retval;
@@ -1680,7 +1758,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 10, callFunctionStatement_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 11, callFunctionStatement_StartIndex); }
 
 		}
 		return retval;
@@ -1694,7 +1772,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "selectStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:498:1: selectStatement returns [SelectStmt stmt] : ( KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )? ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:518:1: selectStatement returns [SelectStmt stmt] : ( KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )? ) ;
 	public final FunSQLParser.selectStatement_return selectStatement() throws RecognitionException {
 		FunSQLParser.selectStatement_return retval = new FunSQLParser.selectStatement_return();
 		retval.start = input.LT(1);
@@ -1718,16 +1796,16 @@ public class FunSQLParser extends Parser {
 		        	int i=0;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 11) ) { return retval; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 12) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:503:9: ( ( KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )? ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:504:9: ( KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )? )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:523:9: ( ( KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )? ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:524:9: ( KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )? )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:504:9: ( KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )? )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:506:17: KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:524:9: ( KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )? )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:526:17: KEYWORD_SELECT selExpr1= abstractExpression ( KEYWORD_AS selAlias1= tokenIdentifier )? ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )* KEYWORD_FROM table1= tokenTable ( KEYWORD_AS tableAlias1= tokenIdentifier )? ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )* ( KEYWORD_WHERE predicate1= abstractPredicate )? ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )? ( KEYWORD_HAVING havingPred= abstractPredicate )?
 			{
-			match(input,KEYWORD_SELECT,FOLLOW_KEYWORD_SELECT_in_selectStatement5482); if (state.failed) return retval;
-			pushFollow(FOLLOW_abstractExpression_in_selectStatement5502);
+			match(input,KEYWORD_SELECT,FOLLOW_KEYWORD_SELECT_in_selectStatement5641); if (state.failed) return retval;
+			pushFollow(FOLLOW_abstractExpression_in_selectStatement5661);
 			selExpr1=abstractExpression();
 			state._fsp--;
 			if (state.failed) return retval;
@@ -1735,7 +1813,7 @@ public class FunSQLParser extends Parser {
 			                	retval.stmt.addSelExpression(selExpr1);
 			                	++i;
 			                }
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:512:17: ( KEYWORD_AS selAlias1= tokenIdentifier )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:532:17: ( KEYWORD_AS selAlias1= tokenIdentifier )?
 			int alt19=2;
 			int LA19_0 = input.LA(1);
 			if ( (LA19_0==KEYWORD_AS) ) {
@@ -1743,10 +1821,10 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt19) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:513:18: KEYWORD_AS selAlias1= tokenIdentifier
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:533:18: KEYWORD_AS selAlias1= tokenIdentifier
 					{
-					match(input,KEYWORD_AS,FOLLOW_KEYWORD_AS_in_selectStatement5557); if (state.failed) return retval;
-					pushFollow(FOLLOW_tokenIdentifier_in_selectStatement5578);
+					match(input,KEYWORD_AS,FOLLOW_KEYWORD_AS_in_selectStatement5716); if (state.failed) return retval;
+					pushFollow(FOLLOW_tokenIdentifier_in_selectStatement5737);
 					selAlias1=tokenIdentifier();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -1758,7 +1836,7 @@ public class FunSQLParser extends Parser {
 
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:519:17: ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:539:17: ( COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )? )*
 			loop21:
 			while (true) {
 				int alt21=2;
@@ -1769,10 +1847,10 @@ public class FunSQLParser extends Parser {
 
 				switch (alt21) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:520:17: COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )?
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:540:17: COMMA selExpr2= abstractExpression ( KEYWORD_AS selAlias2= tokenIdentifier )?
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_selectStatement5652); if (state.failed) return retval;
-					pushFollow(FOLLOW_abstractExpression_in_selectStatement5672);
+					match(input,COMMA,FOLLOW_COMMA_in_selectStatement5811); if (state.failed) return retval;
+					pushFollow(FOLLOW_abstractExpression_in_selectStatement5831);
 					selExpr2=abstractExpression();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -1780,7 +1858,7 @@ public class FunSQLParser extends Parser {
 					                	retval.stmt.addSelExpression(selExpr2);
 					                	++i;
 					                }
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:526:17: ( KEYWORD_AS selAlias2= tokenIdentifier )?
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:546:17: ( KEYWORD_AS selAlias2= tokenIdentifier )?
 					int alt20=2;
 					int LA20_0 = input.LA(1);
 					if ( (LA20_0==KEYWORD_AS) ) {
@@ -1788,10 +1866,10 @@ public class FunSQLParser extends Parser {
 					}
 					switch (alt20) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:527:18: KEYWORD_AS selAlias2= tokenIdentifier
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:547:18: KEYWORD_AS selAlias2= tokenIdentifier
 							{
-							match(input,KEYWORD_AS,FOLLOW_KEYWORD_AS_in_selectStatement5727); if (state.failed) return retval;
-							pushFollow(FOLLOW_tokenIdentifier_in_selectStatement5748);
+							match(input,KEYWORD_AS,FOLLOW_KEYWORD_AS_in_selectStatement5886); if (state.failed) return retval;
+							pushFollow(FOLLOW_tokenIdentifier_in_selectStatement5907);
 							selAlias2=tokenIdentifier();
 							state._fsp--;
 							if (state.failed) return retval;
@@ -1811,8 +1889,8 @@ public class FunSQLParser extends Parser {
 				}
 			}
 
-			match(input,KEYWORD_FROM,FOLLOW_KEYWORD_FROM_in_selectStatement5857); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenTable_in_selectStatement5877);
+			match(input,KEYWORD_FROM,FOLLOW_KEYWORD_FROM_in_selectStatement6016); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenTable_in_selectStatement6036);
 			table1=tokenTable();
 			state._fsp--;
 			if (state.failed) return retval;
@@ -1820,7 +1898,7 @@ public class FunSQLParser extends Parser {
 			                	retval.stmt.addTable(table1);
 			                	i=1;
 			                }
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:542:17: ( KEYWORD_AS tableAlias1= tokenIdentifier )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:562:17: ( KEYWORD_AS tableAlias1= tokenIdentifier )?
 			int alt22=2;
 			int LA22_0 = input.LA(1);
 			if ( (LA22_0==KEYWORD_AS) ) {
@@ -1828,10 +1906,10 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt22) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:543:18: KEYWORD_AS tableAlias1= tokenIdentifier
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:563:18: KEYWORD_AS tableAlias1= tokenIdentifier
 					{
-					match(input,KEYWORD_AS,FOLLOW_KEYWORD_AS_in_selectStatement5933); if (state.failed) return retval;
-					pushFollow(FOLLOW_tokenIdentifier_in_selectStatement5954);
+					match(input,KEYWORD_AS,FOLLOW_KEYWORD_AS_in_selectStatement6092); if (state.failed) return retval;
+					pushFollow(FOLLOW_tokenIdentifier_in_selectStatement6113);
 					tableAlias1=tokenIdentifier();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -1843,7 +1921,7 @@ public class FunSQLParser extends Parser {
 
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:549:17: ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:569:17: ( COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )? )*
 			loop24:
 			while (true) {
 				int alt24=2;
@@ -1854,10 +1932,10 @@ public class FunSQLParser extends Parser {
 
 				switch (alt24) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:550:17: COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )?
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:570:17: COMMA table2= tokenTable ( KEYWORD_AS tableAlias2= tokenIdentifier )?
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_selectStatement6028); if (state.failed) return retval;
-					pushFollow(FOLLOW_tokenTable_in_selectStatement6048);
+					match(input,COMMA,FOLLOW_COMMA_in_selectStatement6187); if (state.failed) return retval;
+					pushFollow(FOLLOW_tokenTable_in_selectStatement6207);
 					table2=tokenTable();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -1865,7 +1943,7 @@ public class FunSQLParser extends Parser {
 					                	retval.stmt.addTable(table2);
 					                	++i;
 					                }
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:556:17: ( KEYWORD_AS tableAlias2= tokenIdentifier )?
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:576:17: ( KEYWORD_AS tableAlias2= tokenIdentifier )?
 					int alt23=2;
 					int LA23_0 = input.LA(1);
 					if ( (LA23_0==KEYWORD_AS) ) {
@@ -1873,10 +1951,10 @@ public class FunSQLParser extends Parser {
 					}
 					switch (alt23) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:557:18: KEYWORD_AS tableAlias2= tokenIdentifier
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:577:18: KEYWORD_AS tableAlias2= tokenIdentifier
 							{
-							match(input,KEYWORD_AS,FOLLOW_KEYWORD_AS_in_selectStatement6103); if (state.failed) return retval;
-							pushFollow(FOLLOW_tokenIdentifier_in_selectStatement6124);
+							match(input,KEYWORD_AS,FOLLOW_KEYWORD_AS_in_selectStatement6262); if (state.failed) return retval;
+							pushFollow(FOLLOW_tokenIdentifier_in_selectStatement6283);
 							tableAlias2=tokenIdentifier();
 							state._fsp--;
 							if (state.failed) return retval;
@@ -1896,7 +1974,7 @@ public class FunSQLParser extends Parser {
 				}
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:565:17: ( KEYWORD_WHERE predicate1= abstractPredicate )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:585:17: ( KEYWORD_WHERE predicate1= abstractPredicate )?
 			int alt25=2;
 			int LA25_0 = input.LA(1);
 			if ( (LA25_0==KEYWORD_WHERE) ) {
@@ -1904,10 +1982,10 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt25) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:566:17: KEYWORD_WHERE predicate1= abstractPredicate
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:586:17: KEYWORD_WHERE predicate1= abstractPredicate
 					{
-					match(input,KEYWORD_WHERE,FOLLOW_KEYWORD_WHERE_in_selectStatement6234); if (state.failed) return retval;
-					pushFollow(FOLLOW_abstractPredicate_in_selectStatement6254);
+					match(input,KEYWORD_WHERE,FOLLOW_KEYWORD_WHERE_in_selectStatement6393); if (state.failed) return retval;
+					pushFollow(FOLLOW_abstractPredicate_in_selectStatement6413);
 					predicate1=abstractPredicate();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -1919,7 +1997,7 @@ public class FunSQLParser extends Parser {
 
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:574:17: ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:594:17: ( KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )* )?
 			int alt27=2;
 			int LA27_0 = input.LA(1);
 			if ( (LA27_0==KEYWORD_GROUP) ) {
@@ -1927,11 +2005,11 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt27) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:575:17: KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )*
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:595:17: KEYWORD_GROUP KEYWORD_BY groupExpr1= abstractExpression ( COMMA groupExpr2= abstractExpression )*
 					{
-					match(input,KEYWORD_GROUP,FOLLOW_KEYWORD_GROUP_in_selectStatement6361); if (state.failed) return retval;
-					match(input,KEYWORD_BY,FOLLOW_KEYWORD_BY_in_selectStatement6363); if (state.failed) return retval;
-					pushFollow(FOLLOW_abstractExpression_in_selectStatement6383);
+					match(input,KEYWORD_GROUP,FOLLOW_KEYWORD_GROUP_in_selectStatement6520); if (state.failed) return retval;
+					match(input,KEYWORD_BY,FOLLOW_KEYWORD_BY_in_selectStatement6522); if (state.failed) return retval;
+					pushFollow(FOLLOW_abstractExpression_in_selectStatement6542);
 					groupExpr1=abstractExpression();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -1939,7 +2017,7 @@ public class FunSQLParser extends Parser {
 					                	retval.stmt.addGroupExpression(groupExpr1);
 					                	++i;
 					                }
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:581:17: ( COMMA groupExpr2= abstractExpression )*
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:601:17: ( COMMA groupExpr2= abstractExpression )*
 					loop26:
 					while (true) {
 						int alt26=2;
@@ -1950,10 +2028,10 @@ public class FunSQLParser extends Parser {
 
 						switch (alt26) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:582:17: COMMA groupExpr2= abstractExpression
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:602:17: COMMA groupExpr2= abstractExpression
 							{
-							match(input,COMMA,FOLLOW_COMMA_in_selectStatement6437); if (state.failed) return retval;
-							pushFollow(FOLLOW_abstractExpression_in_selectStatement6457);
+							match(input,COMMA,FOLLOW_COMMA_in_selectStatement6596); if (state.failed) return retval;
+							pushFollow(FOLLOW_abstractExpression_in_selectStatement6616);
 							groupExpr2=abstractExpression();
 							state._fsp--;
 							if (state.failed) return retval;
@@ -1974,7 +2052,7 @@ public class FunSQLParser extends Parser {
 
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:592:17: ( KEYWORD_HAVING havingPred= abstractPredicate )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:612:17: ( KEYWORD_HAVING havingPred= abstractPredicate )?
 			int alt28=2;
 			int LA28_0 = input.LA(1);
 			if ( (LA28_0==KEYWORD_HAVING) ) {
@@ -1982,10 +2060,10 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt28) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:593:17: KEYWORD_HAVING havingPred= abstractPredicate
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:613:17: KEYWORD_HAVING havingPred= abstractPredicate
 					{
-					match(input,KEYWORD_HAVING,FOLLOW_KEYWORD_HAVING_in_selectStatement6583); if (state.failed) return retval;
-					pushFollow(FOLLOW_abstractPredicate_in_selectStatement6603);
+					match(input,KEYWORD_HAVING,FOLLOW_KEYWORD_HAVING_in_selectStatement6742); if (state.failed) return retval;
+					pushFollow(FOLLOW_abstractPredicate_in_selectStatement6762);
 					havingPred=abstractPredicate();
 					state._fsp--;
 					if (state.failed) return retval;
@@ -2012,7 +2090,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 11, selectStatement_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 12, selectStatement_StartIndex); }
 
 		}
 		return retval;
@@ -2026,7 +2104,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "loadDataInfileStatement"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:602:1: loadDataInfileStatement returns [LoadDataInfileStmt stmt] : ( KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )? ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:622:1: loadDataInfileStatement returns [LoadDataInfileStmt stmt] : ( KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )? ) ;
 	public final FunSQLParser.loadDataInfileStatement_return loadDataInfileStatement() throws RecognitionException {
 		FunSQLParser.loadDataInfileStatement_return retval = new FunSQLParser.loadDataInfileStatement_return();
 		retval.start = input.LT(1);
@@ -2041,34 +2119,34 @@ public class FunSQLParser extends Parser {
 		        	retval.stmt = new LoadDataInfileStmt();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 12) ) { return retval; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 13) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:606:9: ( ( KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )? ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:607:9: ( KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )? )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:626:9: ( ( KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )? ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:627:9: ( KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )? )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:607:9: ( KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )? )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:608:9: KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:627:9: ( KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )? )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:628:9: KEYWORD_LOAD KEYWORD_DATA KEYWORD_INFILE filename1= identifierText KEYWORD_INTO KEYWORD_TABLE table1= tokenTable ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )?
 			{
-			match(input,KEYWORD_LOAD,FOLLOW_KEYWORD_LOAD_in_loadDataInfileStatement6696); if (state.failed) return retval;
-			match(input,KEYWORD_DATA,FOLLOW_KEYWORD_DATA_in_loadDataInfileStatement6706); if (state.failed) return retval;
-			match(input,KEYWORD_INFILE,FOLLOW_KEYWORD_INFILE_in_loadDataInfileStatement6716); if (state.failed) return retval;
-			pushFollow(FOLLOW_identifierText_in_loadDataInfileStatement6728);
+			match(input,KEYWORD_LOAD,FOLLOW_KEYWORD_LOAD_in_loadDataInfileStatement6855); if (state.failed) return retval;
+			match(input,KEYWORD_DATA,FOLLOW_KEYWORD_DATA_in_loadDataInfileStatement6865); if (state.failed) return retval;
+			match(input,KEYWORD_INFILE,FOLLOW_KEYWORD_INFILE_in_loadDataInfileStatement6875); if (state.failed) return retval;
+			pushFollow(FOLLOW_identifierText_in_loadDataInfileStatement6887);
 			filename1=identifierText();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.setTokenFilename(filename1);
 			                }
-			match(input,KEYWORD_INTO,FOLLOW_KEYWORD_INTO_in_loadDataInfileStatement6740); if (state.failed) return retval;
-			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_loadDataInfileStatement6750); if (state.failed) return retval;
-			pushFollow(FOLLOW_tokenTable_in_loadDataInfileStatement6762);
+			match(input,KEYWORD_INTO,FOLLOW_KEYWORD_INTO_in_loadDataInfileStatement6899); if (state.failed) return retval;
+			match(input,KEYWORD_TABLE,FOLLOW_KEYWORD_TABLE_in_loadDataInfileStatement6909); if (state.failed) return retval;
+			pushFollow(FOLLOW_tokenTable_in_loadDataInfileStatement6921);
 			table1=tokenTable();
 			state._fsp--;
 			if (state.failed) return retval;
 			if ( state.backtracking==0 ) {
 			                	retval.stmt.setTokenTable(table1);
 			                }
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:619:9: ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:639:9: ( KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN )?
 			int alt30=2;
 			int LA30_0 = input.LA(1);
 			if ( (LA30_0==KEYWORD_PARTITION) ) {
@@ -2076,18 +2154,18 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt30) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:620:10: KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:640:10: KEYWORD_PARTITION LPAREN partition1= identifierText ( COMMA partition2= identifierText )* RPAREN
 					{
-					match(input,KEYWORD_PARTITION,FOLLOW_KEYWORD_PARTITION_in_loadDataInfileStatement6785); if (state.failed) return retval;
-					match(input,LPAREN,FOLLOW_LPAREN_in_loadDataInfileStatement6796); if (state.failed) return retval;
-					pushFollow(FOLLOW_identifierText_in_loadDataInfileStatement6809);
+					match(input,KEYWORD_PARTITION,FOLLOW_KEYWORD_PARTITION_in_loadDataInfileStatement6944); if (state.failed) return retval;
+					match(input,LPAREN,FOLLOW_LPAREN_in_loadDataInfileStatement6955); if (state.failed) return retval;
+					pushFollow(FOLLOW_identifierText_in_loadDataInfileStatement6968);
 					partition1=identifierText();
 					state._fsp--;
 					if (state.failed) return retval;
 					if ( state.backtracking==0 ) {
 					        			retval.stmt.setTokenPartition(partition1);
 								}
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:625:10: ( COMMA partition2= identifierText )*
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:645:10: ( COMMA partition2= identifierText )*
 					loop29:
 					while (true) {
 						int alt29=2;
@@ -2098,10 +2176,10 @@ public class FunSQLParser extends Parser {
 
 						switch (alt29) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:626:11: COMMA partition2= identifierText
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:646:11: COMMA partition2= identifierText
 							{
-							match(input,COMMA,FOLLOW_COMMA_in_loadDataInfileStatement6834); if (state.failed) return retval;
-							pushFollow(FOLLOW_identifierText_in_loadDataInfileStatement6848);
+							match(input,COMMA,FOLLOW_COMMA_in_loadDataInfileStatement6993); if (state.failed) return retval;
+							pushFollow(FOLLOW_identifierText_in_loadDataInfileStatement7007);
 							partition2=identifierText();
 							state._fsp--;
 							if (state.failed) return retval;
@@ -2116,7 +2194,7 @@ public class FunSQLParser extends Parser {
 						}
 					}
 
-					match(input,RPAREN,FOLLOW_RPAREN_in_loadDataInfileStatement6873); if (state.failed) return retval;
+					match(input,RPAREN,FOLLOW_RPAREN_in_loadDataInfileStatement7032); if (state.failed) return retval;
 					}
 					break;
 
@@ -2137,7 +2215,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 12, loadDataInfileStatement_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 13, loadDataInfileStatement_StartIndex); }
 
 		}
 		return retval;
@@ -2147,7 +2225,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "abstractPredicate"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:636:1: abstractPredicate returns [AbstractPredicate predicate] : predicate1= complexPredicateOr ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:656:1: abstractPredicate returns [AbstractPredicate predicate] : predicate1= complexPredicateOr ;
 	public final AbstractPredicate abstractPredicate() throws RecognitionException {
 		AbstractPredicate predicate = null;
 
@@ -2156,12 +2234,12 @@ public class FunSQLParser extends Parser {
 		ComplexPredicate predicate1 =null;
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 13) ) { return predicate; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 14) ) { return predicate; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:637:2: (predicate1= complexPredicateOr )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:638:3: predicate1= complexPredicateOr
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:657:2: (predicate1= complexPredicateOr )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:658:3: predicate1= complexPredicateOr
 			{
-			pushFollow(FOLLOW_complexPredicateOr_in_abstractPredicate6914);
+			pushFollow(FOLLOW_complexPredicateOr_in_abstractPredicate7073);
 			predicate1=complexPredicateOr();
 			state._fsp--;
 			if (state.failed) return predicate;
@@ -2179,7 +2257,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 13, abstractPredicate_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 14, abstractPredicate_StartIndex); }
 
 		}
 		return predicate;
@@ -2189,7 +2267,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "complexPredicateOr"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:643:1: complexPredicateOr returns [ComplexPredicate predicateOr] : (predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )* ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:663:1: complexPredicateOr returns [ComplexPredicate predicateOr] : (predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )* ) ;
 	public final ComplexPredicate complexPredicateOr() throws RecognitionException {
 		ComplexPredicate predicateOr = null;
 
@@ -2202,22 +2280,22 @@ public class FunSQLParser extends Parser {
 		        	predicateOr = new ComplexPredicate(EnumPredicateType.OR_PREDICATE);
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 14) ) { return predicateOr; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 15) ) { return predicateOr; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:647:2: ( (predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )* ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:648:2: (predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:667:2: ( (predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )* ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:668:2: (predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )* )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:648:2: (predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )* )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:649:3: predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:668:2: (predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:669:3: predicate1= complexPredicateAnd ( KEYWORD_OR predicate2= complexPredicateAnd )*
 			{
-			pushFollow(FOLLOW_complexPredicateAnd_in_complexPredicateOr6952);
+			pushFollow(FOLLOW_complexPredicateAnd_in_complexPredicateOr7111);
 			predicate1=complexPredicateAnd();
 			state._fsp--;
 			if (state.failed) return predicateOr;
 			if ( state.backtracking==0 ) {
 						predicateOr.setPredicate1(predicate1);
 					}
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:652:3: ( KEYWORD_OR predicate2= complexPredicateAnd )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:672:3: ( KEYWORD_OR predicate2= complexPredicateAnd )*
 			loop31:
 			while (true) {
 				int alt31=2;
@@ -2228,13 +2306,13 @@ public class FunSQLParser extends Parser {
 
 				switch (alt31) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:653:4: KEYWORD_OR predicate2= complexPredicateAnd
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:673:4: KEYWORD_OR predicate2= complexPredicateAnd
 					{
-					match(input,KEYWORD_OR,FOLLOW_KEYWORD_OR_in_complexPredicateOr6963); if (state.failed) return predicateOr;
+					match(input,KEYWORD_OR,FOLLOW_KEYWORD_OR_in_complexPredicateOr7122); if (state.failed) return predicateOr;
 					if ( state.backtracking==0 ) {
 									predicateOr.addOr();
 								}
-					pushFollow(FOLLOW_complexPredicateAnd_in_complexPredicateOr6971);
+					pushFollow(FOLLOW_complexPredicateAnd_in_complexPredicateOr7130);
 					predicate2=complexPredicateAnd();
 					state._fsp--;
 					if (state.failed) return predicateOr;
@@ -2262,7 +2340,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 14, complexPredicateOr_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 15, complexPredicateOr_StartIndex); }
 
 		}
 		return predicateOr;
@@ -2272,7 +2350,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "complexPredicateAnd"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:663:1: complexPredicateAnd returns [ComplexPredicate predicateAnd] : (predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )* ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:683:1: complexPredicateAnd returns [ComplexPredicate predicateAnd] : (predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )* ) ;
 	public final ComplexPredicate complexPredicateAnd() throws RecognitionException {
 		ComplexPredicate predicateAnd = null;
 
@@ -2285,22 +2363,22 @@ public class FunSQLParser extends Parser {
 		        	predicateAnd = new ComplexPredicate(EnumPredicateType.AND_PREDICATE);
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 15) ) { return predicateAnd; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 16) ) { return predicateAnd; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:667:2: ( (predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )* ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:668:2: (predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:687:2: ( (predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )* ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:688:2: (predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )* )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:668:2: (predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )* )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:669:3: predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:688:2: (predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:689:3: predicate1= complexPredicateNot ( KEYWORD_AND predicate2= complexPredicateNot )*
 			{
-			pushFollow(FOLLOW_complexPredicateNot_in_complexPredicateAnd7010);
+			pushFollow(FOLLOW_complexPredicateNot_in_complexPredicateAnd7169);
 			predicate1=complexPredicateNot();
 			state._fsp--;
 			if (state.failed) return predicateAnd;
 			if ( state.backtracking==0 ) {
 						predicateAnd.setPredicate1(predicate1);
 					}
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:672:3: ( KEYWORD_AND predicate2= complexPredicateNot )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:692:3: ( KEYWORD_AND predicate2= complexPredicateNot )*
 			loop32:
 			while (true) {
 				int alt32=2;
@@ -2311,13 +2389,13 @@ public class FunSQLParser extends Parser {
 
 				switch (alt32) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:673:4: KEYWORD_AND predicate2= complexPredicateNot
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:693:4: KEYWORD_AND predicate2= complexPredicateNot
 					{
-					match(input,KEYWORD_AND,FOLLOW_KEYWORD_AND_in_complexPredicateAnd7021); if (state.failed) return predicateAnd;
+					match(input,KEYWORD_AND,FOLLOW_KEYWORD_AND_in_complexPredicateAnd7180); if (state.failed) return predicateAnd;
 					if ( state.backtracking==0 ) {
 									predicateAnd.addAnd();
 								}
-					pushFollow(FOLLOW_complexPredicateNot_in_complexPredicateAnd7029);
+					pushFollow(FOLLOW_complexPredicateNot_in_complexPredicateAnd7188);
 					predicate2=complexPredicateNot();
 					state._fsp--;
 					if (state.failed) return predicateAnd;
@@ -2345,7 +2423,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 15, complexPredicateAnd_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 16, complexPredicateAnd_StartIndex); }
 
 		}
 		return predicateAnd;
@@ -2355,7 +2433,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "complexPredicateNot"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:683:1: complexPredicateNot returns [ComplexPredicate predicateNot] : ( ( KEYWORD_NOT )? predicate1= complexPredicate ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:703:1: complexPredicateNot returns [ComplexPredicate predicateNot] : ( ( KEYWORD_NOT )? predicate1= complexPredicate ) ;
 	public final ComplexPredicate complexPredicateNot() throws RecognitionException {
 		ComplexPredicate predicateNot = null;
 
@@ -2367,15 +2445,15 @@ public class FunSQLParser extends Parser {
 		        	predicateNot = new ComplexPredicate(EnumPredicateType.NOT_PREDICATE);
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 16) ) { return predicateNot; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 17) ) { return predicateNot; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:687:2: ( ( ( KEYWORD_NOT )? predicate1= complexPredicate ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:688:2: ( ( KEYWORD_NOT )? predicate1= complexPredicate )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:707:2: ( ( ( KEYWORD_NOT )? predicate1= complexPredicate ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:708:2: ( ( KEYWORD_NOT )? predicate1= complexPredicate )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:688:2: ( ( KEYWORD_NOT )? predicate1= complexPredicate )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:689:3: ( KEYWORD_NOT )? predicate1= complexPredicate
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:708:2: ( ( KEYWORD_NOT )? predicate1= complexPredicate )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:709:3: ( KEYWORD_NOT )? predicate1= complexPredicate
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:689:3: ( KEYWORD_NOT )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:709:3: ( KEYWORD_NOT )?
 			int alt33=2;
 			int LA33_0 = input.LA(1);
 			if ( (LA33_0==KEYWORD_NOT) ) {
@@ -2383,9 +2461,9 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt33) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:690:3: KEYWORD_NOT
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:710:3: KEYWORD_NOT
 					{
-					match(input,KEYWORD_NOT,FOLLOW_KEYWORD_NOT_in_complexPredicateNot7070); if (state.failed) return predicateNot;
+					match(input,KEYWORD_NOT,FOLLOW_KEYWORD_NOT_in_complexPredicateNot7229); if (state.failed) return predicateNot;
 					if ( state.backtracking==0 ) {
 								predicateNot.negate();
 							}
@@ -2394,7 +2472,7 @@ public class FunSQLParser extends Parser {
 
 			}
 
-			pushFollow(FOLLOW_complexPredicate_in_complexPredicateNot7083);
+			pushFollow(FOLLOW_complexPredicate_in_complexPredicateNot7242);
 			predicate1=complexPredicate();
 			state._fsp--;
 			if (state.failed) return predicateNot;
@@ -2414,7 +2492,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 16, complexPredicateNot_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 17, complexPredicateNot_StartIndex); }
 
 		}
 		return predicateNot;
@@ -2424,7 +2502,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "complexPredicate"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:700:1: complexPredicate returns [AbstractPredicate predicate] : (predicate1= parenPredicate |predicate2= simplePredicate ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:720:1: complexPredicate returns [AbstractPredicate predicate] : (predicate1= parenPredicate |predicate2= simplePredicate ) ;
 	public final AbstractPredicate complexPredicate() throws RecognitionException {
 		AbstractPredicate predicate = null;
 
@@ -2434,17 +2512,17 @@ public class FunSQLParser extends Parser {
 		SimplePredicate predicate2 =null;
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 17) ) { return predicate; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 18) ) { return predicate; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:701:2: ( (predicate1= parenPredicate |predicate2= simplePredicate ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:702:2: (predicate1= parenPredicate |predicate2= simplePredicate )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:721:2: ( (predicate1= parenPredicate |predicate2= simplePredicate ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:722:2: (predicate1= parenPredicate |predicate2= simplePredicate )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:702:2: (predicate1= parenPredicate |predicate2= simplePredicate )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:722:2: (predicate1= parenPredicate |predicate2= simplePredicate )
 			int alt34=2;
 			int LA34_0 = input.LA(1);
 			if ( (LA34_0==LPAREN) ) {
 				int LA34_1 = input.LA(2);
-				if ( (synpred45_FunSQL()) ) {
+				if ( (synpred46_FunSQL()) ) {
 					alt34=1;
 				}
 				else if ( (true) ) {
@@ -2465,9 +2543,9 @@ public class FunSQLParser extends Parser {
 
 			switch (alt34) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:703:3: predicate1= parenPredicate
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:723:3: predicate1= parenPredicate
 					{
-					pushFollow(FOLLOW_parenPredicate_in_complexPredicate7110);
+					pushFollow(FOLLOW_parenPredicate_in_complexPredicate7269);
 					predicate1=parenPredicate();
 					state._fsp--;
 					if (state.failed) return predicate;
@@ -2477,9 +2555,9 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:708:3: predicate2= simplePredicate
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:728:3: predicate2= simplePredicate
 					{
-					pushFollow(FOLLOW_simplePredicate_in_complexPredicate7125);
+					pushFollow(FOLLOW_simplePredicate_in_complexPredicate7284);
 					predicate2=simplePredicate();
 					state._fsp--;
 					if (state.failed) return predicate;
@@ -2502,7 +2580,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 17, complexPredicate_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 18, complexPredicate_StartIndex); }
 
 		}
 		return predicate;
@@ -2512,7 +2590,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "parenPredicate"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:715:1: parenPredicate returns [AbstractPredicate predicate] : LPAREN predicate1= abstractPredicate RPAREN ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:735:1: parenPredicate returns [AbstractPredicate predicate] : LPAREN predicate1= abstractPredicate RPAREN ;
 	public final AbstractPredicate parenPredicate() throws RecognitionException {
 		AbstractPredicate predicate = null;
 
@@ -2521,20 +2599,20 @@ public class FunSQLParser extends Parser {
 		AbstractPredicate predicate1 =null;
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 18) ) { return predicate; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 19) ) { return predicate; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:716:2: ( LPAREN predicate1= abstractPredicate RPAREN )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:717:3: LPAREN predicate1= abstractPredicate RPAREN
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:736:2: ( LPAREN predicate1= abstractPredicate RPAREN )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:737:3: LPAREN predicate1= abstractPredicate RPAREN
 			{
-			match(input,LPAREN,FOLLOW_LPAREN_in_parenPredicate7150); if (state.failed) return predicate;
-			pushFollow(FOLLOW_abstractPredicate_in_parenPredicate7157);
+			match(input,LPAREN,FOLLOW_LPAREN_in_parenPredicate7309); if (state.failed) return predicate;
+			pushFollow(FOLLOW_abstractPredicate_in_parenPredicate7316);
 			predicate1=abstractPredicate();
 			state._fsp--;
 			if (state.failed) return predicate;
 			if ( state.backtracking==0 ) {
 						predicate = predicate1;
 					}
-			match(input,RPAREN,FOLLOW_RPAREN_in_parenPredicate7163); if (state.failed) return predicate;
+			match(input,RPAREN,FOLLOW_RPAREN_in_parenPredicate7322); if (state.failed) return predicate;
 			}
 
 		}
@@ -2546,7 +2624,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 18, parenPredicate_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 19, parenPredicate_StartIndex); }
 
 		}
 		return predicate;
@@ -2556,7 +2634,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "simplePredicate"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:724:1: simplePredicate returns [SimplePredicate predicate] : (expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:744:1: simplePredicate returns [SimplePredicate predicate] : (expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression ) ;
 	public final SimplePredicate simplePredicate() throws RecognitionException {
 		SimplePredicate predicate = null;
 
@@ -2570,29 +2648,29 @@ public class FunSQLParser extends Parser {
 		        	predicate = new SimplePredicate();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 19) ) { return predicate; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 20) ) { return predicate; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:728:9: ( (expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:729:9: (expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:748:9: ( (expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:749:9: (expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:729:9: (expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:730:3: expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:749:9: (expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:750:3: expr1= abstractExpression comp= tokenCompOperator expr2= abstractExpression
 			{
-			pushFollow(FOLLOW_abstractExpression_in_simplePredicate7205);
+			pushFollow(FOLLOW_abstractExpression_in_simplePredicate7364);
 			expr1=abstractExpression();
 			state._fsp--;
 			if (state.failed) return predicate;
 			if ( state.backtracking==0 ) {
 			                	predicate.setExpr1(expr1);
 			                }
-			pushFollow(FOLLOW_tokenCompOperator_in_simplePredicate7260);
+			pushFollow(FOLLOW_tokenCompOperator_in_simplePredicate7419);
 			comp=tokenCompOperator();
 			state._fsp--;
 			if (state.failed) return predicate;
 			if ( state.backtracking==0 ) {
 			                	predicate.setComp(EnumCompOperator.get((comp!=null?input.toString(comp.start,comp.stop):null)));
 			                }
-			pushFollow(FOLLOW_abstractExpression_in_simplePredicate7298);
+			pushFollow(FOLLOW_abstractExpression_in_simplePredicate7457);
 			expr2=abstractExpression();
 			state._fsp--;
 			if (state.failed) return predicate;
@@ -2612,7 +2690,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 19, simplePredicate_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 20, simplePredicate_StartIndex); }
 
 		}
 		return predicate;
@@ -2622,7 +2700,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "abstractExpression"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:747:1: abstractExpression returns [AbstractExpression expression] : expression1= complexExpressionAdd ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:767:1: abstractExpression returns [AbstractExpression expression] : expression1= complexExpressionAdd ;
 	public final AbstractExpression abstractExpression() throws RecognitionException {
 		AbstractExpression expression = null;
 
@@ -2631,12 +2709,12 @@ public class FunSQLParser extends Parser {
 		ComplexExpression expression1 =null;
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 20) ) { return expression; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 21) ) { return expression; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:748:2: (expression1= complexExpressionAdd )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:749:2: expression1= complexExpressionAdd
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:768:2: (expression1= complexExpressionAdd )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:769:2: expression1= complexExpressionAdd
 			{
-			pushFollow(FOLLOW_complexExpressionAdd_in_abstractExpression7352);
+			pushFollow(FOLLOW_complexExpressionAdd_in_abstractExpression7511);
 			expression1=complexExpressionAdd();
 			state._fsp--;
 			if (state.failed) return expression;
@@ -2654,7 +2732,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 20, abstractExpression_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 21, abstractExpression_StartIndex); }
 
 		}
 		return expression;
@@ -2664,7 +2742,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "complexExpressionAdd"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:754:1: complexExpressionAdd returns [ComplexExpression expression] : (expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )* ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:774:1: complexExpressionAdd returns [ComplexExpression expression] : (expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )* ) ;
 	public final ComplexExpression complexExpressionAdd() throws RecognitionException {
 		ComplexExpression expression = null;
 
@@ -2678,22 +2756,22 @@ public class FunSQLParser extends Parser {
 		        	expression = new ComplexExpression(EnumExprType.ADD_EXPRESSION);
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 21) ) { return expression; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 22) ) { return expression; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:758:2: ( (expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )* ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:759:2: (expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:778:2: ( (expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )* ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:779:2: (expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )* )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:759:2: (expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )* )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:760:3: expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:779:2: (expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:780:3: expression1= complexExpressionMult (op1= tokenAddOperator expression2= complexExpressionMult )*
 			{
-			pushFollow(FOLLOW_complexExpressionMult_in_complexExpressionAdd7382);
+			pushFollow(FOLLOW_complexExpressionMult_in_complexExpressionAdd7541);
 			expression1=complexExpressionMult();
 			state._fsp--;
 			if (state.failed) return expression;
 			if ( state.backtracking==0 ) {
 						expression.setExpr1(expression1);
 					}
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:763:3: (op1= tokenAddOperator expression2= complexExpressionMult )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:783:3: (op1= tokenAddOperator expression2= complexExpressionMult )*
 			loop35:
 			while (true) {
 				int alt35=2;
@@ -2704,16 +2782,16 @@ public class FunSQLParser extends Parser {
 
 				switch (alt35) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:764:4: op1= tokenAddOperator expression2= complexExpressionMult
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:784:4: op1= tokenAddOperator expression2= complexExpressionMult
 					{
-					pushFollow(FOLLOW_tokenAddOperator_in_complexExpressionAdd7395);
+					pushFollow(FOLLOW_tokenAddOperator_in_complexExpressionAdd7554);
 					op1=tokenAddOperator();
 					state._fsp--;
 					if (state.failed) return expression;
 					if ( state.backtracking==0 ) {
 					                		expression.addOp(EnumExprOperator.get((op1!=null?input.toString(op1.start,op1.stop):null)));
 					                	}
-					pushFollow(FOLLOW_complexExpressionMult_in_complexExpressionAdd7403);
+					pushFollow(FOLLOW_complexExpressionMult_in_complexExpressionAdd7562);
 					expression2=complexExpressionMult();
 					state._fsp--;
 					if (state.failed) return expression;
@@ -2741,7 +2819,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 21, complexExpressionAdd_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 22, complexExpressionAdd_StartIndex); }
 
 		}
 		return expression;
@@ -2751,7 +2829,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "complexExpressionMult"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:774:1: complexExpressionMult returns [ComplexExpression expression] : (expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )* ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:794:1: complexExpressionMult returns [ComplexExpression expression] : (expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )* ) ;
 	public final ComplexExpression complexExpressionMult() throws RecognitionException {
 		ComplexExpression expression = null;
 
@@ -2765,22 +2843,22 @@ public class FunSQLParser extends Parser {
 		        	expression = new ComplexExpression(EnumExprType.MULT_EXPRESSION);
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 22) ) { return expression; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 23) ) { return expression; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:778:2: ( (expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )* ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:779:2: (expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:798:2: ( (expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )* ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:799:2: (expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )* )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:779:2: (expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )* )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:780:3: expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:799:2: (expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )* )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:800:3: expression1= complexExpressionSigned (op1= tokenMultOperator expression2= complexExpressionSigned )*
 			{
-			pushFollow(FOLLOW_complexExpressionSigned_in_complexExpressionMult7443);
+			pushFollow(FOLLOW_complexExpressionSigned_in_complexExpressionMult7602);
 			expression1=complexExpressionSigned();
 			state._fsp--;
 			if (state.failed) return expression;
 			if ( state.backtracking==0 ) {
 						expression.setExpr1(expression1);
 					}
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:783:3: (op1= tokenMultOperator expression2= complexExpressionSigned )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:803:3: (op1= tokenMultOperator expression2= complexExpressionSigned )*
 			loop36:
 			while (true) {
 				int alt36=2;
@@ -2791,16 +2869,16 @@ public class FunSQLParser extends Parser {
 
 				switch (alt36) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:784:4: op1= tokenMultOperator expression2= complexExpressionSigned
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:804:4: op1= tokenMultOperator expression2= complexExpressionSigned
 					{
-					pushFollow(FOLLOW_tokenMultOperator_in_complexExpressionMult7456);
+					pushFollow(FOLLOW_tokenMultOperator_in_complexExpressionMult7615);
 					op1=tokenMultOperator();
 					state._fsp--;
 					if (state.failed) return expression;
 					if ( state.backtracking==0 ) {
 					                		expression.addOp(EnumExprOperator.get((op1!=null?input.toString(op1.start,op1.stop):null)));
 					                	}
-					pushFollow(FOLLOW_complexExpressionSigned_in_complexExpressionMult7464);
+					pushFollow(FOLLOW_complexExpressionSigned_in_complexExpressionMult7623);
 					expression2=complexExpressionSigned();
 					state._fsp--;
 					if (state.failed) return expression;
@@ -2828,7 +2906,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 22, complexExpressionMult_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 23, complexExpressionMult_StartIndex); }
 
 		}
 		return expression;
@@ -2838,7 +2916,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "complexExpressionSigned"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:795:1: complexExpressionSigned returns [ComplexExpression expression] : ( ( MINUS | PLUS )? expression1= complexExpression ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:815:1: complexExpressionSigned returns [ComplexExpression expression] : ( ( MINUS | PLUS )? expression1= complexExpression ) ;
 	public final ComplexExpression complexExpressionSigned() throws RecognitionException {
 		ComplexExpression expression = null;
 
@@ -2850,15 +2928,15 @@ public class FunSQLParser extends Parser {
 		        	expression = new ComplexExpression(EnumExprType.SIGNED_EXPRESSION);
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 23) ) { return expression; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 24) ) { return expression; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:799:2: ( ( ( MINUS | PLUS )? expression1= complexExpression ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:800:2: ( ( MINUS | PLUS )? expression1= complexExpression )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:819:2: ( ( ( MINUS | PLUS )? expression1= complexExpression ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:820:2: ( ( MINUS | PLUS )? expression1= complexExpression )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:800:2: ( ( MINUS | PLUS )? expression1= complexExpression )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:801:3: ( MINUS | PLUS )? expression1= complexExpression
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:820:2: ( ( MINUS | PLUS )? expression1= complexExpression )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:821:3: ( MINUS | PLUS )? expression1= complexExpression
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:801:3: ( MINUS | PLUS )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:821:3: ( MINUS | PLUS )?
 			int alt37=3;
 			int LA37_0 = input.LA(1);
 			if ( (LA37_0==MINUS) ) {
@@ -2869,24 +2947,24 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt37) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:802:3: MINUS
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:822:3: MINUS
 					{
-					match(input,MINUS,FOLLOW_MINUS_in_complexExpressionSigned7506); if (state.failed) return expression;
+					match(input,MINUS,FOLLOW_MINUS_in_complexExpressionSigned7665); if (state.failed) return expression;
 					if ( state.backtracking==0 ) {
 								expression.negate();
 							}
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:806:3: PLUS
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:826:3: PLUS
 					{
-					match(input,PLUS,FOLLOW_PLUS_in_complexExpressionSigned7515); if (state.failed) return expression;
+					match(input,PLUS,FOLLOW_PLUS_in_complexExpressionSigned7674); if (state.failed) return expression;
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_complexExpression_in_complexExpressionSigned7527);
+			pushFollow(FOLLOW_complexExpression_in_complexExpressionSigned7686);
 			expression1=complexExpression();
 			state._fsp--;
 			if (state.failed) return expression;
@@ -2906,7 +2984,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 23, complexExpressionSigned_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 24, complexExpressionSigned_StartIndex); }
 
 		}
 		return expression;
@@ -2916,7 +2994,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "complexExpression"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:814:1: complexExpression returns [AbstractExpression expression] : (expression1= parenExpression |expression2= aggregationExpression |expression3= simpleExpression ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:834:1: complexExpression returns [AbstractExpression expression] : (expression1= parenExpression |expression2= aggregationExpression |expression3= simpleExpression ) ;
 	public final AbstractExpression complexExpression() throws RecognitionException {
 		AbstractExpression expression = null;
 
@@ -2927,12 +3005,12 @@ public class FunSQLParser extends Parser {
 		SimpleExpression expression3 =null;
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 24) ) { return expression; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 25) ) { return expression; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:815:2: ( (expression1= parenExpression |expression2= aggregationExpression |expression3= simpleExpression ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:816:2: (expression1= parenExpression |expression2= aggregationExpression |expression3= simpleExpression )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:835:2: ( (expression1= parenExpression |expression2= aggregationExpression |expression3= simpleExpression ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:836:2: (expression1= parenExpression |expression2= aggregationExpression |expression3= simpleExpression )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:816:2: (expression1= parenExpression |expression2= aggregationExpression |expression3= simpleExpression )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:836:2: (expression1= parenExpression |expression2= aggregationExpression |expression3= simpleExpression )
 			int alt38=3;
 			switch ( input.LA(1) ) {
 			case LPAREN:
@@ -2963,9 +3041,9 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt38) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:817:3: expression1= parenExpression
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:837:3: expression1= parenExpression
 					{
-					pushFollow(FOLLOW_parenExpression_in_complexExpression7562);
+					pushFollow(FOLLOW_parenExpression_in_complexExpression7721);
 					expression1=parenExpression();
 					state._fsp--;
 					if (state.failed) return expression;
@@ -2975,9 +3053,9 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:822:3: expression2= aggregationExpression
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:842:3: expression2= aggregationExpression
 					{
-					pushFollow(FOLLOW_aggregationExpression_in_complexExpression7577);
+					pushFollow(FOLLOW_aggregationExpression_in_complexExpression7736);
 					expression2=aggregationExpression();
 					state._fsp--;
 					if (state.failed) return expression;
@@ -2987,9 +3065,9 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 3 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:827:3: expression3= simpleExpression
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:847:3: expression3= simpleExpression
 					{
-					pushFollow(FOLLOW_simpleExpression_in_complexExpression7592);
+					pushFollow(FOLLOW_simpleExpression_in_complexExpression7751);
 					expression3=simpleExpression();
 					state._fsp--;
 					if (state.failed) return expression;
@@ -3012,7 +3090,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 24, complexExpression_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 25, complexExpression_StartIndex); }
 
 		}
 		return expression;
@@ -3022,7 +3100,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "parenExpression"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:834:1: parenExpression returns [AbstractExpression expression] : LPAREN expression1= abstractExpression RPAREN ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:854:1: parenExpression returns [AbstractExpression expression] : LPAREN expression1= abstractExpression RPAREN ;
 	public final AbstractExpression parenExpression() throws RecognitionException {
 		AbstractExpression expression = null;
 
@@ -3031,20 +3109,20 @@ public class FunSQLParser extends Parser {
 		AbstractExpression expression1 =null;
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 25) ) { return expression; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 26) ) { return expression; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:835:2: ( LPAREN expression1= abstractExpression RPAREN )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:836:3: LPAREN expression1= abstractExpression RPAREN
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:855:2: ( LPAREN expression1= abstractExpression RPAREN )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:856:3: LPAREN expression1= abstractExpression RPAREN
 			{
-			match(input,LPAREN,FOLLOW_LPAREN_in_parenExpression7617); if (state.failed) return expression;
-			pushFollow(FOLLOW_abstractExpression_in_parenExpression7624);
+			match(input,LPAREN,FOLLOW_LPAREN_in_parenExpression7776); if (state.failed) return expression;
+			pushFollow(FOLLOW_abstractExpression_in_parenExpression7783);
 			expression1=abstractExpression();
 			state._fsp--;
 			if (state.failed) return expression;
 			if ( state.backtracking==0 ) {
 						expression = expression1;
 					}
-			match(input,RPAREN,FOLLOW_RPAREN_in_parenExpression7630); if (state.failed) return expression;
+			match(input,RPAREN,FOLLOW_RPAREN_in_parenExpression7789); if (state.failed) return expression;
 			}
 
 		}
@@ -3056,7 +3134,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 25, parenExpression_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 26, parenExpression_StartIndex); }
 
 		}
 		return expression;
@@ -3066,7 +3144,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "aggregationExpression"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:844:1: aggregationExpression returns [AggregationExpression expression] : (agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:864:1: aggregationExpression returns [AggregationExpression expression] : (agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN ) ;
 	public final AggregationExpression aggregationExpression() throws RecognitionException {
 		AggregationExpression expression = null;
 
@@ -3079,20 +3157,20 @@ public class FunSQLParser extends Parser {
 		        	expression = new AggregationExpression();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 26) ) { return expression; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 27) ) { return expression; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:848:9: ( (agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:849:9: (agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:868:9: ( (agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:869:9: (agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:849:9: (agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:850:3: agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:869:9: (agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:870:3: agg1= FUNCTION_AGGREGATION LPAREN ( KEYWORD_DISTINCT )? expr1= abstractExpression RPAREN
 			{
-			agg1=(Token)match(input,FUNCTION_AGGREGATION,FOLLOW_FUNCTION_AGGREGATION_in_aggregationExpression7682); if (state.failed) return expression;
+			agg1=(Token)match(input,FUNCTION_AGGREGATION,FOLLOW_FUNCTION_AGGREGATION_in_aggregationExpression7841); if (state.failed) return expression;
 			if ( state.backtracking==0 ) {
 						expression.setAggregation((agg1!=null?agg1.getText():null).toUpperCase());
 					}
-			match(input,LPAREN,FOLLOW_LPAREN_in_aggregationExpression7690); if (state.failed) return expression;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:855:3: ( KEYWORD_DISTINCT )?
+			match(input,LPAREN,FOLLOW_LPAREN_in_aggregationExpression7849); if (state.failed) return expression;
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:875:3: ( KEYWORD_DISTINCT )?
 			int alt39=2;
 			int LA39_0 = input.LA(1);
 			if ( (LA39_0==KEYWORD_DISTINCT) ) {
@@ -3100,9 +3178,9 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt39) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:856:3: KEYWORD_DISTINCT
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:876:3: KEYWORD_DISTINCT
 					{
-					match(input,KEYWORD_DISTINCT,FOLLOW_KEYWORD_DISTINCT_in_aggregationExpression7699); if (state.failed) return expression;
+					match(input,KEYWORD_DISTINCT,FOLLOW_KEYWORD_DISTINCT_in_aggregationExpression7858); if (state.failed) return expression;
 					if ( state.backtracking==0 ) {
 								expression.setDistinct();
 							}
@@ -3111,14 +3189,14 @@ public class FunSQLParser extends Parser {
 
 			}
 
-			pushFollow(FOLLOW_abstractExpression_in_aggregationExpression7711);
+			pushFollow(FOLLOW_abstractExpression_in_aggregationExpression7870);
 			expr1=abstractExpression();
 			state._fsp--;
 			if (state.failed) return expression;
 			if ( state.backtracking==0 ) {
 						expression.setExpression(expr1);
 					}
-			match(input,RPAREN,FOLLOW_RPAREN_in_aggregationExpression7717); if (state.failed) return expression;
+			match(input,RPAREN,FOLLOW_RPAREN_in_aggregationExpression7876); if (state.failed) return expression;
 			}
 
 			}
@@ -3132,7 +3210,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 26, aggregationExpression_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 27, aggregationExpression_StartIndex); }
 
 		}
 		return expression;
@@ -3142,7 +3220,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "simpleExpression"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:867:1: simpleExpression returns [SimpleExpression expression] : ( (att1= tokenAttribute |lit1= tokenLiteral ) ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:887:1: simpleExpression returns [SimpleExpression expression] : ( (att1= tokenAttribute |lit1= tokenLiteral ) ) ;
 	public final SimpleExpression simpleExpression() throws RecognitionException {
 		SimpleExpression expression = null;
 
@@ -3155,15 +3233,15 @@ public class FunSQLParser extends Parser {
 		        	expression = new SimpleExpression();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 27) ) { return expression; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 28) ) { return expression; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:871:9: ( ( (att1= tokenAttribute |lit1= tokenLiteral ) ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:872:9: ( (att1= tokenAttribute |lit1= tokenLiteral ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:891:9: ( ( (att1= tokenAttribute |lit1= tokenLiteral ) ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:892:9: ( (att1= tokenAttribute |lit1= tokenLiteral ) )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:872:9: ( (att1= tokenAttribute |lit1= tokenLiteral ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:873:3: (att1= tokenAttribute |lit1= tokenLiteral )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:892:9: ( (att1= tokenAttribute |lit1= tokenLiteral ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:893:3: (att1= tokenAttribute |lit1= tokenLiteral )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:873:3: (att1= tokenAttribute |lit1= tokenLiteral )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:893:3: (att1= tokenAttribute |lit1= tokenLiteral )
 			int alt40=2;
 			int LA40_0 = input.LA(1);
 			if ( (LA40_0==IDENTIFIER||LA40_0==QUOTE_DOUBLE) ) {
@@ -3182,9 +3260,9 @@ public class FunSQLParser extends Parser {
 
 			switch (alt40) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:874:3: att1= tokenAttribute
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:894:3: att1= tokenAttribute
 					{
-					pushFollow(FOLLOW_tokenAttribute_in_simpleExpression7792);
+					pushFollow(FOLLOW_tokenAttribute_in_simpleExpression7951);
 					att1=tokenAttribute();
 					state._fsp--;
 					if (state.failed) return expression;
@@ -3194,9 +3272,9 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:879:17: lit1= tokenLiteral
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:899:17: lit1= tokenLiteral
 					{
-					pushFollow(FOLLOW_tokenLiteral_in_simpleExpression7848);
+					pushFollow(FOLLOW_tokenLiteral_in_simpleExpression8007);
 					lit1=tokenLiteral();
 					state._fsp--;
 					if (state.failed) return expression;
@@ -3221,7 +3299,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 27, simpleExpression_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 28, simpleExpression_StartIndex); }
 
 		}
 		return expression;
@@ -3231,7 +3309,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenAttribute"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:887:1: tokenAttribute returns [TokenAttribute attribute] : ( (table1= tokenIdentifier DOT )? id1= tokenIdentifier ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:907:1: tokenAttribute returns [TokenAttribute attribute] : ( (table1= tokenIdentifier DOT )? id1= tokenIdentifier ) ;
 	public final TokenAttribute tokenAttribute() throws RecognitionException {
 		TokenAttribute attribute = null;
 
@@ -3244,22 +3322,22 @@ public class FunSQLParser extends Parser {
 		        	attribute = new TokenAttribute();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 28) ) { return attribute; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 29) ) { return attribute; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:891:9: ( ( (table1= tokenIdentifier DOT )? id1= tokenIdentifier ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:892:9: ( (table1= tokenIdentifier DOT )? id1= tokenIdentifier )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:911:9: ( ( (table1= tokenIdentifier DOT )? id1= tokenIdentifier ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:912:9: ( (table1= tokenIdentifier DOT )? id1= tokenIdentifier )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:892:9: ( (table1= tokenIdentifier DOT )? id1= tokenIdentifier )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:893:17: (table1= tokenIdentifier DOT )? id1= tokenIdentifier
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:912:9: ( (table1= tokenIdentifier DOT )? id1= tokenIdentifier )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:913:17: (table1= tokenIdentifier DOT )? id1= tokenIdentifier
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:893:17: (table1= tokenIdentifier DOT )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:913:17: (table1= tokenIdentifier DOT )?
 			int alt41=2;
 			alt41 = dfa41.predict(input);
 			switch (alt41) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:894:17: table1= tokenIdentifier DOT
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:914:17: table1= tokenIdentifier DOT
 					{
-					pushFollow(FOLLOW_tokenIdentifier_in_tokenAttribute7976);
+					pushFollow(FOLLOW_tokenIdentifier_in_tokenAttribute8135);
 					table1=tokenIdentifier();
 					state._fsp--;
 					if (state.failed) return attribute;
@@ -3268,13 +3346,13 @@ public class FunSQLParser extends Parser {
 					                	table.setName(table1);
 					                	attribute.setTable(table);
 					                }
-					match(input,DOT,FOLLOW_DOT_in_tokenAttribute7996); if (state.failed) return attribute;
+					match(input,DOT,FOLLOW_DOT_in_tokenAttribute8155); if (state.failed) return attribute;
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_tokenIdentifier_in_tokenAttribute8035);
+			pushFollow(FOLLOW_tokenIdentifier_in_tokenAttribute8194);
 			id1=tokenIdentifier();
 			state._fsp--;
 			if (state.failed) return attribute;
@@ -3294,7 +3372,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 28, tokenAttribute_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 29, tokenAttribute_StartIndex); }
 
 		}
 		return attribute;
@@ -3304,7 +3382,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenTable"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:907:1: tokenTable returns [TokenTable table] : ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) | ( ( COLON )? id1= tokenIdentifier ) );
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:927:1: tokenTable returns [TokenTable table] : ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) | ( ( COLON )? id1= tokenIdentifier ) );
 	public final TokenTable tokenTable() throws RecognitionException {
 		TokenTable table = null;
 
@@ -3317,26 +3395,26 @@ public class FunSQLParser extends Parser {
 		        	table = new TokenTable();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 29) ) { return table; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 30) ) { return table; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:911:9: ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) | ( ( COLON )? id1= tokenIdentifier ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:931:9: ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) | ( ( COLON )? id1= tokenIdentifier ) )
 			int alt44=2;
 			alt44 = dfa44.predict(input);
 			switch (alt44) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:912:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:932:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:912:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:913:17: (schema1= tokenIdentifier DOT )? id1= tokenIdentifier
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:932:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:933:17: (schema1= tokenIdentifier DOT )? id1= tokenIdentifier
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:913:17: (schema1= tokenIdentifier DOT )?
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:933:17: (schema1= tokenIdentifier DOT )?
 					int alt42=2;
 					alt42 = dfa42.predict(input);
 					switch (alt42) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:914:17: schema1= tokenIdentifier DOT
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:934:17: schema1= tokenIdentifier DOT
 							{
-							pushFollow(FOLLOW_tokenIdentifier_in_tokenTable8158);
+							pushFollow(FOLLOW_tokenIdentifier_in_tokenTable8317);
 							schema1=tokenIdentifier();
 							state._fsp--;
 							if (state.failed) return table;
@@ -3345,13 +3423,13 @@ public class FunSQLParser extends Parser {
 							                	table.setSchema(schema);
 							                	table.setVariable(false);
 							                }
-							match(input,DOT,FOLLOW_DOT_in_tokenTable8178); if (state.failed) return table;
+							match(input,DOT,FOLLOW_DOT_in_tokenTable8337); if (state.failed) return table;
 							}
 							break;
 
 					}
 
-					pushFollow(FOLLOW_tokenIdentifier_in_tokenTable8235);
+					pushFollow(FOLLOW_tokenIdentifier_in_tokenTable8394);
 					id1=tokenIdentifier();
 					state._fsp--;
 					if (state.failed) return table;
@@ -3363,12 +3441,12 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:924:12: ( ( COLON )? id1= tokenIdentifier )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:944:12: ( ( COLON )? id1= tokenIdentifier )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:924:12: ( ( COLON )? id1= tokenIdentifier )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:925:17: ( COLON )? id1= tokenIdentifier
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:944:12: ( ( COLON )? id1= tokenIdentifier )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:945:17: ( COLON )? id1= tokenIdentifier
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:925:17: ( COLON )?
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:945:17: ( COLON )?
 					int alt43=2;
 					int LA43_0 = input.LA(1);
 					if ( (LA43_0==COLON) ) {
@@ -3376,15 +3454,15 @@ public class FunSQLParser extends Parser {
 					}
 					switch (alt43) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:926:17: COLON
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:946:17: COLON
 							{
-							match(input,COLON,FOLLOW_COLON_in_tokenTable8302); if (state.failed) return table;
+							match(input,COLON,FOLLOW_COLON_in_tokenTable8461); if (state.failed) return table;
 							}
 							break;
 
 					}
 
-					pushFollow(FOLLOW_tokenIdentifier_in_tokenTable8344);
+					pushFollow(FOLLOW_tokenIdentifier_in_tokenTable8503);
 					id1=tokenIdentifier();
 					state._fsp--;
 					if (state.failed) return table;
@@ -3407,7 +3485,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 29, tokenTable_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 30, tokenTable_StartIndex); }
 
 		}
 		return table;
@@ -3417,32 +3495,32 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenSchema"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:935:1: tokenSchema returns [TokenSchema schema] : ( tokenIdentifier ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:955:1: tokenSchema returns [TokenSchema schema] : ( tokenIdentifier ) ;
 	public final TokenSchema tokenSchema() throws RecognitionException {
 		TokenSchema schema = null;
 
 		int tokenSchema_StartIndex = input.index();
 
-		TokenIdentifier tokenIdentifier16 =null;
+		TokenIdentifier tokenIdentifier17 =null;
 
 
 		        	schema = new TokenSchema();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 30) ) { return schema; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 31) ) { return schema; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:939:9: ( ( tokenIdentifier ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:940:9: ( tokenIdentifier )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:959:9: ( ( tokenIdentifier ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:960:9: ( tokenIdentifier )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:940:9: ( tokenIdentifier )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:941:17: tokenIdentifier
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:960:9: ( tokenIdentifier )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:961:17: tokenIdentifier
 			{
-			pushFollow(FOLLOW_tokenIdentifier_in_tokenSchema8425);
-			tokenIdentifier16=tokenIdentifier();
+			pushFollow(FOLLOW_tokenIdentifier_in_tokenSchema8584);
+			tokenIdentifier17=tokenIdentifier();
 			state._fsp--;
 			if (state.failed) return schema;
 			if ( state.backtracking==0 ) {
-			                	schema.setName(tokenIdentifier16);
+			                	schema.setName(tokenIdentifier17);
 			                }
 			}
 
@@ -3457,7 +3535,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 30, tokenSchema_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 31, tokenSchema_StartIndex); }
 
 		}
 		return schema;
@@ -3467,7 +3545,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenFunction"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:947:1: tokenFunction returns [TokenFunction function] : ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:967:1: tokenFunction returns [TokenFunction function] : ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) ;
 	public final TokenFunction tokenFunction() throws RecognitionException {
 		TokenFunction function = null;
 
@@ -3480,22 +3558,22 @@ public class FunSQLParser extends Parser {
 		        	function = new TokenFunction();
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 31) ) { return function; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 32) ) { return function; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:951:9: ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:952:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:971:9: ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:972:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:952:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:953:33: (schema1= tokenIdentifier DOT )? id1= tokenIdentifier
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:972:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:973:33: (schema1= tokenIdentifier DOT )? id1= tokenIdentifier
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:953:33: (schema1= tokenIdentifier DOT )?
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:973:33: (schema1= tokenIdentifier DOT )?
 			int alt45=2;
 			alt45 = dfa45.predict(input);
 			switch (alt45) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:954:17: schema1= tokenIdentifier DOT
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:974:17: schema1= tokenIdentifier DOT
 					{
-					pushFollow(FOLLOW_tokenIdentifier_in_tokenFunction8541);
+					pushFollow(FOLLOW_tokenIdentifier_in_tokenFunction8700);
 					schema1=tokenIdentifier();
 					state._fsp--;
 					if (state.failed) return function;
@@ -3503,13 +3581,13 @@ public class FunSQLParser extends Parser {
 					                        TokenSchema schema = new TokenSchema();
 					                	function.setSchema(schema);
 					                }
-					match(input,DOT,FOLLOW_DOT_in_tokenFunction8561); if (state.failed) return function;
+					match(input,DOT,FOLLOW_DOT_in_tokenFunction8720); if (state.failed) return function;
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_tokenIdentifier_in_tokenFunction8600);
+			pushFollow(FOLLOW_tokenIdentifier_in_tokenFunction8759);
 			id1=tokenIdentifier();
 			state._fsp--;
 			if (state.failed) return function;
@@ -3529,7 +3607,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 31, tokenFunction_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 32, tokenFunction_StartIndex); }
 
 		}
 		return function;
@@ -3539,32 +3617,32 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenVariable"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:966:1: tokenVariable returns [TokenVariable variable] : ( variableText ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:986:1: tokenVariable returns [TokenVariable variable] : ( variableText ) ;
 	public final TokenVariable tokenVariable() throws RecognitionException {
 		TokenVariable variable = null;
 
 		int tokenVariable_StartIndex = input.index();
 
-		String variableText17 =null;
+		String variableText18 =null;
 
 
 		        	variable = null;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 32) ) { return variable; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 33) ) { return variable; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:970:9: ( ( variableText ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:971:9: ( variableText )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:990:9: ( ( variableText ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:991:9: ( variableText )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:971:9: ( variableText )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:972:17: variableText
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:991:9: ( variableText )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:992:17: variableText
 			{
-			pushFollow(FOLLOW_variableText_in_tokenVariable8680);
-			variableText17=variableText();
+			pushFollow(FOLLOW_variableText_in_tokenVariable8839);
+			variableText18=variableText();
 			state._fsp--;
 			if (state.failed) return variable;
 			if ( state.backtracking==0 ) {
-			                variable = new TokenVariable(variableText17);	
+			                variable = new TokenVariable(variableText18);	
 			                }
 			}
 
@@ -3579,7 +3657,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 32, tokenVariable_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 33, tokenVariable_StartIndex); }
 
 		}
 		return variable;
@@ -3589,7 +3667,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenAssignment"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:978:1: tokenAssignment returns [TokenAssignment ass] : ( ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement ) | ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement ) | ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable ) SEMI ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:998:1: tokenAssignment returns [TokenAssignment ass] : ( ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement ) | ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement ) | ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable ) SEMI ;
 	public final TokenAssignment tokenAssignment() throws RecognitionException {
 		TokenAssignment ass = null;
 
@@ -3606,12 +3684,12 @@ public class FunSQLParser extends Parser {
 			 	ass =new TokenAssignment();
 			 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 33) ) { return ass; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 34) ) { return ass; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:982:3: ( ( ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement ) | ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement ) | ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable ) SEMI )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:983:3: ( ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement ) | ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement ) | ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable ) SEMI
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1002:3: ( ( ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement ) | ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement ) | ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable ) SEMI )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1003:3: ( ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement ) | ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement ) | ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable ) SEMI
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:983:3: ( ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement ) | ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement ) | ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1003:3: ( ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement ) | ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement ) | ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable )
 			int alt46=3;
 			int LA46_0 = input.LA(1);
 			if ( (LA46_0==COLON) ) {
@@ -3688,13 +3766,13 @@ public class FunSQLParser extends Parser {
 
 			switch (alt46) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:984:4: ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1004:4: ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:984:4: ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:985:4: COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1004:4: ( COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1005:4: COLON var1= tokenVariable EQUAL1 selstmt1= selectStatement
 					{
-					match(input,COLON,FOLLOW_COLON_in_tokenAssignment8747); if (state.failed) return ass;
-					pushFollow(FOLLOW_tokenVariable_in_tokenAssignment8759);
+					match(input,COLON,FOLLOW_COLON_in_tokenAssignment8906); if (state.failed) return ass;
+					pushFollow(FOLLOW_tokenVariable_in_tokenAssignment8918);
 					var1=tokenVariable();
 					state._fsp--;
 					if (state.failed) return ass;
@@ -3702,8 +3780,8 @@ public class FunSQLParser extends Parser {
 							 ass.setReference(true);
 							 ass.setVar(var1);
 							 }
-					match(input,EQUAL1,FOLLOW_EQUAL1_in_tokenAssignment8765); if (state.failed) return ass;
-					pushFollow(FOLLOW_selectStatement_in_tokenAssignment8772);
+					match(input,EQUAL1,FOLLOW_EQUAL1_in_tokenAssignment8924); if (state.failed) return ass;
+					pushFollow(FOLLOW_selectStatement_in_tokenAssignment8931);
 					selstmt1=selectStatement();
 					state._fsp--;
 					if (state.failed) return ass;
@@ -3715,13 +3793,13 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:996:4: ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1016:4: ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:996:4: ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:997:4: KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1016:4: ( KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1017:4: KEYWORD_VAR var2= tokenVariable EQUAL1 selstmt2= selectStatement
 					{
-					match(input,KEYWORD_VAR,FOLLOW_KEYWORD_VAR_in_tokenAssignment8793); if (state.failed) return ass;
-					pushFollow(FOLLOW_tokenVariable_in_tokenAssignment8802);
+					match(input,KEYWORD_VAR,FOLLOW_KEYWORD_VAR_in_tokenAssignment8952); if (state.failed) return ass;
+					pushFollow(FOLLOW_tokenVariable_in_tokenAssignment8961);
 					var2=tokenVariable();
 					state._fsp--;
 					if (state.failed) return ass;
@@ -3729,8 +3807,8 @@ public class FunSQLParser extends Parser {
 							 ass.setReference(false);
 							 ass.setVar(var2);
 							 }
-					match(input,EQUAL1,FOLLOW_EQUAL1_in_tokenAssignment8808); if (state.failed) return ass;
-					pushFollow(FOLLOW_selectStatement_in_tokenAssignment8815);
+					match(input,EQUAL1,FOLLOW_EQUAL1_in_tokenAssignment8967); if (state.failed) return ass;
+					pushFollow(FOLLOW_selectStatement_in_tokenAssignment8974);
 					selstmt2=selectStatement();
 					state._fsp--;
 					if (state.failed) return ass;
@@ -3742,13 +3820,13 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 3 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1008:4: ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1028:4: ( KEYWORD_VAR var3= tokenVariable EQUAL1 ) COLON var4= tokenVariable
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1008:4: ( KEYWORD_VAR var3= tokenVariable EQUAL1 )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1009:4: KEYWORD_VAR var3= tokenVariable EQUAL1
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1028:4: ( KEYWORD_VAR var3= tokenVariable EQUAL1 )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1029:4: KEYWORD_VAR var3= tokenVariable EQUAL1
 					{
-					match(input,KEYWORD_VAR,FOLLOW_KEYWORD_VAR_in_tokenAssignment8839); if (state.failed) return ass;
-					pushFollow(FOLLOW_tokenVariable_in_tokenAssignment8848);
+					match(input,KEYWORD_VAR,FOLLOW_KEYWORD_VAR_in_tokenAssignment8998); if (state.failed) return ass;
+					pushFollow(FOLLOW_tokenVariable_in_tokenAssignment9007);
 					var3=tokenVariable();
 					state._fsp--;
 					if (state.failed) return ass;
@@ -3756,11 +3834,11 @@ public class FunSQLParser extends Parser {
 							 ass.setReference(false);
 							 ass.setVar(var3);
 							 }
-					match(input,EQUAL1,FOLLOW_EQUAL1_in_tokenAssignment8854); if (state.failed) return ass;
+					match(input,EQUAL1,FOLLOW_EQUAL1_in_tokenAssignment9013); if (state.failed) return ass;
 					}
 
-					match(input,COLON,FOLLOW_COLON_in_tokenAssignment8865); if (state.failed) return ass;
-					pushFollow(FOLLOW_tokenVariable_in_tokenAssignment8877);
+					match(input,COLON,FOLLOW_COLON_in_tokenAssignment9024); if (state.failed) return ass;
+					pushFollow(FOLLOW_tokenVariable_in_tokenAssignment9036);
 					var4=tokenVariable();
 					state._fsp--;
 					if (state.failed) return ass;
@@ -3773,7 +3851,7 @@ public class FunSQLParser extends Parser {
 
 			}
 
-			match(input,SEMI,FOLLOW_SEMI_in_tokenAssignment8888); if (state.failed) return ass;
+			match(input,SEMI,FOLLOW_SEMI_in_tokenAssignment9047); if (state.failed) return ass;
 			}
 
 		}
@@ -3785,7 +3863,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 33, tokenAssignment_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 34, tokenAssignment_StartIndex); }
 
 		}
 		return ass;
@@ -3795,7 +3873,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenFunctionCall"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1025:1: tokenFunctionCall returns [TokenFunctionCall call] : ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1045:1: tokenFunctionCall returns [TokenFunctionCall call] : ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI ) ;
 	public final TokenFunctionCall tokenFunctionCall() throws RecognitionException {
 		TokenFunctionCall call = null;
 
@@ -3810,25 +3888,25 @@ public class FunSQLParser extends Parser {
 			 	call =new TokenFunctionCall();
 			 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 34) ) { return call; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 35) ) { return call; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1029:3: ( ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1030:3: ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1049:3: ( ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1050:3: ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1030:3: ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1031:4: KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1050:3: ( KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1051:4: KEYWORD_CALL KEYWORD_FUNCTION fun1= tokenFunction LPAREN ( COLON var1= tokenVariable )* ( KEYWORD_VAR var2= tokenVariable COMMA )* ( KEYWORD_VAR var3= tokenVariable ) RPAREN SEMI
 			{
-			match(input,KEYWORD_CALL,FOLLOW_KEYWORD_CALL_in_tokenFunctionCall8920); if (state.failed) return call;
-			match(input,KEYWORD_FUNCTION,FOLLOW_KEYWORD_FUNCTION_in_tokenFunctionCall8925); if (state.failed) return call;
-			pushFollow(FOLLOW_tokenFunction_in_tokenFunctionCall8932);
+			match(input,KEYWORD_CALL,FOLLOW_KEYWORD_CALL_in_tokenFunctionCall9079); if (state.failed) return call;
+			match(input,KEYWORD_FUNCTION,FOLLOW_KEYWORD_FUNCTION_in_tokenFunctionCall9084); if (state.failed) return call;
+			pushFollow(FOLLOW_tokenFunction_in_tokenFunctionCall9091);
 			fun1=tokenFunction();
 			state._fsp--;
 			if (state.failed) return call;
 			if ( state.backtracking==0 ) {
 					 call.setFun(fun1);
 					 }
-			match(input,LPAREN,FOLLOW_LPAREN_in_tokenFunctionCall8938); if (state.failed) return call;
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1037:4: ( COLON var1= tokenVariable )*
+			match(input,LPAREN,FOLLOW_LPAREN_in_tokenFunctionCall9097); if (state.failed) return call;
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1057:4: ( COLON var1= tokenVariable )*
 			loop47:
 			while (true) {
 				int alt47=2;
@@ -3839,10 +3917,10 @@ public class FunSQLParser extends Parser {
 
 				switch (alt47) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1038:5: COLON var1= tokenVariable
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1058:5: COLON var1= tokenVariable
 					{
-					match(input,COLON,FOLLOW_COLON_in_tokenFunctionCall8949); if (state.failed) return call;
-					pushFollow(FOLLOW_tokenVariable_in_tokenFunctionCall8962);
+					match(input,COLON,FOLLOW_COLON_in_tokenFunctionCall9108); if (state.failed) return call;
+					pushFollow(FOLLOW_tokenVariable_in_tokenFunctionCall9121);
 					var1=tokenVariable();
 					state._fsp--;
 					if (state.failed) return call;
@@ -3857,7 +3935,7 @@ public class FunSQLParser extends Parser {
 				}
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1043:4: ( KEYWORD_VAR var2= tokenVariable COMMA )*
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1063:4: ( KEYWORD_VAR var2= tokenVariable COMMA )*
 			loop48:
 			while (true) {
 				int alt48=2;
@@ -3876,17 +3954,17 @@ public class FunSQLParser extends Parser {
 
 				switch (alt48) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1044:5: KEYWORD_VAR var2= tokenVariable COMMA
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1064:5: KEYWORD_VAR var2= tokenVariable COMMA
 					{
-					match(input,KEYWORD_VAR,FOLLOW_KEYWORD_VAR_in_tokenFunctionCall8983); if (state.failed) return call;
-					pushFollow(FOLLOW_tokenVariable_in_tokenFunctionCall8993);
+					match(input,KEYWORD_VAR,FOLLOW_KEYWORD_VAR_in_tokenFunctionCall9142); if (state.failed) return call;
+					pushFollow(FOLLOW_tokenVariable_in_tokenFunctionCall9152);
 					var2=tokenVariable();
 					state._fsp--;
 					if (state.failed) return call;
 					if ( state.backtracking==0 ) {		
 								 call.addOutVar(var2);
 								 }
-					match(input,COMMA,FOLLOW_COMMA_in_tokenFunctionCall9000); if (state.failed) return call;
+					match(input,COMMA,FOLLOW_COMMA_in_tokenFunctionCall9159); if (state.failed) return call;
 					}
 					break;
 
@@ -3895,11 +3973,11 @@ public class FunSQLParser extends Parser {
 				}
 			}
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1050:4: ( KEYWORD_VAR var3= tokenVariable )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1051:5: KEYWORD_VAR var3= tokenVariable
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1070:4: ( KEYWORD_VAR var3= tokenVariable )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1071:5: KEYWORD_VAR var3= tokenVariable
 			{
-			match(input,KEYWORD_VAR,FOLLOW_KEYWORD_VAR_in_tokenFunctionCall9022); if (state.failed) return call;
-			pushFollow(FOLLOW_tokenVariable_in_tokenFunctionCall9032);
+			match(input,KEYWORD_VAR,FOLLOW_KEYWORD_VAR_in_tokenFunctionCall9181); if (state.failed) return call;
+			pushFollow(FOLLOW_tokenVariable_in_tokenFunctionCall9191);
 			var3=tokenVariable();
 			state._fsp--;
 			if (state.failed) return call;
@@ -3908,8 +3986,8 @@ public class FunSQLParser extends Parser {
 						 }
 			}
 
-			match(input,RPAREN,FOLLOW_RPAREN_in_tokenFunctionCall9043); if (state.failed) return call;
-			match(input,SEMI,FOLLOW_SEMI_in_tokenFunctionCall9048); if (state.failed) return call;
+			match(input,RPAREN,FOLLOW_RPAREN_in_tokenFunctionCall9202); if (state.failed) return call;
+			match(input,SEMI,FOLLOW_SEMI_in_tokenFunctionCall9207); if (state.failed) return call;
 			}
 
 			}
@@ -3923,7 +4001,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 34, tokenFunctionCall_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 35, tokenFunctionCall_StartIndex); }
 
 		}
 		return call;
@@ -3933,32 +4011,32 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenIdentifier"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1061:1: tokenIdentifier returns [TokenIdentifier identifier] : ( identifierText ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1081:1: tokenIdentifier returns [TokenIdentifier identifier] : ( identifierText ) ;
 	public final TokenIdentifier tokenIdentifier() throws RecognitionException {
 		TokenIdentifier identifier = null;
 
 		int tokenIdentifier_StartIndex = input.index();
 
-		String identifierText18 =null;
+		String identifierText19 =null;
 
 
 		        	identifier = null;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 35) ) { return identifier; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 36) ) { return identifier; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1065:9: ( ( identifierText ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1066:9: ( identifierText )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1085:9: ( ( identifierText ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1086:9: ( identifierText )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1066:9: ( identifierText )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1067:17: identifierText
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1086:9: ( identifierText )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1087:17: identifierText
 			{
-			pushFollow(FOLLOW_identifierText_in_tokenIdentifier9116);
-			identifierText18=identifierText();
+			pushFollow(FOLLOW_identifierText_in_tokenIdentifier9275);
+			identifierText19=identifierText();
 			state._fsp--;
 			if (state.failed) return identifier;
 			if ( state.backtracking==0 ) {
-			                	identifier = new TokenIdentifier(identifierText18);
+			                	identifier = new TokenIdentifier(identifierText19);
 			                }
 			}
 
@@ -3973,7 +4051,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 35, tokenIdentifier_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 36, tokenIdentifier_StartIndex); }
 
 		}
 		return identifier;
@@ -3983,27 +4061,27 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenDataType"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1074:1: tokenDataType returns [TokenDataType dataType] : ( TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1094:1: tokenDataType returns [TokenDataType dataType] : ( TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE ) ;
 	public final TokenDataType tokenDataType() throws RecognitionException {
 		TokenDataType dataType = null;
 
 		int tokenDataType_StartIndex = input.index();
 
-		Token TYPE_VARCHAR19=null;
-		Token TYPE_INTEGER20=null;
-		Token TYPE_DECIMAL21=null;
-		Token TYPE_DATE22=null;
+		Token TYPE_VARCHAR20=null;
+		Token TYPE_INTEGER21=null;
+		Token TYPE_DECIMAL22=null;
+		Token TYPE_DATE23=null;
 
 
 		        	dataType = null;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 36) ) { return dataType; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 37) ) { return dataType; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1078:9: ( ( TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1079:9: ( TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1098:9: ( ( TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1099:9: ( TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1079:9: ( TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1099:9: ( TYPE_VARCHAR | TYPE_INTEGER | TYPE_DECIMAL | TYPE_DATE )
 			int alt49=4;
 			switch ( input.LA(1) ) {
 			case TYPE_VARCHAR:
@@ -4034,38 +4112,38 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt49) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1080:17: TYPE_VARCHAR
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1100:17: TYPE_VARCHAR
 					{
-					TYPE_VARCHAR19=(Token)match(input,TYPE_VARCHAR,FOLLOW_TYPE_VARCHAR_in_tokenDataType9197); if (state.failed) return dataType;
+					TYPE_VARCHAR20=(Token)match(input,TYPE_VARCHAR,FOLLOW_TYPE_VARCHAR_in_tokenDataType9356); if (state.failed) return dataType;
 					if ( state.backtracking==0 ) {
-					                	dataType = new TokenDataType((TYPE_VARCHAR19!=null?TYPE_VARCHAR19.getText():null));
+					                	dataType = new TokenDataType((TYPE_VARCHAR20!=null?TYPE_VARCHAR20.getText():null));
 					                }
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1084:17: TYPE_INTEGER
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1104:17: TYPE_INTEGER
 					{
-					TYPE_INTEGER20=(Token)match(input,TYPE_INTEGER,FOLLOW_TYPE_INTEGER_in_tokenDataType9235); if (state.failed) return dataType;
+					TYPE_INTEGER21=(Token)match(input,TYPE_INTEGER,FOLLOW_TYPE_INTEGER_in_tokenDataType9394); if (state.failed) return dataType;
 					if ( state.backtracking==0 ) {
-					                	dataType = new TokenDataType((TYPE_INTEGER20!=null?TYPE_INTEGER20.getText():null));
+					                	dataType = new TokenDataType((TYPE_INTEGER21!=null?TYPE_INTEGER21.getText():null));
 					                }
 					}
 					break;
 				case 3 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1088:17: TYPE_DECIMAL
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1108:17: TYPE_DECIMAL
 					{
-					TYPE_DECIMAL21=(Token)match(input,TYPE_DECIMAL,FOLLOW_TYPE_DECIMAL_in_tokenDataType9273); if (state.failed) return dataType;
+					TYPE_DECIMAL22=(Token)match(input,TYPE_DECIMAL,FOLLOW_TYPE_DECIMAL_in_tokenDataType9432); if (state.failed) return dataType;
 					if ( state.backtracking==0 ) {
-					                	dataType = new TokenDataType((TYPE_DECIMAL21!=null?TYPE_DECIMAL21.getText():null));
+					                	dataType = new TokenDataType((TYPE_DECIMAL22!=null?TYPE_DECIMAL22.getText():null));
 					                }
 					}
 					break;
 				case 4 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1092:17: TYPE_DATE
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1112:17: TYPE_DATE
 					{
-					TYPE_DATE22=(Token)match(input,TYPE_DATE,FOLLOW_TYPE_DATE_in_tokenDataType9311); if (state.failed) return dataType;
+					TYPE_DATE23=(Token)match(input,TYPE_DATE,FOLLOW_TYPE_DATE_in_tokenDataType9470); if (state.failed) return dataType;
 					if ( state.backtracking==0 ) {
-					                	dataType = new TokenDataType((TYPE_DATE22!=null?TYPE_DATE22.getText():null));
+					                	dataType = new TokenDataType((TYPE_DATE23!=null?TYPE_DATE23.getText():null));
 					                }
 					}
 					break;
@@ -4083,7 +4161,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 36, tokenDataType_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 37, tokenDataType_StartIndex); }
 
 		}
 		return dataType;
@@ -4093,30 +4171,30 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenLiteral"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1098:1: tokenLiteral returns [TokenLiteral literal] : ( ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral ) ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1118:1: tokenLiteral returns [TokenLiteral literal] : ( ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral ) ) ;
 	public final TokenLiteral tokenLiteral() throws RecognitionException {
 		TokenLiteral literal = null;
 
 		int tokenLiteral_StartIndex = input.index();
 
-		TokenIntegerLiteral tokenIntegerLiteral23 =null;
-		TokenStringLiteral tokenStringLiteral24 =null;
-		TokenDecimalLiteral tokenDecimalLiteral25 =null;
-		TokenDateLiteral tokenDateLiteral26 =null;
+		TokenIntegerLiteral tokenIntegerLiteral24 =null;
+		TokenStringLiteral tokenStringLiteral25 =null;
+		TokenDecimalLiteral tokenDecimalLiteral26 =null;
+		TokenDateLiteral tokenDateLiteral27 =null;
 
 
 		        	literal = null;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 37) ) { return literal; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 38) ) { return literal; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1102:9: ( ( ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral ) ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1103:9: ( ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1122:9: ( ( ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral ) ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1123:9: ( ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral ) )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1103:9: ( ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1104:10: ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1123:9: ( ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1124:10: ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1104:10: ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1124:10: ( tokenIntegerLiteral | tokenStringLiteral | tokenDecimalLiteral | tokenDateLiteral )
 			int alt50=4;
 			switch ( input.LA(1) ) {
 			case LITERAL_INTEGER:
@@ -4147,50 +4225,50 @@ public class FunSQLParser extends Parser {
 			}
 			switch (alt50) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1105:17: tokenIntegerLiteral
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1125:17: tokenIntegerLiteral
 					{
-					pushFollow(FOLLOW_tokenIntegerLiteral_in_tokenLiteral9402);
-					tokenIntegerLiteral23=tokenIntegerLiteral();
+					pushFollow(FOLLOW_tokenIntegerLiteral_in_tokenLiteral9561);
+					tokenIntegerLiteral24=tokenIntegerLiteral();
 					state._fsp--;
 					if (state.failed) return literal;
 					if ( state.backtracking==0 ) {
-					                	literal = tokenIntegerLiteral23;
+					                	literal = tokenIntegerLiteral24;
 					                }
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1109:17: tokenStringLiteral
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1129:17: tokenStringLiteral
 					{
-					pushFollow(FOLLOW_tokenStringLiteral_in_tokenLiteral9440);
-					tokenStringLiteral24=tokenStringLiteral();
+					pushFollow(FOLLOW_tokenStringLiteral_in_tokenLiteral9599);
+					tokenStringLiteral25=tokenStringLiteral();
 					state._fsp--;
 					if (state.failed) return literal;
 					if ( state.backtracking==0 ) {
-					                	literal = tokenStringLiteral24;
+					                	literal = tokenStringLiteral25;
 					                }
 					}
 					break;
 				case 3 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1113:17: tokenDecimalLiteral
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1133:17: tokenDecimalLiteral
 					{
-					pushFollow(FOLLOW_tokenDecimalLiteral_in_tokenLiteral9478);
-					tokenDecimalLiteral25=tokenDecimalLiteral();
+					pushFollow(FOLLOW_tokenDecimalLiteral_in_tokenLiteral9637);
+					tokenDecimalLiteral26=tokenDecimalLiteral();
 					state._fsp--;
 					if (state.failed) return literal;
 					if ( state.backtracking==0 ) {
-					                	literal = tokenDecimalLiteral25;
+					                	literal = tokenDecimalLiteral26;
 					                }
 					}
 					break;
 				case 4 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1117:17: tokenDateLiteral
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1137:17: tokenDateLiteral
 					{
-					pushFollow(FOLLOW_tokenDateLiteral_in_tokenLiteral9516);
-					tokenDateLiteral26=tokenDateLiteral();
+					pushFollow(FOLLOW_tokenDateLiteral_in_tokenLiteral9675);
+					tokenDateLiteral27=tokenDateLiteral();
 					state._fsp--;
 					if (state.failed) return literal;
 					if ( state.backtracking==0 ) {
-					                	literal = tokenDateLiteral26;
+					                	literal = tokenDateLiteral27;
 					                }
 					}
 					break;
@@ -4210,7 +4288,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 37, tokenLiteral_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 38, tokenLiteral_StartIndex); }
 
 		}
 		return literal;
@@ -4220,7 +4298,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenStringLiteral"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1124:1: tokenStringLiteral returns [TokenStringLiteral literal] : (lit1= LITERAL_STRING ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1144:1: tokenStringLiteral returns [TokenStringLiteral literal] : (lit1= LITERAL_STRING ) ;
 	public final TokenStringLiteral tokenStringLiteral() throws RecognitionException {
 		TokenStringLiteral literal = null;
 
@@ -4232,15 +4310,15 @@ public class FunSQLParser extends Parser {
 		        	literal = null;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 38) ) { return literal; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 39) ) { return literal; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1128:9: ( (lit1= LITERAL_STRING ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1129:9: (lit1= LITERAL_STRING )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1148:9: ( (lit1= LITERAL_STRING ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1149:9: (lit1= LITERAL_STRING )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1129:9: (lit1= LITERAL_STRING )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1130:17: lit1= LITERAL_STRING
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1149:9: (lit1= LITERAL_STRING )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1150:17: lit1= LITERAL_STRING
 			{
-			lit1=(Token)match(input,LITERAL_STRING,FOLLOW_LITERAL_STRING_in_tokenStringLiteral9616); if (state.failed) return literal;
+			lit1=(Token)match(input,LITERAL_STRING,FOLLOW_LITERAL_STRING_in_tokenStringLiteral9775); if (state.failed) return literal;
 			if ( state.backtracking==0 ) {
 			                	literal = new TokenStringLiteral((lit1!=null?lit1.getText():null).substring(1, (lit1!=null?lit1.getText():null).length()-1));
 			                }
@@ -4257,7 +4335,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 38, tokenStringLiteral_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 39, tokenStringLiteral_StartIndex); }
 
 		}
 		return literal;
@@ -4267,29 +4345,29 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenIntegerLiteral"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1136:1: tokenIntegerLiteral returns [TokenIntegerLiteral literal] : ( LITERAL_INTEGER ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1156:1: tokenIntegerLiteral returns [TokenIntegerLiteral literal] : ( LITERAL_INTEGER ) ;
 	public final TokenIntegerLiteral tokenIntegerLiteral() throws RecognitionException {
 		TokenIntegerLiteral literal = null;
 
 		int tokenIntegerLiteral_StartIndex = input.index();
 
-		Token LITERAL_INTEGER27=null;
+		Token LITERAL_INTEGER28=null;
 
 
 		        	literal = null;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 39) ) { return literal; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 40) ) { return literal; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1140:9: ( ( LITERAL_INTEGER ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1141:9: ( LITERAL_INTEGER )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1160:9: ( ( LITERAL_INTEGER ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1161:9: ( LITERAL_INTEGER )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1141:9: ( LITERAL_INTEGER )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1142:17: LITERAL_INTEGER
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1161:9: ( LITERAL_INTEGER )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1162:17: LITERAL_INTEGER
 			{
-			LITERAL_INTEGER27=(Token)match(input,LITERAL_INTEGER,FOLLOW_LITERAL_INTEGER_in_tokenIntegerLiteral9696); if (state.failed) return literal;
+			LITERAL_INTEGER28=(Token)match(input,LITERAL_INTEGER,FOLLOW_LITERAL_INTEGER_in_tokenIntegerLiteral9855); if (state.failed) return literal;
 			if ( state.backtracking==0 ) {
-			                	literal = new TokenIntegerLiteral((LITERAL_INTEGER27!=null?LITERAL_INTEGER27.getText():null));
+			                	literal = new TokenIntegerLiteral((LITERAL_INTEGER28!=null?LITERAL_INTEGER28.getText():null));
 			                }
 			}
 
@@ -4304,7 +4382,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 39, tokenIntegerLiteral_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 40, tokenIntegerLiteral_StartIndex); }
 
 		}
 		return literal;
@@ -4314,29 +4392,29 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenDecimalLiteral"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1149:2: tokenDecimalLiteral returns [TokenDecimalLiteral literal] : ( LITERAL_DECIMAL ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1169:2: tokenDecimalLiteral returns [TokenDecimalLiteral literal] : ( LITERAL_DECIMAL ) ;
 	public final TokenDecimalLiteral tokenDecimalLiteral() throws RecognitionException {
 		TokenDecimalLiteral literal = null;
 
 		int tokenDecimalLiteral_StartIndex = input.index();
 
-		Token LITERAL_DECIMAL28=null;
+		Token LITERAL_DECIMAL29=null;
 
 
 		        	literal = null;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 40) ) { return literal; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 41) ) { return literal; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1153:9: ( ( LITERAL_DECIMAL ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1154:9: ( LITERAL_DECIMAL )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1173:9: ( ( LITERAL_DECIMAL ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1174:9: ( LITERAL_DECIMAL )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1154:9: ( LITERAL_DECIMAL )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1155:17: LITERAL_DECIMAL
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1174:9: ( LITERAL_DECIMAL )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1175:17: LITERAL_DECIMAL
 			{
-			LITERAL_DECIMAL28=(Token)match(input,LITERAL_DECIMAL,FOLLOW_LITERAL_DECIMAL_in_tokenDecimalLiteral9786); if (state.failed) return literal;
+			LITERAL_DECIMAL29=(Token)match(input,LITERAL_DECIMAL,FOLLOW_LITERAL_DECIMAL_in_tokenDecimalLiteral9945); if (state.failed) return literal;
 			if ( state.backtracking==0 ) {
-			                	literal = new TokenDecimalLiteral((LITERAL_DECIMAL28!=null?LITERAL_DECIMAL28.getText():null));
+			                	literal = new TokenDecimalLiteral((LITERAL_DECIMAL29!=null?LITERAL_DECIMAL29.getText():null));
 			                }
 			}
 
@@ -4351,7 +4429,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 40, tokenDecimalLiteral_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 41, tokenDecimalLiteral_StartIndex); }
 
 		}
 		return literal;
@@ -4361,30 +4439,30 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenDateLiteral"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1161:2: tokenDateLiteral returns [TokenDateLiteral literal] : ( TYPE_DATE LITERAL_STRING ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1181:2: tokenDateLiteral returns [TokenDateLiteral literal] : ( TYPE_DATE LITERAL_STRING ) ;
 	public final TokenDateLiteral tokenDateLiteral() throws RecognitionException {
 		TokenDateLiteral literal = null;
 
 		int tokenDateLiteral_StartIndex = input.index();
 
-		Token LITERAL_STRING29=null;
+		Token LITERAL_STRING30=null;
 
 
 		        	literal = null;
 		        
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 41) ) { return literal; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 42) ) { return literal; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1165:9: ( ( TYPE_DATE LITERAL_STRING ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1166:9: ( TYPE_DATE LITERAL_STRING )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1185:9: ( ( TYPE_DATE LITERAL_STRING ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1186:9: ( TYPE_DATE LITERAL_STRING )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1166:9: ( TYPE_DATE LITERAL_STRING )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1168:17: TYPE_DATE LITERAL_STRING
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1186:9: ( TYPE_DATE LITERAL_STRING )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1188:17: TYPE_DATE LITERAL_STRING
 			{
-			match(input,TYPE_DATE,FOLLOW_TYPE_DATE_in_tokenDateLiteral9884); if (state.failed) return literal;
-			LITERAL_STRING29=(Token)match(input,LITERAL_STRING,FOLLOW_LITERAL_STRING_in_tokenDateLiteral9902); if (state.failed) return literal;
+			match(input,TYPE_DATE,FOLLOW_TYPE_DATE_in_tokenDateLiteral10043); if (state.failed) return literal;
+			LITERAL_STRING30=(Token)match(input,LITERAL_STRING,FOLLOW_LITERAL_STRING_in_tokenDateLiteral10061); if (state.failed) return literal;
 			if ( state.backtracking==0 ) {
-			                	literal = new TokenDateLiteral((LITERAL_STRING29!=null?LITERAL_STRING29.getText():null));
+			                	literal = new TokenDateLiteral((LITERAL_STRING30!=null?LITERAL_STRING30.getText():null));
 			                }
 			}
 
@@ -4399,7 +4477,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 41, tokenDateLiteral_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 42, tokenDateLiteral_StartIndex); }
 
 		}
 		return literal;
@@ -4409,7 +4487,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "variableText"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1175:2: variableText returns [String text] : (var1= IDENTIFIER ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1195:2: variableText returns [String text] : (var1= IDENTIFIER ) ;
 	public final String variableText() throws RecognitionException {
 		String text = null;
 
@@ -4418,15 +4496,15 @@ public class FunSQLParser extends Parser {
 		Token var1=null;
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 42) ) { return text; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 43) ) { return text; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1176:3: ( (var1= IDENTIFIER ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1177:3: (var1= IDENTIFIER )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1196:3: ( (var1= IDENTIFIER ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1197:3: (var1= IDENTIFIER )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1177:3: (var1= IDENTIFIER )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1179:4: var1= IDENTIFIER
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1197:3: (var1= IDENTIFIER )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1199:4: var1= IDENTIFIER
 			{
-			var1=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_variableText9961); if (state.failed) return text;
+			var1=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_variableText10120); if (state.failed) return text;
 			if ( state.backtracking==0 ) {
 			 		text = (var1!=null?var1.getText():null).toUpperCase();
 			 		}
@@ -4443,7 +4521,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 42, variableText_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 43, variableText_StartIndex); }
 
 		}
 		return text;
@@ -4453,7 +4531,7 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "identifierText"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1185:2: identifierText returns [String text] : ( (id1= IDENTIFIER ) | ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE ) | ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE ) ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1205:2: identifierText returns [String text] : ( (id1= IDENTIFIER ) | ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE ) | ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE ) ) ;
 	public final String identifierText() throws RecognitionException {
 		String text = null;
 
@@ -4465,12 +4543,12 @@ public class FunSQLParser extends Parser {
 		Token id4=null;
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 43) ) { return text; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 44) ) { return text; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1186:3: ( ( (id1= IDENTIFIER ) | ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE ) | ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE ) ) )
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1187:3: ( (id1= IDENTIFIER ) | ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE ) | ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1206:3: ( ( (id1= IDENTIFIER ) | ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE ) | ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE ) ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1207:3: ( (id1= IDENTIFIER ) | ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE ) | ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE ) )
 			{
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1187:3: ( (id1= IDENTIFIER ) | ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE ) | ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1207:3: ( (id1= IDENTIFIER ) | ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE ) | ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE ) )
 			int alt52=3;
 			int LA52_0 = input.LA(1);
 			if ( (LA52_0==IDENTIFIER) ) {
@@ -4528,12 +4606,12 @@ public class FunSQLParser extends Parser {
 
 			switch (alt52) {
 				case 1 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1188:4: (id1= IDENTIFIER )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1208:4: (id1= IDENTIFIER )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1188:4: (id1= IDENTIFIER )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1189:4: id1= IDENTIFIER
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1208:4: (id1= IDENTIFIER )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1209:4: id1= IDENTIFIER
 					{
-					id1=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10013); if (state.failed) return text;
+					id1=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10172); if (state.failed) return text;
 					if ( state.backtracking==0 ) {
 					                	text = (id1!=null?id1.getText():null).toUpperCase();
 					                }
@@ -4542,33 +4620,33 @@ public class FunSQLParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1194:11: ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1214:11: ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1194:11: ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1195:11: QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1214:11: ( QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1215:11: QUOTE_DOUBLE id2= IDENTIFIER QUOTE_DOUBLE
 					{
-					match(input,QUOTE_DOUBLE,FOLLOW_QUOTE_DOUBLE_in_identifierText10069); if (state.failed) return text;
-					id2=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10085); if (state.failed) return text;
+					match(input,QUOTE_DOUBLE,FOLLOW_QUOTE_DOUBLE_in_identifierText10228); if (state.failed) return text;
+					id2=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10244); if (state.failed) return text;
 					if ( state.backtracking==0 ) {
 					                	text = (id2!=null?id2.getText():null);
 					                }
-					match(input,QUOTE_DOUBLE,FOLLOW_QUOTE_DOUBLE_in_identifierText10105); if (state.failed) return text;
+					match(input,QUOTE_DOUBLE,FOLLOW_QUOTE_DOUBLE_in_identifierText10264); if (state.failed) return text;
 					}
 
 					}
 					break;
 				case 3 :
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1202:11: ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1222:11: ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE )
 					{
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1202:11: ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1203:12: QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1222:11: ( QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1223:12: QUOTE_DOUBLE id2= IDENTIFIER ( DIV id3= IDENTIFIER )* DOT (id4= IDENTIFIER ) QUOTE_DOUBLE
 					{
-					match(input,QUOTE_DOUBLE,FOLLOW_QUOTE_DOUBLE_in_identifierText10161); if (state.failed) return text;
-					id2=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10178); if (state.failed) return text;
+					match(input,QUOTE_DOUBLE,FOLLOW_QUOTE_DOUBLE_in_identifierText10320); if (state.failed) return text;
+					id2=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10337); if (state.failed) return text;
 					if ( state.backtracking==0 ) {
 									        text = (id2!=null?id2.getText():null);
 								}
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1207:11: ( DIV id3= IDENTIFIER )*
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1227:11: ( DIV id3= IDENTIFIER )*
 					loop51:
 					while (true) {
 						int alt51=2;
@@ -4579,10 +4657,10 @@ public class FunSQLParser extends Parser {
 
 						switch (alt51) {
 						case 1 :
-							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1208:13: DIV id3= IDENTIFIER
+							// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1228:13: DIV id3= IDENTIFIER
 							{
-							match(input,DIV,FOLLOW_DIV_in_identifierText10208); if (state.failed) return text;
-							id3=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10226); if (state.failed) return text;
+							match(input,DIV,FOLLOW_DIV_in_identifierText10367); if (state.failed) return text;
+							id3=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10385); if (state.failed) return text;
 							if ( state.backtracking==0 ) {
 												        text += "/";
 												        text += (id3!=null?id3.getText():null);
@@ -4595,18 +4673,18 @@ public class FunSQLParser extends Parser {
 						}
 					}
 
-					match(input,DOT,FOLLOW_DOT_in_identifierText10239); if (state.failed) return text;
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1215:4: (id4= IDENTIFIER )
-					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1216:5: id4= IDENTIFIER
+					match(input,DOT,FOLLOW_DOT_in_identifierText10398); if (state.failed) return text;
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1235:4: (id4= IDENTIFIER )
+					// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1236:5: id4= IDENTIFIER
 					{
-					id4=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10254); if (state.failed) return text;
+					id4=(Token)match(input,IDENTIFIER,FOLLOW_IDENTIFIER_in_identifierText10413); if (state.failed) return text;
 					if ( state.backtracking==0 ) {
 								        	text += ".";
 								        	text += (id4!=null?id4.getText():null);
 								        }
 					}
 
-					match(input,QUOTE_DOUBLE,FOLLOW_QUOTE_DOUBLE_in_identifierText10287); if (state.failed) return text;
+					match(input,QUOTE_DOUBLE,FOLLOW_QUOTE_DOUBLE_in_identifierText10446); if (state.failed) return text;
 					}
 
 					}
@@ -4625,7 +4703,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 43, identifierText_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 44, identifierText_StartIndex); }
 
 		}
 		return text;
@@ -4638,16 +4716,16 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenAddOperator"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1226:1: tokenAddOperator : ( PLUS | MINUS ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1246:1: tokenAddOperator : ( PLUS | MINUS ) ;
 	public final FunSQLParser.tokenAddOperator_return tokenAddOperator() throws RecognitionException {
 		FunSQLParser.tokenAddOperator_return retval = new FunSQLParser.tokenAddOperator_return();
 		retval.start = input.LT(1);
 		int tokenAddOperator_StartIndex = input.index();
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 44) ) { return retval; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 45) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1227:5: ( ( PLUS | MINUS ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1247:5: ( ( PLUS | MINUS ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)==MINUS||input.LA(1)==PLUS ) {
@@ -4673,7 +4751,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 44, tokenAddOperator_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 45, tokenAddOperator_StartIndex); }
 
 		}
 		return retval;
@@ -4686,16 +4764,16 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenMultOperator"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1234:1: tokenMultOperator : ( MULT | DIV ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1254:1: tokenMultOperator : ( MULT | DIV ) ;
 	public final FunSQLParser.tokenMultOperator_return tokenMultOperator() throws RecognitionException {
 		FunSQLParser.tokenMultOperator_return retval = new FunSQLParser.tokenMultOperator_return();
 		retval.start = input.LT(1);
 		int tokenMultOperator_StartIndex = input.index();
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 45) ) { return retval; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 46) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1235:5: ( ( MULT | DIV ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1255:5: ( ( MULT | DIV ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)==DIV||input.LA(1)==MULT ) {
@@ -4721,7 +4799,7 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 45, tokenMultOperator_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 46, tokenMultOperator_StartIndex); }
 
 		}
 		return retval;
@@ -4734,16 +4812,16 @@ public class FunSQLParser extends Parser {
 
 
 	// $ANTLR start "tokenCompOperator"
-	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1242:1: tokenCompOperator : ( EQUAL1 | NOT_EQUAL1 | NOT_EQUAL2 | LESS_THAN | LESS_EQUAL1 | LESS_EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | KEYWORD_LIKE ) ;
+	// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1262:1: tokenCompOperator : ( EQUAL1 | NOT_EQUAL1 | NOT_EQUAL2 | LESS_THAN | LESS_EQUAL1 | LESS_EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | KEYWORD_LIKE ) ;
 	public final FunSQLParser.tokenCompOperator_return tokenCompOperator() throws RecognitionException {
 		FunSQLParser.tokenCompOperator_return retval = new FunSQLParser.tokenCompOperator_return();
 		retval.start = input.LT(1);
 		int tokenCompOperator_StartIndex = input.index();
 
 		try {
-			if ( state.backtracking>0 && alreadyParsedRule(input, 46) ) { return retval; }
+			if ( state.backtracking>0 && alreadyParsedRule(input, 47) ) { return retval; }
 
-			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1243:5: ( ( EQUAL1 | NOT_EQUAL1 | NOT_EQUAL2 | LESS_THAN | LESS_EQUAL1 | LESS_EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | KEYWORD_LIKE ) )
+			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:1263:5: ( ( EQUAL1 | NOT_EQUAL1 | NOT_EQUAL2 | LESS_THAN | LESS_EQUAL1 | LESS_EQUAL2 | GREATER_EQUAL1 | GREATER_EQUAL2 | GREATER_THAN | KEYWORD_LIKE ) )
 			// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:
 			{
 			if ( input.LA(1)==EQUAL1||(input.LA(1) >= GREATER_EQUAL1 && input.LA(1) <= GREATER_THAN)||input.LA(1)==KEYWORD_LIKE||(input.LA(1) >= LESS_EQUAL1 && input.LA(1) <= LESS_THAN)||(input.LA(1) >= NOT_EQUAL1 && input.LA(1) <= NOT_EQUAL2) ) {
@@ -4769,58 +4847,58 @@ public class FunSQLParser extends Parser {
 
 		finally {
 			// do for sure before leaving
-			if ( state.backtracking>0 ) { memoize(input, 46, tokenCompOperator_StartIndex); }
+			if ( state.backtracking>0 ) { memoize(input, 47, tokenCompOperator_StartIndex); }
 
 		}
 		return retval;
 	}
 	// $ANTLR end "tokenCompOperator"
 
-	// $ANTLR start synpred45_FunSQL
-	public final void synpred45_FunSQL_fragment() throws RecognitionException {
+	// $ANTLR start synpred46_FunSQL
+	public final void synpred46_FunSQL_fragment() throws RecognitionException {
 		AbstractPredicate predicate1 =null;
 
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:703:3: (predicate1= parenPredicate )
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:703:3: predicate1= parenPredicate
+		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:723:3: (predicate1= parenPredicate )
+		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:723:3: predicate1= parenPredicate
 		{
-		pushFollow(FOLLOW_parenPredicate_in_synpred45_FunSQL7110);
+		pushFollow(FOLLOW_parenPredicate_in_synpred46_FunSQL7269);
 		predicate1=parenPredicate();
 		state._fsp--;
 		if (state.failed) return;
 		}
 
 	}
-	// $ANTLR end synpred45_FunSQL
+	// $ANTLR end synpred46_FunSQL
 
-	// $ANTLR start synpred56_FunSQL
-	public final void synpred56_FunSQL_fragment() throws RecognitionException {
+	// $ANTLR start synpred57_FunSQL
+	public final void synpred57_FunSQL_fragment() throws RecognitionException {
 		TokenIdentifier schema1 =null;
 		TokenIdentifier id1 =null;
 
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:912:9: ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) )
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:912:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
+		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:932:9: ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) )
+		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:932:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
 		{
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:912:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:913:17: (schema1= tokenIdentifier DOT )? id1= tokenIdentifier
+		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:932:9: ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier )
+		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:933:17: (schema1= tokenIdentifier DOT )? id1= tokenIdentifier
 		{
-		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:913:17: (schema1= tokenIdentifier DOT )?
+		// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:933:17: (schema1= tokenIdentifier DOT )?
 		int alt75=2;
 		alt75 = dfa75.predict(input);
 		switch (alt75) {
 			case 1 :
-				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:914:17: schema1= tokenIdentifier DOT
+				// /Users/cbinnig/Workspace/XDB/src/org/xdb/funsql/compile/antlr/FunSQL.g:934:17: schema1= tokenIdentifier DOT
 				{
-				pushFollow(FOLLOW_tokenIdentifier_in_synpred56_FunSQL8158);
+				pushFollow(FOLLOW_tokenIdentifier_in_synpred57_FunSQL8317);
 				schema1=tokenIdentifier();
 				state._fsp--;
 				if (state.failed) return;
-				match(input,DOT,FOLLOW_DOT_in_synpred56_FunSQL8178); if (state.failed) return;
+				match(input,DOT,FOLLOW_DOT_in_synpred57_FunSQL8337); if (state.failed) return;
 				}
 				break;
 
 		}
 
-		pushFollow(FOLLOW_tokenIdentifier_in_synpred56_FunSQL8235);
+		pushFollow(FOLLOW_tokenIdentifier_in_synpred57_FunSQL8394);
 		id1=tokenIdentifier();
 		state._fsp--;
 		if (state.failed) return;
@@ -4829,15 +4907,15 @@ public class FunSQLParser extends Parser {
 		}
 
 	}
-	// $ANTLR end synpred56_FunSQL
+	// $ANTLR end synpred57_FunSQL
 
 	// Delegated rules
 
-	public final boolean synpred56_FunSQL() {
+	public final boolean synpred57_FunSQL() {
 		state.backtracking++;
 		int start = input.mark();
 		try {
-			synpred56_FunSQL_fragment(); // can never throw exception
+			synpred57_FunSQL_fragment(); // can never throw exception
 		} catch (RecognitionException re) {
 			System.err.println("impossible: "+re);
 		}
@@ -4847,11 +4925,11 @@ public class FunSQLParser extends Parser {
 		state.failed=false;
 		return success;
 	}
-	public final boolean synpred45_FunSQL() {
+	public final boolean synpred46_FunSQL() {
 		state.backtracking++;
 		int start = input.mark();
 		try {
-			synpred45_FunSQL_fragment(); // can never throw exception
+			synpred46_FunSQL_fragment(); // can never throw exception
 		} catch (RecognitionException re) {
 			System.err.println("impossible: "+re);
 		}
@@ -4875,28 +4953,28 @@ public class FunSQLParser extends Parser {
 	static final String DFA9_eofS =
 		"\15\uffff";
 	static final String DFA9_minS =
-		"\1\15\1\41\1\uffff\1\15\1\41\1\uffff\1\21\1\15\2\41\1\21\1\145\1\15";
+		"\1\15\1\41\1\uffff\1\15\1\41\1\uffff\1\21\1\15\2\41\1\21\1\146\1\15";
 	static final String DFA9_maxS =
-		"\1\152\1\145\1\uffff\1\152\1\41\1\uffff\1\145\1\152\2\41\1\23\1\145\1"+
-		"\152";
+		"\1\153\1\146\1\uffff\1\153\1\41\1\uffff\1\146\1\153\2\41\1\23\1\146\1"+
+		"\153";
 	static final String DFA9_acceptS =
 		"\2\uffff\1\2\2\uffff\1\1\7\uffff";
 	static final String DFA9_specialS =
 		"\15\uffff}>";
 	static final String[] DFA9_transitionS = {
-			"\1\1\134\uffff\1\2",
-			"\1\3\103\uffff\1\4",
+			"\1\1\135\uffff\1\2",
+			"\1\3\104\uffff\1\4",
 			"",
-			"\1\5\50\uffff\1\2\15\uffff\1\2\45\uffff\1\5",
+			"\1\5\51\uffff\1\2\15\uffff\1\2\45\uffff\1\5",
 			"\1\6",
 			"",
-			"\1\10\1\uffff\1\11\121\uffff\1\7",
-			"\1\5\50\uffff\1\2\15\uffff\1\2\45\uffff\1\5",
+			"\1\10\1\uffff\1\11\122\uffff\1\7",
+			"\1\5\51\uffff\1\2\15\uffff\1\2\45\uffff\1\5",
 			"\1\12",
 			"\1\13",
 			"\1\10\1\uffff\1\11",
 			"\1\14",
-			"\1\5\50\uffff\1\2\15\uffff\1\2\45\uffff\1\5"
+			"\1\5\51\uffff\1\2\15\uffff\1\2\45\uffff\1\5"
 	};
 
 	static final short[] DFA9_eot = DFA.unpackEncodedString(DFA9_eotS);
@@ -4930,7 +5008,7 @@ public class FunSQLParser extends Parser {
 		}
 		@Override
 		public String getDescription() {
-			return "()* loopback of 353:23: ( COMMA c3= tokenIdentifier )*";
+			return "()* loopback of 359:23: ( COMMA c3= tokenIdentifier )*";
 		}
 	}
 
@@ -4939,28 +5017,28 @@ public class FunSQLParser extends Parser {
 	static final String DFA11_eofS =
 		"\15\uffff";
 	static final String DFA11_minS =
-		"\1\15\1\uffff\1\41\1\15\1\41\1\uffff\1\21\1\15\2\41\1\21\1\145\1\15";
+		"\1\15\1\uffff\1\41\1\15\1\41\1\uffff\1\21\1\15\2\41\1\21\1\146\1\15";
 	static final String DFA11_maxS =
-		"\1\152\1\uffff\1\145\1\152\1\41\1\uffff\1\145\1\152\2\41\1\23\1\145\1"+
-		"\152";
+		"\1\153\1\uffff\1\146\1\153\1\41\1\uffff\1\146\1\153\2\41\1\23\1\146\1"+
+		"\153";
 	static final String DFA11_acceptS =
 		"\1\uffff\1\2\3\uffff\1\1\7\uffff";
 	static final String DFA11_specialS =
 		"\15\uffff}>";
 	static final String[] DFA11_transitionS = {
-			"\1\2\134\uffff\1\1",
+			"\1\2\135\uffff\1\1",
 			"",
-			"\1\3\103\uffff\1\4",
-			"\1\5\50\uffff\1\1\15\uffff\1\1\45\uffff\1\5",
+			"\1\3\104\uffff\1\4",
+			"\1\5\51\uffff\1\1\15\uffff\1\1\45\uffff\1\5",
 			"\1\6",
 			"",
-			"\1\10\1\uffff\1\11\121\uffff\1\7",
-			"\1\5\50\uffff\1\1\15\uffff\1\1\45\uffff\1\5",
+			"\1\10\1\uffff\1\11\122\uffff\1\7",
+			"\1\5\51\uffff\1\1\15\uffff\1\1\45\uffff\1\5",
 			"\1\12",
 			"\1\13",
 			"\1\10\1\uffff\1\11",
 			"\1\14",
-			"\1\5\50\uffff\1\1\15\uffff\1\1\45\uffff\1\5"
+			"\1\5\51\uffff\1\1\15\uffff\1\1\45\uffff\1\5"
 	};
 
 	static final short[] DFA11_eot = DFA.unpackEncodedString(DFA11_eotS);
@@ -4994,7 +5072,7 @@ public class FunSQLParser extends Parser {
 		}
 		@Override
 		public String getDescription() {
-			return "()* loopback of 381:25: ( COMMA c3= tokenIdentifier )*";
+			return "()* loopback of 387:25: ( COMMA c3= tokenIdentifier )*";
 		}
 	}
 
@@ -5003,24 +5081,24 @@ public class FunSQLParser extends Parser {
 	static final String DFA41_eofS =
 		"\1\uffff\1\4\4\uffff\1\4\4\uffff\1\4";
 	static final String DFA41_minS =
-		"\1\41\1\15\1\41\2\uffff\1\21\1\15\2\41\1\21\1\145\1\15";
+		"\1\41\1\15\1\41\2\uffff\1\21\1\15\2\41\1\21\1\146\1\15";
 	static final String DFA41_maxS =
-		"\1\145\1\154\1\41\2\uffff\1\145\1\154\2\41\1\23\1\145\1\154";
+		"\1\146\1\155\1\41\2\uffff\1\146\1\155\2\41\1\23\1\146\1\155";
 	static final String DFA41_acceptS =
 		"\3\uffff\1\1\1\2\7\uffff";
 	static final String DFA41_specialS =
 		"\14\uffff}>";
 	static final String[] DFA41_transitionS = {
-			"\1\1\103\uffff\1\2",
-			"\1\4\3\uffff\1\4\1\uffff\1\3\2\uffff\1\4\4\uffff\3\4\7\uffff\2\4\13"+
+			"\1\1\104\uffff\1\2",
+			"\1\4\3\uffff\1\4\1\uffff\1\3\2\uffff\1\4\4\uffff\3\4\10\uffff\2\4\13"+
 			"\uffff\1\4\1\uffff\2\4\3\uffff\1\4\4\uffff\1\4\4\uffff\1\4\14\uffff\3"+
 			"\4\5\uffff\1\4\1\uffff\1\4\1\uffff\2\4\3\uffff\1\4\10\uffff\1\4\1\uffff"+
 			"\1\4",
 			"\1\5",
 			"",
 			"",
-			"\1\7\1\uffff\1\10\121\uffff\1\6",
-			"\1\4\3\uffff\1\4\1\uffff\1\3\2\uffff\1\4\4\uffff\3\4\7\uffff\2\4\13"+
+			"\1\7\1\uffff\1\10\122\uffff\1\6",
+			"\1\4\3\uffff\1\4\1\uffff\1\3\2\uffff\1\4\4\uffff\3\4\10\uffff\2\4\13"+
 			"\uffff\1\4\1\uffff\2\4\3\uffff\1\4\4\uffff\1\4\4\uffff\1\4\14\uffff\3"+
 			"\4\5\uffff\1\4\1\uffff\1\4\1\uffff\2\4\3\uffff\1\4\10\uffff\1\4\1\uffff"+
 			"\1\4",
@@ -5028,7 +5106,7 @@ public class FunSQLParser extends Parser {
 			"\1\12",
 			"\1\7\1\uffff\1\10",
 			"\1\13",
-			"\1\4\3\uffff\1\4\1\uffff\1\3\2\uffff\1\4\4\uffff\3\4\7\uffff\2\4\13"+
+			"\1\4\3\uffff\1\4\1\uffff\1\3\2\uffff\1\4\4\uffff\3\4\10\uffff\2\4\13"+
 			"\uffff\1\4\1\uffff\2\4\3\uffff\1\4\4\uffff\1\4\4\uffff\1\4\14\uffff\3"+
 			"\4\5\uffff\1\4\1\uffff\1\4\1\uffff\2\4\3\uffff\1\4\10\uffff\1\4\1\uffff"+
 			"\1\4"
@@ -5065,7 +5143,7 @@ public class FunSQLParser extends Parser {
 		}
 		@Override
 		public String getDescription() {
-			return "893:17: (table1= tokenIdentifier DOT )?";
+			return "913:17: (table1= tokenIdentifier DOT )?";
 		}
 	}
 
@@ -5074,20 +5152,20 @@ public class FunSQLParser extends Parser {
 	static final String DFA44_eofS =
 		"\14\uffff";
 	static final String DFA44_minS =
-		"\1\14\1\0\1\41\2\uffff\1\21\1\0\2\41\1\21\1\145\1\0";
+		"\1\14\1\0\1\41\2\uffff\1\21\1\0\2\41\1\21\1\146\1\0";
 	static final String DFA44_maxS =
-		"\1\145\1\0\1\41\2\uffff\1\145\1\0\2\41\1\23\1\145\1\0";
+		"\1\146\1\0\1\41\2\uffff\1\146\1\0\2\41\1\23\1\146\1\0";
 	static final String DFA44_acceptS =
 		"\3\uffff\1\2\1\1\7\uffff";
 	static final String DFA44_specialS =
-		"\1\uffff\1\2\4\uffff\1\0\4\uffff\1\1}>";
+		"\1\uffff\1\0\4\uffff\1\1\4\uffff\1\2}>";
 	static final String[] DFA44_transitionS = {
-			"\1\3\24\uffff\1\1\103\uffff\1\2",
+			"\1\3\24\uffff\1\1\104\uffff\1\2",
 			"\1\uffff",
 			"\1\5",
 			"",
 			"",
-			"\1\7\1\uffff\1\10\121\uffff\1\6",
+			"\1\7\1\uffff\1\10\122\uffff\1\6",
 			"\1\uffff",
 			"\1\11",
 			"\1\12",
@@ -5127,7 +5205,7 @@ public class FunSQLParser extends Parser {
 		}
 		@Override
 		public String getDescription() {
-			return "907:1: tokenTable returns [TokenTable table] : ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) | ( ( COLON )? id1= tokenIdentifier ) );";
+			return "927:1: tokenTable returns [TokenTable table] : ( ( (schema1= tokenIdentifier DOT )? id1= tokenIdentifier ) | ( ( COLON )? id1= tokenIdentifier ) );";
 		}
 		@Override
 		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
@@ -5135,41 +5213,41 @@ public class FunSQLParser extends Parser {
 			int _s = s;
 			switch ( s ) {
 					case 0 : 
-						int LA44_6 = input.LA(1);
+						int LA44_1 = input.LA(1);
 						 
-						int index44_6 = input.index();
+						int index44_1 = input.index();
 						input.rewind();
 						s = -1;
-						if ( (synpred56_FunSQL()) ) {s = 4;}
+						if ( (synpred57_FunSQL()) ) {s = 4;}
 						else if ( (true) ) {s = 3;}
 						 
-						input.seek(index44_6);
+						input.seek(index44_1);
 						if ( s>=0 ) return s;
 						break;
 
 					case 1 : 
-						int LA44_11 = input.LA(1);
+						int LA44_6 = input.LA(1);
 						 
-						int index44_11 = input.index();
+						int index44_6 = input.index();
 						input.rewind();
 						s = -1;
-						if ( (synpred56_FunSQL()) ) {s = 4;}
+						if ( (synpred57_FunSQL()) ) {s = 4;}
 						else if ( (true) ) {s = 3;}
 						 
-						input.seek(index44_11);
+						input.seek(index44_6);
 						if ( s>=0 ) return s;
 						break;
 
 					case 2 : 
-						int LA44_1 = input.LA(1);
+						int LA44_11 = input.LA(1);
 						 
-						int index44_1 = input.index();
+						int index44_11 = input.index();
 						input.rewind();
 						s = -1;
-						if ( (synpred56_FunSQL()) ) {s = 4;}
+						if ( (synpred57_FunSQL()) ) {s = 4;}
 						else if ( (true) ) {s = 3;}
 						 
-						input.seek(index44_1);
+						input.seek(index44_11);
 						if ( s>=0 ) return s;
 						break;
 			}
@@ -5186,28 +5264,28 @@ public class FunSQLParser extends Parser {
 	static final String DFA42_eofS =
 		"\1\uffff\1\4\4\uffff\1\4\4\uffff\1\4";
 	static final String DFA42_minS =
-		"\1\41\1\15\1\41\2\uffff\1\21\1\15\2\41\1\21\1\145\1\15";
+		"\1\41\1\15\1\41\2\uffff\1\21\1\15\2\41\1\21\1\146\1\15";
 	static final String DFA42_maxS =
-		"\1\145\1\154\1\41\2\uffff\1\145\1\154\2\41\1\23\1\145\1\154";
+		"\1\146\1\155\1\41\2\uffff\1\146\1\155\2\41\1\23\1\146\1\155";
 	static final String DFA42_acceptS =
 		"\3\uffff\1\1\1\2\7\uffff";
 	static final String DFA42_specialS =
 		"\14\uffff}>";
 	static final String[] DFA42_transitionS = {
-			"\1\1\103\uffff\1\2",
-			"\1\4\5\uffff\1\3\22\uffff\1\4\15\uffff\2\4\12\uffff\1\4\14\uffff\1\4"+
+			"\1\1\104\uffff\1\2",
+			"\1\4\5\uffff\1\3\23\uffff\1\4\15\uffff\2\4\12\uffff\1\4\14\uffff\1\4"+
 			"\10\uffff\1\4\25\uffff\1\4",
 			"\1\5",
 			"",
 			"",
-			"\1\7\1\uffff\1\10\121\uffff\1\6",
-			"\1\4\5\uffff\1\3\22\uffff\1\4\15\uffff\2\4\12\uffff\1\4\14\uffff\1\4"+
+			"\1\7\1\uffff\1\10\122\uffff\1\6",
+			"\1\4\5\uffff\1\3\23\uffff\1\4\15\uffff\2\4\12\uffff\1\4\14\uffff\1\4"+
 			"\10\uffff\1\4\25\uffff\1\4",
 			"\1\11",
 			"\1\12",
 			"\1\7\1\uffff\1\10",
 			"\1\13",
-			"\1\4\5\uffff\1\3\22\uffff\1\4\15\uffff\2\4\12\uffff\1\4\14\uffff\1\4"+
+			"\1\4\5\uffff\1\3\23\uffff\1\4\15\uffff\2\4\12\uffff\1\4\14\uffff\1\4"+
 			"\10\uffff\1\4\25\uffff\1\4"
 	};
 
@@ -5242,7 +5320,7 @@ public class FunSQLParser extends Parser {
 		}
 		@Override
 		public String getDescription() {
-			return "913:17: (schema1= tokenIdentifier DOT )?";
+			return "933:17: (schema1= tokenIdentifier DOT )?";
 		}
 	}
 
@@ -5251,26 +5329,26 @@ public class FunSQLParser extends Parser {
 	static final String DFA45_eofS =
 		"\1\uffff\1\4\4\uffff\1\4\4\uffff\1\4";
 	static final String DFA45_minS =
-		"\1\41\1\23\1\41\2\uffff\1\21\1\23\2\41\1\21\1\145\1\23";
+		"\1\41\1\23\1\41\2\uffff\1\21\1\23\2\41\1\21\1\146\1\23";
 	static final String DFA45_maxS =
-		"\1\145\1\154\1\41\2\uffff\1\145\1\154\2\41\1\23\1\145\1\154";
+		"\1\146\1\155\1\41\2\uffff\1\146\1\155\2\41\1\23\1\146\1\155";
 	static final String DFA45_acceptS =
 		"\3\uffff\1\1\1\2\7\uffff";
 	static final String DFA45_specialS =
 		"\14\uffff}>";
 	static final String[] DFA45_transitionS = {
-			"\1\1\103\uffff\1\2",
-			"\1\3\102\uffff\1\4\25\uffff\1\4",
+			"\1\1\104\uffff\1\2",
+			"\1\3\103\uffff\1\4\25\uffff\1\4",
 			"\1\5",
 			"",
 			"",
-			"\1\7\1\uffff\1\10\121\uffff\1\6",
-			"\1\3\102\uffff\1\4\25\uffff\1\4",
+			"\1\7\1\uffff\1\10\122\uffff\1\6",
+			"\1\3\103\uffff\1\4\25\uffff\1\4",
 			"\1\11",
 			"\1\12",
 			"\1\7\1\uffff\1\10",
 			"\1\13",
-			"\1\3\102\uffff\1\4\25\uffff\1\4"
+			"\1\3\103\uffff\1\4\25\uffff\1\4"
 	};
 
 	static final short[] DFA45_eot = DFA.unpackEncodedString(DFA45_eotS);
@@ -5304,7 +5382,7 @@ public class FunSQLParser extends Parser {
 		}
 		@Override
 		public String getDescription() {
-			return "953:33: (schema1= tokenIdentifier DOT )?";
+			return "973:33: (schema1= tokenIdentifier DOT )?";
 		}
 	}
 
@@ -5313,20 +5391,20 @@ public class FunSQLParser extends Parser {
 	static final String DFA75_eofS =
 		"\1\uffff\1\4\4\uffff\1\4\4\uffff\1\4";
 	static final String DFA75_minS =
-		"\1\41\1\23\1\41\2\uffff\1\21\1\23\2\41\1\21\1\145\1\23";
+		"\1\41\1\23\1\41\2\uffff\1\21\1\23\2\41\1\21\1\146\1\23";
 	static final String DFA75_maxS =
-		"\1\145\1\23\1\41\2\uffff\1\145\1\23\2\41\1\23\1\145\1\23";
+		"\1\146\1\23\1\41\2\uffff\1\146\1\23\2\41\1\23\1\146\1\23";
 	static final String DFA75_acceptS =
 		"\3\uffff\1\1\1\2\7\uffff";
 	static final String DFA75_specialS =
 		"\14\uffff}>";
 	static final String[] DFA75_transitionS = {
-			"\1\1\103\uffff\1\2",
+			"\1\1\104\uffff\1\2",
 			"\1\3",
 			"\1\5",
 			"",
 			"",
-			"\1\7\1\uffff\1\10\121\uffff\1\6",
+			"\1\7\1\uffff\1\10\122\uffff\1\6",
 			"\1\3",
 			"\1\11",
 			"\1\12",
@@ -5366,272 +5444,276 @@ public class FunSQLParser extends Parser {
 		}
 		@Override
 		public String getDescription() {
-			return "913:17: (schema1= tokenIdentifier DOT )?";
+			return "933:17: (schema1= tokenIdentifier DOT )?";
 		}
 	}
 
-	public static final BitSet FOLLOW_createSchemaStatement_in_statement1106 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_dropSchemaStatement_in_statement1161 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_createConnectionStatement_in_statement1216 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_dropConnectionStatement_in_statement1271 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_createTableStatement_in_statement1326 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_dropTableStatement_in_statement1381 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_createFunctionStatement_in_statement1436 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_dropFunctionStatement_in_statement1491 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_callFunctionStatement_in_statement1546 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_selectStatement_in_statement1601 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_loadDataInfileStatement_in_statement1655 = new BitSet(new long[]{0x0000000000000002L,0x0000100000000000L});
-	public static final BitSet FOLLOW_SEMI_in_statement1709 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_CREATE_in_createSchemaStatement1787 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000020L});
-	public static final BitSet FOLLOW_KEYWORD_SCHEMA_in_createSchemaStatement1805 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenSchema_in_createSchemaStatement1823 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_DROP_in_dropSchemaStatement1902 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000020L});
-	public static final BitSet FOLLOW_KEYWORD_SCHEMA_in_dropSchemaStatement1920 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenSchema_in_dropSchemaStatement1938 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_CREATE_in_createConnectionStatement2017 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createConnectionStatement2035 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createConnectionStatement2053 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
-	public static final BitSet FOLLOW_KEYWORD_URL_in_createConnectionStatement2073 = new BitSet(new long[]{0x0000000000000000L,0x0000000000200000L});
-	public static final BitSet FOLLOW_tokenStringLiteral_in_createConnectionStatement2093 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
-	public static final BitSet FOLLOW_KEYWORD_USER_in_createConnectionStatement2113 = new BitSet(new long[]{0x0000000000000000L,0x0000000000200000L});
-	public static final BitSet FOLLOW_tokenStringLiteral_in_createConnectionStatement2133 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000004L});
-	public static final BitSet FOLLOW_KEYWORD_PASSWD_in_createConnectionStatement2153 = new BitSet(new long[]{0x0000000000000000L,0x0000000000200000L});
-	public static final BitSet FOLLOW_tokenStringLiteral_in_createConnectionStatement2173 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000080L});
-	public static final BitSet FOLLOW_KEYWORD_STORE_in_createConnectionStatement2193 = new BitSet(new long[]{0x0000000000000000L,0x0000000000200000L});
-	public static final BitSet FOLLOW_tokenStringLiteral_in_createConnectionStatement2213 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_DROP_in_dropConnectionStatement2300 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_dropConnectionStatement2318 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_dropConnectionStatement2336 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_CREATE_in_createTableStatement2416 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000200L});
-	public static final BitSet FOLLOW_KEYWORD_TABLE_in_createTableStatement2434 = new BitSet(new long[]{0x0000000200001000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenTable_in_createTableStatement2454 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
-	public static final BitSet FOLLOW_LPAREN_in_createTableStatement2474 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_identifierText_in_createTableStatement2494 = new BitSet(new long[]{0x0000000000000000L,0x001E000000000000L});
-	public static final BitSet FOLLOW_tokenDataType_in_createTableStatement2532 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_COMMA_in_createTableStatement2586 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_identifierText_in_createTableStatement2606 = new BitSet(new long[]{0x0000000000000000L,0x001E000000000000L});
-	public static final BitSet FOLLOW_tokenDataType_in_createTableStatement2644 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_createTableStatement2699 = new BitSet(new long[]{0x0040000000000002L,0x0000000000000012L});
-	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement2776 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement2778 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement2802 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_REPLICATED_in_createTableStatement2887 = new BitSet(new long[]{0x0040000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement2889 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement2891 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement2916 = new BitSet(new long[]{0x0000000000002002L,0x0000000000000002L});
-	public static final BitSet FOLLOW_COMMA_in_createTableStatement2965 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement2992 = new BitSet(new long[]{0x0000000000002002L,0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_PARTITIONED_in_createTableStatement3143 = new BitSet(new long[]{0x0000020000000000L});
-	public static final BitSet FOLLOW_KEYWORD_BY_in_createTableStatement3145 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_identifierText_in_createTableStatement3166 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
-	public static final BitSet FOLLOW_LPAREN_in_createTableStatement3236 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenAttribute_in_createTableStatement3256 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000008L});
-	public static final BitSet FOLLOW_KEYWORD_REFERENCES_in_createTableStatement3295 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenAttribute_in_createTableStatement3299 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_COMMA_in_createTableStatement3357 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenAttribute_in_createTableStatement3379 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000008L});
-	public static final BitSet FOLLOW_KEYWORD_REFERENCES_in_createTableStatement3422 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenAttribute_in_createTableStatement3426 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_createTableStatement3485 = new BitSet(new long[]{0x0000000000000002L,0x0000000000400000L});
-	public static final BitSet FOLLOW_LPAREN_in_createTableStatement3577 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_identifierText_in_createTableStatement3599 = new BitSet(new long[]{0x0040000000000000L,0x0000000000000010L});
-	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement3688 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement3690 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement3716 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_KEYWORD_REPLICATED_in_createTableStatement3808 = new BitSet(new long[]{0x0040000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement3810 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement3812 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement3838 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_COMMA_in_createTableStatement3890 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement3919 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_COMMA_in_createTableStatement4051 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_identifierText_in_createTableStatement4075 = new BitSet(new long[]{0x0040000000000000L,0x0000000000000010L});
-	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement4173 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement4175 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement4203 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_KEYWORD_REPLICATED_in_createTableStatement4303 = new BitSet(new long[]{0x0040000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement4305 = new BitSet(new long[]{0x0000080000000000L});
-	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement4307 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement4335 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_COMMA_in_createTableStatement4391 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement4423 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_createTableStatement4562 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_DROP_in_dropTableStatement4708 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000200L});
-	public static final BitSet FOLLOW_KEYWORD_TABLE_in_dropTableStatement4726 = new BitSet(new long[]{0x0000000200001000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenTable_in_dropTableStatement4746 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_CREATE_in_createFunctionStatement4812 = new BitSet(new long[]{0x0008000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_FUNCTION_in_createFunctionStatement4830 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenFunction_in_createFunctionStatement4850 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
-	public static final BitSet FOLLOW_LPAREN_in_createFunctionStatement4866 = new BitSet(new long[]{0x8040000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_IN_in_createFunctionStatement4895 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_createFunctionStatement4915 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000200L});
-	public static final BitSet FOLLOW_KEYWORD_TABLE_in_createFunctionStatement4922 = new BitSet(new long[]{0x0000000000002000L});
-	public static final BitSet FOLLOW_COMMA_in_createFunctionStatement4928 = new BitSet(new long[]{0x8040000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_OUT_in_createFunctionStatement4966 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_createFunctionStatement4986 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000200L});
-	public static final BitSet FOLLOW_KEYWORD_TABLE_in_createFunctionStatement4993 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_COMMA_in_createFunctionStatement5006 = new BitSet(new long[]{0x8000000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_OUT_in_createFunctionStatement5011 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_createFunctionStatement5025 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000200L});
-	public static final BitSet FOLLOW_KEYWORD_TABLE_in_createFunctionStatement5031 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_createFunctionStatement5040 = new BitSet(new long[]{0x0000010000000000L});
-	public static final BitSet FOLLOW_KEYWORD_BEGIN_in_createFunctionStatement5044 = new BitSet(new long[]{0x0002040000001000L,0x0000000000001000L});
-	public static final BitSet FOLLOW_tokenAssignment_in_createFunctionStatement5058 = new BitSet(new long[]{0x0002040000001000L,0x0000000000001000L});
-	public static final BitSet FOLLOW_tokenFunctionCall_in_createFunctionStatement5137 = new BitSet(new long[]{0x0002040000001000L,0x0000000000001000L});
-	public static final BitSet FOLLOW_KEYWORD_END_in_createFunctionStatement5179 = new BitSet(new long[]{0x0000000000000000L,0x0000100000000000L});
-	public static final BitSet FOLLOW_SEMI_in_createFunctionStatement5186 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_DROP_in_dropFunctionStatement5263 = new BitSet(new long[]{0x0008000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_FUNCTION_in_dropFunctionStatement5281 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenFunction_in_dropFunctionStatement5301 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_CALL_in_callFunctionStatement5367 = new BitSet(new long[]{0x0008000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_FUNCTION_in_callFunctionStatement5385 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenFunction_in_callFunctionStatement5405 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_SELECT_in_selectStatement5482 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractExpression_in_selectStatement5502 = new BitSet(new long[]{0x0004004000002000L});
-	public static final BitSet FOLLOW_KEYWORD_AS_in_selectStatement5557 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_selectStatement5578 = new BitSet(new long[]{0x0004000000002000L});
-	public static final BitSet FOLLOW_COMMA_in_selectStatement5652 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractExpression_in_selectStatement5672 = new BitSet(new long[]{0x0004004000002000L});
-	public static final BitSet FOLLOW_KEYWORD_AS_in_selectStatement5727 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_selectStatement5748 = new BitSet(new long[]{0x0004000000002000L});
-	public static final BitSet FOLLOW_KEYWORD_FROM_in_selectStatement5857 = new BitSet(new long[]{0x0000000200001000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenTable_in_selectStatement5877 = new BitSet(new long[]{0x0030004000002002L,0x0000000000002000L});
-	public static final BitSet FOLLOW_KEYWORD_AS_in_selectStatement5933 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_selectStatement5954 = new BitSet(new long[]{0x0030000000002002L,0x0000000000002000L});
-	public static final BitSet FOLLOW_COMMA_in_selectStatement6028 = new BitSet(new long[]{0x0000000200001000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenTable_in_selectStatement6048 = new BitSet(new long[]{0x0030004000002002L,0x0000000000002000L});
-	public static final BitSet FOLLOW_KEYWORD_AS_in_selectStatement6103 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_selectStatement6124 = new BitSet(new long[]{0x0030000000002002L,0x0000000000002000L});
-	public static final BitSet FOLLOW_KEYWORD_WHERE_in_selectStatement6234 = new BitSet(new long[]{0x2000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractPredicate_in_selectStatement6254 = new BitSet(new long[]{0x0030000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_GROUP_in_selectStatement6361 = new BitSet(new long[]{0x0000020000000000L});
-	public static final BitSet FOLLOW_KEYWORD_BY_in_selectStatement6363 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractExpression_in_selectStatement6383 = new BitSet(new long[]{0x0020000000002002L});
-	public static final BitSet FOLLOW_COMMA_in_selectStatement6437 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractExpression_in_selectStatement6457 = new BitSet(new long[]{0x0020000000002002L});
-	public static final BitSet FOLLOW_KEYWORD_HAVING_in_selectStatement6583 = new BitSet(new long[]{0x2000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractPredicate_in_selectStatement6603 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_LOAD_in_loadDataInfileStatement6696 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_KEYWORD_DATA_in_loadDataInfileStatement6706 = new BitSet(new long[]{0x0080000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_INFILE_in_loadDataInfileStatement6716 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_identifierText_in_loadDataInfileStatement6728 = new BitSet(new long[]{0x0100000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_INTO_in_loadDataInfileStatement6740 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000200L});
-	public static final BitSet FOLLOW_KEYWORD_TABLE_in_loadDataInfileStatement6750 = new BitSet(new long[]{0x0000000200001000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenTable_in_loadDataInfileStatement6762 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000001L});
-	public static final BitSet FOLLOW_KEYWORD_PARTITION_in_loadDataInfileStatement6785 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
-	public static final BitSet FOLLOW_LPAREN_in_loadDataInfileStatement6796 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_identifierText_in_loadDataInfileStatement6809 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_COMMA_in_loadDataInfileStatement6834 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_identifierText_in_loadDataInfileStatement6848 = new BitSet(new long[]{0x0000000000002000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_loadDataInfileStatement6873 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_complexPredicateOr_in_abstractPredicate6914 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_complexPredicateAnd_in_complexPredicateOr6952 = new BitSet(new long[]{0x4000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_OR_in_complexPredicateOr6963 = new BitSet(new long[]{0x2000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_complexPredicateAnd_in_complexPredicateOr6971 = new BitSet(new long[]{0x4000000000000002L});
-	public static final BitSet FOLLOW_complexPredicateNot_in_complexPredicateAnd7010 = new BitSet(new long[]{0x0000002000000002L});
-	public static final BitSet FOLLOW_KEYWORD_AND_in_complexPredicateAnd7021 = new BitSet(new long[]{0x2000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_complexPredicateNot_in_complexPredicateAnd7029 = new BitSet(new long[]{0x0000002000000002L});
-	public static final BitSet FOLLOW_KEYWORD_NOT_in_complexPredicateNot7070 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_complexPredicate_in_complexPredicateNot7083 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_parenPredicate_in_complexPredicate7110 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_simplePredicate_in_complexPredicate7125 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LPAREN_in_parenPredicate7150 = new BitSet(new long[]{0x2000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractPredicate_in_parenPredicate7157 = new BitSet(new long[]{0x0000000000000000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_parenPredicate7163 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_abstractExpression_in_simplePredicate7205 = new BitSet(new long[]{0x0200000038400000L,0x0000000030070000L});
-	public static final BitSet FOLLOW_tokenCompOperator_in_simplePredicate7260 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractExpression_in_simplePredicate7298 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_complexExpressionAdd_in_abstractExpression7352 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_complexExpressionMult_in_complexExpressionAdd7382 = new BitSet(new long[]{0x0000000000000002L,0x0000000201000000L});
-	public static final BitSet FOLLOW_tokenAddOperator_in_complexExpressionAdd7395 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_complexExpressionMult_in_complexExpressionAdd7403 = new BitSet(new long[]{0x0000000000000002L,0x0000000201000000L});
-	public static final BitSet FOLLOW_complexExpressionSigned_in_complexExpressionMult7443 = new BitSet(new long[]{0x0000000000020002L,0x0000000004000000L});
-	public static final BitSet FOLLOW_tokenMultOperator_in_complexExpressionMult7456 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_complexExpressionSigned_in_complexExpressionMult7464 = new BitSet(new long[]{0x0000000000020002L,0x0000000004000000L});
-	public static final BitSet FOLLOW_MINUS_in_complexExpressionSigned7506 = new BitSet(new long[]{0x0000000202000000L,0x0002002000780000L});
-	public static final BitSet FOLLOW_PLUS_in_complexExpressionSigned7515 = new BitSet(new long[]{0x0000000202000000L,0x0002002000780000L});
-	public static final BitSet FOLLOW_complexExpression_in_complexExpressionSigned7527 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_parenExpression_in_complexExpression7562 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_aggregationExpression_in_complexExpression7577 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_simpleExpression_in_complexExpression7592 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LPAREN_in_parenExpression7617 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractExpression_in_parenExpression7624 = new BitSet(new long[]{0x0000000000000000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_parenExpression7630 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_FUNCTION_AGGREGATION_in_aggregationExpression7682 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
-	public static final BitSet FOLLOW_LPAREN_in_aggregationExpression7690 = new BitSet(new long[]{0x0000800202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_KEYWORD_DISTINCT_in_aggregationExpression7699 = new BitSet(new long[]{0x0000000202000000L,0x0002002201780000L});
-	public static final BitSet FOLLOW_abstractExpression_in_aggregationExpression7711 = new BitSet(new long[]{0x0000000000000000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_aggregationExpression7717 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenAttribute_in_simpleExpression7792 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenLiteral_in_simpleExpression7848 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_tokenAttribute7976 = new BitSet(new long[]{0x0000000000080000L});
-	public static final BitSet FOLLOW_DOT_in_tokenAttribute7996 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_tokenAttribute8035 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_tokenTable8158 = new BitSet(new long[]{0x0000000000080000L});
-	public static final BitSet FOLLOW_DOT_in_tokenTable8178 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_tokenTable8235 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_COLON_in_tokenTable8302 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_tokenTable8344 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_tokenSchema8425 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_tokenFunction8541 = new BitSet(new long[]{0x0000000000080000L});
-	public static final BitSet FOLLOW_DOT_in_tokenFunction8561 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_tokenFunction8600 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_variableText_in_tokenVariable8680 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_COLON_in_tokenAssignment8747 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_tokenAssignment8759 = new BitSet(new long[]{0x0000000000400000L});
-	public static final BitSet FOLLOW_EQUAL1_in_tokenAssignment8765 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000040L});
-	public static final BitSet FOLLOW_selectStatement_in_tokenAssignment8772 = new BitSet(new long[]{0x0000000000000000L,0x0000100000000000L});
-	public static final BitSet FOLLOW_KEYWORD_VAR_in_tokenAssignment8793 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_tokenAssignment8802 = new BitSet(new long[]{0x0000000000400000L});
-	public static final BitSet FOLLOW_EQUAL1_in_tokenAssignment8808 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000040L});
-	public static final BitSet FOLLOW_selectStatement_in_tokenAssignment8815 = new BitSet(new long[]{0x0000000000000000L,0x0000100000000000L});
-	public static final BitSet FOLLOW_KEYWORD_VAR_in_tokenAssignment8839 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_tokenAssignment8848 = new BitSet(new long[]{0x0000000000400000L});
-	public static final BitSet FOLLOW_EQUAL1_in_tokenAssignment8854 = new BitSet(new long[]{0x0000000000001000L});
-	public static final BitSet FOLLOW_COLON_in_tokenAssignment8865 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_tokenAssignment8877 = new BitSet(new long[]{0x0000000000000000L,0x0000100000000000L});
-	public static final BitSet FOLLOW_SEMI_in_tokenAssignment8888 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_KEYWORD_CALL_in_tokenFunctionCall8920 = new BitSet(new long[]{0x0008000000000000L});
-	public static final BitSet FOLLOW_KEYWORD_FUNCTION_in_tokenFunctionCall8925 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenFunction_in_tokenFunctionCall8932 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
-	public static final BitSet FOLLOW_LPAREN_in_tokenFunctionCall8938 = new BitSet(new long[]{0x0000000000001000L,0x0000000000001000L});
-	public static final BitSet FOLLOW_COLON_in_tokenFunctionCall8949 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_tokenFunctionCall8962 = new BitSet(new long[]{0x0000000000001000L,0x0000000000001000L});
-	public static final BitSet FOLLOW_KEYWORD_VAR_in_tokenFunctionCall8983 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_tokenFunctionCall8993 = new BitSet(new long[]{0x0000000000002000L});
-	public static final BitSet FOLLOW_COMMA_in_tokenFunctionCall9000 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
-	public static final BitSet FOLLOW_KEYWORD_VAR_in_tokenFunctionCall9022 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_tokenVariable_in_tokenFunctionCall9032 = new BitSet(new long[]{0x0000000000000000L,0x0000040000000000L});
-	public static final BitSet FOLLOW_RPAREN_in_tokenFunctionCall9043 = new BitSet(new long[]{0x0000000000000000L,0x0000100000000000L});
-	public static final BitSet FOLLOW_SEMI_in_tokenFunctionCall9048 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_identifierText_in_tokenIdentifier9116 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_TYPE_VARCHAR_in_tokenDataType9197 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_TYPE_INTEGER_in_tokenDataType9235 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_TYPE_DECIMAL_in_tokenDataType9273 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_TYPE_DATE_in_tokenDataType9311 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenIntegerLiteral_in_tokenLiteral9402 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenStringLiteral_in_tokenLiteral9440 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenDecimalLiteral_in_tokenLiteral9478 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenDateLiteral_in_tokenLiteral9516 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LITERAL_STRING_in_tokenStringLiteral9616 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LITERAL_INTEGER_in_tokenIntegerLiteral9696 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LITERAL_DECIMAL_in_tokenDecimalLiteral9786 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_TYPE_DATE_in_tokenDateLiteral9884 = new BitSet(new long[]{0x0000000000000000L,0x0000000000200000L});
-	public static final BitSet FOLLOW_LITERAL_STRING_in_tokenDateLiteral9902 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_IDENTIFIER_in_variableText9961 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10013 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_QUOTE_DOUBLE_in_identifierText10069 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10085 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_QUOTE_DOUBLE_in_identifierText10105 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_QUOTE_DOUBLE_in_identifierText10161 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10178 = new BitSet(new long[]{0x00000000000A0000L});
-	public static final BitSet FOLLOW_DIV_in_identifierText10208 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10226 = new BitSet(new long[]{0x00000000000A0000L});
-	public static final BitSet FOLLOW_DOT_in_identifierText10239 = new BitSet(new long[]{0x0000000200000000L});
-	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10254 = new BitSet(new long[]{0x0000000000000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_QUOTE_DOUBLE_in_identifierText10287 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_parenPredicate_in_synpred45_FunSQL7110 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_synpred56_FunSQL8158 = new BitSet(new long[]{0x0000000000080000L});
-	public static final BitSet FOLLOW_DOT_in_synpred56_FunSQL8178 = new BitSet(new long[]{0x0000000200000000L,0x0000002000000000L});
-	public static final BitSet FOLLOW_tokenIdentifier_in_synpred56_FunSQL8235 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_createSchemaStatement_in_statement1106 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_dropSchemaStatement_in_statement1161 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_createConnectionStatement_in_statement1216 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_dropConnectionStatement_in_statement1271 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_createTableStatement_in_statement1326 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_dropTableStatement_in_statement1381 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_analyzeTableStatement_in_statement1436 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_createFunctionStatement_in_statement1491 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_dropFunctionStatement_in_statement1546 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_callFunctionStatement_in_statement1601 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_selectStatement_in_statement1656 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_loadDataInfileStatement_in_statement1710 = new BitSet(new long[]{0x0000000000000002L,0x0000200000000000L});
+	public static final BitSet FOLLOW_SEMI_in_statement1764 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_CREATE_in_createSchemaStatement1842 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000040L});
+	public static final BitSet FOLLOW_KEYWORD_SCHEMA_in_createSchemaStatement1860 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenSchema_in_createSchemaStatement1878 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_DROP_in_dropSchemaStatement1957 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000040L});
+	public static final BitSet FOLLOW_KEYWORD_SCHEMA_in_dropSchemaStatement1975 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenSchema_in_dropSchemaStatement1993 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_CREATE_in_createConnectionStatement2072 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createConnectionStatement2090 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createConnectionStatement2108 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+	public static final BitSet FOLLOW_KEYWORD_URL_in_createConnectionStatement2128 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
+	public static final BitSet FOLLOW_tokenStringLiteral_in_createConnectionStatement2148 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+	public static final BitSet FOLLOW_KEYWORD_USER_in_createConnectionStatement2168 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
+	public static final BitSet FOLLOW_tokenStringLiteral_in_createConnectionStatement2188 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000008L});
+	public static final BitSet FOLLOW_KEYWORD_PASSWD_in_createConnectionStatement2208 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
+	public static final BitSet FOLLOW_tokenStringLiteral_in_createConnectionStatement2228 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000100L});
+	public static final BitSet FOLLOW_KEYWORD_STORE_in_createConnectionStatement2248 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
+	public static final BitSet FOLLOW_tokenStringLiteral_in_createConnectionStatement2268 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_DROP_in_dropConnectionStatement2355 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_dropConnectionStatement2373 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_dropConnectionStatement2391 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_CREATE_in_createTableStatement2471 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_KEYWORD_TABLE_in_createTableStatement2489 = new BitSet(new long[]{0x0000000200001000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenTable_in_createTableStatement2509 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+	public static final BitSet FOLLOW_LPAREN_in_createTableStatement2529 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_identifierText_in_createTableStatement2549 = new BitSet(new long[]{0x0000000000000000L,0x003C000000000000L});
+	public static final BitSet FOLLOW_tokenDataType_in_createTableStatement2587 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_COMMA_in_createTableStatement2641 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_identifierText_in_createTableStatement2661 = new BitSet(new long[]{0x0000000000000000L,0x003C000000000000L});
+	public static final BitSet FOLLOW_tokenDataType_in_createTableStatement2699 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_createTableStatement2754 = new BitSet(new long[]{0x0080000000000002L,0x0000000000000024L});
+	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement2831 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement2833 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement2857 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000004L});
+	public static final BitSet FOLLOW_KEYWORD_REPLICATED_in_createTableStatement2942 = new BitSet(new long[]{0x0080000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement2944 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement2946 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement2971 = new BitSet(new long[]{0x0000000000002002L,0x0000000000000004L});
+	public static final BitSet FOLLOW_COMMA_in_createTableStatement3020 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement3047 = new BitSet(new long[]{0x0000000000002002L,0x0000000000000004L});
+	public static final BitSet FOLLOW_KEYWORD_PARTITIONED_in_createTableStatement3198 = new BitSet(new long[]{0x0000040000000000L});
+	public static final BitSet FOLLOW_KEYWORD_BY_in_createTableStatement3200 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_identifierText_in_createTableStatement3221 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+	public static final BitSet FOLLOW_LPAREN_in_createTableStatement3291 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenAttribute_in_createTableStatement3311 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000010L});
+	public static final BitSet FOLLOW_KEYWORD_REFERENCES_in_createTableStatement3350 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenAttribute_in_createTableStatement3354 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_COMMA_in_createTableStatement3412 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenAttribute_in_createTableStatement3434 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000010L});
+	public static final BitSet FOLLOW_KEYWORD_REFERENCES_in_createTableStatement3477 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenAttribute_in_createTableStatement3481 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_createTableStatement3540 = new BitSet(new long[]{0x0000000000000002L,0x0000000000800000L});
+	public static final BitSet FOLLOW_LPAREN_in_createTableStatement3632 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_identifierText_in_createTableStatement3654 = new BitSet(new long[]{0x0080000000000000L,0x0000000000000020L});
+	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement3743 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement3745 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement3771 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_KEYWORD_REPLICATED_in_createTableStatement3863 = new BitSet(new long[]{0x0080000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement3865 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement3867 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement3893 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_COMMA_in_createTableStatement3945 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement3974 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_COMMA_in_createTableStatement4106 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_identifierText_in_createTableStatement4130 = new BitSet(new long[]{0x0080000000000000L,0x0000000000000020L});
+	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement4228 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement4230 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement4258 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_KEYWORD_REPLICATED_in_createTableStatement4358 = new BitSet(new long[]{0x0080000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_IN_in_createTableStatement4360 = new BitSet(new long[]{0x0000100000000000L});
+	public static final BitSet FOLLOW_KEYWORD_CONNECTION_in_createTableStatement4362 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement4390 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_COMMA_in_createTableStatement4446 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_createTableStatement4478 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_createTableStatement4617 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_DROP_in_dropTableStatement4763 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_KEYWORD_TABLE_in_dropTableStatement4781 = new BitSet(new long[]{0x0000000200001000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenTable_in_dropTableStatement4801 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_ANALYZE_in_analyzeTableStatement4867 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_KEYWORD_TABLE_in_analyzeTableStatement4885 = new BitSet(new long[]{0x0000000200001000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenTable_in_analyzeTableStatement4905 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_CREATE_in_createFunctionStatement4971 = new BitSet(new long[]{0x0010000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_FUNCTION_in_createFunctionStatement4989 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenFunction_in_createFunctionStatement5009 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+	public static final BitSet FOLLOW_LPAREN_in_createFunctionStatement5025 = new BitSet(new long[]{0x0080000000000000L,0x0000000000000001L});
+	public static final BitSet FOLLOW_KEYWORD_IN_in_createFunctionStatement5054 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_createFunctionStatement5074 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_KEYWORD_TABLE_in_createFunctionStatement5081 = new BitSet(new long[]{0x0000000000002000L});
+	public static final BitSet FOLLOW_COMMA_in_createFunctionStatement5087 = new BitSet(new long[]{0x0080000000000000L,0x0000000000000001L});
+	public static final BitSet FOLLOW_KEYWORD_OUT_in_createFunctionStatement5125 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_createFunctionStatement5145 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_KEYWORD_TABLE_in_createFunctionStatement5152 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_COMMA_in_createFunctionStatement5165 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000001L});
+	public static final BitSet FOLLOW_KEYWORD_OUT_in_createFunctionStatement5170 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_createFunctionStatement5184 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_KEYWORD_TABLE_in_createFunctionStatement5190 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_createFunctionStatement5199 = new BitSet(new long[]{0x0000020000000000L});
+	public static final BitSet FOLLOW_KEYWORD_BEGIN_in_createFunctionStatement5203 = new BitSet(new long[]{0x0004080000001000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_tokenAssignment_in_createFunctionStatement5217 = new BitSet(new long[]{0x0004080000001000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_tokenFunctionCall_in_createFunctionStatement5296 = new BitSet(new long[]{0x0004080000001000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_KEYWORD_END_in_createFunctionStatement5338 = new BitSet(new long[]{0x0000000000000000L,0x0000200000000000L});
+	public static final BitSet FOLLOW_SEMI_in_createFunctionStatement5345 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_DROP_in_dropFunctionStatement5422 = new BitSet(new long[]{0x0010000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_FUNCTION_in_dropFunctionStatement5440 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenFunction_in_dropFunctionStatement5460 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_CALL_in_callFunctionStatement5526 = new BitSet(new long[]{0x0010000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_FUNCTION_in_callFunctionStatement5544 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenFunction_in_callFunctionStatement5564 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_SELECT_in_selectStatement5641 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractExpression_in_selectStatement5661 = new BitSet(new long[]{0x0008008000002000L});
+	public static final BitSet FOLLOW_KEYWORD_AS_in_selectStatement5716 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_selectStatement5737 = new BitSet(new long[]{0x0008000000002000L});
+	public static final BitSet FOLLOW_COMMA_in_selectStatement5811 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractExpression_in_selectStatement5831 = new BitSet(new long[]{0x0008008000002000L});
+	public static final BitSet FOLLOW_KEYWORD_AS_in_selectStatement5886 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_selectStatement5907 = new BitSet(new long[]{0x0008000000002000L});
+	public static final BitSet FOLLOW_KEYWORD_FROM_in_selectStatement6016 = new BitSet(new long[]{0x0000000200001000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenTable_in_selectStatement6036 = new BitSet(new long[]{0x0060008000002002L,0x0000000000004000L});
+	public static final BitSet FOLLOW_KEYWORD_AS_in_selectStatement6092 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_selectStatement6113 = new BitSet(new long[]{0x0060000000002002L,0x0000000000004000L});
+	public static final BitSet FOLLOW_COMMA_in_selectStatement6187 = new BitSet(new long[]{0x0000000200001000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenTable_in_selectStatement6207 = new BitSet(new long[]{0x0060008000002002L,0x0000000000004000L});
+	public static final BitSet FOLLOW_KEYWORD_AS_in_selectStatement6262 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_selectStatement6283 = new BitSet(new long[]{0x0060000000002002L,0x0000000000004000L});
+	public static final BitSet FOLLOW_KEYWORD_WHERE_in_selectStatement6393 = new BitSet(new long[]{0x4000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractPredicate_in_selectStatement6413 = new BitSet(new long[]{0x0060000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_GROUP_in_selectStatement6520 = new BitSet(new long[]{0x0000040000000000L});
+	public static final BitSet FOLLOW_KEYWORD_BY_in_selectStatement6522 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractExpression_in_selectStatement6542 = new BitSet(new long[]{0x0040000000002002L});
+	public static final BitSet FOLLOW_COMMA_in_selectStatement6596 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractExpression_in_selectStatement6616 = new BitSet(new long[]{0x0040000000002002L});
+	public static final BitSet FOLLOW_KEYWORD_HAVING_in_selectStatement6742 = new BitSet(new long[]{0x4000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractPredicate_in_selectStatement6762 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_LOAD_in_loadDataInfileStatement6855 = new BitSet(new long[]{0x0000800000000000L});
+	public static final BitSet FOLLOW_KEYWORD_DATA_in_loadDataInfileStatement6865 = new BitSet(new long[]{0x0100000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_INFILE_in_loadDataInfileStatement6875 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_identifierText_in_loadDataInfileStatement6887 = new BitSet(new long[]{0x0200000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_INTO_in_loadDataInfileStatement6899 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000400L});
+	public static final BitSet FOLLOW_KEYWORD_TABLE_in_loadDataInfileStatement6909 = new BitSet(new long[]{0x0000000200001000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenTable_in_loadDataInfileStatement6921 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_PARTITION_in_loadDataInfileStatement6944 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+	public static final BitSet FOLLOW_LPAREN_in_loadDataInfileStatement6955 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_identifierText_in_loadDataInfileStatement6968 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_COMMA_in_loadDataInfileStatement6993 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_identifierText_in_loadDataInfileStatement7007 = new BitSet(new long[]{0x0000000000002000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_loadDataInfileStatement7032 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_complexPredicateOr_in_abstractPredicate7073 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_complexPredicateAnd_in_complexPredicateOr7111 = new BitSet(new long[]{0x8000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_OR_in_complexPredicateOr7122 = new BitSet(new long[]{0x4000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_complexPredicateAnd_in_complexPredicateOr7130 = new BitSet(new long[]{0x8000000000000002L});
+	public static final BitSet FOLLOW_complexPredicateNot_in_complexPredicateAnd7169 = new BitSet(new long[]{0x0000004000000002L});
+	public static final BitSet FOLLOW_KEYWORD_AND_in_complexPredicateAnd7180 = new BitSet(new long[]{0x4000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_complexPredicateNot_in_complexPredicateAnd7188 = new BitSet(new long[]{0x0000004000000002L});
+	public static final BitSet FOLLOW_KEYWORD_NOT_in_complexPredicateNot7229 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_complexPredicate_in_complexPredicateNot7242 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_parenPredicate_in_complexPredicate7269 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_simplePredicate_in_complexPredicate7284 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LPAREN_in_parenPredicate7309 = new BitSet(new long[]{0x4000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractPredicate_in_parenPredicate7316 = new BitSet(new long[]{0x0000000000000000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_parenPredicate7322 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_abstractExpression_in_simplePredicate7364 = new BitSet(new long[]{0x0400000038400000L,0x00000000600E0000L});
+	public static final BitSet FOLLOW_tokenCompOperator_in_simplePredicate7419 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractExpression_in_simplePredicate7457 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_complexExpressionAdd_in_abstractExpression7511 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_complexExpressionMult_in_complexExpressionAdd7541 = new BitSet(new long[]{0x0000000000000002L,0x0000000402000000L});
+	public static final BitSet FOLLOW_tokenAddOperator_in_complexExpressionAdd7554 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_complexExpressionMult_in_complexExpressionAdd7562 = new BitSet(new long[]{0x0000000000000002L,0x0000000402000000L});
+	public static final BitSet FOLLOW_complexExpressionSigned_in_complexExpressionMult7602 = new BitSet(new long[]{0x0000000000020002L,0x0000000008000000L});
+	public static final BitSet FOLLOW_tokenMultOperator_in_complexExpressionMult7615 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_complexExpressionSigned_in_complexExpressionMult7623 = new BitSet(new long[]{0x0000000000020002L,0x0000000008000000L});
+	public static final BitSet FOLLOW_MINUS_in_complexExpressionSigned7665 = new BitSet(new long[]{0x0000000202000000L,0x0004004000F00000L});
+	public static final BitSet FOLLOW_PLUS_in_complexExpressionSigned7674 = new BitSet(new long[]{0x0000000202000000L,0x0004004000F00000L});
+	public static final BitSet FOLLOW_complexExpression_in_complexExpressionSigned7686 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_parenExpression_in_complexExpression7721 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_aggregationExpression_in_complexExpression7736 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_simpleExpression_in_complexExpression7751 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LPAREN_in_parenExpression7776 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractExpression_in_parenExpression7783 = new BitSet(new long[]{0x0000000000000000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_parenExpression7789 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_FUNCTION_AGGREGATION_in_aggregationExpression7841 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+	public static final BitSet FOLLOW_LPAREN_in_aggregationExpression7849 = new BitSet(new long[]{0x0001000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_KEYWORD_DISTINCT_in_aggregationExpression7858 = new BitSet(new long[]{0x0000000202000000L,0x0004004402F00000L});
+	public static final BitSet FOLLOW_abstractExpression_in_aggregationExpression7870 = new BitSet(new long[]{0x0000000000000000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_aggregationExpression7876 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenAttribute_in_simpleExpression7951 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenLiteral_in_simpleExpression8007 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_tokenAttribute8135 = new BitSet(new long[]{0x0000000000080000L});
+	public static final BitSet FOLLOW_DOT_in_tokenAttribute8155 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_tokenAttribute8194 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_tokenTable8317 = new BitSet(new long[]{0x0000000000080000L});
+	public static final BitSet FOLLOW_DOT_in_tokenTable8337 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_tokenTable8394 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_COLON_in_tokenTable8461 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_tokenTable8503 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_tokenSchema8584 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_tokenFunction8700 = new BitSet(new long[]{0x0000000000080000L});
+	public static final BitSet FOLLOW_DOT_in_tokenFunction8720 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_tokenFunction8759 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_variableText_in_tokenVariable8839 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_COLON_in_tokenAssignment8906 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_tokenAssignment8918 = new BitSet(new long[]{0x0000000000400000L});
+	public static final BitSet FOLLOW_EQUAL1_in_tokenAssignment8924 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000080L});
+	public static final BitSet FOLLOW_selectStatement_in_tokenAssignment8931 = new BitSet(new long[]{0x0000000000000000L,0x0000200000000000L});
+	public static final BitSet FOLLOW_KEYWORD_VAR_in_tokenAssignment8952 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_tokenAssignment8961 = new BitSet(new long[]{0x0000000000400000L});
+	public static final BitSet FOLLOW_EQUAL1_in_tokenAssignment8967 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000080L});
+	public static final BitSet FOLLOW_selectStatement_in_tokenAssignment8974 = new BitSet(new long[]{0x0000000000000000L,0x0000200000000000L});
+	public static final BitSet FOLLOW_KEYWORD_VAR_in_tokenAssignment8998 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_tokenAssignment9007 = new BitSet(new long[]{0x0000000000400000L});
+	public static final BitSet FOLLOW_EQUAL1_in_tokenAssignment9013 = new BitSet(new long[]{0x0000000000001000L});
+	public static final BitSet FOLLOW_COLON_in_tokenAssignment9024 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_tokenAssignment9036 = new BitSet(new long[]{0x0000000000000000L,0x0000200000000000L});
+	public static final BitSet FOLLOW_SEMI_in_tokenAssignment9047 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_KEYWORD_CALL_in_tokenFunctionCall9079 = new BitSet(new long[]{0x0010000000000000L});
+	public static final BitSet FOLLOW_KEYWORD_FUNCTION_in_tokenFunctionCall9084 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenFunction_in_tokenFunctionCall9091 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+	public static final BitSet FOLLOW_LPAREN_in_tokenFunctionCall9097 = new BitSet(new long[]{0x0000000000001000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_COLON_in_tokenFunctionCall9108 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_tokenFunctionCall9121 = new BitSet(new long[]{0x0000000000001000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_KEYWORD_VAR_in_tokenFunctionCall9142 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_tokenFunctionCall9152 = new BitSet(new long[]{0x0000000000002000L});
+	public static final BitSet FOLLOW_COMMA_in_tokenFunctionCall9159 = new BitSet(new long[]{0x0000000000000000L,0x0000000000002000L});
+	public static final BitSet FOLLOW_KEYWORD_VAR_in_tokenFunctionCall9181 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_tokenVariable_in_tokenFunctionCall9191 = new BitSet(new long[]{0x0000000000000000L,0x0000080000000000L});
+	public static final BitSet FOLLOW_RPAREN_in_tokenFunctionCall9202 = new BitSet(new long[]{0x0000000000000000L,0x0000200000000000L});
+	public static final BitSet FOLLOW_SEMI_in_tokenFunctionCall9207 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_identifierText_in_tokenIdentifier9275 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_TYPE_VARCHAR_in_tokenDataType9356 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_TYPE_INTEGER_in_tokenDataType9394 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_TYPE_DECIMAL_in_tokenDataType9432 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_TYPE_DATE_in_tokenDataType9470 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenIntegerLiteral_in_tokenLiteral9561 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenStringLiteral_in_tokenLiteral9599 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenDecimalLiteral_in_tokenLiteral9637 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenDateLiteral_in_tokenLiteral9675 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LITERAL_STRING_in_tokenStringLiteral9775 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LITERAL_INTEGER_in_tokenIntegerLiteral9855 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LITERAL_DECIMAL_in_tokenDecimalLiteral9945 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_TYPE_DATE_in_tokenDateLiteral10043 = new BitSet(new long[]{0x0000000000000000L,0x0000000000400000L});
+	public static final BitSet FOLLOW_LITERAL_STRING_in_tokenDateLiteral10061 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENTIFIER_in_variableText10120 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10172 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTE_DOUBLE_in_identifierText10228 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10244 = new BitSet(new long[]{0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_QUOTE_DOUBLE_in_identifierText10264 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUOTE_DOUBLE_in_identifierText10320 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10337 = new BitSet(new long[]{0x00000000000A0000L});
+	public static final BitSet FOLLOW_DIV_in_identifierText10367 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10385 = new BitSet(new long[]{0x00000000000A0000L});
+	public static final BitSet FOLLOW_DOT_in_identifierText10398 = new BitSet(new long[]{0x0000000200000000L});
+	public static final BitSet FOLLOW_IDENTIFIER_in_identifierText10413 = new BitSet(new long[]{0x0000000000000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_QUOTE_DOUBLE_in_identifierText10446 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_parenPredicate_in_synpred46_FunSQL7269 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_synpred57_FunSQL8317 = new BitSet(new long[]{0x0000000000080000L});
+	public static final BitSet FOLLOW_DOT_in_synpred57_FunSQL8337 = new BitSet(new long[]{0x0000000200000000L,0x0000004000000000L});
+	public static final BitSet FOLLOW_tokenIdentifier_in_synpred57_FunSQL8394 = new BitSet(new long[]{0x0000000000000002L});
 }
@@ -79,18 +79,23 @@ public class EquiJoin extends AbstractBinaryOperator {
 	public String toSqlString() {
 		final HashMap<String, String> vars = new HashMap<String, String>();
 
+		// result might be pruned: find attributes of children by name
+		final List<String> lAliases = getLeftChild().resultAttributesToSQL();
 		final List<String> lAttributes = getLeftChild()
 				.resultAttributesWOTableToSQL();
+		final List<String> rAliases = getRightChild().resultAttributesToSQL();
 		final List<String> rAttributes = getRightChild()
 				.resultAttributesWOTableToSQL();
-		final List<String> aliasVec = resultAttributesToSQL();
-
-		final List<String> lAliases = aliasVec.subList(0, lAttributes.size());
-		final List<String> rAliases = aliasVec.subList(lAttributes.size(),
-				aliasVec.size());
 
-		vars.put("RESULT", SetUtils.buildAliasString(lAttributes, lAliases)
-				+ "," + SetUtils.buildAliasString(rAttributes, rAliases));
+		final List<String> attVec = new Vector<String>();
+		final List<String> aliasVec = resultAttributesToSQL();
+		for (String alias : aliasVec) {
+			int lIdx = lAliases.indexOf(alias);
+			if (lIdx >= 0)
+				attVec.add(lAttributes.get(lIdx));
+			else
+				attVec.add(rAttributes.get(rAliases.indexOf(alias)));
+		}
 
 		HashMap<String, String> joinParams = new HashMap<String, String>();
 		joinParams.put(getLeftChild().getOperatorId().toString(),
@@ -99,8 +104,7 @@ public class EquiJoin extends AbstractBinaryOperator {
 				getRightTokenAttribute().toString());
 
 		String templateString = "";
-		vars.put("RESULT", SetUtils.buildAliasString(lAttributes, lAliases)
-				+ "," + SetUtils.buildAliasString(rAttributes, rAliases));
+		vars.put("RESULT", SetUtils.buildAliasString(attVec, aliasVec));
 
 		int idx = 1;
 		for (AbstractCompileOperator child : this.getChildren()) {
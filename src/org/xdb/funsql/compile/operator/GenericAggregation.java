@@ -119,6 +119,11 @@ public class GenericAggregation extends AbstractUnaryOperator {
 		return this.aggExprs;
 	}
 
+	public void removeAggregationExpression(int i) {
+		this.aggExprs.remove(i);
+		this.aliases.remove(i);
+	}
+
 	//methods
 	public void replaceExpression(Map<AbstractExpression, AbstractExpression> replaceExpr){
 		Vector<AbstractExpression> newAggExprs = new Vector<AbstractExpression>(this.aggExprs.size());
@@ -141,33 +146,27 @@ public class GenericAggregation extends AbstractUnaryOperator {
 		vars.put("AGG_ATTRS", SetUtils.stringifyExprVec(aggExprs));
 		vars.put("GROUP_ATTRS", SetUtils.stringifyExprVec(groupExprs));
 
-		final List<String> aliasVec = resultAttributesToSQL();
-		final List<String> aggrAliases = aliasVec.subList(0, aggExprs.size());
-		final List<String> grpAliases = aliasVec.subList(aggExprs.size(),
-				aliasVec.size());
+		// group expressions might be pruned from result
+		final List<String> resultAliases = resultAttributesToSQL();
+		final boolean pruned = resultAliases.size() < aliases.size();
+		final Vector<String> exprVec = new Vector<String>(aliases.size());
+		final Vector<String> aliasVec = new Vector<String>(aliases.size());
+		for (int i = 0; i < aliases.size(); ++i) {
+			if (pruned && !resultAliases.contains(aliases.get(i).toSqlString()))
+				continue;
 
-		final Vector<String> aggrExprVec = new Vector<String>(aggExprs.size());
-		for (AbstractExpression exp : aggExprs) {
-			aggrExprVec.add(exp.toSqlString());
-		}
-		final Vector<String> groupExprVec = new Vector<String>(
-				groupExprs.size());
-		for (AbstractExpression exp : groupExprs) {
-			groupExprVec.add(exp.toSqlString());
+			AbstractExpression exp = (i < aggExprs.size()) ? aggExprs.get(i)
+					: groupExprs.get(i - aggExprs.size());
+			exprVec.add(exp.toSqlString());
+			aliasVec.add(pruned ? aliases.get(i).toSqlString()
+					: resultAliases.get(i));
 		}
+		vars.put("RESULT", SetUtils.buildAliasString(exprVec, aliasVec));
 
-		StringBuilder resultString =  new StringBuilder(SetUtils.buildAliasString(aggrExprVec, aggrAliases));
-		
 		if(groupExprs.size()>0){
-			resultString.append(AbstractToken.COMMA);
-			resultString.append(AbstractToken.BLANK);
-			resultString.append(SetUtils.buildAliasString(groupExprVec, grpAliases));
-			vars.put("RESULT", resultString.toString());
-			
 			return this.sqlTemplate.toString(vars);
 		}
 		else{
-			vars.put("RESULT", resultString.toString());
 			return this.sqlTemplateWOGroupBy.toString(vars);
 		}
 	}
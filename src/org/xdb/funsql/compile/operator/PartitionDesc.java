@@ -24,6 +24,10 @@ public class PartitionDesc implements Serializable {
 	private String refTable = null;
 	private EnumPartitionType partType = EnumPartitionType.NO_PARTITION;
 	private int partCount = 1;
+	
+	// pruned partitions (null if all partitions are used)
+	private List<Integer> partNums = null;
+	private int tablePartCount = 1;
 
 	// constructors
 	public PartitionDesc() {
@@ -45,6 +49,8 @@ public class PartitionDesc implements Serializable {
 		this.partCount = toCopy.partCount;
 		this.table = toCopy.table;
 		this.refTable = toCopy.refTable;
+		this.partNums = toCopy.partNums;
+		this.tablePartCount = toCopy.tablePartCount;
 	}
 
 	// getters and setters
@@ -52,6 +58,10 @@ public class PartitionDesc implements Serializable {
 		this.partAttributes.add(partAttribute);
 	}
 
+	public List<TokenAttribute> getPartAttributes() {
+		return this.partAttributes;
+	}
+
 	public void setPartitionType(EnumPartitionType partType) {
 		this.partType = partType;
 	}
@@ -76,6 +86,30 @@ public class PartitionDesc implements Serializable {
 		this.refTable = refTable;
 	}
 
+	/**
+	 * Restricts partitioning to given partitions (or resets it to all
+	 * partitions if null). The partition count is the number of given
+	 * partitions.
+	 * 
+	 * @param partNums
+	 */
+	public void setPartitionNumbers(List<Integer> partNums) {
+		if (this.partNums == null)
+			this.tablePartCount = this.partCount;
+
+		this.partNums = partNums;
+		this.partCount = (partNums == null) ? this.tablePartCount : partNums
+				.size();
+	}
+
+	public List<Integer> getPartitionNumbers() {
+		return this.partNums;
+	}
+
+	public boolean isPruned() {
+		return this.partNums != null;
+	}
+
 	public boolean isPartitioned() {
 		return !this.partType.equals(EnumPartitionType.NO_PARTITION);
 	}
@@ -87,6 +121,11 @@ public class PartitionDesc implements Serializable {
 				|| this.partType.isNotPartitioned())
 			return true;
 
+		// false if inputs use different partitions
+		if (this.partNums == null ? partDesc.partNums != null : !this.partNums
+				.equals(partDesc.partNums))
+			return false;
+
 		// false if one of the following checks fail
 		if (partDesc.partCount != this.partCount)
 			return false;
@@ -46,6 +46,12 @@ public class ResultDesc implements Serializable, Cloneable {
 	private PartitionDesc rePartDesc = null; // only set for repartitioning
 	protected int partitionCnt = 1;
 
+	// heavy hitters of re-partitioning attribute are spread over all
+	// partitions (probe side of a join) or replicated to all partitions
+	// (build side of a join)
+	private boolean splitHeavyHitters = false;
+	private boolean replicateHeavyHitters = false;
+
 	// constructors
 	public ResultDesc() {
 		this.attributes = new Vector<TokenAttribute>();
@@ -71,6 +77,8 @@ public class ResultDesc implements Serializable, Cloneable {
 		this.materialize(rDesc.materialize);
 		this.repartition = rDesc.repartition;
 		this.partitionCnt = rDesc.partitionCnt;
+		this.splitHeavyHitters = rDesc.splitHeavyHitters;
+		this.replicateHeavyHitters = rDesc.replicateHeavyHitters;
 
 		if (this.repartition)
 			this.rePartDesc = new PartitionDesc(rDesc.rePartDesc);
@@ -134,6 +142,33 @@ public class ResultDesc implements Serializable, Cloneable {
 		this.repartition = repartition;
 	}
 
+	/**
+	 * Checks if result is broadcast, i.e., re-partitioned without a
+	 * partitioning such that each consumer reads all partitions
+	 * 
+	 * @return
+	 */
+	public boolean broadcast() {
+		return this.repartition && this.rePartDesc != null
+				&& !this.rePartDesc.isPartitioned();
+	}
+
+	public boolean splitHeavyHitters() {
+		return this.splitHeavyHitters;
+	}
+
+	public void splitHeavyHitters(boolean splitHeavyHitters) {
+		this.splitHeavyHitters = splitHeavyHitters;
+	}
+
+	public boolean replicateHeavyHitters() {
+		return this.replicateHeavyHitters;
+	}
+
+	public void replicateHeavyHitters(boolean replicateHeavyHitters) {
+		this.replicateHeavyHitters = replicateHeavyHitters;
+	}
+
 	public int getRePartitionCount() {
 		if (this.repartition)
 			return this.rePartDesc.getPartitionCount();
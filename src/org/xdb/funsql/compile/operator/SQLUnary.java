@@ -248,20 +248,31 @@ public class SQLUnary extends AbstractUnaryOperator {
 			AbstractExpression newExpr = op.getAggregationExpression(i)
 					.replaceAttribtues(this.replaceExprMap);
 			this.aggExpressions.add(newExpr);
+			this.selectExpressions.add(newExpr);
 			newReplaceMap.put(att.getName(), newExpr);
 			i++;
 		}
 
-		// add grouping info
+		// add grouping info (group expressions might be pruned from result)
+		boolean pruned = op.getResult().getNumAttributes() < op.getAliases()
+				.size();
 		int j = 0;
 		while (j < op.getGroupExpressions().size()) {
-			TokenAttribute att = op.getResult().getAttribute(i);
-			this.selectAliases.add(att.getName());
 			AbstractExpression newExpr = op.getGroupExpression(j)
 					.replaceAttribtues(this.replaceExprMap);
 			this.groupExpressions.add(newExpr);
-			newReplaceMap.put(att.getName(), newExpr);
-			i++;
+			TokenIdentifier alias = op.getAlias(op.getAggregationExpressions()
+					.size() + j);
+			if (!pruned
+					|| (i < op.getResult().getNumAttributes() && op
+							.getResult().getAttribute(i).getName()
+							.equals(alias))) {
+				TokenAttribute att = op.getResult().getAttribute(i);
+				this.selectAliases.add(att.getName());
+				this.selectExpressions.add(newExpr);
+				newReplaceMap.put(att.getName(), newExpr);
+				i++;
+			}
 			j++;
 		}
 
@@ -285,6 +296,15 @@ public class SQLUnary extends AbstractUnaryOperator {
 	public boolean renameAttributes(Map<String, String> renamedAttributes,
 			Vector<String> renamedOps) {
 		boolean renamed = super.renameAttributes(renamedAttributes, renamedOps);
+
+		// keep aliases in sync with renamed result
+		for (int i = 0; i < this.selectAliases.size(); ++i) {
+			String alias = this.selectAliases.get(i).getValue();
+			if (renamedAttributes.containsKey(alias)) {
+				this.selectAliases.set(i, new TokenIdentifier(
+						renamedAttributes.get(alias)));
+			}
+		}
 		
 		for (AbstractExpression expr : this.aggExpressions) {
 			ReReNameExpressionVisitor renameVisitor = new ReReNameExpressionVisitor(
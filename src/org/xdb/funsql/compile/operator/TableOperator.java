@@ -36,6 +36,9 @@ public class TableOperator extends AbstractCompileOperator {
 	// meta data attributes
 	private Table table = new Table();
 	
+	// partitions which are read (null if all partitions are read)
+	private List<Integer> partNums = null;
+	
 	// constructors
 	public TableOperator(TokenIdentifier tableAlias) {
 		super(1);
@@ -55,6 +58,8 @@ public class TableOperator extends AbstractCompileOperator {
 		
 		this.tableAlias = toCopy.tableAlias.clone();
 		this.table = new Table(toCopy.table);
+		if (toCopy.partNums != null)
+			this.partNums = new ArrayList<Integer>(toCopy.partNums);
 	}
 
 	// getters and setters
@@ -76,7 +81,7 @@ public class TableOperator extends AbstractCompileOperator {
 	
 	public List<Connection> getConnections(int partNum) {
 		if(this.table.isPartioned()){
-			return this.table.getPartition(partNum).getConnections();
+			return this.table.getPartition(this.getPartitionNumber(partNum)).getConnections();
 		}
 		else{
 			return this.table.getConnections();
@@ -100,13 +105,17 @@ public class TableOperator extends AbstractCompileOperator {
 	}
 
 	public String getTableName(int partNum){
-		return this.table.getName()+PART_PREFIX+partNum;
+		return this.table.getName()+PART_PREFIX+this.getPartitionNumber(partNum);
 	}
 	
 	public void setTable(Table table) {
 		this.table = table;
 	}
 
+	public Table getTable() {
+		return this.table;
+	}
+
 	public Collection<Attribute> getAttributes(){
 		return this.table.getAttributes();
 	}
@@ -131,9 +140,55 @@ public class TableOperator extends AbstractCompileOperator {
 	}
 	
 	public int getPartitionCount(){
+		if(this.partNums != null)
+			return this.partNums.size();
 		return (int)this.table.getPartitionCount();
 	}
 	
+	/**
+	 * Returns number of all partitions of the table (also if the table
+	 * operator only reads some partitions)
+	 * 
+	 * @return
+	 */
+	public int getTablePartitionCount(){
+		return (int)this.table.getPartitionCount();
+	}
+	
+	/**
+	 * Restricts partitions which are read by the table operator (null if all
+	 * partitions are read). The i-th partition of the operator is the i-th
+	 * given partition of the table.
+	 * 
+	 * @param partNums
+	 */
+	public void setPartitionNumbers(List<Integer> partNums) {
+		this.partNums = partNums;
+	}
+	
+	public List<Integer> getPartitionNumbers() {
+		return this.partNums;
+	}
+	
+	public boolean isPruned() {
+		return this.partNums != null;
+	}
+	
+	/**
+	 * Maps partition of operator to partition of table. If only one
+	 * partition is read, each partition of the operator reads it.
+	 * 
+	 * @param partNum
+	 * @return
+	 */
+	public int getPartitionNumber(int partNum) {
+		if (this.partNums == null)
+			return partNum;
+		if (this.partNums.size() == 1)
+			return this.partNums.get(0);
+		return this.partNums.get(partNum);
+	}
+	
 	public String getRefTableName(){
 		return this.table.getRefTable().getName();
 	}
@@ -184,6 +239,11 @@ public class TableOperator extends AbstractCompileOperator {
 			footer.append(" AS ");
 			footer.append(this.tableAlias.toSqlString());
 			footer.append(AbstractToken.NEWLINE);
+			if (this.partNums != null) {
+				footer.append("Partitions: ");
+				footer.append(this.partNums);
+				footer.append(AbstractToken.NEWLINE);
+			}
 			
 			if (node.getInfo().getFooter() != null) {
 				footer.append(node.getInfo().getFooter());
@@ -130,6 +130,8 @@ public class ComplexPredicate extends AbstractPredicate {
 			if (this.preds2.size() == 0) {
 				return this.pred1.splitAnd();
 			}
+			// disjunction can not be split
+			predicates.add(this);
 		} else if (this.type == EnumPredicateType.AND_PREDICATE) {
 			predicates.add(this.pred1);
 			predicates.addAll(this.preds2);
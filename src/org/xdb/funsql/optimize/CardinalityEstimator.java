@@ -0,0 +1,418 @@
+package org.xdb.funsql.optimize;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.expression.ComplexExpression;
+import org.xdb.funsql.compile.expression.SimpleExpression;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+import org.xdb.funsql.compile.predicate.ComplexPredicate;
+import org.xdb.funsql.compile.predicate.EnumCompOperator;
+import org.xdb.funsql.compile.predicate.SimplePredicate;
+import org.xdb.funsql.compile.tokens.AbstractTokenOperand;
+import org.xdb.funsql.compile.tokens.TokenDateLiteral;
+import org.xdb.funsql.compile.tokens.TokenDecimalLiteral;
+import org.xdb.funsql.compile.tokens.TokenIntegerLiteral;
+import org.xdb.metadata.Attribute;
+import org.xdb.utils.Identifier;
+
+/**
+ * Estimates cardinalities of operator results in a compile plan. Uses the
+ * statistics of ANALYZE TABLE (row counts, distinct counts, histograms) if
+ * they exist and default estimates otherwise.
+ *
+ * Estimates which use the value of a literal (histograms) mark the plan as
+ * literal dependent, since cached plans are optimized for the placeholders
+ * of their template (see CompilePlanCache).
+ *
+ */
+public class CardinalityEstimator {
+	// default selectivities of predicates
+	private static final double EQUAL_SELECTIVITY = 0.1;
+	private static final double NOT_EQUAL_SELECTIVITY = 0.9;
+	private static final double RANGE_SELECTIVITY = 1.0 / 3.0;
+	private static final double DEFAULT_SELECTIVITY = 0.5;
+
+	// estimated cardinalities per operator
+	private Map<Identifier, Double> cardinalities = new HashMap<Identifier, Double>();
+
+	// plan whose operators are estimated (or null)
+	private CompilePlan compilePlan = null;
+
+	// constructors
+	public CardinalityEstimator() {
+		super();
+	}
+
+	public CardinalityEstimator(CompilePlan compilePlan) {
+		this();
+		this.compilePlan = compilePlan;
+	}
+
+	// methods
+	/**
+	 * Estimates cardinality of a given operator result
+	 *
+	 * @param op
+	 * @return
+	 */
+	public double getCardinality(AbstractCompileOperator op) {
+		Double card = this.cardinalities.get(op.getOperatorId());
+		if (card != null)
+			return card;
+
+		switch (op.getType()) {
+		case TABLE:
+			card = this.getTableCardinality((TableOperator) op);
+			break;
+		case GENERIC_SELECTION:
+			GenericSelection gs = (GenericSelection) op;
+			card = this.getCardinality(gs.getChild())
+					* this.getSelectivity(gs.getChild(), gs.getPredicate());
+			break;
+		case EQUI_JOIN:
+			EquiJoin ej = (EquiJoin) op;
+			card = this.getJoinCardinality(
+					this.getCardinality(ej.getLeftChild()),
+					this.getCardinality(ej.getRightChild()),
+					this.getDistinctKeys(ej.getLeftChild(), ej
+							.getLeftTokenAttribute().getName().getValue(), ej
+							.getRightChild(), ej.getRightTokenAttribute()
+							.getName().getValue()));
+			break;
+		case GENERIC_AGGREGATION:
+			card = this.getGroupCount((GenericAggregation) op);
+			break;
+		default:
+			card = op.getChildren().isEmpty() ? Config.OPTIMIZER_DEFAULT_CARDINALITY
+					: this.getCardinality(op.getChildren().get(0));
+		}
+
+		card = Math.max(card, 1.0);
+		this.cardinalities.put(op.getOperatorId(), card);
+		return card;
+	}
+
+	/**
+	 * Estimates cardinality of operator before selections are applied
+	 *
+	 * @param op
+	 * @return
+	 */
+	public double getBaseCardinality(AbstractCompileOperator op) {
+		while (op.getType().equals(EnumOperator.GENERIC_SELECTION)) {
+			op = op.getChildren().get(0);
+		}
+		return this.getCardinality(op);
+	}
+
+	/**
+	 * Estimates cardinality of an equi-join given the cardinalities of its
+	 * inputs and the number of distinct join keys
+	 *
+	 * @param leftCard
+	 * @param rightCard
+	 * @param distinctKeys
+	 * @return
+	 */
+	public double getJoinCardinality(double leftCard, double rightCard,
+			double distinctKeys) {
+		return Math.max(leftCard * rightCard / Math.max(distinctKeys, 1.0),
+				1.0);
+	}
+
+	/**
+	 * Estimates number of distinct join keys of an equi-join: uses the larger
+	 * distinct count of both join attributes if statistics exist. Otherwise
+	 * assumes a key/foreign-key join where the join key has as many distinct
+	 * values as the smaller unfiltered input.
+	 *
+	 * @param leftOp
+	 * @param leftAtt
+	 * @param rightOp
+	 * @param rightAtt
+	 * @return
+	 */
+	public double getDistinctKeys(AbstractCompileOperator leftOp,
+			String leftAtt, AbstractCompileOperator rightOp, String rightAtt) {
+		double leftDistinct = this.getDistinctCount(leftOp, leftAtt);
+		double rightDistinct = this.getDistinctCount(rightOp, rightAtt);
+		if (leftDistinct > 0 || rightDistinct > 0)
+			return Math.max(Math.max(leftDistinct, rightDistinct), 1.0);
+
+		return Math.max(Math.min(this.getBaseCardinality(leftOp),
+				this.getBaseCardinality(rightOp)), 1.0);
+	}
+
+	/**
+	 * Estimates number of groups of an aggregation: uses the product of the
+	 * distinct counts of all group-by attributes if statistics exist.
+	 * Otherwise assumes that the aggregation does not reduce its input.
+	 *
+	 * @param ga
+	 * @return
+	 */
+	public double getGroupCount(GenericAggregation ga) {
+		double childCard = this.getCardinality(ga.getChild());
+		if (ga.getGroupExpressions().isEmpty())
+			return 1.0;
+
+		double groups = 1.0;
+		for (AbstractExpression groupExpr : ga.getGroupExpressions()) {
+			if (!groupExpr.isAttribute())
+				return childCard;
+
+			double distinct = this.getDistinctCount(ga.getChild(), groupExpr
+					.getAttribute().getName().getValue());
+			if (distinct < 0)
+				return childCard;
+			groups *= distinct;
+		}
+		return Math.min(groups, childCard);
+	}
+
+	/**
+	 * Estimates number of distinct values of an attribute in an operator
+	 * result (or returns -1 if the attribute has no statistics)
+	 *
+	 * @param op
+	 * @param attName
+	 * @return
+	 */
+	public double getDistinctCount(AbstractCompileOperator op, String attName) {
+		TableOperator to = findTable(op, attName);
+		if (to == null)
+			return -1;
+
+		Attribute att = getAttribute(to, attName);
+		if (!att.hasStatistics())
+			return -1;
+		return Math.min(att.getDistinctCount(), this.getCardinality(op));
+	}
+
+	/**
+	 * Estimates fraction of rows with the most frequent value of an attribute
+	 * in an operator result (or returns -1 if the attribute has no
+	 * histograms)
+	 *
+	 * @param op
+	 * @param attName
+	 * @return
+	 */
+	public double getMaxFraction(AbstractCompileOperator op, String attName) {
+		TableOperator to = findTable(op, attName);
+		if (to == null)
+			return -1;
+
+		Attribute att = getAttribute(to, attName);
+		if (!att.hasStatistics())
+			return -1;
+		return to.getTable().getMaxFraction(att);
+	}
+
+	/**
+	 * Estimates cardinality of a table: uses row count of statistics if
+	 * table was analyzed. Otherwise tables with more partitions are assumed
+	 * to be larger.
+	 *
+	 * @param to
+	 * @return
+	 */
+	public double getTableCardinality(TableOperator to) {
+		if (to.getTable().hasStatistics())
+			return to.getTable().getRowCount();
+
+		int partCnt = to.isPartitioned() ? to.getPartitionCount() : 1;
+		return (double) Config.OPTIMIZER_DEFAULT_CARDINALITY * partCnt;
+	}
+
+	/**
+	 * Estimates selectivity of a selection predicate on a given input
+	 *
+	 * @param input
+	 * @param predicate
+	 * @return
+	 */
+	public double getSelectivity(AbstractCompileOperator input,
+			AbstractPredicate predicate) {
+		double selectivity = 1.0;
+		List<AbstractPredicate> conjuncts = predicate.splitAnd();
+		if (conjuncts.isEmpty())
+			conjuncts.add(predicate);
+		for (AbstractPredicate conjunct : conjuncts) {
+			selectivity *= this.getConjunctSelectivity(input, conjunct);
+		}
+		return selectivity;
+	}
+
+	private double getConjunctSelectivity(AbstractCompileOperator input,
+			AbstractPredicate predicate) {
+		// parser wraps predicates in complex predicates without siblings
+		if (predicate instanceof ComplexPredicate
+				&& !predicate.isNegated()
+				&& ((ComplexPredicate) predicate).getPredicates2().isEmpty())
+			return this.getConjunctSelectivity(input,
+					((ComplexPredicate) predicate).getPredicate1());
+		if (!(predicate instanceof SimplePredicate) || predicate.isNegated())
+			return DEFAULT_SELECTIVITY;
+
+		SimplePredicate sp = (SimplePredicate) predicate;
+		double selectivity = this.getStatisticsSelectivity(input, sp);
+		if (selectivity >= 0)
+			return selectivity;
+
+		switch (sp.getComp()) {
+		case SQL_EQUAL:
+			return EQUAL_SELECTIVITY;
+		case SQL_NOT_EQUAL:
+			return NOT_EQUAL_SELECTIVITY;
+		case SQL_LESS_EQUAL:
+		case SQL_LESS_THAN:
+		case SQL_GREATER_EQUAL:
+		case SQL_GREATER_THAN:
+			return RANGE_SELECTIVITY;
+		default:
+			return DEFAULT_SELECTIVITY;
+		}
+	}
+
+	/**
+	 * Estimates selectivity of a comparison of an attribute and a literal
+	 * using distinct counts and histograms (or returns -1 if no statistics
+	 * exist)
+	 *
+	 * @param input
+	 * @param sp
+	 * @return
+	 */
+	private double getStatisticsSelectivity(AbstractCompileOperator input,
+			SimplePredicate sp) {
+		AbstractTokenOperand oper1 = getOperand(sp.getExpr1());
+		AbstractTokenOperand oper2 = getOperand(sp.getExpr2());
+		if (oper1 == null || oper2 == null)
+			return -1;
+
+		// normalize to: attribute comp literal
+		boolean swapped = false;
+		if (oper1.isLiteral() && oper2.isAttribute()) {
+			AbstractTokenOperand oper = oper1;
+			oper1 = oper2;
+			oper2 = oper;
+			swapped = true;
+		}
+		if (!oper1.isAttribute() || !oper2.isLiteral())
+			return -1;
+
+		String attName = (swapped ? sp.getExpr2() : sp.getExpr1())
+				.getAttribute().getName().getValue();
+		TableOperator to = findTable(input, attName);
+		if (to == null)
+			return -1;
+		Attribute att = getAttribute(to, attName);
+		if (!att.hasStatistics())
+			return -1;
+
+		EnumCompOperator comp = sp.getComp();
+		if (comp.equals(EnumCompOperator.SQL_EQUAL)
+				|| comp.equals(EnumCompOperator.SQL_NOT_EQUAL)) {
+			double equal = 1.0 / Math.max(att.getDistinctCount(), 1);
+			return comp.equals(EnumCompOperator.SQL_EQUAL) ? equal
+					: 1.0 - equal;
+		}
+
+		String value = getLiteralValue(oper2);
+		if (value == null)
+			return -1;
+		double less = to.getTable().getFractionLess(att, value);
+		if (less < 0)
+			return -1;
+		if (this.compilePlan != null)
+			this.compilePlan.setLiteralDependent(true);
+
+		switch (comp) {
+		case SQL_LESS_EQUAL:
+		case SQL_LESS_THAN:
+			return swapped ? 1.0 - less : less;
+		case SQL_GREATER_EQUAL:
+		case SQL_GREATER_THAN:
+			return swapped ? less : 1.0 - less;
+		default:
+			return -1;
+		}
+	}
+
+	private static AbstractTokenOperand getOperand(AbstractExpression expr) {
+		// parser wraps operands in complex expressions without siblings
+		if (expr instanceof ComplexExpression
+				&& ((ComplexExpression) expr).getExprs2().isEmpty())
+			return getOperand(((ComplexExpression) expr).getExpr1());
+		if (!(expr instanceof SimpleExpression))
+			return null;
+		return ((SimpleExpression) expr).getOper();
+	}
+
+	/**
+	 * Returns value of a literal as stored in histograms (or null if
+	 * literals of this type have no histograms)
+	 *
+	 * @param literal
+	 * @return
+	 */
+	private static String getLiteralValue(AbstractTokenOperand literal) {
+		if (literal instanceof TokenIntegerLiteral)
+			return ((TokenIntegerLiteral) literal).getValue().toString();
+		if (literal instanceof TokenDecimalLiteral)
+			return ((TokenDecimalLiteral) literal).getValue().toString();
+		if (literal instanceof TokenDateLiteral)
+			return ((TokenDateLiteral) literal).getValue().replace("'", "");
+		return null;
+	}
+
+	/**
+	 * Finds table operator which produces an attribute below a given
+	 * operator (only looks through selections, projections and joins)
+	 *
+	 * @param op
+	 * @param attName
+	 * @return
+	 */
+	private static TableOperator findTable(AbstractCompileOperator op,
+			String attName) {
+		switch (op.getType()) {
+		case TABLE:
+			TableOperator to = (TableOperator) op;
+			return getAttribute(to, attName) != null ? to : null;
+		case GENERIC_SELECTION:
+		case GENERIC_PROJECTION:
+		case EQUI_JOIN:
+			for (AbstractCompileOperator child : op.getChildren()) {
+				TableOperator childTo = findTable(child, attName);
+				if (childTo != null)
+					return childTo;
+			}
+			return null;
+		default:
+			return null;
+		}
+	}
+
+	private static Attribute getAttribute(TableOperator to, String attName) {
+		for (Attribute att : to.getAttributes()) {
+			if (ResultDesc.createResultAtt(to.getTableAlias(), att.getName())
+					.equals(attName))
+				return att;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,512 @@
+package org.xdb.funsql.optimize;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.analyze.operator.CreateResultVisitor;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.PartitionDesc;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.parallelize.CreatePartitionDescVisitor;
+import org.xdb.metadata.EnumPartitionType;
+import org.xdb.metadata.PartitionAttribute;
+
+/**
+ * Cost-based join reordering: enumerates left-deep orders of each chain of
+ * equi-joins using dynamic programming over connected subsets of the join
+ * inputs. Costs are the estimated sizes of the intermediate results plus the
+ * cost of re-partitioning the left input (or broadcasting the right input) of
+ * a join if the partitioning of both inputs is not compatible (as decided by
+ * the parallelizer).
+ *
+ * Only left-deep chains below a projection or aggregation are reordered such
+ * that the attribute order of the query result does not change.
+ *
+ */
+public class JoinOrderOptimizer {
+	// compile plan
+	private CompilePlan compilePlan;
+
+	// cardinality estimates
+	private CardinalityEstimator estimator;
+
+	// inputs and joins of current chain (bottom-up)
+	private List<AbstractCompileOperator> inputs = new ArrayList<AbstractCompileOperator>();
+	private List<EquiJoin> joins = new ArrayList<EquiJoin>();
+
+	// join predicates of current chain: attribute names and inputs
+	private List<String[]> edgeAtts = new ArrayList<String[]>();
+	private List<int[]> edgeInputs = new ArrayList<int[]>();
+
+	// constructors
+	public JoinOrderOptimizer(CompilePlan compilePlan) {
+		super();
+		this.compilePlan = compilePlan;
+		this.estimator = new CardinalityEstimator(compilePlan);
+	}
+
+	// methods
+	/**
+	 * Reorders all join chains of plan
+	 *
+	 * @return
+	 */
+	public Error optimize() {
+		Error err = new Error();
+
+		List<EquiJoin> topJoins = new ArrayList<EquiJoin>();
+		for (AbstractCompileOperator op : this.compilePlan.getOperators()) {
+			if (op.getType().equals(EnumOperator.EQUI_JOIN)
+					&& !this.isChainedJoin(op)) {
+				topJoins.add((EquiJoin) op);
+			}
+		}
+
+		for (EquiJoin topJoin : topJoins) {
+			if (!this.collectChain(topJoin))
+				continue;
+
+			int[] order = this.findBestOrder();
+			if (order != null)
+				this.rebuildChain(order);
+		}
+		return err;
+	}
+
+	/**
+	 * Checks if join is the left input of another join
+	 *
+	 * @param op
+	 * @return
+	 */
+	private boolean isChainedJoin(AbstractCompileOperator op) {
+		if (op.getParents().size() != 1)
+			return false;
+
+		AbstractCompileOperator parent = op.getParents().get(0);
+		return parent.getType().equals(EnumOperator.EQUI_JOIN)
+				&& ((EquiJoin) parent).getLeftChild() == op;
+	}
+
+	/**
+	 * Collects inputs and join predicates of a left-deep join chain. Returns
+	 * false if the chain can not be reordered.
+	 *
+	 * @param topJoin
+	 * @return
+	 */
+	private boolean collectChain(EquiJoin topJoin) {
+		this.inputs.clear();
+		this.joins.clear();
+		this.edgeAtts.clear();
+		this.edgeInputs.clear();
+
+		// result order of chain must not be visible to consumers
+		AbstractCompileOperator consumer = topJoin;
+		do {
+			if (consumer.getParents().size() != 1)
+				return false;
+			consumer = consumer.getParents().get(0);
+		} while (consumer.getType().equals(EnumOperator.GENERIC_SELECTION));
+
+		if (!consumer.getType().equals(EnumOperator.GENERIC_PROJECTION)
+				&& !consumer.getType().equals(EnumOperator.GENERIC_AGGREGATION))
+			return false;
+
+		// walk down left spine of chain
+		AbstractCompileOperator op = topJoin;
+		while (op.getType().equals(EnumOperator.EQUI_JOIN)) {
+			EquiJoin join = (EquiJoin) op;
+			if (join != topJoin && join.getParents().size() != 1)
+				return false;
+
+			this.joins.add(0, join);
+			this.inputs.add(0, join.getRightChild());
+			op = join.getLeftChild();
+		}
+		this.inputs.add(0, op);
+
+		int inputCnt = this.inputs.size();
+		if (inputCnt < 2 || inputCnt > Config.OPTIMIZER_JOIN_DP_MAX_TABLES)
+			return false;
+
+		// find inputs of join attributes
+		Map<String, Integer> attInputs = new HashMap<String, Integer>();
+		for (int i = 0; i < inputCnt; ++i) {
+			AbstractCompileOperator input = this.inputs.get(i);
+			if (input.getType().equals(EnumOperator.EQUI_JOIN)
+					|| input.getParents().size() != 1)
+				return false;
+
+			for (TokenAttribute att : input.getResult().getAttributes()) {
+				String attName = att.getName().getValue();
+				if (attInputs.put(attName, i) != null)
+					return false;
+			}
+		}
+
+		for (EquiJoin join : this.joins) {
+			String leftAtt = join.getLeftTokenAttribute().getName().getValue();
+			String rightAtt = join.getRightTokenAttribute().getName()
+					.getValue();
+			Integer leftInput = attInputs.get(leftAtt);
+			Integer rightInput = attInputs.get(rightAtt);
+			if (leftInput == null || rightInput == null
+					|| leftInput.equals(rightInput))
+				return false;
+
+			this.edgeAtts.add(new String[] { leftAtt, rightAtt });
+			this.edgeInputs.add(new int[] { leftInput, rightInput });
+		}
+		return true;
+	}
+
+	/**
+	 * Enumerates left-deep join orders of current chain and returns the
+	 * cheapest order (or null if the current order is the cheapest one)
+	 *
+	 * @return
+	 */
+	private int[] findBestOrder() {
+		int inputCnt = this.inputs.size();
+		int subsetCnt = 1 << inputCnt;
+
+		double[] cost = new double[subsetCnt];
+		double[] card = new double[subsetCnt];
+		int[] lastInput = new int[subsetCnt];
+		int[] prevSubset = new int[subsetCnt];
+		List<Set<PartitionDesc>> partDescs = new ArrayList<Set<PartitionDesc>>(
+				Collections.<Set<PartitionDesc>> nCopies(subsetCnt, null));
+
+		for (int i = 0; i < subsetCnt; ++i) {
+			cost[i] = Double.MAX_VALUE;
+		}
+		for (int i = 0; i < inputCnt; ++i) {
+			int subset = 1 << i;
+			cost[subset] = 0.0;
+			card[subset] = this.estimator.getCardinality(this.inputs.get(i));
+			lastInput[subset] = i;
+			prevSubset[subset] = 0;
+			partDescs.set(subset, this.getPartDescs(this.inputs.get(i)));
+		}
+
+		// extend connected subsets by one adjacent input
+		for (int subset = 1; subset < subsetCnt; ++subset) {
+			if (cost[subset] == Double.MAX_VALUE)
+				continue;
+
+			for (int e = 0; e < this.edgeInputs.size(); ++e) {
+				int[] edge = this.edgeInputs.get(e);
+				for (int side = 0; side < 2; ++side) {
+					int joined = edge[side];
+					int added = edge[1 - side];
+					if ((subset & (1 << joined)) == 0
+							|| (subset & (1 << added)) != 0)
+						continue;
+
+					String joinedAtt = this.edgeAtts.get(e)[side];
+					String addedAtt = this.edgeAtts.get(e)[1 - side];
+					Set<PartitionDesc> joinPartDescs = new HashSet<PartitionDesc>();
+					double shippedRows = this.simulateJoin(
+							partDescs.get(subset), joinedAtt, card[subset],
+							partDescs.get(1 << added), addedAtt,
+							card[1 << added], this.hasNumericKeys(e),
+							joinPartDescs);
+
+					double joinCard = this.estimator.getJoinCardinality(
+							card[subset], card[1 << added], this.estimator
+									.getDistinctKeys(this.inputs.get(joined),
+											joinedAtt, this.inputs.get(added),
+											addedAtt));
+					double joinCost = cost[subset] + joinCard + shippedRows
+							* Config.OPTIMIZER_JOIN_SHIP_COST;
+
+					int newSubset = subset | (1 << added);
+					if (joinCost < cost[newSubset]) {
+						cost[newSubset] = joinCost;
+						card[newSubset] = joinCard;
+						lastInput[newSubset] = added;
+						prevSubset[newSubset] = subset;
+						partDescs.set(newSubset, joinPartDescs);
+					}
+				}
+			}
+		}
+
+		int all = subsetCnt - 1;
+		if (cost[all] == Double.MAX_VALUE)
+			return null;
+
+		int[] order = new int[inputCnt];
+		for (int subset = all, i = inputCnt - 1; subset != 0; subset = prevSubset[subset], --i) {
+			order[i] = lastInput[subset];
+		}
+
+		// keep current order if it is not more expensive
+		boolean isCurrentOrder = true;
+		for (int i = 0; i < inputCnt; ++i) {
+			if (order[i] != i)
+				isCurrentOrder = false;
+		}
+		if (isCurrentOrder || cost[all] >= this.getCurrentCost(partDescs))
+			return null;
+		return order;
+	}
+
+	/**
+	 * Computes cost of current order of chain
+	 *
+	 * @param partDescs
+	 * @return
+	 */
+	private double getCurrentCost(List<Set<PartitionDesc>> partDescs) {
+		int subset = 1;
+		double cost = 0.0;
+		double card = this.estimator.getCardinality(this.inputs.get(0));
+		Set<PartitionDesc> leftPartDescs = partDescs.get(subset);
+
+		for (int i = 1; i < this.inputs.size(); ++i) {
+			int e = this.getEdge(subset, i);
+			if (e < 0)
+				return Double.MAX_VALUE;
+
+			int side = (this.edgeInputs.get(e)[1] == i) ? 0 : 1;
+			int joined = this.edgeInputs.get(e)[side];
+			Set<PartitionDesc> joinPartDescs = new HashSet<PartitionDesc>();
+			double inputCard = this.estimator.getCardinality(this.inputs.get(i));
+			double shippedRows = this.simulateJoin(leftPartDescs,
+					this.edgeAtts.get(e)[side], card, partDescs.get(1 << i),
+					this.edgeAtts.get(e)[1 - side], inputCard,
+					this.hasNumericKeys(e), joinPartDescs);
+
+			double joinCard = this.estimator.getJoinCardinality(card,
+					inputCard,
+					this.estimator.getDistinctKeys(this.inputs.get(joined),
+							this.edgeAtts.get(e)[side], this.inputs.get(i),
+							this.edgeAtts.get(e)[1 - side]));
+			cost += joinCard + shippedRows * Config.OPTIMIZER_JOIN_SHIP_COST;
+
+			card = joinCard;
+			leftPartDescs = joinPartDescs;
+			subset |= 1 << i;
+		}
+		return cost;
+	}
+
+	/**
+	 * Returns join predicate which connects subset with input (or -1)
+	 *
+	 * @param subset
+	 * @param input
+	 * @return
+	 */
+	private int getEdge(int subset, int input) {
+		for (int e = 0; e < this.edgeInputs.size(); ++e) {
+			int[] edge = this.edgeInputs.get(e);
+			if ((edge[0] == input && (subset & (1 << edge[1])) != 0)
+					|| (edge[1] == input && (subset & (1 << edge[0])) != 0))
+				return e;
+		}
+		return -1;
+	}
+
+	/**
+	 * Rebuilds chain using given order of inputs: joins are reused bottom-up
+	 * such that the top join keeps its id
+	 *
+	 * @param order
+	 */
+	private void rebuildChain(int[] order) {
+		for (EquiJoin join : this.joins) {
+			if (join != this.joins.get(this.joins.size() - 1))
+				join.clearParents();
+		}
+		for (AbstractCompileOperator input : this.inputs) {
+			input.clearParents();
+		}
+
+		CreateResultVisitor resultVisitor = new CreateResultVisitor(null, null);
+		AbstractCompileOperator left = this.inputs.get(order[0]);
+		int subset = 1 << order[0];
+		for (int i = 1; i < order.length; ++i) {
+			EquiJoin join = this.joins.get(i - 1);
+			AbstractCompileOperator right = this.inputs.get(order[i]);
+			int e = this.getEdge(subset, order[i]);
+			int side = (this.edgeInputs.get(e)[1] == order[i]) ? 0 : 1;
+
+			join.setLeftChild(left);
+			join.setRightChild(right);
+			join.setLeftTokenAttribute(new TokenAttribute(left.getOperatorId()
+					.toString(), this.edgeAtts.get(e)[side]));
+			join.setRightTokenAttribute(new TokenAttribute(right
+					.getOperatorId().toString(), this.edgeAtts.get(e)[1 - side]));
+			left.addParent(join);
+			right.addParent(join);
+			resultVisitor.visitEquiJoin(join);
+
+			left = join;
+			subset |= 1 << order[i];
+		}
+
+		// attribute order changed: update results of selections above chain
+		AbstractCompileOperator parent = left.getParents().get(0);
+		while (parent.getType().equals(EnumOperator.GENERIC_SELECTION)) {
+			resultVisitor.visitGenericSelection((GenericSelection) parent);
+			parent = parent.getParents().get(0);
+		}
+	}
+
+	/**
+	 * Returns partitioning of an input as computed by the parallelizer
+	 *
+	 * @param input
+	 * @return
+	 */
+	private Set<PartitionDesc> getPartDescs(AbstractCompileOperator input) {
+		while (input.getType().equals(EnumOperator.GENERIC_SELECTION)) {
+			input = input.getChildren().get(0);
+		}
+
+		Set<PartitionDesc> partDescs = new HashSet<PartitionDesc>();
+		PartitionDesc partDesc = new PartitionDesc();
+		if (input.getType().equals(EnumOperator.TABLE)) {
+			TableOperator to = (TableOperator) input;
+			if (to.isPartitioned()) {
+				partDesc.setPartCount(to.getPartitionCount());
+				partDesc.setTableName(to.getTableName());
+				partDesc.setPartitionType(to.getPartitionType());
+				if (to.getPartitionType().isReference()) {
+					partDesc.setRefTableName(to.getRefTableName());
+				}
+
+				for (PartitionAttribute partAtt : to.getPartitionAttributes()) {
+					partDesc.addPartAttributes(new TokenAttribute(ResultDesc
+							.createResultAtt(to.getTableName(),
+									partAtt.getName())));
+				}
+			}
+		}
+		partDescs.add(partDesc);
+		return partDescs;
+	}
+
+	/**
+	 * Simulates partitioning of an equi-join as done by the parallelizer.
+	 * Returns the number of rows which are shipped, i.e., the left input if
+	 * it must be re-partitioned (both inputs if the right input is not
+	 * partitioned by its join attribute) or the copies of the right input if
+	 * it is broadcast.
+	 *
+	 * @param leftPartDescs
+	 * @param leftAtt
+	 * @param leftCard
+	 * @param rightPartDescs
+	 * @param rightAtt
+	 * @param rightCard
+	 * @param numericKeys
+	 *            join attributes can be used for re-partitioning
+	 * @param joinPartDescs
+	 *            partitioning of join result
+	 * @return
+	 */
+	private double simulateJoin(Set<PartitionDesc> leftPartDescs,
+			String leftAtt, double leftCard, Set<PartitionDesc> rightPartDescs,
+			String rightAtt, double rightCard, boolean numericKeys,
+			Set<PartitionDesc> joinPartDescs) {
+		int leftPartCnt = leftPartDescs.iterator().next().getPartitionCount();
+		int rightPartCnt = rightPartDescs.iterator().next().getPartitionCount();
+		TokenAttribute leftJoinAtt = new TokenAttribute(leftAtt);
+		TokenAttribute rightJoinAtt = new TokenAttribute(rightAtt);
+
+		boolean repartition = rightPartCnt > 1
+				&& !((isJoinCompatible(leftPartDescs, leftJoinAtt) || isJoinCompatible(
+						rightPartDescs, rightJoinAtt)) && isJoinCompatible(
+						leftPartDescs, rightPartDescs));
+
+		Vector<PartitionDesc> partDescs = new Vector<PartitionDesc>();
+		if (repartition
+				&& CreatePartitionDescVisitor.isBroadcastCheaper(leftCard,
+						leftPartCnt, rightCard)) {
+			joinPartDescs.addAll(leftPartDescs);
+			return rightCard * leftPartCnt;
+		}
+		if (repartition && numericKeys
+				&& !isJoinCompatible(rightPartDescs, rightJoinAtt)) {
+			int partCnt = CreatePartitionDescVisitor.getRepartitionCount(
+					leftCard + rightCard, Math.max(leftPartCnt, rightPartCnt));
+			PartitionDesc leftRePartDesc = new PartitionDesc(
+					EnumPartitionType.getMaterializeType(), partCnt);
+			leftRePartDesc.addPartAttributes(leftJoinAtt);
+			PartitionDesc rightRePartDesc = new PartitionDesc(
+					EnumPartitionType.getMaterializeType(), partCnt);
+			rightRePartDesc.addPartAttributes(rightJoinAtt);
+			joinPartDescs.add(leftRePartDesc);
+			joinPartDescs.add(rightRePartDesc);
+			return leftCard + rightCard;
+		}
+		if (repartition) {
+			PartitionDesc leftRePartDesc = new PartitionDesc(
+					EnumPartitionType.getMaterializeType(), rightPartCnt);
+			leftRePartDesc.addPartAttributes(leftJoinAtt);
+			partDescs.add(leftRePartDesc);
+		} else {
+			partDescs.addAll(leftPartDescs);
+		}
+		partDescs.addAll(rightPartDescs);
+
+		for (PartitionDesc partDesc : partDescs) {
+			if (partDescs.size() == 1 || partDesc.isPartitioned())
+				joinPartDescs.add(partDesc);
+		}
+		return repartition ? leftCard : 0.0;
+	}
+
+	/**
+	 * Checks if both attributes of a join predicate are numeric
+	 *
+	 * @param e
+	 * @return
+	 */
+	private boolean hasNumericKeys(int e) {
+		int[] edge = this.edgeInputs.get(e);
+		String[] atts = this.edgeAtts.get(e);
+		return CreatePartitionDescVisitor.isNumeric(this.inputs.get(edge[0]),
+				new TokenAttribute(atts[0]))
+				&& CreatePartitionDescVisitor.isNumeric(
+						this.inputs.get(edge[1]), new TokenAttribute(atts[1]));
+	}
+
+	private static boolean isJoinCompatible(Set<PartitionDesc> partDescs,
+			TokenAttribute joinAtt) {
+		for (PartitionDesc partDesc : partDescs) {
+			if (partDesc.isJoinCompatible(joinAtt))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isJoinCompatible(Set<PartitionDesc> lPartDescs,
+			Set<PartitionDesc> rPartDescs) {
+		for (PartitionDesc lPartDesc : lPartDescs) {
+			for (PartitionDesc rPartDesc : rPartDescs) {
+				if (lPartDesc.isJoinCompatible(rPartDesc))
+					return true;
+			}
+		}
+		return false;
+	}
+}
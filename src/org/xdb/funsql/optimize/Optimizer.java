@@ -52,6 +52,20 @@ public class Optimizer {
 				return err;
 		}
 
+		// rewrite: reorder joins
+		if (optimizeRule.get(2)) {
+			err = reorderJoins();
+			if (err.isError())
+				return err;
+		}
+
+		// rewrite: push down projections
+		if (optimizeRule.get(3)) {
+			err = pushProjections();
+			if (err.isError())
+				return err;
+		}
+
 		// tracing
 		if (Config.TRACE_OPTIMIZED_PLAN) {
 			this.compilePlan.tracePlan(compilePlan.getClass()
@@ -107,4 +121,25 @@ public class Optimizer {
 		}
 		return err;
 	}
+
+	/**
+	 * Reorders joins in plan based on estimated costs
+	 * 
+	 * @return
+	 */
+	private Error reorderJoins() {
+		JoinOrderOptimizer joinOptimizer = new JoinOrderOptimizer(compilePlan);
+		return joinOptimizer.optimize();
+	}
+
+	/**
+	 * Prunes attributes which are not used by the ancestors of an operator
+	 * 
+	 * @return
+	 */
+	private Error pushProjections() {
+		ProjectionPushDownOptimizer projectionOptimizer = new ProjectionPushDownOptimizer(
+				compilePlan);
+		return projectionOptimizer.optimize();
+	}
 }
@@ -0,0 +1,382 @@
+package org.xdb.funsql.optimize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.analyze.operator.CreateResultVisitor;
+import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.expression.SimpleExpression;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.GenericAggregation;
+import org.xdb.funsql.compile.operator.GenericProjection;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.utils.Identifier;
+
+/**
+ * Column pruning: computes the attributes which are required by the ancestors
+ * of each operator (top-down) and inserts a projection directly above each
+ * table (and its selections) which produces attributes that are never used.
+ * Existing projections, aggregations and joins are narrowed to the required
+ * attributes (e.g., join keys which are only used by the join predicate).
+ * Thus, only required attributes are materialized in intermediate tables and
+ * shipped to other compute nodes.
+ *
+ */
+public class ProjectionPushDownOptimizer {
+	// compile plan
+	private CompilePlan compilePlan;
+
+	// required attributes per operator (null if all attributes are required)
+	private Map<Identifier, Set<String>> requiredAtts = new HashMap<Identifier, Set<String>>();
+
+	// operators with a pruned result
+	private Set<Identifier> prunedOps = new HashSet<Identifier>();
+
+	// constructors
+	public ProjectionPushDownOptimizer(CompilePlan compilePlan) {
+		super();
+		this.compilePlan = compilePlan;
+	}
+
+	// methods
+	/**
+	 * Prunes unused attributes of all tables and projections in plan
+	 *
+	 * @return
+	 */
+	public Error optimize() {
+		Error err = new Error();
+
+		List<AbstractCompileOperator> ops = new ArrayList<AbstractCompileOperator>(
+				this.compilePlan.getOperators());
+		for (AbstractCompileOperator op : ops) {
+			this.getRequiredAtts(op);
+		}
+
+		for (AbstractCompileOperator op : ops) {
+			switch (op.getType()) {
+			case TABLE:
+				this.pruneTable(op);
+				break;
+			case GENERIC_PROJECTION:
+				this.pruneProjection((GenericProjection) op);
+				break;
+			case GENERIC_AGGREGATION:
+				this.pruneAggregation((GenericAggregation) op);
+				break;
+			default:
+				break;
+			}
+		}
+
+		// update results of joins and selections (bottom-up) and prune joins
+		CreateResultVisitor resultVisitor = new CreateResultVisitor(null, null);
+		Set<Identifier> visitedOps = new HashSet<Identifier>();
+		for (AbstractCompileOperator root : this.compilePlan.getRootOps()) {
+			this.updateResults(root, resultVisitor, visitedOps);
+		}
+		return err;
+	}
+
+	/**
+	 * Returns names of attributes of an operator which are used by its
+	 * ancestors (or null if all attributes are required)
+	 *
+	 * @param op
+	 * @return
+	 */
+	private Set<String> getRequiredAtts(AbstractCompileOperator op) {
+		if (this.requiredAtts.containsKey(op.getOperatorId()))
+			return this.requiredAtts.get(op.getOperatorId());
+
+		Set<String> atts = null;
+		if (!op.isRoot() && !op.getParents().isEmpty()) {
+			atts = new HashSet<String>();
+			for (AbstractCompileOperator parent : op.getParents()) {
+				Set<String> parentAtts = this.getUsedAtts(parent);
+				if (parentAtts == null) {
+					atts = null;
+					break;
+				}
+				atts.addAll(parentAtts);
+			}
+		}
+
+		this.requiredAtts.put(op.getOperatorId(), atts);
+		return atts;
+	}
+
+	/**
+	 * Returns names of attributes which an operator uses from its inputs (or
+	 * null if all attributes of its inputs are used)
+	 *
+	 * @param op
+	 * @return
+	 */
+	private Set<String> getUsedAtts(AbstractCompileOperator op) {
+		Set<String> atts = new HashSet<String>();
+		switch (op.getType()) {
+		case GENERIC_PROJECTION:
+			GenericProjection gp = (GenericProjection) op;
+			addAttNames(atts, gp.getExpressions());
+			return atts;
+		case GENERIC_AGGREGATION:
+			// pruned aggregation expressions are not computed
+			GenericAggregation ga = (GenericAggregation) op;
+			Set<String> gaAtts = this.getRequiredAtts(ga);
+			boolean pruned = isPrunable(ga.getResult(), gaAtts);
+			int i = 0;
+			for (AbstractExpression expr : ga.getAggregationExpressions()) {
+				if (!pruned || gaAtts.contains(ga.getAlias(i).getValue()))
+					addAttNames(atts, expr);
+				i++;
+			}
+			for (AbstractExpression expr : ga.getGroupExpressions()) {
+				addAttNames(atts, expr);
+			}
+			return atts;
+		case GENERIC_SELECTION:
+			Set<String> selAtts = this.getRequiredAtts(op);
+			if (selAtts == null)
+				return null;
+			atts.addAll(selAtts);
+			for (TokenAttribute att : ((GenericSelection) op).getPredicate()
+					.getAttributes()) {
+				atts.add(att.getName().getValue());
+			}
+			return atts;
+		case EQUI_JOIN:
+			Set<String> joinAtts = this.getRequiredAtts(op);
+			if (joinAtts == null)
+				return null;
+			atts.addAll(joinAtts);
+			EquiJoin ej = (EquiJoin) op;
+			atts.add(ej.getLeftTokenAttribute().getName().getValue());
+			atts.add(ej.getRightTokenAttribute().getName().getValue());
+			return atts;
+		default:
+			return null;
+		}
+	}
+
+	private static void addAttNames(Set<String> atts,
+			Collection<AbstractExpression> exprs) {
+		for (AbstractExpression expr : exprs) {
+			addAttNames(atts, expr);
+		}
+	}
+
+	private static void addAttNames(Set<String> atts, AbstractExpression expr) {
+		for (TokenAttribute att : expr.getAttributes()) {
+			atts.add(att.getName().getValue());
+		}
+	}
+
+	/**
+	 * Inserts projection above table and its selections if not all
+	 * attributes of the table are required
+	 *
+	 * @param to
+	 */
+	private void pruneTable(AbstractCompileOperator to) {
+		// find top of selections above table
+		AbstractCompileOperator top = to;
+		while (top.getParents().size() == 1 && !top.isRoot()
+				&& top.getParents().get(0).getType()
+						.equals(EnumOperator.GENERIC_SELECTION)) {
+			top = top.getParents().get(0);
+		}
+		if (top.isRoot() || top.getParents().size() != 1)
+			return;
+
+		// projections and aggregations already prune attributes
+		AbstractCompileOperator parent = top.getParents().get(0);
+		if (parent.getType().equals(EnumOperator.GENERIC_PROJECTION)
+				|| parent.getType().equals(EnumOperator.GENERIC_AGGREGATION))
+			return;
+
+		Set<String> atts = this.getRequiredAtts(top);
+		ResultDesc topDesc = top.getResult();
+		if (!isPrunable(topDesc, atts))
+			return;
+
+		// insert projection between top and parent
+		GenericProjection gp = new GenericProjection(top);
+		this.compilePlan.addOperator(gp, false);
+		String topId = top.getOperatorId().toString();
+		String gpId = gp.getOperatorId().toString();
+
+		ResultDesc gpDesc = new ResultDesc();
+		for (int i = 0; i < topDesc.getNumAttributes(); ++i) {
+			String attName = topDesc.getAttribute(i).getName().getValue();
+			if (!atts.contains(attName))
+				continue;
+
+			gp.addExpression(new SimpleExpression(new TokenAttribute(topId,
+					attName)));
+			gp.addAlias(new TokenIdentifier(attName));
+			gpDesc.addAttribute(new TokenAttribute(gpId, attName));
+			gpDesc.addType(topDesc.getType(i));
+		}
+		gp.setResult(gpDesc);
+
+		top.removeParent(parent);
+		parent.setChild(top, gp);
+		gp.addParent(parent);
+		parent.renameTableOfAttributes(topId, gpId);
+
+		this.prunedOps.add(gp.getOperatorId());
+	}
+
+	/**
+	 * Removes expressions of projection which are not required by its
+	 * parents
+	 *
+	 * @param gp
+	 */
+	private void pruneProjection(GenericProjection gp) {
+		Set<String> atts = this.getRequiredAtts(gp);
+		if (!isPrunable(gp.getResult(), atts))
+			return;
+
+		for (int i = gp.getAliases().size() - 1; i >= 0; --i) {
+			if (atts.contains(gp.getAlias(i).getValue()))
+				continue;
+
+			gp.getExpressions().remove(i);
+			gp.getAliases().remove(i);
+		}
+		pruneResult(gp.getResult(), atts);
+
+		this.prunedOps.add(gp.getOperatorId());
+	}
+
+	/**
+	 * Removes aggregation expressions which are not required by the parents
+	 * of the aggregation. Group expressions are kept for grouping but only
+	 * required ones are in the result.
+	 *
+	 * @param ga
+	 */
+	private void pruneAggregation(GenericAggregation ga) {
+		Set<String> atts = this.getRequiredAtts(ga);
+		if (!isPrunable(ga.getResult(), atts))
+			return;
+
+		for (int i = ga.getAggregationExpressions().size() - 1; i >= 0; --i) {
+			if (!atts.contains(ga.getAlias(i).getValue()))
+				ga.removeAggregationExpression(i);
+		}
+		pruneResult(ga.getResult(), atts);
+
+		this.prunedOps.add(ga.getOperatorId());
+	}
+
+	/**
+	 * Removes attributes from result of join which are not required by its
+	 * parents (e.g., join keys)
+	 *
+	 * @param ej
+	 * @return true if result was pruned
+	 */
+	private boolean pruneJoin(EquiJoin ej) {
+		Set<String> atts = this.getRequiredAtts(ej);
+		if (!isPrunable(ej.getResult(), atts))
+			return false;
+
+		pruneResult(ej.getResult(), atts);
+		return true;
+	}
+
+	/**
+	 * Checks if some but not all attributes of a result are unused
+	 *
+	 * @param rDesc
+	 * @param atts
+	 *            required attributes
+	 * @return
+	 */
+	private static boolean isPrunable(ResultDesc rDesc, Set<String> atts) {
+		if (atts == null)
+			return false;
+
+		boolean hasUsedAtts = false;
+		boolean hasUnusedAtts = false;
+		for (TokenAttribute att : rDesc.getAttributes()) {
+			if (atts.contains(att.getName().getValue()))
+				hasUsedAtts = true;
+			else
+				hasUnusedAtts = true;
+		}
+		return hasUsedAtts && hasUnusedAtts;
+	}
+
+	/**
+	 * Removes attributes which are not required from result
+	 *
+	 * @param rDesc
+	 * @param atts
+	 */
+	private static void pruneResult(ResultDesc rDesc, Set<String> atts) {
+		for (int i = rDesc.getNumAttributes() - 1; i >= 0; --i) {
+			if (atts.contains(rDesc.getAttribute(i).getName().getValue()))
+				continue;
+
+			rDesc.getAttributes().remove(i);
+			rDesc.getTypes().remove(i);
+		}
+	}
+
+	/**
+	 * Updates results of joins and selections above pruned operators and
+	 * prunes results of joins (bottom-up)
+	 *
+	 * @param op
+	 * @param resultVisitor
+	 * @param visitedOps
+	 * @return true if result of operator changed
+	 */
+	private boolean updateResults(AbstractCompileOperator op,
+			CreateResultVisitor resultVisitor, Set<Identifier> visitedOps) {
+		if (visitedOps.contains(op.getOperatorId()))
+			return this.prunedOps.contains(op.getOperatorId());
+		visitedOps.add(op.getOperatorId());
+
+		boolean changed = false;
+		for (AbstractCompileOperator child : op.getChildren()) {
+			changed |= this.updateResults(child, resultVisitor, visitedOps);
+		}
+
+		switch (op.getType()) {
+		case EQUI_JOIN:
+			if (changed) {
+				resultVisitor.visitEquiJoin((EquiJoin) op);
+				this.prunedOps.add(op.getOperatorId());
+			}
+			if (this.pruneJoin((EquiJoin) op))
+				this.prunedOps.add(op.getOperatorId());
+			break;
+		case GENERIC_SELECTION:
+			if (changed) {
+				resultVisitor.visitGenericSelection((GenericSelection) op);
+				this.prunedOps.add(op.getOperatorId());
+			}
+			break;
+		default:
+			break;
+		}
+		return this.prunedOps.contains(op.getOperatorId());
+	}
+}
@@ -1,11 +1,14 @@
 package org.xdb.funsql.parallelize;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.xdb.Config;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.funsql.compile.CompilePlan;
@@ -20,6 +23,7 @@ import org.xdb.funsql.compile.expression.EnumExprType;
 import org.xdb.funsql.compile.expression.SimpleExpression;
 import org.xdb.funsql.compile.operator.AbstractCompileOperator;
 import org.xdb.funsql.compile.operator.EnumAggregation;
+import org.xdb.funsql.compile.operator.EnumOperator;
 import org.xdb.funsql.compile.operator.EquiJoin;
 import org.xdb.funsql.compile.operator.GenericAggregation;
 import org.xdb.funsql.compile.operator.GenericProjection;
@@ -34,7 +38,9 @@ import org.xdb.funsql.compile.operator.TableOperator;
 import org.xdb.funsql.compile.tokens.AbstractToken;
 import org.xdb.funsql.compile.tokens.TokenAttribute;
 import org.xdb.funsql.compile.tokens.TokenIdentifier;
+import org.xdb.funsql.optimize.CardinalityEstimator;
 import org.xdb.funsql.types.EnumSimpleType;
+import org.xdb.metadata.Catalog;
 import org.xdb.metadata.EnumPartitionType;
 import org.xdb.metadata.PartitionAttribute;
 import org.xdb.utils.Identifier;
@@ -53,6 +59,9 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 	// compile plan
 	private CompilePlan cPlan;
 
+	// estimates sizes of inputs for broadcast joins and re-partitioning
+	private CardinalityEstimator estimator;
+
 	// helper
 	private int lastInternalAlias = 0;
 	private Identifier internalAlias = new Identifier("_ALIAS_PARALLEL");
@@ -62,12 +71,14 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 		super();
 		
 		this.cPlan = cPlan;
+		this.estimator = new CardinalityEstimator(cPlan);
 	}
 	
 	public CreatePartitionDescVisitor(CompilePlan cPlan,
 			AbstractCompileOperator root) {
 		super(root);
 		this.cPlan = cPlan;
+		this.estimator = new CardinalityEstimator(cPlan);
 	}
 
 	// getters and setters
@@ -96,7 +107,13 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 				groupExprs) && (preAggPartCnt > 1);
 
 		if (doRepartition) {
-			int postAggPartCnt = preAggPartCnt;
+			// number of partitions after re-partitioning depends on the
+			// estimated rows of all pre-aggregations
+			double preAggCard = Math.min(this.estimator.getCardinality(ga
+					.getChild()), this.estimator.getGroupCount(ga)
+					* preAggPartCnt);
+			int postAggPartCnt = getRepartitionCount(preAggCard,
+					preAggPartCnt);
 			
 			// create pre-aggregation operator
 			Map<AbstractExpression, AbstractExpression> replaceExpr = new HashMap<AbstractExpression, AbstractExpression>();
@@ -105,7 +122,7 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 			EnumPartitionType rePartType = EnumPartitionType
 					.getMaterializeType();
 			PartitionDesc preAggRePartDesc = new PartitionDesc(rePartType,
-					preAggPartCnt);
+					postAggPartCnt);
 			PartitionDesc postAggPartDesc = new PartitionDesc(preAggRePartDesc);
 			
 			
@@ -164,6 +181,9 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 		if (this.containsPartDescs(ej.getOperatorId()))
 			return err;
 
+		// use same partitions for co-partitioned inputs if one was pruned
+		this.prunePartitions(ej);
+
 		// get input partitioning from left and right child
 		Identifier leftId = ej.getLeftChild().getOperatorId();
 		Identifier rightId = ej.getRightChild().getOperatorId();
@@ -188,21 +208,84 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 			doRepartition = false;
 		}
 
-		// do re-partition if both inputs are not compatible
-		if (doRepartition) {
-			// re-partition left input
-			ResultDesc leftResult = ej.getLeftChild().getResult();
-			leftResult.materialize(true);
-			leftResult.repartition(true);
+		// broadcast right input if cheaper than re-partitioning left input
+		boolean doBroadcast = doRepartition
+				&& this.isBroadcastCheaper(ej, leftPartCnt);
+
+		// heavy hitters of left join attribute are spread over all
+		// partitions: right input must be re-partitioned to replicate its
+		// rows with these keys
+		boolean rightCompatible = this.isPartDescJoinCompatible(
+				rightPartDescs, ej.getRightTokenAttribute());
+		boolean doSplitHeavyHitters = doRepartition && !doBroadcast
+				&& this.isSkewed(ej, partCnt);
+
+		// right input must be re-partitioned as well if it is not
+		// partitioned by join attribute (only numeric attributes can be
+		// used for re-partitioning)
+		boolean doRepartitionRight = doRepartition
+				&& !doBroadcast
+				&& (!rightCompatible || doSplitHeavyHitters)
+				&& isNumeric(ej.getLeftChild(), ej.getLeftTokenAttribute())
+				&& isNumeric(ej.getRightChild(), ej.getRightTokenAttribute());
+
+		// re-partitioned left input can not be read by pruned right input:
+		// read all partitions of right input again
+		if (doRepartition && !doBroadcast && !doRepartitionRight
+				&& rightPartCnt > 1
+				&& rightPartDesc.isPruned()
+				&& this.canPrune(ej.getRightChild())) {
+			this.setPartitionNumbers(ej.getRightChild(), null);
+			rightPartDescs = this.getPartDescs(rightId);
+			rightPartCnt = rightPartDescs.iterator().next()
+					.getPartitionCount();
+		}
 
-			// create partition description for re-partitioning left input
-			EnumPartitionType leftRePartType = EnumPartitionType
-					.getMaterializeType();
-			PartitionDesc leftRePartDesc = new PartitionDesc(leftRePartType,
-					rightPartCnt);
-			TokenAttribute partAtt = new TokenAttribute(ej.getLeftTokenAttribute());
-			leftRePartDesc.addPartAttributes(partAtt);
-			leftResult.setPartitionDesc(leftRePartDesc);
+		// broadcast right input: keep partitioning of left input
+		if (doBroadcast) {
+			ResultDesc rightResult = ej.getRightChild().getResult();
+			rightResult.materialize(true);
+			rightResult.repartition(true);
+			rightResult.setPartitionDesc(new PartitionDesc(
+					EnumPartitionType.NO_PARTITION, 1));
+			partCnt = leftPartCnt;
+
+			// add partition descriptions
+			joinPartDescs.addAll(leftPartDescs);
+		}
+		// re-partition both inputs: number of partitions depends on the
+		// estimated rows of both inputs
+		else if (doRepartitionRight) {
+			partCnt = getRepartitionCount(
+					this.estimator.getCardinality(ej.getLeftChild())
+							+ this.estimator.getCardinality(ej
+									.getRightChild()), partCnt);
+			PartitionDesc leftRePartDesc = this.repartition(
+					ej.getLeftChild(), ej.getLeftTokenAttribute(), partCnt);
+			PartitionDesc rightRePartDesc = this.repartition(
+					ej.getRightChild(), ej.getRightTokenAttribute(), partCnt);
+
+			// add partition descriptions: rows with the same heavy hitter
+			// are in different partitions of the join result
+			if (doSplitHeavyHitters) {
+				ej.getLeftChild().getResult().splitHeavyHitters(true);
+				ej.getRightChild().getResult().replicateHeavyHitters(true);
+
+				PartitionDesc skewPartDesc = new PartitionDesc(
+						EnumPartitionType.getMaterializeType(), partCnt);
+				skewPartDesc.addPartAttributes(new TokenAttribute(this
+						.generateInternalAlias()));
+				joinPartDescs.add(skewPartDesc);
+			} else {
+				joinPartDescs.add(leftRePartDesc);
+				joinPartDescs.add(rightRePartDesc);
+			}
+		}
+		// do re-partition if both inputs are not compatible
+		else if (doRepartition) {
+			// re-partition left input like right input
+			PartitionDesc leftRePartDesc = this.repartition(
+					ej.getLeftChild(), ej.getLeftTokenAttribute(), rightPartCnt);
 			partCnt = rightPartCnt;
 
 			// add partition descriptions
@@ -298,7 +381,9 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 		int partCnt = 1;
 		if (to.isPartitioned()) {
 			partCnt = to.getPartitionCount();
-			partDesc.setPartCount(partCnt);
+			partDesc.setPartCount(to.getTablePartitionCount());
+			if (to.isPruned())
+				partDesc.setPartitionNumbers(to.getPartitionNumbers());
 			partDesc.setTableName(to.getTableName());
 			partDesc.setPartitionType(to.getPartitionType());
 			if (to.getPartitionType().isReference()) {
@@ -343,6 +428,270 @@ public class CreatePartitionDescVisitor extends AbstractBottomUpTreeVisitor {
 		return e;
 	}
 
+	/**
+	 * Re-partitions result of a join input by its join attribute
+	 * 
+	 * @param input
+	 * @param joinAtt
+	 * @param partCnt
+	 * @return
+	 */
+	private PartitionDesc repartition(AbstractCompileOperator input,
+			TokenAttribute joinAtt, int partCnt) {
+		ResultDesc result = input.getResult();
+		result.materialize(true);
+		result.repartition(true);
+
+		PartitionDesc rePartDesc = new PartitionDesc(
+				EnumPartitionType.getMaterializeType(), partCnt);
+		rePartDesc.addPartAttributes(new TokenAttribute(joinAtt));
+		result.setPartitionDesc(rePartDesc);
+		return rePartDesc;
+	}
+
+	/**
+	 * Checks if attribute of input is numeric (i.e., can be used for
+	 * re-partitioning)
+	 * 
+	 * @param input
+	 * @param att
+	 * @return
+	 */
+	public static boolean isNumeric(AbstractCompileOperator input,
+			TokenAttribute att) {
+		EnumSimpleType type = getType(input, att);
+		return type != null && type.isNumeric();
+	}
+
+	private static EnumSimpleType getType(AbstractCompileOperator input,
+			TokenAttribute att) {
+		ResultDesc result = input.getResult();
+		for (int i = 0; i < result.getNumAttributes(); ++i) {
+			if (result.getAttribute(i).getName().getValue()
+					.equals(att.getName().getValue()))
+				return result.getType(i);
+		}
+		return null;
+	}
+
+	/**
+	 * Checks if heavy hitters of the left join attribute should be spread
+	 * over all partitions of a join: statistics show a value with more rows
+	 * than Config.OPTIMIZER_SKEW_MIN_SHARE of one partition (w/o statistics
+	 * heavy hitters are not spread). The heavy hitters are detected when the
+	 * left input is materialized (only integer join attributes are
+	 * supported).
+	 * 
+	 * @param ej
+	 * @param partCnt
+	 * @return
+	 */
+	private boolean isSkewed(EquiJoin ej, int partCnt) {
+		AbstractCompileOperator left = ej.getLeftChild();
+		AbstractCompileOperator right = ej.getRightChild();
+		if (!Config.OPTIMIZER_SKEW_SPLIT || left.getParents().size() > 1
+				|| right.getParents().size() > 1
+				|| !EnumSimpleType.SQL_INTEGER.equals(getType(left,
+						ej.getLeftTokenAttribute()))
+				|| !EnumSimpleType.SQL_INTEGER.equals(getType(right,
+						ej.getRightTokenAttribute())))
+			return false;
+
+		double maxFraction = this.estimator.getMaxFraction(left, ej
+				.getLeftTokenAttribute().getName().getValue());
+		if (maxFraction < 0)
+			return false;
+
+		int rePartCnt = getRepartitionCount(
+				this.estimator.getCardinality(left)
+						+ this.estimator.getCardinality(right), partCnt);
+		return maxFraction * rePartCnt > Config.OPTIMIZER_SKEW_MIN_SHARE;
+	}
+
+	/**
+	 * Chooses number of partitions of a re-partitioned result from its
+	 * estimated cardinality: one partition per
+	 * Config.OPTIMIZER_REPARTITION_ROWS rows but not more partitions than
+	 * compute slots of all connections (or partitions of the input)
+	 * 
+	 * @param card
+	 * @param inputPartCnt
+	 * @return
+	 */
+	public static int getRepartitionCount(double card, int inputPartCnt) {
+		if (Config.OPTIMIZER_REPARTITION_ROWS <= 0)
+			return inputPartCnt;
+
+		int maxPartCnt = Math.max(Catalog.getConnectionCount()
+				* Config.COMPUTE_SLOTS, inputPartCnt);
+		double partCnt = Math.ceil(card / Config.OPTIMIZER_REPARTITION_ROWS);
+		return (int) Math.max(Math.min(partCnt, maxPartCnt), 1);
+	}
+
+	/**
+	 * Checks if broadcasting the right input of a join to all partitions of
+	 * the left input ships less rows than re-partitioning the left input
+	 * (using the estimated cardinalities of both inputs). Right inputs with
+	 * more than Config.OPTIMIZER_BROADCAST_MAX_ROWS rows are never broadcast.
+	 * 
+	 * @param ej
+	 * @param leftPartCnt
+	 * @return
+	 */
+	private boolean isBroadcastCheaper(EquiJoin ej, int leftPartCnt) {
+		AbstractCompileOperator right = ej.getRightChild();
+		if (right.getParents().size() > 1)
+			return false;
+
+		return isBroadcastCheaper(
+				this.estimator.getCardinality(ej.getLeftChild()), leftPartCnt,
+				this.estimator.getCardinality(right));
+	}
+
+	/**
+	 * Checks if broadcasting the right input of a join is cheaper than
+	 * re-partitioning the left input (given the estimated cardinalities)
+	 * 
+	 * @param leftCard
+	 * @param leftPartCnt
+	 * @param rightCard
+	 * @return
+	 */
+	public static boolean isBroadcastCheaper(double leftCard, int leftPartCnt,
+			double rightCard) {
+		if (leftPartCnt <= 1 || rightCard > Config.OPTIMIZER_BROADCAST_MAX_ROWS)
+			return false;
+		return rightCard * leftPartCnt < leftCard;
+	}
+
+	/**
+	 * Restricts both inputs of a join to the same partitions if they are
+	 * co-partitioned on the join attributes and the partitions of at least
+	 * one input were pruned: joining rows are stored in partitions with the
+	 * same number.
+	 * 
+	 * @param ej
+	 */
+	private void prunePartitions(EquiJoin ej) {
+		AbstractCompileOperator left = ej.getLeftChild();
+		AbstractCompileOperator right = ej.getRightChild();
+		PartitionDesc leftPartDesc = this.getPartDescs(left.getOperatorId())
+				.iterator().next();
+		PartitionDesc rightPartDesc = this
+				.getPartDescs(right.getOperatorId()).iterator().next();
+		if (!leftPartDesc.isPartitioned() || !rightPartDesc.isPartitioned())
+			return;
+
+		List<Integer> leftPartNums = leftPartDesc.getPartitionNumbers();
+		List<Integer> rightPartNums = rightPartDesc.getPartitionNumbers();
+		if (leftPartNums == null && rightPartNums == null)
+			return;
+		if (leftPartNums != null && leftPartNums.equals(rightPartNums))
+			return;
+
+		// check if inputs are co-partitioned (ignoring pruned partitions)
+		Set<PartitionDesc> leftPartDescs = this.getUnprunedPartDescs(left
+				.getOperatorId());
+		Set<PartitionDesc> rightPartDescs = this.getUnprunedPartDescs(right
+				.getOperatorId());
+		if (!(this.isPartDescJoinCompatible(leftPartDescs,
+				ej.getLeftTokenAttribute()) || this.isPartDescJoinCompatible(
+				rightPartDescs, ej.getRightTokenAttribute()))
+				|| !this.isPartDescJoinCompatible(leftPartDescs, rightPartDescs))
+			return;
+		if (!this.canPrune(left) || !this.canPrune(right))
+			return;
+
+		List<Integer> partNums;
+		if (leftPartNums == null) {
+			partNums = rightPartNums;
+		} else if (rightPartNums == null) {
+			partNums = leftPartNums;
+		} else {
+			partNums = new ArrayList<Integer>(leftPartNums);
+			partNums.retainAll(rightPartNums);
+			// no partition contains joining rows: result is empty
+			if (partNums.isEmpty())
+				partNums.add(leftPartNums.get(0));
+		}
+
+		this.setPartitionNumbers(left, partNums);
+		this.setPartitionNumbers(right, partNums);
+	}
+
+	/**
+	 * Checks if partitions of an operator can be restricted: operator must
+	 * read its partitions only from tables (not from re-partitioned inputs)
+	 * 
+	 * @param op
+	 * @return
+	 */
+	private boolean canPrune(AbstractCompileOperator op) {
+		if (op.getParents().size() > 1)
+			return false;
+
+		switch (op.getType()) {
+		case TABLE:
+			return true;
+		case GENERIC_SELECTION:
+		case GENERIC_PROJECTION:
+		case RENAME:
+		case EQUI_JOIN:
+			for (AbstractCompileOperator child : op.getChildren()) {
+				if (child.getResult().repartition() || !this.canPrune(child))
+					return false;
+			}
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Restricts partitions of an operator and its inputs (or resets them to
+	 * all partitions if null)
+	 * 
+	 * @param op
+	 * @param partNums
+	 */
+	private void setPartitionNumbers(AbstractCompileOperator op,
+			List<Integer> partNums) {
+		int partCnt = 1;
+		if (op.getType().equals(EnumOperator.TABLE)) {
+			TableOperator to = (TableOperator) op;
+			if (to.isPartitioned())
+				to.setPartitionNumbers(partNums);
+		} else {
+			for (AbstractCompileOperator child : op.getChildren()) {
+				this.setPartitionNumbers(child, partNums);
+			}
+		}
+
+		Set<PartitionDesc> newPartDescs = new HashSet<PartitionDesc>();
+		for (PartitionDesc partDesc : this.getPartDescs(op.getOperatorId())) {
+			PartitionDesc newPartDesc = new PartitionDesc(partDesc);
+			if (newPartDesc.isPartitioned()) {
+				newPartDesc.setPartitionNumbers(partNums);
+				partCnt = newPartDesc.getPartitionCount();
+			}
+			newPartDescs.add(newPartDesc);
+		}
+		this.op2partDesc.put(op.getOperatorId(), newPartDescs);
+
+		// set partition count of operator
+		op.getResult().setPartitionCount(partCnt);
+	}
+
+	private Set<PartitionDesc> getUnprunedPartDescs(Identifier opId) {
+		Set<PartitionDesc> partDescs = new HashSet<PartitionDesc>();
+		for (PartitionDesc partDesc : this.getPartDescs(opId)) {
+			PartitionDesc newPartDesc = new PartitionDesc(partDesc);
+			newPartDesc.setPartitionNumbers(null);
+			partDescs.add(newPartDesc);
+		}
+		return partDescs;
+	}
+
 	/**
 	 * Stores a single partitioning description for operator
 	 * 
@@ -31,6 +31,12 @@ public class Parallelizer {
 		if (err.isError())
 			return err;
 				
+		// prune partitions of tables
+		PartitionPruner pruner = new PartitionPruner(this.compilePlan);
+		err = pruner.prune();
+		if (err.isError())
+			return err;
+
 		// add repartition info
 		CreatePartitionDescVisitor repartVisitor = new CreatePartitionDescVisitor(this.compilePlan);
 		err = compilePlan.applyVisitor(repartVisitor);
@@ -0,0 +1,281 @@
+package org.xdb.funsql.parallelize;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.expression.AbstractExpression;
+import org.xdb.funsql.compile.expression.ComplexExpression;
+import org.xdb.funsql.compile.expression.SimpleExpression;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.compile.operator.ResultDesc;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.predicate.AbstractPredicate;
+import org.xdb.funsql.compile.predicate.ComplexPredicate;
+import org.xdb.funsql.compile.predicate.EnumCompOperator;
+import org.xdb.funsql.compile.predicate.EnumPredicateType;
+import org.xdb.funsql.compile.predicate.SimplePredicate;
+import org.xdb.funsql.compile.tokens.AbstractTokenOperand;
+import org.xdb.funsql.compile.tokens.TokenIntegerLiteral;
+import org.xdb.metadata.EnumPartitionType;
+import org.xdb.metadata.PartitionAttribute;
+import org.xdb.metadata.Table;
+import org.xdb.tools.partitioner.Utils;
+
+/**
+ * Partition pruning: restricts table operators to the partitions which can
+ * contain rows that satisfy the selections above the table. Selections must
+ * fix all partition attributes by equality predicates (or disjunctions of
+ * equality predicates) with integer literals. The partitions are computed
+ * using the hash function of the data partitioner. For REF partitioned
+ * tables, the values are mapped along the chain of referenced tables to a
+ * HASH partitioned table.
+ *
+ * Tables which are hash partitioned on several attributes are not pruned
+ * since the integer mode of the data partitioner only hashes the first
+ * attribute (and the catalog does not record the mode).
+ *
+ * RREF partitioned tables are not pruned since the data partitioner places
+ * rows without a referencing row in arbitrary partitions.
+ *
+ */
+public class PartitionPruner {
+	// maximal number of value combinations of the partition attributes
+	private static final int MAX_COMBINATIONS = 1024;
+
+	// compile plan
+	private CompilePlan compilePlan;
+
+	// constructors
+	public PartitionPruner(CompilePlan compilePlan) {
+		super();
+		this.compilePlan = compilePlan;
+	}
+
+	// methods
+	/**
+	 * Prunes partitions of all table operators in plan
+	 *
+	 * @return
+	 */
+	public Error prune() {
+		Error err = new Error();
+		for (AbstractCompileOperator op : this.compilePlan.getOperators()) {
+			if (op.getType().equals(EnumOperator.TABLE))
+				this.pruneTable((TableOperator) op);
+		}
+		return err;
+	}
+
+	/**
+	 * Prunes partitions of a table operator
+	 *
+	 * @param to
+	 */
+	private void pruneTable(TableOperator to) {
+		if (!to.isPartitioned() || to.getTablePartitionCount() <= 1)
+			return;
+
+		Map<String, Set<Long>> attValues = this.getAttributeValues(to);
+		if (attValues.isEmpty())
+			return;
+
+		// values of partition attributes
+		Table table = to.getTable();
+		List<PartitionAttribute> partAtts = new ArrayList<PartitionAttribute>(
+				table.getPartitionAttributes());
+		List<Set<Long>> keyValues = new ArrayList<Set<Long>>();
+		for (PartitionAttribute partAtt : partAtts) {
+			Set<Long> values = attValues.get(ResultDesc.createResultAtt(
+					to.getTableAlias(), partAtt.getName()));
+			if (values == null)
+				return;
+			keyValues.add(values);
+		}
+
+		// map values along REF chain to HASH partitioned table
+		while (table.getPartitionType().equals(EnumPartitionType.REF)) {
+			Table refTable = table.getRefTable();
+			List<PartitionAttribute> refPartAtts = new ArrayList<PartitionAttribute>(
+					refTable.getPartitionAttributes());
+			List<Set<Long>> refKeyValues = new ArrayList<Set<Long>>();
+			for (PartitionAttribute refPartAtt : refPartAtts) {
+				Set<Long> values = null;
+				for (int i = 0; i < partAtts.size(); ++i) {
+					Long refAttOid = partAtts.get(i).getRef_att_oid();
+					if (refAttOid != null
+							&& refAttOid == refPartAtt.getPart_att_oid())
+						values = keyValues.get(i);
+				}
+				if (values == null)
+					return;
+				refKeyValues.add(values);
+			}
+
+			table = refTable;
+			partAtts = refPartAtts;
+			keyValues = refKeyValues;
+		}
+		if (!table.getPartitionType().isHash())
+			return;
+
+		// both modes of the partitioner only agree for a single attribute
+		if (keyValues.size() != 1)
+			return;
+
+		// partitions of all combinations of values
+		int combinations = 1;
+		for (Set<Long> values : keyValues) {
+			combinations *= values.size();
+			if (combinations > MAX_COMBINATIONS)
+				return;
+		}
+		Set<Integer> partNums = new TreeSet<Integer>();
+		this.addPartitions(keyValues, new String[keyValues.size()], 0,
+				to.getTablePartitionCount(), partNums);
+		if (partNums.size() >= to.getTablePartitionCount())
+			return;
+		// contradicting predicates: result is empty
+		if (partNums.isEmpty())
+			partNums.add(0);
+
+		to.setPartitionNumbers(new ArrayList<Integer>(partNums));
+		this.compilePlan.setLiteralDependent(true);
+	}
+
+	private void addPartitions(List<Set<Long>> keyValues, String[] key,
+			int i, int partCnt, Set<Integer> partNums) {
+		if (i == key.length) {
+			partNums.add(Utils.getPartition(Utils.calculateHash(key), partCnt));
+			return;
+		}
+
+		for (Long value : keyValues.get(i)) {
+			key[i] = value.toString();
+			this.addPartitions(keyValues, key, i + 1, partCnt, partNums);
+		}
+	}
+
+	/**
+	 * Collects values of attributes which are fixed by the selections above
+	 * a table operator
+	 *
+	 * @param to
+	 * @return
+	 */
+	private Map<String, Set<Long>> getAttributeValues(TableOperator to) {
+		Map<String, Set<Long>> attValues = new HashMap<String, Set<Long>>();
+		AbstractCompileOperator op = to;
+		while (op.getParents().size() == 1 && !op.isRoot()) {
+			AbstractCompileOperator parent = op.getParents().get(0);
+			if (!parent.getType().equals(EnumOperator.GENERIC_SELECTION))
+				break;
+
+			GenericSelection gs = (GenericSelection) parent;
+			List<AbstractPredicate> conjuncts = gs.getPredicate().splitAnd();
+			if (conjuncts.isEmpty())
+				conjuncts.add(gs.getPredicate());
+			for (AbstractPredicate conjunct : conjuncts) {
+				Map<String, Set<Long>> values = new HashMap<String, Set<Long>>();
+				if (!this.getValues(conjunct, values) || values.size() != 1)
+					continue;
+
+				// intersect values of conjuncts on same attribute
+				String attName = values.keySet().iterator().next();
+				Set<Long> newValues = values.get(attName);
+				if (attValues.containsKey(attName))
+					attValues.get(attName).retainAll(newValues);
+				else
+					attValues.put(attName, newValues);
+			}
+			op = parent;
+		}
+		return attValues;
+	}
+
+	/**
+	 * Collects values of an equality predicate or a disjunction of equality
+	 * predicates (returns false if predicate has another form)
+	 *
+	 * @param predicate
+	 * @param values
+	 * @return
+	 */
+	private boolean getValues(AbstractPredicate predicate,
+			Map<String, Set<Long>> values) {
+		if (predicate.isNegated())
+			return false;
+
+		if (predicate instanceof ComplexPredicate) {
+			ComplexPredicate cp = (ComplexPredicate) predicate;
+			// parser wraps predicates in complex predicates without siblings
+			if (cp.getPredicates2().isEmpty())
+				return this.getValues(cp.getPredicate1(), values);
+			if (!cp.getType().equals(EnumPredicateType.OR_PREDICATE))
+				return false;
+
+			if (!this.getValues(cp.getPredicate1(), values))
+				return false;
+			for (AbstractPredicate pred2 : cp.getPredicates2()) {
+				if (!this.getValues(pred2, values))
+					return false;
+			}
+			return true;
+		}
+
+		if (!(predicate instanceof SimplePredicate))
+			return false;
+		SimplePredicate sp = (SimplePredicate) predicate;
+		if (!sp.getComp().equals(EnumCompOperator.SQL_EQUAL))
+			return false;
+
+		AbstractTokenOperand oper1 = getOperand(sp.getExpr1());
+		AbstractTokenOperand oper2 = getOperand(sp.getExpr2());
+		if (oper1 == null || oper2 == null)
+			return false;
+
+		String attName;
+		AbstractTokenOperand literal;
+		if (oper1.isAttribute() && oper2 instanceof TokenIntegerLiteral) {
+			attName = sp.getExpr1().getAttributes().iterator().next()
+					.getName().getValue();
+			literal = oper2;
+		} else if (oper2.isAttribute() && oper1 instanceof TokenIntegerLiteral) {
+			attName = sp.getExpr2().getAttributes().iterator().next()
+					.getName().getValue();
+			literal = oper1;
+		} else {
+			return false;
+		}
+
+		// hash of negative values depends on the mode of the partitioner
+		long value = ((TokenIntegerLiteral) literal).getValue();
+		if (value < 0)
+			return false;
+
+		if (!values.containsKey(attName)) {
+			if (!values.isEmpty())
+				return false;
+			values.put(attName, new TreeSet<Long>());
+		}
+		values.get(attName).add(value);
+		return true;
+	}
+
+	private static AbstractTokenOperand getOperand(AbstractExpression expr) {
+		// parser wraps operands in complex expressions without siblings
+		if (expr instanceof ComplexExpression
+				&& ((ComplexExpression) expr).getExprs2().isEmpty())
+			return getOperand(((ComplexExpression) expr).getExpr1());
+		if (!(expr instanceof SimpleExpression))
+			return null;
+		return ((SimpleExpression) expr).getOper();
+	}
+}
@@ -18,6 +18,7 @@ public abstract class AbstractServerStmt {
 	protected String stmtString;
 	protected boolean doSemanticAnalysis = true;
     protected QueryStats queryStats; 
+	protected String resourceGroup;
     
 	// getter and setters
 	public void doSemanticAnalysis(boolean doSemanticAnalysis) {
@@ -48,6 +49,14 @@ public abstract class AbstractServerStmt {
 		return this.queryStats;
 	}
 
+	public String getResourceGroup() {
+		return resourceGroup;
+	}
+
+	public void setResourceGroup(String resourceGroup) {
+		this.resourceGroup = resourceGroup;
+	}
+
 	// methods
 
 	/**
@@ -63,6 +72,7 @@ public abstract class AbstractServerStmt {
 		case CREATE_SCHEMA:
 		case CREATE_TABLE:
 		case DROP_TABLE:
+		case ANALYZE_TABLE:
 		case CREATE_FUNCTION:
 		case DROP_FUNCTION:
 			return true;
@@ -0,0 +1,107 @@
+package org.xdb.funsql.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.xdb.error.EnumError;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.tokens.TokenTable;
+import org.xdb.metadata.AttributeStatistics;
+import org.xdb.metadata.Catalog;
+import org.xdb.metadata.EnumDatabaseObject;
+import org.xdb.metadata.Schema;
+import org.xdb.metadata.StatisticsCollector;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+
+/**
+ * ANALYZE TABLE: computes statistics of all partitions of a table in parallel
+ * and stores them in the catalog (replacing old statistics)
+ *
+ */
+public class AnalyzeTableStmt extends AbstractServerStmt {
+	private TokenTable tTable;
+	private Table table;
+
+	// constructors
+	public AnalyzeTableStmt() {
+		super();
+		this.statementType = EnumStatement.ANALYZE_TABLE;
+	}
+
+	public AnalyzeTableStmt(String table) {
+		this();
+
+		this.tTable = new TokenTable(table);
+	}
+
+	// getters and setters
+	public void setTable(TokenTable table) {
+		this.tTable = table;
+	}
+
+	public void setSchema(String schema) {
+		this.tTable.setSchema(schema);
+	}
+
+	// methods
+	@Override
+	public Error compile() {
+		// check if table exists
+		String schemaKey = this.tTable.getSchema().hashKey();
+		Schema schema = Catalog.getSchema(schemaKey);
+		String tableKey = this.tTable.hashKey(schema.getOid());
+		this.table = Catalog.getTable(tableKey);
+		if (this.table == null) {
+			return Catalog.createObjectNotExistsErr(this.tTable.getName()
+					.toString(), EnumDatabaseObject.TABLE);
+		}
+
+		return Error.NO_ERROR;
+	}
+
+	@Override
+	public Error execute() {
+		int partCnt = this.table.isPartioned() ? this.table.getPartitions()
+				.size() : 1;
+
+		// one collector per partition
+		List<StatisticsCollector> collectors = new ArrayList<StatisticsCollector>();
+		for (int i = 0; i < partCnt; ++i) {
+			collectors.add(new StatisticsCollector(this.table, i));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(partCnt);
+		try {
+			for (Future<Error> future : executor.invokeAll(collectors)) {
+				Error err = future.get();
+				if (err.isError())
+					return err;
+			}
+		} catch (InterruptedException e) {
+			return createAnalyzeErr(e);
+		} catch (ExecutionException e) {
+			return createAnalyzeErr(e);
+		} finally {
+			executor.shutdown();
+		}
+
+		List<TableStatistics> tableStats = new ArrayList<TableStatistics>();
+		List<AttributeStatistics> attStats = new ArrayList<AttributeStatistics>();
+		for (StatisticsCollector collector : collectors) {
+			tableStats.add(collector.getTableStatistics());
+			attStats.addAll(collector.getAttributeStatistics());
+		}
+		return Catalog.updateStatistics(this.table, tableStats, attStats);
+	}
+
+	private Error createAnalyzeErr(Exception e) {
+		String[] args = { "Statistics of table " + this.table.getName()
+				+ " could not be computed: " + e.toString() };
+		return new Error(EnumError.COMPILER_GENERIC, args);
+	}
+}
@@ -74,6 +74,7 @@ public class CallFunctionStmt extends AbstractServerStmt {
 	@Override
 	public Error execute() {
 		MasterTrackerClient client = new MasterTrackerClient();
+		this.fPlan.setResourceGroup(this.resourceGroup);
 		Error err = client.executePlan(this.fPlan);
 		if (err.isError())
 			return err;
@@ -7,6 +7,7 @@ public enum EnumStatement {
 	DROP_SCHEMA,
 	CREATE_TABLE,
 	DROP_TABLE,
+	ANALYZE_TABLE,
 	CREATE_FUNCTION,
 	DROP_FUNCTION,
 	CALL_FUNCTION,
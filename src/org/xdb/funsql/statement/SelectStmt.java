@@ -157,6 +157,10 @@ public class SelectStmt extends AbstractServerStmt {
 		return plan;
 	}
 
+	public void setPlan(CompilePlan plan) {
+		this.plan = plan;
+	}
+
 	@Override
 	public Error compile() {
 		System.out.println("Compiling: "+this.getStmtString());
@@ -775,6 +779,7 @@ public class SelectStmt extends AbstractServerStmt {
 		for (AbstractCompileOperator abstractCompileOperator : ops) {
 			System.out.println(abstractCompileOperator.getRuntime());
 		}
+		this.plan.setResourceGroup(this.resourceGroup);
 		Error err = client.executePlan(this.plan);
 		if (err.isError())
 			return err;
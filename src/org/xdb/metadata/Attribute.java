@@ -1,8 +1,13 @@
 package org.xdb.metadata;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
 import org.xdb.Config;
 import org.xdb.funsql.compile.tokens.AbstractToken;
 import org.xdb.funsql.types.EnumSimpleType;
+import org.xdb.utils.HyperLogLog;
 
 public class Attribute extends AbstractDatabaseObject{
 /*	
@@ -27,6 +32,9 @@ public class Attribute extends AbstractDatabaseObject{
 	private EnumSimpleType dataType;
 	private long tableOid = Config.METADATA_TEMP_OID;
 
+	// statistics per partition (computed by ANALYZE TABLE)
+	private Map<Integer, AttributeStatistics> statistics = new TreeMap<Integer, AttributeStatistics>();
+
 	
 	/**
 	 * Copy Constructor
@@ -35,6 +43,7 @@ public class Attribute extends AbstractDatabaseObject{
 	public Attribute(Attribute toCopy) {
 		super(toCopy);
 		this.dataType = toCopy.dataType;
+		this.statistics.putAll(toCopy.statistics);
 
 	}
 	private Attribute() {
@@ -82,6 +91,39 @@ public class Attribute extends AbstractDatabaseObject{
 		this.tableOid = tableOid;
 	}
 
+	public void addStatistics(AttributeStatistics attStats) {
+		this.statistics.put(attStats.getPartNum(), attStats);
+	}
+
+	public void clearStatistics() {
+		this.statistics.clear();
+	}
+
+	public Collection<AttributeStatistics> getStatistics() {
+		return this.statistics.values();
+	}
+
+	public boolean hasStatistics() {
+		return !this.statistics.isEmpty();
+	}
+
+	/**
+	 * Estimates number of distinct values in all partitions by merging the
+	 * sketches of the partitions (or returns -1 if attribute was not analyzed)
+	 * 
+	 * @return
+	 */
+	public long getDistinctCount() {
+		if (!this.hasStatistics())
+			return -1;
+
+		HyperLogLog sketch = new HyperLogLog();
+		for (AttributeStatistics attStats : this.statistics.values()) {
+			sketch.merge(attStats.getSketch());
+		}
+		return sketch.estimate();
+	}
+
 	@Override
 	public String getTableName() {
 		return TABLE_NAME;
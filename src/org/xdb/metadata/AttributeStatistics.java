@@ -0,0 +1,239 @@
+package org.xdb.metadata;
+
+import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.utils.EquiDepthHistogram;
+import org.xdb.utils.HyperLogLog;
+import org.xdb.utils.StringEscape;
+
+/**
+ * Represents the metadata table AttributeStatistics: statistics of an
+ * attribute in one partition of a table as computed by ANALYZE TABLE
+ *
+ */
+public class AttributeStatistics extends AbstractDatabaseObject {
+
+	private static final long serialVersionUID = 7725018426512904721L;
+
+	private static final String TABLE_NAME = AbstractToken
+			.toSqlIdentifier("ATTRIBUTESTATISTICS");
+
+	private static final String[] ATTRIBUTES = { "ATT_OID", "PART_NUM",
+			"NULL_CNT", "DISTINCT_CNT", "MIN_VALUE", "MAX_VALUE", "SKETCH",
+			"HISTOGRAM" };
+	private static final String ALL_ATTRIBUTES = AbstractToken
+			.toSqlIdentifierList(ATTRIBUTES);
+	private static final String ATT_OID_NAME = AbstractToken
+			.toSqlIdentifier(ATTRIBUTES[0]);
+
+	private static AttributeStatistics prototype = new AttributeStatistics();
+
+	private long attOid;
+	private int partNum;
+	private long nullCnt;
+	private long distinctCnt;
+	private String minValue;
+	private String maxValue;
+	private HyperLogLog sketch;
+	private EquiDepthHistogram histogram;
+
+	// constructors
+	public AttributeStatistics(AttributeStatistics toCopy) {
+		super(toCopy);
+		this.attOid = toCopy.attOid;
+		this.partNum = toCopy.partNum;
+		this.nullCnt = toCopy.nullCnt;
+		this.distinctCnt = toCopy.distinctCnt;
+		this.minValue = toCopy.minValue;
+		this.maxValue = toCopy.maxValue;
+		this.sketch = toCopy.sketch;
+		this.histogram = toCopy.histogram;
+	}
+
+	private AttributeStatistics() {
+		super();
+		this.objectType = EnumDatabaseObject.ATTRIBUTESTATISTICS;
+	}
+
+	public AttributeStatistics(long attOid, int partNum, long nullCnt,
+			String minValue, String maxValue, HyperLogLog sketch,
+			EquiDepthHistogram histogram) {
+		this();
+		this.attOid = attOid;
+		this.partNum = partNum;
+		this.nullCnt = nullCnt;
+		this.distinctCnt = sketch.estimate();
+		this.minValue = minValue;
+		this.maxValue = maxValue;
+		this.sketch = sketch;
+		this.histogram = histogram;
+	}
+
+	// getters and setters
+	public long getAttOid() {
+		return attOid;
+	}
+
+	public int getPartNum() {
+		return partNum;
+	}
+
+	public long getNullCnt() {
+		return nullCnt;
+	}
+
+	public long getDistinctCnt() {
+		return distinctCnt;
+	}
+
+	public String getMinValue() {
+		return minValue;
+	}
+
+	public String getMaxValue() {
+		return maxValue;
+	}
+
+	public HyperLogLog getSketch() {
+		return sketch;
+	}
+
+	/**
+	 * Returns histogram (or null for attributes which are no numbers or
+	 * dates)
+	 *
+	 * @return
+	 */
+	public EquiDepthHistogram getHistogram() {
+		return histogram;
+	}
+
+	// methods
+	@Override
+	public String sqlInsert() {
+		StringBuffer insertSql = new StringBuffer();
+		insertSql.append(AbstractToken.INSERT);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.INTO);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(METADATA_SCHEMA);
+		insertSql.append(AbstractToken.DOT);
+		insertSql.append(TABLE_NAME);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.LBRACE);
+		insertSql.append(ALL_ATTRIBUTES);
+		insertSql.append(AbstractToken.RBRACE);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.VALUES);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.LBRACE);
+		insertSql.append(this.attOid);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.partNum);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.nullCnt);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.distinctCnt);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(toSqlValue(this.minValue));
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(toSqlValue(this.maxValue));
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(AbstractToken.toSqlLiteral(this.sketch.toString()));
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(toSqlValue(this.histogram == null ? null
+				: this.histogram.toString()));
+		insertSql.append(AbstractToken.RBRACE);
+		return insertSql.toString();
+	}
+
+	private static String toSqlValue(String value) {
+		if (value == null)
+			return AbstractToken.NULL;
+		return AbstractToken.toSqlLiteral(StringEscape.escapeSql(value));
+	}
+
+	/**
+	 * Deletes statistics of all partitions of the attribute
+	 */
+	@Override
+	public String sqlDelete() {
+		return sqlDeleteAttribute(this.attOid);
+	}
+
+	protected static String sqlDeleteAttribute(long attOid) {
+		StringBuffer deleteSql = new StringBuffer();
+		deleteSql.append(AbstractToken.DELETE);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(AbstractToken.FROM);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(METADATA_SCHEMA);
+		deleteSql.append(AbstractToken.DOT);
+		deleteSql.append(TABLE_NAME);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(AbstractToken.WHERE);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(ATT_OID_NAME);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(AbstractToken.EQUAL1);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(attOid);
+		return deleteSql.toString();
+	}
+
+	protected static String sqlSelectAll() {
+		return prototype.internalSqlSelectAll();
+	}
+
+	protected static String sqlDeleteAll() {
+		return prototype.interalSqlDeleteAll();
+	}
+
+	/**
+	 * Creates statistics from a row of the metadata table
+	 *
+	 * @param attOid
+	 * @param partNum
+	 * @param nullCnt
+	 * @param distinctCnt
+	 * @param minValue
+	 * @param maxValue
+	 * @param sketch
+	 * @param histogram
+	 * @param numeric
+	 * @return
+	 */
+	protected static AttributeStatistics create(long attOid, int partNum,
+			long nullCnt, long distinctCnt, String minValue, String maxValue,
+			String sketch, String histogram, boolean numeric) {
+		AttributeStatistics attStats = new AttributeStatistics();
+		attStats.attOid = attOid;
+		attStats.partNum = partNum;
+		attStats.nullCnt = nullCnt;
+		attStats.distinctCnt = distinctCnt;
+		attStats.minValue = minValue;
+		attStats.maxValue = maxValue;
+		attStats.sketch = HyperLogLog.valueOf(sketch);
+		if (histogram != null)
+			attStats.histogram = EquiDepthHistogram.valueOf(histogram, numeric);
+		return attStats;
+	}
+
+	@Override
+	public String getTableName() {
+		return TABLE_NAME;
+	}
+
+	@Override
+	public String getAllAttributes() {
+		return ALL_ATTRIBUTES;
+	}
+
+	@Override
+	public String hashKey() {
+		StringBuffer hashKey = new StringBuffer();
+		hashKey.append(this.attOid);
+		hashKey.append(AbstractToken.DOT);
+		hashKey.append(this.partNum);
+		return hashKey.toString();
+	}
+}
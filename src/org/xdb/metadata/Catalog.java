@@ -46,8 +46,15 @@ public class Catalog {
 	private static HashMap<Long, Function> functions = new HashMap<Long, Function>();
 	private static HashMap<String, Function> functionsByName = new HashMap<String, Function>();
 
+	// incremented on every change of the catalog (e.g., to invalidate cached plans)
+	private static long version = 0;
+
 	private static Logger log = XDBLog.getLogger(EnumXDBComponents.COMPILE_CATALOG);
 
+	public static synchronized long getVersion() {
+		return Catalog.version;
+	}
+
 	public static synchronized Error delete() {
 		try {
 			Class.forName(Config.METADATA_DRIVER_CLASS);
@@ -66,6 +73,16 @@ public class Catalog {
 				return lastError;
 			}
 			
+			lastError = Catalog.executeUpdate(AttributeStatistics.sqlDeleteAll());
+			if (lastError != Error.NO_ERROR) {
+				return lastError;
+			}
+
+			lastError = Catalog.executeUpdate(TableStatistics.sqlDeleteAll());
+			if (lastError != Error.NO_ERROR) {
+				return lastError;
+			}
+
 			lastError = Catalog.executeUpdate(PartitionAttribute.sqlDeleteAll());
 			if (lastError != Error.NO_ERROR) {
 				return lastError;
@@ -113,6 +130,7 @@ public class Catalog {
 
 	public static synchronized Error load() {
 		Error lastError;
+		Catalog.version++;
 
 		try {
 			Class.forName(Config.METADATA_DRIVER_CLASS);
@@ -132,6 +150,7 @@ public class Catalog {
 			Catalog.initPartitionAttributes();
 			Catalog.initConnectionToTable();
 			Catalog.initPartitionToConnection();
+			Catalog.initStatistics();
 			
 			//Functions
 			Catalog.initFunctions();
@@ -147,6 +166,7 @@ public class Catalog {
 	}
 
 	public static synchronized Error unload() {
+		Catalog.version++;
 		Catalog.attributes.clear();
 		Catalog.attributesByName.clear();
 		Catalog.connections.clear();
@@ -247,6 +267,7 @@ public class Catalog {
 	}
 
 	private static synchronized Error executeUpdate(String sql) {
+		Catalog.version++;
 		try {
 			log.log(Level.INFO, sql);
 			Statement stmt = Catalog.conn.createStatement();
@@ -299,6 +320,34 @@ public class Catalog {
 		}
 	}
 
+	private static synchronized void initStatistics() throws Exception {
+		Statement stmt = null;
+		ResultSet rs = null;
+		stmt = Catalog.conn.createStatement();
+		rs = stmt.executeQuery(TableStatistics.sqlSelectAll());
+		while (rs.next()) {
+			// add statistics to table
+			long tableOid = rs.getLong(1);
+			int partNum = rs.getInt(2);
+			long rowCnt = rs.getLong(3);
+			TableStatistics tableStats = new TableStatistics(tableOid, partNum, rowCnt);
+			Catalog.tables.get(tableOid).addStatistics(tableStats);
+		}
+
+		stmt = Catalog.conn.createStatement();
+		rs = stmt.executeQuery(AttributeStatistics.sqlSelectAll());
+		while (rs.next()) {
+			// add statistics to attribute
+			long attOid = rs.getLong(1);
+			Attribute att = Catalog.attributes.get(attOid);
+			AttributeStatistics attStats = AttributeStatistics.create(attOid,
+					rs.getInt(2), rs.getLong(3), rs.getLong(4),
+					rs.getString(5), rs.getString(6), rs.getString(7),
+					rs.getString(8), att.getDataType().isNumeric());
+			att.addStatistics(attStats);
+		}
+	}
+
 	private static synchronized void initAttributes() throws Exception {
 		Statement stmt = null;
 		ResultSet rs = null;
@@ -702,6 +751,49 @@ public class Catalog {
 		return lastError;
 	}
 
+	/**
+	 * Replaces statistics of a table and its attributes
+	 * 
+	 * @param table
+	 * @param tableStats
+	 * @param attStats
+	 * @return
+	 */
+	public static synchronized Error updateStatistics(Table table,
+			List<TableStatistics> tableStats, List<AttributeStatistics> attStats) {
+		// delete old statistics
+		Error lastError = Catalog.executeUpdate(TableStatistics
+				.sqlDeleteTable(table.getOid()));
+		if (lastError.isError())
+			return lastError;
+
+		for (Attribute att : table.getAttributes()) {
+			lastError = Catalog.executeUpdate(AttributeStatistics
+					.sqlDeleteAttribute(att.getOid()));
+			if (lastError.isError())
+				return lastError;
+			att.clearStatistics();
+		}
+		table.clearStatistics();
+
+		// insert new statistics
+		for (TableStatistics newTableStats : tableStats) {
+			lastError = Catalog.executeUpdate(newTableStats.sqlInsert());
+			if (lastError.isError())
+				return lastError;
+			table.addStatistics(newTableStats);
+		}
+
+		for (AttributeStatistics newAttStats : attStats) {
+			lastError = Catalog.executeUpdate(newAttStats.sqlInsert());
+			if (lastError.isError())
+				return lastError;
+			Catalog.attributes.get(newAttStats.getAttOid()).addStatistics(
+					newAttStats);
+		}
+		return lastError;
+	}
+
 	public static synchronized Error createFunction(Function function) {
 		if (Catalog.functions.containsKey(function.getOid())) {
 			return createObjectAlreadyExistsErr(function);
@@ -909,6 +1001,10 @@ public class Catalog {
 		return Catalog.connectionsByName.get(key);
 	}
 
+	public static synchronized int getConnectionCount() {
+		return Catalog.connections.size();
+	}
+
 	public static synchronized Schema getSchema(long oid) {
 		return Catalog.schemas.get(oid);
 	}
@@ -36,7 +36,7 @@ public class PartitionAttribute extends AbstractDatabaseObject{
 	
 	public PartitionAttribute( long part_att_oid, Long ref_att_oid) {
 		this(part_att_oid);
-		this.part_att_oid = part_att_oid;
+		this.ref_att_oid = ref_att_oid;
 	}
 	
 	public long getPart_att_oid() {
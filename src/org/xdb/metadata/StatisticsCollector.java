@@ -0,0 +1,255 @@
+package org.xdb.metadata;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.xdb.Config;
+import org.xdb.error.EnumError;
+import org.xdb.error.Error;
+import org.xdb.execute.ConnectionPool;
+import org.xdb.execute.PooledConnection;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.compile.tokens.AbstractToken;
+import org.xdb.utils.EquiDepthHistogram;
+import org.xdb.utils.HyperLogLog;
+
+/**
+ * Computes statistics of one partition of a table (row count, number of NULL
+ * values, minimum and maximum, distinct count sketch, and histogram for
+ * numbers and dates) directly on the compute database which stores the
+ * partition.
+ *
+ */
+public class StatisticsCollector implements Callable<Error> {
+	private static final String JDBC_PREFIX = "jdbc:";
+
+	private final Table table;
+	private final int partNum;
+	private final List<Attribute> atts;
+
+	// result
+	private TableStatistics tableStats;
+	private final List<AttributeStatistics> attStats = new ArrayList<AttributeStatistics>();
+
+	// constructors
+	public StatisticsCollector(Table table, int partNum) {
+		this.table = table;
+		this.partNum = partNum;
+		this.atts = new ArrayList<Attribute>(table.getAttributes());
+	}
+
+	// getters and setters
+	public TableStatistics getTableStatistics() {
+		return this.tableStats;
+	}
+
+	public List<AttributeStatistics> getAttributeStatistics() {
+		return this.attStats;
+	}
+
+	// methods
+	/**
+	 * Name of the partition in the compute database
+	 *
+	 * @return
+	 */
+	private String getPartitionName() {
+		if (this.table.isPartioned())
+			return this.table.getName() + TableOperator.PART_PREFIX
+					+ this.partNum;
+		return this.table.getName();
+	}
+
+	/**
+	 * Connection which stores the partition (first replica)
+	 *
+	 * @return
+	 */
+	private Connection getConnection() {
+		List<Connection> conns;
+		if (this.table.isPartioned())
+			conns = this.table.getPartition(this.partNum).getConnections();
+		else
+			conns = this.table.getConnections();
+		return conns.get(0);
+	}
+
+	@Override
+	public Error call() {
+		Connection conn = this.getConnection();
+		ConnectionPool pool = ConnectionPool.getPool(
+				JDBC_PREFIX + conn.getUrl(), conn.getUser(), conn.getPasswd());
+		PooledConnection pooledConn = null;
+		try {
+			pooledConn = pool.borrow();
+			Statement stmt = pooledConn.createStatement();
+
+			// row count, null count, min and max
+			long rowCnt = 0;
+			long[] nullCnts = new long[this.atts.size()];
+			String[] minValues = new String[this.atts.size()];
+			String[] maxValues = new String[this.atts.size()];
+			ResultSet rs = stmt.executeQuery(this.sqlSummary());
+			if (rs.next()) {
+				rowCnt = rs.getLong(1);
+				for (int i = 0; i < this.atts.size(); ++i) {
+					nullCnts[i] = rowCnt - rs.getLong(2 + 3 * i);
+					minValues[i] = rs.getString(3 + 3 * i);
+					maxValues[i] = rs.getString(4 + 3 * i);
+				}
+			}
+			rs.close();
+			this.tableStats = new TableStatistics(this.table.getOid(),
+					this.partNum, rowCnt);
+
+			// sample for histograms
+			List<List<String>> samples = this.sample(stmt, rowCnt);
+
+			for (int i = 0; i < this.atts.size(); ++i) {
+				Attribute att = this.atts.get(i);
+
+				// distinct count sketch: one row per register
+				HyperLogLog sketch = new HyperLogLog();
+				rs = stmt.executeQuery(this.sqlSketch(att));
+				while (rs.next()) {
+					sketch.add(rs.getInt(1), rs.getInt(2));
+				}
+				rs.close();
+
+				EquiDepthHistogram histogram = null;
+				if (hasHistogram(att) && minValues[i] != null) {
+					histogram = EquiDepthHistogram.create(samples.get(i),
+							minValues[i], maxValues[i],
+							Config.OPTIMIZER_STATISTICS_HISTOGRAM_BUCKETS, att
+									.getDataType().isNumeric());
+				}
+
+				this.attStats.add(new AttributeStatistics(att.getOid(),
+						this.partNum, nullCnts[i], minValues[i],
+						maxValues[i], sketch, histogram));
+			}
+			stmt.close();
+		} catch (Exception e) {
+			if (pooledConn != null)
+				pooledConn.markBroken();
+			return createAnalyzeErr(this.getPartitionName(), e);
+		} finally {
+			pool.release(pooledConn);
+		}
+		return Error.NO_ERROR;
+	}
+
+	/**
+	 * Samples non-null values of all attributes with a histogram (Bernoulli
+	 * sample of about OPTIMIZER_STATISTICS_SAMPLE_ROWS rows)
+	 *
+	 * @param stmt
+	 * @param rowCnt
+	 * @return
+	 * @throws SQLException
+	 */
+	private List<List<String>> sample(Statement stmt, long rowCnt)
+			throws SQLException {
+		List<List<String>> samples = new ArrayList<List<String>>();
+		StringBuffer sampleSql = new StringBuffer();
+		for (Attribute att : this.atts) {
+			samples.add(new ArrayList<String>());
+			if (!hasHistogram(att))
+				continue;
+
+			if (sampleSql.length() == 0) {
+				sampleSql.append(AbstractToken.SELECT);
+				sampleSql.append(AbstractToken.BLANK);
+			} else {
+				sampleSql.append(AbstractToken.COMMA);
+			}
+			sampleSql.append(att.getName());
+		}
+		if (sampleSql.length() == 0 || rowCnt == 0)
+			return samples;
+
+		sampleSql.append(AbstractToken.BLANK);
+		sampleSql.append(AbstractToken.FROM);
+		sampleSql.append(AbstractToken.BLANK);
+		sampleSql.append(this.getPartitionName());
+		if (rowCnt > Config.OPTIMIZER_STATISTICS_SAMPLE_ROWS) {
+			double fraction = (double) Config.OPTIMIZER_STATISTICS_SAMPLE_ROWS
+					/ rowCnt;
+			sampleSql.append(AbstractToken.BLANK);
+			sampleSql.append(AbstractToken.WHERE);
+			sampleSql.append(" RAND() < ");
+			sampleSql.append(fraction);
+		}
+
+		ResultSet rs = stmt.executeQuery(sampleSql.toString());
+		while (rs.next()) {
+			int col = 1;
+			for (int i = 0; i < this.atts.size(); ++i) {
+				if (!hasHistogram(this.atts.get(i)))
+					continue;
+
+				String value = rs.getString(col++);
+				if (value != null)
+					samples.get(i).add(value);
+			}
+		}
+		rs.close();
+		return samples;
+	}
+
+	private String sqlSummary() {
+		StringBuffer summarySql = new StringBuffer();
+		summarySql.append(AbstractToken.SELECT);
+		summarySql.append(" COUNT(*)");
+		for (Attribute att : this.atts) {
+			summarySql.append(", COUNT(");
+			summarySql.append(att.getName());
+			summarySql.append("), MIN(");
+			summarySql.append(att.getName());
+			summarySql.append("), MAX(");
+			summarySql.append(att.getName());
+			summarySql.append(AbstractToken.RBRACE);
+		}
+		summarySql.append(AbstractToken.BLANK);
+		summarySql.append(AbstractToken.FROM);
+		summarySql.append(AbstractToken.BLANK);
+		summarySql.append(this.getPartitionName());
+		return summarySql.toString();
+	}
+
+	private String sqlSketch(Attribute att) {
+		StringBuffer sketchSql = new StringBuffer();
+		sketchSql.append(AbstractToken.SELECT);
+		sketchSql.append(AbstractToken.BLANK);
+		sketchSql.append(HyperLogLog.sqlRegister(att.getName()));
+		sketchSql.append(", MAX(");
+		sketchSql.append(HyperLogLog.sqlRank(att.getName()));
+		sketchSql.append(") FROM ");
+		sketchSql.append(this.getPartitionName());
+		sketchSql.append(" WHERE ");
+		sketchSql.append(att.getName());
+		sketchSql.append(" IS NOT NULL GROUP BY 1");
+		return sketchSql.toString();
+	}
+
+	private static boolean hasHistogram(Attribute att) {
+		switch (att.getDataType()) {
+		case SQL_INTEGER:
+		case SQL_DECIMAL:
+		case SQL_DATE:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private static Error createAnalyzeErr(String partition, Exception e) {
+		String[] args = { "Statistics of " + partition
+				+ " could not be computed: " + e.toString() };
+		return new Error(EnumError.COMPILER_GENERIC, args);
+	}
+}
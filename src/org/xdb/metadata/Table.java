@@ -50,6 +50,9 @@ public class Table extends AbstractDatabaseObject {
 	private Long partitionCnt = 1l;
 	private Long refTableOid = null;
 
+	// statistics per partition (computed by ANALYZE TABLE)
+	private Map<Integer, TableStatistics> statistics = new TreeMap<Integer, TableStatistics>();
+
 	// constants
 	public static final String PART_PREFIX = "P";
 
@@ -76,6 +79,8 @@ public class Table extends AbstractDatabaseObject {
 			this.connections.add(connection);
 		}
 
+		this.statistics.putAll(toCopy.statistics);
+
 	}
 
 	public Table() {
@@ -179,6 +184,94 @@ public class Table extends AbstractDatabaseObject {
 		return partitionAtts.values();
 	}
 
+	public void addStatistics(TableStatistics tableStats) {
+		this.statistics.put(tableStats.getPartNum(), tableStats);
+	}
+
+	public void clearStatistics() {
+		this.statistics.clear();
+	}
+
+	public Collection<TableStatistics> getStatistics() {
+		return this.statistics.values();
+	}
+
+	public boolean hasStatistics() {
+		return !this.statistics.isEmpty();
+	}
+
+	/**
+	 * Returns number of rows of all partitions (or -1 if table was not
+	 * analyzed)
+	 * 
+	 * @return
+	 */
+	public long getRowCount() {
+		if (!this.hasStatistics())
+			return -1;
+
+		long rowCnt = 0;
+		for (TableStatistics tableStats : this.statistics.values()) {
+			rowCnt += tableStats.getRowCnt();
+		}
+		return rowCnt;
+	}
+
+	/**
+	 * Estimates fraction of rows with a value of an attribute less than given
+	 * value using the histograms of all partitions (or returns -1 if no
+	 * histograms exist)
+	 * 
+	 * @param att
+	 * @param value
+	 * @return
+	 */
+	public double getFractionLess(Attribute att, String value) {
+		double rowsLess = 0.0;
+		long rowCnt = 0;
+		for (AttributeStatistics attStats : att.getStatistics()) {
+			TableStatistics tableStats = this.statistics.get(attStats
+					.getPartNum());
+			if (attStats.getHistogram() == null || tableStats == null)
+				return -1;
+
+			long nonNullCnt = tableStats.getRowCnt() - attStats.getNullCnt();
+			rowsLess += attStats.getHistogram().getFractionLess(value)
+					* nonNullCnt;
+			rowCnt += tableStats.getRowCnt();
+		}
+		if (rowCnt == 0)
+			return -1;
+		return rowsLess / rowCnt;
+	}
+
+	/**
+	 * Estimates fraction of rows with the most frequent value of an attribute
+	 * using the histograms of all partitions (assumes that the most frequent
+	 * value is the same in all partitions or returns -1 if no histograms
+	 * exist)
+	 * 
+	 * @param att
+	 * @return
+	 */
+	public double getMaxFraction(Attribute att) {
+		double maxRows = 0.0;
+		long rowCnt = 0;
+		for (AttributeStatistics attStats : att.getStatistics()) {
+			TableStatistics tableStats = this.statistics.get(attStats
+					.getPartNum());
+			if (attStats.getHistogram() == null || tableStats == null)
+				return -1;
+
+			long nonNullCnt = tableStats.getRowCnt() - attStats.getNullCnt();
+			maxRows += attStats.getHistogram().getMaxFraction() * nonNullCnt;
+			rowCnt += tableStats.getRowCnt();
+		}
+		if (rowCnt == 0)
+			return -1;
+		return maxRows / rowCnt;
+	}
+
 	public void addPartition(Partition partition) {
 		this.partitions.add(partition);
 	}
@@ -0,0 +1,145 @@
+package org.xdb.metadata;
+
+import org.xdb.funsql.compile.tokens.AbstractToken;
+
+/**
+ * Represents the metadata table TableStatistics: statistics of one partition
+ * of a table as computed by ANALYZE TABLE
+ *
+ */
+public class TableStatistics extends AbstractDatabaseObject {
+
+	private static final long serialVersionUID = -1286046380870343524L;
+
+	private static final String TABLE_NAME = AbstractToken
+			.toSqlIdentifier("TABLESTATISTICS");
+
+	private static final String[] ATTRIBUTES = { "TABLE_OID", "PART_NUM",
+			"ROW_CNT" };
+	private static final String ALL_ATTRIBUTES = AbstractToken
+			.toSqlIdentifierList(ATTRIBUTES);
+	private static final String TABLE_OID_NAME = AbstractToken
+			.toSqlIdentifier(ATTRIBUTES[0]);
+
+	private static TableStatistics prototype = new TableStatistics();
+
+	private long tableOid;
+	private int partNum;
+	private long rowCnt;
+
+	// constructors
+	public TableStatistics(TableStatistics toCopy) {
+		super(toCopy);
+		this.tableOid = toCopy.tableOid;
+		this.partNum = toCopy.partNum;
+		this.rowCnt = toCopy.rowCnt;
+	}
+
+	private TableStatistics() {
+		super();
+		this.objectType = EnumDatabaseObject.TABLESTATISTICS;
+	}
+
+	public TableStatistics(long tableOid, int partNum, long rowCnt) {
+		this();
+		this.tableOid = tableOid;
+		this.partNum = partNum;
+		this.rowCnt = rowCnt;
+	}
+
+	// getters and setters
+	public long getTableOid() {
+		return tableOid;
+	}
+
+	public int getPartNum() {
+		return partNum;
+	}
+
+	public long getRowCnt() {
+		return rowCnt;
+	}
+
+	// methods
+	@Override
+	public String sqlInsert() {
+		StringBuffer insertSql = new StringBuffer();
+		insertSql.append(AbstractToken.INSERT);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.INTO);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(METADATA_SCHEMA);
+		insertSql.append(AbstractToken.DOT);
+		insertSql.append(TABLE_NAME);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.LBRACE);
+		insertSql.append(ALL_ATTRIBUTES);
+		insertSql.append(AbstractToken.RBRACE);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.VALUES);
+		insertSql.append(AbstractToken.BLANK);
+		insertSql.append(AbstractToken.LBRACE);
+		insertSql.append(this.tableOid);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.partNum);
+		insertSql.append(AbstractToken.COMMA);
+		insertSql.append(this.rowCnt);
+		insertSql.append(AbstractToken.RBRACE);
+		return insertSql.toString();
+	}
+
+	/**
+	 * Deletes statistics of all partitions of the table
+	 */
+	@Override
+	public String sqlDelete() {
+		return sqlDeleteTable(this.tableOid);
+	}
+
+	protected static String sqlDeleteTable(long tableOid) {
+		StringBuffer deleteSql = new StringBuffer();
+		deleteSql.append(AbstractToken.DELETE);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(AbstractToken.FROM);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(METADATA_SCHEMA);
+		deleteSql.append(AbstractToken.DOT);
+		deleteSql.append(TABLE_NAME);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(AbstractToken.WHERE);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(TABLE_OID_NAME);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(AbstractToken.EQUAL1);
+		deleteSql.append(AbstractToken.BLANK);
+		deleteSql.append(tableOid);
+		return deleteSql.toString();
+	}
+
+	protected static String sqlSelectAll() {
+		return prototype.internalSqlSelectAll();
+	}
+
+	protected static String sqlDeleteAll() {
+		return prototype.interalSqlDeleteAll();
+	}
+
+	@Override
+	public String getTableName() {
+		return TABLE_NAME;
+	}
+
+	@Override
+	public String getAllAttributes() {
+		return ALL_ATTRIBUTES;
+	}
+
+	@Override
+	public String hashKey() {
+		StringBuffer hashKey = new StringBuffer();
+		hashKey.append(this.tableOid);
+		hashKey.append(AbstractToken.DOT);
+		hashKey.append(this.partNum);
+		return hashKey.toString();
+	}
+}
@@ -1,14 +1,21 @@
 package org.xdb.monitor;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.xdb.Config;
 import org.xdb.client.ComputeClient;
+import org.xdb.execute.ComputeNodeDesc;
 import org.xdb.execute.operators.EnumOperatorStatus;
 import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBLog;
+import org.xdb.monitor.HeartbeatMonitor.NodeLiveness;
 import org.xdb.tracker.QueryTrackerPlan;
 import org.xdb.utils.Identifier;
 
@@ -27,7 +34,10 @@ public class ComputeServersMonitor {
 	private QueryTrackerPlan qtPlan;
 
 	// Flag if failure was detected in last round
-	private boolean failureDetected = false;
+	private volatile boolean failureDetected = false;
+
+	// operators which were not reported by a heartbeat -> first time
+	private final ConcurrentHashMap<Identifier, Long> unconfirmedSince = new ConcurrentHashMap<Identifier, Long>();
 	
 	// logger
 	private transient Logger logger;
@@ -70,43 +80,79 @@ public class ComputeServersMonitor {
 	}
 
 	/**
-	 * Pinging all the compute nodes existing in the current deployment. Giving
-	 * the proper command to the query tracker server once detecting compute
-	 * node failure.
+	 * Checks all operators of the current deployment using the heartbeats of
+	 * their compute nodes (no RPC is sent). An operator has failed if it was
+	 * aborted, if its compute node is suspected by the heartbeat monitor or
+	 * if it was not reported by a heartbeat for
+	 * Config.QUERYTRACKER_HEARTBEAT_TIMEOUT ms.
+	 * 
+	 * Does not need the monitoring lock of the plan.
 	 * 
+	 * @return failed operators (execute operator id -> status)
 	 */
-	public void monitorAllOperators() {
-
-		Map<Identifier, OperatorDesc> deployment = this.qtPlan.getCurrentDeployment();
-		
-		for (Identifier identifier : deployment.keySet()) {
-
-			OperatorDesc opDesc = deployment.get(identifier);
-
-			// do not ping if operator is aborted or finished
-			switch (opDesc.getOperatorStatus()){
+	public Map<Identifier, EnumOperatorStatus> monitorAllOperators() {
+		Map<Identifier, EnumOperatorStatus> failures = new HashMap<Identifier, EnumOperatorStatus>();
+		HeartbeatMonitor heartbeatMonitor = this.qtPlan.getHeartbeatMonitor();
+		long now = System.currentTimeMillis();
+
+		Set<Identifier> deployedOps = new HashSet<Identifier>();
+		for (OperatorDesc opDesc : this.qtPlan.getCurrentDeployment().values()) {
+			Identifier execOpId = opDesc.getOperatorID();
+			deployedOps.add(execOpId);
+
+			// do not check if operator is aborted or finished
+			switch (opDesc.getOperatorStatus()) {
 			case ABORTED:
-				logger.log(Level.INFO, "Aborted Operator " + identifier
+				logger.log(Level.INFO, "Aborted Operator " + execOpId
 						+ " has been detected");
-				this.setFailureDetected(true);
+				failures.put(execOpId, EnumOperatorStatus.ABORTED);
 				continue;
 			case FINISHED:
+				this.unconfirmedSince.remove(execOpId);
 				continue;
 			default:
-				break;	
+				break;
+			}
+
+			if (heartbeatMonitor == null)
+				continue;
+
+			ComputeNodeDesc node = opDesc.getComputeNode();
+			if (heartbeatMonitor.isSuspected(node, now)) {
+				logger.log(Level.INFO, "Operator " + execOpId
+						+ " has been detected on suspected compute node: "
+						+ node);
+				failures.put(execOpId, EnumOperatorStatus.getRuntimeFailure());
+				continue;
 			}
-			
-			// ping operators to get their status
-			EnumOperatorStatus opStatus = this.computeClient.pingOperator(opDesc.getComputeNode(), opDesc.getOperatorID());
-			opDesc.setOperatorStatus(opStatus);
-			if (opStatus.isFailure()) {
-				logger.log(Level.INFO, "Operator " + identifier
-						+ " has been detected on killed compute node: "
-						+ opDesc.getComputeNode());
-				this.setFailureDetected(true);
+
+			// check status of operator in last heartbeat
+			NodeLiveness liveness = heartbeatMonitor.getLiveness(node);
+			EnumOperatorStatus opStatus = (liveness == null) ? null : liveness
+					.getOperatorStatus(execOpId);
+			if (opStatus != null) {
+				this.unconfirmedSince.remove(execOpId);
+				if (opStatus.isFailure()) {
+					logger.log(Level.INFO, "Operator " + execOpId
+							+ " has been reported as failed by compute node: "
+							+ node);
+					failures.put(execOpId, opStatus);
+				}
+				continue;
 			}
 
+			// operator is not (yet) reported by its compute node
+			Long since = this.unconfirmedSince.putIfAbsent(execOpId, now);
+			if (since != null
+					&& now - since > Config.QUERYTRACKER_HEARTBEAT_TIMEOUT) {
+				logger.log(Level.INFO, "Operator " + execOpId
+						+ " has not been reported by compute node: " + node);
+				failures.put(execOpId, EnumOperatorStatus.getRuntimeFailure());
+			}
 		}
 
+		// forget operators which are not deployed anymore
+		this.unconfirmedSince.keySet().retainAll(deployedOps);
+		return failures;
 	}
 }
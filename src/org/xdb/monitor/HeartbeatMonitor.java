@@ -0,0 +1,200 @@
+package org.xdb.monitor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.execute.signals.HeartbeatSignal;
+import org.xdb.utils.Identifier;
+
+/**
+ * Collects heartbeats of compute nodes on a query tracker and decides if a
+ * compute node is suspected to have failed (phi accrual failure detector):
+ * the inter-arrival times of the heartbeats of each node are tracked and a
+ * node is suspected if phi of the time since its last heartbeat exceeds
+ * Config.QUERYTRACKER_HEARTBEAT_PHI or if no heartbeat arrived for
+ * Config.QUERYTRACKER_HEARTBEAT_TIMEOUT ms.
+ *
+ * Heartbeats are recorded without any lock of the query tracker plans.
+ *
+ * Compute nodes only send heartbeats while they execute operators of the
+ * query tracker. Thus, the history of a node is reset when it is assigned
+ * to a plan: the idle time before is neither an inter-arrival time nor a
+ * missing heartbeat.
+ *
+ */
+public class HeartbeatMonitor {
+
+	// number of inter-arrival times which are used to estimate distribution
+	private static final int WINDOW_SIZE = 100;
+
+	/**
+	 * Heartbeat history and last reported operator status of one compute node
+	 */
+	public static class NodeLiveness {
+		private final LinkedList<Long> intervals = new LinkedList<Long>();
+		private double intervalSum = 0;
+		private double intervalSquareSum = 0;
+		// 0 = no heartbeat since node was assigned to a plan
+		private volatile long lastArrival = 0;
+		private volatile Map<Identifier, EnumOperatorStatus> operatorStatus = Collections
+				.emptyMap();
+
+		public long getLastArrival() {
+			return this.lastArrival;
+		}
+
+		/**
+		 * Returns status of operator in last heartbeat (or null if operator
+		 * was not reported)
+		 *
+		 * @param execOpId
+		 * @return
+		 */
+		public EnumOperatorStatus getOperatorStatus(Identifier execOpId) {
+			return this.operatorStatus.get(execOpId);
+		}
+
+		/**
+		 * Drops inter-arrival times and waits for next heartbeat
+		 */
+		private synchronized void reset() {
+			this.intervals.clear();
+			this.intervalSum = 0;
+			this.intervalSquareSum = 0;
+			this.lastArrival = 0;
+		}
+
+		private synchronized void heartbeat(long now,
+				Map<Identifier, EnumOperatorStatus> operatorStatus) {
+			// first heartbeat has no inter-arrival time
+			if (this.lastArrival > 0) {
+				long interval = now - this.lastArrival;
+				this.intervals.add(interval);
+				this.intervalSum += interval;
+				this.intervalSquareSum += (double) interval * interval;
+				if (this.intervals.size() > WINDOW_SIZE) {
+					long removed = this.intervals.removeFirst();
+					this.intervalSum -= removed;
+					this.intervalSquareSum -= (double) removed * removed;
+				}
+			}
+
+			this.operatorStatus = new HashMap<Identifier, EnumOperatorStatus>(
+					operatorStatus);
+			this.lastArrival = now;
+		}
+
+		/**
+		 * Returns suspicion level of node (phi) at given time
+		 *
+		 * @param now
+		 * @return
+		 */
+		public synchronized double getPhi(long now) {
+			double expected = Math.max(1, Config.COMPUTE_HEARTBEAT_INTERVAL);
+			double mean = expected;
+			double variance = 0.0;
+			if (!this.intervals.isEmpty()) {
+				mean = this.intervalSum / this.intervals.size();
+				variance = this.intervalSquareSum / this.intervals.size()
+						- mean * mean;
+			}
+
+			// minimal standard deviation to tolerate jitter of regular
+			// heartbeats
+			double stdDev = Math.max(Math.sqrt(Math.max(0.0, variance)),
+					expected / 4);
+			return phi(now - this.lastArrival, mean, stdDev);
+		}
+	}
+
+	// compute node (URL:PORT) -> liveness
+	private final ConcurrentHashMap<String, NodeLiveness> nodes = new ConcurrentHashMap<String, NodeLiveness>();
+
+	// methods
+	/**
+	 * Records heartbeat of a compute node
+	 *
+	 * @param heartbeat
+	 */
+	public void heartbeat(HeartbeatSignal heartbeat) {
+		long now = System.currentTimeMillis();
+		String key = getKey(heartbeat.getComputeNode());
+
+		NodeLiveness liveness = this.nodes.get(key);
+		if (liveness == null) {
+			liveness = new NodeLiveness();
+			NodeLiveness existing = this.nodes.putIfAbsent(key, liveness);
+			if (existing != null)
+				liveness = existing;
+		}
+		liveness.heartbeat(now, heartbeat.getOperatorStatus());
+	}
+
+	/**
+	 * Resets heartbeat history of a compute node which is assigned to a plan
+	 *
+	 * @param node
+	 */
+	public void reset(ComputeNodeDesc node) {
+		NodeLiveness liveness = this.getLiveness(node);
+		if (liveness != null)
+			liveness.reset();
+	}
+
+	/**
+	 * Returns liveness of compute node (or null if no heartbeat was received
+	 * yet)
+	 *
+	 * @param node
+	 * @return
+	 */
+	public NodeLiveness getLiveness(ComputeNodeDesc node) {
+		return this.nodes.get(getKey(node));
+	}
+
+	/**
+	 * Checks if compute node is suspected to have failed
+	 *
+	 * @param node
+	 * @param now
+	 * @return
+	 */
+	public boolean isSuspected(ComputeNodeDesc node, long now) {
+		NodeLiveness liveness = this.getLiveness(node);
+		if (liveness == null || liveness.getLastArrival() == 0)
+			return false;
+
+		if (now - liveness.getLastArrival() > Config.QUERYTRACKER_HEARTBEAT_TIMEOUT)
+			return true;
+		return liveness.getPhi(now) > Config.QUERYTRACKER_HEARTBEAT_PHI;
+	}
+
+	private static String getKey(ComputeNodeDesc node) {
+		return node.getUrl() + ":" + node.getPort();
+	}
+
+	/**
+	 * Computes phi = -log10(1 - F(timeDiff)) where F is the normal
+	 * distribution of the inter-arrival times (logistic approximation)
+	 *
+	 * @param timeDiff
+	 * @param mean
+	 * @param stdDev
+	 * @return
+	 */
+	static double phi(long timeDiff, double mean, double stdDev) {
+		double y = (timeDiff - mean) / stdDev;
+		double e = Math.exp(-y * (1.5976 + 0.070566 * y * y));
+		if (timeDiff > mean)
+			return -Math.log10(e / (1.0 + e));
+		else
+			return -Math.log10(1.0 - 1.0 / (1.0 + e));
+	}
+}
@@ -1,9 +1,10 @@
 package org.xdb.server;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.net.Socket;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -15,55 +16,81 @@ import org.xdb.error.Error;
  * @author cbinnig
  *
  */
-public abstract class AbstractHandler extends Thread {
-	protected Socket client;
+public abstract class AbstractHandler {
 	protected Logger logger;
 
 	// constructor
-	public AbstractHandler(final Socket client) {
-		this.client = client;
+	public AbstractHandler() {
+		super();
 	}
 
-	@Override
 	/**
-	 * Run method which reads compute command from client, 
-	 * calls handler and sends result back to client
+	 * Reads command from request, calls handler and writes result to
+	 * response
+	 *
+	 * @param request
+	 * @param response
 	 */
-	public void run() {
+	public void execute(final InputStream request,
+			final ByteArrayOutputStream response) {
 		Error err = new Error();
 		// handle request
 		try {
-			final ObjectOutputStream out = new ObjectOutputStream(
-					client.getOutputStream());
-			final ObjectInputStream in = new ObjectInputStream(client.getInputStream());
+			final ObjectOutputStream out = new ObjectOutputStream(response);
+			final ObjectInputStream in = new ObjectInputStream(request);
 			err = handle(out, in);
 			// send response
 			out.writeObject(err);
+			out.flush();
 		} catch (final Exception e) {
 			err = createServerError(e);
+
+			// replace partial response by error
+			try {
+				response.reset();
+				final ObjectOutputStream out = new ObjectOutputStream(response);
+				out.writeObject(err);
+				out.flush();
+			} catch (final IOException e1) {
+				createServerError(e1);
+			}
 		}
 
 		// log error
 		if (err.isError()) {
 			logger.log(Level.SEVERE, err.toString());
 		}
-
-		// close handler
-		close();
 	}
 
-	private void close() {
-		// close socket
+	/**
+	 * Sends error as deferred response of a request (see
+	 * RpcConnection.deferResponse())
+	 *
+	 * @param response
+	 * @param err
+	 */
+	protected void sendResponse(final RpcConnection.DeferredResponse response,
+			Error err) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
 		try {
-			client.close();
+			final ObjectOutputStream out = new ObjectOutputStream(bytes);
+			out.writeObject(err);
+			out.flush();
 		} catch (final IOException e) {
 			createServerError(e);
+			return;
+		}
+
+		// log error
+		if (err.isError()) {
+			logger.log(Level.SEVERE, err.toString());
 		}
+		response.send(bytes.toByteArray());
 	}
 
 	/**
 	 * Create SERVER_ERROR from an exception
-	 * 
+	 *
 	 * @param e
 	 * @return Error
 	 */
@@ -78,9 +105,9 @@ public abstract class AbstractHandler extends Thread {
 
 	/**
 	 * Handle cmd
-	 * 
+	 *
 	 * @return
 	 * @throws IOException
 	 */
 	protected abstract Error handle(ObjectOutputStream out, ObjectInputStream in) throws IOException;
-}
\ No newline at end of file
+}
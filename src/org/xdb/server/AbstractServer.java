@@ -2,13 +2,26 @@ package org.xdb.server;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.xdb.Config;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.logging.XDBLog;
@@ -35,9 +48,19 @@ public abstract class AbstractServer {
 	protected ServerThread serverThread = null;
 
 	// network
-	protected ServerSocket serverSocket = null;
+	protected ServerSocketChannel serverChannel = null;
 	protected int port = -1;
 
+	// persistent client connections, I/O threads which read and write them
+	// and bounded pool of workers which execute their requests
+	private final Set<RpcConnection> connections = new HashSet<RpcConnection>();
+	private RpcIoThread[] ioThreads = null;
+	private int nextIoThread = 0;
+	private ThreadPoolExecutor workers = null;
+
+	// connections which wait for a free worker
+	private final Queue<RpcConnection> suspended = new ConcurrentLinkedQueue<RpcConnection>();
+
 	// helper
 	protected Logger logger;
 	protected Error err = new Error();
@@ -58,6 +81,35 @@ public abstract class AbstractServer {
 		return false;
 	}
 
+	/**
+	 * Returns pool which executes requests of all connections. The pool has
+	 * at most SERVER_WORKER_THREADS threads and SERVER_WORKER_QUEUE waiting
+	 * requests.
+	 * 
+	 * @return
+	 */
+	protected synchronized ThreadPoolExecutor getWorkers() {
+		if (this.workers == null) {
+			final String name = this.getClass().getSimpleName();
+			this.workers = new ThreadPoolExecutor(Config.SERVER_WORKER_THREADS,
+					Config.SERVER_WORKER_THREADS, 60, TimeUnit.SECONDS,
+					new ArrayBlockingQueue<Runnable>(Config.SERVER_WORKER_QUEUE),
+					new ThreadFactory() {
+						private final AtomicInteger lastThreadNo = new AtomicInteger();
+
+						@Override
+						public Thread newThread(Runnable r) {
+							Thread t = new Thread(r, name + "-Worker-"
+									+ lastThreadNo.incrementAndGet());
+							t.setDaemon(true);
+							return t;
+						}
+					});
+			this.workers.allowCoreThreadTimeOut(true);
+		}
+		return this.workers;
+	}
+
 	/**
 	 * Starts server thread on local node
 	 */
@@ -116,8 +168,10 @@ public abstract class AbstractServer {
 				}
 			}
 			
-			// close socket
+			// close socket and connections of clients
 			this.closeSocket();
+			this.closeConnections();
+			this.stopIoThreads();
 
 			// set status
 			serverThread.setNotRunning();
@@ -135,16 +189,17 @@ public abstract class AbstractServer {
 	protected void executeServer() {
 
 		try {
-			this.serverSocket = new ServerSocket();
-			this.serverSocket.setReuseAddress(true);
-			this.serverSocket.bind(new InetSocketAddress(this.port));
+			this.serverChannel = ServerSocketChannel.open();
+			this.serverChannel.socket().setReuseAddress(true);
+			this.serverChannel.socket().bind(new InetSocketAddress(this.port));
+			this.startIoThreads();
 
 			serverThread.setRunning();
 
 			while (!serverThread.isInterrupted()) {
 				try {
-					Socket clientSocket = this.serverSocket.accept();
-					this.handle(clientSocket);
+					SocketChannel clientChannel = this.serverChannel.accept();
+					this.addConnection(clientChannel);
 				} catch (Exception e) {
 					// Nothing to do
 				}
@@ -159,10 +214,10 @@ public abstract class AbstractServer {
 	 * Closes server socket
 	 */
 	protected void closeSocket() {
-		if (this.serverSocket != null) {
+		if (this.serverChannel != null) {
 			try {
-				this.serverSocket.close();
-				this.serverSocket = null;
+				this.serverChannel.close();
+				this.serverChannel = null;
 			} catch (IOException e) {
 				this.createServerError(e);
 			}
@@ -170,11 +225,163 @@ public abstract class AbstractServer {
 	}
 
 	/**
-	 * Handle client requests
+	 * Starts I/O threads which read and write client connections
+	 * 
+	 * @throws IOException
+	 */
+	private void startIoThreads() throws IOException {
+		String name = this.getClass().getSimpleName();
+		RpcIoThread[] ioThreads = new RpcIoThread[Math.max(1,
+				Config.SERVER_IO_THREADS)];
+		for (int i = 0; i < ioThreads.length; ++i) {
+			ioThreads[i] = new RpcIoThread(name + "-IO-" + (i + 1), this.logger);
+			ioThreads[i].start();
+		}
+
+		synchronized (this.connections) {
+			this.ioThreads = ioThreads;
+		}
+	}
+
+	/**
+	 * Stops I/O threads
+	 */
+	private void stopIoThreads() {
+		RpcIoThread[] ioThreads;
+		synchronized (this.connections) {
+			ioThreads = this.ioThreads;
+			this.ioThreads = null;
+		}
+		if (ioThreads == null)
+			return;
+
+		for (RpcIoThread ioThread : ioThreads) {
+			ioThread.shutdown();
+		}
+	}
+
+	/**
+	 * Registers a new client connection at the next I/O thread
+	 * 
+	 * @param channel
+	 */
+	private void addConnection(SocketChannel channel) {
+		RpcConnection connection = null;
+		RpcIoThread ioThread = null;
+		synchronized (this.connections) {
+			if (this.ioThreads != null) {
+				ioThread = this.ioThreads[this.nextIoThread];
+				this.nextIoThread = (this.nextIoThread + 1)
+						% this.ioThreads.length;
+
+				connection = new RpcConnection(this, channel, ioThread,
+						this.logger);
+				this.connections.add(connection);
+			}
+		}
+
+		if (connection == null) {
+			// server is stopped
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			return;
+		}
+		ioThread.register(connection);
+	}
+
+	/**
+	 * Removes a closed client connection
+	 * 
+	 * @param connection
+	 */
+	protected void removeConnection(RpcConnection connection) {
+		synchronized (this.connections) {
+			this.connections.remove(connection);
+		}
+		this.suspended.remove(connection);
+	}
+
+	/**
+	 * Executes request of a connection by a worker
+	 * 
+	 * @param connection
+	 * @param request
+	 * @return false if all workers are busy and the queue is full
+	 */
+	protected boolean dispatch(final RpcConnection connection,
+			final RpcProtocol.Frame request) {
+		ThreadPoolExecutor workers = this.getWorkers();
+		try {
+			workers.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						connection.execute(request);
+					} finally {
+						resumeConnection();
+					}
+				}
+			});
+			return true;
+		} catch (RejectedExecutionException e) {
+			if (workers.isShutdown()) {
+				connection.close();
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Registers connection which waits for a free worker
+	 * 
+	 * @param connection
+	 */
+	protected void suspendConnection(RpcConnection connection) {
+		this.suspended.add(connection);
+
+		// workers might have become free in the meantime
+		if (this.getWorkers().getQueue().remainingCapacity() > 0)
+			this.resumeConnection();
+	}
+
+	/**
+	 * Resumes one waiting connection (called when a worker becomes free)
+	 */
+	private void resumeConnection() {
+		RpcConnection connection = this.suspended.poll();
+		if (connection != null)
+			connection.resume();
+	}
+
+	/**
+	 * Closes all client connections. The connection which requested to stop
+	 * the server is closed after its response was sent.
+	 */
+	protected void closeConnections() {
+		List<RpcConnection> openConnections;
+		synchronized (this.connections) {
+			openConnections = new ArrayList<RpcConnection>(this.connections);
+		}
+
+		RpcConnection current = RpcConnection.getCurrent();
+		for (RpcConnection connection : openConnections) {
+			if (connection == current)
+				connection.closeAfterResponse();
+			else
+				connection.close();
+		}
+	}
+
+	/**
+	 * Creates handler for a client request
 	 * 
-	 * @param client
+	 * @return
 	 */
-	protected abstract void handle(Socket client);
+	protected abstract AbstractHandler createHandler();
 
 	/**
 	 * Create SERVER_ERROR from an exception
@@ -3,7 +3,6 @@ package org.xdb.server;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.net.Socket;
 import java.util.logging.Level;
 
 import org.xdb.Config;
@@ -24,8 +23,8 @@ public class CompileServer extends AbstractServer {
 
 	private class Handler extends AbstractHandler {
 		// constructor
-		public Handler(final Socket client) {
-			super(client);
+		public Handler() {
+			super();
 			logger = CompileServer.this.logger;
 		}
 
@@ -96,9 +95,8 @@ public class CompileServer extends AbstractServer {
 	 * Handle incoming client requests
 	 */
 	@Override
-	protected void handle(final Socket client) {
-		final Handler handler = new Handler(client);
-		handler.start();
+	protected AbstractHandler createHandler() {
+		return new Handler();
 	}
 
 	@Override
@@ -3,14 +3,15 @@ package org.xdb.server;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.Vector;
 import java.util.logging.Level;
 
 import org.xdb.Config;
 import org.xdb.error.Error;
 import org.xdb.execute.ComputeNode;
 import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.exchange.ExchangeServer;
 import org.xdb.execute.operators.AbstractExecuteOperator;
 import org.xdb.execute.operators.EnumOperatorStatus;
 import org.xdb.execute.signals.CloseSignal;
@@ -36,8 +37,8 @@ public class ComputeServer extends AbstractServer {
 	 */
 	private class Handler extends AbstractHandler {
 		// constructor
-		public Handler(final Socket client) {
-			super(client);
+		public Handler() {
+			super();
 			logger = ComputeServer.this.logger;
 		}
 
@@ -61,6 +62,7 @@ public class ComputeServer extends AbstractServer {
 					ComputeServer.this.stopServer();
 					break;
 				case CMD_PING_SERVER:
+					out.writeObject(compute.getStats());
 					break;
 				case CMD_PING_OPERATOR:
 					final Identifier opID = (Identifier) in.readObject();
@@ -73,6 +75,12 @@ public class ComputeServer extends AbstractServer {
 					err = compute.openOperator(op);
 					out.writeObject(op.getStatus());
 					break;
+				case CMD_OPEN_OPS:
+					@SuppressWarnings("unchecked")
+					final Vector<AbstractExecuteOperator> ops = (Vector<AbstractExecuteOperator>) in.readObject();
+					logger.log(Level.INFO, "Received " + ops.size() + " operators");
+					out.writeObject(compute.openOperators(ops));
+					break;
 				case CMD_READY_SIGNAL:
 					final ReadySignal readSignal = (ReadySignal) in.readObject();
 					logger.log(Level.INFO, "Received ready signal for operator:" + readSignal.getConsumer());
@@ -110,10 +118,14 @@ public class ComputeServer extends AbstractServer {
 	public static final int CMD_READY_SIGNAL = 2;
 	public static final int CMD_CLOSE_SIGNAL = 3;
 	public static final int CMD_KILL_SIGNAL = 4;
+	public static final int CMD_OPEN_OPS = 5;
 
 	// Compute node which executes commands
 	private final ComputeNode compute;
 
+	// Exchange server which ships intermediate results to consumers
+	private ExchangeServer exchange;
+
 	// constructors
 	public ComputeServer(final int port) throws Exception {
 		super(EnumXDBComponents.COMPUTE_SERVER);
@@ -162,12 +174,11 @@ public class ComputeServer extends AbstractServer {
 
 	// methods
 	/**
-	 * Handle incoming client requests
+	 * Creates handler for incoming client requests
 	 */
 	@Override
-	protected void handle(final Socket client) {
-		final Handler handler = new Handler(client);
-		handler.start();
+	protected AbstractHandler createHandler() {
+		return new Handler();
 	}
 	
 	public ComputeNodeDesc getComputeNode(){
@@ -178,6 +189,8 @@ public class ComputeServer extends AbstractServer {
 		super.startServer();
 		
 		this.err = this.compute.startup(true);
+		if(!this.err.isError())
+			this.err = this.startExchange();
 	}
 	
 	@Override
@@ -187,6 +200,10 @@ public class ComputeServer extends AbstractServer {
 			return err;
 		
 		this.err = this.compute.startup(false);
+		if(this.err.isError())
+			return err;
+		
+		this.err = this.startExchange();
 		return this.err;
 	}
 	
@@ -194,9 +211,30 @@ public class ComputeServer extends AbstractServer {
 	public synchronized void stopServer(){
 		super.stopServer();
 		
+		this.stopExchange();
 		this.compute.shutdown();
 	}
 	
+	/**
+	 * Starts exchange server if intermediate results are shipped by exchange
+	 * @return
+	 */
+	private Error startExchange(){
+		if(!Config.COMPUTE_EXCHANGE_ACTIVE)
+			return this.err;
+		
+		this.exchange = new ExchangeServer(this.port);
+		return this.exchange.startServer();
+	}
+	
+	private void stopExchange(){
+		if(this.exchange == null)
+			return;
+		
+		this.exchange.stopServer();
+		this.exchange = null;
+	}
+	
 	/**
 	 * Start server from command line
 	 * 
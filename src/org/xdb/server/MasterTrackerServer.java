@@ -3,7 +3,6 @@ package org.xdb.server;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.net.Socket;
 import java.util.Collection;
 import java.util.Set;
 import java.util.logging.Level;
@@ -17,9 +16,11 @@ import org.xdb.doomdb.DoomDBPlanDesc;
 import org.xdb.doomdb.DoomDBPlanStatus;
 import org.xdb.error.Error;
 import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.ComputeNodeStats;
 import org.xdb.execute.signals.RestartSignal;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.logging.EnumXDBComponents;
+import org.xdb.tracker.IPlanCallback;
 import org.xdb.tracker.MasterTrackerNode;
 import org.xdb.tracker.QueryTrackerNodeDesc;
 import org.xdb.tracker.signals.RegisterSignal;
@@ -29,8 +30,8 @@ public class MasterTrackerServer extends AbstractServer {
 
 	private class Handler extends AbstractHandler {
 		// constructor
-		public Handler(final Socket client) {
-			super(client);
+		public Handler() {
+			super();
 			logger = MasterTrackerServer.this.logger;
 		}
 
@@ -55,8 +56,10 @@ public class MasterTrackerServer extends AbstractServer {
 					@SuppressWarnings("unchecked")
 					final RegisterSignal<ComputeNodeDesc> registerCNSignal = (RegisterSignal<ComputeNodeDesc>) in
 							.readObject();
-					err = tracker.registerComputeNode(registerCNSignal
-							.getDescription());
+					final ComputeNodeStats registerCNStats = (ComputeNodeStats) in
+							.readObject();
+					err = tracker.registerComputeNode(
+							registerCNSignal.getDescription(), registerCNStats);
 
 					break;
 				case CMD_REGISTER_QUERYTRACKER_NODE:
@@ -73,8 +76,20 @@ public class MasterTrackerServer extends AbstractServer {
 					out.writeObject(tracker.getAvailableComputeNodes(requiredNodes));
 					break;
 				case CMD_EXECUTE_PLAN:
+					// respond when plan is finished without holding worker
 					final CompilePlan cplan1 = (CompilePlan) in.readObject();
-					err = tracker.executePlan(cplan1);
+					final RpcConnection.DeferredResponse response = RpcConnection
+							.deferResponse();
+					try {
+						tracker.executePlan(cplan1, new IPlanCallback() {
+							@Override
+							public void finished(Error planErr) {
+								sendResponse(response, planErr);
+							}
+						});
+					} catch (final RuntimeException e) {
+						sendResponse(response, createServerError(e));
+					}
 					break;
 				case CMD_START_COMPUTE_SERVER:
 					final ComputeNodeDesc compNodeDesc = (ComputeNodeDesc)in.readObject();
@@ -114,6 +129,9 @@ public class MasterTrackerServer extends AbstractServer {
 					final CompilePlan cPlan = tracker.getLastPlan();
 					out.writeObject(cPlan);
 					break;
+				case CMD_GET_ADMISSION_STATS:
+					out.writeObject(tracker.getAdmissionStats());
+					break;
 				}
 			} catch (final Exception e) {
 				err = createServerError(e);
@@ -129,6 +147,7 @@ public class MasterTrackerServer extends AbstractServer {
 	public static final int CMD_REGISTER_QUERYTRACKER_NODE = 3;
 	public static final int CMD_REQUEST_COMPUTE_NODE = 4;
 	public static final int CMD_START_COMPUTE_SERVER = 5;
+	public static final int CMD_GET_ADMISSION_STATS = 6;
 	
 	public static final int CMD_DOOMDB_START_CLUSTER = 100;
 	public static final int CMD_DOOMDB_GENERATE_PLAN = 101;
@@ -152,9 +171,8 @@ public class MasterTrackerServer extends AbstractServer {
 	}
 
 	@Override
-	protected void handle(final Socket client) {
-		final Handler handler = new Handler(client);
-		handler.start();
+	protected AbstractHandler createHandler() {
+		return new Handler();
 	}
 	
 	public Collection<ComputeNodeDesc> getComputeNodes() {
@@ -172,7 +190,9 @@ public class MasterTrackerServer extends AbstractServer {
 		if(this.err.isError())
 			return this.err;
 		
-		tracker.startup();
+		this.err = tracker.startup();
+		if(this.err.isError())
+			return this.err;
 		
 		this.err = this.compileServer.startServer();
 		return this.err;
@@ -1,7 +1,5 @@
 package org.xdb.server;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -10,8 +8,9 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.xdb.error.Error;
-import org.xdb.Config;
 import org.xdb.execute.ComputeNode;
+import org.xdb.execute.ConnectionPool;
+import org.xdb.execute.PooledConnection;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBLog;
 
@@ -37,11 +36,10 @@ public class MysqlRunManager {
 	public Error killAllQueries() {
 		Error err = new Error();
 
+		PooledConnection conn = null;
 		try {
-			Class.forName(Config.COMPUTE_DRIVER_CLASS);
-			Connection conn = DriverManager.getConnection(
-					Config.COMPUTE_DB_URL, Config.COMPUTE_DB_USER,
-					Config.COMPUTE_DB_PASSWD);
+			// connection without default database is not killed below
+			conn = ConnectionPool.getComputeServerPool().borrow();
 
 			// get all process IDs
 			Statement stmt = conn.createStatement();
@@ -69,13 +67,20 @@ public class MysqlRunManager {
 			}
 			killStmt.close();
 
-			conn.close();
+			// killed processes include idle pooled connections
+			ConnectionPool.getComputePool().clear();
 
 		} catch (SQLException e) {
 			err = ComputeNode.createMySQLError(e);
 		} catch (Exception e) {
 			err = ComputeNode.createMySQLError(e);
 		}
+
+		if (conn != null) {
+			if (err.isError())
+				conn.markBroken();
+			conn.release();
+		}
 		return err;
 	}
 }
\ No newline at end of file
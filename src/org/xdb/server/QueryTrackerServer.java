@@ -3,23 +3,27 @@ package org.xdb.server;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.net.Socket;
 import org.xdb.Config;
 import org.xdb.doomdb.DoomDBPlan;
 import org.xdb.doomdb.DoomDBPlanDesc;
 import org.xdb.doomdb.DoomDBPlanStatus;
 import org.xdb.error.Error;
 import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.signals.HeartbeatSignal;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.tracker.QueryTrackerNode;
 import org.xdb.tracker.QueryTrackerNodeDesc;
+import org.xdb.utils.Identifier;
 import org.xdb.utils.Tuple;
 
 public class QueryTrackerServer extends AbstractServer {
 
 	public static final int CMD_EXECUTE_PLAN = 1;
 	public static final int CMD_OPERATOR_READY = 2;
+	public static final int CMD_OPERATOR_STARTED = 3;
+	public static final int CMD_HEARTBEAT = 4;
+	public static final int CMD_GET_PLAN_PROFILE = 5;
 	
 	public static final int CMD_DOOMDB_GENERATE_PLAN = 100;
 	public static final int CMD_DOOMDB_EXECUTE_PLAN = 101;
@@ -46,8 +50,8 @@ public class QueryTrackerServer extends AbstractServer {
 
 	private class Handler extends AbstractHandler {
 		// constructor
-		public Handler(final Socket client) {
-			super(client);
+		public Handler() {
+			super();
 			logger = QueryTrackerServer.this.logger;
 		}
 
@@ -77,6 +81,18 @@ public class QueryTrackerServer extends AbstractServer {
 					final AbstractExecuteOperator op = (AbstractExecuteOperator) in.readObject();
 					err = tracker.operatorReady(op);
 					break;
+				case CMD_OPERATOR_STARTED:
+					final AbstractExecuteOperator startedOp = (AbstractExecuteOperator) in.readObject();
+					err = tracker.operatorStarted(startedOp);
+					break;
+				case CMD_HEARTBEAT:
+					final HeartbeatSignal heartbeat = (HeartbeatSignal) in.readObject();
+					err = tracker.heartbeat(heartbeat);
+					break;
+				case CMD_GET_PLAN_PROFILE:
+					final Identifier cplanId = (Identifier) in.readObject();
+					out.writeObject(tracker.getPlanProfile(cplanId));
+					break;
 				case CMD_DOOMDB_GENERATE_PLAN:
 					final CompilePlan cplan2 = (CompilePlan) in.readObject();
 					Tuple<Error, DoomDBPlan> result = tracker.generateDoomDBQTPlan(cplan2);
@@ -102,8 +118,6 @@ public class QueryTrackerServer extends AbstractServer {
 					err = tracker.stopDoomDBQPlan(dplanDesc3);
 					break;
 				}
-				out.writeObject(err);
-				out.flush();
 			} catch (final Exception e) {
 				err = createServerError(e);
 			}
@@ -113,9 +127,8 @@ public class QueryTrackerServer extends AbstractServer {
 	}
 
 	@Override
-	protected void handle(final Socket client) {
-		final Handler handler = new Handler(client);
-		handler.start();
+	protected AbstractHandler createHandler() {
+		return new Handler();
 	}
 	
 	@Override
@@ -0,0 +1,391 @@
+package org.xdb.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.server.RpcProtocol.Frame;
+
+/**
+ * Persistent connection of a client to a server. Requests are read by an I/O
+ * thread of the server (non-blocking) and each request is executed by a new
+ * handler in the worker pool of the server, so that many requests of one
+ * connection can be in flight at the same time.
+ *
+ * If the worker pool is saturated, the connection stops reading until a
+ * worker becomes available (i.e., clients are slowed down by TCP flow
+ * control).
+ *
+ * A handler may defer its response (see deferResponse()) to free its worker
+ * while the request waits, e.g., for admission of a plan.
+ *
+ */
+public class RpcConnection {
+
+	/**
+	 * Response of a request which is sent after its worker returned
+	 */
+	public static class DeferredResponse {
+		private final RpcConnection connection;
+		private final long requestId;
+		private final AtomicBoolean sent = new AtomicBoolean(false);
+
+		private DeferredResponse(RpcConnection connection, long requestId) {
+			this.connection = connection;
+			this.requestId = requestId;
+		}
+
+		/**
+		 * Sends response (only once)
+		 *
+		 * @param payload
+		 */
+		public void send(byte[] payload) {
+			if (this.sent.compareAndSet(false, true))
+				this.connection.reply(this.requestId, payload);
+		}
+	}
+
+	// connection which executes the request of the current worker thread
+	private static final ThreadLocal<RpcConnection> current = new ThreadLocal<RpcConnection>();
+
+	// request of the current worker thread and its deferred response
+	private static final ThreadLocal<Frame> currentRequest = new ThreadLocal<Frame>();
+	private static final ThreadLocal<DeferredResponse> deferred = new ThreadLocal<DeferredResponse>();
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	// server and channel
+	private final AbstractServer server;
+	private final SocketChannel channel;
+	private final RpcIoThread ioThread;
+	private SelectionKey key;
+	private final String name;
+
+	// read state (only accessed by I/O thread)
+	private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+	private boolean preambleRead = false;
+	private long requestId;
+	private byte[] payload = null;
+	private int payloadRead = 0;
+
+	// request which could not be dispatched since workers are saturated
+	private Frame pending = null;
+
+	// responses which could not be written yet
+	private final LinkedList<ByteBuffer> writeQueue = new LinkedList<ByteBuffer>();
+
+	// connection is closed after the response of the current request
+	private volatile boolean closeAfterResponse = false;
+	private boolean closeAfterFlush = false;
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+
+	// helper
+	private final Logger logger;
+
+	// constructors
+	public RpcConnection(AbstractServer server, SocketChannel channel,
+			RpcIoThread ioThread, Logger logger) {
+		this.server = server;
+		this.channel = channel;
+		this.ioThread = ioThread;
+		this.logger = logger;
+		this.name = server.getClass().getSimpleName() + "-Connection-"
+				+ channel.socket().getRemoteSocketAddress();
+	}
+
+	// getters and setters
+	/**
+	 * Returns connection of the request which is executed by the calling
+	 * thread (or null)
+	 *
+	 * @return
+	 */
+	public static RpcConnection getCurrent() {
+		return current.get();
+	}
+
+	/**
+	 * Defers response of the request which is executed by the calling
+	 * thread: the response of the handler is discarded and the returned
+	 * response must be sent instead
+	 *
+	 * @return
+	 */
+	public static DeferredResponse deferResponse() {
+		RpcConnection connection = current.get();
+		Frame request = currentRequest.get();
+		if (connection == null || request == null)
+			throw new IllegalStateException(
+					"Response can only be deferred by a worker");
+
+		DeferredResponse response = new DeferredResponse(connection,
+				request.getRequestId());
+		deferred.set(response);
+		return response;
+	}
+
+	public boolean isClosed() {
+		return this.closed.get();
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	// methods
+	/**
+	 * Registers channel at selector (called by I/O thread)
+	 *
+	 * @param selector
+	 */
+	void register(Selector selector) {
+		if (this.closed.get())
+			return;
+
+		try {
+			this.channel.configureBlocking(false);
+			this.channel.socket().setTcpNoDelay(true);
+			this.key = this.channel.register(selector, SelectionKey.OP_READ,
+					this);
+		} catch (IOException e) {
+			this.fail(e);
+		}
+	}
+
+	/**
+	 * Reads available data and dispatches complete requests (called by I/O
+	 * thread)
+	 */
+	void onReadable() {
+		try {
+			int read = this.channel.read(this.in);
+			if (read < 0) {
+				// client closed connection
+				this.close();
+				return;
+			}
+
+			this.parse();
+		} catch (IOException e) {
+			this.fail(e);
+		}
+	}
+
+	/**
+	 * Parses buffered data into requests and dispatches them until data is
+	 * incomplete or workers are saturated
+	 *
+	 * @throws IOException
+	 */
+	private void parse() throws IOException {
+		this.in.flip();
+		try {
+			while (this.pending == null) {
+				if (!this.preambleRead) {
+					if (this.in.remaining() < RpcProtocol.PREAMBLE_SIZE)
+						return;
+					RpcProtocol.readPreamble(this.in);
+					this.preambleRead = true;
+				} else if (this.payload == null) {
+					if (this.in.remaining() < RpcProtocol.HEADER_SIZE)
+						return;
+					this.requestId = this.in.getLong();
+					this.payload = new byte[RpcProtocol.checkLength(this.in
+							.getInt())];
+					this.payloadRead = 0;
+				} else {
+					int length = Math.min(this.in.remaining(),
+							this.payload.length - this.payloadRead);
+					this.in.get(this.payload, this.payloadRead, length);
+					this.payloadRead += length;
+					if (this.payloadRead < this.payload.length)
+						return;
+
+					Frame request = new Frame(this.requestId, this.payload);
+					this.payload = null;
+					if (!this.server.dispatch(this, request))
+						this.suspend(request);
+				}
+			}
+		} finally {
+			this.in.compact();
+		}
+	}
+
+	/**
+	 * Stops reading until the request can be dispatched
+	 *
+	 * @param request
+	 */
+	private void suspend(Frame request) {
+		this.pending = request;
+		this.key.interestOps(this.key.interestOps() & ~SelectionKey.OP_READ);
+		this.server.suspendConnection(this);
+	}
+
+	/**
+	 * Dispatches suspended request and continues reading (executed by I/O
+	 * thread)
+	 */
+	void resume() {
+		this.ioThread.execute(new Runnable() {
+			@Override
+			public void run() {
+				if (pending == null || closed.get())
+					return;
+
+				if (!server.dispatch(RpcConnection.this, pending)) {
+					server.suspendConnection(RpcConnection.this);
+					return;
+				}
+
+				pending = null;
+				try {
+					parse();
+					if (pending == null && key.isValid())
+						key.interestOps(key.interestOps()
+								| SelectionKey.OP_READ);
+				} catch (IOException e) {
+					fail(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Executes request by a new handler and sends response (called by
+	 * worker)
+	 *
+	 * @param request
+	 */
+	void execute(Frame request) {
+		current.set(this);
+		currentRequest.set(request);
+		try {
+			AbstractHandler handler = this.server.createHandler();
+			ByteArrayOutputStream response = new ByteArrayOutputStream();
+			handler.execute(new ByteArrayInputStream(request.getPayload()),
+					response);
+			if (deferred.get() == null)
+				this.reply(request.getRequestId(), response.toByteArray());
+		} finally {
+			current.remove();
+			currentRequest.remove();
+			deferred.remove();
+		}
+
+		if (this.closeAfterResponse) {
+			synchronized (this.writeQueue) {
+				if (this.writeQueue.isEmpty())
+					this.close();
+				else
+					this.closeAfterFlush = true;
+			}
+		}
+	}
+
+	/**
+	 * Sends response of a request. The response is written directly if no
+	 * other responses are queued, otherwise it is written by the I/O thread.
+	 *
+	 * @param requestId
+	 * @param payload
+	 */
+	private void reply(long requestId, byte[] payload) {
+		ByteBuffer buffer = RpcProtocol.encodeFrame(requestId, payload);
+		synchronized (this.writeQueue) {
+			if (this.closed.get())
+				return;
+
+			try {
+				if (this.writeQueue.isEmpty()) {
+					this.channel.write(buffer);
+					if (!buffer.hasRemaining())
+						return;
+				}
+			} catch (IOException e) {
+				this.logger.log(Level.WARNING, "RPC connection " + this.name
+						+ " could not send response: " + e.getMessage());
+				this.close();
+				return;
+			}
+
+			this.writeQueue.add(buffer);
+			if (this.writeQueue.size() == 1) {
+				this.ioThread.execute(new Runnable() {
+					@Override
+					public void run() {
+						if (key != null && key.isValid())
+							key.interestOps(key.interestOps()
+									| SelectionKey.OP_WRITE);
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Writes queued responses (called by I/O thread)
+	 */
+	void onWritable() {
+		synchronized (this.writeQueue) {
+			try {
+				while (!this.writeQueue.isEmpty()) {
+					ByteBuffer buffer = this.writeQueue.getFirst();
+					this.channel.write(buffer);
+					if (buffer.hasRemaining())
+						return;
+					this.writeQueue.removeFirst();
+				}
+			} catch (IOException e) {
+				this.fail(e);
+				return;
+			}
+
+			this.key.interestOps(this.key.interestOps()
+					& ~SelectionKey.OP_WRITE);
+			if (this.closeAfterFlush)
+				this.close();
+		}
+	}
+
+	private void fail(IOException e) {
+		if (!this.closed.get())
+			this.logger.log(Level.WARNING, "RPC connection " + this.name
+					+ " failed: " + e.getMessage());
+		this.close();
+	}
+
+	/**
+	 * Closes connection after the response of the current request was sent
+	 */
+	public void closeAfterResponse() {
+		this.closeAfterResponse = true;
+	}
+
+	/**
+	 * Closes connection (pending requests of the client fail)
+	 */
+	public void close() {
+		if (!this.closed.compareAndSet(false, true))
+			return;
+
+		if (this.key != null)
+			this.key.cancel();
+		try {
+			this.channel.close();
+		} catch (IOException e) {
+			// ignore
+		}
+		this.server.removeConnection(this);
+	}
+}
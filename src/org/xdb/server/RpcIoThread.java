@@ -0,0 +1,145 @@
+package org.xdb.server;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * I/O thread of a server which reads requests and writes responses of many
+ * client connections using one selector. Requests are executed by the
+ * workers of the server (see RpcConnection).
+ *
+ */
+public class RpcIoThread extends Thread {
+
+	private final Selector selector;
+
+	// tasks which must be executed by this thread (e.g., change interest ops)
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+	private volatile boolean closed = false;
+
+	// helper
+	private final Logger logger;
+
+	// constructors
+	public RpcIoThread(String name, Logger logger) throws IOException {
+		super(name);
+		this.setDaemon(true);
+
+		this.selector = Selector.open();
+		this.logger = logger;
+	}
+
+	// getters and setters
+	public Selector getSelector() {
+		return this.selector;
+	}
+
+	// methods
+	/**
+	 * Executes task by I/O thread
+	 *
+	 * @param task
+	 */
+	public void execute(Runnable task) {
+		this.tasks.add(task);
+		this.selector.wakeup();
+	}
+
+	/**
+	 * Registers connection at selector of this thread
+	 *
+	 * @param connection
+	 */
+	public void register(final RpcConnection connection) {
+		this.execute(new Runnable() {
+			@Override
+			public void run() {
+				connection.register(selector);
+			}
+		});
+	}
+
+	@Override
+	public void run() {
+		try {
+			while (!this.closed) {
+				this.selector.select();
+				this.runTasks();
+
+				Iterator<SelectionKey> keys = this.selector.selectedKeys()
+						.iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+
+					RpcConnection connection = (RpcConnection) key
+							.attachment();
+					if (key.isValid() && key.isReadable())
+						connection.onReadable();
+					if (key.isValid() && key.isWritable())
+						connection.onWritable();
+				}
+			}
+		} catch (Exception e) {
+			if (!this.closed)
+				this.logger.log(Level.SEVERE, "RPC I/O thread "
+						+ this.getName() + " failed: " + e.getMessage());
+		} finally {
+			// close connections which were registered in the meantime too
+			try {
+				this.runTasks();
+			} catch (Exception e) {
+				// ignore
+			}
+			this.closeConnections();
+		}
+	}
+
+	private void runTasks() {
+		Runnable task;
+		while ((task = this.tasks.poll()) != null) {
+			task.run();
+		}
+	}
+
+	/**
+	 * Closes connections which are registered at this thread
+	 */
+	private void closeConnections() {
+		List<RpcConnection> connections = new ArrayList<RpcConnection>();
+		try {
+			for (SelectionKey key : this.selector.keys()) {
+				connections.add((RpcConnection) key.attachment());
+			}
+		} catch (Exception e) {
+			// selector already closed
+		}
+
+		for (RpcConnection connection : connections) {
+			connection.close();
+		}
+
+		try {
+			this.selector.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * Stops thread and closes its connections
+	 */
+	public void shutdown() {
+		this.closed = true;
+		this.selector.wakeup();
+	}
+}
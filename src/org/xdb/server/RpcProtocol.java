@@ -0,0 +1,147 @@
+package org.xdb.server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Wire format of the persistent connections between clients and servers of
+ * XDB components.
+ *
+ * Preamble (sent once by client): [magic:int][version:byte]
+ *
+ * Request/response: [request id:long][length:int][payload]
+ *
+ * Requests of many threads are multiplexed over one connection and responses
+ * are matched to their requests by the request id (i.e., responses may arrive
+ * in a different order).
+ *
+ */
+public class RpcProtocol {
+
+	// constants
+	public static final int MAGIC = 0x58444252; // XDBR
+	public static final byte VERSION = 1;
+
+	public static final int PREAMBLE_SIZE = 5;
+	public static final int HEADER_SIZE = 12;
+	public static final int MAX_FRAME_SIZE = 512 * 1024 * 1024;
+
+	/**
+	 * Frame read from a connection
+	 *
+	 */
+	public static class Frame {
+		private final long requestId;
+		private final byte[] payload;
+
+		// constructors
+		public Frame(long requestId, byte[] payload) {
+			this.requestId = requestId;
+			this.payload = payload;
+		}
+
+		// getters and setters
+		public long getRequestId() {
+			return this.requestId;
+		}
+
+		public byte[] getPayload() {
+			return this.payload;
+		}
+	}
+
+	// methods
+	/**
+	 * Writes preamble of a new connection
+	 *
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void writePreamble(DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.flush();
+	}
+
+	/**
+	 * Reads and checks preamble of a new connection
+	 *
+	 * @param in
+	 *            buffer with at least PREAMBLE_SIZE bytes
+	 * @throws IOException
+	 */
+	public static void readPreamble(ByteBuffer in) throws IOException {
+		int magic = in.getInt();
+		if (magic != MAGIC)
+			throw new IOException("Invalid RPC connection (magic "
+					+ Integer.toHexString(magic) + ")");
+
+		byte version = in.get();
+		if (version != VERSION)
+			throw new IOException("Unsupported RPC version " + version);
+	}
+
+	/**
+	 * Writes a frame (caller must synchronize writers of a connection)
+	 *
+	 * @param out
+	 * @param requestId
+	 * @param payload
+	 * @throws IOException
+	 */
+	public static void writeFrame(DataOutputStream out, long requestId,
+			byte[] payload) throws IOException {
+		out.writeLong(requestId);
+		out.writeInt(payload.length);
+		out.write(payload);
+		out.flush();
+	}
+
+	/**
+	 * Encodes a frame into a buffer which is ready to be written to a
+	 * channel
+	 *
+	 * @param requestId
+	 * @param payload
+	 * @return
+	 */
+	public static ByteBuffer encodeFrame(long requestId, byte[] payload) {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+		buffer.putLong(requestId);
+		buffer.putInt(payload.length);
+		buffer.put(payload);
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Checks length of a frame
+	 *
+	 * @param length
+	 * @return
+	 * @throws IOException
+	 */
+	public static int checkLength(int length) throws IOException {
+		if (length < 0 || length > MAX_FRAME_SIZE)
+			throw new IOException("Invalid RPC frame length " + length);
+		return length;
+	}
+
+	/**
+	 * Reads next frame
+	 *
+	 * @param in
+	 * @return
+	 * @throws IOException
+	 */
+	public static Frame readFrame(DataInputStream in) throws IOException {
+		long requestId = in.readLong();
+		int length = checkLength(in.readInt());
+
+		byte[] payload = new byte[length];
+		in.readFully(payload);
+		return new Frame(requestId, payload);
+	}
+}
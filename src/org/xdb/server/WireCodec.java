@@ -0,0 +1,334 @@
+package org.xdb.server;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Vector;
+
+import org.xdb.error.Error;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.exchange.ExchangeInput;
+import org.xdb.execute.exchange.ExchangeStats;
+import org.xdb.execute.exchange.PipelineOutput;
+import org.xdb.execute.operators.BloomFilter;
+import org.xdb.execute.operators.HeavyHitters;
+import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.utils.Identifier;
+
+/**
+ * Hand-written binary encoding of the values of hot message types (see
+ * WireMessage). Values are written in a fixed order without any field names
+ * or class descriptors.
+ *
+ */
+public class WireCodec {
+
+	public static final Charset CHARSET = Charset.forName("UTF-8");
+
+	// methods
+	/**
+	 * Writes non-negative integer with 1-5 bytes (7 bits per byte)
+	 *
+	 * @param out
+	 * @param value
+	 * @throws IOException
+	 */
+	public static void writeVarInt(DataOutput out, int value)
+			throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	public static int readVarInt(DataInput in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			byte b = in.readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new StreamCorruptedException("Invalid varint");
+	}
+
+	/**
+	 * Writes string (or null) as length-prefixed UTF-8 (not limited to 64K
+	 * like writeUTF)
+	 *
+	 * @param out
+	 * @param value
+	 * @throws IOException
+	 */
+	public static void writeString(DataOutput out, String value)
+			throws IOException {
+		if (value == null) {
+			writeVarInt(out, 0);
+			return;
+		}
+		byte[] bytes = value.getBytes(CHARSET);
+		writeVarInt(out, bytes.length + 1);
+		out.write(bytes);
+	}
+
+	public static String readString(DataInput in) throws IOException {
+		int length = readVarInt(in);
+		if (length == 0)
+			return null;
+		byte[] bytes = new byte[length - 1];
+		in.readFully(bytes);
+		return new String(bytes, CHARSET);
+	}
+
+	public static void writeStrings(DataOutput out, Collection<String> values)
+			throws IOException {
+		writeVarInt(out, values.size());
+		for (String value : values) {
+			writeString(out, value);
+		}
+	}
+
+	public static void readStrings(DataInput in, Collection<String> values)
+			throws IOException {
+		int size = readVarInt(in);
+		for (int i = 0; i < size; ++i) {
+			values.add(readString(in));
+		}
+	}
+
+	/**
+	 * Writes identifier (or null) as its levels
+	 *
+	 * @param out
+	 * @param id
+	 * @throws IOException
+	 */
+	public static void writeIdentifier(DataOutput out, Identifier id)
+			throws IOException {
+		if (id == null) {
+			writeVarInt(out, 0);
+			return;
+		}
+		List<String> levels = id.getLevels();
+		writeVarInt(out, levels.size());
+		for (String level : levels) {
+			writeString(out, level);
+		}
+	}
+
+	public static Identifier readIdentifier(DataInput in) throws IOException {
+		int size = readVarInt(in);
+		if (size == 0)
+			return null;
+		Identifier id = new Identifier(readString(in));
+		for (int i = 1; i < size; ++i) {
+			id.append(readString(in));
+		}
+		return id;
+	}
+
+	public static void writeIdentifiers(DataOutput out,
+			Collection<Identifier> ids) throws IOException {
+		writeVarInt(out, ids.size());
+		for (Identifier id : ids) {
+			writeIdentifier(out, id);
+		}
+	}
+
+	public static void readIdentifiers(DataInput in,
+			Collection<Identifier> ids) throws IOException {
+		int size = readVarInt(in);
+		for (int i = 0; i < size; ++i) {
+			ids.add(readIdentifier(in));
+		}
+	}
+
+	/**
+	 * Writes description of compute node (or null)
+	 *
+	 * @param out
+	 * @param node
+	 * @throws IOException
+	 */
+	public static void writeComputeNode(DataOutput out, ComputeNodeDesc node)
+			throws IOException {
+		out.writeBoolean(node != null);
+		if (node == null)
+			return;
+		writeString(out, node.getUrl());
+		writeVarInt(out, node.getPort());
+		writeVarInt(out, node.getSlots());
+	}
+
+	public static ComputeNodeDesc readComputeNode(DataInput in)
+			throws IOException {
+		if (!in.readBoolean())
+			return null;
+		String url = readString(in);
+		int port = readVarInt(in);
+		int slots = readVarInt(in);
+		return new ComputeNodeDesc(url, port, slots);
+	}
+
+	public static void writeStatus(DataOutput out, EnumOperatorStatus status)
+			throws IOException {
+		out.writeByte(status == null ? -1 : status.ordinal());
+	}
+
+	public static EnumOperatorStatus readStatus(DataInput in)
+			throws IOException {
+		byte ordinal = in.readByte();
+		if (ordinal < 0)
+			return null;
+		EnumOperatorStatus[] values = EnumOperatorStatus.values();
+		if (ordinal >= values.length)
+			throw new StreamCorruptedException("Invalid operator status "
+					+ ordinal);
+		return values[ordinal];
+	}
+
+	/**
+	 * Writes error. Only real errors are shipped as objects since
+	 * NO_ERROR is the common case.
+	 *
+	 * @param out
+	 * @param err
+	 * @throws IOException
+	 */
+	public static void writeError(ObjectOutput out, Error err)
+			throws IOException {
+		boolean isError = (err != null && err.isError());
+		out.writeBoolean(isError);
+		if (isError)
+			out.writeObject(err);
+	}
+
+	public static Error readError(ObjectInput in) throws IOException,
+			ClassNotFoundException {
+		if (!in.readBoolean())
+			return new Error();
+		return (Error) in.readObject();
+	}
+
+	public static void writeExchangeInput(DataOutput out, ExchangeInput input)
+			throws IOException {
+		writeComputeNode(out, input.getSourceNode());
+		writeIdentifier(out, input.getSourceTrackerOpId());
+		writeString(out, input.getSourceTableName());
+		writeString(out, input.getTargetTableName());
+	}
+
+	public static ExchangeInput readExchangeInput(DataInput in)
+			throws IOException {
+		ComputeNodeDesc sourceNode = readComputeNode(in);
+		Identifier sourceTrackerOpId = readIdentifier(in);
+		String sourceTableName = readString(in);
+		String targetTableName = readString(in);
+		return new ExchangeInput(sourceNode, sourceTrackerOpId,
+				sourceTableName, targetTableName);
+	}
+
+	public static void writeExchangeStats(DataOutput out, ExchangeStats stats)
+			throws IOException {
+		writeIdentifier(out, stats.getSourceTrackerOpId());
+		writeString(out, stats.getSourceTableName());
+		writeString(out, stats.getTargetTableName());
+		out.writeLong(stats.getRows());
+		out.writeLong(stats.getWireBytes());
+		out.writeLong(stats.getRawBytes());
+		out.writeLong(stats.getTime());
+	}
+
+	public static ExchangeStats readExchangeStats(DataInput in)
+			throws IOException {
+		Identifier sourceTrackerOpId = readIdentifier(in);
+		String sourceTableName = readString(in);
+		String targetTableName = readString(in);
+		long rows = in.readLong();
+		long wireBytes = in.readLong();
+		long rawBytes = in.readLong();
+		long time = in.readLong();
+		return new ExchangeStats(sourceTrackerOpId, sourceTableName,
+				targetTableName, rows, wireBytes, rawBytes, time);
+	}
+
+	public static void writePipelineOutput(DataOutput out,
+			PipelineOutput output) throws IOException {
+		out.writeBoolean(output != null);
+		if (output == null)
+			return;
+		writeString(out, output.getSelectSQL());
+		writeString(out, output.getTableName());
+		writeStrings(out, output.getPipeNames());
+		out.writeInt(output.getPartColumn());
+		out.writeInt(output.getPartCount());
+	}
+
+	public static PipelineOutput readPipelineOutput(DataInput in)
+			throws IOException {
+		if (!in.readBoolean())
+			return null;
+		String selectSQL = readString(in);
+		String tableName = readString(in);
+		List<String> pipeNames = new Vector<String>();
+		readStrings(in, pipeNames);
+		int partColumn = in.readInt();
+		int partCount = in.readInt();
+		return new PipelineOutput(selectSQL, tableName, pipeNames,
+				partColumn, partCount);
+	}
+
+	public static void writeBloomFilter(DataOutput out, BloomFilter filter)
+			throws IOException {
+		out.writeBoolean(filter != null);
+		if (filter == null)
+			return;
+		out.writeInt(filter.getNumBits());
+		long[] words = filter.getWords();
+		writeVarInt(out, words.length);
+		for (long word : words) {
+			out.writeLong(word);
+		}
+	}
+
+	public static BloomFilter readBloomFilter(DataInput in) throws IOException {
+		if (!in.readBoolean())
+			return null;
+		int numBits = in.readInt();
+		long[] words = new long[readVarInt(in)];
+		for (int i = 0; i < words.length; ++i) {
+			words[i] = in.readLong();
+		}
+		return new BloomFilter(numBits, words);
+	}
+
+	public static void writeHeavyHitters(DataOutput out,
+			HeavyHitters heavyHitters) throws IOException {
+		out.writeBoolean(heavyHitters != null);
+		if (heavyHitters == null)
+			return;
+		long[] keys = heavyHitters.getKeys();
+		writeVarInt(out, keys.length);
+		for (long key : keys) {
+			out.writeLong(key);
+		}
+	}
+
+	public static HeavyHitters readHeavyHitters(DataInput in)
+			throws IOException {
+		if (!in.readBoolean())
+			return null;
+		long[] keys = new long[readVarInt(in)];
+		for (int i = 0; i < keys.length; ++i) {
+			keys[i] = in.readLong();
+		}
+		return new HeavyHitters(keys);
+	}
+}
@@ -0,0 +1,194 @@
+package org.xdb.server;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.io.StreamCorruptedException;
+
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.operators.BloomFilter;
+import org.xdb.execute.operators.HeavyHitters;
+import org.xdb.execute.operators.MySQLExecuteOperator;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.execute.signals.ReadySignal;
+import org.xdb.utils.Identifier;
+
+/**
+ * Envelope of hot message types on the wire. Hot types replace themselves by
+ * this envelope when they are serialized (writeReplace) and the envelope
+ * resolves to the decoded value when it is read (readResolve). Thus, the
+ * compact encoding is also used when a hot type is nested in an object which
+ * is serialized by default Java serialization.
+ *
+ * Format: [version:byte][type:byte][value encoded by WireCodec]
+ *
+ * A reader accepts all versions up to its own version: fields which were
+ * added in a later version than the one of the writer are not read. The
+ * version must be increased whenever the layout of a type changes.
+ *
+ */
+public class WireMessage implements Externalizable {
+
+	private static final long serialVersionUID = 4630451223853286617L;
+
+	// constants
+	public static final byte VERSION = 3;
+
+	// versions which added fields
+	public static final byte VERSION_BLOOM_FILTER = 2;
+	public static final byte VERSION_HEAVY_HITTERS = 3;
+
+	public static final byte TYPE_IDENTIFIER = 1;
+	public static final byte TYPE_READY_SIGNAL = 2;
+	public static final byte TYPE_OPERATOR_DESC = 3;
+	public static final byte TYPE_COMPUTE_NODE_DESC = 4;
+	public static final byte TYPE_MYSQL_EXECUTE_OPERATOR = 5;
+
+	// decoded value
+	private Object value;
+
+	// constructors
+	/**
+	 * Used by deserialization only
+	 */
+	public WireMessage() {
+		super();
+	}
+
+	private WireMessage(Object value) {
+		this.value = value;
+	}
+
+	// getters and setters
+	/**
+	 * Returns value in envelope
+	 *
+	 * @return
+	 */
+	public Object getValue() {
+		return this.value;
+	}
+
+	// methods
+	/**
+	 * Returns envelope of a hot type (called by writeReplace) or the value
+	 * itself if the codec is deactivated
+	 *
+	 * @param value
+	 * @return
+	 */
+	public static Object replace(Object value) {
+		if (!Config.SERVER_WIRE_CODEC)
+			return value;
+		return new WireMessage(value);
+	}
+
+	private static byte getType(Object value) throws IOException {
+		if (value instanceof Identifier)
+			return TYPE_IDENTIFIER;
+		else if (value instanceof ReadySignal)
+			return TYPE_READY_SIGNAL;
+		else if (value instanceof OperatorDesc)
+			return TYPE_OPERATOR_DESC;
+		else if (value instanceof ComputeNodeDesc)
+			return TYPE_COMPUTE_NODE_DESC;
+		else if (value instanceof MySQLExecuteOperator)
+			return TYPE_MYSQL_EXECUTE_OPERATOR;
+
+		throw new InvalidClassException(value.getClass().getName(),
+				"No wire encoding");
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		byte type = getType(this.value);
+		out.writeByte(VERSION);
+		out.writeByte(type);
+
+		switch (type) {
+		case TYPE_IDENTIFIER:
+			WireCodec.writeIdentifier(out, (Identifier) this.value);
+			break;
+		case TYPE_READY_SIGNAL:
+			ReadySignal signal = (ReadySignal) this.value;
+			WireCodec.writeIdentifier(out, signal.getSource());
+			WireCodec.writeIdentifier(out, signal.getConsumer());
+			WireCodec.writeBloomFilter(out, signal.getBloomFilter());
+			WireCodec.writeHeavyHitters(out, signal.getHeavyHitters());
+			break;
+		case TYPE_OPERATOR_DESC:
+			OperatorDesc opDesc = (OperatorDesc) this.value;
+			WireCodec.writeIdentifier(out, opDesc.getOperatorID());
+			WireCodec.writeComputeNode(out, opDesc.getComputeNode());
+			WireCodec.writeStatus(out, opDesc.getOperatorStatus());
+			break;
+		case TYPE_COMPUTE_NODE_DESC:
+			WireCodec.writeComputeNode(out, (ComputeNodeDesc) this.value);
+			break;
+		case TYPE_MYSQL_EXECUTE_OPERATOR:
+			((MySQLExecuteOperator) this.value).writeWire(out);
+			break;
+		}
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException,
+			ClassNotFoundException {
+		byte version = in.readByte();
+		if (version < 1 || version > VERSION)
+			throw new InvalidClassException(WireMessage.class.getName(),
+					"Unsupported wire version " + version);
+
+		byte type = in.readByte();
+		switch (type) {
+		case TYPE_IDENTIFIER:
+			this.value = WireCodec.readIdentifier(in);
+			break;
+		case TYPE_READY_SIGNAL:
+			Identifier source = WireCodec.readIdentifier(in);
+			Identifier consumer = WireCodec.readIdentifier(in);
+			if (version < VERSION_BLOOM_FILTER) {
+				this.value = new ReadySignal(source, consumer);
+				break;
+			}
+			BloomFilter bloomFilter = WireCodec.readBloomFilter(in);
+			HeavyHitters heavyHitters = null;
+			if (version >= VERSION_HEAVY_HITTERS)
+				heavyHitters = WireCodec.readHeavyHitters(in);
+			this.value = new ReadySignal(source, consumer, bloomFilter,
+					heavyHitters);
+			break;
+		case TYPE_OPERATOR_DESC:
+			Identifier execOpId = WireCodec.readIdentifier(in);
+			ComputeNodeDesc computeNode = WireCodec.readComputeNode(in);
+			OperatorDesc opDesc = new OperatorDesc(execOpId, computeNode);
+			opDesc.setOperatorStatus(WireCodec.readStatus(in));
+			this.value = opDesc;
+			break;
+		case TYPE_COMPUTE_NODE_DESC:
+			this.value = WireCodec.readComputeNode(in);
+			break;
+		case TYPE_MYSQL_EXECUTE_OPERATOR:
+			MySQLExecuteOperator op = new MySQLExecuteOperator(null);
+			op.readWire(in, version);
+			this.value = op;
+			break;
+		default:
+			throw new StreamCorruptedException("Unknown wire type " + type);
+		}
+	}
+
+	/**
+	 * Replaces envelope by decoded value
+	 *
+	 * @return
+	 * @throws ObjectStreamException
+	 */
+	protected Object readResolve() throws ObjectStreamException {
+		return this.value;
+	}
+}
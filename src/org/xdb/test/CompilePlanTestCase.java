@@ -0,0 +1,118 @@
+package org.xdb.test;
+
+import org.xdb.client.CompileClient;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.funsql.statement.SelectStmt;
+
+/**
+ * Implements an XDB test case which compiles statements over a partitioned
+ * schema: R is hash partitioned on A, S is co-partitioned with R on its
+ * reference D to R.A and T is hash partitioned on G with less partitions
+ * than R
+ * 
+ */
+public abstract class CompilePlanTestCase extends XDBTestCase {
+	// partitions of R
+	protected static final int PARTITIONS = 4;
+
+	protected CompileClient client = new CompileClient();
+
+	private String[] schemaDDLs = {
+			"CREATE CONNECTION C0 " + "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' "
+					+ "USER 'xroot' " + "PASSWORD 'xroot' " + "STORE 'XDB';",
+
+			"CREATE CONNECTION C1 " + "URL 'jdbc:mysql://127.0.0.1/xdb_tmp' "
+					+ "USER 'xroot' " + "PASSWORD 'xroot' " + "STORE 'XDB';",
+
+			"CREATE TABLE R ( " + "A INTEGER, " + "B INTEGER, "
+					+ "C VARCHAR" + ") PARTIONED BY HASH(A) ("
+					+ "\"P0\" IN CONNECTION \"C0\","
+					+ "\"P1\" IN CONNECTION \"C1\","
+					+ "\"P2\" IN CONNECTION \"C0\","
+					+ "\"P3\" IN CONNECTION \"C1\" )",
+
+			"CREATE TABLE S ( " + "D INTEGER, " + "E INTEGER, "
+					+ "F VARCHAR" + ") PARTIONED BY REF ( D REFERENCES R.A )",
+
+			"CREATE TABLE T ( " + "G INTEGER, " + "H INTEGER, "
+					+ "I VARCHAR" + ") PARTIONED BY HASH(G) ("
+					+ "\"P0\" IN CONNECTION \"C0\","
+					+ "\"P1\" IN CONNECTION \"C1\" )" };
+
+	public CompilePlanTestCase() {
+		super();
+	}
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		for (String schemaDDL : this.schemaDDLs) {
+			this.assertNoError(this.client.executeStmt(schemaDDL));
+		}
+	}
+
+	/**
+	 * Compiles SELECT statement and returns its optimized and parallelized
+	 * plan
+	 * 
+	 * @param stmt
+	 * @return
+	 */
+	protected CompilePlan compileStatement(String stmt) {
+		FunSQLCompiler compiler = new FunSQLCompiler();
+		SelectStmt sstmt = (SelectStmt) compiler.compile(stmt);
+		this.assertNoError(compiler.getLastError());
+		return sstmt.getPlan();
+	}
+
+	/**
+	 * Returns operator which reads given table
+	 * 
+	 * @param plan
+	 * @param tableName
+	 * @return
+	 */
+	protected TableOperator getTableOperator(CompilePlan plan,
+			String tableName) {
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op instanceof TableOperator
+					&& ((TableOperator) op).getTableName().equals(tableName))
+				return (TableOperator) op;
+		}
+		fail("No table operator for " + tableName);
+		return null;
+	}
+
+	/**
+	 * Returns first join of plan
+	 * 
+	 * @param plan
+	 * @return
+	 */
+	protected EquiJoin getJoin(CompilePlan plan) {
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getType().equals(EnumOperator.EQUI_JOIN))
+				return (EquiJoin) op;
+		}
+		fail("No join in plan");
+		return null;
+	}
+
+	/**
+	 * Returns name of table which is read by an input of a join chain
+	 * 
+	 * @param op
+	 * @return
+	 */
+	protected String getTableName(AbstractCompileOperator op) {
+		while (!op.getType().equals(EnumOperator.TABLE)) {
+			op = op.getChildren().get(0);
+		}
+		return ((TableOperator) op).getTableName();
+	}
+}
@@ -0,0 +1,104 @@
+package org.xdb.test.execute.operators;
+
+import org.junit.Test;
+import org.xdb.execute.operators.BloomFilter;
+import org.xdb.test.TestCase;
+
+public class TestBloomFilter extends TestCase {
+
+	private static long[] hashes(long key) {
+		long[] hashes = new long[BloomFilter.NUM_HASHES];
+		for (int i = 0; i < hashes.length; ++i) {
+			hashes[i] = (key * 2654435761L + i * 40503L) & 0xFFFFFFFFL;
+		}
+		return hashes;
+	}
+
+	@Test
+	public void testNumBits() {
+		assertEquals(BloomFilter.MIN_BITS, BloomFilter.getNumBits(0, 1 << 20));
+		assertEquals(BloomFilter.MIN_BITS,
+				BloomFilter.getNumBits(100, 1 << 20));
+
+		// next power of two above BITS_PER_KEY bits per key
+		assertEquals(2048, BloomFilter.getNumBits(150, 1 << 20));
+		assertEquals(16384, BloomFilter.getNumBits(1000, 1 << 20));
+
+		// size limit
+		assertEquals(4096, BloomFilter.getNumBits(1e9, 4096));
+	}
+
+	@Test
+	public void testAddAndContain() {
+		BloomFilter filter = new BloomFilter(BloomFilter.getNumBits(1000,
+				1 << 20));
+		assertEquals(0.0, filter.getFillRatio());
+		for (long key = 0; key < 1000; ++key) {
+			filter.add(hashes(key));
+		}
+
+		// no false negatives
+		for (long key = 0; key < 1000; ++key) {
+			assertTrue(filter.mightContain(hashes(key)));
+		}
+
+		// few false positives
+		int falsePositives = 0;
+		for (long key = 1000; key < 11000; ++key) {
+			if (filter.mightContain(hashes(key)))
+				++falsePositives;
+		}
+		assertTrue(falsePositives < 1000);
+		assertTrue(filter.getFillRatio() > 0.0);
+		assertTrue(filter.getFillRatio() < 0.5);
+	}
+
+	@Test
+	public void testOr() {
+		BloomFilter filter1 = new BloomFilter(1024);
+		BloomFilter filter2 = new BloomFilter(1024);
+		for (long key = 0; key < 50; ++key) {
+			filter1.add(hashes(key));
+			filter2.add(hashes(key + 50));
+		}
+		double fillRatio = filter1.getFillRatio();
+
+		// merged filter contains keys of both partitions
+		filter1.or(filter2);
+		for (long key = 0; key < 100; ++key) {
+			assertTrue(filter1.mightContain(hashes(key)));
+		}
+		assertTrue(filter1.getFillRatio() > fillRatio);
+	}
+
+	@Test
+	public void testFillRatio() {
+		BloomFilter filter = new BloomFilter(1024);
+		long[] bits = { 3, 1027 };
+		filter.add(bits);
+		assertEquals(1.0 / 1024, filter.getFillRatio());
+
+		bits[1] = 64;
+		filter.add(bits);
+		assertEquals(2.0 / 1024, filter.getFillRatio());
+	}
+
+	@Test
+	public void testBitsSQL() {
+		// bit b is stored in byte b DIV 8 at position b % 8
+		BloomFilter filter = new BloomFilter(1024);
+		long[] bits = { 0, 9 };
+		filter.add(bits);
+		bits[0] = 1023;
+		bits[1] = 1023;
+		filter.add(bits);
+
+		StringBuilder expected = new StringBuilder("SET "
+				+ BloomFilter.BITS_VARIABLE + " = X'0102");
+		for (int i = 2; i < 127; ++i) {
+			expected.append("00");
+		}
+		expected.append("80'");
+		assertEquals(expected.toString(), filter.genBitsSQL());
+	}
+}
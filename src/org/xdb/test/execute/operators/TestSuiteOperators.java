@@ -9,6 +9,7 @@ public class TestSuiteOperators extends TestSuite
   {
     TestSuite suite = new TestSuite( TestSuiteOperators.class.getPackage().getName() );
     suite.addTestSuite( TestComputeOperator.class );
+    suite.addTestSuite( TestBloomFilter.class );
     return suite;
   }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package org.xdb.test.funsql.compile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.CompilePlanCache;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.GenericSelection;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.test.CompilePlanTestCase;
+
+public class TestCompilePlanCache extends CompilePlanTestCase {
+	private int cacheSize;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+
+		this.cacheSize = Config.COMPILE_PLAN_CACHE_SIZE;
+		Config.COMPILE_PLAN_CACHE_SIZE = 16;
+		CompilePlanCache.getCache().clear();
+	}
+
+	private CompilePlan compileCached(String stmt) {
+		FunSQLCompiler compiler = new FunSQLCompiler();
+		SelectStmt sstmt = (SelectStmt) compiler.compileCached(stmt);
+		this.assertNoError(compiler.getLastError());
+		return sstmt.getPlan();
+	}
+
+	private List<String> getPredicates(CompilePlan plan) {
+		List<String> predicates = new ArrayList<String>();
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op instanceof GenericSelection)
+				predicates.add(((GenericSelection) op).getPredicate()
+						.toSqlString());
+		}
+		return predicates;
+	}
+
+	@Test
+	public void testHitBindsLiterals() {
+		CompilePlanCache cache = CompilePlanCache.getCache();
+		long hits = cache.getHits();
+
+		CompilePlan plan1 = this.compileCached("SELECT R.A FROM R WHERE R.B = 5");
+		assertEquals(hits, cache.getHits());
+
+		CompilePlan plan2 = this.compileCached("SELECT R.A FROM R WHERE R.B = 7");
+		assertEquals(hits + 1, cache.getHits());
+		assertFalse(plan2.isLiteralDependent());
+
+		// each copy is executed as a separate plan
+		CompilePlan plan3 = this.compileCached("SELECT R.A FROM R WHERE R.B = 7");
+		assertEquals(hits + 2, cache.getHits());
+		assertFalse(plan1.getPlanId().equals(plan2.getPlanId()));
+		assertFalse(plan2.getPlanId().equals(plan3.getPlanId()));
+
+		// both plans have the shape of the template but their own literals
+		List<String> predicates1 = this.getPredicates(plan1);
+		List<String> predicates2 = this.getPredicates(plan2);
+		assertEquals(plan1.getOperators().size(), plan2.getOperators()
+				.size());
+		assertEquals(predicates1.size(), predicates2.size());
+		assertFalse(predicates1.isEmpty());
+		for (int i = 0; i < predicates1.size(); ++i) {
+			assertTrue(predicates1.get(i).contains("5"));
+			assertTrue(predicates2.get(i).contains("7"));
+			assertFalse(predicates2.get(i).contains("5"));
+		}
+	}
+
+	@Test
+	public void testLiteralDependentPlanIsNotCached() {
+		CompilePlanCache cache = CompilePlanCache.getCache();
+		long hits = cache.getHits();
+
+		// equality on partition attribute prunes partitions
+		CompilePlan plan1 = this.compileCached("SELECT R.B FROM R WHERE R.A = 5");
+		assertTrue(plan1.isLiteralDependent());
+
+		CompilePlan plan2 = this.compileCached("SELECT R.B FROM R WHERE R.A = 6");
+		assertTrue(plan2.isLiteralDependent());
+		assertEquals(hits, cache.getHits());
+	}
+
+	@Test
+	public void testFailedTemplateIsCompiledOnce() {
+		CompilePlanCache cache = CompilePlanCache.getCache();
+		String stmt = "SELECT X.A FROM X WHERE X.A = 5";
+
+		FunSQLCompiler compiler = new FunSQLCompiler();
+		assertNull(compiler.compileCached(stmt));
+		this.assertError(compiler.getLastError());
+		long misses = cache.getMisses();
+
+		// statement is marked and not looked up again
+		compiler = new FunSQLCompiler();
+		assertNull(compiler.compileCached(stmt));
+		this.assertError(compiler.getLastError());
+		assertEquals(misses, cache.getMisses());
+	}
+
+	@Override
+	public void tearDown() {
+		Config.COMPILE_PLAN_CACHE_SIZE = this.cacheSize;
+		super.tearDown();
+	}
+}
@@ -0,0 +1,104 @@
+package org.xdb.test.funsql.compile;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.test.CompilePlanTestCase;
+
+public class TestJoinOrder extends CompilePlanTestCase {
+	private BitSet activeRules;
+	private int broadcastMaxRows;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.activeRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_SELECT
+				.clone();
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(2, true);
+
+		this.broadcastMaxRows = Config.OPTIMIZER_BROADCAST_MAX_ROWS;
+		Config.OPTIMIZER_BROADCAST_MAX_ROWS = 100000;
+	}
+
+	private EquiJoin getTopJoin(CompilePlan plan) {
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getType().equals(EnumOperator.EQUI_JOIN)
+					&& !op.getParents().get(0).getType()
+							.equals(EnumOperator.EQUI_JOIN))
+				return (EquiJoin) op;
+		}
+		fail("No join in plan");
+		return null;
+	}
+
+	@Test
+	public void testBroadcastSmallInput() {
+		// FROM clause joins small input with large one
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM T, R WHERE T.H = R.B AND T.I = 'x'");
+		EquiJoin join = this.getTopJoin(plan);
+
+		// large input stays in place and small one is broadcast
+		assertEquals("R", this.getTableName(join.getLeftChild()));
+		assertEquals("T", this.getTableName(join.getRightChild()));
+		assertFalse(join.getLeftChild().getResult().repartition());
+		assertTrue(join.getRightChild().getResult().broadcast());
+	}
+
+	@Test
+	public void testCoPartitionedChain() {
+		// FROM clause starts with small input which is not co-partitioned
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, S.E, T.H FROM T, S, R WHERE T.G = R.B AND S.D = R.A AND T.I = 'x'");
+		EquiJoin topJoin = this.getTopJoin(plan);
+		EquiJoin join = (EquiJoin) topJoin.getLeftChild();
+
+		// chain starts with R: only T is shipped
+		assertEquals("R", this.getTableName(join.getLeftChild()));
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getResult().repartition()) {
+				assertTrue(op.getResult().broadcast());
+				assertEquals("T", this.getTableName(op));
+			}
+		}
+	}
+
+	@Test
+	public void testCheapestOrderIsKept() {
+		// co-partitioned join: no input is shipped in FROM clause order
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, S.E FROM S, R WHERE S.D = R.A");
+		EquiJoin join = this.getTopJoin(plan);
+
+		assertEquals("S", this.getTableName(join.getLeftChild()));
+		assertEquals("R", this.getTableName(join.getRightChild()));
+		assertFalse(join.getLeftChild().getResult().repartition());
+		assertFalse(join.getRightChild().getResult().repartition());
+	}
+
+	@Test
+	public void testRuleDisabled() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(2, false);
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM T, R WHERE T.H = R.B AND T.I = 'x'");
+		EquiJoin join = this.getTopJoin(plan);
+
+		// order of FROM clause: both inputs are re-partitioned
+		assertEquals("T", this.getTableName(join.getLeftChild()));
+		assertEquals("R", this.getTableName(join.getRightChild()));
+		assertTrue(join.getLeftChild().getResult().repartition());
+		assertFalse(join.getRightChild().getResult().broadcast());
+	}
+
+	@Override
+	public void tearDown() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT = this.activeRules;
+		Config.OPTIMIZER_BROADCAST_MAX_ROWS = this.broadcastMaxRows;
+		super.tearDown();
+	}
+}
@@ -0,0 +1,177 @@
+package org.xdb.test.funsql.compile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.codegen.CodeGenerator;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.tokens.TokenAttribute;
+import org.xdb.test.CompilePlanTestCase;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.utils.StringTemplate;
+
+public class TestProjectionPushDown extends CompilePlanTestCase {
+	private BitSet activeRules;
+	private boolean simulationMode;
+
+	// column name followed by its type in a table definition
+	private static final Pattern COLUMN = Pattern
+			.compile("[(,]\\s*(\\w+)\\s+[A-Z]+");
+
+	private static final String QUERY = "SELECT R1.B AS X, T1.H AS Y "
+			+ "FROM R AS R1, T AS T1 WHERE R1.A = T1.G AND R1.B = 3";
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.activeRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_SELECT
+				.clone();
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(3, true);
+
+		// generate SQL of combined operators
+		this.simulationMode = Config.SIMULATION_MODE;
+		Config.SIMULATION_MODE = false;
+	}
+
+	private List<String> getAttributeNames(AbstractCompileOperator op) {
+		List<String> names = new ArrayList<String>();
+		for (TokenAttribute att : op.getResult().getAttributes()) {
+			names.add(att.getName().getValue());
+		}
+		return names;
+	}
+
+	/**
+	 * Returns attributes which the join above a table reads from it
+	 *
+	 * @param plan
+	 * @param tableName
+	 * @return
+	 */
+	private List<String> getJoinInput(CompilePlan plan, String tableName) {
+		AbstractCompileOperator input = this.getTableOperator(plan, tableName);
+		while (!input.getParents().get(0).getType()
+				.equals(EnumOperator.EQUI_JOIN)) {
+			input = input.getParents().get(0);
+		}
+		return this.getAttributeNames(input);
+	}
+
+	/**
+	 * Returns columns of an intermediate table
+	 *
+	 * @param table
+	 * @return
+	 */
+	private List<String> getColumns(StringTemplate table) {
+		List<String> columns = new ArrayList<String>();
+		Matcher matcher = COLUMN.matcher(table.toString());
+		while (matcher.find()) {
+			columns.add(matcher.group(1));
+		}
+		return columns;
+	}
+
+	@Test
+	public void testPruneBelowJoin() {
+		CompilePlan plan = this.compileStatement(QUERY);
+
+		// join inputs only carry join and result attributes
+		assertEquals(Arrays.asList("R1_A", "R1_B"),
+				this.getJoinInput(plan, "R"));
+		assertEquals(Arrays.asList("T1_G", "T1_H"),
+				this.getJoinInput(plan, "T"));
+
+		// aliases of query result are kept
+		for (AbstractCompileOperator root : plan.getRootOps()) {
+			assertEquals(Arrays.asList("X", "Y"),
+					this.getAttributeNames(root));
+		}
+	}
+
+	@Test
+	public void testPruneJoinKeys() {
+		CompilePlan plan = this
+				.compileStatement("SELECT R.A, S.E, T.H FROM R, S, T WHERE R.A = S.D AND R.B = T.G");
+
+		// keys are only kept for joins above
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (!op.getType().equals(EnumOperator.EQUI_JOIN))
+				continue;
+
+			if (op.getParents().get(0).getType()
+					.equals(EnumOperator.EQUI_JOIN))
+				assertEquals(Arrays.asList("R_A", "R_B", "S_E"),
+						this.getAttributeNames(op));
+			else
+				assertEquals(Arrays.asList("R_A", "S_E", "T_H"),
+						this.getAttributeNames(op));
+		}
+	}
+
+	@Test
+	public void testPruneGroupAttributes() {
+		CompilePlan plan = this
+				.compileStatement("SELECT SUM(R.A) AS S FROM R GROUP BY R.B");
+		CodeGenerator codeGen = new CodeGenerator(plan);
+		this.assertNoError(codeGen.generate());
+
+		// query result is still grouped but only carries aggregate
+		boolean hasResult = false;
+		for (AbstractTrackerOperator op : codeGen.getQueryTrackerPlan()
+				.getTrackerOperators()) {
+			for (StringTemplate outTable : op.getOutTables()) {
+				if (this.getColumns(outTable).equals(Arrays.asList("S")))
+					hasResult = true;
+			}
+		}
+		assertTrue(hasResult);
+	}
+
+	@Test
+	public void testGeneratedTables() {
+		CompilePlan plan = this.compileStatement(QUERY);
+		CodeGenerator codeGen = new CodeGenerator(plan);
+		this.assertNoError(codeGen.generate());
+
+		// only pruned attributes are materialized and shipped
+		List<String> usedColumns = Arrays.asList("A", "B", "G", "H", "X",
+				"Y");
+		boolean hasResult = false;
+		for (AbstractTrackerOperator op : codeGen.getQueryTrackerPlan()
+				.getTrackerOperators()) {
+			for (StringTemplate outTable : op.getOutTables()) {
+				List<String> columns = this.getColumns(outTable);
+				assertFalse(columns.isEmpty());
+				assertTrue(usedColumns.containsAll(columns));
+				if (columns.equals(Arrays.asList("X", "Y")))
+					hasResult = true;
+			}
+		}
+		assertTrue(hasResult);
+	}
+
+	@Test
+	public void testRuleDisabled() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(3, false);
+		CompilePlan plan = this.compileStatement(QUERY);
+
+		assertTrue(this.getJoinInput(plan, "R").contains("R1_C"));
+		assertTrue(this.getJoinInput(plan, "T").contains("T1_I"));
+	}
+
+	@Override
+	public void tearDown() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT = this.activeRules;
+		Config.SIMULATION_MODE = this.simulationMode;
+		super.tearDown();
+	}
+}
@@ -14,6 +14,9 @@ public class TestSuiteSQL extends TestSuite
     suite.addTestSuite( TestSelectSQL.class );
     suite.addTestSuite( TestOptimizeSQL.class );
     suite.addTestSuite( TestOptimizeLargeSQL.class );
+    suite.addTestSuite( TestJoinOrder.class );
+    suite.addTestSuite( TestProjectionPushDown.class );
+    suite.addTestSuite( TestCompilePlanCache.class );
     suite.addTestSuite( TestCreateFunctionSQL.class);
     return suite;
   }
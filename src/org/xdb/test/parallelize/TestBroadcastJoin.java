@@ -0,0 +1,95 @@
+package org.xdb.test.parallelize;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.parallelize.CreatePartitionDescVisitor;
+import org.xdb.test.CompilePlanTestCase;
+
+public class TestBroadcastJoin extends CompilePlanTestCase {
+	private BitSet activeRules;
+	private int broadcastMaxRows;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.activeRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_SELECT
+				.clone();
+		// keep order of join inputs
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(2, false);
+		this.broadcastMaxRows = Config.OPTIMIZER_BROADCAST_MAX_ROWS;
+		Config.OPTIMIZER_BROADCAST_MAX_ROWS = 100000;
+	}
+
+	private boolean hasBroadcast(CompilePlan plan) {
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getResult().broadcast())
+				return true;
+		}
+		return false;
+	}
+
+	@Test
+	public void testBroadcastSmallInput() {
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.H AND T.I = 'x'");
+		EquiJoin join = this.getJoin(plan);
+
+		// selected rows of T are copied to all partitions of R
+		assertFalse(join.getLeftChild().getResult().repartition());
+		assertTrue(join.getRightChild().getResult().repartition());
+		assertTrue(join.getRightChild().getResult().broadcast());
+		assertEquals(4, join.getResult().getPartitionCount());
+	}
+
+	@Test
+	public void testRepartitionLargeInput() {
+		// copies of T are larger than R
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.H");
+		EquiJoin join = this.getJoin(plan);
+
+		assertFalse(this.hasBroadcast(plan));
+		assertTrue(join.getLeftChild().getResult().repartition());
+		assertTrue(join.getRightChild().getResult().repartition());
+	}
+
+	@Test
+	public void testBroadcastMaxRows() {
+		Config.OPTIMIZER_BROADCAST_MAX_ROWS = 0;
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.H AND T.I = 'x'");
+		EquiJoin join = this.getJoin(plan);
+
+		assertFalse(this.hasBroadcast(plan));
+		assertTrue(join.getLeftChild().getResult().repartition());
+	}
+
+	@Test
+	public void testBroadcastCost() {
+		// copies of right input vs. rows of left input
+		assertTrue(CreatePartitionDescVisitor.isBroadcastCheaper(40000, 4,
+				2000));
+		assertFalse(CreatePartitionDescVisitor.isBroadcastCheaper(40000, 4,
+				20000));
+
+		// nothing to copy to
+		assertFalse(CreatePartitionDescVisitor
+				.isBroadcastCheaper(40000, 1, 10));
+
+		// right input above limit
+		assertFalse(CreatePartitionDescVisitor.isBroadcastCheaper(1000000000,
+				4, 100001));
+	}
+
+	@Override
+	public void tearDown() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT = this.activeRules;
+		Config.OPTIMIZER_BROADCAST_MAX_ROWS = this.broadcastMaxRows;
+		super.tearDown();
+	}
+}
@@ -0,0 +1,151 @@
+package org.xdb.test.parallelize;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.metadata.Attribute;
+import org.xdb.metadata.AttributeStatistics;
+import org.xdb.metadata.Table;
+import org.xdb.metadata.TableStatistics;
+import org.xdb.test.CompilePlanTestCase;
+import org.xdb.utils.EquiDepthHistogram;
+import org.xdb.utils.HyperLogLog;
+
+public class TestHeavyHitters extends CompilePlanTestCase {
+	private BitSet activeRules;
+	private boolean skewSplit;
+	private double skewMinShare;
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.activeRules = (BitSet) Config.OPTIMIZER_ACTIVE_RULES_SELECT
+				.clone();
+		// keep order of join inputs
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT.set(2, false);
+		this.skewSplit = Config.OPTIMIZER_SKEW_SPLIT;
+		this.skewMinShare = Config.OPTIMIZER_SKEW_MIN_SHARE;
+		Config.OPTIMIZER_SKEW_SPLIT = true;
+		Config.OPTIMIZER_SKEW_MIN_SHARE = 1.0;
+	}
+
+	private boolean hasHeavyHitters(CompilePlan plan) {
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getResult().splitHeavyHitters()
+					|| op.getResult().replicateHeavyHitters())
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds statistics of attribute B to all partitions of table R as
+	 * collected by ANALYZE TABLE
+	 *
+	 * @param histogram
+	 */
+	private void analyzeR(String histogram) {
+		CompilePlan plan = this.compileStatement("SELECT R.B FROM R");
+		Table table = null;
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op instanceof TableOperator)
+				table = ((TableOperator) op).getTable();
+		}
+		assertNotNull(table);
+
+		Attribute att = table.getAttribute("B");
+		HyperLogLog sketch = new HyperLogLog();
+		for (int i = 0; i < HyperLogLog.REGISTER_CNT; i += 4) {
+			sketch.add(i, 1);
+		}
+		for (int partNum = 0; partNum < 4; ++partNum) {
+			table.addStatistics(new TableStatistics(table.getOid(), partNum,
+					10000));
+			att.addStatistics(new AttributeStatistics(att.getOid(), partNum,
+					0, "1", "30", sketch, EquiDepthHistogram.valueOf(
+							histogram, true)));
+		}
+	}
+
+	@Test
+	public void testNoSplitWithoutStatistics() {
+		// right input is not partitioned by join key: both inputs are
+		// re-partitioned by hash only
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.H");
+		EquiJoin join = this.getJoin(plan);
+
+		assertFalse(this.hasHeavyHitters(plan));
+		assertTrue(join.getLeftChild().getResult().repartition());
+		assertTrue(join.getRightChild().getResult().repartition());
+	}
+
+	@Test
+	public void testNoSplitCompatibleWithoutStatistics() {
+		// right input is partitioned by join key: left is re-partitioned
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.G");
+		EquiJoin join = this.getJoin(plan);
+
+		assertFalse(this.hasHeavyHitters(plan));
+		assertTrue(join.getLeftChild().getResult().repartition());
+		assertFalse(join.getRightChild().getResult().repartition());
+	}
+
+	@Test
+	public void testSplitSkewedKey() {
+		// value 7 fills half of the histogram buckets
+		this.analyzeR("1,5,7,7,7,7,7,9,12,20,30");
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.G");
+		EquiJoin join = this.getJoin(plan);
+
+		// right input is re-partitioned to replicate rows with heavy hitters
+		assertTrue(join.getLeftChild().getResult().splitHeavyHitters());
+		assertTrue(join.getRightChild().getResult().replicateHeavyHitters());
+		assertTrue(join.getRightChild().getResult().repartition());
+	}
+
+	@Test
+	public void testNoSplitUniformKey() {
+		this.analyzeR("1,4,7,9,12,15,18,21,24,27,30");
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.H");
+		EquiJoin join = this.getJoin(plan);
+
+		// both inputs are re-partitioned by hash only
+		assertFalse(this.hasHeavyHitters(plan));
+		assertTrue(join.getLeftChild().getResult().repartition());
+		assertTrue(join.getRightChild().getResult().repartition());
+	}
+
+	@Test
+	public void testSkewSplitDisabled() {
+		Config.OPTIMIZER_SKEW_SPLIT = false;
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.H");
+
+		assertFalse(this.hasHeavyHitters(plan));
+	}
+
+	@Test
+	public void testNonIntegerKey() {
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.C = T.I");
+
+		assertFalse(this.hasHeavyHitters(plan));
+	}
+
+	@Override
+	public void tearDown() {
+		Config.OPTIMIZER_ACTIVE_RULES_SELECT = this.activeRules;
+		Config.OPTIMIZER_SKEW_SPLIT = this.skewSplit;
+		Config.OPTIMIZER_SKEW_MIN_SHARE = this.skewMinShare;
+		super.tearDown();
+	}
+}
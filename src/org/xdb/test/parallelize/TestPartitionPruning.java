@@ -0,0 +1,122 @@
+package org.xdb.test.parallelize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.Test;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.operator.TableOperator;
+import org.xdb.test.CompilePlanTestCase;
+import org.xdb.tools.partitioner.Utils;
+
+public class TestPartitionPruning extends CompilePlanTestCase {
+
+	/**
+	 * Returns partitions of given keys as placed by the data partitioner
+	 *
+	 * @param keys
+	 * @return
+	 */
+	private List<Integer> getPartitions(int... keys) {
+		TreeSet<Integer> partNums = new TreeSet<Integer>();
+		for (int key : keys) {
+			String[] keyValues = { Integer.toString(key) };
+			partNums.add(Utils.getPartition(Utils.calculateHash(keyValues),
+					PARTITIONS));
+		}
+		return new ArrayList<Integer>(partNums);
+	}
+
+	@Test
+	public void testHashEquality() {
+		CompilePlan plan = this.compileStatement("SELECT R.B FROM R WHERE R.A = 5");
+		TableOperator to = this.getTableOperator(plan, "R");
+
+		assertTrue(to.isPruned());
+		assertEquals(this.getPartitions(5), to.getPartitionNumbers());
+		assertEquals(1, to.getPartitionCount());
+		assertTrue(plan.isLiteralDependent());
+	}
+
+	@Test
+	public void testHashDisjunction() {
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B FROM R WHERE R.A = 5 OR R.A = 6");
+		TableOperator to = this.getTableOperator(plan, "R");
+
+		assertTrue(to.isPruned());
+		assertEquals(this.getPartitions(5, 6), to.getPartitionNumbers());
+		assertEquals(to.getPartitionNumbers().size(), to.getPartitionCount());
+	}
+
+	@Test
+	public void testRefEquality() {
+		CompilePlan plan = this.compileStatement("SELECT S.E FROM S WHERE S.D = 5");
+		TableOperator to = this.getTableOperator(plan, "S");
+
+		// rows of S are placed with the row of R which they reference
+		assertTrue(to.isPruned());
+		assertEquals(this.getPartitions(5), to.getPartitionNumbers());
+	}
+
+	@Test
+	public void testRefDisjunction() {
+		CompilePlan plan = this
+				.compileStatement("SELECT S.E FROM S WHERE S.D = 5 OR S.D = 6");
+		TableOperator to = this.getTableOperator(plan, "S");
+
+		assertTrue(to.isPruned());
+		assertEquals(this.getPartitions(5, 6), to.getPartitionNumbers());
+	}
+
+	@Test
+	public void testCoPartitionedJoin() {
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, S.E FROM R, S WHERE R.A = S.D AND R.A = 5");
+		TableOperator toR = this.getTableOperator(plan, "R");
+		TableOperator toS = this.getTableOperator(plan, "S");
+
+		// both inputs read the same partitions
+		assertTrue(toR.isPruned());
+		assertTrue(toS.isPruned());
+		assertEquals(this.getPartitions(5), toR.getPartitionNumbers());
+		assertEquals(toR.getPartitionNumbers(), toS.getPartitionNumbers());
+	}
+
+	@Test
+	public void testNoPruning() {
+		// not a partition attribute
+		CompilePlan plan = this.compileStatement("SELECT R.B FROM R WHERE R.B = 5");
+		TableOperator to = this.getTableOperator(plan, "R");
+		assertFalse(to.isPruned());
+		assertEquals(PARTITIONS, to.getPartitionCount());
+		assertFalse(plan.isLiteralDependent());
+
+		// disjunction over different attributes
+		plan = this
+				.compileStatement("SELECT R.B FROM R WHERE R.A = 5 OR R.B = 6");
+		to = this.getTableOperator(plan, "R");
+		assertFalse(to.isPruned());
+
+		// range predicate
+		plan = this.compileStatement("SELECT R.B FROM R WHERE R.A > 5");
+		to = this.getTableOperator(plan, "R");
+		assertFalse(to.isPruned());
+	}
+
+	@Test
+	public void testMultiKeyNoPruning() {
+		// partitioner hashes only first key in integer mode
+		this.assertNoError(this.client.executeStmt("CREATE TABLE U ( "
+				+ "J INTEGER, " + "K INTEGER" + ") PARTIONED BY HASH(J, K) ("
+				+ "\"P0\" IN CONNECTION \"C0\","
+				+ "\"P1\" IN CONNECTION \"C1\" )"));
+		CompilePlan plan = this
+				.compileStatement("SELECT U.J FROM U WHERE U.J = 5 AND U.K = 6");
+		TableOperator to = this.getTableOperator(plan, "U");
+
+		assertFalse(to.isPruned());
+		assertFalse(plan.isLiteralDependent());
+	}
+}
@@ -0,0 +1,118 @@
+package org.xdb.test.parallelize;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.operator.AbstractCompileOperator;
+import org.xdb.funsql.compile.operator.EnumOperator;
+import org.xdb.funsql.compile.operator.EquiJoin;
+import org.xdb.funsql.parallelize.CreatePartitionDescVisitor;
+import org.xdb.test.CompilePlanTestCase;
+
+public class TestRepartitionCount extends CompilePlanTestCase {
+	private int repartitionRows;
+	private int computeSlots;
+	private int defaultCardinality;
+
+	private static final String AGG_QUERY = "SELECT R.B, COUNT(R.A) AS CNT FROM R GROUP BY R.B";
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		this.repartitionRows = Config.OPTIMIZER_REPARTITION_ROWS;
+		this.computeSlots = Config.COMPUTE_SLOTS;
+		this.defaultCardinality = Config.OPTIMIZER_DEFAULT_CARDINALITY;
+		Config.OPTIMIZER_REPARTITION_ROWS = 10000;
+		Config.COMPUTE_SLOTS = 8;
+		Config.OPTIMIZER_DEFAULT_CARDINALITY = 10000;
+	}
+
+	/**
+	 * Returns aggregation which re-partitions its result (i.e., the
+	 * pre-aggregation)
+	 *
+	 * @param plan
+	 * @return
+	 */
+	private AbstractCompileOperator getPreAggregation(CompilePlan plan) {
+		for (AbstractCompileOperator op : plan.getOperators()) {
+			if (op.getType().equals(EnumOperator.GENERIC_AGGREGATION)
+					&& op.getResult().repartition())
+				return op;
+		}
+		fail("No pre-aggregation in plan");
+		return null;
+	}
+
+	/**
+	 * Checks partition counts of pre-aggregation output and
+	 * post-aggregation
+	 *
+	 * @param plan
+	 * @param partCnt
+	 */
+	private void assertAggregationCount(CompilePlan plan, int partCnt) {
+		AbstractCompileOperator preAgg = this.getPreAggregation(plan);
+		assertEquals(4, preAgg.getResult().getPartitionCount());
+		assertEquals(partCnt, preAgg.getResult().getRePartitionCount());
+
+		AbstractCompileOperator postAgg = preAgg.getParents().get(0);
+		assertEquals(EnumOperator.GENERIC_AGGREGATION, postAgg.getType());
+		assertEquals(partCnt, postAgg.getResult().getPartitionCount());
+	}
+
+	@Test
+	public void testAggregationCollapses() {
+		// all groups fit into one partition
+		Config.OPTIMIZER_REPARTITION_ROWS = Integer.MAX_VALUE;
+		this.assertAggregationCount(this.compileStatement(AGG_QUERY), 1);
+	}
+
+	@Test
+	public void testAggregationFansOut() {
+		// one partition per compute slot of both connections
+		Config.OPTIMIZER_REPARTITION_ROWS = 1;
+		Config.COMPUTE_SLOTS = 3;
+		this.assertAggregationCount(this.compileStatement(AGG_QUERY), 6);
+	}
+
+	@Test
+	public void testAggregationKeepsInputCount() {
+		Config.OPTIMIZER_REPARTITION_ROWS = 0;
+		this.assertAggregationCount(this.compileStatement(AGG_QUERY), 4);
+	}
+
+	@Test
+	public void testJoin() {
+		CompilePlan plan = this
+				.compileStatement("SELECT R.B, T.H FROM R, T WHERE R.B = T.H");
+		EquiJoin join = this.getJoin(plan);
+
+		// (4 + 2) * 10000 rows of both inputs
+		assertEquals(6, join.getLeftChild().getResult().getRePartitionCount());
+		assertEquals(6, join.getRightChild().getResult()
+				.getRePartitionCount());
+		assertEquals(6, join.getResult().getPartitionCount());
+	}
+
+	@Test
+	public void testRepartitionCount() {
+		assertEquals(3, CreatePartitionDescVisitor.getRepartitionCount(25000,
+				4));
+		assertEquals(1, CreatePartitionDescVisitor.getRepartitionCount(0, 4));
+
+		// at most one partition per compute slot (or input partition)
+		assertEquals(16, CreatePartitionDescVisitor.getRepartitionCount(1e9,
+				4));
+		assertEquals(20, CreatePartitionDescVisitor.getRepartitionCount(1e9,
+				20));
+	}
+
+	@Override
+	public void tearDown() {
+		Config.OPTIMIZER_REPARTITION_ROWS = this.repartitionRows;
+		Config.COMPUTE_SLOTS = this.computeSlots;
+		Config.OPTIMIZER_DEFAULT_CARDINALITY = this.defaultCardinality;
+		super.tearDown();
+	}
+}
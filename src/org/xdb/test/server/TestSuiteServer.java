@@ -9,6 +9,7 @@ public class TestSuiteServer extends TestSuite
   {
     TestSuite suite = new TestSuite( TestSuiteServer.class.getPackage().getName() );
     suite.addTestSuite( TestCompileServer.class );
+    suite.addTestSuite( TestWireMessage.class );
     return suite;
   }
 }
\ No newline at end of file
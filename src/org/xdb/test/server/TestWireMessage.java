@@ -0,0 +1,171 @@
+package org.xdb.test.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.exchange.ExchangeInput;
+import org.xdb.execute.operators.BloomFilter;
+import org.xdb.execute.operators.EnumOperatorStatus;
+import org.xdb.execute.operators.HeavyHitters;
+import org.xdb.execute.operators.MySQLExecuteOperator;
+import org.xdb.execute.operators.OperatorDesc;
+import org.xdb.execute.signals.ReadySignal;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.QueryTrackerNodeDesc;
+import org.xdb.utils.Identifier;
+
+/**
+ * Tests that hot message types are decoded to the values which were encoded
+ * by WireMessage
+ *
+ */
+public class TestWireMessage extends TestCase {
+
+	@Override
+	public void setUp() {
+		Config.SERVER_WIRE_CODEC = true;
+	}
+
+	@Test
+	public void testIdentifier() throws Exception {
+		Identifier id = new Identifier(7).append(3).append("a");
+		Identifier decodedId = (Identifier) this.encodeDecode(id);
+
+		assertEquals(id, decodedId);
+		assertEquals(id.getLevels(), decodedId.getLevels());
+	}
+
+	@Test
+	public void testComputeNodeDesc() throws Exception {
+		ComputeNodeDesc node = new ComputeNodeDesc("10.0.0.1", 55700, 8);
+		ComputeNodeDesc decodedNode = (ComputeNodeDesc) this
+				.encodeDecode(node);
+
+		assertEquals(node, decodedNode);
+		assertTrue(node.equalsWPort(decodedNode));
+		assertEquals(node.getSlots(), decodedNode.getSlots());
+	}
+
+	@Test
+	public void testOperatorDesc() throws Exception {
+		OperatorDesc opDesc = new OperatorDesc(new Identifier(1).append(2),
+				new ComputeNodeDesc("10.0.0.1", 55700));
+		opDesc.setOperatorStatus(EnumOperatorStatus.RUNNING);
+		OperatorDesc decodedOpDesc = (OperatorDesc) this.encodeDecode(opDesc);
+
+		assertEquals(opDesc.getOperatorID(), decodedOpDesc.getOperatorID());
+		assertTrue(opDesc.getComputeNode().equalsWPort(
+				decodedOpDesc.getComputeNode()));
+		assertEquals(opDesc.getOperatorStatus(),
+				decodedOpDesc.getOperatorStatus());
+	}
+
+	@Test
+	public void testReadySignal() throws Exception {
+		ReadySignal signal = new ReadySignal(new Identifier(1).append(2),
+				new Identifier(1).append(3));
+		ReadySignal decodedSignal = (ReadySignal) this.encodeDecode(signal);
+
+		assertEquals(signal.getSource(), decodedSignal.getSource());
+		assertEquals(signal.getConsumer(), decodedSignal.getConsumer());
+		assertNull(decodedSignal.getBloomFilter());
+		assertNull(decodedSignal.getHeavyHitters());
+	}
+
+	@Test
+	public void testReadySignalWithFilters() throws Exception {
+		BloomFilter filter = new BloomFilter(128);
+		filter.add(new long[] { 3, 17, 101 });
+		HeavyHitters heavyHitters = new HeavyHitters(new long[] { 42, 7 });
+		ReadySignal signal = new ReadySignal(new Identifier(1).append(2),
+				new Identifier(1).append(3), filter, heavyHitters);
+		ReadySignal decodedSignal = (ReadySignal) this.encodeDecode(signal);
+
+		assertEquals(signal.getSource(), decodedSignal.getSource());
+		assertEquals(signal.getConsumer(), decodedSignal.getConsumer());
+		assertEquals(filter.getNumBits(), decodedSignal.getBloomFilter()
+				.getNumBits());
+		assertTrue(Arrays.equals(filter.getWords(), decodedSignal
+				.getBloomFilter().getWords()));
+		assertTrue(decodedSignal.getBloomFilter().mightContain(
+				new long[] { 3, 17, 101 }));
+		assertTrue(Arrays.equals(heavyHitters.getKeys(), decodedSignal
+				.getHeavyHitters().getKeys()));
+	}
+
+	@Test
+	public void testMySQLExecuteOperator() throws Exception {
+		Identifier opId = new Identifier(1).append(2).append(1);
+		MySQLExecuteOperator op = new MySQLExecuteOperator(opId);
+		op.setQueryTracker(new QueryTrackerNodeDesc("10.0.0.9"));
+		op.addOpenSQL("CREATE TABLE T1 (A INT)");
+		op.addExecuteSQL("INSERT INTO T1 SELECT A FROM R");
+		op.addCloseSQL("DROP TABLE T1");
+		op.addConsumer(new OperatorDesc(new Identifier(1).append(3)
+				.append(1), new ComputeNodeDesc("10.0.0.2", 55700)));
+		op.addExchangeInput(new ExchangeInput(new ComputeNodeDesc("10.0.0.3",
+				55700), new Identifier(1).append(4), "R_1_4_1", "R_1_2_1"));
+		op.setBloomFilterKey("A");
+		BloomFilter filter = new BloomFilter(64);
+		filter.add(new long[] { 5, 9 });
+		op.setBloomFilter(filter);
+		op.setHeavyHitters(new HeavyHitters(new long[] { 11 }));
+		op.setPriority(3);
+		op.setStatus(EnumOperatorStatus.DEPLOYED);
+
+		MySQLExecuteOperator decodedOp = (MySQLExecuteOperator) this
+				.encodeDecode(op);
+
+		assertEquals(op.getOperatorId(), decodedOp.getOperatorId());
+		assertEquals(op.getConsumerTrackerIds(),
+				decodedOp.getConsumerTrackerIds());
+		assertEquals(op.getSourceTrackerIds(), decodedOp.getSourceTrackerIds());
+		assertEquals(op.toString(), decodedOp.toString());
+		assertEquals(op.getPriority(), decodedOp.getPriority());
+		assertEquals(op.getStatus(), decodedOp.getStatus());
+
+		assertEquals(1, decodedOp.getExchangeInputs().size());
+		ExchangeInput input = op.getExchangeInputs().get(0);
+		ExchangeInput decodedInput = decodedOp.getExchangeInputs().get(0);
+		assertEquals(input.getSourceNode(), decodedInput.getSourceNode());
+		assertEquals(input.getSourceTrackerOpId(),
+				decodedInput.getSourceTrackerOpId());
+		assertEquals(input.getSourceTableName(),
+				decodedInput.getSourceTableName());
+		assertEquals(input.getTargetTableName(),
+				decodedInput.getTargetTableName());
+
+		assertTrue(Arrays.equals(filter.getWords(), decodedOp
+				.getBloomFilter().getWords()));
+		assertTrue(Arrays.equals(op.getHeavyHitters().getKeys(), decodedOp
+				.getHeavyHitters().getKeys()));
+	}
+
+	/**
+	 * Serializes value and returns deserialized copy
+	 *
+	 * @param value
+	 * @return
+	 * @throws Exception
+	 */
+	private Object encodeDecode(Object value) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(value);
+		out.close();
+
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(
+				bytes.toByteArray()));
+		Object decodedValue = in.readObject();
+		in.close();
+
+		assertNotSame(value, decodedValue);
+		return decodedValue;
+	}
+}
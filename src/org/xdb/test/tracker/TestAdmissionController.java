@@ -0,0 +1,138 @@
+package org.xdb.test.tracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.test.TestCase;
+import org.xdb.tracker.AdmissionController;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.Tuple;
+
+public class TestAdmissionController extends TestCase {
+	private int maxRunningPlans;
+	private String groupWeights;
+
+	private final List<AdmissionController.Ticket> admitted = new ArrayList<AdmissionController.Ticket>();
+
+	private final AdmissionController.Listener listener = new AdmissionController.Listener() {
+		@Override
+		public void admitted(AdmissionController.Ticket ticket) {
+			admitted.add(ticket);
+		}
+
+		@Override
+		public void rejected(Error err) {
+			fail(err.toString());
+		}
+	};
+
+	@Override
+	public void setUp() {
+		this.maxRunningPlans = Config.MASTERTRACKER_MAX_RUNNING_PLANS;
+		this.groupWeights = Config.MASTERTRACKER_GROUP_WEIGHTS;
+		Config.MASTERTRACKER_MAX_RUNNING_PLANS = 1;
+		Config.MASTERTRACKER_GROUP_WEIGHTS = "batch:1,dashboard:2";
+	}
+
+	private AdmissionController createController() {
+		AdmissionController controller = new AdmissionController(
+				XDBLog.getLogger(EnumXDBComponents.MASTER_TRACKER_SERVER));
+		this.assertNoError(controller.getError());
+		return controller;
+	}
+
+	@Test
+	public void testParseWeights() {
+		Tuple<Error, Map<String, Double>> weights = AdmissionController
+				.parseWeights(" batch:1, dashboard : 2.5,");
+		this.assertNoError(weights.getObject1());
+		assertEquals(2, weights.getObject2().size());
+		assertEquals(2.5, weights.getObject2().get("dashboard"));
+
+		// invalid entries are skipped and reported
+		weights = AdmissionController.parseWeights("batch:x,dashboard:2");
+		this.assertError(weights.getObject1());
+		assertEquals(1, weights.getObject2().size());
+		this.assertError(AdmissionController.parseWeights("batch").getObject1());
+		this.assertError(AdmissionController.parseWeights("batch:0")
+				.getObject1());
+		this.assertError(AdmissionController.parseWeights(":1").getObject1());
+		this.assertNoError(AdmissionController.parseWeights("").getObject1());
+	}
+
+	@Test
+	public void testInvalidWeights() {
+		Config.MASTERTRACKER_GROUP_WEIGHTS = "batch:1;dashboard:2";
+		AdmissionController controller = new AdmissionController(
+				XDBLog.getLogger(EnumXDBComponents.MASTER_TRACKER_SERVER));
+		this.assertError(controller.getError());
+	}
+
+	@Test
+	public void testWeightedFairSharing() {
+		Config.MASTERTRACKER_MAX_RUNNING_PLANS = 3;
+		AdmissionController controller = this.createController();
+		for (int i = 0; i < 4; ++i) {
+			controller.submit(new Identifier(i), "batch", this.listener);
+		}
+		for (int i = 4; i < 7; ++i) {
+			controller.submit(new Identifier(i), "dashboard", this.listener);
+		}
+		assertEquals(3, this.admitted.size());
+
+		// dashboard gets two slots for each slot of batch
+		String[] groups = { "dashboard", "dashboard", "batch" };
+		for (int i = 0; i < groups.length; ++i) {
+			controller.release(this.admitted.get(i));
+			assertEquals(4 + i, this.admitted.size());
+			assertEquals(groups[i], this.admitted.get(3 + i).getGroup());
+		}
+	}
+
+	@Test
+	public void testReleaseTwice() {
+		AdmissionController controller = this.createController();
+		controller.submit(new Identifier(1), "batch", this.listener);
+		controller.submit(new Identifier(2), "batch", this.listener);
+		controller.submit(new Identifier(3), "batch", this.listener);
+
+		// second release of same ticket does not free another slot
+		controller.release(this.admitted.get(0));
+		controller.release(this.admitted.get(0));
+		assertEquals(2, this.admitted.size());
+		assertEquals(1, controller.getRunningPlans());
+		assertEquals(1, controller.getStats().get("batch").getQueuedPlans());
+	}
+
+	@Test
+	public void testDropIdleGroups() {
+		Config.MASTERTRACKER_MAX_RUNNING_PLANS = 0;
+		AdmissionController controller = this.createController();
+		for (int i = 0; i < 100; ++i) {
+			controller.submit(new Identifier(i), "client" + i, this.listener);
+		}
+		assertEquals(100, controller.getStats().size());
+
+		for (AdmissionController.Ticket ticket : this.admitted) {
+			controller.release(ticket);
+		}
+
+		// configured groups are kept
+		controller.submit(new Identifier(100), "batch", this.listener);
+		controller.release(this.admitted.get(100));
+		assertEquals(1, controller.getStats().size());
+		assertTrue(controller.getStats().containsKey("batch"));
+	}
+
+	@Override
+	public void tearDown() {
+		Config.MASTERTRACKER_MAX_RUNNING_PLANS = this.maxRunningPlans;
+		Config.MASTERTRACKER_GROUP_WEIGHTS = this.groupWeights;
+	}
+}
@@ -0,0 +1,76 @@
+package org.xdb.test.tracker;
+
+import org.junit.Test;
+import org.xdb.Config;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.funsql.compile.CompilePlanCache;
+import org.xdb.funsql.compile.FunSQLCompiler;
+import org.xdb.funsql.statement.SelectStmt;
+import org.xdb.test.CompilePlanTestCase;
+import org.xdb.tracker.QueryTrackerNode;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.utils.Tuple;
+
+public class TestPlanTemplate extends CompilePlanTestCase {
+	private boolean simulationMode;
+
+	private static final String QUERY = "SELECT R.A, T.H FROM R, T WHERE R.B = T.G AND R.B = 5";
+
+	@Override
+	public void setUp() {
+		super.setUp();
+		CompilePlanCache.getCache().clear();
+
+		// generate SQL of tracker operators
+		this.simulationMode = Config.SIMULATION_MODE;
+		Config.SIMULATION_MODE = false;
+	}
+
+	private CompilePlan compileCached(String stmt) {
+		FunSQLCompiler compiler = new FunSQLCompiler();
+		SelectStmt sstmt = (SelectStmt) compiler.compileCached(stmt);
+		this.assertNoError(compiler.getLastError());
+		return sstmt.getPlan();
+	}
+
+	private QueryTrackerPlan generatePlan(CompilePlan plan) {
+		QueryTrackerNode qTracker = this.qTrackerServer.getNode();
+		Tuple<QueryTrackerPlan, Error> result = qTracker
+				.generateQueryTrackerPlan(plan);
+		this.assertNoError(result.getObject2());
+		return result.getObject1();
+	}
+
+	@Test
+	public void testRepeatedStatement() {
+		CompilePlanCache cache = CompilePlanCache.getCache();
+		QueryTrackerNode qTracker = this.qTrackerServer.getNode();
+		long hits = cache.getHits();
+		long templateHits = qTracker.getPlanTemplateHits();
+
+		CompilePlan cplan1 = this.compileCached(QUERY);
+		QueryTrackerPlan qplan1 = this.generatePlan(cplan1);
+		assertEquals(templateHits, qTracker.getPlanTemplateHits());
+
+		// compile plan and tracker operators are reused
+		CompilePlan cplan2 = this.compileCached(QUERY);
+		assertEquals(hits + 1, cache.getHits());
+		QueryTrackerPlan qplan2 = this.generatePlan(cplan2);
+		assertEquals(templateHits + 1, qTracker.getPlanTemplateHits());
+		assertEquals(qplan1.getTrackerOperatorIds().size(), qplan2
+				.getTrackerOperatorIds().size());
+
+		// each run has its own plan ids and profile
+		assertFalse(cplan1.getPlanId().equals(cplan2.getPlanId()));
+		assertFalse(qplan1.getPlanId().equals(qplan2.getPlanId()));
+		assertEquals(qplan1.getPlanId(), qplan1.getProfile().getPlanId());
+		assertEquals(qplan2.getPlanId(), qplan2.getProfile().getPlanId());
+	}
+
+	@Override
+	public void tearDown() {
+		Config.SIMULATION_MODE = this.simulationMode;
+		super.tearDown();
+	}
+}
@@ -12,6 +12,8 @@ public class TestSuiteTracker extends TestSuite
     suite.addTestSuite( TestPlanTranslation.class );
     suite.addTestSuite( TestSQLPlanTranslation.class );
     suite.addTestSuite( TestDistributed2ComputeNodes.class );
+    suite.addTestSuite( TestAdmissionController.class );
+    suite.addTestSuite( TestPlanTemplate.class );
     return suite;
   }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package org.xdb.test.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.xdb.test.TestCase;
+import org.xdb.utils.EquiDepthHistogram;
+
+public class TestEquiDepthHistogram extends TestCase {
+	private static final double DELTA = 0.001;
+
+	@Test
+	public void testCreate() {
+		// shuffled sample of 1..100
+		List<String> sample = new ArrayList<String>();
+		for (int i = 1; i <= 100; ++i) {
+			sample.add(Integer.toString(i));
+		}
+		Collections.reverse(sample);
+
+		EquiDepthHistogram histogram = EquiDepthHistogram.create(sample, "0",
+				"200", 4, true);
+		assertEquals(4, histogram.getBucketCount());
+		assertEquals("0,26,51,76,200", histogram.toString());
+	}
+
+	@Test
+	public void testCreateEmptySample() {
+		EquiDepthHistogram histogram = EquiDepthHistogram.create(
+				new ArrayList<String>(), "1", "9", 4, true);
+		assertEquals(1, histogram.getBucketCount());
+		assertEquals("1,9", histogram.toString());
+	}
+
+	@Test
+	public void testFractionLess() {
+		EquiDepthHistogram histogram = EquiDepthHistogram.valueOf(
+				"0,10,20,40,80", true);
+
+		assertEquals(0.0, histogram.getFractionLess("-5"), DELTA);
+		assertEquals(0.0, histogram.getFractionLess("0"), DELTA);
+		assertEquals(0.125, histogram.getFractionLess("5"), DELTA);
+		assertEquals(0.5, histogram.getFractionLess("20"), DELTA);
+		assertEquals(0.625, histogram.getFractionLess("30"), DELTA);
+		assertEquals(1.0, histogram.getFractionLess("80"), DELTA);
+		assertEquals(1.0, histogram.getFractionLess("100"), DELTA);
+	}
+
+	@Test
+	public void testFractionLessDate() {
+		EquiDepthHistogram histogram = EquiDepthHistogram.valueOf(
+				"1995-01-01,1996-01-01,1997-01-01", false);
+
+		// middle of bucket for non-numeric values
+		assertEquals(0.25, histogram.getFractionLess("1995-06-30"), DELTA);
+		assertEquals(0.75, histogram.getFractionLess("1996-06-30"), DELTA);
+		assertEquals(1.0, histogram.getFractionLess("1998-01-01"), DELTA);
+	}
+
+	@Test
+	public void testMaxFraction() {
+		// value 7 is boundary of 5 consecutive buckets
+		assertEquals(0.5, EquiDepthHistogram.valueOf(
+				"1,5,7,7,7,7,7,9,12,20,30", true).getMaxFraction(), DELTA);
+		assertEquals(0.0, EquiDepthHistogram.valueOf(
+				"1,4,7,9,12,15,18,21,24,27,30", true).getMaxFraction(), DELTA);
+		assertEquals(0.0, EquiDepthHistogram.valueOf("", true)
+				.getMaxFraction(), DELTA);
+	}
+
+	@Test
+	public void testToString() {
+		EquiDepthHistogram histogram = EquiDepthHistogram.valueOf(
+				"1.5,2,3.25", true);
+		assertEquals(2, histogram.getBucketCount());
+		assertEquals("1.5,2,3.25", histogram.toString());
+		assertEquals(0, EquiDepthHistogram.valueOf(null, true)
+				.getBucketCount());
+	}
+}
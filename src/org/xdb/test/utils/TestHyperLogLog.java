@@ -0,0 +1,94 @@
+package org.xdb.test.utils;
+
+import java.security.MessageDigest;
+
+import org.junit.Test;
+import org.xdb.test.TestCase;
+import org.xdb.utils.HyperLogLog;
+
+public class TestHyperLogLog extends TestCase {
+
+	/**
+	 * Adds value to sketch as the SQL expressions of sqlRegister and sqlRank
+	 * do on the database
+	 *
+	 * @param sketch
+	 * @param value
+	 */
+	private void add(HyperLogLog sketch, String value) throws Exception {
+		// first 4 bytes of MD5 digest
+		byte[] digest = MessageDigest.getInstance("MD5").digest(
+				value.getBytes());
+		long hash = 0;
+		for (int i = 0; i < 4; ++i) {
+			hash = (hash << 8) | (digest[i] & 0xff);
+		}
+
+		int register = (int) (hash & (HyperLogLog.REGISTER_CNT - 1));
+		long rest = hash >> HyperLogLog.REGISTER_BITS;
+		int rankBits = 32 - HyperLogLog.REGISTER_BITS;
+		int rank = rankBits + 1;
+		if (rest > 0)
+			rank = rankBits - (63 - Long.numberOfLeadingZeros(rest));
+		sketch.add(register, rank);
+	}
+
+	private HyperLogLog createSketch(int from, int to) throws Exception {
+		HyperLogLog sketch = new HyperLogLog();
+		for (int i = from; i < to; ++i) {
+			this.add(sketch, Integer.toString(i));
+		}
+		return sketch;
+	}
+
+	private void assertEstimate(long expected, HyperLogLog sketch) {
+		// standard error is about 3% for 1024 registers
+		assertEquals(expected, sketch.estimate(), expected * 0.1);
+	}
+
+	@Test
+	public void testEmpty() {
+		assertEquals(0, new HyperLogLog().estimate());
+	}
+
+	@Test
+	public void testSmallCount() throws Exception {
+		this.assertEstimate(100, this.createSketch(0, 100));
+	}
+
+	@Test
+	public void testLargeCount() throws Exception {
+		this.assertEstimate(100000, this.createSketch(0, 100000));
+	}
+
+	@Test
+	public void testDuplicates() throws Exception {
+		HyperLogLog sketch = this.createSketch(0, 5000);
+		long estimate = sketch.estimate();
+		for (int i = 0; i < 5000; ++i) {
+			this.add(sketch, Integer.toString(i));
+		}
+		assertEquals(estimate, sketch.estimate());
+	}
+
+	@Test
+	public void testMerge() throws Exception {
+		// partitions with overlapping values
+		HyperLogLog sketch = this.createSketch(0, 30000);
+		HyperLogLog copy = new HyperLogLog(sketch);
+		sketch.merge(this.createSketch(20000, 50000));
+
+		this.assertEstimate(50000, sketch);
+		this.assertEstimate(30000, copy);
+	}
+
+	@Test
+	public void testToString() throws Exception {
+		HyperLogLog sketch = this.createSketch(0, 10000);
+		HyperLogLog parsed = HyperLogLog.valueOf(sketch.toString());
+
+		assertEquals(HyperLogLog.REGISTER_CNT, sketch.toString().length());
+		assertEquals(sketch.toString(), parsed.toString());
+		assertEquals(sketch.estimate(), parsed.estimate());
+	}
+}
@@ -113,23 +113,41 @@ public class Utils {
 	 */
 	public static int calculateHash (String line, Integer [] keys) {
 		
-		int hash = 0; 
 		String[] lineTokens = line.split("\\|"); 
 	    
-		StringBuffer keysString = new StringBuffer();
-		
-		//if (keys.length == 1 && Integer.)
-		for(int i=keys.length-1; i >= 0; i--){
-			keysString.append(lineTokens[keys[i]].trim() );
+		String[] keyValues = new String[keys.length];
+		for(int i=0; i < keys.length; i++){
+			keyValues[i] = lineTokens[keys[i]];
 		}  
 		
+		return calculateHash(keyValues); 
+	} 
 	
-		Long a = Long.parseLong(keysString.toString());
-		hash = a.hashCode();
-		//hash = keysString.toString().hashCode(); 
+	/**
+	 * Calculate the hash code of the values of the partition columns
+	 * @param keyValues the values of the columns (in the order of the keys)
+	 * @return the hash code of the concatenated values (in reverse order)
+	 */
+	public static int calculateHash (String[] keyValues) {
 		
-		return hash; 
-	} 
+		StringBuffer keysString = new StringBuffer();
+		for(int i=keyValues.length-1; i >= 0; i--){
+			keysString.append(keyValues[i].trim());
+		}  
+	
+		Long a = Long.parseLong(keysString.toString());
+		return a.hashCode();
+	}
+	
+	/**
+	 * Calculate the partition of a hash code 
+	 * @param hash the hash code of the partition columns
+	 * @param numberOfPartitions the number of partitions
+	 * @return the partition number (0..numberOfPartitions-1)
+	 */
+	public static int getPartition (int hash, int numberOfPartitions) {
+		return (hash % numberOfPartitions + numberOfPartitions) % numberOfPartitions;
+	}
 	
 	/**
 	 * Calculate the hash code for integer key only. 
@@ -0,0 +1,427 @@
+package org.xdb.tracker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.error.EnumError;
+import org.xdb.error.Error;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.Tuple;
+
+/**
+ * Global admission control of the master tracker: at most
+ * Config.MASTERTRACKER_MAX_RUNNING_PLANS plans are executed at the same time
+ * and waiting plans are queued per resource group (FIFO).
+ *
+ * If a plan finishes, the next plan is taken from the resource group with
+ * the lowest number of running plans relative to its weight (weighted fair
+ * sharing, see Config.MASTERTRACKER_GROUP_WEIGHTS). Thus, a group can not
+ * starve the others by submitting many plans.
+ *
+ * Submitting a plan never blocks the caller: the plan is queued and its
+ * listener is called when the plan is admitted (by the thread which frees
+ * the slot) or rejected (queue full or Config.MASTERTRACKER_ADMISSION_TIMEOUT
+ * expired). Thus, queued plans do not hold server threads.
+ *
+ * Groups without a configured weight are created on demand and dropped as
+ * soon as they have no queued or running plans. Thus, group names chosen by
+ * clients do not accumulate.
+ *
+ */
+public class AdmissionController {
+	public static final String DEFAULT_GROUP = "default";
+
+	/**
+	 * Receives the admission decision of a submitted plan
+	 */
+	public interface Listener {
+		/**
+		 * Plan may be executed (the slot is freed by release(ticket))
+		 *
+		 * @param ticket
+		 */
+		void admitted(Ticket ticket);
+
+		/**
+		 * Plan was not admitted
+		 *
+		 * @param err
+		 */
+		void rejected(Error err);
+	}
+
+	/**
+	 * Plan which waits for or holds an execution slot
+	 */
+	public static class Ticket {
+		private final Identifier planId;
+		private final ResourceGroup group;
+		private final Listener listener;
+		private final long queuedTime = System.currentTimeMillis();
+		private long admittedTime = 0;
+		private boolean admitted = false;
+		private boolean released = false;
+
+		private Ticket(Identifier planId, ResourceGroup group,
+				Listener listener) {
+			this.planId = planId;
+			this.group = group;
+			this.listener = listener;
+		}
+
+		public Identifier getPlanId() {
+			return this.planId;
+		}
+
+		public String getGroup() {
+			return this.group.name;
+		}
+
+		public long getQueueTime() {
+			return this.admittedTime - this.queuedTime;
+		}
+	}
+
+	/**
+	 * Queue and counters of one resource group
+	 */
+	private static class ResourceGroup {
+		private final String name;
+		private final double weight;
+		private final LinkedList<Ticket> queue = new LinkedList<Ticket>();
+		private int running = 0;
+		private long admitted = 0;
+		private long completed = 0;
+		private long totalQueueTime = 0;
+		private long maxQueueTime = 0;
+		private final long createdTime = System.currentTimeMillis();
+
+		private ResourceGroup(String name, double weight) {
+			this.name = name;
+			this.weight = weight;
+		}
+
+		private double getShare() {
+			return this.running / this.weight;
+		}
+	}
+
+	private final Map<String, ResourceGroup> groups = new HashMap<String, ResourceGroup>();
+	private final Map<String, Double> weights;
+	private Error err = new Error();
+	private int running = 0;
+	private int queued = 0;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	// rejects plans which wait longer than the admission timeout
+	private ScheduledExecutorService timeouts = null;
+
+	private final Logger logger;
+
+	// constructors
+	public AdmissionController(Logger logger) {
+		this.logger = logger;
+
+		Tuple<Error, Map<String, Double>> weights = parseWeights(Config.MASTERTRACKER_GROUP_WEIGHTS);
+		this.err = weights.getObject1();
+		this.weights = weights.getObject2();
+		if (this.err.isError())
+			logger.log(Level.SEVERE, this.err.toString());
+	}
+
+	// getters and setters
+	/**
+	 * Returns error of configuration (e.g., invalid group weights)
+	 *
+	 * @return
+	 */
+	public Error getError() {
+		return this.err;
+	}
+
+	/**
+	 * Returns number of plans which are currently executed
+	 *
+	 * @return
+	 */
+	public int getRunningPlans() {
+		this.lock.lock();
+		try {
+			return this.running;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns current metrics of all resource groups
+	 *
+	 * @return resource group -> metrics
+	 */
+	public Map<String, ResourceGroupStats> getStats() {
+		Map<String, ResourceGroupStats> stats = new TreeMap<String, ResourceGroupStats>();
+		long now = System.currentTimeMillis();
+
+		this.lock.lock();
+		try {
+			for (ResourceGroup group : this.groups.values()) {
+				stats.put(group.name, new ResourceGroupStats(group.name,
+						group.weight, group.queue.size(), group.running,
+						group.admitted, group.completed, group.totalQueueTime,
+						group.maxQueueTime, now - group.createdTime));
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		return stats;
+	}
+
+	// methods
+	/**
+	 * Queues plan of given resource group without waiting. The listener is
+	 * called as soon as the plan is admitted or rejected (possibly before
+	 * this method returns).
+	 *
+	 * @param planId
+	 * @param groupName
+	 *            resource group (or null for default group)
+	 * @param listener
+	 */
+	public void submit(Identifier planId, String groupName, Listener listener) {
+		if (groupName == null || groupName.isEmpty())
+			groupName = DEFAULT_GROUP;
+
+		Ticket ticket = null;
+		List<Ticket> admitted = null;
+		this.lock.lock();
+		try {
+			if (Config.MASTERTRACKER_ADMISSION_QUEUE <= 0
+					|| this.queued < Config.MASTERTRACKER_ADMISSION_QUEUE) {
+				ticket = new Ticket(planId, this.getGroup(groupName), listener);
+				ticket.group.queue.add(ticket);
+				this.queued++;
+				admitted = this.dispatch();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+
+		// queue is full
+		if (ticket == null) {
+			String[] args = { "MasterTracker: Plan " + planId
+					+ " of resource group " + groupName
+					+ " was rejected since "
+					+ Config.MASTERTRACKER_ADMISSION_QUEUE
+					+ " plans are queued" };
+			listener.rejected(new Error(EnumError.TRACKER_GENERIC, args));
+			return;
+		}
+
+		if (!ticket.admitted && Config.MASTERTRACKER_ADMISSION_TIMEOUT > 0)
+			this.scheduleTimeout(ticket);
+		this.notifyAdmitted(admitted);
+	}
+
+	/**
+	 * Releases execution slot of an admitted plan and admits waiting plans.
+	 * Releasing a ticket more than once has no effect.
+	 *
+	 * @param ticket
+	 */
+	public void release(Ticket ticket) {
+		if (ticket == null)
+			return;
+
+		List<Ticket> admitted;
+		this.lock.lock();
+		try {
+			if (!ticket.admitted || ticket.released)
+				return;
+
+			ticket.released = true;
+			this.running--;
+			ticket.group.running--;
+			ticket.group.completed++;
+			this.dropIdleGroup(ticket.group);
+			admitted = this.dispatch();
+		} finally {
+			this.lock.unlock();
+		}
+		this.notifyAdmitted(admitted);
+	}
+
+	/**
+	 * Admits waiting plans while slots are free (called with lock held)
+	 *
+	 * @return admitted plans whose listeners must be called
+	 */
+	private List<Ticket> dispatch() {
+		List<Ticket> admitted = new ArrayList<Ticket>();
+		while (Config.MASTERTRACKER_MAX_RUNNING_PLANS <= 0
+				|| this.running < Config.MASTERTRACKER_MAX_RUNNING_PLANS) {
+			// pick group with lowest weighted share (oldest plan on ties)
+			ResourceGroup next = null;
+			for (ResourceGroup group : this.groups.values()) {
+				if (group.queue.isEmpty())
+					continue;
+
+				if (next == null
+						|| group.getShare() < next.getShare()
+						|| (group.getShare() == next.getShare() && group.queue
+								.getFirst().queuedTime < next.queue.getFirst().queuedTime))
+					next = group;
+			}
+			if (next == null)
+				break;
+
+			Ticket ticket = next.queue.removeFirst();
+			ticket.admitted = true;
+			ticket.admittedTime = System.currentTimeMillis();
+			this.queued--;
+			this.running++;
+			next.running++;
+			next.admitted++;
+			next.totalQueueTime += ticket.getQueueTime();
+			next.maxQueueTime = Math.max(next.maxQueueTime,
+					ticket.getQueueTime());
+			admitted.add(ticket);
+		}
+		return admitted;
+	}
+
+	/**
+	 * Calls listeners of admitted plans (called without lock)
+	 *
+	 * @param admitted
+	 */
+	private void notifyAdmitted(List<Ticket> admitted) {
+		for (Ticket ticket : admitted) {
+			logger.log(Level.INFO, "MasterTracker: Admitted plan "
+					+ ticket.planId + " of resource group "
+					+ ticket.group.name + " after " + ticket.getQueueTime()
+					+ " ms");
+			ticket.listener.admitted(ticket);
+		}
+	}
+
+	/**
+	 * Rejects plan if it is still queued when the admission timeout expires
+	 *
+	 * @param ticket
+	 */
+	private void scheduleTimeout(final Ticket ticket) {
+		this.getTimeouts().schedule(new Runnable() {
+			@Override
+			public void run() {
+				lock.lock();
+				try {
+					if (ticket.admitted || !ticket.group.queue.remove(ticket))
+						return;
+					queued--;
+					dropIdleGroup(ticket.group);
+				} finally {
+					lock.unlock();
+				}
+
+				String[] args = { "MasterTracker: Plan " + ticket.planId
+						+ " of resource group " + ticket.group.name
+						+ " was not admitted within "
+						+ Config.MASTERTRACKER_ADMISSION_TIMEOUT + " ms" };
+				ticket.listener.rejected(new Error(EnumError.TRACKER_GENERIC,
+						args));
+			}
+		}, Config.MASTERTRACKER_ADMISSION_TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized ScheduledExecutorService getTimeouts() {
+		if (this.timeouts == null) {
+			this.timeouts = Executors
+					.newSingleThreadScheduledExecutor(new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable r) {
+							Thread t = new Thread(r,
+									"MasterTracker-AdmissionTimeout");
+							t.setDaemon(true);
+							return t;
+						}
+					});
+		}
+		return this.timeouts;
+	}
+
+	private ResourceGroup getGroup(String name) {
+		ResourceGroup group = this.groups.get(name);
+		if (group == null) {
+			Double weight = this.weights.get(name);
+			group = new ResourceGroup(name, (weight == null) ? 1.0 : weight);
+			this.groups.put(name, group);
+		}
+		return group;
+	}
+
+	/**
+	 * Removes group without configured weight if it has no queued or running
+	 * plans (called with lock held)
+	 *
+	 * @param group
+	 */
+	private void dropIdleGroup(ResourceGroup group) {
+		if (group.running == 0 && group.queue.isEmpty()
+				&& !this.weights.containsKey(group.name))
+			this.groups.remove(group.name);
+	}
+
+	/**
+	 * Parses weights of resource groups (e.g., "batch:1,dashboard:4").
+	 * Invalid entries are ignored and reported as error.
+	 *
+	 * @param weightsDesc
+	 * @return
+	 */
+	public static Tuple<Error, Map<String, Double>> parseWeights(
+			String weightsDesc) {
+		Error err = new Error();
+		Map<String, Double> weights = new HashMap<String, Double>();
+		if (weightsDesc == null)
+			return new Tuple<Error, Map<String, Double>>(err, weights);
+
+		for (String groupDesc : weightsDesc.split(",")) {
+			if (groupDesc.trim().isEmpty())
+				continue;
+
+			String[] nameAndWeight = groupDesc.split(":");
+			double weight = Double.NaN;
+			if (nameAndWeight.length == 2
+					&& !nameAndWeight[0].trim().isEmpty()) {
+				try {
+					weight = Double.parseDouble(nameAndWeight[1].trim());
+				} catch (NumberFormatException e) {
+					// reported below
+				}
+			}
+
+			if (weight > 0 && !Double.isInfinite(weight)) {
+				weights.put(nameAndWeight[0].trim(), weight);
+			} else if (!err.isError()) {
+				String[] args = { "MasterTracker: Invalid weight of resource group \""
+						+ groupDesc.trim()
+						+ "\" in MASTERTRACKER_GROUP_WEIGHTS (expected <name>:<weight> with weight > 0)" };
+				err = new Error(EnumError.TRACKER_GENERIC, args);
+			}
+		}
+		return new Tuple<Error, Map<String, Double>>(err, weights);
+	}
+}
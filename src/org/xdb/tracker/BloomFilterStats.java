@@ -0,0 +1,106 @@
+package org.xdb.tracker;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.xdb.utils.Identifier;
+
+/**
+ * Statistics about the Bloom filter of one join (i.e., how many rows of the
+ * probe side were removed before they were shipped)
+ *
+ */
+public class BloomFilterStats implements Serializable {
+
+	private static final long serialVersionUID = -1482706392712859716L;
+
+	// join
+	private final String filterId;
+
+	// filter
+	private int numBits = 0;
+	private double fillRatio = 0.0;
+	private boolean applied = false;
+
+	// rows of probe side before and after filter (per tracker operator)
+	private final Map<Identifier, long[]> rows = new HashMap<Identifier, long[]>();
+
+	// constructors
+	public BloomFilterStats(String filterId) {
+		this.filterId = filterId;
+	}
+
+	// getters and setters
+	public String getFilterId() {
+		return this.filterId;
+	}
+
+	public int getNumBits() {
+		return this.numBits;
+	}
+
+	public double getFillRatio() {
+		return this.fillRatio;
+	}
+
+	public boolean isApplied() {
+		return this.applied;
+	}
+
+	void setFilter(int numBits, double fillRatio, boolean applied) {
+		this.numBits = numBits;
+		this.fillRatio = fillRatio;
+		this.applied = applied;
+	}
+
+	public long getProbeRows() {
+		long probeRows = 0;
+		for (long[] opRows : this.rows.values()) {
+			probeRows += opRows[0];
+		}
+		return probeRows;
+	}
+
+	public long getPassedRows() {
+		long passedRows = 0;
+		for (long[] opRows : this.rows.values()) {
+			passedRows += opRows[1];
+		}
+		return passedRows;
+	}
+
+	/**
+	 * Sets rows of a probe side (re-executed operators replace their rows)
+	 *
+	 * @param trackerOpId
+	 * @param probeRows
+	 * @param passedRows
+	 */
+	void setRows(Identifier trackerOpId, long probeRows, long passedRows) {
+		long[] opRows = { probeRows, passedRows };
+		this.rows.put(trackerOpId, opRows);
+	}
+
+	/**
+	 * Returns fraction of probe rows which were removed by the filter
+	 *
+	 * @return
+	 */
+	public double getReductionRatio() {
+		long probeRows = this.getProbeRows();
+		if (probeRows <= 0)
+			return 0.0;
+		return 1.0 - (double) this.getPassedRows() / probeRows;
+	}
+
+	// methods
+	@Override
+	public String toString() {
+		return this.filterId + " (bits=" + this.numBits + ", fill="
+				+ String.format("%.3f", this.fillRatio) + ", applied="
+				+ this.applied + ", probe rows=" + this.getProbeRows()
+				+ ", passed rows=" + this.getPassedRows() + ", reduction="
+				+ String.format("%.3f", this.getReductionRatio()) + ")";
+	}
+}
@@ -0,0 +1,11 @@
+package org.xdb.tracker;
+
+/**
+ * Policy of the master tracker to allocate compute nodes to query trackers
+ * (see MasterTrackerNode.getAvailableComputeNodes)
+ */
+public enum EnumComputeNodeAllocation {
+	ROUND_ROBIN, // ignores load of compute nodes
+	LEAST_LOADED, // compute node with least load
+	POWER_OF_TWO // less loaded of two random compute nodes
+}
@@ -0,0 +1,17 @@
+package org.xdb.tracker;
+
+import org.xdb.error.Error;
+
+/**
+ * Receives the result of a plan which is executed asynchronously
+ * 
+ */
+public interface IPlanCallback {
+
+	/**
+	 * Plan was executed or could not be executed
+	 * 
+	 * @param err
+	 */
+	void finished(Error err);
+}
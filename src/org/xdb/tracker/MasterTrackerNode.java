@@ -8,8 +8,13 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,6 +28,7 @@ import org.xdb.doomdb.DoomDBPlanStatus;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.ComputeNodeStats;
 import org.xdb.execute.signals.RestartSignal;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.logging.EnumXDBComponents;
@@ -43,9 +49,20 @@ public class MasterTrackerNode {
 	private final Map<ComputeNodeDesc, Boolean> computeNode2Availability = Collections
 			.synchronizedMap(new HashMap<ComputeNodeDesc, Boolean>());
 
+	// mapping: compute node (URL, PORT) -> last reported load
+	private final Map<ComputeNodeDesc, ComputeNodeStats> computeNode2Stats = Collections
+			.synchronizedMap(new HashMap<ComputeNodeDesc, ComputeNodeStats>());
+
+	// mapping: compute node (URL, PORT) -> allocations since last report
+	private final Map<ComputeNodeDesc, Integer> computeNode2Allocations = Collections
+			.synchronizedMap(new HashMap<ComputeNodeDesc, Integer>());
+
 	// last used compute node
 	private int lastUsedComputeNode = 0;
 
+	// random choices for power-of-two allocation
+	private final Random random = new Random();
+
 	// list: ComputeNodeDesc for round robin assignment
 	private final List<ComputeNodeDesc> computeNodes = Collections
 			.synchronizedList(new LinkedList<ComputeNodeDesc>());
@@ -72,6 +89,12 @@ public class MasterTrackerNode {
 	// map: plan ID -> URL of assigned query tracker
 	private final Map<Identifier, QueryTrackerNodeDesc> planAssignment = new HashMap<Identifier, QueryTrackerNodeDesc>();
 
+	// admission control of plans across query trackers
+	private final AdmissionController admissionController;
+
+	// threads which hand over admitted plans to query trackers
+	private ExecutorService planExecutors = null;
+
 	/** Helper **/
 	// server
 	private MasterTrackerServer server;
@@ -119,6 +142,7 @@ public class MasterTrackerNode {
 	public MasterTrackerNode(MasterTrackerServer server) {
 		this.logger = XDBLog.getLogger(EnumXDBComponents.MASTER_TRACKER_SERVER);
 		this.server = server;
+		this.admissionController = new AdmissionController(this.logger);
 	}
 
 	// getters and setters
@@ -142,11 +166,17 @@ public class MasterTrackerNode {
 		return this.lastCompilePlan;
 	}
 
+	public Map<String, ResourceGroupStats> getAdmissionStats() {
+		return this.admissionController.getStats();
+	}
+
 	// methods
 	/**
 	 * Startup method
+	 * 
+	 * @return error of admission control configuration
 	 */
-	public void startup() {
+	public Error startup() {
 		if (Config.MASTERTRACKER_MONITOR_ACTIVATED) {
 			ComputeNodeMonitor cMonitor = new ComputeNodeMonitor();
 			cMonitor.start();
@@ -154,6 +184,7 @@ public class MasterTrackerNode {
 			QueryTrackerMonitor qMonitor = new QueryTrackerMonitor();
 			qMonitor.start();
 		}
+		return this.admissionController.getError();
 	}
 
 	/**
@@ -170,9 +201,13 @@ public class MasterTrackerNode {
 					continue;
 
 				// ping and see if any error is returned
-				err = computeClient.pingComputeServer(computeNode);
+				Tuple<Error, ComputeNodeStats> result = computeClient
+						.getComputeServerStats(computeNode);
+				err = result.getObject1();
 				if (err.isError()) {
 					computeNode2Availability.put(computeNode, false);
+				} else {
+					this.updateLoad(computeNode, result.getObject2());
 				}
 			}
 		}
@@ -198,28 +233,89 @@ public class MasterTrackerNode {
 	}
 
 	/**
-	 * Determines query tracker and hands over compile plan for execution
+	 * Queues compile plan for execution without waiting: once the plan is
+	 * admitted, it is handed over to a query tracker by a plan executor and
+	 * the callback is called when the plan is finished (or rejected)
 	 * 
 	 * @param plan
-	 * @return
+	 * @param callback
 	 */
-	public Error executePlan(final CompilePlan plan) {
+	public void executePlan(final CompilePlan plan, final IPlanCallback callback) {
 		// logging
 		logger.log(Level.INFO,
 				"MasterTracker: Received CompilePlan for execution: " + plan);
 
-		// get query tracker
+		// queue plan in resource group
+		this.admissionController.submit(plan.getPlanId(),
+				plan.getResourceGroup(), new AdmissionController.Listener() {
+					@Override
+					public void admitted(final AdmissionController.Ticket ticket) {
+						getPlanExecutors().execute(new Runnable() {
+							@Override
+							public void run() {
+								Error err = executeAdmittedPlan(plan, ticket);
+								callback.finished(err);
+							}
+						});
+					}
+
+					@Override
+					public void rejected(Error err) {
+						callback.finished(err);
+					}
+				});
+	}
+
+	/**
+	 * Determines query tracker and hands over admitted compile plan for
+	 * execution
+	 * 
+	 * @param plan
+	 * @param ticket
+	 * @return
+	 */
+	private Error executeAdmittedPlan(final CompilePlan plan,
+			final AdmissionController.Ticket ticket) {
 		Error err = new Error();
-		final QueryTrackerNodeDesc qTracker = getAvailableQueryTracker();
-		if (qTracker == null) {
-			String[] args = { "MasterTracker: No query tracker available!" };
-			err = new Error(EnumError.TRACKER_GENERIC, args);
+		try {
+			// get query tracker
+			final QueryTrackerNodeDesc qTracker = getAvailableQueryTracker();
+			if (qTracker == null) {
+				String[] args = { "MasterTracker: No query tracker available!" };
+				err = new Error(EnumError.TRACKER_GENERIC, args);
+				return err;
+			}
+
+			// execute plan on query tracker
+			err = this.executeOnQueryTracker(qTracker, plan);
 			return err;
+		} finally {
+			this.admissionController.release(ticket);
 		}
+	}
 
-		// execute plan on query tracker
-		err = this.executeOnQueryTracker(qTracker, plan);
-		return err;
+	/**
+	 * Returns executor which executes admitted plans (at most
+	 * Config.MASTERTRACKER_MAX_RUNNING_PLANS threads are busy)
+	 * 
+	 * @return
+	 */
+	private synchronized ExecutorService getPlanExecutors() {
+		if (this.planExecutors == null) {
+			this.planExecutors = Executors
+					.newCachedThreadPool(new ThreadFactory() {
+						private final AtomicInteger lastThreadNo = new AtomicInteger();
+
+						@Override
+						public Thread newThread(Runnable r) {
+							Thread t = new Thread(r, "MasterTracker-Plan-"
+									+ lastThreadNo.incrementAndGet());
+							t.setDaemon(true);
+							return t;
+						}
+					});
+		}
+		return this.planExecutors;
 	}
 
 	/**
@@ -449,31 +545,136 @@ public class MasterTrackerNode {
 		final HashSet<String> unsatisfiedNodeRequests = new HashSet<String>(
 				requestedNodes);
 
-		// assign nodes in wish-list
+		// assign nodes in wish-list (data locality first)
 		for (String requestedNode : requestedNodes) {
 			if (this.url2ComputeNodes.containsKey(requestedNode)) {
+				List<ComputeNodeDesc> candidates = new ArrayList<ComputeNodeDesc>();
 				for (ComputeNodeDesc computeNode : this.url2ComputeNodes
 						.get(requestedNode)) {
 					if (this.computeNode2Availability.get(computeNode)) {
-						allocatedNodes.put(requestedNode, computeNode);
-						unsatisfiedNodeRequests.remove(requestedNode);
-						break;
+						candidates.add(computeNode);
+						if (Config.MASTERTRACKER_ALLOCATION == EnumComputeNodeAllocation.ROUND_ROBIN)
+							break;
 					}
 				}
+
+				if (!candidates.isEmpty()) {
+					allocatedNodes.put(requestedNode,
+							this.allocateComputeNode(candidates));
+					unsatisfiedNodeRequests.remove(requestedNode);
+				}
 			}
 		}
 
-		// assign nodes for unsatisfied requests using round robin assignment
+		// assign nodes for unsatisfied requests
+		if (this.computeNodes.isEmpty())
+			return allocatedNodes;
+
+		if (Config.MASTERTRACKER_ALLOCATION == EnumComputeNodeAllocation.ROUND_ROBIN) {
+			for (String unsatisfiedNodeRequest : unsatisfiedNodeRequests) {
+				this.lastUsedComputeNode++;
+				this.lastUsedComputeNode = this.lastUsedComputeNode
+						% this.computeNodes.size();
+				allocatedNodes.put(unsatisfiedNodeRequest,
+						this.computeNodes.get(this.lastUsedComputeNode));
+			}
+			return allocatedNodes;
+		}
+
+		List<ComputeNodeDesc> candidates = new ArrayList<ComputeNodeDesc>();
+		for (ComputeNodeDesc computeNode : this.computeNodes) {
+			if (this.computeNode2Availability.get(computeNode))
+				candidates.add(computeNode);
+		}
+		if (candidates.isEmpty())
+			candidates.addAll(this.computeNodes);
+
 		for (String unsatisfiedNodeRequest : unsatisfiedNodeRequests) {
-			this.lastUsedComputeNode++;
-			this.lastUsedComputeNode = this.lastUsedComputeNode
-					% this.computeNodes.size();
 			allocatedNodes.put(unsatisfiedNodeRequest,
-					this.computeNodes.get(this.lastUsedComputeNode));
+					this.allocateComputeNode(candidates));
 		}
 		return allocatedNodes;
 	}
 
+	/**
+	 * Selects compute node from candidates using the configured allocation
+	 * policy and accounts the allocation for its load
+	 * 
+	 * @param candidates
+	 * @return
+	 */
+	private ComputeNodeDesc allocateComputeNode(
+			final List<ComputeNodeDesc> candidates) {
+		ComputeNodeDesc selected = candidates.get(0);
+
+		switch (Config.MASTERTRACKER_ALLOCATION) {
+		case LEAST_LOADED:
+			double minLoad = Double.MAX_VALUE;
+			for (ComputeNodeDesc candidate : candidates) {
+				double load = this.getLoad(candidate);
+				if (load < minLoad) {
+					minLoad = load;
+					selected = candidate;
+				}
+			}
+			break;
+		case POWER_OF_TWO:
+			if (candidates.size() > 1) {
+				int first = this.random.nextInt(candidates.size());
+				int second = this.random.nextInt(candidates.size() - 1);
+				if (second >= first)
+					second++;
+
+				selected = candidates.get(first);
+				if (this.getLoad(candidates.get(second)) < this
+						.getLoad(selected))
+					selected = candidates.get(second);
+			}
+			break;
+		default:
+			break;
+		}
+
+		Integer allocations = this.computeNode2Allocations.get(selected);
+		this.computeNode2Allocations.put(selected,
+				(allocations == null) ? 1 : allocations + 1);
+		return selected;
+	}
+
+	/**
+	 * Estimates current load of compute node: last reported load plus the
+	 * allocations of the master tracker since then (one operator each)
+	 * 
+	 * @param computeNode
+	 * @return
+	 */
+	private double getLoad(final ComputeNodeDesc computeNode) {
+		double load = 0.0;
+		ComputeNodeStats stats = this.computeNode2Stats.get(computeNode);
+		if (stats != null)
+			load = stats.getLoad();
+
+		Integer allocations = this.computeNode2Allocations.get(computeNode);
+		if (allocations != null)
+			load += (double) allocations / Math.max(1, computeNode.getSlots());
+		return load;
+	}
+
+	/**
+	 * Stores load reported by compute node (registration or ping)
+	 * 
+	 * @param computeNode
+	 * @param stats
+	 */
+	private void updateLoad(final ComputeNodeDesc computeNode,
+			final ComputeNodeStats stats) {
+		if (stats == null)
+			return;
+
+		this.computeNode2Stats.put(computeNode, stats);
+		this.computeNode2Allocations.remove(computeNode);
+	}
+
 	/**
 	 * Register a new QueryTrackerNode
 	 * 
@@ -498,11 +699,14 @@ public class MasterTrackerNode {
 	 * 
 	 * @param desc
 	 *            ComputeNodeDesc
+	 * @param stats
+	 *            current load of compute node
 	 */
-	public synchronized Error registerComputeNode(final ComputeNodeDesc desc) {
+	public synchronized Error registerComputeNode(final ComputeNodeDesc desc,
+			final ComputeNodeStats stats) {
 		final Error err = new Error();
 		logger.log(Level.INFO, "Registered ComputeNode at MasterTracker: "
-				+ desc);
+				+ desc + " " + stats);
 
 		if (!computeNode2Availability.containsKey(desc)) {
 			List<ComputeNodeDesc> nodesPerUrl = null;
@@ -517,6 +721,7 @@ public class MasterTrackerNode {
 			this.computeNodes.add(desc);
 		}
 		computeNode2Availability.put(desc, true);
+		this.updateLoad(desc, stats);
 
 		return err;
 	}
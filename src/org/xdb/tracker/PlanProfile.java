@@ -0,0 +1,96 @@
+package org.xdb.tracker;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xdb.execute.exchange.ExchangeStats;
+import org.xdb.utils.Identifier;
+
+/**
+ * Execution profile of one query tracker plan (i.e., runtime, shipped data
+ * per exchange edge and reduction per Bloom filter)
+ *
+ */
+public class PlanProfile implements Serializable {
+
+	private static final long serialVersionUID = 3960851174632127358L;
+
+	// plan
+	private final Identifier planId;
+	private final long executionTime;
+
+	// network
+	private final long predictedNetworkBytes;
+	private final long actualNetworkBytes;
+
+	// consumer tracker operator -> exchange edges
+	private final Map<Identifier, List<ExchangeStats>> exchangeStats = new HashMap<Identifier, List<ExchangeStats>>();
+
+	// filter id -> reduction of probe side
+	private final Map<String, BloomFilterStats> bloomFilterStats = new HashMap<String, BloomFilterStats>();
+
+	// constructors
+	public PlanProfile(QueryTrackerPlan plan) {
+		this.planId = plan.getPlanId();
+		this.executionTime = plan.getQueryExecutionTime();
+		this.predictedNetworkBytes = plan.getPredictedNetworkBytes();
+		this.actualNetworkBytes = plan.getActualNetworkBytes();
+
+		for (Map.Entry<Identifier, List<ExchangeStats>> entry : plan
+				.getExchangeStats().entrySet()) {
+			this.exchangeStats.put(entry.getKey(), new ArrayList<ExchangeStats>(
+					entry.getValue()));
+		}
+		this.bloomFilterStats.putAll(plan.getBloomFilterStats());
+	}
+
+	// getters and setters
+	public Identifier getPlanId() {
+		return this.planId;
+	}
+
+	public long getExecutionTime() {
+		return this.executionTime;
+	}
+
+	public long getPredictedNetworkBytes() {
+		return this.predictedNetworkBytes;
+	}
+
+	public long getActualNetworkBytes() {
+		return this.actualNetworkBytes;
+	}
+
+	public Map<Identifier, List<ExchangeStats>> getExchangeStats() {
+		return Collections.unmodifiableMap(this.exchangeStats);
+	}
+
+	public Map<String, BloomFilterStats> getBloomFilterStats() {
+		return Collections.unmodifiableMap(this.bloomFilterStats);
+	}
+
+	// methods
+	@Override
+	public String toString() {
+		StringBuffer profile = new StringBuffer();
+		profile.append("Profile of plan " + this.planId + ": time="
+				+ this.executionTime + "ms, network bytes predicted="
+				+ this.predictedNetworkBytes + ", actual="
+				+ this.actualNetworkBytes);
+
+		for (Map.Entry<Identifier, List<ExchangeStats>> entry : this.exchangeStats
+				.entrySet()) {
+			for (ExchangeStats edge : entry.getValue()) {
+				profile.append("\n\tExchange " + entry.getKey() + ": " + edge);
+			}
+		}
+		for (BloomFilterStats stats : this.bloomFilterStats.values()) {
+			profile.append("\n\tBloom filter " + stats);
+		}
+		return profile.toString();
+	}
+}
@@ -2,6 +2,7 @@ package org.xdb.tracker;
 
 import java.net.InetAddress;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -17,10 +18,12 @@ import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.execute.ComputeNodeDesc;
 import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.signals.HeartbeatSignal;
 import org.xdb.funsql.codegen.CodeGenerator;
 import org.xdb.funsql.compile.CompilePlan;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBLog;
+import org.xdb.monitor.HeartbeatMonitor;
 import org.xdb.utils.Identifier;
 import org.xdb.utils.Tuple;
 
@@ -41,6 +44,37 @@ public class QueryTrackerNode {
 
 	// query tracker plans
 	private Map<Identifier, QueryTrackerPlan> qPlans = new HashMap<Identifier, QueryTrackerPlan>();
+
+	// liveness of compute nodes
+	private final HeartbeatMonitor heartbeatMonitor = new HeartbeatMonitor();
+
+	// templates of generated plans: compile plan fingerprint -> template (in
+	// LRU order)
+	private final Map<String, QueryTrackerPlanTemplate> planTemplates = new LinkedHashMap<String, QueryTrackerPlanTemplate>(
+			16, 0.75f, true) {
+		private static final long serialVersionUID = -2207463183640473329L;
+
+		@Override
+		protected boolean removeEldestEntry(
+				Map.Entry<String, QueryTrackerPlanTemplate> eldest) {
+			return size() > Config.QUERYTRACKER_PLAN_CACHE_SIZE;
+		}
+	};
+
+	// number of plans which were created from a template
+	private long planTemplateHits = 0;
+
+	// profiles of executed plans: compile plan id -> profile (in insertion
+	// order)
+	private final Map<Identifier, PlanProfile> planProfiles = new LinkedHashMap<Identifier, PlanProfile>() {
+		private static final long serialVersionUID = 5402517336420987613L;
+
+		@Override
+		protected boolean removeEldestEntry(
+				Map.Entry<Identifier, PlanProfile> eldest) {
+			return size() > Config.QUERYTRACKER_PROFILE_HISTORY;
+		}
+	};
 	
 	// logger
 	private final Logger logger;
@@ -58,6 +92,10 @@ public class QueryTrackerNode {
 	}
 
 	// getters and setters
+	public HeartbeatMonitor getHeartbeatMonitor() {
+		return this.heartbeatMonitor;
+	}
+
 	/**
 	 * Adds plan to monitored plans
 	 * 
@@ -77,6 +115,31 @@ public class QueryTrackerNode {
 		this.qPlans.put(planId, plan);
 	}
 
+	/**
+	 * Returns number of query tracker plans which were created from a cached
+	 * template
+	 * 
+	 * @return
+	 */
+	public long getPlanTemplateHits() {
+		synchronized (this.planTemplates) {
+			return this.planTemplateHits;
+		}
+	}
+
+	/**
+	 * Returns profile of an executed compile plan (or null if plan was not
+	 * executed or its profile was evicted)
+	 * 
+	 * @param cplanId
+	 * @return
+	 */
+	public PlanProfile getPlanProfile(Identifier cplanId) {
+		synchronized (this.planProfiles) {
+			return this.planProfiles.get(cplanId);
+		}
+	}
+
 	/**
 	 * Returns compute client of query tracker node
 	 * 
@@ -109,17 +172,15 @@ public class QueryTrackerNode {
 	 */
 	public Tuple<QueryTrackerPlan, Error> generateQueryTrackerPlan(
 			final CompilePlan compilePlan) {
-		// generate QTPLan from CPlan
-		Error err = new Error(); 
-	
-		CodeGenerator codeGen = new CodeGenerator(compilePlan);
-		err = codeGen.generate();
-		if (err.isError()){
-			return new Tuple<QueryTrackerPlan, Error>(null, err);
-		}
+		// generate QTPLan from CPlan (or from template of same plan)
+		Tuple<QueryTrackerPlan, Error> qPlanErr = this
+				.instantiatePlanTemplate(compilePlan);
+		if (qPlanErr.getObject2().isError())
+			return qPlanErr;
 		
 		// assign QT to QTPlan
-		QueryTrackerPlan qplan = codeGen.getQueryTrackerPlan();
+		QueryTrackerPlan qplan = qPlanErr.getObject1();
+		Error err = qPlanErr.getObject2();
 		qplan.assignTracker(this);
 		
 		// trace QTPLan
@@ -131,6 +192,62 @@ public class QueryTrackerNode {
 		return new Tuple<QueryTrackerPlan, Error>(qplan, err);
 	}
 
+	/**
+	 * Creates query tracker plan from cached template for compile plan;
+	 * generates code and caches template if no template exists
+	 * 
+	 * @param compilePlan
+	 * @return
+	 */
+	private Tuple<QueryTrackerPlan, Error> instantiatePlanTemplate(
+			final CompilePlan compilePlan) {
+		Error err = new Error();
+		String fingerprint = null;
+		if (Config.QUERYTRACKER_PLAN_CACHE_SIZE > 0) {
+			// fingerprint before code generator modifies compile plan
+			Tuple<Error, String> fingerprintErr = QueryTrackerPlanTemplate
+					.fingerprint(compilePlan);
+			fingerprint = fingerprintErr.getObject2();
+
+			QueryTrackerPlanTemplate template = null;
+			synchronized (this.planTemplates) {
+				if (fingerprint != null)
+					template = this.planTemplates.get(fingerprint);
+			}
+			if (template != null) {
+				Tuple<Error, QueryTrackerPlan> qPlanErr = template
+						.instantiate();
+				if (!qPlanErr.getObject1().isError()) {
+					synchronized (this.planTemplates) {
+						this.planTemplateHits++;
+					}
+					return new Tuple<QueryTrackerPlan, Error>(
+							qPlanErr.getObject2(), err);
+				}
+			}
+		}
+
+		CodeGenerator codeGen = new CodeGenerator(compilePlan);
+		err = codeGen.generate();
+		if (err.isError()) {
+			return new Tuple<QueryTrackerPlan, Error>(null, err);
+		}
+		QueryTrackerPlan qplan = codeGen.getQueryTrackerPlan();
+
+		// cache template of generated plan
+		if (fingerprint != null) {
+			Tuple<Error, QueryTrackerPlanTemplate> templateErr = QueryTrackerPlanTemplate
+					.create(qplan);
+			if (!templateErr.getObject1().isError()) {
+				synchronized (this.planTemplates) {
+					this.planTemplates.put(fingerprint,
+							templateErr.getObject2());
+				}
+			}
+		}
+		return new Tuple<QueryTrackerPlan, Error>(qplan, err);
+	}
+
 	/**
 	 * Phase 1 of execution: prepare query tracker plan for execution
 	 * 
@@ -196,6 +313,9 @@ public class QueryTrackerNode {
 
 		// 2. execute prepared plan
 		err = this.executeQTPlan(qplan);
+		synchronized (this.planProfiles) {
+			this.planProfiles.put(cplan.getPlanId(), qplan.getProfile());
+		}
 		qplan.cleanPlan();
 		
 		return err;
@@ -333,4 +453,35 @@ public class QueryTrackerNode {
 		//System.out.println("Stop operatorReady "+execOp.getOperatorId());
 		return err;
 	}
+
+	/**
+	 * Signal consumers of a given pipelined operator that their input is
+	 * streamed
+	 * 
+	 * @param execOp
+	 * @return
+	 */
+	public Error operatorStarted(final AbstractExecuteOperator execOp) {
+		Identifier execOpId = execOp.getOperatorId();
+		Identifier planId = execOpId.getParentId(0);
+		QueryTrackerPlan qPlan = this.qPlans.get(planId);
+		if (qPlan == null) {
+			String[] args = { "Plan with id " + planId + " not found in "
+					+ this.qPlans.keySet() };
+			this.logger.log(Level.SEVERE, args[0]);
+			return new Error(EnumError.TRACKER_GENERIC, args);
+		}
+		return qPlan.operatorStarted(execOp);
+	}
+
+	/**
+	 * Records heartbeat of a compute node
+	 * 
+	 * @param heartbeat
+	 * @return
+	 */
+	public Error heartbeat(final HeartbeatSignal heartbeat) {
+		this.heartbeatMonitor.heartbeat(heartbeat);
+		return new Error();
+	}
 }
@@ -8,10 +8,23 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -23,14 +36,20 @@ import org.xdb.doomdb.DoomDBPlanStatus;
 import org.xdb.error.EnumError;
 import org.xdb.error.Error;
 import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.exchange.ExchangeStats;
 import org.xdb.execute.operators.AbstractExecuteOperator;
+import org.xdb.execute.operators.BloomFilter;
+import org.xdb.execute.operators.HeavyHitters;
+import org.xdb.execute.operators.MySQLExecuteOperator;
 import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.execute.operators.EnumOperatorStatus;
 import org.xdb.logging.EnumXDBComponents;
 import org.xdb.logging.XDBExecuteTimeMeasurement;
 import org.xdb.logging.XDBLog;
 import org.xdb.monitor.ComputeServersMonitor;
+import org.xdb.monitor.HeartbeatMonitor;
 import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.MySQLTrackerOperator;
 import org.xdb.tracker.scheduler.AbstractResourceScheduler;
 import org.xdb.utils.Dotty;
 import org.xdb.utils.Identifier;
@@ -55,6 +74,12 @@ public class QueryTrackerPlan implements Serializable {
 	// last plan id
 	private static Integer lastPlanId = 1;
 
+	// executor which monitors the compute servers of all executed plans
+	private static ScheduledExecutorService monitors = null;
+
+	// executor which deploys batches of operators to compute nodes
+	private static ExecutorService deployers = null;
+
 	// unique plan id
 	private final Identifier planId;
 
@@ -64,6 +89,9 @@ public class QueryTrackerPlan implements Serializable {
 	// last execute operator id of plan
 	private Integer lastExecuteOpId = 1;
 
+	// version of catalog which plan was generated from
+	private long catalogVersion = 0;
+
 	// initialized when plan is assigned to query tracker
 	private transient QueryTrackerNode tracker = null;
 	private transient ComputeClient computeClient = null;
@@ -77,14 +105,43 @@ public class QueryTrackerPlan implements Serializable {
 	private final Map<Identifier, Set<Identifier>> sources = new HashMap<Identifier, Set<Identifier>>();
 	private final Set<Identifier> roots = new HashSet<Identifier>();
 	private final Set<Identifier> leaves = new HashSet<Identifier>();
+	private final Map<Identifier, Integer> criticalPathDepths = new HashMap<Identifier, Integer>();
 
 	// execution plan
-	private final Map<Identifier, OperatorDesc> currentDeployment = new HashMap<Identifier, OperatorDesc>();
+	private final Map<Identifier, OperatorDesc> currentDeployment = new ConcurrentHashMap<Identifier, OperatorDesc>();
 	private final Map<AbstractExecuteOperator, OperatorDesc> executeOps = new HashMap<AbstractExecuteOperator, OperatorDesc>();
+
+	// statistics of shipped inputs: consumer tracker operator -> exchange edges
+	private final Map<Identifier, List<ExchangeStats>> exchangeStats = new HashMap<Identifier, List<ExchangeStats>>();
+
+	// filters of joins: filter id -> merged filter of finished build sides
+	private final Map<String, BloomFilter> bloomFilters = new HashMap<String, BloomFilter>();
+	private final Map<String, Set<Identifier>> bloomFilterBuilds = new HashMap<String, Set<Identifier>>();
+
+	// statistics of filters: filter id -> reduction of probe side
+	private final Map<String, BloomFilterStats> bloomFilterStats = new HashMap<String, BloomFilterStats>();
+
+	// heavy hitters of joins: join id -> merged heavy hitters of finished
+	// probe sides
+	private final Map<String, HeavyHitters> heavyHitters = new HashMap<String, HeavyHitters>();
+	private final Map<String, Set<Identifier>> heavyHitterProbes = new HashMap<String, Set<Identifier>>();
+
+	// pipelined execute operators which already signaled their consumers
+	private final Set<Identifier> startedExecOps = new HashSet<Identifier>();
+
+	// speculative execution: time when all inputs of a tracker operator were
+	// ready and its runtime after it finished
+	private final ConcurrentHashMap<Identifier, Long> releaseTimes = new ConcurrentHashMap<Identifier, Long>();
+	private final ConcurrentHashMap<Identifier, Long> runtimes = new ConcurrentHashMap<Identifier, Long>();
+
+	// backups of straggler operators: tracker operator -> backup
+	private final Map<Identifier, OperatorDesc> backups = new HashMap<Identifier, OperatorDesc>();
+	private final Set<Identifier> speculatedOps = new HashSet<Identifier>();
 	
 	private Boolean isExecuted = false;
 	private int maxAttempts = Config.QUERYTRACKER_MONITOR_ATTEMPTS;
 	private Boolean monitorFailures = Config.QUERYTRACKER_MONITOR_ACTIVATED;
+	private Boolean speculateStragglers = Config.QUERYTRACKER_SPECULATION_ACTIVATED;
 	private int monitoringInterval = Config.QUERYTRACKER_MONITOR_INTERVAL;
 
 	// helper to measure execution time
@@ -93,6 +150,13 @@ public class QueryTrackerPlan implements Serializable {
 
 	// Reentrant-Lock to manage between monitoring and signaling
 	private final ReentrantLock monitoringLock = new ReentrantLock();
+
+	// signaled when an operator finished or failed or an error occurred
+	private final Condition planChanged = monitoringLock.newCondition();
+
+	// scheduled monitoring of plan while it is executed
+	private transient ScheduledFuture<?> monitoring = null;
+	private int monitoringAttempt = 0;
 	
 	// logger
 	private transient Logger logger;
@@ -171,10 +235,37 @@ public class QueryTrackerPlan implements Serializable {
 		return currentDeployment;
 	}
 
+	/**
+	 * Returns heartbeat monitor of the query tracker which executes the plan
+	 * (or null)
+	 * 
+	 * @return
+	 */
+	public HeartbeatMonitor getHeartbeatMonitor() {
+		return (this.tracker == null) ? null : this.tracker.getHeartbeatMonitor();
+	}
+
 	public Identifier getPlanId() {
 		return planId;
 	}
 
+	public long getCatalogVersion() {
+		return this.catalogVersion;
+	}
+
+	public void setCatalogVersion(long catalogVersion) {
+		this.catalogVersion = catalogVersion;
+	}
+
+	/**
+	 * Returns ids of tracker operators in the order they were added
+	 * 
+	 * @return
+	 */
+	public List<Identifier> getTrackerOperatorIds() {
+		return Collections.unmodifiableList(this.trackerOpsOrder);
+	}
+
 	public Collection<AbstractTrackerOperator> getTrackerOperators() {
 		return trackerOps.values();
 	}
@@ -191,14 +282,87 @@ public class QueryTrackerPlan implements Serializable {
 		return this.consumers.get(opId);
 	}
 
+	/**
+	 * Returns length of the longest path from given tracker operator to a
+	 * root operator (root operators have depth 1)
+	 * 
+	 * @param opId
+	 * @return
+	 */
+	public int getCriticalPathDepth(Identifier opId) {
+		Integer depth = this.criticalPathDepths.get(opId);
+		if (depth != null)
+			return depth;
+
+		depth = 1;
+		Set<Identifier> opConsumers = this.consumers.get(opId);
+		if (opConsumers != null) {
+			for (Identifier consumerId : opConsumers) {
+				depth = Math.max(depth, this.getCriticalPathDepth(consumerId) + 1);
+			}
+		}
+		this.criticalPathDepths.put(opId, depth);
+		return depth;
+	}
+
 	public long getQueryExecutionTime() {
 		return queryExecutionTime;
 	}
 
+	public Map<Identifier, List<ExchangeStats>> getExchangeStats() {
+		return this.exchangeStats;
+	}
+
+	public Map<String, BloomFilterStats> getBloomFilterStats() {
+		return this.bloomFilterStats;
+	}
+
+	public Map<String, HeavyHitters> getHeavyHitters() {
+		return this.heavyHitters;
+	}
+
+	/**
+	 * Returns bytes which the resource scheduler predicted to be shipped
+	 * between compute nodes
+	 * 
+	 * @return predicted bytes or -1 if scheduler does not predict
+	 */
+	public long getPredictedNetworkBytes() {
+		if (this.resourceScheduler == null)
+			return -1;
+		return this.resourceScheduler.getPredictedNetworkBytes();
+	}
+
+	/**
+	 * Returns bytes which were actually shipped between compute nodes by the
+	 * exchange of intermediate results
+	 * 
+	 * @return
+	 */
+	public long getActualNetworkBytes() {
+		long bytes = 0;
+		for (List<ExchangeStats> edges : this.exchangeStats.values()) {
+			for (ExchangeStats edge : edges) {
+				bytes += edge.getWireBytes();
+			}
+		}
+		return bytes;
+	}
+
 	public void setQueryExecutionTime(long queryExecutionTime) {
 		this.queryExecutionTime = queryExecutionTime;
 	}
 
+	/**
+	 * Returns execution profile of the plan (i.e., runtime statistics of
+	 * exchange edges and Bloom filters)
+	 * 
+	 * @return
+	 */
+	public PlanProfile getProfile() {
+		return new PlanProfile(this);
+	}
+
 	// methods
 	/**
 	 * Create a DoomDBPlan from QPLan
@@ -274,6 +438,7 @@ public class QueryTrackerPlan implements Serializable {
 	public void setConsumers(Identifier operId,
 			final Set<Identifier> opConsumers) {
 		this.consumers.put(operId, opConsumers);
+		this.criticalPathDepths.clear();
 
 		if (!opConsumers.isEmpty()) {
 			roots.remove(operId);
@@ -297,6 +462,7 @@ public class QueryTrackerPlan implements Serializable {
 			consumersNew = this.consumers.get(operId);
 		}
 		consumersNew.add(opConsumerID);
+		this.criticalPathDepths.clear();
 	}
 
 	/**
@@ -319,7 +485,11 @@ public class QueryTrackerPlan implements Serializable {
 	public void stopPlan() {
 		String args[] = { "Query execution interrupted!" };
 		Error err = new Error(EnumError.TRACKER_GENERIC, args);
+
+		monitoringLock.lock();
 		this.setError(err);
+		planChanged.signalAll();
+		monitoringLock.unlock();
 	}
 
 	/**
@@ -368,75 +538,202 @@ public class QueryTrackerPlan implements Serializable {
 			}
 
 			// Set the operator status to RUNNING and execute operator
+			this.markReleased(leaveId);
 			computeClient.executeOperator(leaveOpDesc);
 		}
 
-		// wait until plan is executed or error occurred
-		int attempt = 0;
-		execLoop: while (!this.isExecutedInternal() && !this.hasError()) {
-			if (this.monitorFailures) {
-				try {
-					// Starting the compute servers monitoring.
-					// Lock to prevent operator signaling.
-					monitoringLock.lock();
-					computeServersMonitor.monitorAllOperators();
-
-					// Check if a failure is detected
-					if (computeServersMonitor.hasDetectedFailure()) {
-						logger.log(Level.INFO, "Monitoring detected a failure!");
-
-						if (attempt >= this.maxAttempts) {
-							String args[] = { "Maximal attempts reached for plan "
-									+ this.getPlanId().toString() };
-							this.setError(new Error(EnumError.TRACKER_GENERIC,
-									args));
-							monitoringLock.unlock();
-							break execLoop;
-						} else {
-							// re-deploy the failed operators 
-							redeployAbortedOperators();
+		// start monitoring of compute servers and stragglers
+		this.monitoringAttempt = 0;
+		if (this.monitorFailures || this.speculateStragglers) {
+			this.monitoring = getMonitors().scheduleWithFixedDelay(
+					new Runnable() {
+						@Override
+						public void run() {
+							// an uncaught exception would cancel all further
+							// runs
+							try {
+								monitorPlan();
+							} catch (RuntimeException e) {
+								failMonitoring(e);
+							}
 						}
-						attempt++;
-						logger.log(Level.INFO, "Monitor: start attempt "
-								+ attempt);
-						
-						SimpleDateFormat sdfDate = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");//dd/MM/yyyy
-					    Date now = new Date();
-					    String strDate = sdfDate.format(now);
-						System.out.println("Monitor: start attempt " + attempt + " [" + strDate + "]");
-					}
-
-					// unlock to allow operators signaling.
-					monitoringLock.unlock();
-
-					// sleep interval
-					if (!this.isExecutedInternal()) {
-						this.logger.log(Level.INFO, "Monitor sleeping "
-								+ monitoringInterval);
-						Thread.sleep(monitoringInterval);
-					}
-
-				} catch (InterruptedException e) {
+					}, monitoringInterval, monitoringInterval,
+					TimeUnit.MILLISECONDS);
+		}
 
-					if (monitoringLock.isLocked())
-						monitoringLock.unlock();
-				}
-			} else {
+		// wait until plan is executed or error occurred (signaled by
+		// operatorReady, monitoring or stopPlan)
+		monitoringLock.lock();
+		try {
+			while (!this.isExecutedInternal() && !this.hasError()) {
 				try {
-					Thread.sleep(100);
+					planChanged.await();
 				} catch (InterruptedException e) {
-
+					// continue waiting
 				}
 			}
+		} finally {
+			monitoringLock.unlock();
+		}
+
+		// stop monitoring
+		if (this.monitoring != null) {
+			this.monitoring.cancel(false);
+			this.monitoring = null;
 		}
 
 		this.timeMeasure.stop(this.getPlanId().toString());
 		this.setQueryExecutionTime(this.timeMeasure.getExecutionTime(this
 				.getPlanId().toString()));
 
+		logger.log(Level.INFO, this.getProfile().toString());
+
 		return this.getError();
 	}
 
+	/**
+	 * Returns executor which monitors the compute servers of executed plans
+	 * 
+	 * @return
+	 */
+	private static synchronized ScheduledExecutorService getMonitors() {
+		if (monitors == null) {
+			monitors = Executors.newScheduledThreadPool(
+					Config.QUERYTRACKER_MONITOR_THREADS, new ThreadFactory() {
+						private final AtomicInteger lastThreadNo = new AtomicInteger();
+
+						@Override
+						public Thread newThread(Runnable r) {
+							Thread t = new Thread(r, "QueryTrackerPlan-Monitor-"
+									+ lastThreadNo.incrementAndGet());
+							t.setDaemon(true);
+							return t;
+						}
+					});
+		}
+		return monitors;
+	}
+
+	/**
+	 * Returns executor which deploys batches of operators to compute nodes
+	 * 
+	 * @return
+	 */
+	private static synchronized ExecutorService getDeployers() {
+		if (deployers == null) {
+			deployers = Executors.newCachedThreadPool(new ThreadFactory() {
+				private final AtomicInteger lastThreadNo = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "QueryTrackerPlan-Deployer-"
+							+ lastThreadNo.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+		return deployers;
+	}
+
+	/**
+	 * Monitors the compute servers of the plan and re-deploys aborted
+	 * operators if a failure is detected (executed by monitors)
+	 */
+	private void monitorPlan() {
+		if (this.isExecutedInternal() || this.hasError())
+			return;
+
+		if (this.speculateStragglers)
+			this.speculateStragglers();
+
+		if (!this.monitorFailures)
+			return;
+
+		// detect failures using heartbeats (without blocking operator
+		// signaling)
+		Map<Identifier, EnumOperatorStatus> failures;
+		try {
+			failures = computeServersMonitor.monitorAllOperators();
+		} catch (Exception e) {
+			this.failMonitoring(e);
+			return;
+		}
+		if (failures.isEmpty())
+			return;
+
+		// lock to prevent operator signaling
+		monitoringLock.lock();
+		try {
+			if (this.isExecutedInternal() || this.hasError())
+				return;
+
+			// apply failures of operators which are still deployed
+			for (Entry<Identifier, EnumOperatorStatus> failure : failures
+					.entrySet()) {
+				Identifier execOpId = failure.getKey();
+				OperatorDesc opDesc = this.currentDeployment.get(execOpId
+						.getParentId(1));
+				if (opDesc == null || !opDesc.getOperatorID().equals(execOpId)
+						|| opDesc.getOperatorStatus().isFinished())
+					continue;
+
+				opDesc.setOperatorStatus(failure.getValue());
+				computeServersMonitor.setFailureDetected(true);
+			}
+
+			// check if a failure is detected
+			if (computeServersMonitor.hasDetectedFailure()) {
+				logger.log(Level.INFO, "Monitoring detected a failure!");
+
+				if (this.monitoringAttempt >= this.maxAttempts) {
+					String args[] = { "Maximal attempts reached for plan "
+							+ this.getPlanId().toString() };
+					this.setError(new Error(EnumError.TRACKER_GENERIC, args));
+					return;
+				}
+
+				// re-deploy the failed operators
+				redeployAbortedOperators();
+
+				this.monitoringAttempt++;
+				logger.log(Level.INFO, "Monitor: start attempt "
+						+ this.monitoringAttempt);
+
+				SimpleDateFormat sdfDate = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");//dd/MM/yyyy
+				Date now = new Date();
+				String strDate = sdfDate.format(now);
+				System.out.println("Monitor: start attempt "
+						+ this.monitoringAttempt + " [" + strDate + "]");
+			}
+		} catch (Exception e) {
+			String args[] = { "Monitoring of plan " + this.getPlanId()
+					+ " failed: " + e.toString() };
+			this.setError(new Error(EnumError.TRACKER_GENERIC, args));
+		} finally {
+			planChanged.signalAll();
+			monitoringLock.unlock();
+		}
+	}
+
+	/**
+	 * Sets error of failed monitoring and wakes up thread which waits for
+	 * the plan
+	 * 
+	 * @param e
+	 */
+	private void failMonitoring(Exception e) {
+		monitoringLock.lock();
+		try {
+			String args[] = { "Monitoring of plan " + this.getPlanId()
+					+ " failed: " + e.toString() };
+			this.setError(new Error(EnumError.TRACKER_GENERIC, args));
+			planChanged.signalAll();
+		} finally {
+			monitoringLock.unlock();
+		}
+	}
+
 	/**
 	 * Deploys the query tracker plan using a given deployment
 	 * 
@@ -547,6 +844,8 @@ public class QueryTrackerPlan implements Serializable {
 	 * Assign new compute nodes to aborted operators
 	 */
 	private void assignComputeNodes2AbortedOperators() {
+		this.abortPipelinedSources();
+
 		for (Identifier opId : trackerOpsOrder) {
 			OperatorDesc operator = this.currentDeployment.get(opId);
 
@@ -561,6 +860,34 @@ public class QueryTrackerPlan implements Serializable {
 		}
 	}
 
+	/**
+	 * Output of pipelined operators is not materialized: if a consumer of a
+	 * pipelined operator is aborted, its producer must be executed again
+	 */
+	private void abortPipelinedSources() {
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Identifier opId : trackerOpsOrder) {
+				if (!this.currentDeployment.get(opId).getOperatorStatus()
+						.isRepairableFailure())
+					continue;
+
+				for (Identifier sourceId : this.sources.get(opId)) {
+					OperatorDesc sourceDesc = this.currentDeployment
+							.get(sourceId);
+					if (this.trackerOps.get(sourceId).isPipelined()
+							&& !sourceDesc.getOperatorStatus()
+									.isRepairableFailure()) {
+						sourceDesc.setOperatorStatus(EnumOperatorStatus
+								.getRuntimeFailure());
+						changed = true;
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Prepares deployment for a given operator in plan and sets status in
 	 * deployment
@@ -588,6 +915,11 @@ public class QueryTrackerPlan implements Serializable {
 			return err;
 		}
 
+		// idle time of a newly used node is not a missing heartbeat
+		HeartbeatMonitor heartbeatMonitor = this.getHeartbeatMonitor();
+		if (heartbeatMonitor != null && !this.isAssigned(assignedNode))
+			heartbeatMonitor.reset(assignedNode);
+
 		// generate deployment description from operator
 		final Identifier executeOpId = operId.clone();
 		executeOpId.append(lastExecuteOpId++);
@@ -597,6 +929,7 @@ public class QueryTrackerPlan implements Serializable {
 		// set the status of the operator
 		executeOpDesc.setOperatorStatus(status);
 		currentDeployment.put(operId, executeOpDesc);
+		this.releaseTimes.remove(operId);
 
 		logger.log(Level.INFO,
 				"Current Deployment has been updated with the deployment of operator: "
@@ -604,6 +937,21 @@ public class QueryTrackerPlan implements Serializable {
 		return err;
 	}
 
+	/**
+	 * Checks if an operator of the plan is deployed on a given compute node
+	 * 
+	 * @param node
+	 * @return
+	 */
+	private boolean isAssigned(ComputeNodeDesc node) {
+		for (OperatorDesc opDesc : this.currentDeployment.values()) {
+			if (opDesc.getComputeNode() != null
+					&& opDesc.getComputeNode().equalsWPort(node))
+				return true;
+		}
+		return false;
+	}
+
 	// Ping the compute nodes and select the first one available.
 	private ComputeNodeDesc pickAvailableComputeNode(
 			List<ComputeNodeDesc> allComputeNode) {
@@ -623,24 +971,32 @@ public class QueryTrackerPlan implements Serializable {
 	 * @param currentDeployment
 	 */
 	private void deployAllOperators() {
-		// distribute all operators in deployment
-		for (Identifier trackerOpId : this.trackerOpsOrder) {			
-			// create executable operator and set query tracker URL
-			final AbstractExecuteOperator execOp = genDeployOperator(trackerOpId);
-			
-			// deploy operator to compute node
+		// create executable operators and set query tracker URL
+		final Map<Identifier, AbstractExecuteOperator> execOps = new LinkedHashMap<Identifier, AbstractExecuteOperator>();
+		for (Identifier trackerOpId : this.trackerOpsOrder) {
+			execOps.put(trackerOpId, genDeployOperator(trackerOpId));
+		}
+
+		// deploy operators to compute nodes (one batch per node)
+		final Map<Identifier, Tuple<Error, EnumOperatorStatus>> results = this
+				.openOperators(execOps);
+
+		Error firstErr = null;
+		for (Identifier trackerOpId : this.trackerOpsOrder) {
+			final AbstractExecuteOperator execOp = execOps.get(trackerOpId);
 			final OperatorDesc executeOpDesc = this.currentDeployment
 					.get(trackerOpId);
-			Tuple<Error, EnumOperatorStatus> result = computeClient
-					.openOperator(executeOpDesc.getComputeNode(), execOp);
+			Tuple<Error, EnumOperatorStatus> result = results.get(trackerOpId);
 			Error opErr = result.getObject1();
 			EnumOperatorStatus opStatus = result.getObject2();
 			executeOpDesc.setOperatorStatus(opStatus);
 
-			// if non-repairable error, then stop
+			// if non-repairable error, then stop after all deployed
+			// operators are known (to close them)
 			if (opStatus.isNonRepairableFailure()) {
-				this.setError(opErr);
-				return;
+				if (firstErr == null)
+					firstErr = opErr;
+				continue;
 			}
 			// if repairable error, then continue
 			else if (opStatus.isRepairableFailure()) {
@@ -649,6 +1005,83 @@ public class QueryTrackerPlan implements Serializable {
 
 			this.executeOps.put(execOp, executeOpDesc);
 		}
+
+		if (firstErr != null)
+			this.setError(firstErr);
+	}
+
+	/**
+	 * Opens operators on their compute nodes. Operators of the same node are
+	 * sent as one batch and the batches of all nodes are sent concurrently.
+	 * 
+	 * @param execOps
+	 *            tracker operator id -> executable operator
+	 * @return tracker operator id -> error and status of operator
+	 */
+	private Map<Identifier, Tuple<Error, EnumOperatorStatus>> openOperators(
+			final Map<Identifier, AbstractExecuteOperator> execOps) {
+		// group operators by compute node (in deployment order)
+		final Map<String, List<Identifier>> batches = new LinkedHashMap<String, List<Identifier>>();
+		for (Identifier trackerOpId : execOps.keySet()) {
+			final ComputeNodeDesc node = this.currentDeployment.get(
+					trackerOpId).getComputeNode();
+			final String nodeKey = node.getUrl() + ":" + node.getPort();
+			if (!batches.containsKey(nodeKey))
+				batches.put(nodeKey, new ArrayList<Identifier>());
+			batches.get(nodeKey).add(trackerOpId);
+		}
+
+		// send batches
+		final List<Future<List<Tuple<Error, EnumOperatorStatus>>>> futures = new ArrayList<Future<List<Tuple<Error, EnumOperatorStatus>>>>();
+		for (final List<Identifier> batch : batches.values()) {
+			final ComputeNodeDesc node = this.currentDeployment.get(
+					batch.get(0)).getComputeNode();
+			final List<AbstractExecuteOperator> ops = new ArrayList<AbstractExecuteOperator>();
+			for (Identifier trackerOpId : batch) {
+				ops.add(execOps.get(trackerOpId));
+			}
+
+			futures.add(getDeployers().submit(
+					new Callable<List<Tuple<Error, EnumOperatorStatus>>>() {
+						@Override
+						public List<Tuple<Error, EnumOperatorStatus>> call() {
+							return computeClient.openOperators(node, ops);
+						}
+					}));
+		}
+
+		// collect status of each operator
+		final Map<Identifier, Tuple<Error, EnumOperatorStatus>> results = new HashMap<Identifier, Tuple<Error, EnumOperatorStatus>>();
+		int i = 0;
+		for (final List<Identifier> batch : batches.values()) {
+			List<Tuple<Error, EnumOperatorStatus>> batchResults;
+			try {
+				batchResults = futures.get(i++).get();
+			} catch (InterruptedException e) {
+				batchResults = createDeployErrors(batch.size(), e);
+			} catch (ExecutionException e) {
+				batchResults = createDeployErrors(batch.size(), e);
+			}
+
+			for (int j = 0; j < batch.size(); ++j) {
+				results.put(batch.get(j), batchResults.get(j));
+			}
+		}
+		return results;
+	}
+
+	private List<Tuple<Error, EnumOperatorStatus>> createDeployErrors(
+			int size, Exception e) {
+		String args[] = { "Deployment of plan " + this.getPlanId()
+				+ " failed: " + e.toString() };
+		Error err = new Error(EnumError.TRACKER_GENERIC, args);
+
+		List<Tuple<Error, EnumOperatorStatus>> results = new ArrayList<Tuple<Error, EnumOperatorStatus>>();
+		for (int i = 0; i < size; ++i) {
+			results.add(new Tuple<Error, EnumOperatorStatus>(err,
+					EnumOperatorStatus.getRuntimeFailure()));
+		}
+		return results;
 	}
 	
 	/**
@@ -657,9 +1090,20 @@ public class QueryTrackerPlan implements Serializable {
 	 * @return
 	 */
 	private AbstractExecuteOperator genDeployOperator(Identifier trackerOpId){
-		final OperatorDesc executeOpDesc = this.currentDeployment
-				.get(trackerOpId);
+		return this.genDeployOperator(trackerOpId,
+				this.currentDeployment.get(trackerOpId));
+	}
 
+	/**
+	 * Generate executable operator from tracker operator for a given
+	 * deployment description (e.g., of a backup)
+	 * 
+	 * @param trackerOpId
+	 * @param executeOpDesc
+	 * @return
+	 */
+	private AbstractExecuteOperator genDeployOperator(Identifier trackerOpId,
+			OperatorDesc executeOpDesc) {
 		final AbstractTrackerOperator trackerOp = trackerOps
 				.get(trackerOpId);
 
@@ -679,6 +1123,9 @@ public class QueryTrackerPlan implements Serializable {
 			execOp.addSource(sourceDesc);
 		}
 		execOp.setQueryTracker(this.tracker.getDescription());
+
+		// operators on the critical path are executed first on compute nodes
+		execOp.setPriority(this.getCriticalPathDepth(trackerOpId));
 		return execOp;
 	}
 
@@ -687,23 +1134,24 @@ public class QueryTrackerPlan implements Serializable {
 	 * 
 	 */
 	private void deployAbortedOperators() {
-		// distribute all operators in deployment
+		// create executable operators with status REDEPLOY
+		final Map<Identifier, AbstractExecuteOperator> execOps = new LinkedHashMap<Identifier, AbstractExecuteOperator>();
 		for (Identifier trackerOpId : this.trackerOpsOrder) {
+			if (this.currentDeployment.get(trackerOpId).getOperatorStatus()
+					.equals(EnumOperatorStatus.REDEPLOYED)) {
+				execOps.put(trackerOpId, this.genDeployOperator(trackerOpId));
+			}
+		}
+
+		// deploy operators to compute nodes (one batch per node)
+		final Map<Identifier, Tuple<Error, EnumOperatorStatus>> results = this
+				.openOperators(execOps);
+
+		for (Identifier trackerOpId : execOps.keySet()) {
 			final OperatorDesc executeOpDesc = this.currentDeployment
 					.get(trackerOpId);
-
-			// only deploy operators with status REDEPLOY
-			if (!executeOpDesc.getOperatorStatus().equals(
-					EnumOperatorStatus.REDEPLOYED)) { 
-				continue;
-			}
-			
-			// create executable operator
-			final AbstractExecuteOperator execOp = this.genDeployOperator(trackerOpId);
-			
-			// deploy operator to compute node
-			Tuple<Error, EnumOperatorStatus> result = computeClient
-					.openOperator(executeOpDesc.getComputeNode(), execOp);
+			final AbstractExecuteOperator execOp = execOps.get(trackerOpId);
+			Tuple<Error, EnumOperatorStatus> result = results.get(trackerOpId);
 			Error opErr = result.getObject1();
 			EnumOperatorStatus opStatus = result.getObject2();
 			executeOpDesc.setOperatorStatus(opStatus);
@@ -745,8 +1193,8 @@ public class QueryTrackerPlan implements Serializable {
 							.get(sourceTrackerId);
 					if (sourceOpDesc.getOperatorStatus().equals(
 							EnumOperatorStatus.FINISHED)) {
-						opErr = computeClient.executeOperator(
-								sourceOpDesc.getOperatorID(), executeOpDesc);
+						opErr = this.sendReadySignal(
+								sourceOpDesc.getOperatorID(), trackerOpId);
 						if (opErr.isError()) {
 							executeOpDesc.setOperatorStatus(EnumOperatorStatus
 									.getRuntimeFailure());
@@ -754,6 +1202,7 @@ public class QueryTrackerPlan implements Serializable {
 					}
 				}
 			}
+			this.markReleased(trackerOpId);
 
 			if (this.hasError())
 				return;
@@ -767,34 +1216,135 @@ public class QueryTrackerPlan implements Serializable {
 	 * @return
 	 */
 	public Error operatorReady(AbstractExecuteOperator signallingExecOp) {
-		Error opErr = new Error();
+		// operators which are killed after the lock is released
+		List<OperatorDesc> killedOps = new ArrayList<OperatorDesc>();
+		Error opErr;
 
 		// get lock
 		monitoringLock.lock();
+		try {
+			opErr = this.handleOperatorReady(signallingExecOp, killedOps);
+		} finally {
+			planChanged.signalAll();
+			monitoringLock.unlock();
+		}
+
+		for (OperatorDesc killedOp : killedOps) {
+			computeClient.killOperator(killedOp);
+		}
+		return opErr;
+	}
 
+	/**
+	 * Applies ready signal of an operator to the plan (called with lock
+	 * held)
+	 * 
+	 * @param signallingExecOp
+	 * @param killedOps
+	 *            operators which must be killed
+	 * @return
+	 */
+	private Error handleOperatorReady(AbstractExecuteOperator signallingExecOp,
+			List<OperatorDesc> killedOps) {
+		Error opErr = new Error();
 		Identifier signallingExecOpId = signallingExecOp.getOperatorId();
 		Identifier signallingTrackerOpId = signallingExecOpId.getParentId(1);
 
+		// check if execOpId is a backup of a straggler (keep first one)
+		OperatorDesc backupDesc = this.backups.get(signallingTrackerOpId);
+		if (backupDesc != null
+				&& backupDesc.getOperatorID().equals(signallingExecOpId)) {
+			this.backups.remove(signallingTrackerOpId);
+			if (!signallingExecOp.getStatus().isFailure())
+				this.promoteBackup(signallingExecOp, backupDesc, killedOps);
+			return this.getError();
+		}
+
 		// check if execOpId is still in current deployment
 		if (!this.currentDeployment.get(signallingTrackerOpId).getOperatorID()
 				.equals(signallingExecOpId)) {
-			monitoringLock.unlock();
 			return opErr;
 		}
 
 		// do not signal consumers if error occured
 		OperatorDesc signallingOpDesc = this.currentDeployment.get(signallingTrackerOpId);
 		signallingOpDesc.setOperatorStatus(signallingExecOp.getStatus());
+		this.killBackup(signallingTrackerOpId, killedOps);
+		this.addExchangeStats(signallingTrackerOpId, signallingExecOp.getExchangeStats());
+		if (!signallingExecOp.getStatus().isFailure()) {
+			this.addBloomFilter(signallingTrackerOpId, signallingExecOp);
+			this.addHeavyHitters(signallingTrackerOpId, signallingExecOp);
+		}
+		boolean started = this.startedExecOps.remove(signallingExecOpId);
 		if(signallingExecOp.getStatus().isFailure()){
 			if (!this.monitorFailures){
 				opErr = signallingExecOp.getLastError();
 				this.setError(opErr);
+			} else if (this.monitoring != null) {
+				// react to failure without waiting for next monitoring round
+				getMonitors().execute(new Runnable() {
+					@Override
+					public void run() {
+						monitorPlan();
+					}
+				});
 			}
-			monitoringLock.unlock();
 			return opErr;
 		}
 
-		// otherwise continue and send signals to consumers
+		// otherwise continue and send signals to consumers (unless a
+		// pipelined operator already signaled them when it started)
+		if (!started)
+			this.signalConsumers(signallingExecOp);
+
+		this.recordRuntime(signallingTrackerOpId);
+		for (Identifier consumerId : this.consumers.get(signallingTrackerOpId)) {
+			this.markReleased(consumerId);
+		}
+
+		return this.getError();
+	}
+
+	/**
+	 * Signals consumers of a pipelined operator as soon as it starts to
+	 * produce its output
+	 * 
+	 * @param signallingExecOp
+	 * @return
+	 */
+	public Error operatorStarted(AbstractExecuteOperator signallingExecOp) {
+		Error opErr = new Error();
+
+		// get lock
+		monitoringLock.lock();
+		try {
+			Identifier signallingExecOpId = signallingExecOp.getOperatorId();
+			Identifier signallingTrackerOpId = signallingExecOpId
+					.getParentId(1);
+
+			// check if execOpId is still in current deployment
+			if (!this.currentDeployment.get(signallingTrackerOpId)
+					.getOperatorID().equals(signallingExecOpId)
+					|| !this.trackerOps.get(signallingTrackerOpId)
+							.isPipelined()) {
+				return opErr;
+			}
+
+			this.startedExecOps.add(signallingExecOpId);
+			this.signalConsumers(signallingExecOp);
+		} finally {
+			monitoringLock.unlock();
+		}
+
+		return this.getError();
+	}
+
+	/**
+	 * Sends ready signals of an operator to its consumers
+	 * 
+	 * @param signallingExecOp
+	 */
+	private void signalConsumers(AbstractExecuteOperator signallingExecOp) {
 		final Set<Identifier> consumerTrackerIds = signallingExecOp
 				.getConsumerTrackerIds();
 		for (final Identifier consumerTrackerId : consumerTrackerIds) {
@@ -803,14 +1353,561 @@ public class QueryTrackerPlan implements Serializable {
 					"Send READY_SIGNAL from Query Tracker to consumer: "
 							+ consumerTrackerId);
 
-			OperatorDesc consumer = this.currentDeployment
-					.get(consumerTrackerId);
-			computeClient.executeOperator(signallingExecOp.getOperatorId(), consumer);
+			this.sendReadySignal(signallingExecOp.getOperatorId(),
+					consumerTrackerId);
 		}
+	}
 
-		monitoringLock.unlock();
+	/**
+	 * Sends ready signal of a source to a consumer. If the consumer is the
+	 * probe side of a join, the filter of the join is attached as soon as all
+	 * build sides are finished. If the consumer is the build side of a join
+	 * with heavy hitters, the heavy hitters are attached as soon as all probe
+	 * sides are finished.
+	 * 
+	 * @param sourceExecOpId
+	 * @param consumerTrackerId
+	 * @return
+	 */
+	private Error sendReadySignal(Identifier sourceExecOpId,
+			Identifier consumerTrackerId) {
+		OperatorDesc consumer = this.currentDeployment.get(consumerTrackerId);
+		return computeClient.executeOperator(sourceExecOpId, consumer,
+				this.getBloomFilter(consumerTrackerId),
+				this.getHeavyHitters(consumerTrackerId));
+	}
 
-		return this.getError();
+	/**
+	 * Returns filter which a probe side of a join applies to its output (or
+	 * null if filter is not complete or not selective)
+	 * 
+	 * @param trackerOpId
+	 * @return
+	 */
+	private BloomFilter getBloomFilter(Identifier trackerOpId) {
+		AbstractTrackerOperator trackerOp = this.trackerOps.get(trackerOpId);
+		if (!(trackerOp instanceof MySQLTrackerOperator))
+			return null;
+
+		String filterId = ((MySQLTrackerOperator) trackerOp)
+				.getBloomFilterProbeId();
+		if (filterId == null || !this.bloomFilterStats.containsKey(filterId)
+				|| !this.bloomFilterStats.get(filterId).isApplied())
+			return null;
+		return this.bloomFilters.get(filterId);
+	}
+
+	/**
+	 * Merges filter of a finished build side of a join into the filter of
+	 * the join and keeps the number of filtered rows of a finished probe side
+	 * 
+	 * @param trackerOpId
+	 * @param execOp
+	 */
+	private void addBloomFilter(Identifier trackerOpId,
+			AbstractExecuteOperator execOp) {
+		AbstractTrackerOperator trackerOp = this.trackerOps.get(trackerOpId);
+		if (!(trackerOp instanceof MySQLTrackerOperator)
+				|| !(execOp instanceof MySQLExecuteOperator))
+			return;
+		MySQLTrackerOperator mysqlOp = (MySQLTrackerOperator) trackerOp;
+		MySQLExecuteOperator mysqlExecOp = (MySQLExecuteOperator) execOp;
+
+		// build side: filter is complete if all build sides are finished
+		String buildId = mysqlOp.getBloomFilterBuildId();
+		BloomFilter filter = mysqlExecOp.getBloomFilter();
+		if (buildId != null && filter != null) {
+			BloomFilter mergedFilter = this.bloomFilters.get(buildId);
+			if (mergedFilter == null)
+				this.bloomFilters.put(buildId, filter);
+			else
+				mergedFilter.or(filter);
+
+			Set<Identifier> builds = this.bloomFilterBuilds.get(buildId);
+			if (builds == null) {
+				builds = new HashSet<Identifier>();
+				this.bloomFilterBuilds.put(buildId, builds);
+			}
+			builds.add(trackerOpId);
+
+			if (builds.size() == this.countBloomFilterBuilds(buildId)) {
+				mergedFilter = this.bloomFilters.get(buildId);
+				double fillRatio = mergedFilter.getFillRatio();
+				BloomFilterStats stats = this.getBloomFilterStats(buildId);
+				stats.setFilter(mergedFilter.getNumBits(), fillRatio,
+						fillRatio <= Config.QUERYTRACKER_BLOOM_FILTER_MAX_FILL);
+				logger.log(Level.INFO, "Bloom filter complete: " + stats);
+			}
+		}
+
+		// probe side: keep number of rows before and after filter
+		String probeId = mysqlOp.getBloomFilterProbeId();
+		if (probeId != null && mysqlExecOp.getBloomFilterRowsIn() >= 0) {
+			BloomFilterStats stats = this.getBloomFilterStats(probeId);
+			stats.setRows(trackerOpId, mysqlExecOp.getBloomFilterRowsIn(),
+					mysqlExecOp.getBloomFilterRowsOut());
+			logger.log(Level.INFO, "Bloom filter " + trackerOpId + ": "
+					+ stats);
+		}
+	}
+
+	/**
+	 * Returns heavy hitters which a build side of a join replicates (or null
+	 * if not all probe sides are finished)
+	 * 
+	 * @param trackerOpId
+	 * @return
+	 */
+	private HeavyHitters getHeavyHitters(Identifier trackerOpId) {
+		AbstractTrackerOperator trackerOp = this.trackerOps.get(trackerOpId);
+		if (!(trackerOp instanceof MySQLTrackerOperator))
+			return null;
+
+		String joinId = ((MySQLTrackerOperator) trackerOp)
+				.getHeavyHitterBuildId();
+		if (joinId == null || !this.heavyHitterProbes.containsKey(joinId)
+				|| this.heavyHitterProbes.get(joinId).size() < this
+						.countHeavyHitterProbes(joinId))
+			return null;
+		return this.heavyHitters.get(joinId);
+	}
+
+	/**
+	 * Merges heavy hitters of a finished probe side of a join into the heavy
+	 * hitters of the join
+	 * 
+	 * @param trackerOpId
+	 * @param execOp
+	 */
+	private void addHeavyHitters(Identifier trackerOpId,
+			AbstractExecuteOperator execOp) {
+		AbstractTrackerOperator trackerOp = this.trackerOps.get(trackerOpId);
+		if (!(trackerOp instanceof MySQLTrackerOperator)
+				|| !(execOp instanceof MySQLExecuteOperator))
+			return;
+
+		String joinId = ((MySQLTrackerOperator) trackerOp)
+				.getHeavyHitterProbeId();
+		HeavyHitters opHeavyHitters = ((MySQLExecuteOperator) execOp)
+				.getHeavyHitters();
+		if (joinId == null || opHeavyHitters == null)
+			return;
+
+		HeavyHitters mergedHeavyHitters = this.heavyHitters.get(joinId);
+		if (mergedHeavyHitters == null) {
+			mergedHeavyHitters = new HeavyHitters();
+			this.heavyHitters.put(joinId, mergedHeavyHitters);
+		}
+		mergedHeavyHitters.addAll(opHeavyHitters);
+
+		Set<Identifier> probes = this.heavyHitterProbes.get(joinId);
+		if (probes == null) {
+			probes = new HashSet<Identifier>();
+			this.heavyHitterProbes.put(joinId, probes);
+		}
+		probes.add(trackerOpId);
+
+		if (probes.size() == this.countHeavyHitterProbes(joinId))
+			logger.log(Level.INFO, "Heavy hitters of join " + joinId + ": "
+					+ mergedHeavyHitters);
+	}
+
+	private int countHeavyHitterProbes(String joinId) {
+		int probes = 0;
+		for (AbstractTrackerOperator trackerOp : this.trackerOps.values()) {
+			if (trackerOp instanceof MySQLTrackerOperator
+					&& joinId.equals(((MySQLTrackerOperator) trackerOp)
+							.getHeavyHitterProbeId()))
+				probes++;
+		}
+		return probes;
+	}
+
+	private int countBloomFilterBuilds(String filterId) {
+		int builds = 0;
+		for (AbstractTrackerOperator trackerOp : this.trackerOps.values()) {
+			if (trackerOp instanceof MySQLTrackerOperator
+					&& filterId.equals(((MySQLTrackerOperator) trackerOp)
+							.getBloomFilterBuildId()))
+				builds++;
+		}
+		return builds;
+	}
+
+	private BloomFilterStats getBloomFilterStats(String filterId) {
+		BloomFilterStats stats = this.bloomFilterStats.get(filterId);
+		if (stats == null) {
+			stats = new BloomFilterStats(filterId);
+			this.bloomFilterStats.put(filterId, stats);
+		}
+		return stats;
+	}
+
+	/**
+	 * Launches a backup for each straggler, i.e., an operator which runs
+	 * longer than Config.QUERYTRACKER_SPECULATION_FACTOR times the median
+	 * runtime of its finished siblings (other partitions of the same compile
+	 * operator). Stragglers are chosen with the lock held, their backups are
+	 * deployed after the lock is released.
+	 */
+	private void speculateStragglers() {
+		// straggler -> candidate nodes of backup
+		Map<Identifier, List<ComputeNodeDesc>> stragglers = new LinkedHashMap<Identifier, List<ComputeNodeDesc>>();
+
+		monitoringLock.lock();
+		try {
+			if (this.isExecutedInternal() || this.hasError())
+				return;
+
+			long now = System.currentTimeMillis();
+			for (Identifier opId : this.trackerOpsOrder) {
+				Long released = this.releaseTimes.get(opId);
+				EnumOperatorStatus status = this.currentDeployment.get(opId)
+						.getOperatorStatus();
+				if (released == null || status.isFinished()
+						|| !status.isAlive() || this.speculatedOps.contains(opId)
+						|| !this.isSpeculative(opId))
+					continue;
+
+				long elapsed = now - released;
+				if (elapsed < Config.QUERYTRACKER_SPECULATION_MIN_RUNTIME)
+					continue;
+
+				Long siblingRuntime = this.getSiblingRuntime(opId);
+				if (siblingRuntime == null
+						|| elapsed <= Config.QUERYTRACKER_SPECULATION_FACTOR
+								* siblingRuntime)
+					continue;
+
+				logger.log(Level.INFO, "Operator " + opId + " is a straggler: "
+						+ elapsed + " ms running, median of siblings "
+						+ siblingRuntime + " ms");
+				this.speculatedOps.add(opId);
+				stragglers.put(opId, this.getBackupNodes(opId));
+			}
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Speculation of plan " + this.getPlanId()
+					+ " failed: " + e.toString());
+		} finally {
+			monitoringLock.unlock();
+		}
+
+		for (Map.Entry<Identifier, List<ComputeNodeDesc>> straggler : stragglers
+				.entrySet()) {
+			try {
+				this.launchBackup(straggler.getKey(), straggler.getValue());
+			} catch (Exception e) {
+				logger.log(Level.WARNING, "Speculation of plan "
+						+ this.getPlanId() + " failed: " + e.toString());
+			}
+		}
+	}
+
+	/**
+	 * Checks if a backup can be launched for an operator: the operator and
+	 * its consumers must not stream their inputs or outputs (pipelined),
+	 * since the consumers are re-deployed if the backup finishes first
+	 * 
+	 * @param opId
+	 * @return
+	 */
+	private boolean isSpeculative(Identifier opId) {
+		if (this.hasPipelinedInput(opId)
+				|| this.trackerOps.get(opId).isPipelined())
+			return false;
+
+		for (Identifier consumerId : this.consumers.get(opId)) {
+			if (this.hasPipelinedInput(consumerId)
+					|| this.trackerOps.get(consumerId).isPipelined())
+				return false;
+		}
+		return true;
+	}
+
+	private boolean hasPipelinedInput(Identifier opId) {
+		for (Identifier sourceId : this.sources.get(opId)) {
+			if (this.trackerOps.get(sourceId).isPipelined())
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns median runtime of finished siblings of an operator (or null if
+	 * less than Config.QUERYTRACKER_SPECULATION_QUANTILE of the siblings are
+	 * finished)
+	 * 
+	 * @param opId
+	 * @return
+	 */
+	private Long getSiblingRuntime(Identifier opId) {
+		Identifier compileOpId = this.trackerOps.get(opId)
+				.getCompileOperatorId();
+		if (compileOpId == null)
+			return null;
+
+		int siblings = 0;
+		List<Long> siblingRuntimes = new ArrayList<Long>();
+		for (AbstractTrackerOperator sibling : this.trackerOps.values()) {
+			if (sibling.getOperatorId().equals(opId)
+					|| !compileOpId.equals(sibling.getCompileOperatorId()))
+				continue;
+
+			siblings++;
+			Long runtime = this.runtimes.get(sibling.getOperatorId());
+			if (runtime != null)
+				siblingRuntimes.add(runtime);
+		}
+
+		if (siblingRuntimes.isEmpty()
+				|| siblingRuntimes.size() < Config.QUERYTRACKER_SPECULATION_QUANTILE
+						* siblings)
+			return null;
+
+		Collections.sort(siblingRuntimes);
+		return siblingRuntimes.get(siblingRuntimes.size() / 2);
+	}
+
+	/**
+	 * Returns compute nodes which can execute a backup of an operator
+	 * (preferably nodes of the scheduler which store its input) except the
+	 * node of the straggler (called with lock held)
+	 * 
+	 * @param opId
+	 * @return
+	 */
+	private List<ComputeNodeDesc> getBackupNodes(Identifier opId) {
+		ComputeNodeDesc stragglerNode = this.currentDeployment.get(opId)
+				.getComputeNode();
+
+		List<ComputeNodeDesc> candidates = new ArrayList<ComputeNodeDesc>();
+		List<ComputeNodeDesc> opNodes = this.resourceScheduler
+				.getAllComputeNodes(opId);
+		if (opNodes != null)
+			candidates.addAll(opNodes);
+		candidates.addAll(this.resourceScheduler.getAssignedComputeNodes());
+
+		// compute nodes are identified by URL and port
+		Set<String> nodeKeys = new HashSet<String>();
+		nodeKeys.add(stragglerNode.getUrl() + ":" + stragglerNode.getPort());
+		List<ComputeNodeDesc> otherNodes = new ArrayList<ComputeNodeDesc>();
+		for (ComputeNodeDesc node : candidates) {
+			if (node != null && nodeKeys.add(node.getUrl() + ":" + node.getPort()))
+				otherNodes.add(node);
+		}
+		return otherNodes;
+	}
+
+	/**
+	 * Checks if a backup of an operator is still useful (called with lock
+	 * held)
+	 * 
+	 * @param opId
+	 * @return
+	 */
+	private boolean needsBackup(Identifier opId) {
+		return !this.isExecutedInternal() && !this.hasError()
+				&& !this.currentDeployment.get(opId).getOperatorStatus()
+						.isFinished();
+	}
+
+	/**
+	 * Deploys and starts a backup of a straggler on one of the given compute
+	 * nodes. Holds the lock only to create and register the backup, but not
+	 * while the compute nodes are called.
+	 * 
+	 * @param opId
+	 * @param otherNodes
+	 */
+	private void launchBackup(Identifier opId, List<ComputeNodeDesc> otherNodes) {
+		ComputeNodeDesc backupNode = this.pickAvailableComputeNode(otherNodes);
+		if (backupNode == null) {
+			logger.log(Level.INFO, "No compute node available for backup of "
+					+ opId);
+			return;
+		}
+
+		// create backup
+		OperatorDesc backupDesc;
+		AbstractExecuteOperator backupOp;
+		monitoringLock.lock();
+		try {
+			if (!this.needsBackup(opId))
+				return;
+
+			final Identifier backupId = opId.clone();
+			backupId.append(lastExecuteOpId++);
+			backupDesc = new OperatorDesc(backupId, backupNode);
+			backupDesc.setOperatorStatus(EnumOperatorStatus.DEPLOYED);
+			backupOp = this.genDeployOperator(opId, backupDesc);
+		} finally {
+			monitoringLock.unlock();
+		}
+
+		// deploy backup
+		Tuple<Error, EnumOperatorStatus> result = computeClient.openOperator(
+				backupNode, backupOp);
+		if (result.getObject1().isError() || result.getObject2().isFailure()) {
+			logger.log(Level.WARNING, "Backup " + backupDesc.getOperatorID()
+					+ " could not be deployed: " + result.getObject1());
+			return;
+		}
+
+		// register backup unless straggler finished in the meantime
+		List<Identifier> sourceExecOpIds = new ArrayList<Identifier>();
+		BloomFilter filter = null;
+		HeavyHitters heavyHitters = null;
+		boolean registered = false;
+		monitoringLock.lock();
+		try {
+			if (this.needsBackup(opId)) {
+				this.executeOps.put(backupOp, backupDesc);
+				this.backups.put(opId, backupDesc);
+				for (Identifier sourceId : this.sources.get(opId)) {
+					sourceExecOpIds.add(this.currentDeployment.get(sourceId)
+							.getOperatorID());
+				}
+				filter = this.getBloomFilter(opId);
+				heavyHitters = this.getHeavyHitters(opId);
+				registered = true;
+			}
+		} finally {
+			monitoringLock.unlock();
+		}
+
+		if (!registered) {
+			computeClient.killOperator(backupDesc);
+			return;
+		}
+
+		// start backup (all sources are finished)
+		if (this.leaves.contains(opId)) {
+			computeClient.executeOperator(backupDesc);
+		} else {
+			for (Identifier sourceExecOpId : sourceExecOpIds) {
+				computeClient.executeOperator(sourceExecOpId, backupDesc,
+						filter, heavyHitters);
+			}
+		}
+
+		logger.log(Level.INFO, "Backup " + backupDesc.getOperatorID()
+				+ " of straggler " + opId + " has been started on compute node "
+				+ backupNode);
+	}
+
+	/**
+	 * Replaces a straggler by its finished backup (called with lock held):
+	 * the straggler and its consumers, which read the output of the
+	 * straggler, are killed after the lock is released and the consumers
+	 * are re-deployed by a monitoring thread
+	 * 
+	 * @param backupOp
+	 * @param backupDesc
+	 * @param killedOps
+	 *            operators which must be killed
+	 */
+	private void promoteBackup(AbstractExecuteOperator backupOp,
+			OperatorDesc backupDesc, List<OperatorDesc> killedOps) {
+		Identifier trackerOpId = backupDesc.getOperatorID().getParentId(1);
+		OperatorDesc stragglerDesc = this.currentDeployment.get(trackerOpId);
+		logger.log(Level.INFO, "Backup " + backupDesc.getOperatorID()
+				+ " finished before straggler " + stragglerDesc.getOperatorID());
+		killedOps.add(stragglerDesc);
+
+		backupDesc.setOperatorStatus(backupOp.getStatus());
+		this.currentDeployment.put(trackerOpId, backupDesc);
+		this.addExchangeStats(trackerOpId, backupOp.getExchangeStats());
+		this.addBloomFilter(trackerOpId, backupOp);
+		this.addHeavyHitters(trackerOpId, backupOp);
+		this.recordRuntime(trackerOpId);
+
+		for (Identifier consumerId : this.consumers.get(trackerOpId)) {
+			OperatorDesc consumerDesc = this.currentDeployment.get(consumerId);
+			killedOps.add(consumerDesc);
+			consumerDesc.setOperatorStatus(EnumOperatorStatus.ABORTED);
+		}
+
+		getMonitors().execute(new Runnable() {
+			@Override
+			public void run() {
+				redeployConsumers();
+			}
+		});
+	}
+
+	/**
+	 * Re-deploys consumers which were aborted by a promoted backup (executed
+	 * by monitors)
+	 */
+	private void redeployConsumers() {
+		monitoringLock.lock();
+		try {
+			if (!this.isExecutedInternal() && !this.hasError())
+				this.redeployAbortedOperators();
+		} catch (RuntimeException e) {
+			String args[] = { "Re-deployment of plan " + this.getPlanId()
+					+ " failed: " + e.toString() };
+			this.setError(new Error(EnumError.TRACKER_GENERIC, args));
+		} finally {
+			planChanged.signalAll();
+			monitoringLock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the backup of an operator (if any) which must be killed
+	 * 
+	 * @param trackerOpId
+	 * @param killedOps
+	 *            operators which must be killed
+	 */
+	private void killBackup(Identifier trackerOpId, List<OperatorDesc> killedOps) {
+		OperatorDesc backupDesc = this.backups.remove(trackerOpId);
+		if (backupDesc == null)
+			return;
+
+		logger.log(Level.INFO, "Kill backup " + backupDesc.getOperatorID()
+				+ " of operator " + trackerOpId);
+		killedOps.add(backupDesc);
+	}
+
+	/**
+	 * Remembers time when all sources of an operator are finished
+	 * 
+	 * @param trackerOpId
+	 */
+	private void markReleased(Identifier trackerOpId) {
+		for (Identifier sourceId : this.sources.get(trackerOpId)) {
+			if (!this.currentDeployment.get(sourceId).getOperatorStatus()
+					.isFinished())
+				return;
+		}
+		this.releaseTimes.putIfAbsent(trackerOpId, System.currentTimeMillis());
+	}
+
+	private void recordRuntime(Identifier trackerOpId) {
+		Long released = this.releaseTimes.get(trackerOpId);
+		if (released != null)
+			this.runtimes.put(trackerOpId, System.currentTimeMillis()
+					- released);
+	}
+
+	/**
+	 * Keeps statistics about inputs which were shipped to an operator
+	 * 
+	 * @param consumerTrackerId
+	 * @param edges
+	 */
+	private void addExchangeStats(Identifier consumerTrackerId,
+			List<ExchangeStats> edges) {
+		if (edges.isEmpty())
+			return;
+
+		this.exchangeStats.put(consumerTrackerId, new ArrayList<ExchangeStats>(edges));
+		for (ExchangeStats edge : edges) {
+			logger.log(Level.INFO, "Exchange " + edge.getSourceTrackerOpId()
+					+ " -> " + consumerTrackerId + ": " + edge);
+		}
 	}
 
 	/**
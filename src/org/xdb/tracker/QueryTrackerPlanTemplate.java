@@ -0,0 +1,184 @@
+package org.xdb.tracker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.xdb.error.EnumError;
+import org.xdb.error.Error;
+import org.xdb.funsql.compile.CompilePlan;
+import org.xdb.server.WireMessage;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.utils.Identifier;
+import org.xdb.utils.Tuple;
+
+/**
+ * Tracker operators generated for a compile plan. A template creates new
+ * query tracker plans without running the code generator again: only the
+ * ids of the tracker operators are rebound to the new plan.
+ *
+ */
+public class QueryTrackerPlanTemplate {
+	// serialized tracker operators (in order of plan)
+	private final byte[] trackerOps;
+
+	// version of catalog which tracker operators were generated from
+	private final long catalogVersion;
+
+	// replaces plan id of compile plans in fingerprints
+	private static final Identifier ANY_PLAN_ID = new Identifier("PLAN");
+
+	// dependencies between tracker operators of template
+	private final Map<Identifier, Set<Identifier>> sources = new HashMap<Identifier, Set<Identifier>>();
+	private final Map<Identifier, Set<Identifier>> consumers = new HashMap<Identifier, Set<Identifier>>();
+
+	// constructors
+	private QueryTrackerPlanTemplate(byte[] trackerOps, long catalogVersion) {
+		this.trackerOps = trackerOps;
+		this.catalogVersion = catalogVersion;
+	}
+
+	// methods
+	/**
+	 * Creates template from a generated plan which is not yet deployed
+	 *
+	 * @param plan
+	 * @return
+	 */
+	public static Tuple<Error, QueryTrackerPlanTemplate> create(
+			QueryTrackerPlan plan) {
+		ArrayList<AbstractTrackerOperator> ops = new ArrayList<AbstractTrackerOperator>();
+		for (Identifier opId : plan.getTrackerOperatorIds()) {
+			ops.add(plan.getTrackerOperator(opId));
+		}
+
+		QueryTrackerPlanTemplate template;
+		try {
+			template = new QueryTrackerPlanTemplate(serialize(ops),
+					plan.getCatalogVersion());
+		} catch (IOException e) {
+			return new Tuple<Error, QueryTrackerPlanTemplate>(
+					createTemplateErr(e), null);
+		}
+
+		for (Identifier opId : plan.getTrackerOperatorIds()) {
+			template.sources.put(opId,
+					new HashSet<Identifier>(plan.getSources(opId)));
+			template.consumers.put(opId,
+					new HashSet<Identifier>(plan.getConsumers(opId)));
+		}
+		return new Tuple<Error, QueryTrackerPlanTemplate>(new Error(),
+				template);
+	}
+
+	/**
+	 * Creates a new query tracker plan with copies of the tracker operators
+	 *
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public Tuple<Error, QueryTrackerPlan> instantiate() {
+		List<AbstractTrackerOperator> ops;
+		try {
+			ObjectInputStream in = new ObjectInputStream(
+					new ByteArrayInputStream(this.trackerOps));
+			ops = (List<AbstractTrackerOperator>) in.readObject();
+			in.close();
+		} catch (Exception e) {
+			return new Tuple<Error, QueryTrackerPlan>(createTemplateErr(e),
+					null);
+		}
+
+		// add operators to new plan which assigns new ids
+		QueryTrackerPlan plan = new QueryTrackerPlan();
+		plan.setCatalogVersion(this.catalogVersion);
+		Map<Identifier, Identifier> opIds = new HashMap<Identifier, Identifier>();
+		for (AbstractTrackerOperator op : ops) {
+			Identifier templateOpId = op.getOperatorId();
+			plan.addOperator(op);
+			opIds.put(templateOpId, op.getOperatorId());
+		}
+
+		// rebind dependencies to new ids
+		for (AbstractTrackerOperator op : ops) {
+			op.rebindInputs(opIds);
+		}
+		for (Map.Entry<Identifier, Identifier> entry : opIds.entrySet()) {
+			plan.setSources(entry.getValue(),
+					rebind(this.sources.get(entry.getKey()), opIds));
+			plan.setConsumers(entry.getValue(),
+					rebind(this.consumers.get(entry.getKey()), opIds));
+		}
+		return new Tuple<Error, QueryTrackerPlan>(new Error(), plan);
+	}
+
+	/**
+	 * Computes fingerprint of a compile plan before code is generated. The
+	 * plan id is ignored, since copies of a cached compile plan only differ
+	 * in their plan ids.
+	 *
+	 * @param plan
+	 * @return
+	 */
+	public static Tuple<Error, String> fingerprint(final CompilePlan plan) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream(bytes) {
+				{
+					this.enableReplaceObject(true);
+				}
+
+				@Override
+				protected Object replaceObject(Object obj) {
+					// plan id might be in envelope of wire codec
+					Object value = (obj instanceof WireMessage) ? ((WireMessage) obj)
+							.getValue() : obj;
+					return (value == plan.getPlanId()) ? ANY_PLAN_ID : obj;
+				}
+			};
+			out.writeObject(plan);
+			out.close();
+
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			StringBuilder fingerprint = new StringBuilder();
+			for (byte b : digest.digest(bytes.toByteArray())) {
+				fingerprint.append(String.format("%02x", b));
+			}
+			return new Tuple<Error, String>(new Error(),
+					fingerprint.toString());
+		} catch (Exception e) {
+			return new Tuple<Error, String>(createTemplateErr(e), null);
+		}
+	}
+
+	private static Set<Identifier> rebind(Set<Identifier> templateOpIds,
+			Map<Identifier, Identifier> opIds) {
+		Set<Identifier> rebound = new HashSet<Identifier>();
+		for (Identifier templateOpId : templateOpIds) {
+			rebound.add(opIds.get(templateOpId));
+		}
+		return rebound;
+	}
+
+	private static byte[] serialize(Object obj) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(obj);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	private static Error createTemplateErr(Exception e) {
+		String[] args = { "Query tracker plan template: " + e.toString() };
+		return new Error(EnumError.TRACKER_GENERIC, args);
+	}
+}
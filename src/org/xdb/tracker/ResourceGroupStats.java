@@ -0,0 +1,100 @@
+package org.xdb.tracker;
+
+import java.io.Serializable;
+
+/**
+ * Snapshot of the admission metrics of one resource group (see
+ * AdmissionController)
+ *
+ */
+public class ResourceGroupStats implements Serializable {
+
+	private static final long serialVersionUID = -3906317458722618913L;
+
+	private final String name;
+	private final double weight;
+
+	// plans
+	private final int queuedPlans;
+	private final int runningPlans;
+	private final long admittedPlans;
+	private final long completedPlans;
+
+	// queue time
+	private final long totalQueueTime;
+	private final long maxQueueTime;
+
+	// time since group was created
+	private final long uptime;
+
+	// constructors
+	public ResourceGroupStats(String name, double weight, int queuedPlans,
+			int runningPlans, long admittedPlans, long completedPlans,
+			long totalQueueTime, long maxQueueTime, long uptime) {
+		this.name = name;
+		this.weight = weight;
+		this.queuedPlans = queuedPlans;
+		this.runningPlans = runningPlans;
+		this.admittedPlans = admittedPlans;
+		this.completedPlans = completedPlans;
+		this.totalQueueTime = totalQueueTime;
+		this.maxQueueTime = maxQueueTime;
+		this.uptime = uptime;
+	}
+
+	// getters and setters
+	public String getName() {
+		return name;
+	}
+
+	public double getWeight() {
+		return weight;
+	}
+
+	public int getQueuedPlans() {
+		return queuedPlans;
+	}
+
+	public int getRunningPlans() {
+		return runningPlans;
+	}
+
+	public long getAdmittedPlans() {
+		return admittedPlans;
+	}
+
+	public long getCompletedPlans() {
+		return completedPlans;
+	}
+
+	public double getAvgQueueTime() {
+		if (admittedPlans == 0)
+			return 0.0;
+		return (double) totalQueueTime / admittedPlans;
+	}
+
+	public long getMaxQueueTime() {
+		return maxQueueTime;
+	}
+
+	/**
+	 * Returns completed plans per second since the group was created
+	 *
+	 * @return
+	 */
+	public double getThroughput() {
+		if (uptime <= 0)
+			return 0.0;
+		return completedPlans * 1000.0 / uptime;
+	}
+
+	// methods
+	@Override
+	public String toString() {
+		return "(group=" + name + ", weight=" + weight + ", queued="
+				+ queuedPlans + ", running=" + runningPlans + ", completed="
+				+ completedPlans + ", avgQueueTime=" + getAvgQueueTime()
+				+ "ms, maxQueueTime=" + maxQueueTime + "ms, throughput="
+				+ getThroughput() + "/s)";
+	}
+}
@@ -12,6 +12,7 @@ import java.util.Map;
 
 import org.xdb.Config;
 import org.xdb.error.Error;
+import org.xdb.execute.exchange.ExchangeInput;
 import org.xdb.execute.operators.AbstractExecuteOperator;
 import org.xdb.execute.operators.OperatorDesc;
 import org.xdb.funsql.compile.tokens.AbstractToken;
@@ -74,9 +75,19 @@ public abstract class AbstractTrackerOperator implements Serializable {
 	// unique operator id
 	protected Identifier operatorId;
 
+	// compile operator which this operator was generated from (same for all
+	// partitions)
+	protected Identifier compileOperatorId;
+
 	// flag for root operator
 	protected boolean isRoot = false;
 
+	// flag for operators which stream their output to their consumers
+	protected boolean pipelined = false;
+
+	// estimated rows of output per estimated row of input (or -1 if unknown)
+	protected double outputRatio = -1;
+
 	// Error handling
 	protected Error err = new Error();
 
@@ -114,6 +125,49 @@ public abstract class AbstractTrackerOperator implements Serializable {
 		return isRoot;
 	}
 
+	public void setPipelined(boolean pipelined) {
+		this.pipelined = pipelined;
+	}
+
+	public boolean isPipelined() {
+		return this.pipelined;
+	}
+
+	public void setOutputRatio(double outputRatio) {
+		this.outputRatio = outputRatio;
+	}
+
+	public double getOutputRatio() {
+		return this.outputRatio;
+	}
+
+	/**
+	 * Marks all inputs which are produced by a given pipelined operator
+	 * 
+	 * @param sourceOperatorId
+	 */
+	public void setPipelinedInput(Identifier sourceOperatorId) {
+		for (TableDesc tableDesc : this.inFederatedTables.values()) {
+			if (sourceOperatorId.equals(tableDesc.getOperatorID()))
+				tableDesc.setPipelined(true);
+		}
+	}
+
+	/**
+	 * Replaces ids of operators which produce the intermediate inputs (e.g.,
+	 * when operator is copied into a new plan)
+	 * 
+	 * @param operatorIds
+	 *            old operator id -> new operator id
+	 */
+	public void rebindInputs(Map<Identifier, Identifier> operatorIds) {
+		for (TableDesc tableDesc : this.inFederatedTables.values()) {
+			if (tableDesc.isTemp())
+				tableDesc.setOperatorID(operatorIds.get(tableDesc
+						.getOperatorID()));
+		}
+	}
+
 	public void addInTableFederated(final String tableName,
 			final TableDesc tableDesc) {
 		inFederatedTables.put(tableName, tableDesc);
@@ -168,6 +222,18 @@ public abstract class AbstractTrackerOperator implements Serializable {
 		return operatorId;
 	}
 
+	public void setCompileOperatorId(final Identifier compileOperatorId) {
+		this.compileOperatorId = compileOperatorId;
+	}
+
+	public Identifier getCompileOperatorId() {
+		return compileOperatorId;
+	}
+
+	public Collection<TableDesc> getInFederatedTables() {
+		return this.inFederatedTables.values();
+	}
+
 	public List<Connection> getTrackerOpConnections() {
 		return this.trackerOpConnections;
 	}
@@ -212,13 +278,29 @@ public abstract class AbstractTrackerOperator implements Serializable {
 				String sourceTableName = inTableDesc.getTableName();
 
 				Identifier sourceOperId = sourceOp.getOperatorID();
-
-				String deployTableDDL = this.genDeployInputTableDDL(tableName,
-						deployOperId, sourceTableName, sourceOperId, sourceURL);
-				execOp.addOpenSQL(deployTableDDL);
+				boolean isLocal = isLocalInput(sourceURL, deployURL);
+
+				// remote or pipelined input is shipped into local table by
+				// exchange
+				boolean isExchanged = inTableDesc.isPipelined()
+						|| (!isLocal && Config.COMPUTE_EXCHANGE_ACTIVE);
+				if (isExchanged) {
+					String deployTableDDL = this.genDeployExchangeTableDDL(
+							tableName, deployOperId);
+					execOp.addOpenSQL(deployTableDDL);
+					execOp.addExchangeInput(new ExchangeInput(sourceOp
+							.getComputeNode(), sourceOperId.getParentId(1),
+							genDeployName(sourceTableName, sourceOperId),
+							deployTableName));
+				} else {
+					String deployTableDDL = this.genDeployInputTableDDL(
+							tableName, deployOperId, sourceTableName,
+							sourceOperId, sourceURL);
+					execOp.addOpenSQL(deployTableDDL);
+				}
 
 				// if URL of source is local then use directly table
-				if (isLocalInput(sourceURL, deployURL)) {
+				if (isLocal && !isExchanged) {
 					// get description of source Table
 					Identifier sourceDeployOperId = sourceOp.getOperatorID();
 					// set different deployment name
@@ -400,6 +482,28 @@ public abstract class AbstractTrackerOperator implements Serializable {
 		return tableDDL.toString();
 	}
 
+	/**
+	 * Generate SQL DDL to deploy local input table which is loaded by the
+	 * exchange
+	 * 
+	 * @param tableName
+	 * @param opID
+	 * @return
+	 */
+	protected String genDeployExchangeTableDDL(final String tableName,
+			final Identifier opID) {
+		final StringTemplate tableTemplate = inTables.get(tableName);
+		final StringBuffer tableDDL = new StringBuffer(CREATE_TABLE_DDL);
+
+		// create table DDL
+		final Map<String, String> args = new HashMap<String, String>();
+		args.put(tableName, genDeployName(tableName, opID));
+		tableDDL.append(tableTemplate.toString(args));
+		tableDDL.append(OUTPUT_TABLE_DDL);
+
+		return tableDDL.toString();
+	}
+
 	/**
 	 * Checks if sourceURL and deployURL are the same or if sourceURL is loop
 	 * back
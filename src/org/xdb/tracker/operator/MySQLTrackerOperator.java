@@ -1,9 +1,11 @@
 package org.xdb.tracker.operator;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Vector;
 
+import org.xdb.execute.exchange.PipelineOutput;
 import org.xdb.execute.operators.AbstractExecuteOperator;
 import org.xdb.execute.operators.MySQLExecuteOperator;
 import org.xdb.execute.operators.OperatorDesc;
@@ -16,6 +18,29 @@ public class MySQLTrackerOperator extends AbstractTrackerOperator {
 	private static final long serialVersionUID = -6394800229111645825L;
 	private Vector<StringTemplate> executeSQLs = new Vector<StringTemplate>();
 
+	// query and outputs if operator streams its output
+	private StringTemplate pipelineSQL;
+	private String pipelineTable;
+	private Vector<String> pipelineOutputs = new Vector<String>();
+	private int pipelinePartColumn = -1;
+	private int pipelinePartCount = 1;
+
+	// build side of a join: filter and query which hashes the join keys
+	private String bloomFilterBuildId = null;
+	private StringTemplate bloomFilterBuildSQL = null;
+	private int bloomFilterBits = 0;
+
+	// probe side of a join: filter and key which is looked up
+	private String bloomFilterProbeId = null;
+	private String bloomFilterKey = null;
+
+	// re-partitioned input of a join: heavy hitters which are detected
+	// (probe side) or replicated (build side) and views of partitions
+	private String heavyHitterProbeId = null;
+	private StringTemplate heavyHitterSQL = null;
+	private String heavyHitterBuildId = null;
+	private Vector<StringTemplate> heavyHitterViewSQLs = new Vector<StringTemplate>();
+
 	// constructors
 	public MySQLTrackerOperator() {
 		super();
@@ -30,6 +55,100 @@ public class MySQLTrackerOperator extends AbstractTrackerOperator {
 		return executeSQLs;
 	}
 
+	public void setPipelineSQL(StringTemplate dml) {
+		this.pipelineSQL = dml;
+	}
+
+	/**
+	 * Sets output table and the tables or views which are streamed to the
+	 * consumers if operator is pipelined
+	 * 
+	 * @param tableName
+	 * @param outputNames
+	 * @param partColumn
+	 * @param partCount
+	 */
+	public void setPipelineOutputs(String tableName, List<String> outputNames,
+			int partColumn, int partCount) {
+		this.pipelineTable = tableName;
+		this.pipelineOutputs.clear();
+		this.pipelineOutputs.addAll(outputNames);
+		this.pipelinePartColumn = partColumn;
+		this.pipelinePartCount = partCount;
+	}
+
+	public List<String> getPipelineOutputs() {
+		return this.pipelineOutputs;
+	}
+
+	/**
+	 * Marks operator as build side of a join which builds the given filter
+	 * 
+	 * @param filterId
+	 * @param buildSQL
+	 * @param numBits
+	 */
+	public void setBloomFilterBuild(String filterId, StringTemplate buildSQL,
+			int numBits) {
+		this.bloomFilterBuildId = filterId;
+		this.bloomFilterBuildSQL = buildSQL;
+		this.bloomFilterBits = numBits;
+	}
+
+	public String getBloomFilterBuildId() {
+		return this.bloomFilterBuildId;
+	}
+
+	/**
+	 * Marks operator as probe side of a join which applies the given filter
+	 * to its output
+	 * 
+	 * @param filterId
+	 * @param key
+	 */
+	public void setBloomFilterProbe(String filterId, String key) {
+		this.bloomFilterProbeId = filterId;
+		this.bloomFilterKey = key;
+	}
+
+	public String getBloomFilterProbeId() {
+		return this.bloomFilterProbeId;
+	}
+
+	/**
+	 * Marks operator as probe side of a join which detects heavy hitters of
+	 * its output and spreads them over all partitions
+	 * 
+	 * @param joinId
+	 * @param detectSQL
+	 */
+	public void setHeavyHitterProbe(String joinId, StringTemplate detectSQL) {
+		this.heavyHitterProbeId = joinId;
+		this.heavyHitterSQL = detectSQL;
+	}
+
+	public String getHeavyHitterProbeId() {
+		return this.heavyHitterProbeId;
+	}
+
+	/**
+	 * Marks operator as build side of a join which replicates the heavy
+	 * hitters of all probe sides to all partitions
+	 * 
+	 * @param joinId
+	 */
+	public void setHeavyHitterBuild(String joinId) {
+		this.heavyHitterBuildId = joinId;
+	}
+
+	public String getHeavyHitterBuildId() {
+		return this.heavyHitterBuildId;
+	}
+
+	public void addHeavyHitterView(StringTemplate viewSQL) {
+		this.heavyHitterViewSQLs.add(viewSQL);
+	}
+
 	// methods
 	@Override
 	public AbstractExecuteOperator genDeployOperator(OperatorDesc operDesc,
@@ -42,6 +161,32 @@ public class MySQLTrackerOperator extends AbstractTrackerOperator {
 		// generate DDLs for input and output tables and return deployment table names
 		Map<String, String> args = this.genInputAndOutput(execOp, operDesc, currentDeployment);
 
+		// build or probe side of a join with filter
+		if (this.bloomFilterBuildSQL != null)
+			execOp.setBloomFilterBuild(
+					this.bloomFilterBuildSQL.toString(args),
+					this.bloomFilterBits);
+		execOp.setBloomFilterKey(this.bloomFilterKey);
+
+		// probe or build side of a join with heavy hitters
+		if (this.heavyHitterSQL != null)
+			execOp.setHeavyHitterSQL(this.heavyHitterSQL.toString(args));
+		for (StringTemplate viewSQL : this.heavyHitterViewSQLs) {
+			execOp.addHeavyHitterViewSQL(viewSQL.toString(args));
+		}
+
+		// generate query which streams output of pipelined operator
+		if (this.pipelined) {
+			Vector<String> pipeNames = new Vector<String>();
+			for (String outputName : this.pipelineOutputs) {
+				pipeNames.add(args.get(outputName));
+			}
+			execOp.setPipelineOutput(new PipelineOutput(this.pipelineSQL
+					.toString(args), args.get(this.pipelineTable), pipeNames,
+					this.pipelinePartColumn, this.pipelinePartCount));
+			return execOp;
+		}
+
 		// generate DMLs to execute operator
 		for (StringTemplate executeSQL : this.executeSQLs) {
 			execOp.addExecuteSQL(executeSQL.toString(args));
@@ -19,6 +19,9 @@ public class TableDesc implements Serializable {
 		//table connections 
 		private List<URI> uris;
 		
+		//intermediate result is streamed by its producer
+		private boolean pipelined = false;
+		
 		//constructor for intermediate result
 		public TableDesc(String tableName, Identifier operatorId) {
 			super();
@@ -39,6 +42,14 @@ public class TableDesc implements Serializable {
 			return this.operatorId != null;
 		}
 		
+		public boolean isPipelined() {
+			return this.pipelined;
+		}
+		
+		public void setPipelined(boolean pipelined) {
+			this.pipelined = pipelined;
+		}
+		
 		public String getTableName() {
 			return tableName;
 		}
@@ -47,6 +58,10 @@ public class TableDesc implements Serializable {
 			return operatorId;
 		}
 
+		public void setOperatorID(Identifier operatorId) {
+			this.operatorId = operatorId;
+		}
+
 		public URI getURI() {
 			if(this.uris.size()==0)
 				return null;
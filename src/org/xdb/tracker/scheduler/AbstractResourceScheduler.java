@@ -1,5 +1,6 @@
 package org.xdb.tracker.scheduler;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,8 @@ public abstract class AbstractResourceScheduler {
 			return new WishlistAwareScheduler(plan);
 		case SIMULATION:
 			return new SimulationResourceScheduler(plan);
+		case COST_BASED:
+			return new CostBasedScheduler(plan);
 		}
 		return new SimpleResourceScheduler(plan);
 	}
@@ -86,6 +89,15 @@ public abstract class AbstractResourceScheduler {
 		this.assignedComputeNodes.clear();
 	}
 
+	/**
+	 * Returns all compute nodes which are assigned to the plan
+	 * 
+	 * @return
+	 */
+	public Collection<ComputeNodeDesc> getAssignedComputeNodes() {
+		return this.assignedComputeNodes.values();
+	}
+
 	/**
 	 * Returns assigned compute node after nodes have been assigned
 	 * 
@@ -105,4 +117,14 @@ public abstract class AbstractResourceScheduler {
 	}
 
 	public abstract List<ComputeNodeDesc> getAllComputeNodes(Identifier opId);
+
+	/**
+	 * Returns bytes which are predicted to be shipped between compute nodes
+	 * for the assigned compute nodes
+	 * 
+	 * @return predicted bytes or -1 if scheduler does not predict
+	 */
+	public long getPredictedNetworkBytes() {
+		return -1;
+	}
 }
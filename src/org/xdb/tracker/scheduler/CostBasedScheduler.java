@@ -0,0 +1,389 @@
+package org.xdb.tracker.scheduler;
+
+import java.net.URI;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.xdb.Config;
+import org.xdb.execute.ComputeNodeDesc;
+import org.xdb.execute.ConnectionPool;
+import org.xdb.execute.PooledConnection;
+import org.xdb.logging.EnumXDBComponents;
+import org.xdb.logging.XDBLog;
+import org.xdb.metadata.Connection;
+import org.xdb.tracker.QueryTrackerPlan;
+import org.xdb.tracker.operator.AbstractTrackerOperator;
+import org.xdb.tracker.operator.TableDesc;
+import org.xdb.utils.Identifier;
+
+/**
+ * Resource scheduler which places operators using estimated sizes of their
+ * inputs and outputs: leaf operators are placed on a node of their wished
+ * connections (data locality) and each consumer is placed on the node which
+ * minimizes the bytes shipped from its producers plus a share of the work
+ * already placed on that node (see Config.QUERYTRACKER_SCHEDULER_BALANCE).
+ *
+ * Sizes of base tables are read from the MySQL instance of their connection
+ * (information_schema) and cached until the catalog version of a plan
+ * changes (e.g., by ANALYZE TABLE). The output of an operator is estimated
+ * from its input using the cardinality estimates of the code generator
+ * (or as the sum of its inputs if no estimate exists).
+ *
+ */
+public class CostBasedScheduler extends AbstractResourceScheduler {
+	// size which is used if size of a base table is unknown
+	private static final long UNKNOWN_TABLE_SIZE = 1024 * 1024;
+
+	private static final String TABLE_SIZE_SQL = "SELECT DATA_LENGTH FROM information_schema.TABLES "
+			+ "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+
+	// sizes of base tables: URL/DB.TABLE -> bytes (for catalog version)
+	private static final Map<String, Long> tableSizes = new HashMap<String, Long>();
+	private static long tableSizesVersion = -1;
+
+	// compute node URLs per operator that have been requested
+	private final Map<Identifier, List<String>> wishLocations = new HashMap<Identifier, List<String>>();
+
+	// estimated output size per operator
+	private final Map<Identifier, Long> outputSizes = new HashMap<Identifier, Long>();
+
+	// compute nodes per operator ordered by costs (first one is used)
+	private final Map<Identifier, List<ComputeNodeDesc>> placement = new HashMap<Identifier, List<ComputeNodeDesc>>();
+
+	// predicted bytes shipped between compute nodes
+	private long predictedNetworkBytes = 0;
+
+	private final Logger logger;
+
+	// constructor
+	public CostBasedScheduler(final QueryTrackerPlan plan) {
+		super(plan);
+
+		this.type = EnumResourceScheduler.COST_BASED;
+		this.logger = XDBLog.getLogger(EnumXDBComponents.QUERY_TRACKER_SERVER);
+	}
+
+	// getters and setters
+	@Override
+	public long getPredictedNetworkBytes() {
+		return this.predictedNetworkBytes;
+	}
+
+	/**
+	 * Returns estimated output size of operator in bytes
+	 *
+	 * @param opId
+	 * @return
+	 */
+	public long getOutputSize(Identifier opId) {
+		Long size = this.outputSizes.get(opId);
+		return (size == null) ? 0 : size;
+	}
+
+	// methods
+	@Override
+	public int getNumberOfConnections(Identifier opId) {
+		if (!this.wishLocations.containsKey(opId))
+			return 0;
+
+		return this.wishLocations.get(opId).size();
+	}
+
+	@Override
+	public Set<String> createComputeNodesWishList() {
+		Set<String> wishedConnections = new HashSet<String>();
+		for (AbstractTrackerOperator op : this.plan.getTrackerOperators()) {
+			List<String> connUrls = new ArrayList<String>();
+			for (Connection conn : op.getTrackerOpConnections()) {
+				connUrls.add(conn.getURI().getHost());
+			}
+
+			if (connUrls.size() == 0)
+				connUrls.add(RANDOM_COMPUTE_NODE);
+
+			this.wishLocations.put(op.getOperatorId(), connUrls);
+			wishedConnections.addAll(connUrls);
+		}
+		return wishedConnections;
+	}
+
+	@Override
+	public void assignComputeNodes(Map<String, ComputeNodeDesc> nodes) {
+		super.assignComputeNodes(nodes);
+		this.placeOperators();
+	}
+
+	@Override
+	public void clearAssignedComputeNodes() {
+		super.clearAssignedComputeNodes();
+		this.placement.clear();
+	}
+
+	@Override
+	public ComputeNodeDesc getComputeNode(Identifier opId) {
+		return this.getComputeNode(opId, 0);
+	}
+
+	@Override
+	public ComputeNodeDesc getComputeNode(final Identifier opId,
+			int nodeNumber) {
+		List<ComputeNodeDesc> nodes = this.placement.get(opId);
+		if (nodes == null || nodeNumber >= nodes.size())
+			return null;
+
+		return nodes.get(nodeNumber);
+	}
+
+	@Override
+	public List<ComputeNodeDesc> getAllComputeNodes(final Identifier opId) {
+		if (!this.placement.containsKey(opId))
+			return null;
+
+		return new ArrayList<ComputeNodeDesc>(this.placement.get(opId));
+	}
+
+	/**
+	 * Places all operators of plan (sources before consumers) on the assigned
+	 * compute nodes
+	 */
+	private void placeOperators() {
+		this.placement.clear();
+		this.outputSizes.clear();
+		this.predictedNetworkBytes = 0;
+
+		// candidates for consumers: all assigned compute nodes
+		final Set<ComputeNodeDesc> allNodes = new LinkedHashSet<ComputeNodeDesc>();
+		for (ComputeNodeDesc node : this.assignedComputeNodes.values()) {
+			if (node != null)
+				allNodes.add(node);
+		}
+		if (allNodes.isEmpty())
+			return;
+
+		// work per compute node (bytes read by placed operators)
+		final Map<ComputeNodeDesc, Long> work = new HashMap<ComputeNodeDesc, Long>();
+		for (ComputeNodeDesc node : allNodes) {
+			work.put(node, 0l);
+		}
+
+		for (Identifier opId : this.getTopologicalOrder()) {
+			Set<Identifier> sources = this.plan.getSources(opId);
+
+			// candidates and bytes read per candidate
+			List<ComputeNodeDesc> candidates = new ArrayList<ComputeNodeDesc>();
+			final Map<ComputeNodeDesc, Long> costs = new HashMap<ComputeNodeDesc, Long>();
+			long inputSize = 0;
+
+			if (sources.isEmpty()) {
+				// leaf: read base tables on one of the wished nodes
+				inputSize = this.estimateBaseTableSize(opId);
+				for (String url : this.wishLocations.get(opId)) {
+					ComputeNodeDesc node = this.assignedComputeNodes.get(url);
+					if (node != null && !candidates.contains(node))
+						candidates.add(node);
+				}
+				if (candidates.isEmpty())
+					candidates.addAll(allNodes);
+
+				for (ComputeNodeDesc node : candidates) {
+					costs.put(node, this.getBalanceCosts(work.get(node)));
+				}
+			} else {
+				// consumer: minimize bytes shipped from sources
+				candidates.addAll(allNodes);
+				for (Identifier sourceId : sources) {
+					inputSize += this.getOutputSize(sourceId);
+				}
+
+				for (ComputeNodeDesc node : candidates) {
+					long shipped = 0;
+					for (Identifier sourceId : sources) {
+						if (!node.equals(this.getComputeNode(sourceId)))
+							shipped += this.getOutputSize(sourceId);
+					}
+					costs.put(node,
+							shipped + this.getBalanceCosts(work.get(node)));
+				}
+			}
+
+			Collections.sort(candidates, new Comparator<ComputeNodeDesc>() {
+				@Override
+				public int compare(ComputeNodeDesc node1, ComputeNodeDesc node2) {
+					return costs.get(node1).compareTo(costs.get(node2));
+				}
+			});
+
+			// place operator on cheapest node
+			ComputeNodeDesc selected = candidates.get(0);
+			this.placement.put(opId, candidates);
+			this.outputSizes.put(opId, this.estimateOutputSize(opId, inputSize));
+			work.put(selected, work.get(selected) + inputSize);
+
+			for (Identifier sourceId : sources) {
+				if (!selected.equals(this.getComputeNode(sourceId)))
+					this.predictedNetworkBytes += this.getOutputSize(sourceId);
+			}
+		}
+
+		logger.log(Level.INFO, "Cost-based placement of plan "
+				+ this.plan.getPlanId() + ": predicted network bytes = "
+				+ this.predictedNetworkBytes + ", work per node = " + work);
+	}
+
+	private long getBalanceCosts(long work) {
+		return (long) (Config.QUERYTRACKER_SCHEDULER_BALANCE * work);
+	}
+
+	/**
+	 * Returns operators of plan such that sources are returned before their
+	 * consumers
+	 *
+	 * @return
+	 */
+	private List<Identifier> getTopologicalOrder() {
+		List<Identifier> order = new ArrayList<Identifier>();
+		Set<Identifier> visited = new HashSet<Identifier>();
+		for (AbstractTrackerOperator op : this.plan.getTrackerOperators()) {
+			this.visit(op.getOperatorId(), visited, order);
+		}
+		return order;
+	}
+
+	private void visit(Identifier opId, Set<Identifier> visited,
+			List<Identifier> order) {
+		if (!visited.add(opId))
+			return;
+
+		for (Identifier sourceId : this.plan.getSources(opId)) {
+			this.visit(sourceId, visited, order);
+		}
+		order.add(opId);
+	}
+
+	/**
+	 * Estimates output size of operator from its input size
+	 *
+	 * @param opId
+	 * @param inputSize
+	 * @return
+	 */
+	private long estimateOutputSize(Identifier opId, long inputSize) {
+		double ratio = this.plan.getTrackerOperator(opId).getOutputRatio();
+		if (ratio < 0)
+			return inputSize;
+
+		return Math.max(1, (long) (inputSize * ratio));
+	}
+
+	/**
+	 * Returns cached size of base table (or null) and drops cached sizes
+	 * of other catalog versions
+	 *
+	 * @param key
+	 * @param catalogVersion
+	 * @return
+	 */
+	private static synchronized Long getCachedTableSize(String key,
+			long catalogVersion) {
+		if (tableSizesVersion != catalogVersion) {
+			tableSizes.clear();
+			tableSizesVersion = catalogVersion;
+		}
+		return tableSizes.get(key);
+	}
+
+	private static synchronized void cacheTableSize(String key,
+			long catalogVersion, long size) {
+		if (tableSizesVersion == catalogVersion)
+			cacheTableSize(key, catalogVersion, size);
+	}
+
+	/**
+	 * Estimates bytes of base tables which are read by a leaf operator
+	 *
+	 * @param opId
+	 * @return
+	 */
+	private long estimateBaseTableSize(Identifier opId) {
+		AbstractTrackerOperator op = this.plan.getTrackerOperator(opId);
+		long size = 0;
+		for (TableDesc table : op.getInFederatedTables()) {
+			if (table.isTemp())
+				continue;
+
+			size += this.getTableSize(table, op.getTrackerOpConnections());
+		}
+		return (size == 0) ? UNKNOWN_TABLE_SIZE : size;
+	}
+
+	/**
+	 * Returns size of base table using the connection of its host
+	 *
+	 * @param table
+	 * @param conns
+	 * @return
+	 */
+	private long getTableSize(TableDesc table, List<Connection> conns) {
+		URI tableURI = table.getURI();
+		if (tableURI == null)
+			return UNKNOWN_TABLE_SIZE;
+
+		String db = tableURI.getPath().substring(1);
+		String key = tableURI.getAuthority() + "/" + db + "."
+				+ table.getTableName();
+		long catalogVersion = this.plan.getCatalogVersion();
+		Long size = getCachedTableSize(key, catalogVersion);
+		if (size != null)
+			return size;
+
+		// find connection with credentials for host of table
+		Connection tableConn = null;
+		for (Connection conn : conns) {
+			if (conn.getURI().getHost().equals(tableURI.getHost())) {
+				tableConn = conn;
+				break;
+			}
+		}
+		if (tableConn == null)
+			return UNKNOWN_TABLE_SIZE;
+
+		size = UNKNOWN_TABLE_SIZE;
+		ConnectionPool pool = ConnectionPool.getPool("jdbc:mysql://"
+				+ tableURI.getAuthority() + "/", tableConn.getUser(),
+				tableConn.getPasswd());
+		PooledConnection pooledConn = null;
+		try {
+			pooledConn = pool.borrow();
+			PreparedStatement stmt = pooledConn.prepareStatement(TABLE_SIZE_SQL);
+			stmt.setString(1, db);
+			stmt.setString(2, table.getTableName());
+			ResultSet rs = stmt.executeQuery();
+			if (rs.next())
+				size = Math.max(1, rs.getLong(1));
+			rs.close();
+		} catch (SQLException e) {
+			if (pooledConn != null)
+				pooledConn.markBroken();
+			logger.log(Level.WARNING, "Size of table " + key
+					+ " could not be read: " + e.getMessage());
+			return UNKNOWN_TABLE_SIZE;
+		} finally {
+			pool.release(pooledConn);
+		}
+
+		tableSizes.put(key, size);
+		return size;
+	}
+}
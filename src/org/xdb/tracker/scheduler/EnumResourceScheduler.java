@@ -3,5 +3,6 @@ package org.xdb.tracker.scheduler;
 public enum EnumResourceScheduler {
 	SIMPLE,
 	WISHLIST_AWARE,
-	SIMULATION
+	SIMULATION,
+	COST_BASED
 }
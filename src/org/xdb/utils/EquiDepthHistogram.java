@@ -0,0 +1,161 @@
+package org.xdb.utils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Equi-depth histogram of an attribute: each bucket holds the same number of
+ * rows. Buckets are given by their boundaries (first boundary is the minimum,
+ * last boundary is the maximum value). Values are numbers or dates (which are
+ * compared as strings in the format YYYY-MM-DD).
+ *
+ */
+public class EquiDepthHistogram implements Serializable {
+	private static final long serialVersionUID = 4562870963374123856L;
+
+	private static final String SEPARATOR = ",";
+
+	private final List<String> bounds;
+	private final boolean numeric;
+
+	// constructors
+	public EquiDepthHistogram(List<String> bounds, boolean numeric) {
+		this.bounds = bounds;
+		this.numeric = numeric;
+	}
+
+	// getters and setters
+	public List<String> getBounds() {
+		return this.bounds;
+	}
+
+	public int getBucketCount() {
+		return Math.max(this.bounds.size() - 1, 0);
+	}
+
+	// methods
+	/**
+	 * Builds histogram from a sample of values
+	 *
+	 * @param sample
+	 * @param min
+	 *            minimal value of attribute
+	 * @param max
+	 *            maximal value of attribute
+	 * @param bucketCnt
+	 * @param numeric
+	 * @return
+	 */
+	public static EquiDepthHistogram create(List<String> sample, String min,
+			String max, int bucketCnt, final boolean numeric) {
+		List<String> sorted = new ArrayList<String>(sample);
+		Collections.sort(sorted, new Comparator<String>() {
+			@Override
+			public int compare(String value1, String value2) {
+				return EquiDepthHistogram.compare(value1, value2, numeric);
+			}
+		});
+
+		List<String> bounds = new ArrayList<String>(bucketCnt + 1);
+		bounds.add(min);
+		for (int i = 1; i < bucketCnt && !sorted.isEmpty(); ++i) {
+			bounds.add(sorted.get(i * sorted.size() / bucketCnt));
+		}
+		bounds.add(max);
+		return new EquiDepthHistogram(bounds, numeric);
+	}
+
+	/**
+	 * Estimates fraction of rows with a value less than given value
+	 *
+	 * @param value
+	 * @return
+	 */
+	public double getFractionLess(String value) {
+		int bucketCnt = this.getBucketCount();
+		if (bucketCnt == 0)
+			return 0.5;
+		if (compare(value, this.bounds.get(0), this.numeric) <= 0)
+			return 0.0;
+		if (compare(value, this.bounds.get(bucketCnt), this.numeric) > 0)
+			return 1.0;
+
+		int bucket = 0;
+		while (compare(value, this.bounds.get(bucket + 1), this.numeric) > 0) {
+			bucket++;
+		}
+
+		// assume uniform distribution of numbers inside bucket
+		double inBucket = 0.5;
+		if (this.numeric) {
+			double lower = Double.parseDouble(this.bounds.get(bucket));
+			double upper = Double.parseDouble(this.bounds.get(bucket + 1));
+			if (upper > lower)
+				inBucket = (Double.parseDouble(value) - lower)
+						/ (upper - lower);
+		}
+		return (bucket + inBucket) / bucketCnt;
+	}
+
+	/**
+	 * Estimates fraction of rows with the most frequent value: a value which
+	 * is the boundary of several consecutive buckets fills these buckets
+	 * (returns 0 if no value is repeated)
+	 *
+	 * @return
+	 */
+	public double getMaxFraction() {
+		int bucketCnt = this.getBucketCount();
+		int maxRun = 1;
+		int run = 1;
+		for (int i = 1; i < this.bounds.size(); ++i) {
+			if (compare(this.bounds.get(i), this.bounds.get(i - 1),
+					this.numeric) == 0)
+				run++;
+			else
+				run = 1;
+			maxRun = Math.max(maxRun, run);
+		}
+		if (bucketCnt == 0 || maxRun < 2)
+			return 0.0;
+		return Math.min((double) maxRun / bucketCnt, 1.0);
+	}
+
+	private static int compare(String value1, String value2, boolean numeric) {
+		if (numeric)
+			return Double.compare(Double.parseDouble(value1),
+					Double.parseDouble(value2));
+		return value1.compareTo(value2);
+	}
+
+	/**
+	 * Parses histogram from its string representation (see toString)
+	 *
+	 * @param histogram
+	 * @param numeric
+	 * @return
+	 */
+	public static EquiDepthHistogram valueOf(String histogram, boolean numeric) {
+		List<String> bounds = new ArrayList<String>();
+		if (histogram != null && !histogram.isEmpty()) {
+			for (String bound : histogram.split(SEPARATOR)) {
+				bounds.add(bound);
+			}
+		}
+		return new EquiDepthHistogram(bounds, numeric);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder histogram = new StringBuilder();
+		for (String bound : this.bounds) {
+			if (histogram.length() > 0)
+				histogram.append(SEPARATOR);
+			histogram.append(bound);
+		}
+		return histogram.toString();
+	}
+}
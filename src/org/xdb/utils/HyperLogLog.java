@@ -0,0 +1,145 @@
+package org.xdb.utils;
+
+import java.io.Serializable;
+
+/**
+ * HyperLogLog sketch to estimate the number of distinct values of an
+ * attribute. Registers are computed by the database from a 32-bit hash of
+ * each value (see sqlRegister and sqlRank) such that only one row per
+ * register has to be fetched. The hash is a prefix of the MD5 digest, since
+ * CRC32 does not spread similar values (e.g., consecutive keys) uniformly. Sketches of different partitions can be merged.
+ *
+ */
+public class HyperLogLog implements Serializable {
+	private static final long serialVersionUID = -3471198244537725651L;
+
+	// number of hash bits used to select register
+	public static final int REGISTER_BITS = 10;
+	public static final int REGISTER_CNT = 1 << REGISTER_BITS;
+
+	// remaining hash bits used to compute rank
+	private static final int RANK_BITS = 32 - REGISTER_BITS;
+
+	private final byte[] registers = new byte[REGISTER_CNT];
+
+	// constructors
+	public HyperLogLog() {
+		super();
+	}
+
+	public HyperLogLog(HyperLogLog toCopy) {
+		System.arraycopy(toCopy.registers, 0, this.registers, 0, REGISTER_CNT);
+	}
+
+	// methods
+	/**
+	 * SQL expression which computes the 32-bit hash of a value
+	 *
+	 * @param att
+	 * @return
+	 */
+	public static String sqlHash(String att) {
+		return "CONV(LEFT(MD5(" + att + "), 8), 16, 10)";
+	}
+
+	/**
+	 * SQL expression which computes the register of a value
+	 *
+	 * @param att
+	 * @return
+	 */
+	public static String sqlRegister(String att) {
+		return sqlHash(att) + " & " + (REGISTER_CNT - 1);
+	}
+
+	/**
+	 * SQL expression which computes the rank of a value (i.e., position of
+	 * the first 1-bit in the remaining hash bits)
+	 *
+	 * @param att
+	 * @return
+	 */
+	public static String sqlRank(String att) {
+		return "IFNULL(" + RANK_BITS + " - FLOOR(LOG2(" + sqlHash(att)
+				+ " >> " + REGISTER_BITS + ")), " + (RANK_BITS + 1) + ")";
+	}
+
+	/**
+	 * Adds rank of a register (keeps maximal rank)
+	 *
+	 * @param register
+	 * @param rank
+	 */
+	public void add(int register, int rank) {
+		if (rank > this.registers[register])
+			this.registers[register] = (byte) rank;
+	}
+
+	/**
+	 * Merges other sketch into this sketch
+	 *
+	 * @param other
+	 */
+	public void merge(HyperLogLog other) {
+		for (int i = 0; i < REGISTER_CNT; ++i) {
+			this.add(i, other.registers[i]);
+		}
+	}
+
+	/**
+	 * Estimates number of distinct values
+	 *
+	 * @return
+	 */
+	public long estimate() {
+		double sum = 0.0;
+		int zeros = 0;
+		for (byte rank : this.registers) {
+			sum += Math.pow(2.0, -rank);
+			if (rank == 0)
+				zeros++;
+		}
+
+		double m = REGISTER_CNT;
+		double alpha = 0.7213 / (1.0 + 1.079 / m);
+		double estimate = alpha * m * m / sum;
+
+		// small range correction
+		if (estimate <= 2.5 * m && zeros > 0) {
+			estimate = m * Math.log(m / zeros);
+		}
+		// large range correction (32-bit hash)
+		else if (estimate > Math.pow(2.0, 32) / 30.0) {
+			estimate = -Math.pow(2.0, 32)
+					* Math.log(1.0 - estimate / Math.pow(2.0, 32));
+		}
+		return Math.round(estimate);
+	}
+
+	/**
+	 * Parses sketch from its string representation (see toString)
+	 *
+	 * @param sketch
+	 * @return
+	 */
+	public static HyperLogLog valueOf(String sketch) {
+		HyperLogLog hll = new HyperLogLog();
+		for (int i = 0; i < REGISTER_CNT && i < sketch.length(); ++i) {
+			hll.registers[i] = (byte) Character.digit(sketch.charAt(i),
+					Character.MAX_RADIX);
+		}
+		return hll;
+	}
+
+	/**
+	 * Returns one digit per register (ranks are at most RANK_BITS+1)
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sketch = new StringBuilder(REGISTER_CNT);
+		for (byte rank : this.registers) {
+			sketch.append(Character.forDigit(rank, Character.MAX_RADIX));
+		}
+		return sketch.toString();
+	}
+}
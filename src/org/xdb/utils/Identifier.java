@@ -1,8 +1,13 @@
 package org.xdb.utils;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Vector;
 
+import org.xdb.server.WireMessage;
+
 /**
  * Implements a hierarchical identifier
  * e.g. 1_1_1
@@ -54,6 +59,15 @@ public class Identifier implements Serializable, Cloneable{
 		return this;
 	}
 	
+	/**
+	 * Returns all levels of ID
+	 * e.g., 1_2_3 returns [1, 2, 3]
+	 * @return
+	 */
+	public List<String> getLevels(){
+		return Collections.unmodifiableList(this.ids);
+	}
+	
 	/**
 	 * Returns ID for first given number of levels
 	 * e.g., 1_1_1 with level=1 returns 1_1
@@ -105,4 +119,8 @@ public class Identifier implements Serializable, Cloneable{
 	public Identifier clone(){
 		return new Identifier(this);
 	}
+	
+	private Object writeReplace() throws ObjectStreamException {
+		return WireMessage.replace(this);
+	}
 }
@@ -1,5 +1,7 @@
 package org.xdb.utils;
 
+import java.io.Serializable;
+
 /**
  * Data Class to Store two (different) Objects. Useful to let a method return
  * more than one object.
@@ -9,7 +11,9 @@ package org.xdb.utils;
  * @param <S>
  * @param <T>
  */
-public class Tuple<S extends Object, T extends Object> {
+public class Tuple<S extends Object, T extends Object> implements Serializable {
+
+	private static final long serialVersionUID = 3342546392431186823L;
 
 	private S object1;
 	private T object2;